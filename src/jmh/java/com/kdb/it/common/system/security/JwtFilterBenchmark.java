@@ -0,0 +1,85 @@
+package com.kdb.it.common.system.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터의 요청당 토큰 처리 비용 벤치마크: 기존 4회 파싱 vs 1회 파싱 vs 검증 캐시 적중.
+ *
+ * <p>{@code legacyFourParses}는 도입 이전 {@link JwtAuthenticationFilter}와 동일한 흐름
+ * (validateToken → getEnoFromToken → getAthIdsFromToken → getBbrCFromToken, 호출마다 파서 생성·서명 검증)을 재현한다.
+ * 세 방식 모두 결과로 {@link CustomUserDetails}를 만들어 필터가 하는 일과 맞춘다.</p>
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.include=JwtFilterBenchmark}</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-minimum-256-bits-length-ok";
+    private static final long ACCESS_VALIDITY_MS = 3_600_000L;
+    private static final long REFRESH_VALIDITY_MS = 604_800_000L;
+
+    private SecretKey secretKey;
+    private JwtUtil singleParse;
+    private JwtUtil cached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        singleParse = new JwtUtil(SECRET, ACCESS_VALIDITY_MS, REFRESH_VALIDITY_MS, 0);
+        cached = new JwtUtil(SECRET, ACCESS_VALIDITY_MS, REFRESH_VALIDITY_MS, 10_000);
+        token = singleParse.generateAccessToken("E10001", List.of("ITPZZ001", "ITPZZ002"), "BBR001");
+        // 캐시 적중 경로는 첫 요청 이후를 측정
+        cached.parseAccessToken(token);
+    }
+
+    @Benchmark
+    public CustomUserDetails legacyFourParses() {
+        legacyClaims(token); // validateToken
+        String eno = legacyClaims(token).getSubject();
+        Object athIds = legacyClaims(token).get("athIds");
+        String bbrC = (String) legacyClaims(token).get("bbrC");
+        return new CustomUserDetails(eno, athIds instanceof List<?> list
+                ? list.stream().map(String::valueOf).toList() : List.of(), bbrC);
+    }
+
+    @Benchmark
+    public CustomUserDetails singleParse() {
+        return toUserDetails(singleParse.parseAccessToken(token).orElseThrow());
+    }
+
+    @Benchmark
+    public CustomUserDetails cachedHit() {
+        return toUserDetails(cached.parseAccessToken(token).orElseThrow());
+    }
+
+    private Claims legacyClaims(String jwt) {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(jwt).getPayload();
+    }
+
+    private static CustomUserDetails toUserDetails(JwtUtil.AccessClaims claims) {
+        return new CustomUserDetails(claims.eno(), claims.athIds(), claims.bbrC());
+    }
+}
@@ -0,0 +1,123 @@
+package com.kdb.it.common.system.security;
+
+import com.kdb.it.common.util.CustomPasswordEncoder;
+import com.kdb.it.common.util.PasswordEncoderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 검증(로그인 1회) 비용 벤치마크와 작업계수 보정.
+ *
+ * <p>{@code spec}은 {@code 알고리즘:작업계수} 형식이며, {@code sha256}은 기존 {@link CustomPasswordEncoder}이다.
+ * 측정 대상은 로그인 경로와 같은 {@link PasswordEncoder#matches} 1회이다.</p>
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.include=PasswordHashBenchmark}</p>
+ *
+ * <p>보정: {@code ./gradlew passwordHashCalibrate -Ptarget-ms=250} — 배포 서버에서 bcrypt 작업계수별로 측정해
+ * 검증 1회가 목표 시간 이내인 가장 높은 작업계수와, 해시 스레드 수 기준 초당 최대 로그인 수를 출력한다.
+ * 같은 서버의 다른 부하가 없을 때 실행해야 한다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordHashBenchmark {
+
+    /** 보정 대상 bcrypt 작업계수 (2^n 라운드) */
+    private static final List<Integer> CALIBRATION_STRENGTHS = List.of(10, 11, 12, 13, 14);
+
+    private static final String PASSWORD = "Kdb-it-portal#2026";
+
+    @Param({"sha256", "bcrypt:10", "bcrypt:12", "pbkdf2:310000"})
+    public String spec;
+
+    private PasswordEncoder encoder;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        encoder = encoderFor(spec);
+        encoded = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, encoded);
+    }
+
+    private static PasswordEncoder encoderFor(String spec) {
+        if (PasswordEncoderFactory.LEGACY_ID.equals(spec)) {
+            return new CustomPasswordEncoder();
+        }
+        String[] parts = spec.split(":");
+        int workFactor = Integer.parseInt(parts[1]);
+        return "bcrypt".equals(parts[0])
+                ? PasswordEncoderFactory.create("bcrypt", workFactor, 1)
+                : PasswordEncoderFactory.create(parts[0], 4, workFactor);
+    }
+
+    /**
+     * 작업계수 보정 실행.
+     *
+     * @param args [0] 목표 검증 시간(ms, 기본 250)
+     * @throws RunnerException JMH 실행 실패 시
+     */
+    public static void main(String[] args) throws RunnerException {
+        double targetMs = args.length > 0 ? Double.parseDouble(args[0]) : 250;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        Options options = new OptionsBuilder()
+                .include(PasswordHashBenchmark.class.getSimpleName() + ".matches")
+                .param("spec", CALIBRATION_STRENGTHS.stream().map(s -> "bcrypt:" + s).toArray(String[]::new))
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        List<RunResult> sorted = results.stream()
+                .sorted(Comparator.comparingInt(r -> strengthOf(r)))
+                .toList();
+        int recommended = -1;
+        System.out.printf("%n[비밀번호 해시 보정] 목표 %.0fms, 해시 스레드 %d개(CPU 코어 수)%n", targetMs, cores);
+        for (RunResult r : sorted) {
+            int strength = strengthOf(r);
+            double ms = r.getPrimaryResult().getScore();
+            System.out.printf("  bcrypt-strength=%d : %.1f ms/검증, 최대 %.0f 로그인/초%n",
+                    strength, ms, cores * 1000.0 / ms);
+            if (ms <= targetMs) {
+                recommended = Math.max(recommended, strength);
+            }
+        }
+        if (recommended < 0) {
+            System.out.printf("목표 %.0fms 이내인 작업계수가 없습니다. 목표 시간을 늘리거나 최소값 %d을 검토하세요.%n",
+                    targetMs, CALIBRATION_STRENGTHS.get(0));
+        } else {
+            System.out.printf("권장 설정:%n  app.password.encoder=bcrypt%n  app.password.bcrypt-strength=%d%n",
+                    recommended);
+        }
+    }
+
+    private static int strengthOf(RunResult r) {
+        return Integer.parseInt(r.getParams().getParam("spec").split(":")[1]);
+    }
+}
@@ -0,0 +1,128 @@
+package com.kdb.it.domain.log.listener;
+
+import com.kdb.it.domain.budget.project.entity.Bitemm;
+import com.kdb.it.domain.budget.project.entity.Bprojm;
+import com.kdb.it.domain.log.entity.BaseLogEntity;
+import com.kdb.it.domain.log.entity.BitemmL;
+import com.kdb.it.domain.log.entity.BprojmL;
+import jakarta.persistence.Column;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감사로그 컬럼 복사 벤치마크: 호출마다 리플렉션으로 매칭하는 기존 방식 vs {@link AuditLogCopyPlan}.
+ *
+ * <p>{@code reflective*}는 복사 계획 도입 이전 {@code AuditLogPersister.copyColumnFields}와 동일한 알고리즘
+ * (클래스 계층 @Column 수집 → O(n×m) 컬럼명 equalsIgnoreCase 매칭 → setAccessible → get)을 재현한다.</p>
+ *
+ * <p>실행: {@code ./gradlew jmh -Pjmh.include=AuditLogCopyBenchmark}</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuditLogCopyBenchmark {
+
+    private Bprojm project;
+    private Bitemm item;
+
+    @Setup
+    public void setUp() {
+        project = Bprojm.builder()
+                .prjMngNo("PRJ-2026-0001").prjSno(1).prjNm("차세대 여신시스템 구축")
+                .prjTp("신규").svnDpm("D001").itDpm("D100")
+                .prjBg(new BigDecimal("1500000000")).nyyPrjBg(new BigDecimal("300000000"))
+                .sttDt(LocalDate.of(2026, 1, 1)).endDt(LocalDate.of(2026, 12, 31))
+                .prjDes("<p>사업설명</p>").bgYy("2026").lstYn("Y").prjSts("작성중")
+                .delYn("N").guid("b0c6f0a2-7d7e-4a51-9d57-2f4a3b1c9e10").guidPrgSno(1)
+                .fstEnrDtm(LocalDateTime.of(2026, 3, 1, 9, 0)).fstEnrUsid("E10001")
+                .build();
+        item = Bitemm.builder()
+                .gclMngNo("GCL-2026-0001").gclSno(1).prjMngNo("PRJ-2026-0001").prjSno(1)
+                .gclDtt("IOE-351-0100").gclNm("서버").gclQtt(new BigDecimal("4"))
+                .cur("KRW").xcr(BigDecimal.ONE).gclAmt(new BigDecimal("120000000")).lstYn("Y")
+                .delYn("N").guid("7f1e2d3c-4b5a-6978-8a9b-0c1d2e3f4a5b").guidPrgSno(1)
+                .build();
+        // 계획은 기동 시 미리 컴파일되므로 측정 대상에서 제외
+        AuditLogCopyPlan.of(Bprojm.class);
+        AuditLogCopyPlan.of(Bitemm.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> reflectiveBprojmL() throws IllegalAccessException {
+        return reflectiveCopy(project, BprojmL.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> planBprojmL() {
+        return AuditLogCopyPlan.of(Bprojm.class).copy(project);
+    }
+
+    @Benchmark
+    public Map<String, Object> reflectiveBitemmL() throws IllegalAccessException {
+        return reflectiveCopy(item, BitemmL.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> planBitemmL() {
+        return AuditLogCopyPlan.of(Bitemm.class).copy(item);
+    }
+
+    private static Map<String, Object> reflectiveCopy(Object source, Class<? extends BaseLogEntity> logClass)
+            throws IllegalAccessException {
+        List<Field> sourceFields = collectColumnFields(source.getClass());
+        List<Field> targetFields = collectColumnFields(logClass);
+
+        Map<String, Object> columns = new LinkedHashMap<>();
+        for (Field sf : sourceFields) {
+            String colName = columnName(sf);
+            for (Field tf : targetFields) {
+                if (colName.equalsIgnoreCase(columnName(tf))) {
+                    sf.setAccessible(true);
+                    Object value = sf.get(source);
+                    columns.put(columnName(tf).toUpperCase(), value instanceof byte[] b ? b.clone() : value);
+                    break;
+                }
+            }
+        }
+        return Collections.unmodifiableMap(columns);
+    }
+
+    private static String columnName(Field f) {
+        String name = f.getAnnotation(Column.class).name();
+        return name.isEmpty() ? f.getName() : name;
+    }
+
+    private static List<Field> collectColumnFields(Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field f : c.getDeclaredFields()) {
+                if (f.isAnnotationPresent(Column.class)) {
+                    fields.add(f);
+                }
+            }
+        }
+        return fields;
+    }
+}
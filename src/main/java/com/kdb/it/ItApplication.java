@@ -2,6 +2,7 @@ package com.kdb.it;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * IT Portal 백엔드 애플리케이션 메인 클래스
@@ -22,6 +23,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @version 1.0.0
  */
 @SpringBootApplication // Spring Boot 자동 설정, 컴포넌트 스캔, 빈 등록을 일괄 활성화
+@EnableScheduling // @Scheduled 활성화 (캐시 변경버전 폴링 등)
 public class ItApplication {
 
 	/**
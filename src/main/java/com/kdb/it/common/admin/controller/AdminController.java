@@ -388,15 +388,17 @@ public class AdminController {
     // =========================================================================
 
     /**
-     * JWT 갱신토큰 목록 조회
-     * 보안상 토큰값은 앞 20자만 마스킹하여 표시합니다.
+     * JWT 갱신토큰 페이지네이션 조회
+     * 보안상 토큰해시는 앞 12자만 마스킹하여 표시합니다.
      *
-     * @return 갱신토큰 응답 DTO 목록
+     * @param pageable 페이지 정보 (기본: 50건, endDtm 내림차순)
+     * @return 페이지네이션된 갱신토큰 응답
      */
     @GetMapping("/tokens")
-    @Operation(summary = "JWT 갱신토큰 목록 조회", description = "전체 갱신토큰 목록을 반환합니다. 토큰값은 앞 20자만 표시.")
-    public ResponseEntity<List<AdminDto.TokenResponse>> getTokens() {
-        return ResponseEntity.ok(adminService.getTokens());
+    @Operation(summary = "JWT 갱신토큰 목록 조회", description = "갱신토큰 목록을 종료일시 내림차순으로 페이지네이션하여 반환합니다. 토큰해시는 앞 12자만 표시.")
+    public ResponseEntity<Page<AdminDto.TokenResponse>> getTokens(
+            @PageableDefault(size = 50, sort = "endDtm", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(adminService.getTokens(pageable));
     }
 
     // =========================================================================
@@ -466,12 +468,12 @@ public class AdminController {
 
     /**
      * 일별 로그인 통계 조회 (대시보드용)
-     * 최근 30일간 일별 로그인 성공 건수를 집계하여 반환합니다.
+     * 최근 30일간 일별 로그인 성공/실패 건수와 성공 사용자수를 일별 통계 롤업에서 반환합니다.
      *
      * @return 일별 로그인 통계 DTO 목록 (날짜 오름차순)
      */
     @GetMapping("/dashboard/login-stats")
-    @Operation(summary = "일별 로그인 통계", description = "최근 30일간 일별 로그인 성공 건수를 반환합니다.")
+    @Operation(summary = "일별 로그인 통계", description = "최근 30일간 일별 로그인 성공/실패 건수와 성공 사용자수를 반환합니다.")
     public ResponseEntity<List<AdminDto.LoginStatResponse>> getLoginStats() {
         return ResponseEntity.ok(adminService.getLoginStats());
     }
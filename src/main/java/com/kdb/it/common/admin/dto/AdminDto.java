@@ -201,7 +201,8 @@ public class AdminDto {
             String eno,
             String usrNm,    // ENO → 이름 변환
             LocalDateTime endDtm,
-            String tokMasked,    // 앞 20자 + "..." 마스킹
+            String tokMasked,    // 토큰해시 앞 12자 + "..." 마스킹
+            String rplYn,        // 교체여부 (Y: 갱신으로 교체된 토큰)
             LocalDateTime fstEnrDtm
     ) {}
 
@@ -226,7 +227,9 @@ public class AdminDto {
 
     @Schema(name = "AdminDto.LoginStatResponse", description = "일별 로그인 통계")
     public record LoginStatResponse(
-            LocalDate date,
-            Long count
+            @Schema(description = "일자") LocalDate date,
+            @Schema(description = "로그인 성공 건수") Long count,
+            @Schema(description = "로그인 실패 건수") Long failureCount,
+            @Schema(description = "로그인 성공 사용자수") Long userCount
     ) {}
 }
@@ -11,6 +11,8 @@ import java.util.stream.Stream;
 import com.kdb.it.common.admin.dto.AdminDto;
 import com.kdb.it.common.code.entity.Ccodem;
 import com.kdb.it.common.code.repository.CodeRepository;
+import com.kdb.it.common.code.service.CacheVersionService;
+import com.kdb.it.common.code.service.CodeDictionary;
 import com.kdb.it.common.iam.entity.CauthI;
 import com.kdb.it.common.iam.entity.CorgnI;
 import com.kdb.it.common.iam.entity.CroleI;
@@ -20,17 +22,19 @@ import com.kdb.it.common.iam.repository.AuthRepository;
 import com.kdb.it.common.iam.repository.OrganizationRepository;
 import com.kdb.it.common.iam.repository.RoleRepository;
 import com.kdb.it.common.iam.repository.UserRepository;
+import com.kdb.it.common.iam.service.DirectoryCacheService;
 import com.kdb.it.common.system.entity.Clognh;
 import com.kdb.it.common.system.entity.Crtokm;
 import com.kdb.it.common.system.repository.LoginHistoryRepository;
+import com.kdb.it.common.system.repository.LoginStatsRepository;
 import com.kdb.it.common.system.repository.RefreshTokenRepository;
+import com.kdb.it.common.system.security.PasswordHasher;
 import com.kdb.it.infra.file.entity.Cfilem;
 import com.kdb.it.infra.file.repository.FileRepository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -48,8 +52,9 @@ import lombok.RequiredArgsConstructor;
  * 의존 패키지:
  * </p>
  * <ul>
- * <li>{@code common/code} — 공통코드(Ccodem, CodeRepository)</li>
- * <li>{@code common/iam} — 사용자(CuserI, UserRepository) — 이름 변환용</li>
+ * <li>{@code common/code} — 공통코드(Ccodem, CodeRepository). 변경 시 공통코드 캐시를 커밋 후 비웁니다.</li>
+ * <li>{@code common/iam} — 사용자(CuserI, UserRepository), 이름 캐시(DirectoryCacheService) — 이름 변환용.
+ * 사용자·조직 변경 시 커밋 후 해당 캐시 항목을 무효화합니다.</li>
  * </ul>
  */
 @Service
@@ -63,10 +68,14 @@ public class AdminService {
         private final RoleRepository roleRepository;
         private final UserRepository userRepository;
         private final OrganizationRepository orgRepository;
+        private final DirectoryCacheService directoryCacheService;
+        private final CodeDictionary codeDictionary;
+        private final CacheVersionService cacheVersionService;
         private final LoginHistoryRepository loginHistoryRepository;
+        private final LoginStatsRepository loginStatsRepository;
         private final RefreshTokenRepository refreshTokenRepository;
         private final FileRepository fileRepository;
-        private final PasswordEncoder passwordEncoder;
+        private final PasswordHasher passwordHasher;
 
         // =========================================================================
         // 공통코드 (TAAABB_CCODEM)
@@ -81,13 +90,12 @@ public class AdminService {
         public List<AdminDto.CodeResponse> getCodes() {
                 List<Ccodem> codes = codeRepository.findAllActive();
 
-                // 감사 필드의 고유 ENO를 한 번의 배치 쿼리로 이름 조회 (N+1 방지)
+                // 감사 필드의 고유 ENO를 이름 캐시에서 일괄 변환 (미적중분만 한 번의 배치 쿼리, N+1 방지)
                 Set<String> enos = codes.stream()
                                 .flatMap(c -> Stream.of(c.getFstEnrUsid(), c.getLstChgUsid()))
                                 .filter(Objects::nonNull)
                                 .collect(Collectors.toSet());
-                Map<String, String> userNameMap = userRepository.findByEnoIn(enos).stream()
-                                .collect(Collectors.toMap(u -> u.getEno(), u -> u.getUsrNm()));
+                Map<String, String> userNameMap = directoryCacheService.getUserNames(enos);
 
                 return codes.stream()
                                 .map(c -> toCodeResponse(c, userNameMap))
@@ -119,6 +127,8 @@ public class AdminService {
                                 .cdSqn(req.cdSqn())
                                 .build();
                 codeRepository.save(code);
+                codeDictionary.reloadAfterCommit();
+                cacheVersionService.publish(CodeDictionary.REGION);
         }
 
         /**
@@ -141,6 +151,8 @@ public class AdminService {
                 // Dirty Checking — save() 불필요
                 code.update(req.cdNm(), req.cdva(), req.cdDes(), req.cttTp(),
                                 req.cttTpDes(), req.cdSqn(), sttDt, req.endDt());
+                codeDictionary.reloadAfterCommit();
+                cacheVersionService.publish(CodeDictionary.REGION);
         }
 
         /**
@@ -158,6 +170,8 @@ public class AdminService {
                 Ccodem code = codeRepository.findByCdIdAndSttDtAndDelYn(cdId, sttDt, "N")
                                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 코드ID/시작일자입니다: " + cdId + ", " + sttDt));
                 code.delete();
+                codeDictionary.reloadAfterCommit();
+                cacheVersionService.publish(CodeDictionary.REGION);
         }
 
         /**
@@ -197,6 +211,8 @@ public class AdminService {
                                 created++;
                         }
                 }
+                codeDictionary.reloadAfterCommit();
+                cacheVersionService.publish(CodeDictionary.REGION);
                 return Map.of("created", created, "updated", updated);
         }
 
@@ -426,8 +442,8 @@ public class AdminService {
                         throw new IllegalArgumentException("이미 존재하는 사원번호입니다: " + req.eno());
                 }
                 String encodedPwd = req.password() != null
-                                ? passwordEncoder.encode(req.password())
-                                : passwordEncoder.encode("changeme"); // 초기 비밀번호 기본값
+                                ? passwordHasher.encode(req.password())
+                                : passwordHasher.encode("changeme"); // 초기 비밀번호 기본값
                 userRepository.save(CuserI.builder()
                                 .eno(req.eno())
                                 .usrNm(req.usrNm())
@@ -439,6 +455,7 @@ public class AdminService {
                                 .cpnTpn(req.cpnTpn())
                                 .usrEcyPwd(encodedPwd)
                                 .build());
+                directoryCacheService.invalidateUser(req.eno());
         }
 
         /**
@@ -456,8 +473,9 @@ public class AdminService {
                 user.update(req.usrNm(), req.ptCNm(), req.temC(), req.bbrC(),
                                 req.etrMilAddrNm(), req.inleNo(), req.cpnTpn());
                 if (req.password() != null && !req.password().isBlank()) {
-                        user.updatePassword(passwordEncoder.encode(req.password()));
+                        user.updatePassword(passwordHasher.encode(req.password()));
                 }
+                directoryCacheService.invalidateUser(eno);
         }
 
         /**
@@ -471,6 +489,7 @@ public class AdminService {
                                 .filter(u -> "N".equals(u.getDelYn()))
                                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사원번호입니다: " + eno));
                 user.delete();
+                directoryCacheService.invalidateUser(eno);
         }
 
         /**
@@ -525,6 +544,7 @@ public class AdminService {
                                 .itmSqnSno(req.itmSqnSno())
                                 .prlmHrkOgzCCone(req.prlmHrkOgzCCone())
                                 .build());
+                directoryCacheService.invalidateOrg(req.prlmOgzCCone());
         }
 
         /**
@@ -539,6 +559,7 @@ public class AdminService {
                                 .filter(o -> "N".equals(o.getDelYn()))
                                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 조직코드입니다: " + orgC));
                 org.update(req.bbrNm(), req.bbrWrenNm(), req.itmSqnSno(), req.prlmHrkOgzCCone());
+                directoryCacheService.invalidateOrg(orgC);
         }
 
         /**
@@ -552,6 +573,7 @@ public class AdminService {
                                 .filter(o -> "N".equals(o.getDelYn()))
                                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 조직코드입니다: " + orgC));
                 org.delete();
+                directoryCacheService.invalidateOrg(orgC);
         }
 
         /**
@@ -578,26 +600,33 @@ public class AdminService {
 
         /**
          * 전체 로그인 이력을 페이지네이션으로 조회합니다.
-         * ENO → 사용자명 변환을 포함합니다.
+         * 페이지 내 고유 ENO를 이름 캐시에서 일괄 변환합니다 (행마다 조회하지 않음).
          *
          * @param pageable 페이지 정보 (최신순 정렬)
          * @return 페이지네이션된 로그인 이력 응답
          */
         public Page<AdminDto.LoginHistoryResponse> getLoginHistory(Pageable pageable) {
                 Page<Clognh> page = loginHistoryRepository.findAllByOrderByLgnDtmDesc(pageable);
+                Set<String> enos = page.getContent().stream()
+                                .map(Clognh::getEno)
+                                .filter(Objects::nonNull)
+                                .collect(Collectors.toSet());
+                Map<String, String> userNameMap = directoryCacheService.getUserNames(enos);
                 List<AdminDto.LoginHistoryResponse> content = page.getContent().stream()
-                                .map(this::toLoginHistoryResponse)
+                                .map(h -> toLoginHistoryResponse(h, userNameMap))
                                 .toList();
                 return new PageImpl<>(content, pageable, page.getTotalElements());
         }
 
         /**
          * Clognh 엔티티를 LoginHistoryResponse DTO로 변환합니다.
+         *
+         * @param userNameMap ENO → 사용자명 매핑 (배치 조회 결과)
          */
-        private AdminDto.LoginHistoryResponse toLoginHistoryResponse(Clognh h) {
+        private AdminDto.LoginHistoryResponse toLoginHistoryResponse(Clognh h, Map<String, String> userNameMap) {
                 return new AdminDto.LoginHistoryResponse(
                                 h.getEno(),
-                                resolveUserName(h.getEno()),
+                                userNameMap.getOrDefault(h.getEno(), h.getEno()),
                                 h.getLgnDtm(),
                                 h.getLgnTp(),
                                 h.getIpAddr(),
@@ -611,15 +640,18 @@ public class AdminService {
         // =========================================================================
 
         /**
-         * 전체 갱신토큰 목록을 조회합니다.
-         * 토큰값은 앞 20자 + "..." 마스킹 처리합니다.
+         * 갱신토큰 목록을 페이지네이션으로 조회합니다.
+         * 토큰해시는 앞 12자 + "..." 마스킹 처리합니다.
          *
-         * @return 갱신토큰 응답 DTO 목록
+         * @param pageable 페이지 정보 (기본: 종료일시 내림차순)
+         * @return 페이지네이션된 갱신토큰 응답
          */
-        public List<AdminDto.TokenResponse> getTokens() {
-                return refreshTokenRepository.findAll().stream()
+        public Page<AdminDto.TokenResponse> getTokens(Pageable pageable) {
+                Page<Crtokm> page = refreshTokenRepository.findAll(pageable);
+                List<AdminDto.TokenResponse> content = page.getContent().stream()
                                 .map(this::toTokenResponse)
                                 .toList();
+                return new PageImpl<>(content, pageable, page.getTotalElements());
         }
 
         /**
@@ -627,14 +659,15 @@ public class AdminService {
          * Plan SC: JWT 토큰값 마스킹 — 보안 요구사항
          */
         private AdminDto.TokenResponse toTokenResponse(Crtokm t) {
-                // 토큰값 마스킹: 앞 20자 + "..."
-                String raw = t.getTok();
-                String masked = (raw != null && raw.length() > 20) ? raw.substring(0, 20) + "..." : raw;
+                // 토큰해시 마스킹: 앞 12자 + "..." (원문은 DB에 저장하지 않음)
+                String raw = t.getTokHsh();
+                String masked = (raw != null && raw.length() > 12) ? raw.substring(0, 12) + "..." : raw;
                 return new AdminDto.TokenResponse(
                                 t.getEno(),
                                 resolveUserName(t.getEno()),
                                 t.getEndDtm(),
                                 masked,
+                                t.getRplYn(),
                                 t.getFstEnrDtm());
         }
 
@@ -674,6 +707,7 @@ public class AdminService {
 
         /**
          * 사원번호(ENO)로 사용자명을 조회합니다.
+         * 이름 캐시({@link DirectoryCacheService})를 거치므로 목록 행마다 DB를 조회하지 않습니다.
          * 존재하지 않으면 ENO 값을 그대로 반환합니다.
          *
          * @param eno 사원번호
@@ -682,9 +716,8 @@ public class AdminService {
         private String resolveUserName(String eno) {
                 if (eno == null)
                         return null;
-                return userRepository.findByEno(eno)
-                                .map(CuserI::getUsrNm)
-                                .orElse(eno);
+                String usrNm = directoryCacheService.getUserName(eno);
+                return usrNm != null ? usrNm : eno;
         }
 
         // =========================================================================
@@ -692,17 +725,19 @@ public class AdminService {
         // =========================================================================
 
         /**
-         * 최근 30일 일별 로그인 성공 건수를 집계하여 반환합니다.
-         * Oracle TRUNC 함수를 사용하여 날짜 단위로 그룹화합니다.
+         * 최근 30일 일별 로그인 통계를 반환합니다.
+         * 원본 이력(TAAABB_CLOGNH) 대신 일별 통계 롤업(TAAABB_CLOGND)을 읽습니다.
          *
          * @return 일별 로그인 통계 DTO 목록 (날짜 오름차순)
          */
         public List<AdminDto.LoginStatResponse> getLoginStats() {
                 // Design Ref: §3.7 — 대시보드 차트 데이터 (최근 30일 일별 집계)
-                return loginHistoryRepository.findDailyLoginStats().stream()
+                return loginStatsRepository.findRecentDailyStats().stream()
                                 .map(row -> new AdminDto.LoginStatResponse(
                                                 LocalDate.parse((String) row[0]),
-                                                ((Number) row[1]).longValue()))
+                                                ((Number) row[1]).longValue(),
+                                                ((Number) row[2]).longValue(),
+                                                ((Number) row[3]).longValue()))
                                 .toList();
         }
 }
@@ -8,6 +8,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import org.springframework.data.domain.Persistable;
+
 /**
  * 신청서-원본 데이터 관계 관리 엔티티
  *
@@ -30,7 +32,7 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder                                        // 상속 구조에서 Builder 패턴 지원
 @NoArgsConstructor(access = AccessLevel.PROTECTED)   // protected 기본 생성자 (JPA 요구사항)
 @AllArgsConstructor                                  // 전체 필드 생성자 자동 생성
-public class Cappla extends BaseEntity {
+public class Cappla extends BaseEntity implements Persistable<String> {
 
     /**
      * 신청서관계일련번호: 기본키 (UUID 형태의 고유 식별자, 형식: APPL_{28자리 시퀀스})
@@ -67,4 +69,12 @@ public class Cappla extends BaseEntity {
      */
     @Column(name = "ORC_SNO_VL", comment = "원본일련번호값")
     private Integer orcSnoVl;
+
+    /**
+     * 식별자 반환 ({@link Persistable} 구현: 신규 여부는 {@link BaseEntity#isNew()})
+     */
+    @Override
+    public String getId() {
+        return apfRelSno;
+    }
 }
@@ -0,0 +1,126 @@
+package com.kdb.it.common.approval.entity;
+
+import com.kdb.it.domain.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 원본 데이터별 최신 신청서 상태 엔티티 (조회용 프로젝션)
+ *
+ * <p>DB 테이블: {@code TAAABB_CAPPLC}</p>
+ *
+ * <p>원본 레코드({@code ORC_TB_CD}, {@code ORC_PK_VL}, {@code ORC_SNO_VL})마다 가장 최근에 연결된
+ * 신청서({@link Cappla} 중 {@code APF_REL_SNO} 최대)와 그 상태({@link Capplm#getApfSts()})를 1행으로 보관합니다.
+ * 목록 화면이 원본 행마다 {@code CAPPLA.APF_REL_SNO = (SELECT MAX(...))} 상관 서브쿼리를 돌리는 대신
+ * 이 테이블을 PK로 조인하도록 하기 위한 테이블입니다.</p>
+ *
+ * <p>갱신 경로:</p>
+ * <ul>
+ *   <li>신청서 상신({@code ApplicationService.submit}) → 연결 원본별 최신 신청서를 교체, 상태 "결재중"</li>
+ *   <li>결재 종결({@code ApprovalCompletedEvent}) → 해당 신청서를 가리키는 행의 상태를 "결재완료"/"반려"로 변경</li>
+ * </ul>
+ *
+ * <p>{@code ORC_SNO_VL}이 없는 원본(예: 협의회 BASCTM)은 PK를 구성할 수 있도록 0으로 저장합니다.
+ * 기존 데이터 적재는 {@code resources/sql/capplc_ddl.sql} 또는 기동 시 자동 백필을 사용합니다.</p>
+ */
+@Entity                                              // JPA 엔티티로 등록
+@Table(name = "TAAABB_CAPPLC", comment = "원본 데이터별 최신 신청서 상태",  // 매핑할 DB 테이블명
+        indexes = @Index(name = "IDX_CAPPLC_APF", columnList = "APF_MNG_NO"))
+@Getter                                              // 모든 필드의 getter 자동 생성 (Lombok)
+@SuperBuilder                                        // 상속 구조에서 Builder 패턴 지원
+@NoArgsConstructor(access = AccessLevel.PROTECTED)   // protected 기본 생성자 (JPA 요구사항)
+@AllArgsConstructor                                  // 전체 필드 생성자 자동 생성
+@IdClass(CapplcId.class)                             // 복합키 클래스 지정
+public class Capplc extends BaseEntity implements Persistable<CapplcId> {
+
+    /** 원본테이블코드: 복합 기본키 (예: 'BPROJM', 'BCOSTM', 'BASCTM') */
+    @Id
+    @Column(name = "ORC_TB_CD", length = 10, nullable = false, comment = "원본테이블코드")
+    private String orcTbCd;
+
+    /** 원본PK값: 복합 기본키 (예: 'PRJ-2026-0001') */
+    @Id
+    @Column(name = "ORC_PK_VL", length = 32, nullable = false, comment = "원본PK값")
+    private String orcPkVl;
+
+    /** 원본일련번호값: 복합 기본키 (일련번호가 없는 원본은 0) */
+    @Id
+    @Column(name = "ORC_SNO_VL", nullable = false, comment = "원본일련번호값")
+    private Integer orcSnoVl;
+
+    /** 최신 신청서관계일련번호: 이 원본에 연결된 CAPPLA 중 APF_REL_SNO 최대값 */
+    @Column(name = "APF_REL_SNO", length = 36, nullable = false, comment = "최신신청서관계일련번호")
+    private String apfRelSno;
+
+    /** 최신 신청서관리번호 (Capplm.apfMngNo 참조) */
+    @Column(name = "APF_MNG_NO", length = 32, nullable = false, comment = "최신신청서관리번호")
+    private String apfMngNo;
+
+    /** 최신 신청서상태: "결재중", "결재완료", "반려" */
+    @Column(name = "APF_STS", length = 32, comment = "최신신청서상태")
+    private String apfSts;
+
+    /**
+     * 신청서 관계로부터 최신 상태 행 생성
+     *
+     * @param link   새로 연결된 신청서-원본 관계
+     * @param apfSts 신청서 상태
+     * @return 신규 최신 상태 엔티티
+     */
+    public static Capplc of(Cappla link, String apfSts) {
+        return Capplc.builder()
+                .orcTbCd(link.getOrcTbCd())
+                .orcPkVl(link.getOrcPkVl())
+                .orcSnoVl(normalizeSno(link.getOrcSnoVl()))
+                .apfRelSno(link.getApfRelSno())
+                .apfMngNo(link.getApfMngNo())
+                .apfSts(apfSts)
+                .build();
+    }
+
+    /**
+     * 더 최근 신청서로 교체
+     *
+     * <p>이미 더 최근({@code APF_REL_SNO}가 더 큰) 신청서를 가리키고 있으면 무시합니다.
+     * 신청서관계일련번호는 {@code APPL_{28자리 시퀀스}} 고정 길이이므로 문자열 비교가 곧 순번 비교입니다.</p>
+     *
+     * @param link   새로 연결된 신청서-원본 관계
+     * @param apfSts 신청서 상태
+     */
+    public void relink(Cappla link, String apfSts) {
+        if (this.apfRelSno != null && this.apfRelSno.compareTo(link.getApfRelSno()) > 0) {
+            return;
+        }
+        this.apfRelSno = link.getApfRelSno();
+        this.apfMngNo = link.getApfMngNo();
+        this.apfSts = apfSts;
+    }
+
+    /**
+     * 최신 신청서 상태 변경 (결재완료 / 반려)
+     *
+     * @param apfSts 변경할 상태
+     */
+    public void updateStatus(String apfSts) {
+        this.apfSts = apfSts;
+    }
+
+    /** ORC_SNO_VL 정규화: 일련번호가 없는 원본은 0 */
+    public static Integer normalizeSno(Integer orcSnoVl) {
+        return orcSnoVl != null ? orcSnoVl : 0;
+    }
+
+    /**
+     * 식별자 반환 ({@link Persistable} 구현: 신규 여부는 {@link BaseEntity#isNew()})
+     */
+    @Override
+    public CapplcId getId() {
+        return new CapplcId(orcTbCd, orcPkVl, orcSnoVl);
+    }
+}
@@ -0,0 +1,39 @@
+package com.kdb.it.common.approval.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 최신 신청서 상태(Capplc) 엔티티의 복합 기본키 클래스
+ *
+ * <p>JPA의 {@code @IdClass} 방식으로 {@link Capplc} 엔티티의 복합키(원본 레코드 식별자)를 정의합니다.
+ * {@link Capplc}의 {@code @Id} 필드({@code orcTbCd}, {@code orcPkVl}, {@code orcSnoVl})와
+ * 동일한 이름과 타입을 가져야 합니다.</p>
+ */
+@NoArgsConstructor  // JPA 요구사항: 기본 생성자 필수
+@AllArgsConstructor // 모든 필드를 받는 생성자 (직접 생성용)
+@EqualsAndHashCode  // equals(), hashCode() 자동 생성 (JPA 1차 캐시 동등성 비교에 필수)
+public class CapplcId implements Serializable {
+
+    /** 원본테이블코드: Capplc.orcTbCd와 이름/타입 일치 필수 */
+    private String orcTbCd;
+
+    /** 원본PK값: Capplc.orcPkVl과 이름/타입 일치 필수 */
+    private String orcPkVl;
+
+    /** 원본일련번호값: Capplc.orcSnoVl과 이름/타입 일치 필수 (미사용 원본은 0) */
+    private Integer orcSnoVl;
+
+    /**
+     * 신청서 관계(Cappla)가 가리키는 원본 레코드의 키 생성
+     *
+     * @param link 신청서-원본 관계
+     * @return 원본 레코드 키 (ORC_SNO_VL이 null이면 0)
+     */
+    public static CapplcId of(Cappla link) {
+        return new CapplcId(link.getOrcTbCd(), link.getOrcPkVl(), Capplc.normalizeSno(link.getOrcSnoVl()));
+    }
+}
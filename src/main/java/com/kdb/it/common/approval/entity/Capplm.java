@@ -13,6 +13,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import org.springframework.data.domain.Persistable;
+
 import java.time.LocalDate;
 
 /**
@@ -48,7 +50,7 @@ import java.time.LocalDate;
 @SuperBuilder // 상속 구조에서 Builder 패턴 지원
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // protected 기본 생성자 (JPA 요구사항)
 @AllArgsConstructor // 전체 필드 생성자 자동 생성
-public class Capplm extends BaseEntity {
+public class Capplm extends BaseEntity implements Persistable<String> {
 
     /**
      * 신청서관리번호: 기본키
@@ -116,5 +118,12 @@ public class Capplm extends BaseEntity {
     public void updateDetailContent(String detailContent) {
         this.apfDtlCone = detailContent;
     }
-}
 
+    /**
+     * 식별자 반환 ({@link Persistable} 구현: 신규 여부는 {@link BaseEntity#isNew()})
+     */
+    @Override
+    public String getId() {
+        return apfMngNo;
+    }
+}
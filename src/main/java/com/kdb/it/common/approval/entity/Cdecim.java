@@ -8,6 +8,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import org.springframework.data.domain.Persistable;
+
 import java.time.LocalDate;
 
 /**
@@ -36,7 +38,7 @@ import java.time.LocalDate;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)   // protected 기본 생성자 (JPA 요구사항)
 @AllArgsConstructor                                  // 전체 필드 생성자 자동 생성
 @IdClass(CdecimId.class)                             // 복합키 클래스 지정
-public class Cdecim extends BaseEntity {
+public class Cdecim extends BaseEntity implements Persistable<CdecimId> {
 
     /**
      * 결재관리번호: 복합 기본키의 첫 번째 컬럼
@@ -105,5 +107,12 @@ public class Cdecim extends BaseEntity {
         this.dcdDt = LocalDate.now();  // 현재 날짜로 결재일자 설정
         this.dcdOpnn = opinion;        // 결재 의견 기록
     }
-}
 
+    /**
+     * 식별자 반환 ({@link Persistable} 구현: 신규 여부는 {@link BaseEntity#isNew()})
+     */
+    @Override
+    public CdecimId getId() {
+        return new CdecimId(dcdMngNo, dcdSqn);
+    }
+}
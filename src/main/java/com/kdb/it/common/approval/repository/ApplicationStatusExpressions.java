@@ -0,0 +1,72 @@
+package com.kdb.it.common.approval.repository;
+
+import com.kdb.it.common.approval.entity.QCapplc;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.jpa.JPAExpressions;
+
+/**
+ * 최신 신청서 상태(TAAABB_CAPPLC) 기반 QueryDSL 조건 모음
+ *
+ * <p>
+ * 정보화사업·전산업무비·예산 편성 등 목록 조회에서 "원본 레코드의 최신 신청서 상태" 조건을
+ * 원본 행마다 {@code CAPPLA.APF_REL_SNO = (SELECT MAX(...))} 상관 서브쿼리로 구하던 것을,
+ * 최신 상태 테이블의 PK 단건 조회({@code EXISTS})로 대체합니다.
+ * </p>
+ *
+ * <pre>{@code
+ * EXISTS (SELECT 1 FROM TAAABB_CAPPLC s
+ *         WHERE s.ORC_TB_CD = 'BPROJM'
+ *           AND s.ORC_PK_VL = p.PRJ_MNG_NO
+ *           AND s.ORC_SNO_VL = p.PRJ_SNO
+ *           AND s.APF_STS = '결재완료')
+ * }</pre>
+ */
+public final class ApplicationStatusExpressions {
+
+    private ApplicationStatusExpressions() {
+    }
+
+    /**
+     * 원본 레코드의 최신 신청서 상태가 {@code apfSts}인지 확인하는 조건
+     *
+     * @param orcTbCd  원본테이블코드 (예: "BPROJM", "BCOSTM")
+     * @param orcPkVl  원본PK 경로 (예: {@code bprojm.prjMngNo})
+     * @param orcSnoVl 원본일련번호 경로 (예: {@code bprojm.prjSno})
+     * @param apfSts   신청서 상태 (예: "결재완료")
+     * @return EXISTS 조건
+     */
+    public static BooleanExpression latestStatusEq(String orcTbCd, StringExpression orcPkVl,
+            NumberExpression<Integer> orcSnoVl, String apfSts) {
+        QCapplc capplc = new QCapplc("capplc");
+        return JPAExpressions.selectOne()
+                .from(capplc)
+                .where(
+                        capplc.orcTbCd.eq(orcTbCd),
+                        capplc.orcPkVl.eq(orcPkVl),
+                        capplc.orcSnoVl.eq(orcSnoVl),
+                        capplc.apfSts.eq(apfSts))
+                .exists();
+    }
+
+    /**
+     * 원본 레코드에 연결된 신청서가 하나도 없는지 확인하는 조건
+     *
+     * @param orcTbCd  원본테이블코드
+     * @param orcPkVl  원본PK 경로
+     * @param orcSnoVl 원본일련번호 경로
+     * @return NOT EXISTS 조건
+     */
+    public static BooleanExpression noApplication(String orcTbCd, StringExpression orcPkVl,
+            NumberExpression<Integer> orcSnoVl) {
+        QCapplc capplc = new QCapplc("capplc");
+        return JPAExpressions.selectOne()
+                .from(capplc)
+                .where(
+                        capplc.orcTbCd.eq(orcTbCd),
+                        capplc.orcPkVl.eq(orcPkVl),
+                        capplc.orcSnoVl.eq(orcSnoVl))
+                .notExists();
+    }
+}
@@ -0,0 +1,68 @@
+package com.kdb.it.common.approval.repository;
+
+import com.kdb.it.common.approval.entity.Capplc;
+import com.kdb.it.common.approval.entity.CapplcId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 원본 데이터별 최신 신청서 상태(Capplc) 데이터 접근 리포지토리
+ *
+ * <p>
+ * 목록 화면 조회 조건에서는 이 리포지토리를 직접 쓰지 않고
+ * {@link ApplicationStatusExpressions}의 QueryDSL 조건으로 {@code TAAABB_CAPPLC}를 조인합니다.
+ * 이 리포지토리는 상신/결재 시 최신 상태 행을 유지하는 데 사용합니다.
+ * </p>
+ *
+ * <p>
+ * 복합키 타입: {@link CapplcId} (orcTbCd + orcPkVl + orcSnoVl)
+ * </p>
+ */
+public interface ApplicationStatusRepository extends JpaRepository<Capplc, CapplcId> {
+
+    /**
+     * 특정 신청서를 최신 신청서로 가리키는 원본 행 목록 조회
+     *
+     * <p>결재 종결 시 상태를 갱신할 대상을 찾는 데 사용합니다.</p>
+     *
+     * @param apfMngNo 신청서관리번호
+     * @return 해당 신청서가 최신인 원본 행 목록
+     */
+    List<Capplc> findByApfMngNo(String apfMngNo);
+
+    /**
+     * CAPPLA/CAPPLM으로부터 최신 신청서 상태 전체 적재 (Oracle 전용 Native Query)
+     *
+     * <p>
+     * 테이블이 비어 있을 때(최초 배포) 기존 신청서 이력을 한 번에 옮기기 위한 백필입니다.
+     * 원본별 {@code APF_REL_SNO} 최대 행을 분석 함수로 골라 INSERT ... SELECT 1문으로 처리합니다.
+     * </p>
+     *
+     * @return 적재된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO TAAABB_CAPPLC
+                (ORC_TB_CD, ORC_PK_VL, ORC_SNO_VL, APF_REL_SNO, APF_MNG_NO, APF_STS,
+                 DEL_YN, GUID, GUID_PRG_SNO, FST_ENR_DTM, LST_CHG_DTM)
+            SELECT x.ORC_TB_CD, x.ORC_PK_VL, x.ORC_SNO_VL, x.APF_REL_SNO, x.APF_MNG_NO, m.APF_STS,
+                   'N', LOWER(RAWTOHEX(SYS_GUID())), 1, SYSTIMESTAMP, SYSTIMESTAMP
+            FROM (
+                SELECT a.ORC_TB_CD, a.ORC_PK_VL, NVL(a.ORC_SNO_VL, 0) AS ORC_SNO_VL,
+                       a.APF_REL_SNO, a.APF_MNG_NO,
+                       ROW_NUMBER() OVER (
+                           PARTITION BY a.ORC_TB_CD, a.ORC_PK_VL, NVL(a.ORC_SNO_VL, 0)
+                           ORDER BY a.APF_REL_SNO DESC) AS RN
+                FROM TAAABB_CAPPLA a
+                WHERE a.ORC_TB_CD IS NOT NULL AND a.ORC_PK_VL IS NOT NULL
+            ) x
+            JOIN TAAABB_CAPPLM m ON m.APF_MNG_NO = x.APF_MNG_NO
+            WHERE x.RN = 1
+            """, nativeQuery = true)
+    int backfillFromApplications();
+}
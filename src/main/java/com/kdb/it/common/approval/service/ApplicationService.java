@@ -95,6 +95,9 @@ public class ApplicationService {
     /** 결재 완료/반려 시 도메인 이벤트 발행 (도메인 간 직접 의존 제거) */
     private final ApplicationEventPublisher eventPublisher;
 
+    /** 원본 데이터별 최신 신청서 상태(TAAABB_CAPPLC) 유지 서비스 */
+    private final ApplicationStatusService applicationStatusService;
+
     /**
      * 신청서 상세 내용(JSON)의 결재선 정보 업데이트
      *
@@ -260,20 +263,25 @@ public class ApplicationService {
 
         // 1-1. 원본 데이터 연결 저장 (orcItems 각각에 대해 Cappla 생성)
         // 하나의 신청서가 복수의 원본 레코드(정보화사업, 전산관리비 등)를 연결할 수 있습니다.
+        // 시퀀스 채번(Native Query)은 대기 중인 INSERT를 flush시키므로, 채번을 모두 마친 뒤 한 번에 저장하여
+        // INSERT가 JDBC 배치로 묶이도록 합니다.
         if (request.getOrcItems() != null && !request.getOrcItems().isEmpty()) {
+            List<Cappla> capplas = new java.util.ArrayList<>(request.getOrcItems().size());
             for (ApplicationDto.OrcItem item : request.getOrcItems()) {
                 Long seq = applicationMapRepository.getNextVal(); // 항목마다 CAPPLA 시퀀스 채번
                 String apfRelSno = "APPL_" + String.format("%028d", seq); // 신청서관계일련번호
 
-                Cappla cappla = Cappla.builder()
+                capplas.add(Cappla.builder()
                         .apfRelSno(apfRelSno) // 신청서관계일련번호 (PK)
                         .apfMngNo(apfMngNo) // 신청관리번호 (FK)
                         .orcTbCd(item.getOrcTbCd()) // 원본 테이블코드
                         .orcPkVl(item.getOrcPkVl()) // 원본 PK값
                         .orcSnoVl(item.getOrcSnoVl() != null ? Integer.parseInt(item.getOrcSnoVl()) : null) // 원본 SNO
-                        .build();
-                applicationMapRepository.save(cappla);
+                        .build());
             }
+            applicationMapRepository.saveAll(capplas);
+            // 연결 원본들의 최신 신청서를 이번 신청서로 교체 (목록 조회용 최신 상태 테이블)
+            applicationStatusService.recordSubmitted(capplas, "결재중");
         }
 
         // 2. 결재선 생성: 요청받은 결재자 사번 목록을 순번(dcdSqn)대로 저장
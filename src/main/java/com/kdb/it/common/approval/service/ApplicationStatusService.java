@@ -0,0 +1,130 @@
+package com.kdb.it.common.approval.service;
+
+import com.kdb.it.common.approval.entity.Cappla;
+import com.kdb.it.common.approval.entity.Capplc;
+import com.kdb.it.common.approval.entity.CapplcId;
+import com.kdb.it.common.approval.event.ApprovalCompletedEvent;
+import com.kdb.it.common.approval.repository.ApplicationMapRepository;
+import com.kdb.it.common.approval.repository.ApplicationStatusRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 원본 데이터별 최신 신청서 상태(TAAABB_CAPPLC) 유지 서비스
+ *
+ * <p>
+ * 신청서 상신과 결재 종결 시점에 최신 상태 행을 갱신하여, 목록 조회가
+ * {@link com.kdb.it.common.approval.repository.ApplicationStatusExpressions}로
+ * 상관 MAX 서브쿼리 없이 최신 결재상태를 판정할 수 있게 합니다.
+ * </p>
+ *
+ * <ul>
+ * <li>상신: {@link ApplicationService#submit}이 같은 트랜잭션에서 {@link #recordSubmitted} 호출</li>
+ * <li>결재완료/반려: {@link ApprovalCompletedEvent}를 동기 구독하여 같은 트랜잭션에서 상태 변경</li>
+ * <li>최초 배포: 테이블이 비어 있고 신청서 이력이 있으면 기동 시 1회 백필</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+public class ApplicationStatusService {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationStatusService.class);
+
+    /** 최신 신청서 상태 리포지토리 (TAAABB_CAPPLC) */
+    private final ApplicationStatusRepository applicationStatusRepository;
+
+    /** 신청서-원본 데이터 연결 리포지토리 (TAAABB_CAPPLA): 백필 필요 여부 판단용 */
+    private final ApplicationMapRepository applicationMapRepository;
+
+    /**
+     * 상신된 신청서를 연결 원본들의 최신 신청서로 기록
+     *
+     * <p>
+     * 원본 키로 기존 행을 한 번에 조회(IN)하여, 있으면 교체하고 없으면 일괄 INSERT합니다.
+     * </p>
+     *
+     * @param links  이번 상신으로 생성된 신청서-원본 관계 목록
+     * @param apfSts 신청서 상태 (상신 시 "결재중")
+     */
+    @Transactional
+    public void recordSubmitted(List<Cappla> links, String apfSts) {
+        if (links.isEmpty()) {
+            return;
+        }
+        // 같은 신청서에 동일 원본이 중복 연결된 경우 마지막(최신) 관계만 반영
+        Map<CapplcId, Cappla> latestByKey = new LinkedHashMap<>();
+        for (Cappla link : links) {
+            if (link.getOrcTbCd() != null && link.getOrcPkVl() != null) {
+                latestByKey.put(CapplcId.of(link), link);
+            }
+        }
+
+        Map<CapplcId, Capplc> existing = new LinkedHashMap<>();
+        for (Capplc c : applicationStatusRepository.findAllById(latestByKey.keySet())) {
+            existing.put(c.getId(), c);
+        }
+
+        List<Capplc> inserts = new ArrayList<>();
+        for (Map.Entry<CapplcId, Cappla> e : latestByKey.entrySet()) {
+            Capplc current = existing.get(e.getKey());
+            if (current != null) {
+                current.relink(e.getValue(), apfSts); // Dirty Checking으로 UPDATE
+            } else {
+                inserts.add(Capplc.of(e.getValue(), apfSts));
+            }
+        }
+        applicationStatusRepository.saveAll(inserts);
+    }
+
+    /**
+     * 결재 종결(결재완료/반려) 시 최신 상태 갱신
+     *
+     * <p>
+     * 해당 신청서가 여전히 최신 신청서인 원본 행만 갱신합니다.
+     * (그 사이 재상신되어 더 최근 신청서가 있으면 해당 행은 조회되지 않습니다.)
+     * 발행자({@code ApplicationService.approve()})와 같은 트랜잭션에서 동기 실행됩니다.
+     * </p>
+     *
+     * @param event 결재 완료 이벤트
+     */
+    @EventListener
+    @Transactional
+    public void handleApprovalCompleted(ApprovalCompletedEvent event) {
+        for (Capplc c : applicationStatusRepository.findByApfMngNo(event.apfMngNo())) {
+            c.updateStatus(event.newStatus());
+        }
+    }
+
+    /**
+     * 기동 시 최신 상태 테이블 백필 (최초 배포 1회)
+     *
+     * <p>
+     * 테이블이 비어 있는데 신청서 관계(CAPPLA)가 존재하면 기존 이력으로부터 일괄 적재합니다.
+     * 실패해도 기동은 계속하며, {@code resources/sql/capplc_ddl.sql}로 수동 적재할 수 있습니다.
+     * (실패가 기동 트랜잭션을 rollback-only로 만들지 않도록 적재 쿼리 자체의 트랜잭션에서만 실행합니다.)
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (applicationStatusRepository.count() > 0 || applicationMapRepository.count() == 0) {
+                return;
+            }
+            int rows = applicationStatusRepository.backfillFromApplications();
+            log.info("[최신 신청서 상태] TAAABB_CAPPLC 백필 완료: {}건", rows);
+        } catch (RuntimeException e) {
+            log.warn("[최신 신청서 상태] TAAABB_CAPPLC 백필 실패 (capplc_ddl.sql로 수동 적재 필요), reason={}",
+                    e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.kdb.it.common.code.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 변경버전 엔티티
+ *
+ * <p>DB 테이블: {@code TAAABB_CCACHV}</p>
+ *
+ * <p>캐시 이름마다 변경버전 번호를 1행으로 보관합니다. 공통코드를 변경한 서버가 같은 트랜잭션에서
+ * 버전을 1 올리면, 각 서버의 {@link com.kdb.it.common.code.service.CacheVersionService}가
+ * 주기적으로 이 테이블을 읽어 버전이 바뀐 캐시를 로컬에서 비웁니다.
+ * 외부 메시지 브로커 없이 다중 서버(SVR1/SVR2) 간 캐시 무효화를 전파하기 위한 테이블입니다.</p>
+ *
+ * <p>읽기·쓰기는 JDBC로 처리하며, 이 엔티티는 스키마 정의(DDL 자동 생성)용입니다.
+ * 운영 DDL은 {@code resources/sql/ccachv_ddl.sql}을 사용합니다.</p>
+ */
+@Entity                                              // JPA 엔티티로 등록
+@Table(name = "TAAABB_CCACHV", comment = "캐시변경버전")  // 매핑할 DB 테이블명
+@Getter                                              // 모든 필드의 getter 자동 생성 (Lombok)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)   // protected 기본 생성자 (JPA 요구사항)
+public class Ccachv {
+
+    /** 캐시명: 기본키 (예: 'codeDictionary') */
+    @Id
+    @Column(name = "CACHE_NM", length = 50, nullable = false, comment = "캐시명")
+    private String cacheNm;
+
+    /** 변경버전번호: 캐시 대상 데이터가 변경될 때마다 1씩 증가 */
+    @Column(name = "VRS_NO", nullable = false, comment = "변경버전번호")
+    private Long vrsNo;
+
+    /** 최종변경일시 */
+    @Column(name = "LST_CHG_DTM", comment = "최종변경일시")
+    private LocalDateTime lstChgDtm;
+}
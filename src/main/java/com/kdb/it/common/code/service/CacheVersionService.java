@@ -0,0 +1,174 @@
+package com.kdb.it.common.code.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 다중 서버 캐시 무효화 서비스 (DB 변경버전 폴링)
+ *
+ * <p>
+ * 캐시 무효화는 서버 로컬 메모리에만 적용되므로, SVR1에서 공통코드를 바꾸면
+ * SVR2는 만료 시간까지 이전 값을 반환합니다. 외부 메시지 브로커 없이 이를 전파하기 위해
+ * {@code TAAABB_CCACHV}(캐시명 → 변경버전번호)를 무효화 채널로 사용합니다.
+ * </p>
+ *
+ * <ol>
+ * <li>{@link #publish}: 데이터를 변경한 트랜잭션 안에서 캐시별 버전을 1 올림 (커밋되어야 다른 서버에 보임, 롤백 시 함께 취소)</li>
+ * <li>{@link #poll}: 각 서버가 {@code app.cache-sync.poll-interval-ms} 주기로 버전 행(캐시 수만큼, 수 건)을 읽고,
+ * 마지막으로 본 버전과 다르면 {@link #register}로 등록된 재적재 작업을 실행하고, 없으면 같은 이름의 캐시를 로컬에서 전체 비움</li>
+ * </ol>
+ *
+ * <p>
+ * 변경한 서버 자신도 다음 폴링에서 한 번 더 비우지만(재적재), 결과가 같으므로 영향이 없습니다.
+ * 기동 후 처음 보는 캐시는 그 사이 적재된 값이 최신이라는 보장이 없으므로 한 번 비웁니다.
+ * 폴링 실패(테이블 미생성, DB 장애)는 로그·메트릭만 남기고 다음 주기에 재시도하며, 그동안은 캐시 만료 시간이 상한입니다.
+ * </p>
+ *
+ * <p>
+ * [메트릭] {@code cache.sync.invalidations}(태그 {@code cache}, 다른 서버 변경으로 비운 횟수),
+ * {@code cache.sync.poll.failures}
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheVersionService {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheVersionService.class);
+
+    private static final String SELECT_SQL = "SELECT CACHE_NM, VRS_NO FROM TAAABB_CCACHV";
+
+    private static final String UPDATE_SQL = "UPDATE TAAABB_CCACHV SET VRS_NO = VRS_NO + 1, "
+            + "LST_CHG_DTM = CURRENT_TIMESTAMP WHERE CACHE_NM = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO TAAABB_CCACHV (CACHE_NM, VRS_NO, LST_CHG_DTM) "
+            + "VALUES (?, 1, CURRENT_TIMESTAMP)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final CacheManager cacheManager;
+
+    private final MeterRegistry meterRegistry;
+
+    /** 폴링 간격 (ms) — 다른 서버의 변경이 반영되기까지 최대 지연 */
+    @Value("${app.cache-sync.poll-interval-ms:3000}")
+    private long pollIntervalMs;
+
+    /** 캐시명 → 마지막으로 확인한 변경버전번호 */
+    private final Map<String, Long> seenVersions = new ConcurrentHashMap<>();
+
+    /** 캐시명 → 버전 변경 시 실행할 재적재 작업 (Spring 캐시가 아닌 메모리 사전 등) */
+    private final Map<String, Runnable> refreshers = new ConcurrentHashMap<>();
+
+    private Counter pollFailureCounter;
+
+    /**
+     * 메트릭 초기화
+     */
+    @PostConstruct
+    void init() {
+        pollFailureCounter = meterRegistry.counter("cache.sync.poll.failures");
+        log.info("캐시 변경버전 폴링 간격: {}ms", pollIntervalMs);
+    }
+
+    /**
+     * 버전 변경 시 실행할 재적재 작업 등록
+     *
+     * @param cacheName 변경버전 캐시명
+     * @param refresher 재적재 작업 (폴링 스레드에서 실행)
+     */
+    public void register(String cacheName, Runnable refresher) {
+        refreshers.put(cacheName, refresher);
+    }
+
+    /**
+     * 캐시 변경버전 증가 (다른 서버에 무효화 전파)
+     *
+     * <p>
+     * 데이터 변경과 같은 트랜잭션에서 호출해야 커밋 시점에만 다른 서버에 보입니다.
+     * 버전 행이 없으면 1로 생성합니다.
+     * </p>
+     *
+     * @param cacheNames 무효화할 캐시 이름 (예: {@link CodeDictionary#REGION})
+     */
+    public void publish(String... cacheNames) {
+        for (String cacheName : cacheNames) {
+            if (jdbcTemplate.update(UPDATE_SQL, cacheName) > 0) {
+                continue;
+            }
+            try {
+                jdbcTemplate.update(INSERT_SQL, cacheName);
+            } catch (DuplicateKeyException e) {
+                // 다른 서버가 동시에 최초 행을 만든 경우
+                jdbcTemplate.update(UPDATE_SQL, cacheName);
+            }
+        }
+    }
+
+    /**
+     * 변경버전 폴링 및 로컬 캐시 무효화
+     *
+     * <p>
+     * 버전이 바뀐 캐시만 비우며, 예외는 밖으로 던지지 않습니다.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${app.cache-sync.poll-interval-ms:3000}")
+    public void poll() {
+        List<Map<String, Object>> rows;
+        try {
+            rows = jdbcTemplate.queryForList(SELECT_SQL);
+        } catch (DataAccessException e) {
+            pollFailureCounter.increment();
+            log.warn("캐시 변경버전 조회 실패: {}", e.getMessage());
+            return;
+        }
+        for (Map<String, Object> row : rows) {
+            String cacheName = (String) row.get("CACHE_NM");
+            long version = ((Number) row.get("VRS_NO")).longValue();
+            Long seen = seenVersions.put(cacheName, version);
+            if (seen != null && seen == version) {
+                continue;
+            }
+            if (!refresh(cacheName)) {
+                seenVersions.put(cacheName, seen != null ? seen : -1L); // 다음 주기에 재시도
+                continue;
+            }
+            meterRegistry.counter("cache.sync.invalidations", "cache", cacheName).increment();
+            log.debug("캐시 무효화 반영: {} (버전 {} → {})", cacheName, seen, version);
+        }
+    }
+
+    private boolean refresh(String cacheName) {
+        Runnable refresher = refreshers.get(cacheName);
+        if (refresher != null) {
+            try {
+                refresher.run();
+                return true;
+            } catch (RuntimeException e) {
+                pollFailureCounter.increment();
+                log.warn("캐시 재적재 실패: {} - {}", cacheName, e.getMessage());
+                return false;
+            }
+        }
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+        return true;
+    }
+}
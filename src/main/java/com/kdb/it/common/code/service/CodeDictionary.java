@@ -0,0 +1,276 @@
+package com.kdb.it.common.code.service;
+
+import com.kdb.it.common.code.entity.Ccodem;
+import com.kdb.it.common.code.repository.CodeRepository;
+import com.kdb.it.config.CacheConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 공통코드 메모리 사전 (기준일자 조회)
+ *
+ * <p>
+ * 논리 삭제되지 않은 CCODEM 전체(수천 건)를 기동 시 한 번 읽어 코드ID·코드값구분별로 색인하고,
+ * 기준일자가 시작일자~종료일자 범위에 드는 코드를 메모리에서 찾습니다.
+ * {@code CodeRepositoryImpl.findByCdIdWithValidDate}/{@code findByCttTpWithValidDate}의
+ * 조회당 쿼리를 대체합니다.
+ * </p>
+ *
+ * <ul>
+ * <li>재적재: 공통코드 등록·수정·삭제 트랜잭션 커밋 후({@link #reloadAfterCommit()}),
+ * 다른 서버의 변경은 {@link CacheVersionService}가 {@value #REGION} 버전 변경을 감지했을 때</li>
+ * <li>교체: 새 색인을 모두 만든 뒤 참조 하나를 바꾸므로(copy-on-write) 조회 중인 요청은
+ * 이전 또는 새 사전 중 하나만 봅니다. 조회에는 잠금이 없습니다.</li>
+ * <li>파생 캐시: 사전 교체 직후 {@value CacheConfig#CODES_BY_TYPE}·{@value CacheConfig#BUDGET_PERIOD}
+ * 캐시를 비워, 이전 사전으로 만든 값이 남지 않도록 합니다. 사전에서 파생한 메모리 색인은
+ * {@link #addReloadListener}로 교체 알림을 받습니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 반환하는 {@link Ccodem}은 영속성 컨텍스트와 분리된 공유 인스턴스이므로 읽기 전용으로만 사용합니다.
+ * 수정은 리포지토리로 다시 조회한 엔티티에 합니다.
+ * </p>
+ *
+ * <p>
+ * [메트릭] {@code code.dictionary.size}(적재 건수)
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CodeDictionary {
+
+    private static final Logger log = LoggerFactory.getLogger(CodeDictionary.class);
+
+    /** {@link CacheVersionService} 변경버전 캐시명 */
+    public static final String REGION = "codeDictionary";
+
+    /** 사전 교체 시 함께 비우는 파생 캐시 */
+    private static final List<String> DERIVED_CACHES = List.of(CacheConfig.CODES_BY_TYPE, CacheConfig.BUDGET_PERIOD);
+
+    /** 같은 코드ID의 이력: 시작일자 내림차순 (null 마지막) */
+    private static final Comparator<Ccodem> LATEST_FIRST = Comparator.comparing(Ccodem::getSttDt,
+            Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final CodeRepository codeRepository;
+
+    private final CacheManager cacheManager;
+
+    private final CacheVersionService cacheVersionService;
+
+    private final PlatformTransactionManager transactionManager;
+
+    private final MeterRegistry meterRegistry;
+
+    /** 현재 사전 (미적재 시 null) */
+    private volatile Snapshot snapshot;
+
+    /** 재적재 시작 순번 / 현재 사전을 만든 재적재 순번 — 늦게 끝난 이전 적재가 새 사전을 덮지 않도록 함 */
+    private long loadSeq;
+    private long installedSeq;
+
+    /** 사전 교체 후 실행할 작업 (파생 색인 무효화 등) */
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 다른 서버 변경 시 재적재 등록, 메트릭 초기화
+     */
+    @PostConstruct
+    void init() {
+        cacheVersionService.register(REGION, this::reload);
+        Gauge.builder("code.dictionary.size", this, d -> d.snapshot == null ? 0 : d.snapshot.size())
+                .description("공통코드 사전 적재 건수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 완료 시 사전 적재 (실패하면 첫 조회 시 다시 시도)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("공통코드 사전 기동 적재 실패, 첫 조회 시 재시도: {}", e.getMessage());
+        }
+    }
+
+    // =========================================================================
+    // 조회
+    // =========================================================================
+
+    /**
+     * 기준일자에 유효한 공통코드 단건 조회
+     *
+     * @param cdId       코드ID
+     * @param targetDate 기준일자 (null이면 오늘)
+     * @return 공통코드 (같은 코드ID가 여러 건 유효하면 시작일자가 가장 늦은 것)
+     */
+    public Optional<Ccodem> find(String cdId, LocalDate targetDate) {
+        LocalDate date = targetDate != null ? targetDate : LocalDate.now();
+        for (Ccodem code : current().byCdId().getOrDefault(cdId, List.of())) {
+            if (isValid(code, date)) {
+                return Optional.of(code);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 기준일자에 유효한 코드값구분별 공통코드 목록 조회
+     *
+     * @param cttTp      코드값구분
+     * @param targetDate 기준일자 (null이면 오늘)
+     * @return 공통코드 목록 (코드순서 오름차순(null 마지막), 코드ID 오름차순)
+     */
+    public List<Ccodem> findByCttTp(String cttTp, LocalDate targetDate) {
+        LocalDate date = targetDate != null ? targetDate : LocalDate.now();
+        List<Ccodem> result = new ArrayList<>();
+        for (Ccodem code : current().byCttTp().getOrDefault(cttTp, List.of())) {
+            if (isValid(code, date)) {
+                result.add(code);
+            }
+        }
+        return result;
+    }
+
+    // =========================================================================
+    // 재적재
+    // =========================================================================
+
+    /**
+     * CCODEM 전체를 새 트랜잭션에서 읽어 사전을 교체하고 파생 캐시를 비움
+     *
+     * <p>
+     * 커밋 후 콜백에서 호출되어도 원래 트랜잭션의 영속성 컨텍스트를 쓰지 않도록 {@code REQUIRES_NEW}로 읽습니다.
+     * </p>
+     */
+    public void reload() {
+        long seq;
+        synchronized (this) {
+            seq = ++loadSeq;
+        }
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        List<Ccodem> codes = template.execute(status -> codeRepository.findAllActive());
+
+        Snapshot next = Snapshot.of(codes);
+        synchronized (this) {
+            if (seq < installedSeq) {
+                return;
+            }
+            snapshot = next;
+            installedSeq = seq;
+        }
+        for (String name : DERIVED_CACHES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.invalidate(); // 커밋 후 콜백 안에서도 즉시 비움 (clear는 트랜잭션 중이면 지연됨)
+            }
+        }
+        reloadListeners.forEach(Runnable::run);
+        log.debug("공통코드 사전 적재: {}건", next.size());
+    }
+
+    /**
+     * 트랜잭션 커밋 후 사전 재적재 (트랜잭션 밖이면 즉시, 롤백 시 생략)
+     */
+    public void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+        });
+    }
+
+    /**
+     * 사전 교체 후 실행할 작업 등록
+     *
+     * <p>
+     * 사전에서 만든 파생 색인(예: {@link IoeClassifier})이 이전 사전 기준 값을 버리도록 할 때 사용합니다.
+     * 재적재한 스레드(커밋 후 콜백, 폴링 스레드)에서 실행되므로 가볍게 유지합니다.
+     * </p>
+     *
+     * @param listener 교체 알림 작업
+     */
+    public void addReloadListener(Runnable listener) {
+        reloadListeners.add(listener);
+    }
+
+    // =========================================================================
+    // 내부 헬퍼
+    // =========================================================================
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                reload();
+            }
+            return snapshot;
+        }
+    }
+
+    private static boolean isValid(Ccodem code, LocalDate date) {
+        return (code.getSttDt() == null || !code.getSttDt().isAfter(date))
+                && (code.getEndDt() == null || !code.getEndDt().isBefore(date));
+    }
+
+    /**
+     * 불변 사전 색인
+     *
+     * @param byCdId  코드ID → 이력 (시작일자 내림차순)
+     * @param byCttTp 코드값구분 → 코드 목록 (findAllActive 정렬 순서 유지)
+     */
+    private record Snapshot(Map<String, List<Ccodem>> byCdId, Map<String, List<Ccodem>> byCttTp) {
+
+        static Snapshot of(List<Ccodem> codes) {
+            Map<String, List<Ccodem>> byCdId = new HashMap<>();
+            Map<String, List<Ccodem>> byCttTp = new HashMap<>();
+            for (Ccodem code : codes) {
+                byCdId.computeIfAbsent(code.getCdId(), k -> new ArrayList<>()).add(code);
+                if (code.getCttTp() != null) {
+                    byCttTp.computeIfAbsent(code.getCttTp(), k -> new ArrayList<>()).add(code);
+                }
+            }
+            byCdId.replaceAll((k, v) -> v.stream().sorted(LATEST_FIRST).toList());
+            byCttTp.replaceAll((k, v) -> List.copyOf(v));
+            return new Snapshot(Map.copyOf(byCdId), Map.copyOf(byCttTp));
+        }
+
+        int size() {
+            return byCdId.values().stream().mapToInt(List::size).sum();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.kdb.it.common.code.service;
 import com.kdb.it.common.code.dto.CodeDto;
 import com.kdb.it.common.code.entity.Ccodem;
 import com.kdb.it.common.code.repository.CodeRepository;
+import com.kdb.it.config.CacheConfig;
 import com.kdb.it.exception.CustomGeneralException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
@@ -19,6 +20,14 @@ import java.util.stream.Collectors;
  * <p>
  * 공통코드에 대한 비즈니스 로직(조회, 생성, 수정, 삭제)을 처리합니다.
  * </p>
+ *
+ * <p>
+ * 기준일자 조회는 DB 대신 {@link CodeDictionary}(CCODEM 전체 메모리 색인)에서 처리합니다.
+ * 코드값구분별 목록({@value CacheConfig#CODES_BY_TYPE})과 예산 신청 기간({@value CacheConfig#BUDGET_PERIOD})은
+ * 사전에서 만든 값을 캐시하며, 사전이 교체될 때 함께 비워집니다.
+ * 생성·수정·삭제 시 커밋 후 사전을 재적재하고, 다른 서버는 {@link CacheVersionService#publish}로 올린
+ * 변경버전을 폴링으로 감지해 재적재합니다.
+ * </p>
  */
 @Service
 @RequiredArgsConstructor
@@ -27,6 +36,10 @@ public class CodeService {
 
     private final CodeRepository codeRepository;
 
+    private final CodeDictionary codeDictionary;
+
+    private final CacheVersionService cacheVersionService;
+
     /**
      * 공통코드 단건 조회 (코드ID 기준)
      *
@@ -41,7 +54,7 @@ public class CodeService {
      * @throws IllegalArgumentException 해당 코드ID의 유효한 공통코드가 없는 경우
      */
     public CodeDto.Response getCcodemById(String cdId, LocalDate targetDate) {
-        Ccodem ccodem = codeRepository.findByCdIdWithValidDate(cdId, targetDate)
+        Ccodem ccodem = codeDictionary.find(cdId, targetDate)
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않거나 존재하지 않는 코드ID 입니다: " + cdId));
         return CodeDto.Response.fromEntity(ccodem);
     }
@@ -58,7 +71,7 @@ public class CodeService {
      * @return 공통코드 Response DTO 리스트
      */
     public List<CodeDto.Response> getCcodemByCttTp(String cttTp, LocalDate targetDate) {
-        List<Ccodem> ccodems = codeRepository.findByCttTpWithValidDate(cttTp, targetDate);
+        List<Ccodem> ccodems = codeDictionary.findByCttTp(cttTp, targetDate);
         return ccodems.stream()
                 .map(CodeDto.Response::fromEntity)
                 .collect(Collectors.toList());
@@ -83,6 +96,8 @@ public class CodeService {
 
         Ccodem ccodem = request.toEntity();
         codeRepository.save(ccodem);
+        codeDictionary.reloadAfterCommit();
+        cacheVersionService.publish(CodeDictionary.REGION);
         return ccodem.getCdId();
     }
 
@@ -113,6 +128,8 @@ public class CodeService {
                 request.getCdSqn(),
                 sttDt,
                 request.getEndDt());
+        codeDictionary.reloadAfterCommit();
+        cacheVersionService.publish(CodeDictionary.REGION);
 
         return ccodem.getCdId();
     }
@@ -134,33 +151,36 @@ public class CodeService {
                 .orElseThrow(() -> new IllegalArgumentException("삭제할 공통코드를 찾을 수 없거나 이미 삭제되었습니다: " + cdId + ", " + sttDt));
 
         ccodem.delete(); // BaseEntity의 delete() 호출 -> delYn = 'Y'
+        codeDictionary.reloadAfterCommit();
+        cacheVersionService.publish(CodeDictionary.REGION);
+    }
+
+    /**
+     * 코드값구분(cttTp)으로 공통코드 엔티티 목록 조회 (캐시 적용)
+     *
+     * <p>비목코드 등 정적 참조 데이터는 만료 시간({@code app.cache.codes-by-type.ttl-seconds})까지 캐시하며,
+     * 공통코드가 변경되어 사전이 교체되면 즉시 무효화됩니다.</p>
+     */
+    @Cacheable(value = CacheConfig.CODES_BY_TYPE, key = "#p0")
+    public List<Ccodem> findCodeEntitiesByCttTp(String cttTp) {
+        return codeDictionary.findByCttTp(cttTp, null);
     }
 
     /**
-     * 예산 신청 기간 조회
+     * 예산 신청 기간 조회 (캐시 적용)
      *
      * <p>
      * 공통코드 BG-RQS-STA(시작일자)와 BG-RQS-END(종료일자)를 조회하여
      * 예산 신청 가능 기간을 반환합니다.
      * </p>
      *
-     * @return 시작일자/종료일자를 담은 Map
-     */
-    /**
-     * 코드값구분(cttTp)으로 공통코드 엔티티 목록 조회 (캐시 적용)
-     *
-     * <p>비목코드 등 정적 참조 데이터는 서버 재시작 전까지 캐시합니다.</p>
+     * @return 시작일자/종료일자를 담은 응답 DTO
      */
-    @Cacheable(value = "codesByType", key = "#p0")
-    public List<Ccodem> findCodeEntitiesByCttTp(String cttTp) {
-        return codeRepository.findByCttTpWithValidDate(cttTp, null);
-    }
-
-    @Cacheable("budgetPeriod")
+    @Cacheable(CacheConfig.BUDGET_PERIOD)
     public CodeDto.BudgetPeriodResponse getBudgetPeriod() {
-        Ccodem startCode = codeRepository.findByCdIdWithValidDate("BG-RQS-STA", null)
+        Ccodem startCode = codeDictionary.find("BG-RQS-STA", null)
                 .orElseThrow(() -> new IllegalArgumentException("예산 신청기간 시작일자 코드를 찾을 수 없습니다: BG-RQS-STA"));
-        Ccodem endCode = codeRepository.findByCdIdWithValidDate("BG-RQS-END", null)
+        Ccodem endCode = codeDictionary.find("BG-RQS-END", null)
                 .orElseThrow(() -> new IllegalArgumentException("예산 신청기간 종료일자 코드를 찾을 수 없습니다: BG-RQS-END"));
 
         return CodeDto.BudgetPeriodResponse.builder()
@@ -177,6 +197,11 @@ public class CodeService {
      * CustomGeneralException을 발생시킵니다.
      * </p>
      *
+     * <p>
+     * 같은 클래스 안의 호출이라 {@link #getBudgetPeriod()}의 캐시를 거치지 않으므로,
+     * 신청 기간 코드를 수정하면 다음 검증부터 바로 반영됩니다.
+     * </p>
+     *
      * @throws CustomGeneralException 기간 외인 경우 400 Bad Request
      */
     public void validateBudgetPeriod() {
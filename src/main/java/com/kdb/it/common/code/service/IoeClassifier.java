@@ -0,0 +1,318 @@
+package com.kdb.it.common.code.service;
+
+import com.kdb.it.common.code.entity.Ccodem;
+import com.kdb.it.common.util.PrefixTrie;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 비목코드(IOE) 예산 분류기
+ *
+ * <p>
+ * 비목코드를 자본예산(개발비/기계장치/기타무형자산/기타)·일반관리비(전산임차료/전산여비/전산용역비/전산제비/기타)로
+ * 분류하는 규칙을
+ * 사업(ProjectService)·전산업무비(CostService)·예산작업(BudgetWorkService)·예산현황(BudgetStatusQueryRepositoryImpl)이
+ * 함께 쓰도록 한곳에 모읍니다.
+ * </p>
+ *
+ * <ul>
+ * <li>분류표: {@link CodeDictionary}의 IOE_CPIT(자본예산, 코드설명으로 세부 분류)와
+ * {@link #COST_CTT_TPS}(일반관리비, 코드설명의 그룹명으로 세부 분류) 코드로 한 번 만든 불변 {@link Table}.
+ * 코드ID 해시 조회 1회로 분류하며, 자본예산 접두어 판별은 {@link PrefixTrie}로 코드 길이만큼만 비교합니다.</li>
+ * <li>갱신: 공통코드 사전이 교체되거나({@link CodeDictionary#addReloadListener}) 날짜가 바뀌면 다음 조회에서 다시 만듭니다.</li>
+ * <li>합계: {@link Totals}가 분류별 금액을 배열 하나에 한 번의 순회로 누적합니다.</li>
+ * <li>SQL 집계: 예산현황처럼 DB에서 피벗하는 조회는 {@link Table#cdIds}로 분류별 코드ID 목록을 받아 IN 조건으로 씁니다.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class IoeClassifier {
+
+    /** 자본예산 코드값구분 */
+    public static final String CAPITAL_CTT_TP = "IOE_CPIT";
+
+    /** 일반관리비 코드값구분 */
+    public static final List<String> COST_CTT_TPS = List.of("IOE_IDR", "IOE_SEVS", "IOE_XPN", "IOE_LEAFE");
+
+    private final CodeDictionary codeDictionary;
+
+    /** 현재 분류표 (미생성·무효화 시 null) */
+    private volatile Table table;
+
+    /** 사전 교체 횟수 — 교체 전에 만들기 시작한 분류표가 새 분류표를 덮지 않도록 함 */
+    private long epoch;
+
+    /**
+     * 공통코드 사전 교체 시 분류표 무효화 등록
+     */
+    @PostConstruct
+    void init() {
+        codeDictionary.addReloadListener(this::invalidate);
+    }
+
+    /**
+     * 오늘 기준 분류표 조회 (요청 단위로 한 번 받아 재사용)
+     *
+     * @return 불변 분류표
+     */
+    public Table table() {
+        LocalDate today = LocalDate.now();
+        Table current = table;
+        if (current != null && current.date().equals(today)) {
+            return current;
+        }
+        long startEpoch;
+        synchronized (this) {
+            startEpoch = epoch;
+        }
+        Table next = Table.of(codeDictionary.findByCttTp(CAPITAL_CTT_TP, today),
+                COST_CTT_TPS.stream().flatMap(cttTp -> codeDictionary.findByCttTp(cttTp, today).stream()).toList(),
+                today);
+        synchronized (this) {
+            if (startEpoch == epoch) {
+                table = next;
+            }
+        }
+        return next;
+    }
+
+    private synchronized void invalidate() {
+        epoch++;
+        table = null;
+    }
+
+    /**
+     * 비목 분류
+     */
+    public enum Category {
+        /** 자본예산 - 개발비 */
+        DEV(true, false),
+        /** 자본예산 - 기계장치 */
+        MACH(true, false),
+        /** 자본예산 - 기타무형자산 */
+        INTAN(true, false),
+        /** 자본예산 - 세부 분류 없음 */
+        ASSET_OTHER(true, false),
+        /** 일반관리비 - 전산임차료 */
+        RENT(false, true),
+        /** 일반관리비 - 전산여비 */
+        TRAVEL(false, true),
+        /** 일반관리비 - 전산용역비 */
+        SERVICE(false, true),
+        /** 일반관리비 - 전산제비 */
+        MISC(false, true),
+        /** 일반관리비 - 세부 분류 없음 */
+        COST_OTHER(false, true),
+        /** 분류 대상 아님 */
+        NONE(false, false);
+
+        private final boolean capital;
+        private final boolean cost;
+
+        Category(boolean capital, boolean cost) {
+            this.capital = capital;
+            this.cost = cost;
+        }
+
+        /** 자본예산 여부 */
+        public boolean capital() {
+            return capital;
+        }
+
+        /** 일반관리비 여부 */
+        public boolean cost() {
+            return cost;
+        }
+
+        /** 자본예산 코드설명(cdDes) → 세부 분류 */
+        static Category ofCapitalDescription(String cdDes) {
+            if (cdDes == null) {
+                return ASSET_OTHER;
+            }
+            return switch (cdDes) {
+                case "개발비" -> DEV;
+                case "기계장치" -> MACH;
+                case "기타무형자산" -> INTAN;
+                default -> ASSET_OTHER;
+            };
+        }
+
+        /**
+         * 일반관리비 코드설명(없으면 코드명) → 세부 분류
+         *
+         * <p>{@code "전산임차료 - 국내전산임차료"}처럼 " - " 앞의 그룹명으로 판단합니다.</p>
+         */
+        static Category ofCostDescription(String name) {
+            if (name == null) {
+                return COST_OTHER;
+            }
+            int dashIdx = name.indexOf(" - ");
+            String group = (dashIdx >= 0 ? name.substring(0, dashIdx) : name).strip();
+            return switch (group) {
+                case "전산임차료" -> RENT;
+                case "전산여비" -> TRAVEL;
+                case "전산용역비" -> SERVICE;
+                case "전산제비" -> MISC;
+                default -> COST_OTHER;
+            };
+        }
+    }
+
+    /**
+     * 불변 분류표
+     *
+     * @param byCdId          비목코드 → 분류 (자본예산이 일반관리비보다 우선)
+     * @param byCategory      분류 → 비목코드 목록 (SQL IN 조건용, 코드ID 순)
+     * @param capitalPrefixes 자본예산 접두어 (코드ID 및 마지막 '-' 앞부분, 예: IOE-351-0100 → IOE-351)
+     * @param date            기준일자
+     */
+    public record Table(Map<String, Category> byCdId, Map<Category, List<String>> byCategory,
+            PrefixTrie capitalPrefixes, LocalDate date) {
+
+        /**
+         * 분류표 생성
+         *
+         * @param capitalCodes 자본예산(IOE_CPIT) 코드
+         * @param costCodes    일반관리비 코드
+         * @param date         기준일자
+         * @return 분류표
+         */
+        public static Table of(List<Ccodem> capitalCodes, List<Ccodem> costCodes, LocalDate date) {
+            Map<String, Category> byCdId = new HashMap<>();
+            Set<String> prefixes = new HashSet<>();
+            for (Ccodem code : capitalCodes) {
+                String cdId = code.getCdId();
+                byCdId.putIfAbsent(cdId, Category.ofCapitalDescription(code.getCdDes()));
+                int lastDash = cdId.lastIndexOf('-');
+                if (lastDash > 0) {
+                    prefixes.add(cdId.substring(0, lastDash));
+                }
+                prefixes.add(cdId);
+            }
+            for (Ccodem code : costCodes) {
+                byCdId.putIfAbsent(code.getCdId(), Category.ofCostDescription(
+                        code.getCdDes() != null ? code.getCdDes() : code.getCdNm()));
+            }
+            Map<Category, List<String>> byCategory = new EnumMap<>(Category.class);
+            byCdId.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(e -> byCategory.computeIfAbsent(e.getValue(), k -> new ArrayList<>()).add(e.getKey()));
+            byCategory.replaceAll((category, cdIds) -> List.copyOf(cdIds));
+            return new Table(Map.copyOf(byCdId), Collections.unmodifiableMap(byCategory),
+                    new PrefixTrie(prefixes), date);
+        }
+
+        /**
+         * 분류에 속한 비목코드 목록 (SQL IN 조건용)
+         *
+         * @param category 분류
+         * @return 코드ID 목록 (없으면 빈 목록)
+         */
+        public List<String> cdIds(Category category) {
+            return byCategory.getOrDefault(category, List.of());
+        }
+
+        /**
+         * 비목코드 분류 (코드ID 완전 일치)
+         *
+         * @param ioeC 비목코드 (null 허용)
+         * @return 분류 (해당 없으면 {@link Category#NONE})
+         */
+        public Category classify(String ioeC) {
+            if (ioeC == null) {
+                return Category.NONE;
+            }
+            return byCdId.getOrDefault(ioeC, Category.NONE);
+        }
+
+        /**
+         * 자본예산 비목 여부 (접두어 매칭)
+         *
+         * <p>자본예산 코드의 상위 접두어(예: IOE-351)로 시작하는 하위 비목도 자본예산으로 봅니다.</p>
+         *
+         * @param ioeC 비목코드 (null이면 false)
+         * @return 자본예산이면 true
+         */
+        public boolean isCapital(String ioeC) {
+            return capitalPrefixes.matchesAny(ioeC);
+        }
+
+        /**
+         * 비목코드별 금액을 분류별로 한 번에 합산
+         *
+         * @param amountByIoeC 비목코드 → 금액
+         * @return 분류별 합계
+         */
+        public Totals sum(Map<String, BigDecimal> amountByIoeC) {
+            Totals totals = new Totals();
+            for (Map.Entry<String, BigDecimal> e : amountByIoeC.entrySet()) {
+                totals.add(classify(e.getKey()), e.getValue());
+            }
+            return totals;
+        }
+    }
+
+    /**
+     * 분류별 금액 누적기 (분류 순번으로 색인한 배열, 스레드 안전하지 않음)
+     */
+    public static final class Totals {
+
+        private final BigDecimal[] amounts = new BigDecimal[Category.values().length];
+
+        public Totals() {
+            Arrays.fill(amounts, BigDecimal.ZERO);
+        }
+
+        /**
+         * 금액 누적
+         *
+         * @param category 분류
+         * @param amount   금액 (null이면 무시)
+         */
+        public void add(Category category, BigDecimal amount) {
+            if (amount != null) {
+                amounts[category.ordinal()] = amounts[category.ordinal()].add(amount);
+            }
+        }
+
+        /** 분류별 합계 */
+        public BigDecimal get(Category category) {
+            return amounts[category.ordinal()];
+        }
+
+        /** 자본예산 합계 (세부 분류 전체) */
+        public BigDecimal asset() {
+            BigDecimal sum = BigDecimal.ZERO;
+            for (Category category : Category.values()) {
+                if (category.capital()) {
+                    sum = sum.add(amounts[category.ordinal()]);
+                }
+            }
+            return sum;
+        }
+
+        /** 일반관리비 합계 (세부 분류 전체) */
+        public BigDecimal cost() {
+            BigDecimal sum = BigDecimal.ZERO;
+            for (Category category : Category.values()) {
+                if (category.cost()) {
+                    sum = sum.add(amounts[category.ordinal()]);
+                }
+            }
+            return sum;
+        }
+    }
+}
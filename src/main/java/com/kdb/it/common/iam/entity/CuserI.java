@@ -4,7 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import lombok.experimental.SuperBuilder;
-import com.kdb.it.common.util.CustomPasswordEncoder;
+import com.kdb.it.common.util.PasswordEncoderFactory;
 import com.kdb.it.domain.entity.BaseEntity;
 
 /**
@@ -46,11 +46,11 @@ public class CuserI extends BaseEntity {
     private String eno;
 
     /**
-     * 사용자암호화패스워드: SHA-256으로 암호화된 비밀번호
-     * {@link CustomPasswordEncoder}로 암호화하여 저장합니다.
-     * 최대 64자 (SHA-256 + Base64 인코딩 결과)
+     * 사용자암호화패스워드: {@code {id}해시} 형식의 비밀번호 해시
+     * {@link PasswordEncoderFactory}의 위임 인코더로 암호화하여 저장합니다.
+     * 최대 128자 ({@code {pbkdf2}} 104자, {@code {bcrypt}} 68자, 접두어 없는 기존 SHA-256 44자)
      */
-    @Column(name = "USR_ECY_PWD", length = 64, comment = "사용자암호화패스워드")
+    @Column(name = "USR_ECY_PWD", length = 128, comment = "사용자암호화패스워드")
     private String usrEcyPwd;
 
     /**
@@ -210,10 +210,10 @@ public class CuserI extends BaseEntity {
      *
      * <p>
      * 암호화된 비밀번호로 업데이트합니다.
-     * 반드시 {@link CustomPasswordEncoder}로 암호화한 값을 전달해야 합니다.
+     * 반드시 {@link PasswordEncoderFactory}의 위임 인코더로 암호화한 값을 전달해야 합니다.
      * </p>
      *
-     * @param password SHA-256으로 암호화된 비밀번호 문자열
+     * @param password {@code {id}} 접두어가 붙은 비밀번호 해시 문자열
      */
     public void updatePassword(String password) {
         this.usrEcyPwd = password;
@@ -2,8 +2,12 @@ package com.kdb.it.common.iam.repository;
 
 import com.kdb.it.common.iam.entity.CuserI;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -75,6 +79,21 @@ public interface UserRepository extends JpaRepository<CuserI, String>, UserRepos
      */
     List<CuserI> findByEnoIn(Collection<String> enos);
 
+    /**
+     * 사번(ENO) 목록으로 사용자 다건 조회 (조직 정보 즉시 로딩)
+     *
+     * <p>
+     * {@link com.kdb.it.common.iam.service.DirectoryCacheService}가 캐시 미적중 사번을
+     * 한 번에 적재할 때 사용합니다. 부점명(bbrNm)까지 요약에 담기 위해
+     * {@code organization}(CorgnI)을 JOIN FETCH로 함께 조회합니다.
+     * </p>
+     *
+     * @param enos 조회할 사번 컬렉션
+     * @return 해당 사번들의 사용자 목록 (조직 정보 포함)
+     */
+    @org.springframework.data.jpa.repository.EntityGraph(attributePaths = "organization")
+    List<CuserI> findWithOrganizationByEnoIn(Collection<String> enos);
+
     /**
      * 사번(ENO) 존재 여부 확인
      *
@@ -99,4 +118,22 @@ public interface UserRepository extends JpaRepository<CuserI, String>, UserRepos
      * @return 해당 팀의 사용자 목록
      */
     java.util.List<CuserI> findByTemC(String temC);
+
+    /**
+     * 비밀번호 해시 교체 (조건부 UPDATE)
+     *
+     * <p>로그인 시 검증에 사용한 해시가 아직 저장되어 있을 때만 새 해시로 바꿉니다.
+     * 검증과 저장 사이에 관리자가 비밀번호를 초기화했다면 0을 반환하고 초기화된 값을 그대로 둡니다.</p>
+     *
+     * @param eno          사번
+     * @param verifiedHash 로그인 검증에 사용한 기존 해시
+     * @param newHash      새 비밀번호 해시
+     * @param changedAt    변경 일시 (최종변경일시에 기록)
+     * @return 변경된 행 수 (0이면 그 사이 비밀번호가 바뀜)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CuserI u SET u.usrEcyPwd = :newHash, u.lstChgDtm = :changedAt"
+            + " WHERE u.eno = :eno AND u.usrEcyPwd = :verifiedHash")
+    int updatePasswordIfUnchanged(@Param("eno") String eno, @Param("verifiedHash") String verifiedHash,
+            @Param("newHash") String newHash, @Param("changedAt") LocalDateTime changedAt);
 }
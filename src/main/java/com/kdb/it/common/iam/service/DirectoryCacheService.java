@@ -0,0 +1,339 @@
+package com.kdb.it.common.iam.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kdb.it.common.iam.entity.CorgnI;
+import com.kdb.it.common.iam.entity.CuserI;
+import com.kdb.it.common.iam.repository.OrganizationRepository;
+import com.kdb.it.common.iam.repository.UserRepository;
+import com.kdb.it.common.util.InClauseUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 사용자·조직 이름 변환용 near-cache 서비스
+ *
+ * <p>
+ * 목록 화면에서 사번(ENO) → 사용자명, 조직코드 → 부점명 변환을 행마다
+ * {@code TAAABB_CUSERI}/{@code TAAABB_CORGNI} PK 조회로 처리하던 것을 애플리케이션 메모리 캐시로 대체합니다.
+ * 캐시 미적중 키만 모아 IN 조회 한 번(1,000건 단위 분할)으로 적재합니다.
+ * </p>
+ *
+ * <ul>
+ * <li>크기 제한: 캐시별 최대 {@code app.directory-cache.max-size}건, 초과 시 Caffeine 정책(사용 빈도·최근성)으로 제거</li>
+ * <li>만료: 적재 후 {@code app.directory-cache.ttl-seconds}초가 지나면 다시 조회</li>
+ * <li>무효화: {@link com.kdb.it.common.admin.service.AdminService}의 사용자·조직 등록/수정/삭제 시
+ * 트랜잭션 커밋 후 해당 항목 제거 (조직 변경은 부점명을 담은 사용자 요약도 함께 제거)</li>
+ * <li>DB에 없는 키도 만료 시간 동안 "없음"으로 캐시하여 반복 조회하지 않습니다.</li>
+ * </ul>
+ *
+ * <p>
+ * [메트릭] 공통코드 캐시({@link com.kdb.it.config.CacheConfig})와 같은 Caffeine 통계 메트릭
+ * {@code cache.gets}(태그 {@code cache}=directory.user/directory.org, {@code result}=hit/miss),
+ * {@code cache.size}, {@code cache.evictions}
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class DirectoryCacheService {
+
+    private final UserRepository userRepository;
+
+    private final OrganizationRepository organizationRepository;
+
+    private final MeterRegistry meterRegistry;
+
+    /** 캐시별 최대 적재 건수 */
+    @Value("${app.directory-cache.max-size:10000}")
+    private int maxSize;
+
+    /** 캐시 항목 유효 시간 (초) */
+    @Value("${app.directory-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private DirectoryCache<UserSummary> userCache;
+    private DirectoryCache<String> orgCache;
+
+    /**
+     * 사용자 요약 정보 (캐시 값)
+     *
+     * @param eno   사번
+     * @param usrNm 사용자명
+     * @param bbrC  부서코드
+     * @param bbrNm 부점명
+     * @param temC  팀코드
+     * @param ptCNm 직위명
+     */
+    public record UserSummary(String eno, String usrNm, String bbrC, String bbrNm, String temC, String ptCNm) {
+
+        static UserSummary from(CuserI user) {
+            return new UserSummary(user.getEno(), user.getUsrNm(), user.getBbrC(), user.getBbrNm(),
+                    user.getTemC(), user.getPtCNm());
+        }
+    }
+
+    /**
+     * 캐시·메트릭 초기화
+     */
+    @PostConstruct
+    void init() {
+        userCache = new DirectoryCache<>("directory.user", maxSize, Duration.ofSeconds(ttlSeconds), meterRegistry);
+        orgCache = new DirectoryCache<>("directory.org", maxSize, Duration.ofSeconds(ttlSeconds), meterRegistry);
+    }
+
+    // =========================================================================
+    // 사용자 (TAAABB_CUSERI)
+    // =========================================================================
+
+    /**
+     * 사번 목록의 사용자 요약 일괄 조회
+     *
+     * @param enos 사번 목록 (null·중복 허용)
+     * @return 사번 → 사용자 요약 (DB에 없는 사번은 제외)
+     */
+    public Map<String, UserSummary> getUsers(Collection<String> enos) {
+        return userCache.getAll(enos, this::loadUsers);
+    }
+
+    /**
+     * 사용자 요약 단건 조회
+     *
+     * @param eno 사번
+     * @return 사용자 요약 (없거나 null이면 {@link Optional#empty()})
+     */
+    public Optional<UserSummary> getUser(String eno) {
+        if (eno == null || eno.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(getUsers(List.of(eno)).get(eno));
+    }
+
+    /**
+     * 사번 목록의 사용자명 일괄 조회
+     *
+     * @param enos 사번 목록 (null·중복 허용)
+     * @return 사번 → 사용자명 (DB에 없거나 이름이 없는 사번은 제외)
+     */
+    public Map<String, String> getUserNames(Collection<String> enos) {
+        Map<String, String> names = new HashMap<>();
+        getUsers(enos).forEach((eno, user) -> {
+            if (user.usrNm() != null) {
+                names.put(eno, user.usrNm());
+            }
+        });
+        return names;
+    }
+
+    /**
+     * 사용자명 단건 조회
+     *
+     * @param eno 사번
+     * @return 사용자명 (없으면 null)
+     */
+    public String getUserName(String eno) {
+        return getUser(eno).map(UserSummary::usrNm).orElse(null);
+    }
+
+    /**
+     * 사용자 캐시 항목 무효화 (트랜잭션 안이면 커밋 후)
+     *
+     * @param eno 사번
+     */
+    public void invalidateUser(String eno) {
+        afterCommit(() -> userCache.invalidate(eno));
+    }
+
+    // =========================================================================
+    // 조직 (TAAABB_CORGNI)
+    // =========================================================================
+
+    /**
+     * 조직코드 목록의 부점명 일괄 조회
+     *
+     * @param orgCodes 조직코드 목록 (null·중복 허용)
+     * @return 조직코드 → 부점명 (DB에 없거나 이름이 없는 조직은 제외)
+     */
+    public Map<String, String> getOrgNames(Collection<String> orgCodes) {
+        return orgCache.getAll(orgCodes, this::loadOrgNames);
+    }
+
+    /**
+     * 부점명 단건 조회
+     *
+     * @param orgCode 조직코드
+     * @return 부점명 (없으면 null)
+     */
+    public String getOrgName(String orgCode) {
+        if (orgCode == null || orgCode.isEmpty()) {
+            return null;
+        }
+        return getOrgNames(List.of(orgCode)).get(orgCode);
+    }
+
+    /**
+     * 조직 캐시 항목 무효화 (트랜잭션 안이면 커밋 후)
+     *
+     * <p>
+     * 사용자 요약에 부점명이 포함되므로 사용자 캐시도 전체 비웁니다.
+     * </p>
+     *
+     * @param orgCode 조직코드
+     */
+    public void invalidateOrg(String orgCode) {
+        afterCommit(() -> {
+            orgCache.invalidate(orgCode);
+            userCache.invalidateAll();
+        });
+    }
+
+    /**
+     * 사용자·조직 캐시 전체 무효화 (트랜잭션 안이면 커밋 후)
+     */
+    public void invalidateAll() {
+        afterCommit(() -> {
+            orgCache.invalidateAll();
+            userCache.invalidateAll();
+        });
+    }
+
+    // =========================================================================
+    // 내부 헬퍼
+    // =========================================================================
+
+    private Map<String, UserSummary> loadUsers(List<String> enos) {
+        Map<String, UserSummary> loaded = new HashMap<>();
+        for (CuserI user : InClauseUtil.fetchInChunks(enos, userRepository::findWithOrganizationByEnoIn)) {
+            loaded.put(user.getEno(), UserSummary.from(user));
+        }
+        return loaded;
+    }
+
+    private Map<String, String> loadOrgNames(List<String> orgCodes) {
+        Map<String, String> loaded = new HashMap<>();
+        for (CorgnI org : InClauseUtil.fetchInChunks(orgCodes, organizationRepository::findAllById)) {
+            loaded.put(org.getPrlmOgzCCone(), org.getBbrNm());
+        }
+        return loaded;
+    }
+
+    /**
+     * 트랜잭션 동기화가 활성화되어 있으면 커밋 후, 아니면 즉시 실행
+     *
+     * <p>
+     * 커밋 전에 무효화하면 다른 요청이 변경 전 값을 다시 적재할 수 있으므로 커밋 후에 제거합니다.
+     * 롤백되면 무효화하지 않습니다.
+     * </p>
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 크기 제한 + TTL Caffeine 캐시
+     *
+     * <p>
+     * "DB에 없음"은 빈 {@link Optional}로 캐시하며 조회 결과에서 제외됩니다.
+     * 적재 중 무효화가 일어나면({@code generation} 변경) 적재 결과를 캐시에 넣지 않아
+     * 변경 전 값이 남지 않도록 합니다.
+     * </p>
+     */
+    private static final class DirectoryCache<V> {
+
+        private final Cache<String, Optional<V>> cache;
+        private long generation;
+
+        DirectoryCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfterWrite(ttl)
+                    // 만료·크기 초과 제거를 호출 스레드에서 바로 수행 (공용 ForkJoinPool 미사용)
+                    .executor(Runnable::run)
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        }
+
+        Map<String, V> getAll(Collection<String> keys, Function<List<String>, Map<String, V>> loader) {
+            Set<String> requested = new LinkedHashSet<>();
+            for (String key : keys) {
+                if (key != null && !key.isEmpty()) {
+                    requested.add(key);
+                }
+            }
+            if (requested.isEmpty()) {
+                return new HashMap<>();
+            }
+
+            long loadGeneration;
+            synchronized (this) {
+                loadGeneration = generation;
+            }
+            Map<String, Optional<V>> present = cache.getAllPresent(requested);
+            Map<String, V> result = new HashMap<>();
+            List<String> missing = new ArrayList<>();
+            for (String key : requested) {
+                Optional<V> cached = present.get(key);
+                if (cached == null) {
+                    missing.add(key);
+                } else {
+                    cached.ifPresent(value -> result.put(key, value));
+                }
+            }
+            if (missing.isEmpty()) {
+                return result;
+            }
+
+            Map<String, V> loaded = loader.apply(missing);
+            Map<String, Optional<V>> toCache = new HashMap<>();
+            for (String key : missing) {
+                V value = loaded.get(key);
+                toCache.put(key, Optional.ofNullable(value));
+                if (value != null) {
+                    result.put(key, value);
+                }
+            }
+            synchronized (this) {
+                if (loadGeneration == generation) {
+                    cache.putAll(toCache);
+                }
+            }
+            return result;
+        }
+
+        synchronized void invalidate(String key) {
+            generation++;
+            cache.invalidate(key);
+        }
+
+        synchronized void invalidateAll() {
+            generation++;
+            cache.invalidateAll();
+        }
+    }
+}
@@ -133,7 +133,7 @@ public class AuthController {
      *
      * <p>
      * 만료된 Access Token 대신 유효한 Refresh Token(쿠키)을 사용하여
-     * 새로운 Access Token을 httpOnly 쿠키로 발급받습니다.
+     * 새로운 Access Token과 교체된 Refresh Token을 httpOnly 쿠키로 발급받습니다.
      * </p>
      *
      * <p>
@@ -142,16 +142,15 @@ public class AuthController {
      * <ol>
      * <li>요청 쿠키에서 Refresh Token 추출</li>
      * <li>JwtUtil로 토큰 서명 검증</li>
-     * <li>DB(REFRESH_TOKEN 테이블)에서 토큰 조회</li>
-     * <li>토큰 만료 여부 확인</li>
-     * <li>새 Access Token 생성 → httpOnly 쿠키로 전달</li>
+     * <li>DB(TAAABB_CRTOKM)에서 토큰 해시로 조회, 교체(재사용)·만료 여부 확인</li>
+     * <li>새 Access Token·Refresh Token 생성 → httpOnly 쿠키로 전달</li>
      * </ol>
      *
      * @param httpRequest HTTP 요청 객체 (쿠키에서 Refresh Token 추출)
-     * @return HTTP 200 + Set-Cookie(새 accessToken) + "토큰 갱신 성공"
+     * @return HTTP 200 + Set-Cookie(새 accessToken, refreshToken) + "토큰 갱신 성공"
      */
     @PostMapping("/refresh")
-    @Operation(summary = "토큰 갱신", description = "Refresh Token 쿠키를 사용하여 새로운 Access Token을 발급받습니다.")
+    @Operation(summary = "토큰 갱신", description = "Refresh Token 쿠키를 사용하여 새로운 Access Token과 교체된 Refresh Token을 발급받습니다.")
     public ResponseEntity<String> refresh(HttpServletRequest httpRequest) {
         // 쿠키에서 Refresh Token 추출
         String refreshToken = extractCookieValue(httpRequest, CookieUtil.REFRESH_TOKEN_COOKIE);
@@ -160,14 +159,16 @@ public class AuthController {
             return ResponseEntity.status(401).body("Refresh Token 쿠키가 없습니다.");
         }
 
-        // Refresh Token 검증 및 새 Access Token 발급
+        // Refresh Token 검증 및 새 Access Token·Refresh Token 발급 (Refresh Token 교체)
         AuthDto.RefreshResponse response = authService.refreshAccessToken(refreshToken);
 
-        // 새 Access Token을 httpOnly 쿠키로 설정
+        // 새 Access Token, 교체된 Refresh Token을 httpOnly 쿠키로 설정
         ResponseCookie accessCookie = cookieUtil.createAccessTokenCookie(response.getAccessToken());
+        ResponseCookie refreshCookie = cookieUtil.createRefreshTokenCookie(response.getRefreshToken());
 
         return ResponseEntity.ok()
                 .header(HttpHeaders.SET_COOKIE, accessCookie.toString())
+                .header(HttpHeaders.SET_COOKIE, refreshCookie.toString())
                 .body("토큰 갱신 성공");
     }
 
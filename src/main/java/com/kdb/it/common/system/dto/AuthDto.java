@@ -27,7 +27,7 @@ import java.util.List;
  * <li>{@link LoginResponse}: 로그인 응답 (Access Token + Refresh Token + 사용자
  * 정보)</li>
  * <li>{@link RefreshRequest}: Access Token 갱신 요청 (Refresh Token)</li>
- * <li>{@link RefreshResponse}: Access Token 갱신 응답 (새 Access Token)</li>
+ * <li>{@link RefreshResponse}: Access Token 갱신 응답 (새 Access Token, 교체된 Refresh Token)</li>
  * </ul>
  */
 public class AuthDto {
@@ -40,7 +40,7 @@ public class AuthDto {
      * </p>
      *
      * <p>
-     * 비밀번호는 평문으로 전송되며, 서버에서 SHA-256 + Base64 방식으로 변환하여
+     * 비밀번호는 평문으로 전송되며, 서버에서 저장값의 알고리즘(bcrypt 등, 기존 SHA-256 포함)으로 해시하여
      * DB에 저장된 암호화된 비밀번호와 비교합니다.
      * </p>
      */
@@ -53,7 +53,7 @@ public class AuthDto {
         @Schema(description = "사번")
         private String eno;
 
-        /** 비밀번호 (평문, 서버에서 SHA-256+Base64 해싱 후 비교) */
+        /** 비밀번호 (평문, 서버에서 저장값 알고리즘으로 해싱 후 비교) */
         @Schema(description = "비밀번호")
         private String password;
     }
@@ -84,7 +84,7 @@ public class AuthDto {
         @Schema(description = "이름")
         private String empNm;
 
-        /** 비밀번호 (평문, 저장 시 SHA-256+Base64로 암호화) */
+        /** 비밀번호 (평문, 저장 시 설정된 알고리즘(기본 bcrypt)으로 해시) */
         @Schema(description = "비밀번호")
         private String password;
 
@@ -208,7 +208,7 @@ public class AuthDto {
      * Access Token 갱신 응답 DTO
      *
      * <p>
-     * Refresh Token 검증 성공 시 새로 발급된 Access Token을 반환합니다.
+     * Refresh Token 검증 성공 시 새로 발급된 Access Token과 교체된 Refresh Token을 반환합니다.
      * </p>
      */
     @Getter
@@ -226,5 +226,15 @@ public class AuthDto {
          */
         @Schema(description = "새로운 Access Token")
         private String accessToken;
+
+        /**
+         * 교체 발급된 JWT Refresh Token
+         * <p>
+         * 갱신할 때마다 새 토큰으로 교체됩니다. 컨트롤러에서 httpOnly 쿠키로만 전달됩니다.
+         * </p>
+         */
+        @Schema(hidden = true)
+        @JsonIgnore
+        private String refreshToken;
     }
 }
@@ -0,0 +1,213 @@
+package com.kdb.it.common.system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 목록 페이지 조회 관련 DTO 클래스 모음
+ *
+ * <p>정보화사업·전산관리비 등 목록 API의 서버 측 페이지 조회에 공통으로 사용하는 DTO를
+ * 정적 중첩 클래스(Static Nested Class) 형태로 관리합니다.</p>
+ *
+ * <p>두 가지 조회 방식을 지원합니다:</p>
+ * <ul>
+ *   <li>오프셋(offset): {@code page}/{@code size}/{@code sort}/{@code direction}으로 임의 페이지 이동</li>
+ *   <li>키셋(keyset): 최초등록일시 내림차순 고정, 직전 페이지의 {@code nextCursor} 이후 행부터 조회
+ *       (뒤 페이지로 갈수록 느려지는 OFFSET 스캔이 없음)</li>
+ * </ul>
+ *
+ * <p>포함된 DTO:</p>
+ * <ul>
+ *   <li>{@link Request}: 페이지 조회 요청 (Query Parameter)</li>
+ *   <li>{@link Cursor}: 키셋 커서 (최초등록일시 + 관리번호 + 일련번호)</li>
+ *   <li>{@link Response}: 페이지 조회 응답</li>
+ * </ul>
+ */
+public class PageDto {
+
+    /** 기본 페이지 크기 */
+    public static final int DEFAULT_SIZE = 20;
+
+    /** 최대 페이지 크기 (과도한 한 번 조회 방지) */
+    public static final int MAX_SIZE = 200;
+
+    /**
+     * 페이지 조회 요청 DTO
+     *
+     * <p>검색 조건 DTO와 함께 {@code @ModelAttribute}로 바인딩됩니다.
+     * 잘못된 값(음수 페이지, 0 이하 크기 등)은 기본값으로 보정합니다.</p>
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @Schema(name = "PageRequest", description = "목록 페이지 조회 요청")
+    public static class Request {
+
+        /** 조회 방식: {@code offset}(기본) 또는 {@code keyset} */
+        @Schema(description = "조회 방식 (offset/keyset). 미입력 시 offset", example = "offset")
+        private String mode;
+
+        /** 페이지 번호 (0부터 시작, offset 방식에서만 사용) */
+        @Schema(description = "페이지 번호 (0부터, offset 방식)", example = "0")
+        private Integer page;
+
+        /** 페이지 크기 (1 ~ {@value PageDto#MAX_SIZE}) */
+        @Schema(description = "페이지 크기 (최대 200)", example = "20")
+        private Integer size;
+
+        /** 정렬 필드 (offset 방식에서만 사용, 허용 필드는 API별로 다름) */
+        @Schema(description = "정렬 필드 (offset 방식). 미입력 시 최초등록일시", example = "fstEnrDtm")
+        private String sort;
+
+        /** 정렬 방향: {@code asc} 또는 {@code desc}(기본) */
+        @Schema(description = "정렬 방향 (asc/desc). 미입력 시 desc", example = "desc")
+        private String direction;
+
+        /** 키셋 커서 (직전 응답의 nextCursor, 미입력 시 첫 페이지) */
+        @Schema(description = "키셋 커서 (직전 응답의 nextCursor). 미입력 시 첫 페이지")
+        private String cursor;
+
+        /** 전체 건수 조회 여부 (false면 COUNT 쿼리 생략) */
+        @Schema(description = "전체 건수 조회 여부. false면 totalElements가 null", example = "true")
+        private Boolean withCount;
+
+        /**
+         * 키셋 방식 여부
+         *
+         * @return {@code mode=keyset}이거나 커서가 전달되면 true
+         */
+        public boolean isKeyset() {
+            return "keyset".equalsIgnoreCase(mode) || (cursor != null && !cursor.isBlank());
+        }
+
+        /**
+         * 보정된 페이지 번호 (키셋 방식이면 항상 0)
+         *
+         * @return 0 이상의 페이지 번호
+         */
+        public int safePage() {
+            return isKeyset() || page == null ? 0 : Math.max(page, 0);
+        }
+
+        /**
+         * 보정된 페이지 크기
+         *
+         * @return 1 ~ {@value PageDto#MAX_SIZE} 범위의 페이지 크기
+         */
+        public int safeSize() {
+            return size == null ? DEFAULT_SIZE : Math.min(Math.max(size, 1), MAX_SIZE);
+        }
+
+        /**
+         * 오프셋 방식 시작 행 위치
+         *
+         * @return {@code page × size}
+         */
+        public long offset() {
+            return (long) safePage() * safeSize();
+        }
+
+        /**
+         * 오름차순 정렬 여부
+         *
+         * @return {@code direction=asc}이면 true
+         */
+        public boolean isAscending() {
+            return "asc".equalsIgnoreCase(direction);
+        }
+
+        /**
+         * 전체 건수 조회 여부 (미입력 시 조회)
+         *
+         * @return {@code withCount}가 false가 아니면 true
+         */
+        public boolean isCountRequested() {
+            return !Boolean.FALSE.equals(withCount);
+        }
+
+        /**
+         * 키셋 커서 해석
+         *
+         * @return 커서 (첫 페이지면 null)
+         * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+         */
+        public Cursor decodedCursor() {
+            return cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor);
+        }
+    }
+
+    /**
+     * 키셋 커서
+     *
+     * <p>키셋 정렬 기준({@code FST_ENR_DTM DESC NULLS LAST, 관리번호 DESC, 일련번호 DESC})의
+     * 마지막 행 값입니다. 응답에는 URL-safe Base64 문자열로 인코딩되어 전달됩니다.</p>
+     *
+     * @param fstEnrDtm 최초등록일시 (null 가능)
+     * @param mngNo     관리번호 (prjMngNo / itMngcNo)
+     * @param sno       일련번호 (prjSno / itMngcSno)
+     */
+    public record Cursor(LocalDateTime fstEnrDtm, String mngNo, Integer sno) {
+
+        private static final String SEPARATOR = "\n";
+
+        /**
+         * 커서를 URL-safe Base64 문자열로 인코딩
+         *
+         * @return 인코딩된 커서
+         */
+        public String encode() {
+            String raw = (fstEnrDtm != null ? fstEnrDtm.toString() : "") + SEPARATOR + mngNo + SEPARATOR + sno;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * 인코딩된 커서 문자열 해석
+         *
+         * @param encoded {@link #encode()}로 만든 문자열
+         * @return 커서
+         * @throws IllegalArgumentException 형식이 잘못된 경우
+         */
+        public static Cursor decode(String encoded) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+                String[] parts = raw.split(SEPARATOR, -1);
+                if (parts.length != 3 || parts[1].isEmpty()) {
+                    throw new IllegalArgumentException("잘못된 커서입니다: " + encoded);
+                }
+                LocalDateTime dtm = parts[0].isEmpty() ? null : LocalDateTime.parse(parts[0]);
+                return new Cursor(dtm, parts[1], Integer.valueOf(parts[2]));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + encoded);
+            }
+        }
+    }
+
+    /**
+     * 페이지 조회 응답 DTO
+     *
+     * @param content       현재 페이지 목록
+     * @param totalElements 전체 건수 (건수 조회를 생략하면 null)
+     * @param page          페이지 번호 (키셋 방식이면 0)
+     * @param size          페이지 크기
+     * @param hasNext       다음 페이지 존재 여부
+     * @param nextCursor    다음 페이지 키셋 커서 (키셋 방식이고 다음 페이지가 있을 때만)
+     * @param <T>           목록 항목 타입
+     */
+    @Schema(name = "PageResponse", description = "목록 페이지 조회 응답")
+    public record Response<T>(
+            List<T> content,
+            Long totalElements,
+            int page,
+            int size,
+            boolean hasNext,
+            String nextCursor
+    ) {}
+}
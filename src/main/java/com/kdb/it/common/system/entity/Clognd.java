@@ -0,0 +1,60 @@
+package com.kdb.it.common.system.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 일별 통계 엔티티
+ *
+ * <p>DB 테이블: {@code TAAABB_CLOGND}</p>
+ *
+ * <p>로그인 이력({@link Clognh})을 일자·로그인유형별로 미리 집계한 롤업입니다.
+ * 관리자 대시보드는 원본 이력 대신 이 테이블의 최근 30일분만 읽습니다.</p>
+ *
+ * <ul>
+ * <li>건수({@code LGN_CNT}): 로그인 이력 배치 INSERT와 같은 트랜잭션에서 증분 반영</li>
+ * <li>사용자수({@code USR_CNT}): {@link Clognu}(일자·유형·사번 1행)의 건수로 재계산</li>
+ * <li>기존 이력: {@code LoginStatsRollupService}가 기동 시 1회 백필</li>
+ * </ul>
+ *
+ * <p>읽기·쓰기는 JDBC/Native Query로 처리하며, 이 엔티티는 스키마 정의(DDL 자동 생성)와 조회 리포지토리용입니다.
+ * 운영 DDL은 {@code resources/sql/clognd_ddl.sql}을 사용합니다.</p>
+ */
+@Entity                                              // JPA 엔티티로 등록
+@Table(name = "TAAABB_CLOGND", comment = "로그인일별통계")  // 매핑할 DB 테이블명
+@Getter                                              // 모든 필드의 getter 자동 생성 (Lombok)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)   // protected 기본 생성자 (JPA 요구사항)
+@IdClass(ClogndId.class)                             // 복합키 클래스 지정
+public class Clognd {
+
+    /** 로그인일자: 복합키 1 */
+    @Id
+    @Column(name = "LGN_DT", nullable = false, comment = "로그인일자")
+    private LocalDate lgnDt;
+
+    /** 로그인유형: 복합키 2 (LOGIN_SUCCESS, LOGIN_FAILURE, LOGOUT) */
+    @Id
+    @Column(name = "LGN_TP", length = 80, nullable = false, comment = "로그인유형")
+    private String lgnTp;
+
+    /** 로그인건수: 해당 일자·유형의 이력 건수 */
+    @Column(name = "LGN_CNT", nullable = false, comment = "로그인건수")
+    private Long lgnCnt;
+
+    /** 사용자수: 해당 일자·유형의 서로 다른 사번 수 */
+    @Column(name = "USR_CNT", nullable = false, comment = "사용자수")
+    private Long usrCnt;
+
+    /** 최종변경일시 */
+    @Column(name = "LST_CHG_DTM", comment = "최종변경일시")
+    private LocalDateTime lstChgDtm;
+}
@@ -0,0 +1,25 @@
+package com.kdb.it.common.system.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 로그인 일별 통계(Clognd) 엔티티의 복합 기본키 클래스
+ *
+ * <p>{@link Clognd}의 {@code @Id} 필드({@code lgnDt}, {@code lgnTp})와 동일한 이름과 타입을 가져야 합니다.</p>
+ */
+@NoArgsConstructor  // JPA 요구사항: 기본 생성자 필수
+@AllArgsConstructor // 모든 필드를 받는 생성자 (직접 생성용)
+@EqualsAndHashCode  // equals(), hashCode() 자동 생성 (JPA 1차 캐시 동등성 비교에 필수)
+public class ClogndId implements Serializable {
+
+    /** 로그인일자: Clognd.lgnDt와 이름/타입 일치 필수 */
+    private LocalDate lgnDt;
+
+    /** 로그인유형: Clognd.lgnTp와 이름/타입 일치 필수 */
+    private String lgnTp;
+}
@@ -30,6 +30,11 @@ import java.time.LocalDateTime;
  * <li>{@code LOGIN_FAILURE}: 로그인 실패 (비밀번호 불일치, 존재하지 않는 사번 등)</li>
  * <li>{@code LOGOUT}: 로그아웃</li>
  * </ul>
+ *
+ * <p>
+ * 기록은 JPA 저장 대신 {@code LoginHistoryWriteQueue}가 {@code LoginEvent}를 모아 JDBC 배치로 INSERT합니다.
+ * 이 엔티티는 조회(관리자 화면·대시보드) 용도입니다.
+ * </p>
  */
 @Entity
 @Table(name = "TAAABB_CLOGNH", comment = "로그인이력")
@@ -85,60 +90,4 @@ public class Clognh extends BaseEntity {
     public static final String LOGIN_SUCCESS = "LOGIN_SUCCESS";
     public static final String LOGIN_FAILURE = "LOGIN_FAILURE";
     public static final String LOGOUT        = "LOGOUT";
-
-    /**
-     * 로그인 성공 이력 생성 정적 팩토리 메서드
-     *
-     * @param eno    로그인에 성공한 사용자의 사번
-     * @param ipAddr 접속 IP 주소
-     * @param ustAgt 접속 브라우저/기기 정보
-     * @return 로그인 성공 이력 엔티티 ({@code lgnTp = "LOGIN_SUCCESS"})
-     */
-    public static Clognh createLoginSuccess(String eno, String ipAddr, String ustAgt) {
-        return Clognh.builder()
-                .eno(eno)
-                .lgnTp(LOGIN_SUCCESS)
-                .ipAddr(ipAddr)
-                .ustAgt(ustAgt)
-                .lgnDtm(LocalDateTime.now())
-                .build();
-    }
-
-    /**
-     * 로그인 실패 이력 생성 정적 팩토리 메서드
-     *
-     * @param eno      로그인을 시도한 사번 (DB에 없는 사번일 수 있음)
-     * @param ipAddr   접속 IP 주소
-     * @param ustAgt   접속 브라우저/기기 정보
-     * @param flurRsn  실패 사유 (예: "비밀번호 불일치", "존재하지 않는 사번")
-     * @return 로그인 실패 이력 엔티티 ({@code lgnTp = "LOGIN_FAILURE"})
-     */
-    public static Clognh createLoginFailure(String eno, String ipAddr, String ustAgt, String flurRsn) {
-        return Clognh.builder()
-                .eno(eno)
-                .lgnTp(LOGIN_FAILURE)
-                .ipAddr(ipAddr)
-                .ustAgt(ustAgt)
-                .lgnDtm(LocalDateTime.now())
-                .flurRsn(flurRsn)
-                .build();
-    }
-
-    /**
-     * 로그아웃 이력 생성 정적 팩토리 메서드
-     *
-     * @param eno    로그아웃한 사용자의 사번
-     * @param ipAddr 접속 IP 주소
-     * @param ustAgt 접속 브라우저/기기 정보
-     * @return 로그아웃 이력 엔티티 ({@code lgnTp = "LOGOUT"})
-     */
-    public static Clognh createLogout(String eno, String ipAddr, String ustAgt) {
-        return Clognh.builder()
-                .eno(eno)
-                .lgnTp(LOGOUT)
-                .ipAddr(ipAddr)
-                .ustAgt(ustAgt)
-                .lgnDtm(LocalDateTime.now())
-                .build();
-    }
 }
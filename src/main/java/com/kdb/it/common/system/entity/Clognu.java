@@ -0,0 +1,47 @@
+package com.kdb.it.common.system.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 로그인 일별 사용자 엔티티
+ *
+ * <p>DB 테이블: {@code TAAABB_CLOGNU}</p>
+ *
+ * <p>일자·로그인유형·사번 조합마다 1행을 두어, 로그인 일별 통계({@link Clognd})의 사용자수를
+ * 원본 이력 전체를 {@code COUNT(DISTINCT)}하지 않고 증분으로 유지합니다.
+ * 행 수는 로그인 건수가 아니라 일별 사용자 수에 비례합니다.</p>
+ *
+ * <p>읽기·쓰기는 JDBC로 처리하며, 이 엔티티는 스키마 정의(DDL 자동 생성)용입니다.
+ * 운영 DDL은 {@code resources/sql/clognd_ddl.sql}을 사용합니다.</p>
+ */
+@Entity                                              // JPA 엔티티로 등록
+@Table(name = "TAAABB_CLOGNU", comment = "로그인일별사용자")  // 매핑할 DB 테이블명
+@Getter                                              // 모든 필드의 getter 자동 생성 (Lombok)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)   // protected 기본 생성자 (JPA 요구사항)
+@IdClass(ClognuId.class)                             // 복합키 클래스 지정
+public class Clognu {
+
+    /** 로그인일자: 복합키 1 */
+    @Id
+    @Column(name = "LGN_DT", nullable = false, comment = "로그인일자")
+    private LocalDate lgnDt;
+
+    /** 로그인유형: 복합키 2 */
+    @Id
+    @Column(name = "LGN_TP", length = 80, nullable = false, comment = "로그인유형")
+    private String lgnTp;
+
+    /** 사원번호: 복합키 3 */
+    @Id
+    @Column(name = "ENO", length = 32, nullable = false, comment = "사원번호")
+    private String eno;
+}
@@ -4,6 +4,7 @@ import com.kdb.it.domain.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
@@ -19,7 +20,9 @@ import java.time.LocalDateTime;
  *
  * <p>
  * JWT Refresh Token을 DB에 저장하여 관리합니다.
- * 사용자당 최대 1개의 Refresh Token이 유지됩니다 (로그인 시 기존 토큰 삭제 후 재생성).
+ * 토큰 원문 대신 고정 길이 SHA-256 해시({@code TOK_HSH}, 64자)를 UNIQUE 인덱스로 저장하여
+ * 갱신 시 조회가 인덱스 1회 탐색으로 끝납니다.
+ * 로그인 시 사용자의 기존 토큰을 모두 삭제하고 새 토큰 계열을 시작합니다.
  * </p>
  *
  * <p>
@@ -35,12 +38,22 @@ import java.time.LocalDateTime;
  * </p>
  * <ol>
  * <li>로그인 성공 → Refresh Token 생성 및 DB 저장 (최초생성시간은 BaseEntity.fstEnrDtm 자동 기록)</li>
- * <li>Access Token 만료 → Refresh Token으로 새 Access Token 발급</li>
+ * <li>Access Token 만료 → Refresh Token으로 새 Access Token·Refresh Token 발급
+ * (기존 행은 교체여부 'Y'·최종변경일시에 교체 시각, 새 행은 계열 종료일시를 그대로 이어받음)</li>
+ * <li>교체된 토큰 재사용 감지 → 탈취로 보고 해당 사용자의 토큰 전체 삭제</li>
  * <li>로그아웃 → DB에서 Refresh Token 삭제</li>
+ * <li>재사용 감지 구간이 지난 교체 행·종료일시 경과 행 → {@code RefreshTokenPurgeService}가 주기적으로 배치 삭제</li>
  * </ol>
+ *
+ * <p>기존 TOK 컬럼 전환은 {@code resources/sql/crtokm_tok_hash.sql}을 사용합니다.</p>
  */
 @Entity
-@Table(name = "TAAABB_CRTOKM", comment = "갱신토큰")
+@Table(name = "TAAABB_CRTOKM", comment = "갱신토큰",
+        indexes = {
+                @Index(name = "IDX_CRTOKM_ENO", columnList = "ENO"),
+                @Index(name = "IDX_CRTOKM_END_DTM", columnList = "END_DTM"),
+                @Index(name = "IDX_CRTOKM_RPL", columnList = "RPL_YN, LST_CHG_DTM")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -57,11 +70,11 @@ public class Crtokm extends BaseEntity {
     private Long tokSno;
 
     /**
-     * 토큰: JWT Refresh Token 값 (최대 2000자)
-     * UNIQUE 제약조건으로 중복 저장 방지
+     * 토큰해시: JWT Refresh Token의 SHA-256 16진수 해시 (64자, {@code JwtUtil.digest})
+     * UNIQUE 제약조건으로 중복 저장 방지 및 갱신 시 단건 조회
      */
-    @Column(name = "TOK", nullable = false, unique = true, length = 2000, comment = "토큰")
-    private String tok;
+    @Column(name = "TOK_HSH", nullable = false, unique = true, length = 64, comment = "토큰해시")
+    private String tokHsh;
 
     /**
      * 사원번호: 이 토큰을 소유한 사용자의 사번
@@ -72,11 +85,19 @@ public class Crtokm extends BaseEntity {
 
     /**
      * 종료일시: 이 Refresh Token이 유효한 마지막 일시
-     * 이 시각 이후에는 토큰이 만료된 것으로 간주
+     * 로그인 시 정해지고 갱신으로 교체된 토큰도 같은 값을 이어받음 (이 시각 이후에는 만료된 것으로 간주)
      */
     @Column(name = "END_DTM", nullable = false, comment = "종료일시")
     private LocalDateTime endDtm;
 
+    /**
+     * 교체여부: 'Y'이면 갱신으로 새 토큰이 발급되어 더 이상 사용할 수 없는 토큰
+     * 교체 후 재사용 감지 구간 동안 보관하여 재사용(탈취) 감지에 사용
+     */
+    @Builder.Default
+    @Column(name = "RPL_YN", nullable = false, length = 1, comment = "교체여부")
+    private String rplYn = "N";
+
     /**
      * 토큰 만료 여부 확인 메서드
      *
@@ -86,5 +107,14 @@ public class Crtokm extends BaseEntity {
         return LocalDateTime.now().isAfter(endDtm);
     }
 
+    /**
+     * 교체된 토큰 여부 확인 메서드
+     *
+     * @return true이면 이미 갱신에 사용된 토큰 (재사용 시 탈취 의심)
+     */
+    public boolean isReplaced() {
+        return "Y".equals(rplYn);
+    }
+
 }
 
@@ -0,0 +1,71 @@
+package com.kdb.it.common.system.repository;
+
+import com.kdb.it.common.system.dto.PageDto;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 키셋(keyset) 페이지 조회용 QueryDSL 조건·정렬 모음
+ *
+ * <p>
+ * 정렬 기준은 {@code FST_ENR_DTM DESC NULLS LAST, 관리번호 DESC, 일련번호 DESC}로 고정이며,
+ * 커서 이후 행은 다음 조건으로 찾습니다 (OFFSET 없이 인덱스 범위 조회).
+ * </p>
+ *
+ * <pre>{@code
+ * WHERE (FST_ENR_DTM < :dtm
+ *        OR FST_ENR_DTM IS NULL
+ *        OR (FST_ENR_DTM = :dtm AND (MNG_NO < :no OR (MNG_NO = :no AND SNO < :sno))))
+ * }</pre>
+ *
+ * <p>
+ * 커서의 최초등록일시가 null이면(정렬 끝부분의 NULL 구간) {@code FST_ENR_DTM IS NULL} 안에서만 비교합니다.
+ * </p>
+ */
+public final class KeysetExpressions {
+
+    private KeysetExpressions() {
+    }
+
+    /**
+     * 커서 이후 행 조건
+     *
+     * @param fstEnrDtm 최초등록일시 경로
+     * @param mngNo     관리번호 경로
+     * @param sno       일련번호 경로
+     * @param cursor    직전 페이지 마지막 행 커서 (null이면 조건 없음)
+     * @return 키셋 조건 (첫 페이지면 null → QueryDSL where에서 무시)
+     */
+    public static BooleanExpression after(DateTimePath<LocalDateTime> fstEnrDtm, StringPath mngNo,
+            NumberPath<Integer> sno, PageDto.Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        BooleanExpression sameKeyAfter = mngNo.lt(cursor.mngNo())
+                .or(mngNo.eq(cursor.mngNo()).and(sno.lt(cursor.sno())));
+        if (cursor.fstEnrDtm() == null) {
+            return fstEnrDtm.isNull().and(sameKeyAfter);
+        }
+        return fstEnrDtm.lt(cursor.fstEnrDtm())
+                .or(fstEnrDtm.isNull())
+                .or(fstEnrDtm.eq(cursor.fstEnrDtm()).and(sameKeyAfter));
+    }
+
+    /**
+     * 키셋 정렬 기준
+     *
+     * @param fstEnrDtm 최초등록일시 경로
+     * @param mngNo     관리번호 경로
+     * @param sno       일련번호 경로
+     * @return {@code FST_ENR_DTM DESC NULLS LAST, 관리번호 DESC, 일련번호 DESC}
+     */
+    public static OrderSpecifier<?>[] order(DateTimePath<LocalDateTime> fstEnrDtm, StringPath mngNo,
+            NumberPath<Integer> sno) {
+        return new OrderSpecifier<?>[] { fstEnrDtm.desc().nullsLast(), mngNo.desc(), sno.desc() };
+    }
+}
@@ -0,0 +1,125 @@
+package com.kdb.it.common.system.repository;
+
+import com.kdb.it.common.system.entity.Clognd;
+import com.kdb.it.common.system.entity.ClogndId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 로그인 일별 통계(Clognd) 데이터 접근 리포지토리
+ *
+ * <p>
+ * 통계 행의 증분 갱신은 로그인 이력 배치 INSERT와 같은 트랜잭션에서
+ * {@link com.kdb.it.common.system.writer.LoginStatsRollupWriter}가 JDBC로 처리합니다.
+ * 이 리포지토리는 대시보드 조회와 최초 배포 시 기존 이력 백필에 사용합니다.
+ * </p>
+ *
+ * <p>
+ * 복합키 타입: {@link ClogndId} (lgnDt + lgnTp)
+ * </p>
+ */
+public interface LoginStatsRepository extends JpaRepository<Clognd, ClogndId> {
+
+    /**
+     * 최근 30일 일별 로그인 통계 조회 (대시보드용, Oracle 전용 Native Query)
+     *
+     * <p>
+     * 원본 이력 대신 롤업 테이블의 PK 범위(31일 × 유형)만 읽어
+     * 성공/실패 건수와 성공 사용자수를 일자별 1행으로 펼칩니다.
+     * </p>
+     *
+     * @return [날짜 문자열(YYYY-MM-DD), 성공건수, 실패건수, 성공사용자수] 배열 목록 (날짜 오름차순)
+     */
+    @Query(value = """
+            SELECT TO_CHAR(LGN_DT, 'YYYY-MM-DD') AS LGN_DATE,
+                   SUM(CASE WHEN LGN_TP = 'LOGIN_SUCCESS' THEN LGN_CNT ELSE 0 END) AS SUCCESS_CNT,
+                   SUM(CASE WHEN LGN_TP = 'LOGIN_FAILURE' THEN LGN_CNT ELSE 0 END) AS FAILURE_CNT,
+                   SUM(CASE WHEN LGN_TP = 'LOGIN_SUCCESS' THEN USR_CNT ELSE 0 END) AS USER_CNT
+            FROM TAAABB_CLOGND
+            WHERE LGN_DT >= TRUNC(SYSDATE) - 30
+              AND LGN_TP IN ('LOGIN_SUCCESS', 'LOGIN_FAILURE')
+            GROUP BY LGN_DT
+            ORDER BY LGN_DT
+            """, nativeQuery = true)
+    List<Object[]> findRecentDailyStats();
+
+    /**
+     * 오늘 이전 일자의 통계 행 존재 여부 (백필 완료 판단용)
+     *
+     * @return 존재하면 1, 없으면 0
+     */
+    @Query(value = """
+            SELECT COUNT(*) FROM TAAABB_CLOGND
+            WHERE LGN_DT < TRUNC(SYSDATE) AND ROWNUM = 1
+            """, nativeQuery = true)
+    int countRollupBeforeToday();
+
+    /**
+     * 오늘 이전 로그인 이력 존재 여부 (백필 필요 판단용)
+     *
+     * @return 존재하면 1, 없으면 0
+     */
+    @Query(value = """
+            SELECT COUNT(*) FROM TAAABB_CLOGNH
+            WHERE LGN_DTM < TRUNC(SYSDATE) AND ROWNUM = 1
+            """, nativeQuery = true)
+    int countHistoryBeforeToday();
+
+    /**
+     * 오늘 이전 로그인 이력으로부터 일별 사용자 적재 (Oracle 전용 Native Query)
+     *
+     * <p>이미 있는 (일자, 유형, 사번) 행은 건너뛰므로 여러 번 실행해도 결과가 같습니다.</p>
+     *
+     * @return 적재된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            MERGE INTO TAAABB_CLOGNU u
+            USING (
+                SELECT DISTINCT TRUNC(LGN_DTM) AS LGN_DT, LGN_TP, ENO
+                FROM TAAABB_CLOGNH
+                WHERE LGN_DTM < TRUNC(SYSDATE)
+                  AND LGN_TP IS NOT NULL AND ENO IS NOT NULL
+            ) s
+            ON (u.LGN_DT = s.LGN_DT AND u.LGN_TP = s.LGN_TP AND u.ENO = s.ENO)
+            WHEN NOT MATCHED THEN INSERT (LGN_DT, LGN_TP, ENO) VALUES (s.LGN_DT, s.LGN_TP, s.ENO)
+            """, nativeQuery = true)
+    int backfillUsers();
+
+    /**
+     * 오늘 이전 로그인 이력으로부터 일별 통계 적재 (Oracle 전용 Native Query)
+     *
+     * <p>
+     * 일자·유형별 건수를 원본에서 다시 집계해 덮어쓰고, 사용자수는 {@link #backfillUsers()}로
+     * 적재한 일별 사용자 행 수로 채웁니다. 여러 번 실행해도 결과가 같습니다.
+     * </p>
+     *
+     * @return 적재·갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            MERGE INTO TAAABB_CLOGND d
+            USING (
+                SELECT h.LGN_DT, h.LGN_TP, h.CNT,
+                       (SELECT COUNT(*) FROM TAAABB_CLOGNU u
+                        WHERE u.LGN_DT = h.LGN_DT AND u.LGN_TP = h.LGN_TP) AS USR_CNT
+                FROM (
+                    SELECT TRUNC(LGN_DTM) AS LGN_DT, LGN_TP, COUNT(*) AS CNT
+                    FROM TAAABB_CLOGNH
+                    WHERE LGN_DTM < TRUNC(SYSDATE) AND LGN_TP IS NOT NULL
+                    GROUP BY TRUNC(LGN_DTM), LGN_TP
+                ) h
+            ) s
+            ON (d.LGN_DT = s.LGN_DT AND d.LGN_TP = s.LGN_TP)
+            WHEN MATCHED THEN UPDATE SET d.LGN_CNT = s.CNT, d.USR_CNT = s.USR_CNT, d.LST_CHG_DTM = SYSTIMESTAMP
+            WHEN NOT MATCHED THEN INSERT (LGN_DT, LGN_TP, LGN_CNT, USR_CNT, LST_CHG_DTM)
+                VALUES (s.LGN_DT, s.LGN_TP, s.CNT, s.USR_CNT, SYSTIMESTAMP)
+            """, nativeQuery = true)
+    int backfillDaily();
+}
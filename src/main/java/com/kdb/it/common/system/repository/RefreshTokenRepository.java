@@ -2,7 +2,11 @@ package com.kdb.it.common.system.repository;
 
 import com.kdb.it.common.system.entity.Crtokm;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -15,51 +19,87 @@ import java.util.Optional;
  *
  * <p>Refresh Token 관리 전략:</p>
  * <ul>
- *   <li>사용자당 1개의 Refresh Token 유지</li>
+ *   <li>토큰 원문 대신 SHA-256 해시(TOK_HSH, UNIQUE)로 저장·조회 ({@link #findByTokHsh})</li>
  *   <li>로그인 시: 기존 토큰 삭제({@link #deleteByEno}) → 새 토큰 저장</li>
- *   <li>로그아웃 시: 해당 사용자의 토큰 삭제({@link #deleteByEno})</li>
+ *   <li>갱신 시: 기존 토큰 교체 표시({@link #markReplaced}) → 새 토큰 저장</li>
+ *   <li>로그아웃·재사용 감지 시: 해당 사용자의 토큰 삭제({@link #deleteByEno})</li>
+ *   <li>재사용 감지 구간이 지난 교체 토큰: 스케줄러가 배치 단위로 삭제({@link #deleteReplacedBatch})</li>
+ *   <li>만료 토큰: 스케줄러가 배치 단위로 삭제({@link #deleteExpiredBatch})</li>
  * </ul>
  */
 public interface RefreshTokenRepository extends JpaRepository<Crtokm, Long> {
 
     /**
-     * 토큰 문자열로 갱신토큰 조회
+     * 토큰 해시로 갱신토큰 조회
      *
-     * <p>클라이언트가 전달한 Refresh Token 값으로 DB에서 토큰 정보를 조회합니다.
+     * <p>클라이언트가 전달한 Refresh Token의 SHA-256 해시로 UNIQUE 인덱스를 1회 탐색합니다.
      * Access Token 갱신 시 토큰 유효성 검사에 사용됩니다.</p>
      *
-     * @param tok Refresh Token 문자열 (JWT 형식)
+     * @param tokHsh Refresh Token SHA-256 해시 ({@code JwtUtil.digest})
      * @return 해당 토큰 엔티티 (없으면 {@link Optional#empty()})
      */
-    Optional<Crtokm> findByTok(String tok);
+    Optional<Crtokm> findByTokHsh(String tokHsh);
 
     /**
-     * 사번으로 갱신토큰 조회
+     * 갱신토큰 교체 표시 (조건부 UPDATE)
      *
-     * <p>특정 사용자의 Refresh Token을 조회합니다.
-     * 재로그인 시 기존 토큰 갱신에 사용할 수 있습니다.</p>
+     * <p>아직 교체되지 않은 행만 'Y'로 바꾸므로, 같은 토큰으로 동시에 갱신을 요청해도
+     * 1건만 성공(반환값 1)하고 나머지는 0을 받아 재사용으로 처리됩니다.
+     * 교체 시각을 최종변경일시에 남겨 재사용 감지 구간이 지난 행을 정리하는 기준으로 사용합니다
+     * ({@link #deleteReplacedBatch}).</p>
      *
-     * @param eno 사용자 사번
-     * @return 해당 사번의 갱신토큰 엔티티 (없으면 {@link Optional#empty()})
+     * @param tokSno     토큰일련번호
+     * @param replacedAt 교체 일시
+     * @return 변경된 행 수 (0이면 이미 교체된 토큰)
      */
-    Optional<Crtokm> findByEno(String eno);
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Crtokm t SET t.rplYn = 'Y', t.lstChgDtm = :replacedAt"
+            + " WHERE t.tokSno = :tokSno AND t.rplYn = 'N'")
+    int markReplaced(@Param("tokSno") Long tokSno, @Param("replacedAt") LocalDateTime replacedAt);
 
     /**
-     * 사번으로 갱신토큰 삭제
+     * 사번으로 갱신토큰 삭제 (일괄 DELETE 1문)
      *
-     * <p>로그아웃 또는 재로그인 시 기존 Refresh Token을 DB에서 삭제합니다.
+     * <p>로그인·로그아웃·재사용 감지 시 해당 사용자의 Refresh Token을 모두 삭제합니다.
+     * 엔티티를 읽지 않고 ENO 인덱스로 바로 삭제합니다.
      * {@code @Transactional}이 필요하므로 호출하는 서비스 메서드에 설정해야 합니다.</p>
      *
      * @param eno 삭제할 토큰의 사용자 사번
+     * @return 삭제된 행 수
      */
-    void deleteByEno(String eno);
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Crtokm t WHERE t.eno = :eno")
+    int deleteByEno(@Param("eno") String eno);
 
     /**
-     * 토큰 문자열로 갱신토큰 삭제
+     * 만료 갱신토큰 배치 삭제 (Oracle 전용 Native Query)
      *
-     * <p>특정 토큰 값을 직접 삭제합니다. (현재 직접 사용하지 않으나 예비 메서드)</p>
+     * <p>종료일시가 지난 행을 최대 {@code batchSize}건 삭제합니다.
+     * 한 번에 대량 삭제로 undo·락이 커지지 않도록 호출 측에서 0건이 될 때까지 반복합니다.</p>
      *
-     * @param tok 삭제할 Refresh Token 문자열
+     * @param now       기준 일시
+     * @param batchSize 1회 최대 삭제 건수
+     * @return 삭제된 행 수
      */
-    void deleteByTok(String tok);
+    @Modifying
+    @Query(value = "DELETE FROM TAAABB_CRTOKM WHERE END_DTM < :now AND ROWNUM <= :batchSize",
+            nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+    /**
+     * 교체 갱신토큰 배치 삭제 (Oracle 전용 Native Query)
+     *
+     * <p>교체된 지 {@code replacedBefore} 이전인 행을 최대 {@code batchSize}건 삭제합니다.
+     * 교체 토큰은 재사용 감지 구간 동안만 필요하므로, 계열 종료일시까지 기다리지 않고 정리합니다.
+     * 한 번에 대량 삭제로 undo·락이 커지지 않도록 호출 측에서 0건이 될 때까지 반복합니다.</p>
+     *
+     * @param replacedBefore 교체 일시 기준 (이 시각 이전에 교체된 행 삭제)
+     * @param batchSize      1회 최대 삭제 건수
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM TAAABB_CRTOKM WHERE RPL_YN = 'Y' AND LST_CHG_DTM < :replacedBefore"
+            + " AND ROWNUM <= :batchSize", nativeQuery = true)
+    int deleteReplacedBatch(@Param("replacedBefore") LocalDateTime replacedBefore,
+            @Param("batchSize") int batchSize);
 }
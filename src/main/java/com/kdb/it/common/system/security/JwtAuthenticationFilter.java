@@ -15,7 +15,6 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 /**
  * JWT 인증 필터
@@ -46,9 +45,8 @@ import java.util.List;
  *     ↓
  *   쿠키 또는 Authorization 헤더에서 JWT 토큰 추출
  *     ↓
- *   JwtUtil.validateToken() → 토큰 서명/만료 검증
+ *   JwtUtil.parseAccessToken() → 토큰 서명/만료 검증 + 사번·자격등급·부서코드 추출 (1회 파싱, 검증 캐시)
  *     ↓ (유효한 경우)
- *   JwtUtil.getEnoFromToken() → 사번 추출
  *     ↓
  *   CustomUserDetails 생성 (JWT 클레임 직접 사용, DB 재조회 없음)
  *     ↓
@@ -95,15 +93,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 쿠키 우선, Authorization 헤더 폴백으로 JWT 토큰 추출
             String jwt = getJwtFromRequest(request);
 
+            // 토큰 서명/만료 검증과 클레임(사번, 자격등급 목록, 부서코드) 추출을 한 번에 처리
+            JwtUtil.AccessClaims claims = StringUtils.hasText(jwt)
+                    ? jwtUtil.parseAccessToken(jwt).orElse(null)
+                    : null;
+
             // 토큰이 있고 서명/만료 검증을 통과한 경우에만 인증 설정
-            if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
-                // 토큰의 Payload에서 사번, 자격등급 목록, 부서코드 추출
-                String       eno    = jwtUtil.getEnoFromToken(jwt);
-                List<String> athIds = jwtUtil.getAthIdsFromToken(jwt);
-                String       bbrC   = jwtUtil.getBbrCFromToken(jwt);
+            if (claims != null) {
+                String eno = claims.eno();
 
                 // JWT 클레임으로 CustomUserDetails 생성 (DB 재조회 없음 - 성능 최적화)
-                CustomUserDetails userDetails = new CustomUserDetails(eno, athIds, bbrC);
+                CustomUserDetails userDetails = new CustomUserDetails(eno, claims.athIds(), claims.bbrC());
 
                 // Spring Security 인증 객체 생성 (credentials=null: 이미 토큰으로 인증됨)
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
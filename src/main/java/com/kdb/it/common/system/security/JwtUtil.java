@@ -1,17 +1,29 @@
 package com.kdb.it.common.system.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * JWT 토큰 생성 및 검증 유틸리티 클래스
@@ -37,9 +49,18 @@ import java.util.List;
  * <li>{@code jwt.secret}: HMAC-SHA 서명 비밀키 (최소 256비트 = 32자 이상 권장)</li>
  * <li>{@code jwt.access-token-validity}: Access Token 유효시간 (밀리초)</li>
  * <li>{@code jwt.refresh-token-validity}: Refresh Token 유효시간 (밀리초)</li>
+ * <li>{@code jwt.verified-cache.max-size}: 검증 완료 토큰 캐시 최대 건수 (0이면 캐시 미사용)</li>
  * </ul>
  *
  * <p>
+ * 파서({@link JwtParser})는 생성 시 한 번 만들어 재사용합니다(스레드 안전).
+ * 인증 필터는 {@link #parseAccessToken(String)}으로 서명 검증과 클레임 추출을 한 번에 처리하며,
+ * 검증에 성공한 토큰은 토큰의 SHA-256 해시를 키로 만료 시각(exp)까지 캐시하여
+ * 같은 토큰의 반복 요청은 서명 검증·JSON 파싱 없이 클레임을 돌려줍니다.
+ * 캐시 키가 서명까지 포함한 토큰 전체의 해시이므로 위변조된 토큰은 캐시에 적중하지 않습니다.
+ * </p>
+ *
+ * <p>
  * 사용 라이브러리: {@code io.jsonwebtoken:jjwt} (JJWT)
  * </p>
  */
@@ -60,6 +81,23 @@ public class JwtUtil {
     /** Refresh Token 유효시간 (밀리초, 예: 604800000 = 7일) */
     private final long refreshTokenValidityMs;
 
+    /** 서명 검증 파서 (불변·스레드 안전, 요청마다 다시 만들지 않음) */
+    private final JwtParser parser;
+
+    /** 토큰 해시 → 검증 완료 클레임 (exp 시각에 만료, 미사용 시 null) */
+    private final Cache<String, AccessClaims> verifiedCache;
+
+    /**
+     * 생성자: 검증 완료 토큰 캐시 없이 유틸리티를 초기화합니다.
+     *
+     * @param secret                 JWT 서명용 비밀키 문자열
+     * @param accessTokenValidityMs  Access Token 유효시간 (밀리초)
+     * @param refreshTokenValidityMs Refresh Token 유효시간 (밀리초)
+     */
+    public JwtUtil(String secret, long accessTokenValidityMs, long refreshTokenValidityMs) {
+        this(secret, accessTokenValidityMs, refreshTokenValidityMs, 0);
+    }
+
     /**
      * 생성자: Spring이 설정 파일의 값을 주입하여 유틸리티를 초기화합니다.
      *
@@ -70,15 +108,28 @@ public class JwtUtil {
      * @param secret                 JWT 서명용 비밀키 문자열
      * @param accessTokenValidityMs  Access Token 유효시간 (밀리초)
      * @param refreshTokenValidityMs Refresh Token 유효시간 (밀리초)
+     * @param verifiedCacheMaxSize   검증 완료 토큰 캐시 최대 건수 (0 이하이면 캐시 미사용)
      */
+    @Autowired
     public JwtUtil(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-validity}") long accessTokenValidityMs,
-            @Value("${jwt.refresh-token-validity}") long refreshTokenValidityMs) {
+            @Value("${jwt.refresh-token-validity}") long refreshTokenValidityMs,
+            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize) {
         // 비밀키 문자열을 HMAC-SHA용 SecretKey 객체로 변환
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenValidityMs = accessTokenValidityMs;
         this.refreshTokenValidityMs = refreshTokenValidityMs;
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedCache = verifiedCacheMaxSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedCacheMaxSize)
+                        .expireAfter(Expiry.creating((String key, AccessClaims claims) -> {
+                            Duration remaining = Duration.between(Instant.now(), claims.expiresAt());
+                            return remaining.isNegative() ? Duration.ZERO : remaining;
+                        }))
+                        .build()
+                : null;
     }
 
     /**
@@ -134,19 +185,34 @@ public class JwtUtil {
      *
      * <p>
      * Access Token과 동일한 구조지만 유효시간이 더 깁니다 (기본 7일).
+     * 갱신 시마다 교체(rotation)되므로 같은 초에 발급해도 토큰이 겹치지 않도록 고유 ID(jti)를 넣습니다.
      * </p>
      *
      * @param eno 토큰의 subject로 사용할 사번
      * @return 서명된 JWT Refresh Token 문자열
      */
     public String generateRefreshToken(String eno) {
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + refreshTokenValidityMs); // 7일 후 만료
+        return generateRefreshToken(eno, Instant.now().plusMillis(refreshTokenValidityMs)); // 7일 후 만료
+    }
 
+    /**
+     * 만료 시각을 지정한 JWT Refresh Token 생성
+     *
+     * <p>
+     * 갱신(rotation)으로 발급하는 토큰은 로그인 때 정한 계열의 종료일시를 그대로 이어받아야 하므로,
+     * 발급 시각 기준으로 유효시간을 다시 더하지 않고 전달받은 만료 시각을 사용합니다.
+     * </p>
+     *
+     * @param eno       토큰의 subject로 사용할 사번
+     * @param expiresAt 토큰 만료 시각
+     * @return 서명된 JWT Refresh Token 문자열
+     */
+    public String generateRefreshToken(String eno, Instant expiresAt) {
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(eno)
-                .issuedAt(now)
-                .expiration(expiryDate)
+                .issuedAt(new Date())
+                .expiration(Date.from(expiresAt))
                 .signWith(secretKey)
                 .compact();
     }
@@ -162,13 +228,8 @@ public class JwtUtil {
      * @param token JWT 토큰 문자열
      * @return 자격등급 ID 목록 (없으면 빈 리스트)
      */
-    @SuppressWarnings("unchecked")
     public List<String> getAthIdsFromToken(String token) {
-        Object claim = getClaims(token).get("athIds");
-        if (claim instanceof List<?>) {
-            return (List<String>) claim;
-        }
-        return List.of();
+        return athIdsOf(getClaims(token));
     }
 
     /**
@@ -202,6 +263,40 @@ public class JwtUtil {
         return getClaims(token).getSubject(); // sub 클레임(사번) 반환
     }
 
+    /**
+     * Access Token 검증 및 클레임 추출 (1회 파싱)
+     *
+     * <p>
+     * 서명·형식·만료를 검증하고 사번·자격등급·부서코드를 한 번에 꺼냅니다.
+     * {@link #validateToken(String)} 후 클레임별 getter를 호출하면 토큰을 여러 번 파싱하므로,
+     * 요청마다 실행되는 {@link JwtAuthenticationFilter}는 이 메서드를 사용합니다.
+     * 검증에 성공한 토큰은 만료 시각까지 캐시되어 다음 요청에서는 파싱하지 않습니다.
+     * </p>
+     *
+     * @param token JWT 토큰 문자열
+     * @return 검증된 클레임 (유효하지 않으면 빈 값, 실패 사유는 {@link #validateToken}과 같은 형식으로 로그)
+     */
+    public Optional<AccessClaims> parseAccessToken(String token) {
+        String key = verifiedCache != null && token != null ? digest(token) : null;
+        if (key != null) {
+            AccessClaims cached = verifiedCache.getIfPresent(key);
+            if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+                return Optional.of(cached);
+            }
+        }
+        Claims claims = verify(token);
+        if (claims == null) {
+            return Optional.empty();
+        }
+        Date exp = claims.getExpiration();
+        AccessClaims result = new AccessClaims(claims.getSubject(), athIdsOf(claims),
+                (String) claims.get("bbrC"), exp != null ? exp.toInstant() : null);
+        if (key != null && exp != null) { // 만료 시각이 없는 토큰은 캐시하지 않음
+            verifiedCache.put(key, result);
+        }
+        return Optional.of(result);
+    }
+
     /**
      * 내부 헬퍼: JWT 토큰에서 Claims(Payload) 파싱
      *
@@ -209,11 +304,36 @@ public class JwtUtil {
      * @return 파싱된 {@link Claims} 객체
      */
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /** 내부 헬퍼: 자격등급 클레임 (JSON 배열 → 문자열 목록, 없으면 빈 리스트) */
+    private static List<String> athIdsOf(Claims claims) {
+        Object claim = claims.get("athIds");
+        if (claim instanceof List<?> list) {
+            return list.stream().map(String::valueOf).toList();
+        }
+        return List.of();
+    }
+
+    /**
+     * 토큰 SHA-256 해시 (64자 16진수)
+     *
+     * <p>
+     * 검증 캐시 키와 Refresh Token 저장값(TAAABB_CRTOKM.TOK_HSH)에 사용하여
+     * 토큰 원문을 메모리·DB에 보관하지 않습니다.
+     * </p>
+     *
+     * @param token 토큰 문자열
+     * @return 소문자 16진수 SHA-256 해시
+     */
+    public static String digest(String token) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
     }
 
     /**
@@ -238,12 +358,18 @@ public class JwtUtil {
      * @return true이면 유효한 토큰, false이면 유효하지 않은 토큰
      */
     public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
+    /**
+     * 내부 헬퍼: 서명·만료 검증 후 Claims 반환 (실패 시 사유를 로그로 남기고 null)
+     *
+     * @param token 검증할 JWT 토큰 문자열
+     * @return 파싱된 Claims (유효하지 않으면 null)
+     */
+    private Claims verify(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token); // 파싱 성공 시 토큰 유효
-            return true;
+            return getClaims(token); // 파싱 성공 시 토큰 유효
         } catch (io.jsonwebtoken.security.SecurityException | io.jsonwebtoken.MalformedJwtException e) {
             // 잘못된 서명 또는 JWT 형식 오류
             log.warn("JWT 토큰 검증 실패 - 잘못된 서명 또는 형식: {}", e.getMessage());
@@ -260,7 +386,17 @@ public class JwtUtil {
             // 기타 예상치 못한 예외
             log.error("JWT 토큰 검증 실패 - 알 수 없는 오류: {}", e.getMessage(), e);
         }
-        return false; // 예외 발생 시 유효하지 않은 토큰으로 처리
+        return null; // 예외 발생 시 유효하지 않은 토큰으로 처리
     }
 
+    /**
+     * 검증된 Access Token 클레임
+     *
+     * @param eno       사번 (sub)
+     * @param athIds    자격등급 ID 목록 (없으면 빈 리스트)
+     * @param bbrC      소속 부서코드 (없으면 null)
+     * @param expiresAt 만료 시각 (exp, 없으면 null)
+     */
+    public record AccessClaims(String eno, List<String> athIds, String bbrC, Instant expiresAt) {
+    }
 }
@@ -0,0 +1,169 @@
+package com.kdb.it.common.system.security;
+
+import com.kdb.it.exception.CustomGeneralException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ *
+ * <p>
+ * bcrypt·PBKDF2 같은 느린 해시는 건당 수십~수백 ms의 CPU를 쓰므로, 출근 시간대 로그인이 몰리면
+ * 요청 스레드(Tomcat) 전부가 해시 계산에 묶일 수 있습니다. 이 컴포넌트는 해시 계산을
+ * 고정 크기 전용 스레드 풀과 유한 대기열에서만 수행하여 동시 해시 수를 CPU 코어 수 이내로 제한합니다.
+ * </p>
+ *
+ * <ul>
+ * <li>대기열이 가득 차면 즉시 거절하고, 대기·계산이 {@code hash-timeout-ms}를 넘으면 취소합니다
+ * (둘 다 {@link CustomGeneralException} — 요청 스레드가 무한정 기다리지 않음).</li>
+ * <li>{@link #upgradeEncoding(String)}은 저장 형식만 확인하므로 실행기를 거치지 않습니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 설정값 ({@code application.properties}):
+ * </p>
+ * <ul>
+ * <li>{@code app.password.hash-threads}: 해시 스레드 수 (0이면 CPU 코어 수)</li>
+ * <li>{@code app.password.hash-queue-capacity}: 대기열 최대 건수</li>
+ * <li>{@code app.password.hash-timeout-ms}: 요청 스레드 최대 대기 시간 (ms)</li>
+ * </ul>
+ *
+ * <p>
+ * [메트릭] {@code password.hash}(op=matches/encode, 계산 시간), {@code password.hash.queue.depth},
+ * {@code password.hash.rejected}, {@code password.hash.timeouts}
+ * </p>
+ */
+@Component
+public class PasswordHasher {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHasher.class);
+
+    /** 포화·시간 초과 시 사용자 안내 메시지 */
+    static final String BUSY_MESSAGE = "로그인 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final PasswordEncoder passwordEncoder;
+    private final long timeoutMs;
+    private final ThreadPoolExecutor executor;
+    private final Timer matchesTimer;
+    private final Timer encodeTimer;
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${app.password.hash-threads:0}") int threads,
+            @Value("${app.password.hash-queue-capacity:64}") int queueCapacity,
+            @Value("${app.password.hash-timeout-ms:3000}") long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMs = timeoutMs;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, queue, r -> {
+            Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }, new ThreadPoolExecutor.AbortPolicy());
+
+        this.matchesTimer = Timer.builder("password.hash").tag("op", "matches")
+                .description("비밀번호 해시 계산 시간").register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hash").tag("op", "encode")
+                .description("비밀번호 해시 계산 시간").register(meterRegistry);
+        Gauge.builder("password.hash.queue.depth", queue, BlockingQueue::size)
+                .description("비밀번호 해시 대기 건수")
+                .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("password.hash.rejected");
+        this.timeoutCounter = meterRegistry.counter("password.hash.timeouts");
+        log.info("[비밀번호 해시 실행기] threads={}, queueCapacity={}, timeoutMs={}", poolSize, queueCapacity, timeoutMs);
+    }
+
+    /**
+     * 평문 비밀번호 해시 (설정된 저장 알고리즘, {@code {id}} 접두어 포함)
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return 저장용 해시 문자열
+     * @throws CustomGeneralException 실행기 포화 또는 시간 초과 시
+     */
+    public String encode(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 평문 비밀번호와 저장 해시 비교
+     *
+     * @param rawPassword     사용자가 입력한 평문 비밀번호
+     * @param encodedPassword DB에 저장된 해시 (기존 접두어 없는 SHA-256 포함)
+     * @return 일치 여부
+     * @throws CustomGeneralException 실행기 포화 또는 시간 초과 시
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장 해시의 재해시 필요 여부 (기존 SHA-256 형식이거나 작업계수가 현재 설정보다 낮은 경우)
+     *
+     * @param encodedPassword DB에 저장된 해시
+     * @return 재해시가 필요하면 true
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return encodedPassword != null && passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Timer timer, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("[비밀번호 해시 실행기 포화] 대기 {}건, 요청 거절", executor.getQueue().size());
+            throw new CustomGeneralException(BUSY_MESSAGE);
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCounter.increment();
+            log.warn("[비밀번호 해시 시간 초과] {}ms, 대기 {}건", timeoutMs, executor.getQueue().size());
+            throw new CustomGeneralException(BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomGeneralException(BUSY_MESSAGE, e);
+        } catch (ExecutionException e) {
+            // 인코더 예외(예: bcrypt 72바이트 초과 IllegalArgumentException)는 그대로 전파
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("비밀번호 해시 실패", e.getCause());
+        }
+    }
+
+    /**
+     * 종료 시 해시 스레드 정리 (진행 중 요청은 취소)
+     */
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
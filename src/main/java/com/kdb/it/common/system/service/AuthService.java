@@ -7,18 +7,25 @@ import com.kdb.it.common.system.entity.Crtokm;
 import com.kdb.it.common.system.dto.AuthDto;
 import com.kdb.it.common.iam.repository.RoleRepository;
 import com.kdb.it.common.iam.repository.UserRepository;
-import com.kdb.it.common.system.repository.LoginHistoryRepository;
 import com.kdb.it.common.system.repository.RefreshTokenRepository;
 import com.kdb.it.common.system.security.CustomUserDetails;
 import com.kdb.it.common.system.security.JwtUtil;
+import com.kdb.it.common.system.security.PasswordHasher;
+import com.kdb.it.common.system.writer.LoginEvent;
+import com.kdb.it.common.system.writer.LoginHistoryWriteQueue;
+import com.kdb.it.exception.CustomGeneralException;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -31,28 +38,33 @@ import java.util.stream.Collectors;
  * <p>인증 방식: JWT 기반 Stateless 인증</p>
  * <ul>
  *   <li>Access Token: 단기 유효 (기본 15분), httpOnly 쿠키로 자동 전송</li>
- *   <li>Refresh Token: 장기 유효 (기본 7일), DB에 저장, Access Token 갱신에 사용</li>
+ *   <li>Refresh Token: 장기 유효 (기본 7일), DB에 해시로 저장, Access Token 갱신 시마다 교체 (종료일시는 로그인 기준으로 고정)</li>
  * </ul>
  *
- * <p>로그인 이력: 로그인 성공/실패, 로그아웃 시 {@link Clognh}에 자동 기록됩니다.</p>
+ * <p>로그인 이력: 로그인 성공/실패, 로그아웃 시 {@link LoginHistoryWriteQueue}에 이벤트로 넘기며,
+ * 전용 스레드가 {@link Clognh}(TAAABB_CLOGNH)에 배치로 기록합니다 (로그인 트랜잭션과 분리,
+ * 성공·로그아웃은 커밋 후, 실패는 즉시 적재).</p>
  *
- * <p>비밀번호 처리: {@link PasswordEncoder} (SHA-256 + Base64 방식)로 암호화합니다.</p>
+ * <p>비밀번호 처리: {@link PasswordHasher} 전용 실행기에서 설정된 알고리즘(기본 bcrypt)으로 해시·검증하며,
+ * 기존 SHA-256 저장값은 로그인 성공 시 새 알고리즘으로 재해시합니다.</p>
  */
 @Service             // Spring 서비스 빈으로 등록
 @RequiredArgsConstructor // final 필드 생성자 자동 주입 (Lombok)
 public class AuthService {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+
     /** 사용자 정보 데이터 접근 리포지토리 (TAAABB_CUSERI) */
     private final UserRepository userRepository;
 
     /** Refresh Token 데이터 접근 리포지토리 (REFRESH_TOKEN) */
     private final RefreshTokenRepository refreshTokenRepository;
 
-    /** 로그인 이력 데이터 접근 리포지토리 (LOGIN_HISTORY) */
-    private final LoginHistoryRepository loginHistoryRepository;
+    /** 로그인 이력 비동기 배치 쓰기 큐 (TAAABB_CLOGNH) */
+    private final LoginHistoryWriteQueue loginHistoryWriteQueue;
 
-    /** 비밀번호 암호화 및 검증 (SHA-256 + Base64) */
-    private final PasswordEncoder passwordEncoder;
+    /** 비밀번호 해시 및 검증 (전용 실행기) */
+    private final PasswordHasher passwordHasher;
 
     /** 역할관리(사용자↔자격등급 매핑) 데이터 접근 리포지토리 (TAAABB_CROLEI) */
     private final RoleRepository roleRepository;
@@ -60,6 +72,9 @@ public class AuthService {
     /** JWT Access/Refresh Token 생성 및 검증 유틸리티 */
     private final JwtUtil jwtUtil;
 
+    /** 로그인 쓰기 구간 트랜잭션 (로그인은 비밀번호 검증 동안 커넥션을 잡지 않도록 트랜잭션 없이 실행) */
+    private final PlatformTransactionManager transactionManager;
+
     @Value("${jwt.refresh-token-validity}")
     private long refreshTokenValidityMs;
 
@@ -85,7 +100,7 @@ public class AuthService {
         CuserI user = CuserI.builder()
                 .eno(request.getEno())                            // 사번 (PK)
                 .usrNm(request.getEmpNm())                        // 사용자명
-                .usrEcyPwd(passwordEncoder.encode(request.getPassword())) // 암호화된 비밀번호
+                .usrEcyPwd(passwordHasher.encode(request.getPassword())) // 암호화된 비밀번호
                 .delYn("N")                                       // 삭제여부: 미삭제
                 .fstEnrDtm(LocalDateTime.now())                   // 최초 등록 일시
                 .lstChgDtm(LocalDateTime.now())                   // 최종 변경 일시
@@ -120,12 +135,17 @@ public class AuthService {
      * <ol>
      *   <li>DB에서 사번으로 사용자 조회 (없으면 로그인 실패 이력 기록 후 예외)</li>
      *   <li>비밀번호 검증 (불일치 시 로그인 실패 이력 기록 후 예외)</li>
+     *   <li>기존 형식(SHA-256)·낮은 작업계수 해시면 입력 평문으로 새 해시 계산</li>
      *   <li>Access Token 생성 (단기 유효)</li>
-     *   <li>Refresh Token 생성 및 DB 저장 (기존 토큰 삭제 후 신규 저장)</li>
-     *   <li>로그인 성공 이력 기록</li>
+     *   <li>짧은 트랜잭션: 새 해시 저장, Refresh Token 생성 및 DB 저장 (기존 토큰 삭제 후 신규 저장),
+     *       로그인 성공 이력 제출 (커밋 후 적재)</li>
      *   <li>토큰 및 사용자 정보 반환 (컨트롤러에서 httpOnly 쿠키로 변환)</li>
      * </ol>
      *
+     * <p>이 메서드는 트랜잭션 없이 실행됩니다. 비밀번호 검증·재해시는 해시 전용 실행기에서 수백 ms가 걸리므로,
+     * 그동안 JDBC 커넥션을 잡지 않도록 사용자 조회·검증을 트랜잭션 밖에서 끝낸 뒤
+     * 쓰기만 {@link #persistLogin}으로 묶어 짧은 트랜잭션으로 처리합니다.</p>
+     *
      * @param eno       로그인할 사번
      * @param password  입력한 비밀번호 (평문)
      * @param ipAddress 클라이언트 IP 주소 (이력 기록용)
@@ -133,7 +153,6 @@ public class AuthService {
      * @return 로그인 응답 DTO (쿠키 생성에 사용할 토큰, 사번, 사용자명, 자격등급)
      * @throws RuntimeException 사용자 미존재 또는 비밀번호 불일치 시
      */
-    @Transactional
     public AuthDto.LoginResponse login(String eno, String password, String ipAddress, String userAgent) {
         // 사용자 조회 — 없으면 실패 이력 기록 후 예외 (메시지 문자열 매칭 없이 타입으로 분기)
         Optional<CuserI> userOpt = userRepository.findByEno(eno);
@@ -143,28 +162,21 @@ public class AuthService {
         }
         CuserI user = userOpt.get();
 
-        // 비밀번호 검증 (SHA-256 + Base64 방식)
-        if (!passwordEncoder.matches(password, user.getUsrEcyPwd())) {
+        // 비밀번호 검증 (저장값 접두어로 알고리즘 선택, 해시 전용 실행기에서 계산)
+        if (!passwordHasher.matches(password, user.getUsrEcyPwd())) {
             recordLoginFailure(eno, ipAddress, userAgent, "비밀번호 불일치");
             throw new RuntimeException("비밀번호가 일치하지 않습니다.");
         }
+        String upgradedHash = rehashIfNeeded(user, password);
 
         // 사용자의 모든 활성 자격등급 조회 (다중 자격등급 지원)
         List<String> athIds = loadAthIds(eno);
 
         String accessToken = jwtUtil.generateAccessToken(eno, athIds, user.getBbrC());
-        String refreshTokenValue = jwtUtil.generateRefreshToken(eno);
 
-        // 기존 Refresh Token 삭제 후 새 토큰 저장 (1인 1토큰 정책)
-        refreshTokenRepository.deleteByEno(eno);
-        Crtokm refreshToken = Crtokm.builder()
-                .tok(refreshTokenValue)
-                .eno(eno)
-                .endDtm(LocalDateTime.now().plus(Duration.ofMillis(refreshTokenValidityMs)))
-                .build();
-        refreshTokenRepository.save(refreshToken);
-
-        recordLoginSuccess(eno, ipAddress, userAgent);
+        // 쓰기만 짧은 트랜잭션으로 처리 (해시 계산 중에는 커넥션을 잡지 않음)
+        String refreshTokenValue = new TransactionTemplate(transactionManager)
+                .execute(status -> persistLogin(eno, user.getUsrEcyPwd(), upgradedHash, ipAddress, userAgent));
 
         return AuthDto.LoginResponse.builder()
                 .accessToken(accessToken)
@@ -178,42 +190,59 @@ public class AuthService {
     }
 
     /**
-     * Access Token 갱신
+     * Access Token 갱신 (Refresh Token 교체)
      *
      * <p>만료된 Access Token 대신 유효한 Refresh Token을 사용하여
-     * 새로운 Access Token을 발급합니다.</p>
+     * 새로운 Access Token을 발급하고, 사용한 Refresh Token은 새 토큰으로 교체합니다.</p>
      *
      * <p>처리 흐름:</p>
      * <ol>
      *   <li>Refresh Token JWT 서명/만료 검증</li>
-     *   <li>DB에서 Refresh Token 존재 여부 확인</li>
+     *   <li>DB에서 토큰 해시(TOK_HSH)로 존재 여부 확인 (UNIQUE 인덱스 1회 탐색)</li>
+     *   <li>이미 교체된 토큰이면 재사용(탈취)으로 보고 해당 사용자의 토큰을 모두 삭제</li>
      *   <li>DB 저장 만료일 기준 만료 여부 재확인 (보안 이중 검증)</li>
-     *   <li>새로운 Access Token 생성 및 반환</li>
+     *   <li>기존 토큰 교체 표시(조건부 UPDATE, 동시 요청 중 1건만 성공) 후 새 Access Token·Refresh Token 발급</li>
      * </ol>
      *
+     * <p>새 토큰은 기존 토큰의 종료일시를 그대로 이어받으므로, 갱신을 반복해도
+     * 로그인 시점부터 {@code jwt.refresh-token-validity}가 지나면 다시 로그인해야 합니다.</p>
+     *
+     * <p>교체된 행은 재사용 감지 구간({@code app.refresh-token.reuse-window-minutes}) 동안만 남겨 두며,
+     * 이후 교체 행과 만료 행은 {@link RefreshTokenPurgeService}가 정리합니다.</p>
+     *
      * @param refreshTokenValue 클라이언트가 제출한 Refresh Token 문자열
-     * @return 토큰 갱신 응답 DTO (새로운 Access Token)
-     * @throws RuntimeException Refresh Token이 유효하지 않거나 만료된 경우
+     * @return 토큰 갱신 응답 DTO (새로운 Access Token, 교체된 Refresh Token)
+     * @throws RuntimeException Refresh Token이 유효하지 않거나, 만료되었거나, 재사용된 경우
      */
-    @Transactional
+    @Transactional(noRollbackFor = CustomGeneralException.class) // 재사용·만료 토큰 삭제는 예외와 함께 커밋
     public AuthDto.RefreshResponse refreshAccessToken(String refreshTokenValue) {
         // JWT 서명/만료 검증 (1차 검증: JwtUtil)
         if (!jwtUtil.validateToken(refreshTokenValue)) {
             throw new RuntimeException("유효하지 않은 Refresh Token입니다.");
         }
 
-        // DB에서 Refresh Token 조회 (2차 검증: DB 존재 여부)
-        Crtokm refreshToken = refreshTokenRepository.findByTok(refreshTokenValue)
+        // DB에서 토큰 해시로 조회 (2차 검증: DB 존재 여부)
+        Crtokm refreshToken = refreshTokenRepository.findByTokHsh(JwtUtil.digest(refreshTokenValue))
                 .orElseThrow(() -> new RuntimeException("Refresh Token을 찾을 수 없습니다."));
+        String eno = refreshToken.getEno();
+
+        // 교체된 토큰 재사용 감지 (3차 검증: 교체여부)
+        if (refreshToken.isReplaced()) {
+            throw revokeReusedToken(eno);
+        }
 
-        // DB 저장 만료일 기준 만료 여부 확인 (3차 검증: endDtm 필드)
+        // DB 저장 만료일 기준 만료 여부 확인 (4차 검증: endDtm 필드)
         if (refreshToken.isExpired()) {
             refreshTokenRepository.delete(refreshToken); // 만료된 토큰 즉시 삭제
-            throw new RuntimeException("만료된 Refresh Token입니다.");
+            throw new CustomGeneralException("만료된 Refresh Token입니다.");
+        }
+
+        // 교체 표시 — 같은 토큰의 동시 갱신은 1건만 성공하고 나머지는 재사용으로 처리
+        if (refreshTokenRepository.markReplaced(refreshToken.getTokSno(), LocalDateTime.now()) == 0) {
+            throw revokeReusedToken(eno);
         }
 
         // Refresh 시에도 최신 자격등급 반영 (자격등급 변경 시 즉시 적용)
-        String eno = refreshToken.getEno();
         CuserI user = userRepository.findByEno(eno)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
@@ -221,9 +250,11 @@ public class AuthService {
 
         // 새로운 Access Token 생성 (최신 자격등급 및 부서코드 반영)
         String newAccessToken = jwtUtil.generateAccessToken(eno, athIds, user.getBbrC());
+        String newRefreshToken = issueRefreshToken(eno, refreshToken.getEndDtm()); // 계열 종료일시 유지
 
         return AuthDto.RefreshResponse.builder()
-                .accessToken(newAccessToken) // 새로 발급된 Access Token
+                .accessToken(newAccessToken)   // 새로 발급된 Access Token
+                .refreshToken(newRefreshToken) // 교체 발급된 Refresh Token
                 .build();
     }
 
@@ -247,15 +278,96 @@ public class AuthService {
     }
 
     /**
-     * 로그인 성공 이력 기록 (내부 헬퍼 메서드)
+     * 로그인 성공 쓰기 처리 (내부 헬퍼 메서드, 호출 측 트랜잭션 안에서 실행)
      *
-     * <p>{@link Clognh#createLoginSuccess(String, String, String)} 팩토리 메서드를 사용하여
-     * LOGIN_SUCCESS 타입의 이력을 생성하고 저장합니다.</p>
+     * <p>재해시 결과 저장, 기존 Refresh Token 삭제 후 새 토큰 계열 발급, 성공 이력 제출을 한 트랜잭션으로 묶습니다.
+     * 성공 이력은 커밋 후에만 적재되므로 토큰 저장이 실패해 롤백되면 남지 않습니다.</p>
      *
-     * @param eno       로그인 성공한 사번
-     * @param ipAddress 접속 IP 주소
-     * @param userAgent 접속 User-Agent
+     * <p>새 해시는 검증에 사용한 해시가 그대로일 때만 저장합니다(조건부 UPDATE). 검증 후 이 트랜잭션 전에
+     * 관리자가 비밀번호를 초기화했다면 초기화된 값을 덮어쓰지 않고 재해시를 건너뜁니다.</p>
+     *
+     * @param eno          로그인 성공한 사번
+     * @param verifiedHash 로그인 검증에 사용한 저장 해시
+     * @param upgradedHash 새 비밀번호 해시 (재해시가 필요 없거나 보류되었으면 null)
+     * @param ipAddress    접속 IP 주소
+     * @param userAgent    접속 User-Agent
+     * @return 발급된 Refresh Token 문자열
+     */
+    private String persistLogin(String eno, String verifiedHash, String upgradedHash,
+            String ipAddress, String userAgent) {
+        if (upgradedHash != null && userRepository.updatePasswordIfUnchanged(
+                eno, verifiedHash, upgradedHash, LocalDateTime.now()) == 0) {
+            log.warn("[비밀번호 재해시 생략] 검증 후 비밀번호가 변경됨 eno={}", eno);
+        }
+
+        // 기존 Refresh Token 삭제 후 새 토큰 저장 (로그인마다 새 토큰 계열 시작, 계열 종료일시 확정)
+        refreshTokenRepository.deleteByEno(eno);
+        String refreshTokenValue = issueRefreshToken(eno,
+                LocalDateTime.now().plus(Duration.ofMillis(refreshTokenValidityMs)));
+
+        recordLoginSuccess(eno, ipAddress, userAgent);
+        return refreshTokenValue;
+    }
+
+    /**
+     * 재사용된 Refresh Token 처리 (내부 헬퍼 메서드)
+     *
+     * <p>교체된 토큰이 다시 제출되면 탈취를 의심하여 해당 사용자의 토큰 계열을 모두 폐기합니다.
+     * 정상 사용자도 다시 로그인해야 하지만, 탈취한 쪽이 가진 최신 토큰도 함께 무효화됩니다.</p>
+     *
+     * @param eno 토큰 소유자 사번
+     * @return 호출 측에서 던질 예외
+     */
+    private CustomGeneralException revokeReusedToken(String eno) {
+        refreshTokenRepository.deleteByEno(eno);
+        return new CustomGeneralException("이미 사용된 Refresh Token입니다. 다시 로그인해 주세요.");
+    }
+
+    /**
+     * 저장 해시 재해시 계산 (로그인 성공 시 1회, 트랜잭션 밖에서 실행)
+     *
+     * <p>기존 SHA-256 형식이거나 작업계수가 현재 설정보다 낮으면, 방금 검증된 평문으로 새 해시를 만들어 반환합니다.
+     * 저장은 {@link #persistLogin}에서 합니다. 재해시가 실패(실행기 포화, BCrypt 72바이트 초과 등)해도
+     * 로그인은 계속하며 다음 로그인 때 다시 시도합니다.</p>
+     *
+     * @param user     로그인에 성공한 사용자
+     * @param password 검증된 평문 비밀번호
+     * @return 새 해시 (재해시가 필요 없거나 보류되었으면 null)
+     */
+    private String rehashIfNeeded(CuserI user, String password) {
+        if (!passwordHasher.upgradeEncoding(user.getUsrEcyPwd())) {
+            return null;
+        }
+        try {
+            return passwordHasher.encode(password);
+        } catch (CustomGeneralException | IllegalArgumentException e) {
+            // IllegalArgumentException: BCrypt가 72바이트 초과 비밀번호를 거부 (한글 25자 이상 등) → 기존 해시 유지
+            log.warn("[비밀번호 재해시 보류] eno={}, reason={}", user.getEno(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Refresh Token 발급 및 해시 저장 (내부 헬퍼 메서드)
+     *
+     * <p>토큰 원문은 클라이언트(쿠키)에만 전달하고 DB에는 SHA-256 해시만 저장합니다.
+     * JWT 만료 시각과 DB 종료일시는 같은 계열 종료일시를 사용합니다.</p>
+     *
+     * @param eno    토큰 소유자 사번
+     * @param endDtm 토큰 계열 종료일시 (로그인 시 확정, 갱신 시 그대로 이어받음)
+     * @return 발급된 Refresh Token 문자열
      */
+    private String issueRefreshToken(String eno, LocalDateTime endDtm) {
+        String refreshTokenValue = jwtUtil.generateRefreshToken(eno,
+                endDtm.atZone(ZoneId.systemDefault()).toInstant());
+        refreshTokenRepository.save(Crtokm.builder()
+                .tokHsh(JwtUtil.digest(refreshTokenValue))
+                .eno(eno)
+                .endDtm(endDtm)
+                .build());
+        return refreshTokenValue;
+    }
+
     private List<String> loadAthIds(String eno) {
         List<String> athIds = roleRepository
                 .findAllByIdEnoAndUseYnAndDelYn(eno, "Y", "N")
@@ -265,16 +377,25 @@ public class AuthService {
         return athIds.isEmpty() ? List.of(CustomUserDetails.ATH_USER) : athIds;
     }
 
+    /**
+     * 로그인 성공 이력 기록 (내부 헬퍼 메서드)
+     *
+     * <p>{@link LoginEvent#loginSuccess(String, String, String)} 이벤트를 쓰기 큐에 넘깁니다.
+     * 로그인 트랜잭션이 커밋된 후에만 적재되므로, 토큰 저장 등이 실패해 롤백된 로그인은 성공으로 남지 않습니다.</p>
+     *
+     * @param eno       로그인 성공한 사번
+     * @param ipAddress 접속 IP 주소
+     * @param userAgent 접속 User-Agent
+     */
     private void recordLoginSuccess(String eno, String ipAddress, String userAgent) {
-        Clognh loginHistory = Clognh.createLoginSuccess(eno, ipAddress, userAgent);
-        loginHistoryRepository.save(loginHistory);
+        loginHistoryWriteQueue.submit(LoginEvent.loginSuccess(eno, ipAddress, userAgent));
     }
 
     /**
      * 로그인 실패 이력 기록 (내부 헬퍼 메서드)
      *
-     * <p>{@link Clognh#createLoginFailure(String, String, String, String)} 팩토리 메서드를 사용하여
-     * LOGIN_FAILURE 타입의 이력을 생성하고 저장합니다.</p>
+     * <p>{@link LoginEvent#loginFailure(String, String, String, String)} 이벤트를 쓰기 큐에 넘깁니다.
+     * 로그인 실패는 쓰기 트랜잭션 시작 전에 판정되므로 트랜잭션 결과와 무관하게 즉시 적재합니다.</p>
      *
      * @param eno           로그인 시도한 사번
      * @param ipAddress     접속 IP 주소
@@ -282,22 +403,19 @@ public class AuthService {
      * @param failureReason 실패 사유 (예: "비밀번호 불일치", "존재하지 않는 사번")
      */
     private void recordLoginFailure(String eno, String ipAddress, String userAgent, String failureReason) {
-        Clognh loginHistory = Clognh.createLoginFailure(eno, ipAddress, userAgent, failureReason);
-        loginHistoryRepository.save(loginHistory);
+        loginHistoryWriteQueue.submitNow(LoginEvent.loginFailure(eno, ipAddress, userAgent, failureReason));
     }
 
     /**
      * 로그아웃 이력 기록 (내부 헬퍼 메서드)
      *
-     * <p>{@link Clognh#createLogout(String, String, String)} 팩토리 메서드를 사용하여
-     * LOGOUT 타입의 이력을 생성하고 저장합니다.</p>
+     * <p>{@link LoginEvent#logout(String, String, String)} 이벤트를 쓰기 큐에 넘깁니다 (트랜잭션 커밋 후 적재).</p>
      *
      * @param eno       로그아웃한 사번
      * @param ipAddress 접속 IP 주소
      * @param userAgent 접속 User-Agent
      */
     private void recordLogout(String eno, String ipAddress, String userAgent) {
-        Clognh loginHistory = Clognh.createLogout(eno, ipAddress, userAgent);
-        loginHistoryRepository.save(loginHistory);
+        loginHistoryWriteQueue.submit(LoginEvent.logout(eno, ipAddress, userAgent));
     }
 }
@@ -0,0 +1,54 @@
+package com.kdb.it.common.system.service;
+
+import com.kdb.it.common.system.repository.LoginStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그인 일별 통계(TAAABB_CLOGND) 백필 서비스
+ *
+ * <p>
+ * 배포 이후의 로그인 이력은 {@link com.kdb.it.common.system.writer.LoginStatsRollupWriter}가
+ * 이력 INSERT와 같은 트랜잭션에서 통계에 반영합니다. 이 서비스는 그 이전에 쌓인 이력을
+ * 기동 시 1회 통계로 옮깁니다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class LoginStatsRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginStatsRollupService.class);
+
+    /** 로그인 일별 통계 리포지토리 (TAAABB_CLOGND/CLOGNU) */
+    private final LoginStatsRepository loginStatsRepository;
+
+    /**
+     * 기동 시 일별 통계 백필 (최초 배포 1회)
+     *
+     * <p>
+     * 오늘 이전 통계 행이 없는데 오늘 이전 로그인 이력이 있으면 일별 사용자 → 일별 통계 순으로 적재합니다.
+     * 기동 직후 writer가 오늘 행을 먼저 만들 수 있으므로 오늘 이전 행만 판단·적재하며,
+     * 배포 당일 배포 전 이력은 {@code resources/sql/clognd_ddl.sql}의 백필로 보정할 수 있습니다.
+     * 두 적재 쿼리는 모두 멱등이므로 중간에 실패하면 다음 기동 시 다시 수행됩니다.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (loginStatsRepository.countRollupBeforeToday() > 0
+                    || loginStatsRepository.countHistoryBeforeToday() == 0) {
+                return;
+            }
+            int users = loginStatsRepository.backfillUsers();
+            int days = loginStatsRepository.backfillDaily();
+            log.info("[로그인 일별 통계] TAAABB_CLOGND 백필 완료: 통계 {}건, 일별 사용자 {}건", days, users);
+        } catch (RuntimeException e) {
+            log.warn("[로그인 일별 통계] TAAABB_CLOGND 백필 실패 (clognd_ddl.sql로 수동 적재 필요), reason={}",
+                    e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.kdb.it.common.system.service;
+
+import com.kdb.it.common.system.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 만료·교체 갱신토큰 정리 서비스
+ *
+ * <p>
+ * Refresh Token은 갱신할 때마다 교체되고, 교체된 행은 재사용 감지를 위해
+ * {@code app.refresh-token.reuse-window-minutes} 동안만 남습니다.
+ * 재사용 감지 구간이 지난 교체 행과 종료일시가 지난 행은 더 이상 쓰이지 않으므로
+ * {@code app.refresh-token.purge-cron} 주기로 {@code app.refresh-token.purge-batch-size}건씩 나누어 삭제하여
+ * {@code TAAABB_CRTOKM}을 작게 유지합니다.
+ * </p>
+ *
+ * <p>
+ * 배치마다 별도 트랜잭션으로 커밋하므로 대량 삭제 시에도 undo·락이 배치 크기로 제한됩니다.
+ * 여러 서버가 동시에 실행해도 같은 조건의 DELETE만 수행하므로 결과가 같습니다.
+ * 실패는 로그·메트릭만 남기고 다음 주기에 재시도합니다.
+ * </p>
+ *
+ * <p>
+ * [메트릭] {@code refresh.token.purged}(삭제 건수), {@code refresh.token.purge.failures}
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenPurgeService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenPurgeService.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final PlatformTransactionManager transactionManager;
+
+    private final MeterRegistry meterRegistry;
+
+    /** 1회(1트랜잭션) 최대 삭제 건수 */
+    @Value("${app.refresh-token.purge-batch-size:1000}")
+    private int batchSize;
+
+    /** 교체된 토큰을 재사용 감지용으로 보관하는 시간(분) */
+    @Value("${app.refresh-token.reuse-window-minutes:60}")
+    private long reuseWindowMinutes;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Counter purgedCounter;
+
+    private Counter failureCounter;
+
+    /**
+     * 트랜잭션 템플릿·메트릭 초기화
+     */
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        purgedCounter = meterRegistry.counter("refresh.token.purged");
+        failureCounter = meterRegistry.counter("refresh.token.purge.failures");
+    }
+
+    /**
+     * 만료·교체 갱신토큰 배치 삭제
+     *
+     * <p>
+     * 재사용 감지 구간이 지난 교체 행, 종료일시가 지난 행 순으로 각각 배치 삭제 건수가
+     * 배치 크기보다 작아질 때까지 반복하며, 예외는 밖으로 던지지 않습니다.
+     * </p>
+     *
+     * @return 이번 실행에서 삭제한 전체 건수
+     */
+    @Scheduled(cron = "${app.refresh-token.purge-cron:0 0 * * * *}")
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime replacedBefore = now.minusMinutes(reuseWindowMinutes);
+        return purgeInBatches("교체", size -> refreshTokenRepository.deleteReplacedBatch(replacedBefore, size))
+                + purgeInBatches("만료", size -> refreshTokenRepository.deleteExpiredBatch(now, size));
+    }
+
+    /**
+     * 0건이 될 때까지 배치 삭제 반복 (배치마다 별도 트랜잭션)
+     *
+     * @param kind        로그용 정리 대상 이름
+     * @param deleteBatch 배치 크기를 받아 삭제 건수를 반환하는 DELETE
+     * @return 삭제한 전체 건수 (실패 시 실패 전까지 삭제한 건수)
+     */
+    private int purgeInBatches(String kind, IntUnaryOperator deleteBatch) {
+        int total = 0;
+        try {
+            int deleted;
+            do {
+                Integer count = transactionTemplate.execute(status -> deleteBatch.applyAsInt(batchSize));
+                deleted = count != null ? count : 0;
+                total += deleted;
+                purgedCounter.increment(deleted);
+            } while (deleted >= batchSize);
+        } catch (DataAccessException e) {
+            failureCounter.increment();
+            log.warn("{} 갱신토큰 정리 실패 ({}건 삭제 후): {}", kind, total, e.getMessage());
+            return total;
+        }
+        if (total > 0) {
+            log.info("{} 갱신토큰 정리: {}건", kind, total);
+        }
+        return total;
+    }
+}
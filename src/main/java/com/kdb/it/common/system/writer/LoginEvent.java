@@ -0,0 +1,67 @@
+package com.kdb.it.common.system.writer;
+
+import com.kdb.it.common.system.entity.Clognh;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 이력 1건의 불변 이벤트.
+ *
+ * <p>{@link Clognh}(TAAABB_CLOGNH) 1행에 대응하며, 로그인 스레드에서 만들어
+ * {@link LoginHistoryWriteQueue}에 넘기면 전용 스레드가 JDBC 배치로 INSERT한다.
+ * 이벤트 시각({@code lgnDtm})은 INSERT 시각이 아니라 발생 시각이다.</p>
+ *
+ * @param eno     사원번호 (로그인 실패 시 DB에 없는 사번일 수 있음)
+ * @param lgnTp   로그인유형 ({@link Clognh#LOGIN_SUCCESS}/{@link Clognh#LOGIN_FAILURE}/{@link Clognh#LOGOUT})
+ * @param ipAddr  접속 IP 주소
+ * @param ustAgt  접속 브라우저/기기 정보
+ * @param lgnDtm  이벤트 발생 일시
+ * @param flurRsn 실패사유 (로그인 실패가 아니면 null)
+ * @param enrUsid 등록자사번 (인증된 요청의 사번, 로그인 전이면 null — JPA Auditing과 동일)
+ */
+public record LoginEvent(
+        String eno,
+        String lgnTp,
+        String ipAddr,
+        String ustAgt,
+        LocalDateTime lgnDtm,
+        String flurRsn,
+        String enrUsid) {
+
+    /**
+     * 로그인 성공 이벤트
+     *
+     * @param eno    로그인에 성공한 사용자의 사번
+     * @param ipAddr 접속 IP 주소
+     * @param ustAgt 접속 브라우저/기기 정보
+     * @return {@code lgnTp = "LOGIN_SUCCESS"} 이벤트
+     */
+    public static LoginEvent loginSuccess(String eno, String ipAddr, String ustAgt) {
+        return new LoginEvent(eno, Clognh.LOGIN_SUCCESS, ipAddr, ustAgt, LocalDateTime.now(), null, null);
+    }
+
+    /**
+     * 로그인 실패 이벤트
+     *
+     * @param eno     로그인을 시도한 사번
+     * @param ipAddr  접속 IP 주소
+     * @param ustAgt  접속 브라우저/기기 정보
+     * @param flurRsn 실패 사유 (예: "비밀번호 불일치", "존재하지 않는 사번")
+     * @return {@code lgnTp = "LOGIN_FAILURE"} 이벤트
+     */
+    public static LoginEvent loginFailure(String eno, String ipAddr, String ustAgt, String flurRsn) {
+        return new LoginEvent(eno, Clognh.LOGIN_FAILURE, ipAddr, ustAgt, LocalDateTime.now(), flurRsn, null);
+    }
+
+    /**
+     * 로그아웃 이벤트 (인증된 요청이므로 등록자는 본인)
+     *
+     * @param eno    로그아웃한 사용자의 사번
+     * @param ipAddr 접속 IP 주소
+     * @param ustAgt 접속 브라우저/기기 정보
+     * @return {@code lgnTp = "LOGOUT"} 이벤트
+     */
+    public static LoginEvent logout(String eno, String ipAddr, String ustAgt) {
+        return new LoginEvent(eno, Clognh.LOGOUT, ipAddr, ustAgt, LocalDateTime.now(), null, eno);
+    }
+}
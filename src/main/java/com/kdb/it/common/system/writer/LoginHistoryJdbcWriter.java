@@ -0,0 +1,59 @@
+package com.kdb.it.common.system.writer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 로그인 이력 JDBC 배치 INSERT 컴포넌트.
+ *
+ * <p>{@link LoginEvent} 목록을 {@link JdbcTemplate#batchUpdate}로 {@code TAAABB_CLOGNH}에 한 번에 INSERT한다.
+ * PK({@code LGN_SNO})는 INSERT 문 안의 {@code S_LGN_SNO.NEXTVAL}로 생성하여 행마다 시퀀스 조회 왕복이 없다.
+ * {@link com.kdb.it.domain.entity.BaseEntity} 공통 컬럼은 {@code @PrePersist}·JPA Auditing과 같은 값으로 채운다.</p>
+ *
+ * <p>같은 트랜잭션에서 {@link LoginStatsRollupWriter}로 일별 로그인 통계({@code TAAABB_CLOGND})도 증분 반영한다.</p>
+ *
+ * <p>한 번의 {@link #write(List)} 호출은 하나의 트랜잭션으로 처리되어, 실패 시 이력·통계 전체가 롤백되고
+ * 호출자({@link LoginHistoryWriteQueue})가 spill 파일로 보존한다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginHistoryJdbcWriter {
+
+    static final String INSERT_SQL = "INSERT INTO TAAABB_CLOGNH "
+            + "(LGN_SNO, ENO, LGN_TP, IP_ADDR, UST_AGT, LGN_DTM, FLUR_RSN, "
+            + "DEL_YN, GUID, GUID_PRG_SNO, FST_ENR_DTM, FST_ENR_USID, LST_CHG_DTM, LST_CHG_USID) "
+            + "VALUES (S_LGN_SNO.NEXTVAL, ?, ?, ?, ?, ?, ?, 'N', ?, 1, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final LoginStatsRollupWriter loginStatsRollupWriter;
+
+    /**
+     * 이벤트 목록 배치 INSERT 및 일별 통계 반영.
+     *
+     * @param events INSERT할 이벤트 목록
+     * @return INSERT된 행 수
+     */
+    @Transactional
+    public int write(List<LoginEvent> events) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> args = new ArrayList<>(events.size());
+        for (LoginEvent e : events) {
+            args.add(new Object[] {
+                    e.eno(), e.lgnTp(), e.ipAddr(), e.ustAgt(),
+                    e.lgnDtm() != null ? Timestamp.valueOf(e.lgnDtm()) : now, e.flurRsn(),
+                    UUID.randomUUID().toString(), now, e.enrUsid(), now, e.enrUsid()
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+        loginStatsRollupWriter.apply(events);
+        return args.size();
+    }
+}
@@ -0,0 +1,68 @@
+package com.kdb.it.common.system.writer;
+
+import com.kdb.it.common.writer.SpillFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 이력 spill 파일 (장애·종료 대비 내구성 버퍼).
+ *
+ * <p>파일 관리·재처리 방식은 {@link SpillFile}을 따른다. 레코드 본문은 필드 7개로,
+ * 문자열 컬럼 6개를 {@code [boolean 존재][UTF]}로, 발생 일시를 ISO 문자열로 기록한다(Java 직렬화 미사용).</p>
+ */
+public class LoginHistorySpillFile extends SpillFile<LoginEvent> {
+
+    /** 레코드 1건 최대 크기 (UST_AGT 2000자 기준 여유값, 손상된 길이 헤더 방어용) */
+    private static final int MAX_RECORD_BYTES = 64 * 1024;
+
+    public LoginHistorySpillFile(Path dir) {
+        super(dir, "login-history", MAX_RECORD_BYTES);
+    }
+
+    @Override
+    protected byte[] encode(LoginEvent e) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bos)) {
+            writeNullable(out, e.eno());
+            writeNullable(out, e.lgnTp());
+            writeNullable(out, e.ipAddr());
+            writeNullable(out, e.ustAgt());
+            writeNullable(out, e.lgnDtm() != null ? e.lgnDtm().toString() : null);
+            writeNullable(out, e.flurRsn());
+            writeNullable(out, e.enrUsid());
+        }
+        return bos.toByteArray();
+    }
+
+    @Override
+    protected LoginEvent decode(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            String eno = readNullable(in);
+            String lgnTp = readNullable(in);
+            String ipAddr = readNullable(in);
+            String ustAgt = readNullable(in);
+            String lgnDtm = readNullable(in);
+            String flurRsn = readNullable(in);
+            String enrUsid = readNullable(in);
+            return new LoginEvent(eno, lgnTp, ipAddr, ustAgt,
+                    lgnDtm != null ? LocalDateTime.parse(lgnDtm) : null, flurRsn, enrUsid);
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,62 @@
+package com.kdb.it.common.system.writer;
+
+import com.kdb.it.common.writer.BatchWriteQueue;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Paths;
+
+/**
+ * 로그인 이력 비동기 배치 쓰기 큐.
+ *
+ * <p>로그인·로그아웃 처리 스레드는 {@link LoginEvent}를 메모리 큐에 넣기만 하고(대기 없음),
+ * 전용 스레드가 {@code flush-interval-ms}마다 또는 {@code batch-size}건이 모이면
+ * {@link LoginHistoryJdbcWriter}로 JDBC 배치 INSERT한다. 로그인 트랜잭션에 이력 INSERT가 포함되지 않으므로
+ * 출근 시간대 로그인 집중 시에도 {@code TAAABB_CLOGNH} INSERT를 요청마다 기다리지 않는다.</p>
+ *
+ * <p>큐·재시도·spill 처리는 {@link BatchWriteQueue}를 따른다.
+ * 로그인 성공·로그아웃은 {@link #submit}으로 트랜잭션 커밋 후에만 적재하여 롤백된 로그인이 성공으로 남지 않게 하고,
+ * 예외로 끝나는 로그인 실패는 {@link #submitNow}로 즉시 적재한다.
+ * 큐가 가득 차면 로그인 지연을 막기 위해 대기 없이 이벤트를 버리고 {@code login.history.dropped}를 올린다.</p>
+ *
+ * <p>[메트릭] {@code login.history.queue.depth}(큐 적재 건수), {@code login.history.write.lag},
+ * {@code login.history.written}, {@code login.history.retries}, {@code login.history.dropped},
+ * {@code login.history.spilled}, {@code login.history.write.failures}</p>
+ */
+@Component
+public class LoginHistoryWriteQueue extends BatchWriteQueue<LoginEvent> {
+
+    /**
+     * @param writer          JDBC 배치 INSERT 컴포넌트
+     * @param meterRegistry   메트릭 등록 대상
+     * @param queueCapacity   메모리 큐 최대 적재 건수 — 초과분은 유실(dropped)
+     * @param batchSize       1회 INSERT 배치 최대 건수 (이만큼 모이면 주기와 무관하게 즉시 기록)
+     * @param flushIntervalMs 첫 이벤트 적재 후 배치를 모으는 최대 시간 (ms)
+     * @param maxAttempts     배치 1건 최대 INSERT 시도 횟수 — 초과 시 spill 파일로 보존
+     * @param retryBackoffMs  재시도 기본 대기 시간 (ms)
+     * @param spillDir        spill 파일 저장 디렉토리 (서버 인스턴스별 로컬 경로 권장)
+     */
+    public LoginHistoryWriteQueue(LoginHistoryJdbcWriter writer, MeterRegistry meterRegistry,
+            @Value("${app.login-history.queue-capacity:5000}") int queueCapacity,
+            @Value("${app.login-history.batch-size:200}") int batchSize,
+            @Value("${app.login-history.flush-interval-ms:500}") long flushIntervalMs,
+            @Value("${app.login-history.max-attempts:3}") int maxAttempts,
+            @Value("${app.login-history.retry-backoff-ms:200}") long retryBackoffMs,
+            @Value("${app.login-history.spill-dir:/data/login-history}") String spillDir) {
+        super(Settings.builder()
+                        .label("로그인이력")
+                        .metricPrefix("login.history")
+                        .threadName("login-history-writer")
+                        .queueCapacity(queueCapacity)
+                        .batchSize(batchSize)
+                        .pollIntervalMs(flushIntervalMs)
+                        .lingerMs(flushIntervalMs)
+                        .offerTimeoutMs(0)
+                        .dropOnOverflow(true)
+                        .maxAttempts(maxAttempts)
+                        .retryBackoffMs(retryBackoffMs)
+                        .build(),
+                writer::write, new LoginHistorySpillFile(Paths.get(spillDir)), meterRegistry);
+    }
+}
@@ -0,0 +1,118 @@
+package com.kdb.it.common.system.writer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 로그인 일별 통계 증분 반영 컴포넌트.
+ *
+ * <p>{@link LoginHistoryJdbcWriter}가 이력 배치를 INSERT한 같은 트랜잭션에서 호출되어,
+ * 배치를 일자·로그인유형별로 묶은 뒤 {@code TAAABB_CLOGND}(건수)와 {@code TAAABB_CLOGNU}(일별 사용자)를
+ * MERGE로 갱신한다. 이력과 통계가 함께 커밋·롤백되므로 spill 재처리 시에도 중복 집계되지 않는다.</p>
+ *
+ * <ol>
+ *   <li>CLOGND: 키별 {@code LGN_CNT += 배치 건수} (없으면 INSERT)</li>
+ *   <li>CLOGNU: (일자, 유형, 사번) 행이 없을 때만 INSERT</li>
+ *   <li>CLOGND: 이번 배치가 건드린 키의 {@code USR_CNT}를 CLOGNU PK 범위 COUNT로 재계산</li>
+ * </ol>
+ *
+ * <p>키를 정렬된 순서로 처리하여 두 서버의 writer가 같은 통계 행을 갱신할 때 교착을 피한다.
+ * 동시 최초 INSERT로 PK 위반이 나면 배치 전체가 롤백되어 spill 재처리로 다시 반영된다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginStatsRollupWriter {
+
+    static final String MERGE_DAILY_SQL = "MERGE INTO TAAABB_CLOGND d "
+            + "USING (SELECT ? AS LGN_DT, ? AS LGN_TP, ? AS CNT FROM DUAL) s "
+            + "ON (d.LGN_DT = s.LGN_DT AND d.LGN_TP = s.LGN_TP) "
+            + "WHEN MATCHED THEN UPDATE SET d.LGN_CNT = d.LGN_CNT + s.CNT, d.LST_CHG_DTM = SYSTIMESTAMP "
+            + "WHEN NOT MATCHED THEN INSERT (LGN_DT, LGN_TP, LGN_CNT, USR_CNT, LST_CHG_DTM) "
+            + "VALUES (s.LGN_DT, s.LGN_TP, s.CNT, 0, SYSTIMESTAMP)";
+
+    static final String MERGE_USER_SQL = "MERGE INTO TAAABB_CLOGNU u "
+            + "USING (SELECT ? AS LGN_DT, ? AS LGN_TP, ? AS ENO FROM DUAL) s "
+            + "ON (u.LGN_DT = s.LGN_DT AND u.LGN_TP = s.LGN_TP AND u.ENO = s.ENO) "
+            + "WHEN NOT MATCHED THEN INSERT (LGN_DT, LGN_TP, ENO) VALUES (s.LGN_DT, s.LGN_TP, s.ENO)";
+
+    static final String REFRESH_USER_COUNT_SQL = "UPDATE TAAABB_CLOGND d "
+            + "SET d.USR_CNT = (SELECT COUNT(*) FROM TAAABB_CLOGNU u "
+            + "WHERE u.LGN_DT = d.LGN_DT AND u.LGN_TP = d.LGN_TP) "
+            + "WHERE d.LGN_DT = ? AND d.LGN_TP = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이력 배치를 일별 통계에 증분 반영.
+     *
+     * @param events 이번 트랜잭션에서 INSERT된 이력 이벤트 목록
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(List<LoginEvent> events) {
+        LocalDate today = LocalDate.now();
+        Map<DailyKey, Long> counts = new TreeMap<>();
+        Set<UserKey> users = new TreeSet<>();
+        for (LoginEvent e : events) {
+            if (e.lgnTp() == null) {
+                continue;
+            }
+            LocalDateTime at = e.lgnDtm();
+            DailyKey key = new DailyKey(at != null ? at.toLocalDate() : today, e.lgnTp());
+            counts.merge(key, 1L, Long::sum);
+            if (e.eno() != null) {
+                users.add(new UserKey(key, e.eno()));
+            }
+        }
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> dailyArgs = new ArrayList<>(counts.size());
+        List<Object[]> keyArgs = new ArrayList<>(counts.size());
+        counts.forEach((key, cnt) -> {
+            dailyArgs.add(new Object[] { Date.valueOf(key.lgnDt()), key.lgnTp(), cnt });
+            keyArgs.add(new Object[] { Date.valueOf(key.lgnDt()), key.lgnTp() });
+        });
+        List<Object[]> userArgs = new ArrayList<>(users.size());
+        for (UserKey u : users) {
+            userArgs.add(new Object[] { Date.valueOf(u.key().lgnDt()), u.key().lgnTp(), u.eno() });
+        }
+
+        jdbcTemplate.batchUpdate(MERGE_DAILY_SQL, dailyArgs);
+        if (!userArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(MERGE_USER_SQL, userArgs);
+        }
+        jdbcTemplate.batchUpdate(REFRESH_USER_COUNT_SQL, keyArgs);
+    }
+
+    /** 통계 행 키 (일자, 로그인유형) — 정렬 순서 = 잠금 순서 */
+    record DailyKey(LocalDate lgnDt, String lgnTp) implements Comparable<DailyKey> {
+        @Override
+        public int compareTo(DailyKey o) {
+            int c = lgnDt.compareTo(o.lgnDt);
+            return c != 0 ? c : lgnTp.compareTo(o.lgnTp);
+        }
+    }
+
+    /** 일별 사용자 행 키 (일자, 로그인유형, 사번) */
+    record UserKey(DailyKey key, String eno) implements Comparable<UserKey> {
+        @Override
+        public int compareTo(UserKey o) {
+            int c = key.compareTo(o.key);
+            return c != 0 ? c : eno.compareTo(o.eno);
+        }
+    }
+}
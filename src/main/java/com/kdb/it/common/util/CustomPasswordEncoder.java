@@ -21,7 +21,8 @@ import java.util.Base64.Encoder;
  * </pre>
  *
  * <p>⚠ 주의: 빈 Salt(Empty Salt) 사용으로 인해 Rainbow Table 공격에 취약합니다.
- * 운영 환경에서는 BCrypt 등 Salt가 내장된 알고리즘 사용을 권장합니다.</p>
+ * 현재는 {@link PasswordEncoderFactory}의 위임 인코더에서 접두어 없는 기존 저장값 검증({@code {sha256}})에만 쓰이며,
+ * 새 비밀번호는 bcrypt/PBKDF2로 저장하고 기존 값은 로그인 성공 시 재해시합니다.</p>
  */
 public class CustomPasswordEncoder implements PasswordEncoder {
 
@@ -0,0 +1,54 @@
+package com.kdb.it.common.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * IN 조건 분할 조회 유틸리티
+ *
+ * <p>
+ * Oracle은 IN 목록 원소를 최대 1,000개까지만 허용합니다 (ORA-01795).
+ * 여러 건을 한 번에 조회하는 배치 로더에서 키 목록을 1,000건 단위로 나누어 조회하고
+ * 결과를 하나의 목록으로 합칩니다. 키는 중복·null을 제거한 뒤 원래 순서대로 분할합니다.
+ * </p>
+ *
+ * <pre>{@code
+ * List<Bprojm> projects = InClauseUtil.fetchInChunks(prjMngNos,
+ *         chunk -> projectRepository.findByPrjMngNoInAndDelYn(chunk, "N"));
+ * }</pre>
+ */
+public final class InClauseUtil {
+
+    /** Oracle IN 목록 최대 원소 수 (ORA-01795) */
+    public static final int MAX_IN_SIZE = 1000;
+
+    /** 유틸리티 클래스이므로 인스턴스 생성 방지 */
+    private InClauseUtil() {
+        throw new UnsupportedOperationException("유틸리티 클래스는 인스턴스화할 수 없습니다.");
+    }
+
+    /**
+     * 키 목록을 {@value #MAX_IN_SIZE}건 단위로 나누어 조회하고 결과를 합쳐 반환
+     *
+     * @param keys  조회 키 목록 (중복·null 제거 후 사용)
+     * @param query 분할된 키 목록으로 실행할 조회 함수
+     * @param <K>   키 타입
+     * @param <R>   결과 타입
+     * @return 모든 분할 조회 결과 (키가 없으면 조회 없이 빈 목록)
+     */
+    public static <K, R> List<R> fetchInChunks(Collection<K> keys, Function<List<K>, ? extends Collection<R>> query) {
+        List<K> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        distinct.remove(null);
+        if (distinct.isEmpty()) {
+            return List.of();
+        }
+        List<R> result = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += MAX_IN_SIZE) {
+            result.addAll(query.apply(distinct.subList(from, Math.min(from + MAX_IN_SIZE, distinct.size()))));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+package com.kdb.it.common.util;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 비밀번호 인코더 생성 유틸리티
+ *
+ * <p>저장 형식 {@code {id}해시}로 알고리즘을 구분하는 {@link DelegatingPasswordEncoder}를 만듭니다.
+ * 새 비밀번호는 {@code idForEncode} 알고리즘으로 저장하고, 검증은 저장값의 접두어로 알고리즘을 고릅니다.</p>
+ *
+ * <ul>
+ *   <li>{@code bcrypt}: {@link BCryptPasswordEncoder} — 작업계수 {@code bcryptStrength} (2^n 라운드)</li>
+ *   <li>{@code pbkdf2}: {@link Pbkdf2PasswordEncoder} (HMAC-SHA256) — 반복 횟수 {@code pbkdf2Iterations}</li>
+ *   <li>{@code sha256}: 기존 {@link CustomPasswordEncoder} (무염 SHA-256, 검증 전용)</li>
+ * </ul>
+ *
+ * <p>접두어가 없는 기존 저장값은 {@link CustomPasswordEncoder}로 검증하며,
+ * {@link PasswordEncoder#upgradeEncoding(String)}이 {@code true}를 반환하므로 로그인 성공 시 재해시 대상이 됩니다.
+ * bcrypt 작업계수를 올린 경우에도 기존 해시는 같은 방식으로 재해시됩니다.</p>
+ */
+public final class PasswordEncoderFactory {
+
+    /** 기존 무염 SHA-256 형식 식별자 */
+    public static final String LEGACY_ID = "sha256";
+
+    private PasswordEncoderFactory() {
+    }
+
+    /**
+     * 위임 비밀번호 인코더 생성
+     *
+     * @param idForEncode      새 비밀번호 저장 알고리즘 ({@code bcrypt} 또는 {@code pbkdf2})
+     * @param bcryptStrength   bcrypt 작업계수 (4~31)
+     * @param pbkdf2Iterations PBKDF2 반복 횟수
+     * @return {@link DelegatingPasswordEncoder}
+     * @throws IllegalArgumentException 지원하지 않는 알고리즘이거나 작업계수가 범위를 벗어난 경우
+     */
+    public static PasswordEncoder create(String idForEncode, int bcryptStrength, int pbkdf2Iterations) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder(bcryptStrength));
+        encoders.put("pbkdf2", new Pbkdf2PasswordEncoder("", 16, pbkdf2Iterations,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+        encoders.put(LEGACY_ID, new CustomPasswordEncoder());
+        if (LEGACY_ID.equals(idForEncode) || !encoders.containsKey(idForEncode)) {
+            throw new IllegalArgumentException("지원하지 않는 비밀번호 저장 알고리즘입니다: " + idForEncode);
+        }
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(idForEncode, encoders);
+        // 접두어 없는 기존 저장값({id} 도입 이전) → SHA-256으로 검증
+        delegating.setDefaultPasswordEncoderForMatches(encoders.get(LEGACY_ID));
+        return delegating;
+    }
+}
@@ -0,0 +1,82 @@
+package com.kdb.it.common.util;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 접두어 트라이
+ *
+ * <p>
+ * 문자열 1건을 문자 단위로 한 번 따라 내려가며 경로상에 끝나는 접두어를 찾습니다.
+ * 접두어 수와 무관하게 문자열 길이만큼만 비교하므로 {@code startsWith} 전수 비교를 대체합니다.
+ * 생성 후에는 변경하지 않으므로 여러 스레드에서 공유해도 안전합니다.
+ * </p>
+ *
+ * <pre>{@code
+ * PrefixTrie trie = new PrefixTrie(List.of("IOE-237", "IOE-238"));
+ * trie.matchesAny("IOE-237-0700"); // true
+ * }</pre>
+ */
+public final class PrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * @param prefixes 등록할 접두어 목록 (null 제외)
+     */
+    public PrefixTrie(Collection<String> prefixes) {
+        for (String prefix : prefixes) {
+            if (prefix == null) {
+                continue;
+            }
+            Node node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), c -> new Node());
+            }
+            node.prefix = prefix;
+        }
+    }
+
+    /**
+     * value가 시작하는 모든 접두어에 대해 짧은 접두어부터 action 호출
+     *
+     * @param value  검사할 문자열
+     * @param action 매칭된 접두어를 받을 함수
+     */
+    public void forEachMatch(String value, Consumer<String> action) {
+        Node node = root;
+        if (node.prefix != null) action.accept(node.prefix);
+        for (int i = 0; i < value.length(); i++) {
+            node = node.children.get(value.charAt(i));
+            if (node == null) return;
+            if (node.prefix != null) action.accept(node.prefix);
+        }
+    }
+
+    /**
+     * value가 등록된 접두어 중 하나로 시작하는지 여부
+     *
+     * @param value 검사할 문자열 (null이면 false)
+     * @return 하나라도 매칭되면 true
+     */
+    public boolean matchesAny(String value) {
+        if (value == null) {
+            return false;
+        }
+        Node node = root;
+        if (node.prefix != null) return true;
+        for (int i = 0; i < value.length(); i++) {
+            node = node.children.get(value.charAt(i));
+            if (node == null) return false;
+            if (node.prefix != null) return true;
+        }
+        return false;
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private String prefix;
+    }
+}
@@ -0,0 +1,407 @@
+package com.kdb.it.common.writer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Builder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 비동기 배치 쓰기 큐 (감사로그·로그인 이력 공통).
+ *
+ * <p>호출 스레드는 레코드를 메모리 큐에 넣기만 하고, 전용 스레드가 큐를 비우며 JDBC writer로 배치 INSERT한다.
+ * 레코드 타입과 writer, spill 파일 형식, 설정값만 하위 클래스가 정한다.</p>
+ *
+ * <p>[처리 흐름]</p>
+ * <ol>
+ *   <li>{@link #submit}: 트랜잭션 동기화가 활성화되어 있으면 트랜잭션별 버퍼에 보관,
+ *       없으면 즉시 큐에 적재 ({@link #submitNow}는 트랜잭션과 무관하게 즉시 적재)</li>
+ *   <li>{@code afterCommit}: 버퍼 전체를 큐에 적재 (롤백 시 폐기)</li>
+ *   <li>writer 스레드: 첫 레코드부터 {@code lingerMs} 동안 최대 {@code batchSize}건을 모아 한 번에 INSERT
+ *       ({@code lingerMs}가 0이면 꺼낼 수 있는 만큼만 모음)</li>
+ * </ol>
+ *
+ * <p>[Back-pressure / 내구성]</p>
+ * <ul>
+ *   <li>큐가 가득 차면 호출 스레드가 최대 {@code offerTimeoutMs} 동안 대기하고,
+ *       초과분은 spill 파일로 보존하거나({@code dropOnOverflow=false}) 버린다({@code dropOnOverflow=true}).</li>
+ *   <li>DB 쓰기가 실패하면 같은 배치를 최대 {@code maxAttempts}회까지 {@code retryBackoffMs} 간격(시도마다 배수)으로
+ *       다시 시도하고, 그래도 실패하면 {@link SpillFile}에 fsync 후 보존한다.
+ *       항상 실패하는 배치가 writer 스레드를 붙잡지 않도록 재시도 횟수를 제한한다.</li>
+ *   <li>종료 시 남은 큐를 마지막으로 기록하고, 실패분은 spill 파일로 남긴다.</li>
+ *   <li>spill 파일은 기동 직후 및 큐 유휴 시점에 재처리한다.</li>
+ * </ul>
+ *
+ * <p>[메트릭] {@code {prefix}.queue.depth}(큐 적재 건수), {@code {prefix}.write.lag}(적재→INSERT 지연),
+ * {@code {prefix}.written}, {@code {prefix}.retries}, {@code {prefix}.spilled}, {@code {prefix}.dropped},
+ * {@code {prefix}.write.failures}</p>
+ *
+ * @param <T> 레코드 타입
+ */
+public abstract class BatchWriteQueue<T> implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchWriteQueue.class);
+
+    /** spill 재처리 실패 후 재시도 간격 */
+    private static final long SPILL_RETRY_INTERVAL_MS = 30_000;
+
+    private final Settings settings;
+    private final Consumer<List<T>> writer;
+    private final SpillFile<T> spillFile;
+
+    private final BlockingQueue<Pending<T>> queue;
+    private final Timer writeLag;
+    private final Counter writtenCounter;
+    private final Counter retryCounter;
+    private final Counter spilledCounter;
+    private final Counter droppedCounter;
+    private final Counter failureCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+    private long lastSpillFailureAt;
+
+    /**
+     * 큐·메트릭 초기화.
+     *
+     * @param settings      큐 설정
+     * @param writer        배치 1건을 한 트랜잭션으로 INSERT하는 writer (실패 시 RuntimeException)
+     * @param spillFile     실패·초과분 보존 파일
+     * @param meterRegistry 메트릭 등록 대상
+     */
+    protected BatchWriteQueue(Settings settings, Consumer<List<T>> writer, SpillFile<T> spillFile,
+            MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.writer = writer;
+        this.spillFile = spillFile;
+        this.queue = new ArrayBlockingQueue<>(settings.queueCapacity());
+        String prefix = settings.metricPrefix();
+        Gauge.builder(prefix + ".queue.depth", queue, BlockingQueue::size)
+                .description(settings.label() + " 쓰기 대기 건수")
+                .register(meterRegistry);
+        this.writeLag = Timer.builder(prefix + ".write.lag")
+                .description("큐 적재부터 " + settings.label() + " INSERT까지 지연")
+                .register(meterRegistry);
+        this.writtenCounter = meterRegistry.counter(prefix + ".written");
+        this.retryCounter = meterRegistry.counter(prefix + ".retries");
+        this.spilledCounter = meterRegistry.counter(prefix + ".spilled");
+        this.droppedCounter = meterRegistry.counter(prefix + ".dropped");
+        this.failureCounter = meterRegistry.counter(prefix + ".write.failures");
+    }
+
+    /**
+     * 레코드 제출 (커밋 후 적재).
+     *
+     * <p>트랜잭션 안이면 커밋 후 적재하도록 트랜잭션별 버퍼에 보관하고, 트랜잭션 밖이면 즉시 적재한다.
+     * {@code REQUIRES_NEW} 등 중첩 트랜잭션은 동기화 목록이 분리되므로 각자 커밋 시점에 적재된다.</p>
+     *
+     * @param record 기록할 레코드
+     */
+    public void submit(T record) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueueAll(List.of(record));
+            return;
+        }
+        for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+            if (sync instanceof BatchWriteQueue<?>.TransactionBuffer buffer && buffer.owner() == this) {
+                @SuppressWarnings("unchecked")
+                TransactionBuffer own = (TransactionBuffer) buffer;
+                own.records.add(record);
+                return;
+            }
+        }
+        TransactionBuffer buffer = new TransactionBuffer();
+        buffer.records.add(record);
+        TransactionSynchronizationManager.registerSynchronization(buffer);
+    }
+
+    /**
+     * 레코드 즉시 제출 (트랜잭션 결과와 무관).
+     *
+     * <p>예외로 롤백될 트랜잭션 안에서도 남겨야 하는 레코드(예: 로그인 실패 이력)에 사용한다.</p>
+     *
+     * @param record 기록할 레코드
+     */
+    public void submitNow(T record) {
+        enqueueAll(List.of(record));
+    }
+
+    /**
+     * 큐 적재 (back-pressure 적용).
+     *
+     * <p>전체 목록에 대해 {@code offerTimeoutMs} 하나의 대기 예산을 공유하여,
+     * 건수가 많아도 호출 스레드가 그 이상 지연되지 않도록 한다.</p>
+     */
+    private void enqueueAll(List<T> records) {
+        long now = System.nanoTime();
+        long deadline = now + TimeUnit.MILLISECONDS.toNanos(settings.offerTimeoutMs());
+        int i = 0;
+        try {
+            for (; i < records.size(); i++) {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                if (!queue.offer(new Pending<>(records.get(i), now), remaining, TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (i == records.size()) {
+            return;
+        }
+        List<T> overflow = records.subList(i, records.size());
+        if (settings.dropOnOverflow()) {
+            droppedCounter.increment(overflow.size());
+            log.warn("[{} 큐 포화] {}건 유실", settings.label(), overflow.size());
+        } else {
+            spill(overflow);
+        }
+    }
+
+    private void spill(List<T> records) {
+        try {
+            spillFile.append(records);
+            spilledCounter.increment(records.size());
+        } catch (IOException e) {
+            // 디스크까지 실패한 경우 보존 수단이 없으므로 유실 건수를 남긴다
+            droppedCounter.increment(records.size());
+            log.error("[{} spill 실패] {}건 유실, reason={}", settings.label(), records.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * writer 스레드 본체: 기동 시 spill 재처리 후 큐를 배치 단위로 비운다.
+     */
+    private void drainLoop() {
+        replaySpill();
+        while (running) {
+            List<Pending<T>> batch = new ArrayList<>(settings.batchSize());
+            try {
+                Pending<T> first = queue.poll(settings.pollIntervalMs(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (spillFile.hasPending()
+                            && System.currentTimeMillis() - lastSpillFailureAt > SPILL_RETRY_INTERVAL_MS) {
+                        replaySpill();
+                    }
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                flush(batch);
+                break;
+            }
+        }
+    }
+
+    /**
+     * 첫 레코드 이후 {@code lingerMs} 동안 {@code batchSize}건까지 추가로 모은다.
+     */
+    private void collect(List<Pending<T>> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(settings.lingerMs());
+        while (running) {
+            queue.drainTo(batch, settings.batchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= settings.batchSize() || remaining <= 0) {
+                return;
+            }
+            Pending<T> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+    /**
+     * 배치 INSERT (제한 횟수 재시도 후 spill 보존).
+     */
+    private void flush(List<Pending<T>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<T> records = new ArrayList<>(batch.size());
+        for (Pending<T> p : batch) {
+            records.add(p.record());
+        }
+        int maxAttempts = Math.max(1, settings.maxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                writer.accept(records);
+                long now = System.nanoTime();
+                for (Pending<T> p : batch) {
+                    writeLag.record(now - p.enqueuedAt(), TimeUnit.NANOSECONDS);
+                }
+                writtenCounter.increment(records.size());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !backoff(attempt)) {
+                    failureCounter.increment(records.size());
+                    log.warn("[{} 배치 INSERT 실패] {}회 시도 후 {}건 spill 보존, reason={}",
+                            settings.label(), attempt, records.size(), e.getMessage());
+                    spill(records);
+                    return;
+                }
+                retryCounter.increment();
+                log.debug("[{} 배치 INSERT 재시도] attempt={}, reason={}", settings.label(), attempt, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 재시도 전 대기 ({@code retryBackoffMs × 시도 횟수}).
+     *
+     * @return 대기를 마쳤으면 true, 인터럽트되었으면 false (재시도 없이 spill)
+     */
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(settings.retryBackoffMs() * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * spill 파일 재처리.
+     *
+     * <p>배치 단위로 INSERT하며, 중간에 실패하면 아직 반영되지 않은 나머지만 spill 파일로 되돌린다.</p>
+     */
+    private void replaySpill() {
+        List<T> restored;
+        try {
+            restored = spillFile.takeAll();
+        } catch (IOException e) {
+            lastSpillFailureAt = System.currentTimeMillis();
+            log.warn("[{} spill 읽기 실패] reason={}", settings.label(), e.getMessage());
+            return;
+        }
+        int done = 0;
+        try {
+            while (done < restored.size()) {
+                List<T> chunk = restored.subList(done, Math.min(done + settings.batchSize(), restored.size()));
+                writer.accept(chunk);
+                done += chunk.size();
+            }
+            spillFile.commitTaken();
+            if (done > 0) {
+                writtenCounter.increment(done);
+                log.info("[{} spill 재처리 완료] {}건", settings.label(), done);
+            }
+        } catch (RuntimeException | IOException e) {
+            lastSpillFailureAt = System.currentTimeMillis();
+            log.warn("[{} spill 재처리 실패] 반영 {}건 / 잔여 {}건, reason={}",
+                    settings.label(), done, restored.size() - done, e.getMessage());
+            try {
+                spillFile.append(restored.subList(done, restored.size()));
+                spillFile.commitTaken();
+            } catch (IOException ioe) {
+                log.warn("[{} spill 재처리 잔여분 보존 실패] reason={}", settings.label(), ioe.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drainLoop, settings.threadName());
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 종료 처리: writer 스레드 정지 후 남은 큐를 마지막으로 기록하고, 실패분은 spill 파일로 보존한다.
+     *
+     * <p>DataSource 종료(빈 소멸)보다 Lifecycle 정지가 먼저 수행되므로 이 시점에는 DB 쓰기가 가능하다.
+     * 진행 중인 JDBC/파일 쓰기가 중단되지 않도록 인터럽트 대신 poll 주기 내 자연 종료를 기다린다.</p>
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<Pending<T>> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int i = 0; i < remaining.size(); i += settings.batchSize()) {
+            flush(remaining.subList(i, Math.min(i + settings.batchSize(), remaining.size())));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 큐 설정.
+     *
+     * @param label          로그 태그 (예: 감사로그)
+     * @param metricPrefix   메트릭 이름 접두어 (예: {@code audit.log})
+     * @param threadName     writer 스레드 이름
+     * @param queueCapacity  메모리 큐 최대 적재 건수
+     * @param batchSize      1회 INSERT 배치 최대 건수
+     * @param pollIntervalMs 큐가 비어 있을 때 writer 스레드 대기 시간 (ms)
+     * @param lingerMs       첫 레코드 이후 배치를 모으는 최대 시간 (ms, 0이면 즉시 기록)
+     * @param offerTimeoutMs 큐 포화 시 호출 스레드 최대 대기 시간 (ms)
+     * @param dropOnOverflow 큐 포화 초과분을 spill 대신 버릴지 여부
+     * @param maxAttempts    배치 1건 최대 INSERT 시도 횟수 (초과 시 spill)
+     * @param retryBackoffMs 재시도 기본 대기 시간 (ms, 시도 횟수만큼 배수)
+     */
+    @Builder
+    public record Settings(
+            String label,
+            String metricPrefix,
+            String threadName,
+            int queueCapacity,
+            int batchSize,
+            long pollIntervalMs,
+            long lingerMs,
+            long offerTimeoutMs,
+            boolean dropOnOverflow,
+            int maxAttempts,
+            long retryBackoffMs) {
+    }
+
+    /** 큐 적재 항목: 레코드 + 적재 시각(nanoTime, 쓰기 지연 측정용) */
+    private record Pending<T>(T record, long enqueuedAt) {
+    }
+
+    /**
+     * 트랜잭션별 레코드 버퍼.
+     *
+     * <p>커밋되면 큐에 적재하고, 롤백되면 아무것도 하지 않아 GC로 폐기된다.</p>
+     */
+    private class TransactionBuffer implements TransactionSynchronization {
+
+        private final List<T> records = new ArrayList<>();
+
+        BatchWriteQueue<T> owner() {
+            return BatchWriteQueue.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            enqueueAll(records);
+        }
+    }
+}
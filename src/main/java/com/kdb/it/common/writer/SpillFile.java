@@ -0,0 +1,161 @@
+package com.kdb.it.common.writer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 배치 쓰기 큐의 spill 파일 (장애·종료 대비 내구성 버퍼).
+ *
+ * <p>메모리 큐가 가득 찼거나 DB 쓰기가 재시도 후에도 실패한 레코드, 그리고 종료 시점까지 미처리된 레코드를
+ * 로컬 파일에 append하고 {@code fsync}한다. 애플리케이션 재기동 또는 큐 유휴 시점에
+ * {@link #takeAll()}로 읽어 재처리한다.</p>
+ *
+ * <p>레코드 형식: {@code [int 길이][encode 결과]} 반복. 레코드 본문 형식은 하위 클래스가
+ * {@link #encode}/{@link #decode}로 정한다. 비정상 종료로 마지막 레코드가 잘린 경우 해당 레코드만 버리고
+ * 나머지는 복구한다.</p>
+ *
+ * <p>재처리 중 장애에 대비해 {@code takeAll()}은 spill 파일을 {@code .replay} 파일로 원자적 이동한 뒤 읽고,
+ * 재처리가 성공해야 {@link #commitTaken()}에서 삭제한다. 남아 있는 {@code .replay} 파일은 다음 호출에서 다시 읽힌다.</p>
+ *
+ * @param <T> 레코드 타입
+ */
+public abstract class SpillFile<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(SpillFile.class);
+
+    private final Path file;
+    private final Path replayFile;
+    private final int maxRecordBytes;
+
+    /**
+     * @param dir            spill 파일 디렉토리
+     * @param name           파일 이름 ({@code {name}.spill}, {@code {name}.spill.replay})
+     * @param maxRecordBytes 레코드 1건 최대 크기 (손상된 길이 헤더 방어용)
+     */
+    protected SpillFile(Path dir, String name, int maxRecordBytes) {
+        this.file = dir.resolve(name + ".spill");
+        this.replayFile = dir.resolve(name + ".spill.replay");
+        this.maxRecordBytes = maxRecordBytes;
+    }
+
+    /**
+     * 레코드 1건을 바이트로 변환.
+     *
+     * @param record 레코드
+     * @return 레코드 본문 바이트
+     * @throws IOException 변환 실패 시
+     */
+    protected abstract byte[] encode(T record) throws IOException;
+
+    /**
+     * {@link #encode}로 만든 바이트를 레코드로 복원.
+     *
+     * @param bytes 레코드 본문 바이트
+     * @return 복원된 레코드
+     * @throws IOException 잘렸거나 호환되지 않는 레코드인 경우
+     */
+    protected abstract T decode(byte[] bytes) throws IOException;
+
+    /**
+     * 레코드 목록을 spill 파일 끝에 추가하고 디스크에 동기화.
+     *
+     * @param records 보존할 레코드 목록
+     * @throws IOException 파일 쓰기 실패 시
+     */
+    public synchronized void append(Collection<T> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(file.getParent());
+        try (FileChannel ch = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            for (T record : records) {
+                byte[] bytes = encode(record);
+                ByteBuffer buf = ByteBuffer.allocate(Integer.BYTES + bytes.length);
+                buf.putInt(bytes.length).put(bytes).flip();
+                while (buf.hasRemaining()) {
+                    ch.write(buf);
+                }
+            }
+            ch.force(false);
+        }
+    }
+
+    /** 재처리 대기 중인 spill 데이터 존재 여부 */
+    public synchronized boolean hasPending() {
+        return Files.exists(replayFile) || Files.exists(file);
+    }
+
+    /**
+     * 재처리 대상 레코드 전체 조회.
+     *
+     * <p>이전 재처리가 완료되지 않아 {@code .replay} 파일이 남아 있으면 그것을 먼저 반환한다.
+     * 반환된 레코드의 DB 반영이 끝나면 반드시 {@link #commitTaken()}을 호출해야 한다.</p>
+     *
+     * @return 복구된 레코드 목록 (없으면 빈 목록)
+     * @throws IOException 파일 이동/읽기 실패 시
+     */
+    public synchronized List<T> takeAll() throws IOException {
+        if (!Files.exists(replayFile)) {
+            if (!Files.exists(file)) {
+                return List.of();
+            }
+            Files.move(file, replayFile, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return read(replayFile);
+    }
+
+    /**
+     * {@link #takeAll()}로 가져간 레코드의 재처리 완료 확정.
+     *
+     * @throws IOException 파일 삭제 실패 시
+     */
+    public synchronized void commitTaken() throws IOException {
+        Files.deleteIfExists(replayFile);
+    }
+
+    private List<T> read(Path path) throws IOException {
+        List<T> result = new ArrayList<>();
+        try (InputStream in = Files.newInputStream(path);
+             DataInputStream din = new DataInputStream(in)) {
+            while (true) {
+                int len;
+                try {
+                    len = din.readInt();
+                } catch (EOFException eof) {
+                    break;
+                }
+                if (len <= 0 || len > maxRecordBytes) {
+                    log.warn("[spill] 비정상 레코드 길이로 읽기 중단: file={}, len={}, recovered={}",
+                            path, len, result.size());
+                    break;
+                }
+                byte[] bytes = new byte[len];
+                try {
+                    din.readFully(bytes);
+                    result.add(decode(bytes));
+                } catch (IOException | RuntimeException e) {
+                    // 비정상 종료로 잘린 꼬리 레코드 또는 호환되지 않는 레코드 → 이후 데이터는 신뢰할 수 없음
+                    log.warn("[spill] 손상된 레코드 이후 읽기 중단: file={}, recovered={}, reason={}",
+                            path, result.size(), e.toString());
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,83 @@
+package com.kdb.it.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 애플리케이션 캐시 설정 클래스
+ *
+ * <p>공통코드 등 자주 읽고 드물게 바뀌는 참조 데이터를 Caffeine 인메모리 캐시에 보관합니다.
+ * 캐시마다 최대 적재 건수와 적재 후 만료 시간을 두어 메모리가 무한히 늘지 않도록 하고,
+ * 공통코드가 변경되면 {@link com.kdb.it.common.code.service.CodeDictionary}가 사전을 교체하면서 즉시 비웁니다.</p>
+ *
+ * <p>캐시 목록:</p>
+ * <ul>
+ *   <li>{@value #CODES_BY_TYPE}: 코드값구분(cttTp) → 유효한 공통코드 엔티티 목록</li>
+ *   <li>{@value #BUDGET_PERIOD}: 예산 신청 기간 (BG-RQS-STA ~ BG-RQS-END)</li>
+ * </ul>
+ *
+ * <p>설정:</p>
+ * <ul>
+ *   <li>{@link TransactionAwareCacheManagerProxy}: 트랜잭션 안의 put/evict를 커밋 후로 미뤄,
+ *       롤백된 변경이 캐시에 남거나 커밋 전 값이 다시 적재되지 않도록 함</li>
+ *   <li>{@code recordStats()}: 적중/미적중·제거 건수를 Actuator 메트릭({@code cache.gets},
+ *       {@code cache.evictions} 등)으로 노출</li>
+ *   <li>등록되지 않은 캐시 이름은 허용하지 않음 (오타로 무제한 캐시가 생기는 것 방지)</li>
+ * </ul>
+ */
+@Configuration // Spring 설정 클래스로 등록
+@EnableCaching // @Cacheable/@CacheEvict 활성화
+public class CacheConfig {
+
+    /** 코드값구분별 공통코드 캐시 이름 */
+    public static final String CODES_BY_TYPE = "codesByType";
+
+    /** 예산 신청 기간 캐시 이름 */
+    public static final String BUDGET_PERIOD = "budgetPeriod";
+
+    /** {@value #CODES_BY_TYPE} 최대 적재 건수 (코드값구분 수) */
+    @Value("${app.cache.codes-by-type.max-size:500}")
+    private long codesByTypeMaxSize;
+
+    /** {@value #CODES_BY_TYPE} 적재 후 만료 시간 (초) */
+    @Value("${app.cache.codes-by-type.ttl-seconds:3600}")
+    private long codesByTypeTtlSeconds;
+
+    /** {@value #BUDGET_PERIOD} 적재 후 만료 시간 (초) */
+    @Value("${app.cache.budget-period.ttl-seconds:600}")
+    private long budgetPeriodTtlSeconds;
+
+    /**
+     * Caffeine 캐시 매니저 빈 등록
+     *
+     * @return 트랜잭션 인식 캐시 매니저
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(List.of()); // 정적 모드: 아래 등록된 캐시만 사용
+        caffeineCacheManager.setAllowNullValues(false);
+        caffeineCacheManager.registerCustomCache(CODES_BY_TYPE,
+                boundedCache(codesByTypeMaxSize, codesByTypeTtlSeconds));
+        caffeineCacheManager.registerCustomCache(BUDGET_PERIOD,
+                boundedCache(1, budgetPeriodTtlSeconds)); // 키 없는 단일 항목
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> boundedCache(long maxSize, long ttlSeconds) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+}
@@ -1,8 +1,5 @@
 package com.kdb.it.config;
 
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
@@ -28,7 +25,6 @@ import java.util.Optional;
  */
 @Configuration
 @EnableJpaAuditing
-@EnableCaching
 public class JpaAuditConfig {
 
     /**
@@ -47,12 +43,6 @@ public class JpaAuditConfig {
      * @return 현재 인증된 사용자의 사번을 담은 {@link Optional}
      *         (비로그인 시 {@link Optional#empty()})
      */
-    /** 인메모리 캐시 매니저 (공통코드 등 정적 데이터 캐싱용) */
-    @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager("codesByType", "budgetPeriod");
-    }
-
     @Bean
     public AuditorAware<String> auditorProvider() {
         return () -> {
@@ -20,7 +20,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
-import com.kdb.it.common.util.CustomPasswordEncoder;
+import com.kdb.it.common.util.PasswordEncoderFactory;
 
 import java.util.List;
 
@@ -126,6 +126,8 @@ public class SecurityConfig {
                                                 .permitAll()
                                                 // 관리자 전용 엔드포인트 (ITPAD001만 접근 가능)
                                                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                                                // 운영 메트릭(Actuator)도 관리자 전용
+                                                .requestMatchers("/actuator/**").hasRole("ADMIN")
                                                 // 나머지는 인증 필요 (유효한 JWT 토큰 필수)
                                                 .anyRequest().authenticated())
                                 // 인증/접근 예외 처리 핸들러 설정
@@ -200,16 +202,26 @@ public class SecurityConfig {
          * 비밀번호 인코더 빈 등록
          *
          * <p>
-         * SHA-256 기반의 {@link CustomPasswordEncoder}를 Spring Security의
-         * {@link PasswordEncoder}로 등록합니다. 회원가입 시 비밀번호 암호화,
-         * 로그인 시 비밀번호 검증에 사용됩니다.
+         * 저장값의 {@code {id}} 접두어로 알고리즘을 고르는 위임 인코더를 등록합니다
+         * ({@link PasswordEncoderFactory}). 새 비밀번호는 {@code app.password.encoder} 알고리즘과
+         * 작업계수로 저장하고, 접두어가 없는 기존 SHA-256 저장값도 검증합니다.
+         * 기존 형식은 로그인 성공 시 재해시됩니다({@code AuthService.login}).
+         * 해시 계산은 요청 스레드가 아닌 {@code PasswordHasher} 전용 실행기에서 수행합니다.
          * </p>
          *
-         * @return {@link CustomPasswordEncoder} 인스턴스
+         * @param encoder          새 비밀번호 저장 알고리즘 ({@code bcrypt} 또는 {@code pbkdf2})
+         * @param bcryptStrength   bcrypt 작업계수
+         * @param pbkdf2Iterations PBKDF2 반복 횟수
+         * @return 위임 {@link PasswordEncoder}
          */
         @Bean
-        public PasswordEncoder passwordEncoder() {
-                return new CustomPasswordEncoder();
+        public PasswordEncoder passwordEncoder(
+                        @Value("${app.password.encoder:bcrypt}") String encoder,
+                        @Value("${app.password.bcrypt-strength:10}") int bcryptStrength,
+                        @Value("${app.password.pbkdf2-iterations:310000}") int pbkdf2Iterations) {
+                log.info("[비밀번호 인코더] encoder={}, bcryptStrength={}, pbkdf2Iterations={}",
+                                encoder, bcryptStrength, pbkdf2Iterations);
+                return PasswordEncoderFactory.create(encoder, bcryptStrength, pbkdf2Iterations);
         }
 
 }
@@ -1,5 +1,6 @@
 package com.kdb.it.domain.budget.cost.controller;
 
+import com.kdb.it.common.system.dto.PageDto;
 import com.kdb.it.domain.budget.cost.dto.CostDto;
 import com.kdb.it.domain.budget.cost.service.CostService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -148,6 +149,44 @@ public class CostController {
         return ResponseEntity.ok(costService.searchCostList(condition));
     }
 
+    /**
+     * 전산관리비 목록 페이지 조회 (검색 조건 + 서버 측 페이지)
+     *
+     * <p>{@code GET /api/cost}와 같은 검색 조건에 페이지 조회 파라미터를 더해 한 페이지만 반환합니다.
+     * 신청서 정보·코드명은 반환하는 페이지 행에 대해서만 조회합니다.</p>
+     *
+     * <p>
+     * 요청 예시:
+     * </p>
+     * <ul>
+     * <li>{@code GET /api/cost/page?page=0&size=20&sort=itMngcNo&direction=asc} → offset 방식</li>
+     * <li>{@code GET /api/cost/page?mode=keyset&size=50} → keyset 첫 페이지</li>
+     * <li>{@code GET /api/cost/page?mode=keyset&cursor={nextCursor}&withCount=false} → 다음 페이지 (COUNT 생략)</li>
+     * </ul>
+     *
+     * @param condition   검색 조건 (apfSts, biceDpm, biceTem, infPrtYn, bgYy)
+     * @param pageRequest 페이지 조회 요청 (mode, page, size, sort, direction, cursor, withCount)
+     * @return HTTP 200 + 전산관리비 페이지 ({@link PageDto.Response}),
+     *         HTTP 400 허용되지 않는 정렬 필드이거나 커서가 잘못된 경우
+     */
+    @Operation(
+        summary = "전산관리비 목록 페이지 조회",
+        description = "검색 조건에 맞는 전산관리비를 한 페이지 조회합니다. " +
+                      "mode=offset(기본)은 page/size/sort/direction, " +
+                      "mode=keyset은 최초등록일시 내림차순으로 nextCursor를 이어서 조회합니다. " +
+                      "withCount=false이면 전체 건수 조회를 생략합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "허용되지 않는 정렬 필드 또는 잘못된 커서", content = @Content)
+    })
+    @GetMapping("/page")
+    public ResponseEntity<PageDto.Response<CostDto.Response>> getCostPage(
+            @ModelAttribute CostDto.SearchCondition condition,
+            @ModelAttribute PageDto.Request pageRequest) {
+        return ResponseEntity.ok(costService.searchCostPage(condition, pageRequest));
+    }
+
     /**
      * 신규 전산관리비 생성
      *
@@ -17,6 +17,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import org.springframework.data.domain.Persistable;
+
 /**
  * 전산관리비(IT 관리비) 마스터 엔티티
  *
@@ -47,7 +49,7 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // protected 기본 생성자 (JPA 요구사항)
 @AllArgsConstructor // 전체 필드 생성자 자동 생성
 @SuperBuilder // 상속 구조에서 Builder 패턴 지원
-public class Bcostm extends BaseEntity {
+public class Bcostm extends BaseEntity implements Persistable<BcostmId> {
 
     /** 전산업무비코드(IT관리비관리번호): 복합 기본키의 첫 번째 컬럼 (예: COST_2026_0001) */
     @Id
@@ -184,4 +186,12 @@ public class Bcostm extends BaseEntity {
         this.pulDtt = pulDtt;
         this.bgYy = bgYy;
     }
+
+    /**
+     * 식별자 반환 ({@link Persistable} 구현: 신규 여부는 {@link BaseEntity#isNew()})
+     */
+    @Override
+    public BcostmId getId() {
+        return new BcostmId(itMngcNo, itMngcSno);
+    }
 }
@@ -21,6 +21,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import org.springframework.data.domain.Persistable;
+
 /**
  * 단말기관리마스터 엔티티
  *
@@ -40,7 +42,7 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @SuperBuilder
-public class Btermm extends BaseEntity {
+public class Btermm extends BaseEntity implements Persistable<BtermmId> {
 
     /** 단말기관리번호 */
     @Id
@@ -149,4 +151,12 @@ public class Btermm extends BaseEntity {
         this.itMngcNo = itMngcNo;
         this.itMngcSno = itMngcSno;
     }
+
+    /**
+     * 식별자 반환 ({@link Persistable} 구현: 신규 여부는 {@link BaseEntity#isNew()})
+     */
+    @Override
+    public BtermmId getId() {
+        return new BtermmId(tmnMngNo, tmnSno);
+    }
 }
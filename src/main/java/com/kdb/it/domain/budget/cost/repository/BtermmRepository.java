@@ -4,6 +4,7 @@ import org.springframework.data.repository.query.Param;
 
 import com.kdb.it.domain.budget.cost.entity.Btermm;
 import com.kdb.it.domain.budget.cost.entity.BtermmId;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -24,6 +25,18 @@ public interface BtermmRepository extends JpaRepository<Btermm, BtermmId> {
      */
     List<Btermm> findByItMngcNoAndItMngcSnoAndDelYn(String itMngcNo, Integer itMngcSno, String delYn);
 
+    /**
+     * 여러 전산관리비와 연관된 단말기 목록 일괄 조회 (일련번호 무관)
+     *
+     * <p>목록·일괄 상세 조회에서 전산관리비별 단말기 조회 대신 사용합니다.
+     * 호출 측에서 전산관리비 일련번호(itMngcSno)별로 나누어 사용합니다.</p>
+     *
+     * @param itMngcNos 전산관리비 관리번호 목록 (최대 1,000건)
+     * @param delYn     삭제 여부 ('N'=미삭제)
+     * @return 연관된 단말기 목록
+     */
+    List<Btermm> findByItMngcNoInAndDelYn(Collection<String> itMngcNos, String delYn);
+
     /**
      * 특정 전산관리비와 연관된 모든 단말기 일괄 삭제(Soft Delete) 처리를 위해 목록 조회
      *
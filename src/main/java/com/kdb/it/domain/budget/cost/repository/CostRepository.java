@@ -2,6 +2,7 @@ package com.kdb.it.domain.budget.cost.repository;
 
 import com.kdb.it.domain.budget.cost.entity.Bcostm;
 import com.kdb.it.domain.budget.cost.entity.BcostmId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -54,6 +55,18 @@ public interface CostRepository extends JpaRepository<Bcostm, BcostmId>, CostRep
      */
     List<Bcostm> findByItMngcNoAndDelYn(String itMngcNo, String delYn);
 
+    /**
+     * 여러 관리번호의 전산관리비 목록 일괄 조회 (삭제되지 않은 항목)
+     *
+     * <p>일괄 상세 조회({@code getCostsByIds})에서 관리번호별 조회 대신 사용합니다.
+     * 관리번호가 1,000건을 넘으면 호출 측에서 분할하여 호출합니다.</p>
+     *
+     * @param itMngcNos 전산관리비 관리번호 목록 (최대 1,000건)
+     * @param delYn     삭제 여부 ('N'=미삭제)
+     * @return 해당 관리번호들의 삭제되지 않은 전산관리비 목록 (일련번호별 레코드 포함)
+     */
+    List<Bcostm> findByItMngcNoInAndDelYn(Collection<String> itMngcNos, String delYn);
+
     /**
      * 관리번호별 전산관리비 최신 버전 목록 조회
      *
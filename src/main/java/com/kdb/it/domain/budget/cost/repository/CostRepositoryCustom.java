@@ -1,5 +1,6 @@
 package com.kdb.it.domain.budget.cost.repository;
 
+import com.kdb.it.common.system.dto.PageDto;
 import com.kdb.it.domain.budget.cost.dto.CostDto;
 import com.kdb.it.domain.budget.cost.entity.Bcostm;
 
@@ -38,4 +39,31 @@ public interface CostRepositoryCustom {
      * @return 조건에 맞는 전산관리비 목록 (DEL_YN='N' 필터 항상 적용)
      */
     List<Bcostm> searchByCondition(CostDto.SearchCondition condition);
+
+    /**
+     * 검색 조건으로 전산관리비 목록 페이지 조회 (동적 쿼리 + 정렬 + 페이지 제한)
+     *
+     * <p>
+     * WHERE 절은 {@link #searchByCondition(CostDto.SearchCondition)}와 같습니다.
+     * 다음 페이지 존재 여부를 판단할 수 있도록 페이지 크기보다 1건 더 조회합니다.
+     * </p>
+     * <ul>
+     * <li>offset 방식: 허용 정렬 필드(fstEnrDtm, itMngcNo, bgYy, cttNm) + 관리번호·일련번호 순, {@code OFFSET page×size}</li>
+     * <li>keyset 방식: {@code FST_ENR_DTM DESC, IT_MNGC_NO DESC, IT_MNGC_SNO DESC} 순, 커서 이후 행</li>
+     * </ul>
+     *
+     * @param condition   검색 조건 DTO
+     * @param pageRequest 페이지 조회 요청
+     * @return 조건에 맞는 전산관리비 목록 (최대 {@code size + 1}건)
+     * @throws IllegalArgumentException 허용되지 않는 정렬 필드이거나 커서 형식이 잘못된 경우
+     */
+    List<Bcostm> searchPageByCondition(CostDto.SearchCondition condition, PageDto.Request pageRequest);
+
+    /**
+     * 검색 조건에 맞는 전산관리비 건수 조회 (SELECT COUNT)
+     *
+     * @param condition 검색 조건 DTO
+     * @return 조건에 맞는 전산관리비 건수 (DEL_YN='N' 필터 항상 적용)
+     */
+    long countByCondition(CostDto.SearchCondition condition);
 }
@@ -1,14 +1,17 @@
 package com.kdb.it.domain.budget.cost.repository;
 
 import java.util.List;
+import java.util.Map;
 
 import com.kdb.it.domain.budget.cost.dto.CostDto;
 import com.kdb.it.domain.budget.cost.entity.Bcostm;
 import com.kdb.it.domain.budget.cost.entity.QBcostm;
-import com.kdb.it.common.approval.entity.QCappla;
-import com.kdb.it.common.approval.entity.QCapplm;
+import com.kdb.it.common.approval.repository.ApplicationStatusExpressions;
+import com.kdb.it.common.system.dto.PageDto;
+import com.kdb.it.common.system.repository.KeysetExpressions;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -30,13 +33,20 @@ import lombok.RequiredArgsConstructor;
  * {@code apfSts} 서브쿼리 전략:
  * </p>
  * <ul>
- * <li>{@code "none"}: NOT EXISTS — CAPPLA에 연결 레코드가 없는 전산관리비</li>
- * <li>그 외 값: EXISTS — 최신 CAPPLA(APF_REL_SNO MAX)의 CAPPLM 결재상태가 일치하는 전산관리비</li>
+ * <li>{@code "none"}: NOT EXISTS — 최신 신청서 상태(CAPPLC) 행이 없는 전산관리비</li>
+ * <li>그 외 값: EXISTS — 최신 신청서 상태(CAPPLC)의 결재상태가 일치하는 전산관리비 (PK 조회)</li>
  * </ul>
  */
 @RequiredArgsConstructor // final 필드 생성자 자동 주입 (Lombok)
 public class CostRepositoryImpl implements CostRepositoryCustom {
 
+    /** 페이지 조회(offset 방식)에서 허용하는 정렬 필드 */
+    private static final Map<String, ComparableExpressionBase<?>> SORT_FIELDS = Map.of(
+            "fstEnrDtm", QBcostm.bcostm.fstEnrDtm,
+            "itMngcNo", QBcostm.bcostm.itMngcNo,
+            "bgYy", QBcostm.bcostm.bgYy,
+            "cttNm", QBcostm.bcostm.cttNm);
+
     /** QueryDSL 쿼리 팩토리: JPA 쿼리 생성 및 실행 담당 */
     private final JPAQueryFactory queryFactory;
 
@@ -57,45 +67,115 @@ public class CostRepositoryImpl implements CostRepositoryCustom {
      *
      * <pre>{@code
      * WHERE NOT EXISTS (
-     *   SELECT 1 FROM TAAABB_CAPPLA ca
-     *   WHERE ca.ORC_TB_CD = 'BCOSTM'
-     *     AND ca.ORC_PK_VL = c.IT_MNGC_NO
-     *     AND ca.ORC_SNO_VL = c.IT_MNGC_SNO
+     *   SELECT 1 FROM TAAABB_CAPPLC s
+     *   WHERE s.ORC_TB_CD = 'BCOSTM'
+     *     AND s.ORC_PK_VL = c.IT_MNGC_NO
+     *     AND s.ORC_SNO_VL = c.IT_MNGC_SNO
      * )
      * }</pre>
      *
      * <p>
-     * apfSts='결재중' 생성 SQL (EXISTS + MAX 서브쿼리):
+     * apfSts='결재중' 생성 SQL (최신 신청서 상태 테이블 PK 조회, 상관 MAX 서브쿼리 없음):
      * </p>
      *
      * <pre>{@code
      * WHERE EXISTS (
-     *   SELECT 1 FROM TAAABB_CAPPLA ca
-     *   JOIN TAAABB_CAPPLM cm ON ca.APF_MNG_NO = cm.APF_MNG_NO
-     *   WHERE ca.ORC_TB_CD = 'BCOSTM'
-     *     AND ca.ORC_PK_VL = c.IT_MNGC_NO
-     *     AND ca.ORC_SNO_VL = c.IT_MNGC_SNO
-     *     AND cm.APF_STS = '결재중'
-     *     AND ca.APF_REL_SNO = (
-     *       SELECT MAX(ca2.APF_REL_SNO) FROM TAAABB_CAPPLA ca2
-     *       WHERE ca2.ORC_TB_CD = 'BCOSTM'
-     *         AND ca2.ORC_PK_VL = c.IT_MNGC_NO
-     *         AND ca2.ORC_SNO_VL = c.IT_MNGC_SNO
-     *     )
+     *   SELECT 1 FROM TAAABB_CAPPLC s
+     *   WHERE s.ORC_TB_CD = 'BCOSTM'
+     *     AND s.ORC_PK_VL = c.IT_MNGC_NO
+     *     AND s.ORC_SNO_VL = c.IT_MNGC_SNO
+     *     AND s.APF_STS = '결재중'
      * )
      * }</pre>
      *
+     * <p>
+     * WHERE 절 구성은 {@link #conditionOf(QBcostm, CostDto.SearchCondition)}에서
+     * 페이지·건수 조회와 공유합니다.
+     * </p>
+     *
      * @param condition 검색 조건 DTO
      * @return 조건에 맞는 전산관리비 목록
      */
     @Override
     public List<Bcostm> searchByCondition(CostDto.SearchCondition condition) {
         QBcostm bcostm = QBcostm.bcostm;
-        // 서브쿼리용 CAPPLA Q타입 별칭 (자기 참조 서브쿼리 충돌 방지)
-        QCappla cappla = new QCappla("cappla");
-        QCappla cappla2 = new QCappla("cappla2");
-        QCapplm capplm = QCapplm.capplm;
+        return queryFactory
+                .selectFrom(bcostm)
+                .where(conditionOf(bcostm, condition))
+                .fetch();
+    }
+
+    /**
+     * 검색 조건으로 전산관리비 목록 페이지 조회
+     *
+     * <p>
+     * 다음 페이지 존재 여부 판단을 위해 {@code size + 1}건을 조회합니다.
+     * 정렬 필드는 {@link #SORT_FIELDS}에 등록된 값만 허용하며, 같은 값 사이의 순서를 고정하기 위해
+     * 관리번호·일련번호를 항상 뒤에 붙입니다.
+     * </p>
+     *
+     * @param condition   검색 조건 DTO
+     * @param pageRequest 페이지 조회 요청
+     * @return 조건에 맞는 전산관리비 목록 (최대 {@code size + 1}건)
+     * @throws IllegalArgumentException 허용되지 않는 정렬 필드인 경우
+     */
+    @Override
+    public List<Bcostm> searchPageByCondition(CostDto.SearchCondition condition, PageDto.Request pageRequest) {
+        QBcostm bcostm = QBcostm.bcostm;
+        JPAQuery<Bcostm> query = queryFactory
+                .selectFrom(bcostm)
+                .where(conditionOf(bcostm, condition))
+                .limit(pageRequest.safeSize() + 1L);
+
+        if (pageRequest.isKeyset()) {
+            // 키셋: 커서 이후 행만 조회 (OFFSET 없음)
+            return query
+                    .where(KeysetExpressions.after(bcostm.fstEnrDtm, bcostm.itMngcNo, bcostm.itMngcSno,
+                            pageRequest.decodedCursor()))
+                    .orderBy(KeysetExpressions.order(bcostm.fstEnrDtm, bcostm.itMngcNo, bcostm.itMngcSno))
+                    .fetch();
+        }
 
+        String sort = pageRequest.getSort() == null || pageRequest.getSort().isBlank()
+                ? "fstEnrDtm" : pageRequest.getSort();
+        ComparableExpressionBase<?> sortPath = SORT_FIELDS.get(sort);
+        if (sortPath == null) {
+            throw new IllegalArgumentException("정렬할 수 없는 필드입니다: " + sort);
+        }
+        boolean asc = pageRequest.isAscending();
+        return query
+                .orderBy((asc ? sortPath.asc() : sortPath.desc()).nullsLast(),
+                        asc ? bcostm.itMngcNo.asc() : bcostm.itMngcNo.desc(),
+                        asc ? bcostm.itMngcSno.asc() : bcostm.itMngcSno.desc())
+                .offset(pageRequest.offset())
+                .fetch();
+    }
+
+    /**
+     * 검색 조건에 맞는 전산관리비 건수 조회
+     *
+     * @param condition 검색 조건 DTO
+     * @return 조건에 맞는 전산관리비 건수
+     */
+    @Override
+    public long countByCondition(CostDto.SearchCondition condition) {
+        QBcostm bcostm = QBcostm.bcostm;
+        Long count = queryFactory
+                .select(bcostm.count())
+                .from(bcostm)
+                .where(conditionOf(bcostm, condition))
+                .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 검색 조건 DTO를 WHERE 절로 변환 (목록·페이지·건수 조회 공통)
+     *
+     * @param bcostm    전산관리비 Q타입
+     * @param condition 검색 조건 DTO
+     * @return 조합된 WHERE 조건
+     */
+    private BooleanBuilder conditionOf(QBcostm bcostm, CostDto.SearchCondition condition) {
         BooleanBuilder builder = new BooleanBuilder();
 
         // 기본 조건: 삭제되지 않은 전산관리비만 조회
@@ -105,35 +185,13 @@ public class CostRepositoryImpl implements CostRepositoryCustom {
         String apfSts = condition.getApfSts();
         if (apfSts != null && !apfSts.isBlank()) {
             if ("none".equals(apfSts)) {
-                // 신청서가 없는 전산관리비: CAPPLA에 연결 레코드가 없는 경우
-                builder.and(
-                        JPAExpressions.selectOne()
-                                .from(cappla)
-                                .where(
-                                        cappla.orcTbCd.eq("BCOSTM"),
-                                        cappla.orcPkVl.eq(bcostm.itMngcNo),
-                                        cappla.orcSnoVl.eq(bcostm.itMngcSno))
-                                .notExists());
+                // 신청서가 없는 전산관리비: 최신 신청서 상태(CAPPLC) 행이 없는 경우
+                builder.and(ApplicationStatusExpressions.noApplication(
+                        "BCOSTM", bcostm.itMngcNo, bcostm.itMngcSno));
             } else {
-                // 특정 결재상태: 최신 신청서(APF_REL_SNO 최대값)의 결재상태가 일치하는 경우
-                builder.and(
-                        JPAExpressions.selectOne()
-                                .from(cappla, capplm)
-                                .where(
-                                        cappla.apfMngNo.eq(capplm.apfMngNo),
-                                        cappla.orcTbCd.eq("BCOSTM"),
-                                        cappla.orcPkVl.eq(bcostm.itMngcNo),
-                                        cappla.orcSnoVl.eq(bcostm.itMngcSno),
-                                        capplm.apfSts.eq(apfSts),
-                                        // 해당 전산관리비에 연결된 신청서 중 가장 최신(APF_REL_SNO 최대)인 것만 검사
-                                        cappla.apfRelSno.eq(
-                                                JPAExpressions.select(cappla2.apfRelSno.max())
-                                                        .from(cappla2)
-                                                        .where(
-                                                                cappla2.orcTbCd.eq("BCOSTM"),
-                                                                cappla2.orcPkVl.eq(bcostm.itMngcNo),
-                                                                cappla2.orcSnoVl.eq(bcostm.itMngcSno))))
-                                .exists());
+                // 특정 결재상태: 최신 신청서의 결재상태가 일치하는 경우 (CAPPLC PK 조회)
+                builder.and(ApplicationStatusExpressions.latestStatusEq(
+                        "BCOSTM", bcostm.itMngcNo, bcostm.itMngcSno, apfSts));
             }
         }
 
@@ -156,9 +214,6 @@ public class CostRepositoryImpl implements CostRepositoryCustom {
             builder.and(bcostm.bgYy.eq(condition.getBgYy()));
         }
 
-        return queryFactory
-                .selectFrom(bcostm)
-                .where(builder)
-                .fetch();
+        return builder;
     }
 }
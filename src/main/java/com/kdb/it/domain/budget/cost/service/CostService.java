@@ -8,8 +8,7 @@ import com.kdb.it.common.iam.entity.CorgnI;
 import com.kdb.it.common.approval.repository.ApplicationMapRepository;
 import com.kdb.it.common.approval.repository.ApplicationRepository;
 import com.kdb.it.common.approval.repository.ApproverRepository;
-import com.kdb.it.common.code.entity.Ccodem;
-import com.kdb.it.common.code.repository.CodeRepository;
+import com.kdb.it.common.code.service.IoeClassifier;
 import com.kdb.it.common.iam.repository.OrganizationRepository;
 import com.kdb.it.common.iam.entity.CuserI;
 import com.kdb.it.common.iam.repository.UserRepository;
@@ -18,13 +17,15 @@ import com.kdb.it.domain.budget.cost.entity.Bcostm;
 import com.kdb.it.domain.budget.cost.entity.Btermm;
 import com.kdb.it.domain.budget.cost.repository.BtermmRepository;
 import com.kdb.it.domain.budget.cost.repository.CostRepository;
+import com.kdb.it.common.system.dto.PageDto;
 import com.kdb.it.common.system.security.CustomUserDetails;
+import com.kdb.it.common.util.InClauseUtil;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -76,13 +77,12 @@ public class CostService {
     private final OrganizationRepository corgnIRepository;
     private final UserRepository cuserIRepository;
     private final ApproverRepository cdecimRepository;
-    private final CodeRepository ccodemRepository;
 
     /** 공통코드 서비스: 예산 신청 기간 검증용 */
     private final com.kdb.it.common.code.service.CodeService codeService;
 
-    /** 일반관리비 대상 코드값구분 */
-    private static final Set<String> COST_CTT_TPS = Set.of("IOE_IDR", "IOE_SEVS", "IOE_XPN", "IOE_LEAFE");
+    /** 비목코드 예산 분류기: 비목코드 → 자본예산/일반관리비 구분용 */
+    private final IoeClassifier ioeClassifier;
 
     /**
      * 특정 전산관리비 단건 조회
@@ -158,6 +158,45 @@ public class CostService {
         return responses;
     }
 
+    /**
+     * 검색 조건으로 전산관리비 목록 페이지 조회
+     *
+     * <p>
+     * {@link #searchCostList(CostDto.SearchCondition)}와 같은 조건으로 한 페이지만 조회하며,
+     * 신청서 정보·코드명·예산 구분 주입은 반환하는 페이지 행에만 적용합니다.
+     * </p>
+     * <ul>
+     * <li>offset 방식: {@code page}/{@code size}/{@code sort}/{@code direction}</li>
+     * <li>keyset 방식: 최초등록일시 내림차순, 응답의 {@code nextCursor}로 다음 페이지 조회</li>
+     * <li>{@code withCount=false}: COUNT 쿼리 생략 ({@code totalElements=null})</li>
+     * </ul>
+     *
+     * @param condition   검색 조건 DTO (apfSts, biceDpm, biceTem, infPrtYn, bgYy)
+     * @param pageRequest 페이지 조회 요청
+     * @return 전산관리비 페이지 응답
+     * @throws IllegalArgumentException 허용되지 않는 정렬 필드이거나 커서 형식이 잘못된 경우
+     */
+    public PageDto.Response<CostDto.Response> searchCostPage(CostDto.SearchCondition condition,
+            PageDto.Request pageRequest) {
+        int size = pageRequest.safeSize();
+        List<Bcostm> rows = costRepository.searchPageByCondition(condition, pageRequest);
+        boolean hasNext = rows.size() > size;
+        List<Bcostm> costs = hasNext ? rows.subList(0, size) : rows;
+
+        List<CostDto.Response> responses = costs.stream()
+                .map(CostDto.Response::fromEntity)
+                .collect(Collectors.toList());
+        enrichCostListBatch(costs, responses);
+
+        String nextCursor = null;
+        if (pageRequest.isKeyset() && hasNext) {
+            Bcostm last = costs.get(costs.size() - 1);
+            nextCursor = new PageDto.Cursor(last.getFstEnrDtm(), last.getItMngcNo(), last.getItMngcSno()).encode();
+        }
+        Long total = pageRequest.isCountRequested() ? costRepository.countByCondition(condition) : null;
+        return new PageDto.Response<>(responses, total, pageRequest.safePage(), size, hasNext, nextCursor);
+    }
+
     /**
      * 신규 전산관리비 생성
      *
@@ -207,6 +246,8 @@ public class CostService {
         costRepository.save(bcostm);
 
         if (request.getTerminals() != null && !request.getTerminals().isEmpty()) {
+            /* 단말기관리번호 채번(Native Query)은 대기 중인 INSERT를 flush시키므로 채번 완료 후 일괄 저장 (JDBC 배치) */
+            List<Btermm> terminals = new ArrayList<>(request.getTerminals().size());
             for (CostDto.TerminalDto tDto : request.getTerminals()) {
                 if (tDto.getTmnMngNo() == null || tDto.getTmnMngNo().isEmpty()) {
                     tDto.setTmnMngNo(generateTmnMngNo());
@@ -217,8 +258,9 @@ public class CostService {
 
                 Btermm btermm = tDto.toEntity();
                 btermm.setBcostmInfo(bcostm.getItMngcNo(), bcostm.getItMngcSno());
-                btermmRepository.save(btermm);
+                terminals.add(btermm);
             }
+            btermmRepository.saveAll(terminals);
         }
 
         return bcostm.getItMngcNo();
@@ -327,22 +369,40 @@ public class CostService {
      * 전산관리비 일괄 조회
      *
      * <p>
-     * 여러 관리번호를 한 번에 조회합니다. 존재하지 않는 항목은 결과에서 제외합니다.
+     * 여러 관리번호를 한 번에 조회합니다. 존재하지 않는 항목은 결과에서 제외하며, 결과 순서는 요청 순서를 따릅니다.
+     * </p>
+     *
+     * <p>
+     * 관리번호마다 {@link #getCost(String)}를 호출하지 않고, 전산관리비·단말기·신청서·결재자·부서·사용자를
+     * IN 조건으로 한 번씩 조회합니다 (IN 목록은 1,000건 단위 분할).
      * </p>
      *
      * @param request 일괄 조회 요청 DTO (전산관리비관리번호 목록)
      * @return 존재하는 항목의 응답 DTO 목록 (없는 항목 제외)
      */
     public List<CostDto.Response> getCostsByIds(CostDto.BulkGetRequest request) {
+        // 1. 전산관리비 일괄 조회 (단건 조회와 같이 관리번호별 첫 번째 항목)
+        Map<String, Bcostm> costMap = new java.util.LinkedHashMap<>();
+        for (Bcostm cost : InClauseUtil.fetchInChunks(request.getItMngcNos(),
+                chunk -> costRepository.findByItMngcNoInAndDelYn(chunk, "N"))) {
+            costMap.putIfAbsent(cost.getItMngcNo(), cost);
+        }
+        if (costMap.isEmpty()) {
+            return List.of();
+        }
+        List<Bcostm> costs = List.copyOf(costMap.values());
+        List<CostDto.Response> responses = costs.stream()
+                .map(CostDto.Response::fromEntity)
+                .collect(Collectors.toList());
+
+        // 2. 신청서·결재자·부서명·사용자명·예산 구분·단말기(전 항목) 배치 주입
+        enrichCostListBatch(costs, responses, cost -> true);
+
+        Map<String, CostDto.Response> responseMap = responses.stream()
+                .collect(Collectors.toMap(CostDto.Response::getItMngcNo, r -> r));
         return request.getItMngcNos().stream()
-                .map(itMngcNo -> {
-                    try {
-                        return getCost(itMngcNo);
-                    } catch (IllegalArgumentException e) {
-                        return null;
-                    }
-                })
-                .filter(response -> response != null)
+                .map(responseMap::get)
+                .filter(response -> response != null) // 존재하지 않는 항목 제외
                 .toList();
     }
 
@@ -390,64 +450,56 @@ public class CostService {
      * 전산관리비 응답 DTO에 자본예산/일반관리비 설정 (내부 헬퍼 메서드)
      *
      * <p>
-     * 비목코드(ioeC)를 공통코드에서 조회하여 코드값구분(cttTp) 기준으로 분류합니다.
+     * 비목코드(ioeC)를 {@link IoeClassifier} 분류표에서 찾아 분류합니다.
      * </p>
      * <ul>
-     * <li>자본예산: cttTp가 IOE_CPIT인 경우 → assetBg = itMngcBg, costBg = 0</li>
+     * <li>자본예산: cttTp가 IOE_CPIT인 경우 → assetBg = itMngcBg, costBg = 0 (코드설명으로 개발비/기계장치/기타무형자산 세부 설정)</li>
      * <li>일반관리비: cttTp가 IOE_IDR, IOE_SEVS, IOE_XPN, IOE_LEAFE인 경우 → assetBg = 0, costBg = itMngcBg</li>
      * </ul>
      *
      * @param response 예산 구분을 설정할 응답 DTO
+     * @param ioeTable 비목코드 분류표 (요청 단위로 1회 조회)
      */
-    private void setBudgetCategory(CostDto.Response response) {
+    private void setBudgetCategory(CostDto.Response response, IoeClassifier.Table ioeTable) {
         BigDecimal totalBg = response.getItMngcBg() != null ? response.getItMngcBg() : BigDecimal.ZERO;
-        BigDecimal zero = BigDecimal.ZERO;
-
-        // 세부 자본예산 필드 초기화
-        response.setAssetBg(zero);
-        response.setDevBg(zero);
-        response.setMachBg(zero);
-        response.setIntanBg(zero);
-        response.setCostBg(zero);
-
-        if (response.getIoeC() == null || response.getIoeC().isEmpty()) {
-            return;
-        }
-
-        Optional<Ccodem> codeOpt = ccodemRepository.findByCdIdWithValidDate(response.getIoeC(), null);
-
-        if (codeOpt.isPresent()) {
-            Ccodem code = codeOpt.get();
-            String cttTp = code.getCttTp();
-            if ("IOE_CPIT".equals(cttTp)) {
-                response.setAssetBg(totalBg);
-                // 코드설명(cdDes) 기준으로 세부 분류
-                String cdDes = code.getCdDes() != null ? code.getCdDes() : "";
-                switch (cdDes) {
-                    case "개발비" -> response.setDevBg(totalBg);
-                    case "기계장치" -> response.setMachBg(totalBg);
-                    case "기타무형자산" -> response.setIntanBg(totalBg);
-                }
-                return;
-            }
-            if (COST_CTT_TPS.contains(cttTp)) {
-                response.setCostBg(totalBg);
-                return;
-            }
-        }
+        IoeClassifier.Totals totals = new IoeClassifier.Totals();
+        totals.add(ioeTable.classify(response.getIoeC()), totalBg);
+
+        response.setAssetBg(totals.asset());
+        response.setDevBg(totals.get(IoeClassifier.Category.DEV));
+        response.setMachBg(totals.get(IoeClassifier.Category.MACH));
+        response.setIntanBg(totals.get(IoeClassifier.Category.INTAN));
+        response.setCostBg(totals.cost());
     }
 
     /**
-     * 전산관리비 목록 응답에 신청서 정보·코드명·예산 구분을 배치로 주입 (N+1 방지)
+     * 전산관리비 목록 응답에 신청서 정보·코드명·예산 구분·단말기를 배치로 주입 (N+1 방지)
      *
-     * <p>CAPPLA 1회, CAPPLM 1회, CDECIM 1회, CORGNI 1회, CUSERI 1회 — 총 5 쿼리로 처리합니다.</p>
+     * <p>단말기는 금융정보단말기 유형({@code IT_MNGC_TP_002})에만 설정합니다.</p>
      */
     private void enrichCostListBatch(List<Bcostm> costs, List<CostDto.Response> responses) {
+        enrichCostListBatch(costs, responses, cost -> "IT_MNGC_TP_002".equals(cost.getItMngcTp()));
+    }
+
+    /**
+     * 전산관리비 응답에 신청서 정보·코드명·예산 구분·단말기를 배치로 주입 (N+1 방지)
+     *
+     * <p>CAPPLA 1회, CAPPLM 1회, CDECIM 1회, CORGNI 1회, CUSERI 1회, BTERMM 1회(+담당자 CUSERI 1회)로 처리하며,
+     * 각 IN 목록은 1,000건 단위로 분할 조회합니다 ({@link InClauseUtil}).
+     * 예산 구분은 요청 단위로 1회 받은 비목코드 분류표({@link IoeClassifier})를 사용합니다.</p>
+     *
+     * @param costs         전산관리비 엔티티 목록
+     * @param responses     전산관리비와 같은 순서의 응답 DTO 목록
+     * @param withTerminals 단말기 목록을 설정할 대상 조건
+     */
+    private void enrichCostListBatch(List<Bcostm> costs, List<CostDto.Response> responses,
+            java.util.function.Predicate<Bcostm> withTerminals) {
         if (costs.isEmpty()) return;
 
         // --- 1. CAPPLA 배치 조회 ---
         List<String> itMngcNos = costs.stream().map(Bcostm::getItMngcNo).distinct().collect(Collectors.toList());
-        List<Cappla> allCapplas = capplaRepository.findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc("BCOSTM", itMngcNos);
+        List<Cappla> allCapplas = InClauseUtil.fetchInChunks(itMngcNos,
+                chunk -> capplaRepository.findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc("BCOSTM", chunk));
 
         // itMngcNo+sno 복합키 → 최신 Cappla
         Map<String, Cappla> latestCappla = new java.util.LinkedHashMap<>();
@@ -459,11 +511,12 @@ public class CostService {
         // --- 2. CAPPLM 배치 조회 ---
         List<String> apfMngNos = latestCappla.values().stream()
                 .map(Cappla::getApfMngNo).collect(Collectors.toList());
-        Map<String, Capplm> capplmMap = capplmRepository.findAllById(apfMngNos).stream()
+        Map<String, Capplm> capplmMap = InClauseUtil.fetchInChunks(apfMngNos, capplmRepository::findAllById).stream()
                 .collect(Collectors.toMap(Capplm::getApfMngNo, m -> m));
 
         // --- 3. CDECIM 배치 조회 ---
-        List<Cdecim> allDecisions = cdecimRepository.findByDcdMngNoInOrderByDcdSqnAsc(apfMngNos);
+        List<Cdecim> allDecisions = InClauseUtil.fetchInChunks(apfMngNos,
+                cdecimRepository::findByDcdMngNoInOrderByDcdSqnAsc);
         Map<String, List<Cdecim>> decisionMap = allDecisions.stream()
                 .collect(Collectors.groupingBy(Cdecim::getDcdMngNo));
 
@@ -477,10 +530,11 @@ public class CostService {
         }
 
         // --- 5. 배치 조회 ---
-        Map<String, String> orgNameMap = corgnIRepository.findAllById(orgCodes).stream()
+        Map<String, String> orgNameMap = InClauseUtil.fetchInChunks(orgCodes, corgnIRepository::findAllById).stream()
                 .collect(Collectors.toMap(CorgnI::getPrlmOgzCCone, CorgnI::getBbrNm));
-        Map<String, String> userNameMap = cuserIRepository.findAllById(userEnos).stream()
+        Map<String, String> userNameMap = InClauseUtil.fetchInChunks(userEnos, cuserIRepository::findAllById).stream()
                 .collect(Collectors.toMap(CuserI::getEno, CuserI::getUsrNm));
+        IoeClassifier.Table ioeTable = ioeClassifier.table();
 
         // --- 6. 응답 DTO에 일괄 주입 ---
         for (int i = 0; i < costs.size(); i++) {
@@ -503,19 +557,24 @@ public class CostService {
             if (response.getBiceTem() != null) response.setBiceTemNm(orgNameMap.get(response.getBiceTem()));
             if (response.getCgpr() != null) response.setCgprNm(userNameMap.get(response.getCgpr()));
 
-            setBudgetCategory(response);
+            setBudgetCategory(response, ioeTable);
+        }
 
-            if ("IT_MNGC_TP_002".equals(cost.getItMngcTp())) {
-                attachTerminals(response);
+        // --- 7. 단말기 배치 조회 (대상 항목만) ---
+        List<CostDto.Response> terminalTargets = new ArrayList<>();
+        for (int i = 0; i < costs.size(); i++) {
+            if (withTerminals.test(costs.get(i))) {
+                terminalTargets.add(responses.get(i));
             }
         }
+        attachTerminalsBatch(terminalTargets);
     }
 
     /** 응답 DTO에 신청서 정보, 코드명, 예산 구분을 일괄 설정 */
     private void enrichResponse(CostDto.Response response, Bcostm cost) {
         setApplicationInfo(response, cost.getItMngcNo(), cost.getItMngcSno());
         setCodeNames(response);
-        setBudgetCategory(response);
+        setBudgetCategory(response, ioeClassifier.table());
     }
 
     /**
@@ -529,6 +588,31 @@ public class CostService {
         response.setTerminals(dtos);
     }
 
+    /**
+     * 여러 응답 DTO에 연관된 단말기 목록을 일괄 조회·변환하여 설정
+     *
+     * <p>단말기는 관리번호 IN 조회 1회(1,000건 단위 분할), 담당자명은 {@link #setTerminalCodeNames(List)}로 1회 조회합니다.</p>
+     */
+    private void attachTerminalsBatch(List<CostDto.Response> responses) {
+        if (responses.isEmpty()) return;
+
+        Map<String, List<Btermm>> terminalMap = InClauseUtil.fetchInChunks(
+                responses.stream().map(CostDto.Response::getItMngcNo).toList(),
+                chunk -> btermmRepository.findByItMngcNoInAndDelYn(chunk, "N")).stream()
+                .collect(Collectors.groupingBy(t -> t.getItMngcNo() + "_" + t.getItMngcSno()));
+
+        List<CostDto.TerminalDto> allDtos = new ArrayList<>();
+        for (CostDto.Response response : responses) {
+            List<CostDto.TerminalDto> dtos = terminalMap
+                    .getOrDefault(response.getItMngcNo() + "_" + response.getItMngcSno(), List.of()).stream()
+                    .map(CostDto.TerminalDto::fromEntity)
+                    .toList();
+            response.setTerminals(dtos);
+            allDtos.addAll(dtos);
+        }
+        setTerminalCodeNames(allDtos);
+    }
+
     /** 부서코드→부서명, 사원번호→사용자명 조회 및 설정 */
     private void setCodeNames(CostDto.Response response) {
         if (response.getBiceDpm() != null && !response.getBiceDpm().isEmpty()) {
@@ -553,7 +637,7 @@ public class CostService {
                 .collect(Collectors.toSet());
         if (enos.isEmpty()) return;
 
-        Map<String, String> nameMap = cuserIRepository.findByEnoIn(enos).stream()
+        Map<String, String> nameMap = InClauseUtil.fetchInChunks(enos, cuserIRepository::findByEnoIn).stream()
                 .collect(Collectors.toMap(
                         CuserI::getEno,
                         CuserI::getUsrNm));
@@ -1,7 +1,8 @@
 package com.kdb.it.domain.budget.document.service;
 
-import com.kdb.it.common.iam.repository.UserRepository;
+import com.kdb.it.common.iam.service.DirectoryCacheService;
 import com.kdb.it.domain.budget.document.dto.ReviewCommentDto;
+import com.kdb.it.domain.budget.document.entity.Brivgm;
 import com.kdb.it.domain.budget.document.repository.BrivgmRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -11,6 +12,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -26,8 +28,8 @@ public class ReviewCommentService {
 
     private final BrivgmRepository brivgmRepository;
 
-    /** 사용자 정보 리포지토리 (TAAABB_CUSERI): 사번→사용자명 조회용 */
-    private final UserRepository userRepository;
+    /** 사용자 이름 캐시 (TAAABB_CUSERI): 사번→사용자명 조회용 */
+    private final DirectoryCacheService directoryCacheService;
 
     /**
      * 특정 문서+버전의 미삭제 검토의견 목록을 조회합니다.
@@ -38,10 +40,14 @@ public class ReviewCommentService {
      */
     @Transactional(readOnly = true)
     public List<ReviewCommentDto.Response> getComments(String docMngNo, BigDecimal docVrs) {
-        return brivgmRepository
-                .findByDocMngNoAndDocVrsAndDelYnOrderByFstEnrDtmAsc(docMngNo, docVrs, "N")
-                .stream()
-                .map(e -> new ReviewCommentDto.Response(e, resolveAuthorName(e.getFstEnrUsid())))
+        List<Brivgm> comments = brivgmRepository
+                .findByDocMngNoAndDocVrsAndDelYnOrderByFstEnrDtmAsc(docMngNo, docVrs, "N");
+
+        // 작성자 사번 → 사용자명 일괄 변환 (코멘트마다 조회하지 않음)
+        Map<String, String> authorNames = directoryCacheService.getUserNames(
+                comments.stream().map(Brivgm::getFstEnrUsid).toList());
+        return comments.stream()
+                .map(e -> new ReviewCommentDto.Response(e, resolveAuthorName(e.getFstEnrUsid(), authorNames)))
                 .collect(Collectors.toList());
     }
 
@@ -56,7 +62,11 @@ public class ReviewCommentService {
     public ReviewCommentDto.Response addComment(String docMngNo,
                                                  ReviewCommentDto.CreateRequest request) {
         var saved = brivgmRepository.save(request.toEntity(docMngNo));
-        return new ReviewCommentDto.Response(saved, resolveAuthorName(saved.getFstEnrUsid()));
+        String eno = saved.getFstEnrUsid();
+        Map<String, String> authorNames = eno != null
+                ? directoryCacheService.getUserNames(List.of(eno))
+                : Map.of();
+        return new ReviewCommentDto.Response(saved, resolveAuthorName(eno, authorNames));
     }
 
     /**
@@ -83,18 +93,17 @@ public class ReviewCommentService {
      * 사번으로 사용자 이름을 조회합니다.
      *
      * <p>
-     * {@link UserRepository#findById(Object)} 로 {@code CuserI} 를 찾고, 존재하면
+     * {@link DirectoryCacheService#getUserNames} 로 미리 변환한 이름 Map에서 찾고, 존재하면
      * {@code usrNm} 을 반환합니다. 사용자를 찾을 수 없는 경우 사번(eno)을 그대로 반환하여
      * UI에서 식별 가능한 값이 노출되도록 합니다.
      * </p>
      *
-     * @param eno 사번
+     * @param eno         사번
+     * @param authorNames 사번 → 사용자명 Map
      * @return 사용자 이름 (미존재 시 사번, null 입력 시 빈 문자열)
      */
-    private String resolveAuthorName(String eno) {
+    private String resolveAuthorName(String eno, Map<String, String> authorNames) {
         if (eno == null) return "";
-        return userRepository.findById(eno)
-                .map(user -> user.getUsrNm())
-                .orElse(eno);
+        return authorNames.getOrDefault(eno, eno);
     }
 }
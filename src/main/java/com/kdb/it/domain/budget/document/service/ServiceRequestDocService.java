@@ -3,7 +3,7 @@ package com.kdb.it.domain.budget.document.service;
 import com.kdb.it.domain.budget.document.entity.Brdocm;
 import com.kdb.it.domain.budget.document.dto.ServiceRequestDocDto;
 import com.kdb.it.domain.budget.document.repository.ServiceRequestDocRepository;
-import com.kdb.it.common.iam.repository.UserRepository;
+import com.kdb.it.common.iam.service.DirectoryCacheService;
 import com.kdb.it.common.util.HtmlSanitizer;
 import com.kdb.it.exception.CustomGeneralException;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +14,7 @@ import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -41,8 +42,8 @@ public class ServiceRequestDocService {
     /** 요구사항 정의서 데이터 접근 리포지토리 (TAAABB_BRDOCM) */
     private final ServiceRequestDocRepository serviceRequestDocRepository;
 
-    /** 사용자 정보 리포지토리 (TAAABB_CUSERI): 사번→사용자명 조회용 */
-    private final UserRepository cuserIRepository;
+    /** 사용자 이름 캐시 (TAAABB_CUSERI): 사번→사용자명 조회용 */
+    private final DirectoryCacheService directoryCacheService;
 
     /** 신규 문서 최초 버전 */
     private static final BigDecimal INITIAL_VERSION = new BigDecimal("0.01");
@@ -56,22 +57,25 @@ public class ServiceRequestDocService {
      * <p>
      * 각 {@code DOC_MNG_NO} 그룹의 최신 버전({@code MAX(DOC_VRS)}) 레코드만 반환합니다.
      * 삭제되지 않은({@code DEL_YN='N'}) 행만 대상으로 합니다.
+     * 최초생성자 사용자명은 {@link DirectoryCacheService}에서 일괄 변환합니다.
      * </p>
      *
      * @return 문서별 최신 버전 응답 DTO 목록
      */
     public List<ServiceRequestDocDto.Response> getDocumentList() {
-        return serviceRequestDocRepository.findLatestVersionsAll().stream()
-                .map(entity -> {
-                    ServiceRequestDocDto.Response response = ServiceRequestDocDto.Response.fromEntity(entity);
-                    // 최초생성자 사번 → 사용자명 매핑
-                    if (response.getFstEnrUsid() != null && !response.getFstEnrUsid().isEmpty()) {
-                        cuserIRepository.findById(response.getFstEnrUsid())
-                                .ifPresent(user -> response.setFstEnrUsNm(user.getUsrNm()));
-                    }
-                    return response;
-                })
+        List<ServiceRequestDocDto.Response> responses = serviceRequestDocRepository.findLatestVersionsAll().stream()
+                .map(ServiceRequestDocDto.Response::fromEntity)
                 .collect(Collectors.toList());
+
+        // 최초생성자 사번 → 사용자명 매핑 (문서마다 조회하지 않음)
+        Map<String, String> userNameMap = directoryCacheService.getUserNames(
+                responses.stream().map(ServiceRequestDocDto.Response::getFstEnrUsid).toList());
+        responses.forEach(response -> {
+            if (response.getFstEnrUsid() != null) {
+                response.setFstEnrUsNm(userNameMap.get(response.getFstEnrUsid()));
+            }
+        });
+        return responses;
     }
 
     /**
@@ -3,6 +3,7 @@ package com.kdb.it.domain.budget.project.controller;
 import java.net.URI;
 import java.util.List;
 
+import com.kdb.it.common.system.dto.PageDto;
 import com.kdb.it.domain.budget.project.dto.ProjectDto;
 import com.kdb.it.domain.budget.project.service.ProjectService;
 
@@ -93,6 +94,41 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.searchProjectList(condition));
     }
 
+    /**
+     * 정보화사업 목록 페이지 조회 (검색 조건 + 서버 측 페이지)
+     *
+     * <p>
+     * {@code GET /api/projects}와 같은 검색 조건에 페이지 조회 파라미터를 더해 한 페이지만 반환합니다.
+     * 신청서 정보·예산 합계는 반환하는 페이지 행에 대해서만 조회합니다.
+     * </p>
+     *
+     * <p>
+     * 요청 예시:
+     * </p>
+     * <ul>
+     * <li>{@code GET /api/projects/page?page=0&size=20&sort=prjMngNo&direction=asc} → offset 방식</li>
+     * <li>{@code GET /api/projects/page?mode=keyset&size=50} → keyset 첫 페이지</li>
+     * <li>{@code GET /api/projects/page?mode=keyset&cursor={nextCursor}&withCount=false} → 다음 페이지 (COUNT 생략)</li>
+     * </ul>
+     *
+     * @param condition   검색 조건 (apfSts, bgYy, prjSts, prjTp, itDpm, svnDpm, ornYn)
+     * @param pageRequest 페이지 조회 요청 (mode, page, size, sort, direction, cursor, withCount)
+     * @return HTTP 200 + 정보화사업 페이지 ({@link PageDto.Response})
+     */
+    @GetMapping("/page")
+    @Operation(
+        summary = "정보화사업 목록 페이지 조회",
+        description = "검색 조건에 맞는 정보화사업을 한 페이지 조회합니다. " +
+                      "mode=offset(기본)은 page/size/sort/direction, " +
+                      "mode=keyset은 최초등록일시 내림차순으로 nextCursor를 이어서 조회합니다. " +
+                      "withCount=false이면 전체 건수 조회를 생략합니다."
+    )
+    public ResponseEntity<PageDto.Response<ProjectDto.Response>> getProjectPage(
+            @ModelAttribute ProjectDto.SearchCondition condition,
+            @ModelAttribute PageDto.Request pageRequest) {
+        return ResponseEntity.ok(projectService.searchProjectPage(condition, pageRequest));
+    }
+
     /**
      * 특정 정보화사업 단건 조회
      *
@@ -969,4 +969,23 @@ public class ProjectDto {
         @Schema(description = "조회할 프로젝트관리번호 목록")
         private java.util.List<String> prjMngNos;
     }
+
+    /**
+     * 프로젝트·품목구분별 원화 환산 품목금액 합계 (리포지토리 집계 프로젝션)
+     *
+     * <p>
+     * 프로젝트 목록의 예산 합계를 품목 엔티티 대신 GROUP BY 결과로 계산하기 위한 내부용 레코드입니다.
+     * </p>
+     *
+     * @param prjMngNo 프로젝트관리번호
+     * @param prjSno   프로젝트순번
+     * @param gclDtt   품목구분 (비목코드)
+     * @param amount   원화 환산 품목금액 합계 (gclAmt × xcr)
+     */
+    public record ItemAmount(
+            String prjMngNo,
+            Integer prjSno,
+            String gclDtt,
+            BigDecimal amount
+    ) {}
 }
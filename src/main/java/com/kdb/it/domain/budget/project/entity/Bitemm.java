@@ -17,6 +17,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import org.springframework.data.domain.Persistable;
+
 /**
  * 정보화사업 품목 엔티티
  *
@@ -45,7 +47,7 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // protected 기본 생성자 (JPA 요구사항)
 @AllArgsConstructor // 전체 필드 생성자 자동 생성
 @SuperBuilder // 상속 구조에서 Builder 패턴 지원
-public class Bitemm extends BaseEntity {
+public class Bitemm extends BaseEntity implements Persistable<BitemmId> {
 
     /** 품목관리번호: 복합 기본키의 첫 번째 컬럼 (형식: GCL-{연도}-{4자리 시퀀스}, 예: GCL-2026-0001) */
     @Id
@@ -116,5 +118,12 @@ public class Bitemm extends BaseEntity {
     /** 품목금액: 이 품목의 총 금액 (수량 × 단가, 최대 15자리) */
     @Column(name = "GCL_AMT", precision = 15, comment = "품목금액")
     private BigDecimal gclAmt;
-}
 
+    /**
+     * 식별자 반환 ({@link Persistable} 구현: 신규 여부는 {@link BaseEntity#isNew()})
+     */
+    @Override
+    public BitemmId getId() {
+        return new BitemmId(gclMngNo, gclSno);
+    }
+}
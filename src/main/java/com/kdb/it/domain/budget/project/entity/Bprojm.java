@@ -14,6 +14,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import org.springframework.data.domain.Persistable;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
@@ -46,7 +48,7 @@ import java.time.LocalDate;
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // protected 기본 생성자 (JPA 요구사항)
 @AllArgsConstructor // 전체 필드 생성자 자동 생성
 @SuperBuilder // 상속 구조에서 Builder 패턴 지원
-public class Bprojm extends BaseEntity {
+public class Bprojm extends BaseEntity implements Persistable<BprojmId> {
 
     /** 프로젝트관리번호: 기본키 (예: PRJ-2026-0001) */
     @Id
@@ -364,4 +366,12 @@ public class Bprojm extends BaseEntity {
         this.ornYn = ornYn;
         this.pulDtt = pulDtt;
     }
+
+    /**
+     * 식별자 반환 ({@link Persistable} 구현: 신규 여부는 {@link BaseEntity#isNew()})
+     */
+    @Override
+    public BprojmId getId() {
+        return new BprojmId(prjMngNo, prjSno);
+    }
 }
@@ -2,6 +2,7 @@ package com.kdb.it.domain.budget.project.repository;
 
 import com.kdb.it.domain.budget.project.entity.Bitemm;
 import com.kdb.it.domain.budget.project.entity.BitemmId;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -15,7 +16,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
  *
  * <p>프로젝트와의 연관: {@code prjMngNo} + {@code prjSno}로 특정 프로젝트의 품목을 조회합니다.</p>
  */
-public interface ProjectItemRepository extends JpaRepository<Bitemm, BitemmId> {
+public interface ProjectItemRepository extends JpaRepository<Bitemm, BitemmId>, ProjectItemRepositoryCustom {
 
     /**
      * 프로젝트 관리번호와 순번으로 품목 목록 조회 (삭제 여부 무관)
@@ -73,6 +74,18 @@ public interface ProjectItemRepository extends JpaRepository<Bitemm, BitemmId> {
      */
     List<Bitemm> findByPrjMngNoAndDelYn(String prjMngNo, String delYn);
 
+    /**
+     * 여러 프로젝트 관리번호의 품목 목록 일괄 조회 (순번 무관)
+     *
+     * <p>일괄 상세 조회({@code getProjectsByIds})에서 프로젝트별 품목 조회 대신 사용합니다.
+     * 호출 측에서 프로젝트 순번(prjSno)별로 나누어 사용합니다.</p>
+     *
+     * @param prjMngNos 프로젝트 관리번호 목록 (최대 1,000건)
+     * @param delYn     삭제 여부 ('N'=미삭제)
+     * @return 해당 프로젝트들의 품목 목록
+     */
+    List<Bitemm> findByPrjMngNoInAndDelYn(Collection<String> prjMngNos, String delYn);
+
     /**
      * 프로젝트 관리번호의 최신 버전 품목 목록 조회
      *
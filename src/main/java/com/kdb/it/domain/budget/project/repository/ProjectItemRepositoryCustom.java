@@ -0,0 +1,29 @@
+package com.kdb.it.domain.budget.project.repository;
+
+import com.kdb.it.domain.budget.project.dto.ProjectDto;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 품목(Bitemm) 커스텀 리포지토리 인터페이스
+ *
+ * <p>목록 화면처럼 여러 프로젝트의 품목을 한 번에 집계해야 하는 쿼리를 위한
+ * 커스텀 인터페이스입니다. {@link ProjectItemRepositoryImpl}에서 QueryDSL로 구현됩니다.</p>
+ */
+public interface ProjectItemRepositoryCustom {
+
+    /**
+     * 프로젝트·품목구분별 원화 환산 품목금액 합계 조회
+     *
+     * <p>
+     * 프로젝트 목록의 예산 합계(자본예산/일반관리비)를 프로젝트마다 품목을 조회하지 않고
+     * GROUP BY 결과 한 번으로 계산하기 위해 사용합니다.
+     * 집계 기준은 단건 조회({@code findByPrjMngNoAndPrjSnoAndDelYn})와 같이 {@code DEL_YN='N'}입니다.
+     * </p>
+     *
+     * @param prjMngNos 프로젝트관리번호 목록
+     * @return (프로젝트관리번호, 프로젝트순번, 품목구분)별 금액 합계 목록
+     */
+    List<ProjectDto.ItemAmount> sumItemAmountByProjectAndGclDtt(Collection<String> prjMngNos);
+}
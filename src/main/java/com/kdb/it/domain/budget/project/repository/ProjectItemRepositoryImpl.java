@@ -0,0 +1,67 @@
+package com.kdb.it.domain.budget.project.repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+import com.kdb.it.common.util.InClauseUtil;
+import com.kdb.it.domain.budget.project.dto.ProjectDto;
+import com.kdb.it.domain.budget.project.entity.QBitemm;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 품목(BITEMM) 커스텀 리포지토리 QueryDSL 구현체
+ */
+@RequiredArgsConstructor
+public class ProjectItemRepositoryImpl implements ProjectItemRepositoryCustom {
+
+    /** QueryDSL 쿼리 팩토리 */
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 프로젝트·품목구분별 원화 환산 품목금액 합계 조회
+     *
+     * <p>
+     * [생성 SQL 예시]
+     * </p>
+     * <pre>{@code
+     * SELECT i.PRJ_MNG_NO, i.PRJ_SNO, i.GCL_DTT,
+     *        SUM(i.GCL_AMT * CASE WHEN i.XCR IS NULL OR i.XCR = 0 THEN 1 ELSE i.XCR END)
+     * FROM TAAABB_BITEMM i
+     * WHERE i.PRJ_MNG_NO IN (...)
+     *   AND i.DEL_YN = 'N'
+     *   AND i.GCL_DTT IS NOT NULL AND i.GCL_AMT IS NOT NULL
+     * GROUP BY i.PRJ_MNG_NO, i.PRJ_SNO, i.GCL_DTT
+     * }</pre>
+     *
+     * <p>
+     * 환율(XCR)이 없거나 0이면 1로 간주합니다 (단건 계산과 동일).
+     * 프로젝트관리번호가 1,000건을 넘으면 1,000건 단위로 나누어 조회합니다.
+     * </p>
+     */
+    @Override
+    public List<ProjectDto.ItemAmount> sumItemAmountByProjectAndGclDtt(Collection<String> prjMngNos) {
+        QBitemm bitemm = QBitemm.bitemm;
+        NumberExpression<BigDecimal> amount = Expressions.numberTemplate(BigDecimal.class,
+                "SUM({0} * CASE WHEN {1} IS NULL OR {1} = 0 THEN 1 ELSE {1} END)", bitemm.gclAmt, bitemm.xcr);
+
+        return InClauseUtil.fetchInChunks(prjMngNos, chunk -> queryFactory
+                .select(bitemm.prjMngNo, bitemm.prjSno, bitemm.gclDtt, amount)
+                .from(bitemm)
+                .where(
+                        bitemm.prjMngNo.in(chunk),
+                        bitemm.delYn.eq("N"),
+                        bitemm.gclDtt.isNotNull(),
+                        bitemm.gclAmt.isNotNull())
+                .groupBy(bitemm.prjMngNo, bitemm.prjSno, bitemm.gclDtt)
+                .fetch()
+                .stream()
+                .map(t -> new ProjectDto.ItemAmount(
+                        t.get(bitemm.prjMngNo), t.get(bitemm.prjSno), t.get(bitemm.gclDtt), t.get(amount)))
+                .toList());
+    }
+}
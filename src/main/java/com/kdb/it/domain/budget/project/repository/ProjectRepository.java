@@ -2,6 +2,7 @@ package com.kdb.it.domain.budget.project.repository;
 
 import com.kdb.it.domain.budget.project.entity.Bprojm;
 import com.kdb.it.domain.budget.project.entity.BprojmId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -54,6 +55,21 @@ public interface ProjectRepository extends JpaRepository<Bprojm, BprojmId>, Proj
      */
     boolean existsByPrjMngNoAndDelYn(String prjMngNo, String delYn);
 
+    /**
+     * 여러 프로젝트 관리번호로 일괄 조회 (삭제 여부 조건)
+     *
+     * <p>
+     * 일괄 상세 조회({@code getProjectsByIds})에서 프로젝트별 단건 조회 대신 사용합니다.
+     * 관리번호가 1,000건을 넘으면 호출 측에서 분할하여 호출합니다
+     * ({@link com.kdb.it.common.util.InClauseUtil}).
+     * </p>
+     *
+     * @param prjMngNos 프로젝트 관리번호 목록 (최대 1,000건)
+     * @param delYn     삭제 여부 ('N'=미삭제)
+     * @return 조건에 맞는 정보화사업 목록
+     */
+    List<Bprojm> findByPrjMngNoInAndDelYn(Collection<String> prjMngNos, String delYn);
+
     /**
      * 전체 정보화사업 목록 조회 (삭제 여부 조건)
      *
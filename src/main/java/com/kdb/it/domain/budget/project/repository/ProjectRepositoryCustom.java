@@ -1,5 +1,6 @@
 package com.kdb.it.domain.budget.project.repository;
 
+import com.kdb.it.common.system.dto.PageDto;
 import com.kdb.it.domain.budget.project.dto.ProjectDto;
 import com.kdb.it.domain.budget.project.entity.Bprojm;
 
@@ -38,4 +39,31 @@ public interface ProjectRepositoryCustom {
      * @return 조건에 맞는 정보화사업 목록 (DEL_YN='N' 필터 항상 적용)
      */
     List<Bprojm> searchByCondition(ProjectDto.SearchCondition condition);
+
+    /**
+     * 검색 조건으로 정보화사업 목록 페이지 조회 (동적 쿼리 + 정렬 + 페이지 제한)
+     *
+     * <p>
+     * WHERE 절은 {@link #searchByCondition(ProjectDto.SearchCondition)}와 같습니다.
+     * 다음 페이지 존재 여부를 판단할 수 있도록 페이지 크기보다 1건 더 조회합니다.
+     * </p>
+     * <ul>
+     * <li>offset 방식: 허용 정렬 필드(fstEnrDtm, prjMngNo, bgYy, prjNm) + 관리번호·순번 순, {@code OFFSET page×size}</li>
+     * <li>keyset 방식: {@code FST_ENR_DTM DESC, PRJ_MNG_NO DESC, PRJ_SNO DESC} 순, 커서 이후 행</li>
+     * </ul>
+     *
+     * @param condition   검색 조건 DTO
+     * @param pageRequest 페이지 조회 요청
+     * @return 조건에 맞는 정보화사업 목록 (최대 {@code size + 1}건)
+     * @throws IllegalArgumentException 허용되지 않는 정렬 필드이거나 커서 형식이 잘못된 경우
+     */
+    List<Bprojm> searchPageByCondition(ProjectDto.SearchCondition condition, PageDto.Request pageRequest);
+
+    /**
+     * 검색 조건에 맞는 정보화사업 건수 조회 (SELECT COUNT)
+     *
+     * @param condition 검색 조건 DTO
+     * @return 조건에 맞는 정보화사업 건수 (DEL_YN='N' 필터 항상 적용)
+     */
+    long countByCondition(ProjectDto.SearchCondition condition);
 }
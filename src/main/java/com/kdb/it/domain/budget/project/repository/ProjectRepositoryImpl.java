@@ -1,14 +1,17 @@
 package com.kdb.it.domain.budget.project.repository;
 
 import java.util.List;
+import java.util.Map;
 
-import com.kdb.it.common.approval.entity.QCappla;
-import com.kdb.it.common.approval.entity.QCapplm;
+import com.kdb.it.common.approval.repository.ApplicationStatusExpressions;
+import com.kdb.it.common.system.dto.PageDto;
+import com.kdb.it.common.system.repository.KeysetExpressions;
 import com.kdb.it.domain.budget.project.dto.ProjectDto;
 import com.kdb.it.domain.budget.project.entity.Bprojm;
 import com.kdb.it.domain.budget.project.entity.QBprojm;
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -30,13 +33,20 @@ import lombok.RequiredArgsConstructor;
  * {@code apfSts} 서브쿼리 전략:
  * </p>
  * <ul>
- * <li>{@code "none"}: NOT EXISTS — CAPPLA에 연결 레코드가 없는 프로젝트</li>
- * <li>그 외 값: EXISTS — 최신 CAPPLA(APF_REL_SNO MAX)의 CAPPLM 결재상태가 일치하는 프로젝트</li>
+ * <li>{@code "none"}: NOT EXISTS — 최신 신청서 상태(CAPPLC) 행이 없는 프로젝트</li>
+ * <li>그 외 값: EXISTS — 최신 신청서 상태(CAPPLC)의 결재상태가 일치하는 프로젝트 (PK 조회)</li>
  * </ul>
  */
 @RequiredArgsConstructor // final 필드 생성자 자동 주입 (Lombok)
 public class ProjectRepositoryImpl implements ProjectRepositoryCustom {
 
+    /** 페이지 조회(offset 방식)에서 허용하는 정렬 필드 */
+    private static final Map<String, ComparableExpressionBase<?>> SORT_FIELDS = Map.of(
+            "fstEnrDtm", QBprojm.bprojm.fstEnrDtm,
+            "prjMngNo", QBprojm.bprojm.prjMngNo,
+            "bgYy", QBprojm.bprojm.bgYy,
+            "prjNm", QBprojm.bprojm.prjNm);
+
     /** QueryDSL 쿼리 팩토리: JPA 쿼리 생성 및 실행 담당 */
     private final JPAQueryFactory queryFactory;
 
@@ -51,17 +61,94 @@ public class ProjectRepositoryImpl implements ProjectRepositoryCustom {
      * 4. BooleanBuilder로 조합된 WHERE 절로 쿼리 실행
      * </p>
      *
+     * <p>
+     * WHERE 절 구성은 {@link #conditionOf(QBprojm, ProjectDto.SearchCondition)}에서
+     * 페이지·건수 조회와 공유합니다.
+     * </p>
+     *
      * @param condition 검색 조건 DTO
      * @return 조건에 맞는 정보화사업 목록
      */
     @Override
     public List<Bprojm> searchByCondition(ProjectDto.SearchCondition condition) {
         QBprojm bprojm = QBprojm.bprojm;
-        // 서브쿼리용 CAPPLA Q타입 별칭 (자기 참조 서브쿼리 충돌 방지)
-        QCappla cappla = new QCappla("cappla");
-        QCappla cappla2 = new QCappla("cappla2");
-        QCapplm capplm = QCapplm.capplm;
+        return queryFactory
+                .selectFrom(bprojm)
+                .where(conditionOf(bprojm, condition))
+                .fetch();
+    }
+
+    /**
+     * 검색 조건으로 정보화사업 목록 페이지 조회
+     *
+     * <p>
+     * 다음 페이지 존재 여부 판단을 위해 {@code size + 1}건을 조회합니다.
+     * 정렬 필드는 {@link #SORT_FIELDS}에 등록된 값만 허용하며, 같은 값 사이의 순서를 고정하기 위해
+     * 관리번호·일련번호를 항상 뒤에 붙입니다.
+     * </p>
+     *
+     * @param condition   검색 조건 DTO
+     * @param pageRequest 페이지 조회 요청
+     * @return 조건에 맞는 정보화사업 목록 (최대 {@code size + 1}건)
+     * @throws IllegalArgumentException 허용되지 않는 정렬 필드인 경우
+     */
+    @Override
+    public List<Bprojm> searchPageByCondition(ProjectDto.SearchCondition condition, PageDto.Request pageRequest) {
+        QBprojm bprojm = QBprojm.bprojm;
+        JPAQuery<Bprojm> query = queryFactory
+                .selectFrom(bprojm)
+                .where(conditionOf(bprojm, condition))
+                .limit(pageRequest.safeSize() + 1L);
+
+        if (pageRequest.isKeyset()) {
+            // 키셋: 커서 이후 행만 조회 (OFFSET 없음)
+            return query
+                    .where(KeysetExpressions.after(bprojm.fstEnrDtm, bprojm.prjMngNo, bprojm.prjSno,
+                            pageRequest.decodedCursor()))
+                    .orderBy(KeysetExpressions.order(bprojm.fstEnrDtm, bprojm.prjMngNo, bprojm.prjSno))
+                    .fetch();
+        }
 
+        String sort = pageRequest.getSort() == null || pageRequest.getSort().isBlank()
+                ? "fstEnrDtm" : pageRequest.getSort();
+        ComparableExpressionBase<?> sortPath = SORT_FIELDS.get(sort);
+        if (sortPath == null) {
+            throw new IllegalArgumentException("정렬할 수 없는 필드입니다: " + sort);
+        }
+        boolean asc = pageRequest.isAscending();
+        return query
+                .orderBy((asc ? sortPath.asc() : sortPath.desc()).nullsLast(),
+                        asc ? bprojm.prjMngNo.asc() : bprojm.prjMngNo.desc(),
+                        asc ? bprojm.prjSno.asc() : bprojm.prjSno.desc())
+                .offset(pageRequest.offset())
+                .fetch();
+    }
+
+    /**
+     * 검색 조건에 맞는 정보화사업 건수 조회
+     *
+     * @param condition 검색 조건 DTO
+     * @return 조건에 맞는 정보화사업 건수
+     */
+    @Override
+    public long countByCondition(ProjectDto.SearchCondition condition) {
+        QBprojm bprojm = QBprojm.bprojm;
+        Long count = queryFactory
+                .select(bprojm.count())
+                .from(bprojm)
+                .where(conditionOf(bprojm, condition))
+                .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 검색 조건 DTO를 WHERE 절로 변환 (목록·페이지·건수 조회 공통)
+     *
+     * @param bprojm    정보화사업 Q타입
+     * @param condition 검색 조건 DTO
+     * @return 조합된 WHERE 조건
+     */
+    private BooleanBuilder conditionOf(QBprojm bprojm, ProjectDto.SearchCondition condition) {
         BooleanBuilder builder = new BooleanBuilder();
 
         // 기본 조건: 삭제되지 않은 프로젝트만 조회
@@ -71,35 +158,13 @@ public class ProjectRepositoryImpl implements ProjectRepositoryCustom {
         String apfSts = condition.getApfSts();
         if (apfSts != null && !apfSts.isBlank()) {
             if ("none".equals(apfSts)) {
-                // 신청서가 없는 프로젝트: CAPPLA에 연결 레코드가 없는 경우
-                builder.and(
-                        JPAExpressions.selectOne()
-                                .from(cappla)
-                                .where(
-                                        cappla.orcTbCd.eq("BPROJM"),
-                                        cappla.orcPkVl.eq(bprojm.prjMngNo),
-                                        cappla.orcSnoVl.eq(bprojm.prjSno))
-                                .notExists());
+                // 신청서가 없는 프로젝트: 최신 신청서 상태(CAPPLC) 행이 없는 경우
+                builder.and(ApplicationStatusExpressions.noApplication(
+                        "BPROJM", bprojm.prjMngNo, bprojm.prjSno));
             } else {
-                // 특정 결재상태: 최신 신청서(APF_REL_SNO 최대값)의 결재상태가 일치하는 경우
-                builder.and(
-                        JPAExpressions.selectOne()
-                                .from(cappla, capplm)
-                                .where(
-                                        cappla.apfMngNo.eq(capplm.apfMngNo),
-                                        cappla.orcTbCd.eq("BPROJM"),
-                                        cappla.orcPkVl.eq(bprojm.prjMngNo),
-                                        cappla.orcSnoVl.eq(bprojm.prjSno),
-                                        capplm.apfSts.eq(apfSts),
-                                        // 해당 프로젝트에 연결된 신청서 중 가장 최신(APF_REL_SNO 최대)인 것만 검사
-                                        cappla.apfRelSno.eq(
-                                                JPAExpressions.select(cappla2.apfRelSno.max())
-                                                        .from(cappla2)
-                                                        .where(
-                                                                cappla2.orcTbCd.eq("BPROJM"),
-                                                                cappla2.orcPkVl.eq(bprojm.prjMngNo),
-                                                                cappla2.orcSnoVl.eq(bprojm.prjSno))))
-                                .exists());
+                // 특정 결재상태: 최신 신청서의 결재상태가 일치하는 경우 (CAPPLC PK 조회)
+                builder.and(ApplicationStatusExpressions.latestStatusEq(
+                        "BPROJM", bprojm.prjMngNo, bprojm.prjSno, apfSts));
             }
         }
 
@@ -137,9 +202,6 @@ public class ProjectRepositoryImpl implements ProjectRepositoryCustom {
             }
         }
 
-        return queryFactory
-                .selectFrom(bprojm)
-                .where(builder)
-                .fetch();
+        return builder;
     }
 }
@@ -7,10 +7,12 @@ import com.kdb.it.common.approval.dto.ApplicationInfoDto;
 import com.kdb.it.common.approval.entity.Cappla;
 import com.kdb.it.common.approval.entity.Capplm;
 import com.kdb.it.common.approval.entity.Cdecim;
-import com.kdb.it.common.iam.entity.CorgnI;
-import com.kdb.it.common.iam.entity.CuserI;
+import com.kdb.it.common.code.service.IoeClassifier;
+import com.kdb.it.common.iam.service.DirectoryCacheService;
+import com.kdb.it.common.system.dto.PageDto;
 import com.kdb.it.common.system.security.CustomUserDetails;
 import com.kdb.it.common.util.HtmlSanitizer;
+import com.kdb.it.common.util.InClauseUtil;
 import com.kdb.it.domain.budget.project.entity.Bitemm;
 import java.math.BigDecimal;
 import java.util.List;
@@ -77,11 +79,8 @@ public class ProjectService {
     /** 품목 데이터 접근 리포지토리 (TAAABB_BITEMM) */
     private final com.kdb.it.domain.budget.project.repository.ProjectItemRepository bitemmRepository;
 
-    /** 조직(부점) 정보 리포지토리 (TAAABB_CORGNI): 부서코드→부서명 조회용 */
-    private final com.kdb.it.common.iam.repository.OrganizationRepository corgnIRepository;
-
-    /** 사용자 정보 리포지토리 (TAAABB_CUSERI): 사원번호→사용자명 조회용 */
-    private final com.kdb.it.common.iam.repository.UserRepository cuserIRepository;
+    /** 사용자·조직 이름 캐시 (TAAABB_CUSERI/CORGNI): 부서코드→부서명, 사원번호→사용자명 변환용 */
+    private final DirectoryCacheService directoryCacheService;
 
     /** 결재 정보 리포지토�� (TAAABB_CDECIM): 결재선 목록 조회용 */
     private final com.kdb.it.common.approval.repository.ApproverRepository cdecimRepository;
@@ -92,6 +91,9 @@ public class ProjectService {
     /** 공통코드 서비스: 예산 신청 기간 검증용 */
     private final com.kdb.it.common.code.service.CodeService codeService;
 
+    /** 비목코드 예산 분류기: 품목구분 → 자본예산/일반관리비 합계용 */
+    private final IoeClassifier ioeClassifier;
+
     /**
      * 전체 정보화사업 목록 조회
      *
@@ -111,7 +113,7 @@ public class ProjectService {
         List<ProjectDto.Response> responses = projects.stream()
                 .map(ProjectDto.Response::fromEntity)
                 .collect(Collectors.toList());
-        enrichProjectListBatch(projects, responses);
+        enrichProjectListBatch(projects, responses, sumItemAmounts(projects));
         return responses;
     }
 
@@ -144,10 +146,49 @@ public class ProjectService {
         List<ProjectDto.Response> responses = projects.stream()
                 .map(ProjectDto.Response::fromEntity)
                 .collect(Collectors.toList());
-        enrichProjectListBatch(projects, responses);
+        enrichProjectListBatch(projects, responses, sumItemAmounts(projects));
         return responses;
     }
 
+    /**
+     * 검색 조건으로 정보화사업 목록 페이지 조회
+     *
+     * <p>
+     * {@link #searchProjectList(ProjectDto.SearchCondition)}와 같은 조건으로 한 페이지만 조회하며,
+     * 신청서 정보·코드명·예산 합계 주입은 반환하는 페이지 행에만 적용합니다.
+     * </p>
+     * <ul>
+     * <li>offset 방식: {@code page}/{@code size}/{@code sort}/{@code direction}</li>
+     * <li>keyset 방식: 최초등록일시 내림차순, 응답의 {@code nextCursor}로 다음 페이지 조회</li>
+     * <li>{@code withCount=false}: COUNT 쿼리 생략 ({@code totalElements=null})</li>
+     * </ul>
+     *
+     * @param condition   검색 조건 DTO (apfSts, bgYy, prjSts, prjTp, itDpm, svnDpm, ornYn)
+     * @param pageRequest 페이지 조회 요청
+     * @return 정보화사업 페이지 응답 (신청서 정보 포함, 품목 제외)
+     * @throws IllegalArgumentException 허용되지 않는 정렬 필드이거나 커서 형식이 잘못된 경우
+     */
+    public PageDto.Response<ProjectDto.Response> searchProjectPage(ProjectDto.SearchCondition condition,
+            PageDto.Request pageRequest) {
+        int size = pageRequest.safeSize();
+        List<Bprojm> rows = projectRepository.searchPageByCondition(condition, pageRequest);
+        boolean hasNext = rows.size() > size;
+        List<Bprojm> projects = hasNext ? rows.subList(0, size) : rows;
+
+        List<ProjectDto.Response> responses = projects.stream()
+                .map(ProjectDto.Response::fromEntity)
+                .collect(Collectors.toList());
+        enrichProjectListBatch(projects, responses, sumItemAmounts(projects));
+
+        String nextCursor = null;
+        if (pageRequest.isKeyset() && hasNext) {
+            Bprojm last = projects.get(projects.size() - 1);
+            nextCursor = new PageDto.Cursor(last.getFstEnrDtm(), last.getPrjMngNo(), last.getPrjSno()).encode();
+        }
+        Long total = pageRequest.isCountRequested() ? projectRepository.countByCondition(condition) : null;
+        return new PageDto.Response<>(responses, total, pageRequest.safePage(), size, hasNext, nextCursor);
+    }
+
     /**
      * 단건 정보화사업 상세 조회
      *
@@ -251,8 +292,10 @@ public class ProjectService {
 
         // ===== 품목(Bitemm) 저장 =====
         // 신규 등록 시 요청에 포함된 모든 품목은 신규 추가 대상
+        // 시퀀스 채번(Native Query)은 대기 중인 INSERT를 flush시키므로, 채번을 모두 마친 뒤 한 번에 저장 (JDBC 배치)
         if (request.getItems() != null && !request.getItems().isEmpty()) {
             int gclSno = 0; // 품목일련번호 (1부터 시작)
+            List<com.kdb.it.domain.budget.project.entity.Bitemm> newItems = new java.util.ArrayList<>(request.getItems().size());
             for (ProjectDto.BitemmDto itemDto : request.getItems()) {
                 Long gclSeq = bitemmRepository.getNextSequenceValue(); // Oracle 시퀀스 채번
                 String gclMngNo = String.format("GCL-%s-%04d", java.time.LocalDate.now().getYear(), gclSeq);
@@ -276,8 +319,9 @@ public class ProjectService {
                         .lstYn("Y") // 최종여부
                         .gclAmt(itemDto.getGclAmt()) // 품목금액
                         .build();
-                bitemmRepository.save(newItem);
+                newItems.add(newItem);
             }
+            bitemmRepository.saveAll(newItems);
         }
 
         return project.getPrjMngNo(); // 저장된 관리번호 반환
@@ -560,22 +604,55 @@ public class ProjectService {
      *
      * <p>
      * 여러 프로젝트관리번호를 한 번에 조회합니다.
-     * 존재하지 않는 항목은 결과에서 제외합니다 (null 필터링).
+     * 존재하지 않는 항목은 결과에서 제외하며, 결과 순서는 요청 순서를 따릅니다.
+     * </p>
+     *
+     * <p>
+     * 프로젝트마다 {@link #getProject(String)}를 호출(건당 약 10 쿼리)하지 않고,
+     * 프로젝트·품목·신청서·결재자·부서·사용자를 IN 조건으로 한 번씩 조회합니다.
+     * 각 IN 목록은 Oracle 제한에 맞춰 1,000건 단위로 분할되므로
+     * 1,000건 이하 요청은 건수와 무관하게 고정된 쿼리 수로 처리됩니다.
      * </p>
      *
      * @param request 일괄 조회 요청 DTO (프로젝트관리번호 목록)
      * @return 존재하는 프로젝트의 응답 DTO 목록 (품목 정보 포함, 없는 항목 제외)
      */
     public List<ProjectDto.Response> getProjectsByIds(ProjectDto.BulkGetRequest request) {
+        // 1. 프로젝트 일괄 조회 (관리번호당 삭제되지 않은 최신 순번 1건)
+        Map<String, Bprojm> projectMap = InClauseUtil.fetchInChunks(request.getPrjMngNos(),
+                chunk -> projectRepository.findByPrjMngNoInAndDelYn(chunk, "N")).stream()
+                .collect(Collectors.toMap(Bprojm::getPrjMngNo, p -> p,
+                        (a, b) -> a.getPrjSno() >= b.getPrjSno() ? a : b, java.util.LinkedHashMap::new));
+        if (projectMap.isEmpty()) {
+            return List.of();
+        }
+        List<Bprojm> projects = List.copyOf(projectMap.values());
+
+        // 2. 품목 일괄 조회 후 (prjMngNo:prjSno)별로 분류
+        Map<String, List<Bitemm>> itemMap = InClauseUtil.fetchInChunks(projectMap.keySet(),
+                chunk -> bitemmRepository.findByPrjMngNoInAndDelYn(chunk, "N")).stream()
+                .collect(Collectors.groupingBy(item -> item.getPrjMngNo() + ":" + item.getPrjSno()));
+
+        // 3. 품목 목록 설정 + 이미 조회한 품목으로 예산 합계용 금액 계산 (집계 쿼리 생략)
+        List<ProjectDto.Response> responses = new java.util.ArrayList<>(projects.size());
+        Map<String, Map<String, BigDecimal>> itemAmountMap = new java.util.HashMap<>();
+        for (Bprojm project : projects) {
+            String key = project.getPrjMngNo() + ":" + project.getPrjSno();
+            List<Bitemm> items = itemMap.getOrDefault(key, List.of());
+            ProjectDto.Response response = ProjectDto.Response.fromEntity(project);
+            response.setItems(items.stream().map(ProjectDto.BitemmDto::fromEntity).toList());
+            responses.add(response);
+            itemAmountMap.put(key, sumAmountByGclDtt(items));
+        }
+
+        // 4. 신청서·결재자·부서명·사용자명·예산 합계 배치 주입
+        enrichProjectListBatch(projects, responses, itemAmountMap);
+
+        Map<String, ProjectDto.Response> responseMap = responses.stream()
+                .collect(Collectors.toMap(ProjectDto.Response::getPrjMngNo, r -> r));
         return request.getPrjMngNos().stream()
-                .map(prjMngNo -> {
-                    try {
-                        return getProject(prjMngNo); // 개별 상세 조회 (품목 포함)
-                    } catch (IllegalArgumentException e) {
-                        return null; // 존재하지 않는 항목은 null로 처리
-                    }
-                })
-                .filter(response -> response != null) // null 제거 (존재하지 않는 항목 제외)
+                .map(responseMap::get)
+                .filter(Objects::nonNull) // 존재하지 않는 항목 제외
                 .toList();
     }
 
@@ -605,31 +682,49 @@ public class ProjectService {
      * 프로젝트 목록 응답에 신청서 정보·코드명·예산 합계를 배치로 주입 (N+1 방지)
      *
      * <p>
-     * 개별 조회(N×8 쿼리) 대신 배치 조회(5 쿼리)로 처리합니다:
+     * 개별 조회(N×8 쿼리) 대신 배치 조회(5 쿼리 + 예산 금액)로 처리합니다:
      * CAPPLA 1회, CAPPLM 1회, CDECIM 1회, CORGNI 1회, CUSERI 1회.
+     * 각 IN 목록은 1,000건 단위로 분할 조회합니다 ({@link InClauseUtil}).
+     * </p>
+     *
+     * <p>
+     * 예산 합계는 호출 측이 준비한 (prjMngNo:prjSno) → 품목구분 → 금액 맵으로 계산합니다.
+     * 목록 조회는 {@link #sumItemAmounts(List)}의 GROUP BY 결과를, 일괄 상세 조회는 이미 조회한 품목을 사용합니다.
+     * 분류 기준 비목코드는 목록 전체에 대해 한 번만 조회합니다. 따라서 쿼리 수는 목록 건수와 무관합니다.
+     * </p>
+     *
+     * <p>
+     * 최신 신청서는 단건 조회({@link #setApplicationInfo})와 같이 프로젝트관리번호·순번 기준으로 연결합니다.
      * </p>
+     *
+     * @param projects      프로젝트 엔티티 목록
+     * @param responses     프로젝트와 같은 순서의 응답 DTO 목록
+     * @param itemAmountMap (prjMngNo:prjSno) → 품목구분 → 원화 환산 금액 합계
      */
-    private void enrichProjectListBatch(List<Bprojm> projects, List<ProjectDto.Response> responses) {
+    private void enrichProjectListBatch(List<Bprojm> projects, List<ProjectDto.Response> responses,
+            Map<String, Map<String, BigDecimal>> itemAmountMap) {
         if (projects.isEmpty()) return;
 
         // --- 1. CAPPLA 배치 조회 (BPROJM에 연결된 모든 신청서) ---
         List<String> prjMngNos = projects.stream().map(Bprojm::getPrjMngNo).collect(Collectors.toList());
-        List<Cappla> allCapplas = capplaRepository.findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc("BPROJM", prjMngNos);
+        List<Cappla> allCapplas = InClauseUtil.fetchInChunks(prjMngNos,
+                chunk -> capplaRepository.findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc("BPROJM", chunk));
 
-        // prjMngNo → 최신 Cappla (이미 DESC 정렬이므로 첫 번째가 최신)
+        // prjMngNo+prjSno 복합키 → 최신 Cappla (분할 조회 결과를 합쳐도 관리번호 내에서는 DESC 정렬 유지)
         Map<String, Cappla> latestCappla = new java.util.LinkedHashMap<>();
         for (Cappla c : allCapplas) {
-            latestCappla.putIfAbsent(c.getOrcPkVl(), c);
+            latestCappla.putIfAbsent(c.getOrcPkVl() + ":" + c.getOrcSnoVl(), c);
         }
 
         // --- 2. CAPPLM 배치 조회 ---
         List<String> apfMngNos = latestCappla.values().stream()
                 .map(Cappla::getApfMngNo).collect(Collectors.toList());
-        Map<String, Capplm> capplmMap = capplmRepository.findAllById(apfMngNos).stream()
+        Map<String, Capplm> capplmMap = InClauseUtil.fetchInChunks(apfMngNos, capplmRepository::findAllById).stream()
                 .collect(Collectors.toMap(Capplm::getApfMngNo, m -> m));
 
         // --- 3. CDECIM 배치 조회 ---
-        List<Cdecim> allDecisions = cdecimRepository.findByDcdMngNoInOrderByDcdSqnAsc(apfMngNos);
+        List<Cdecim> allDecisions = InClauseUtil.fetchInChunks(apfMngNos,
+                cdecimRepository::findByDcdMngNoInOrderByDcdSqnAsc);
         Map<String, List<Cdecim>> decisionMap = allDecisions.stream()
                 .collect(Collectors.groupingBy(Cdecim::getDcdMngNo));
 
@@ -645,18 +740,19 @@ public class ProjectService {
             if (r.getSvnDpmTlr() != null && !r.getSvnDpmTlr().isEmpty()) userEnos.add(r.getSvnDpmTlr());
         }
 
-        // --- 5. 부서명·사용자명 배치 조회 ---
-        Map<String, String> orgNameMap = corgnIRepository.findAllById(orgCodes).stream()
-                .collect(Collectors.toMap(CorgnI::getPrlmOgzCCone, CorgnI::getBbrNm));
-        Map<String, String> userNameMap = cuserIRepository.findAllById(userEnos).stream()
-                .collect(Collectors.toMap(CuserI::getEno, CuserI::getUsrNm));
+        // --- 5. 부서명·사용자명 일괄 변환 (캐시 미적중분만 조회) ---
+        Map<String, String> orgNameMap = directoryCacheService.getOrgNames(orgCodes);
+        Map<String, String> userNameMap = directoryCacheService.getUserNames(userEnos);
+
+        // --- 6. 예산 합계 분류용 비목코드 (요청 단위 1회) ---
+        IoeClassifier.Table ioeTable = ioeClassifier.table();
 
-        // --- 6. 응답 DTO에 일괄 주입 ---
+        // --- 7. 응답 DTO에 일괄 주입 ---
         for (int i = 0; i < projects.size(); i++) {
             Bprojm project = projects.get(i);
             ProjectDto.Response response = responses.get(i);
 
-            Cappla cappla = latestCappla.get(project.getPrjMngNo());
+            Cappla cappla = latestCappla.get(project.getPrjMngNo() + ":" + project.getPrjSno());
             if (cappla != null) {
                 response.setApfMngNo(cappla.getApfMngNo());
                 Capplm capplm = capplmMap.get(cappla.getApfMngNo());
@@ -674,7 +770,9 @@ public class ProjectService {
             if (response.getSvnDpmCgpr() != null) response.setSvnDpmCgprNm(userNameMap.get(response.getSvnDpmCgpr()));
             if (response.getSvnDpmTlr() != null) response.setSvnDpmTlrNm(userNameMap.get(response.getSvnDpmTlr()));
 
-            setBudgetSummary(response, project.getPrjMngNo(), project.getPrjSno());
+            setBudgetAmounts(response,
+                    itemAmountMap.getOrDefault(project.getPrjMngNo() + ":" + project.getPrjSno(), Map.of()),
+                    ioeTable);
         }
     }
 
@@ -707,9 +805,10 @@ public class ProjectService {
      * 프로젝트 응답 DTO에 부서명/사용자명 설정 (내부 헬퍼 메서드)
      *
      * <p>
-     * 부서코드(itDpm, svnDpm)로 TAAABB_CORGNI에서 부서명(BBR_NM)을 조회하고,
-     * 사원번호(itDpmCgpr, itDpmTlr, svnDpmCgpr, svnDpmTlr)로
-     * TAAABB_CUSERI에서 사용자명(USR_NM)을 조회하여 응답 DTO에 설정합니다.
+     * 부서코드(itDpm, svnDpm)를 부서명(BBR_NM)으로,
+     * 사원번호(itDpmCgpr, itDpmTlr, svnDpmCgpr, svnDpmTlr)를 사용자명(USR_NM)으로 변환하여
+     * 응답 DTO에 설정합니다. {@link DirectoryCacheService}에서 일괄 조회하므로
+     * 캐시에 없는 코드만 TAAABB_CORGNI/TAAABB_CUSERI에서 한 번씩 조회합니다.
      * </p>
      *
      * <p>
@@ -721,143 +820,92 @@ public class ProjectService {
      */
     private void setCodeNames(ProjectDto.Response response) {
         // === 부서코드 → 부서명 변환 (TAAABB_CORGNI) ===
-
-        // IT부서코드 → IT부서명
-        if (response.getItDpm() != null && !response.getItDpm().isEmpty()) {
-            corgnIRepository.findById(response.getItDpm())
-                    .ifPresent(org -> response.setItDpmNm(org.getBbrNm()));
-        }
-
-        // 주관부서코드 → 주관부서명
-        if (response.getSvnDpm() != null && !response.getSvnDpm().isEmpty()) {
-            corgnIRepository.findById(response.getSvnDpm())
-                    .ifPresent(org -> response.setSvnDpmNm(org.getBbrNm()));
-        }
+        Map<String, String> orgNameMap = directoryCacheService.getOrgNames(
+                java.util.Arrays.asList(response.getItDpm(), response.getSvnDpm()));
+        if (response.getItDpm() != null) response.setItDpmNm(orgNameMap.get(response.getItDpm()));
+        if (response.getSvnDpm() != null) response.setSvnDpmNm(orgNameMap.get(response.getSvnDpm()));
 
         // === 사원번호 → 사용자명 변환 (TAAABB_CUSERI) ===
+        Map<String, String> userNameMap = directoryCacheService.getUserNames(java.util.Arrays.asList(
+                response.getItDpmCgpr(), response.getItDpmTlr(), response.getSvnDpmCgpr(), response.getSvnDpmTlr()));
+        if (response.getItDpmCgpr() != null) response.setItDpmCgprNm(userNameMap.get(response.getItDpmCgpr()));
+        if (response.getItDpmTlr() != null) response.setItDpmTlrNm(userNameMap.get(response.getItDpmTlr()));
+        if (response.getSvnDpmCgpr() != null) response.setSvnDpmCgprNm(userNameMap.get(response.getSvnDpmCgpr()));
+        if (response.getSvnDpmTlr() != null) response.setSvnDpmTlrNm(userNameMap.get(response.getSvnDpmTlr()));
+    }
 
-        // IT담당자 사번 → IT담당자명
-        if (response.getItDpmCgpr() != null && !response.getItDpmCgpr().isEmpty()) {
-            cuserIRepository.findById(response.getItDpmCgpr())
-                    .ifPresent(user -> response.setItDpmCgprNm(user.getUsrNm()));
-        }
-
-        // IT담당팀장 사번 → IT담당팀장명
-        if (response.getItDpmTlr() != null && !response.getItDpmTlr().isEmpty()) {
-            cuserIRepository.findById(response.getItDpmTlr())
-                    .ifPresent(user -> response.setItDpmTlrNm(user.getUsrNm()));
-        }
-
-        // 주관부서담당자 사번 → 주관부서담당자명
-        if (response.getSvnDpmCgpr() != null && !response.getSvnDpmCgpr().isEmpty()) {
-            cuserIRepository.findById(response.getSvnDpmCgpr())
-                    .ifPresent(user -> response.setSvnDpmCgprNm(user.getUsrNm()));
-        }
-
-        // 주관부서담당팀장 사번 → 주관부서담당팀장명
-        if (response.getSvnDpmTlr() != null && !response.getSvnDpmTlr().isEmpty()) {
-            cuserIRepository.findById(response.getSvnDpmTlr())
-                    .ifPresent(user -> response.setSvnDpmTlrNm(user.getUsrNm()));
-        }
+    /**
+     * 품목 목록으로부터 자본예산/일반관리비 합계를 계산하여 응답 DTO에 설정 (단건 조회용)
+     *
+     * @param response 예산 합계를 설정할 응답 DTO
+     * @param bitemms  합계 계산 대상 품목 목록
+     */
+    private void setBudgetSummaryFromItems(ProjectDto.Response response, List<Bitemm> bitemms) {
+        setBudgetAmounts(response, sumAmountByGclDtt(bitemms), ioeClassifier.table());
     }
 
     /**
-     * 프로젝트 응답 DTO에 자본예산/일반관리비 합계 설정 (품목 조회 포함)
+     * 품목 목록의 원화 환산 금액을 품목구분(gclDtt)별로 합산
      *
      * <p>
-     * 프로젝트의 품목(Bitemm)을 조회하여 gclDtt(품목구분) 기준으로
-     * 자본예산과 일반관리비를 계산합니다.
+     * 품목금액은 gclAmt × xcr(xcr이 null이거나 0이면 1)이며,
+     * gclDtt 또는 gclAmt가 없는 품목은 제외합니다 ({@link #sumItemAmounts(List)}의 집계 쿼리와 같은 기준).
      * </p>
      *
-     * @param response 예산 합계를 설정할 응답 DTO
-     * @param prjMngNo 프로젝트관리번호
-     * @param prjSno   프로젝트순번
+     * @param bitemms 합산 대상 품목 목록
+     * @return 품목구분 → 원화 환산 금액 합계
      */
-    private void setBudgetSummary(ProjectDto.Response response, String prjMngNo, Integer prjSno) {
-        // 삭제되지 않은 품목 목록 조회
-        List<com.kdb.it.domain.budget.project.entity.Bitemm> bitemms = bitemmRepository
-                .findByPrjMngNoAndPrjSnoAndDelYn(prjMngNo, prjSno, "N");
-        setBudgetSummaryFromItems(response, bitemms);
+    private Map<String, BigDecimal> sumAmountByGclDtt(List<Bitemm> bitemms) {
+        Map<String, BigDecimal> amountByGclDtt = new java.util.HashMap<>();
+        for (Bitemm item : bitemms) {
+            if (item.getGclDtt() == null || item.getGclAmt() == null) continue;
+            BigDecimal xcr = (item.getXcr() != null && item.getXcr().compareTo(BigDecimal.ZERO) != 0)
+                    ? item.getXcr() : BigDecimal.ONE;
+            amountByGclDtt.merge(item.getGclDtt(), item.getGclAmt().multiply(xcr), BigDecimal::add);
+        }
+        return amountByGclDtt;
     }
 
     /**
-     * 품목 목록으로부터 자본예산/일반관리비 합계를 계산하여 응답 DTO에 설정
+     * 목록 프로젝트의 품목 금액을 (프로젝트, 품목구분)별 GROUP BY 한 번으로 집계
+     *
+     * @param projects 프로젝트 엔티티 목록
+     * @return (prjMngNo:prjSno) → 품목구분 → 원화 환산 금액 합계
+     */
+    private Map<String, Map<String, BigDecimal>> sumItemAmounts(List<Bprojm> projects) {
+        Map<String, Map<String, BigDecimal>> itemAmountMap = new java.util.HashMap<>();
+        if (projects.isEmpty()) {
+            return itemAmountMap;
+        }
+        Set<String> prjMngNos = projects.stream().map(Bprojm::getPrjMngNo).collect(Collectors.toSet());
+        for (ProjectDto.ItemAmount row : bitemmRepository.sumItemAmountByProjectAndGclDtt(prjMngNos)) {
+            itemAmountMap.computeIfAbsent(row.prjMngNo() + ":" + row.prjSno(), k -> new java.util.HashMap<>())
+                    .merge(row.gclDtt(), row.amount(), BigDecimal::add);
+        }
+        return itemAmountMap;
+    }
+
+    /**
+     * 품목구분별 금액 합계를 자본예산/일반관리비로 분류하여 응답 DTO에 설정
      *
      * <p>
-     * 자본예���(assetBg): 품목구분(gclDtt)이 공통코드 코드값구분 IOE_CPIT에 해당하는 품목의 gclAmt 합계
+     * 자본예산(assetBg): 품목구분(gclDtt)이 공통코드 코드값구분 IOE_CPIT에 해당하는 금액 합계
+     * (세부: 코드설명 개발비/기계장치/기타무형자산)
      * </p>
      * <p>
-     * 일반관리비(costBg): 품목구분(gclDtt)이 공통코드 코드값구분 IOE_IDR, IOE_SEVS, IOE_XPN, IOE_LEAFE에 해당하는 품목의 gclAmt 합계
+     * 일반관리비(costBg): 품목구분(gclDtt)이 공통코드 코드값구분 IOE_IDR, IOE_SEVS, IOE_XPN, IOE_LEAFE에 해당하는 금액 합계
      * </p>
      *
-     * @param response 예산 ���계를 설정할 응답 DTO
-     * @param bitemms  합계 계산 대상 품목 목록
+     * @param response       예산 합계를 설정할 응답 DTO
+     * @param amountByGclDtt 품목구분 → 원화 환산 금액 합계
+     * @param ioeTable       요청 단위로 1회 조회한 비목코드 분류표
      */
-    private void setBudgetSummaryFromItems(ProjectDto.Response response,
-            List<com.kdb.it.domain.budget.project.entity.Bitemm> bitemms) {
-        // 공통코드에서 자본예산 대상 비목코드 조회 (cttTp = IOE_CPIT) — 캐시 적용
-        List<com.kdb.it.common.code.entity.Ccodem> assetCodes = codeService.findCodeEntitiesByCttTp("IOE_CPIT");
-        java.util.Set<String> assetTypes = assetCodes.stream()
-                .map(com.kdb.it.common.code.entity.Ccodem::getCdId)
-                .collect(java.util.stream.Collectors.toSet());
-
-        // 자본예산 비목코드를 코드설명(cdDes) 기준으로 세부 분류 (개발비/기계장치/기타무형자산)
-        java.util.Map<String, java.util.Set<String>> assetSubTypes = assetCodes.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        c -> c.getCdDes() != null ? c.getCdDes() : "",
-                        java.util.stream.Collectors.mapping(
-                                com.kdb.it.common.code.entity.Ccodem::getCdId,
-                                java.util.stream.Collectors.toSet())));
-        java.util.Set<String> devTypes = assetSubTypes.getOrDefault("개발비", java.util.Collections.emptySet());
-        java.util.Set<String> machTypes = assetSubTypes.getOrDefault("기계장치", java.util.Collections.emptySet());
-        java.util.Set<String> intanTypes = assetSubTypes.getOrDefault("기타무형자산", java.util.Collections.emptySet());
-
-        // 공통코드에서 일반관리비 대상 비목코드(cdId) 조회 (cttTp = IOE_IDR, IOE_SEVS, IOE_XPN, IOE_LEAFE) — 캐시 적용
-        java.util.Set<String> costTypes = java.util.stream.Stream.of("IOE_IDR", "IOE_SEVS", "IOE_XPN", "IOE_LEAFE")
-                .flatMap(cttTp -> codeService.findCodeEntitiesByCttTp(cttTp).stream())
-                .map(com.kdb.it.common.code.entity.Ccodem::getCdId)
-                .collect(java.util.stream.Collectors.toSet());
-
-        // 품목별 금액 계산 헬퍼 (gclAmt × xcr, xcr이 null이거나 0이면 1로 간주)
-        java.util.function.Function<com.kdb.it.domain.budget.project.entity.Bitemm, java.math.BigDecimal> calcAmt =
-                item -> {
-                    java.math.BigDecimal xcr = (item.getXcr() != null && item.getXcr().compareTo(java.math.BigDecimal.ZERO) != 0)
-                            ? item.getXcr() : java.math.BigDecimal.ONE;
-                    return item.getGclAmt().multiply(xcr);
-                };
-
-        // 유효한 품목만 필터링 (gclDtt, gclAmt가 null이 아닌 항목)
-        List<com.kdb.it.domain.budget.project.entity.Bitemm> validItems = bitemms.stream()
-                .filter(item -> item.getGclDtt() != null && item.getGclAmt() != null)
-                .collect(java.util.stream.Collectors.toList());
-
-        // 자본예산 합계 계산
-        java.math.BigDecimal assetBg = validItems.stream()
-                .filter(item -> assetTypes.contains(item.getGclDtt()))
-                .map(calcAmt)
-                .reduce(java.math.BigDecimal.ZERO, java.math.BigDecimal::add);
-
-        // 자본예산 세부 분류 합계 계산
-        java.math.BigDecimal devBg = validItems.stream()
-                .filter(item -> devTypes.contains(item.getGclDtt()))
-                .map(calcAmt)
-                .reduce(java.math.BigDecimal.ZERO, java.math.BigDecimal::add);
-        java.math.BigDecimal machBg = validItems.stream()
-                .filter(item -> machTypes.contains(item.getGclDtt()))
-                .map(calcAmt)
-                .reduce(java.math.BigDecimal.ZERO, java.math.BigDecimal::add);
-        java.math.BigDecimal intanBg = validItems.stream()
-                .filter(item -> intanTypes.contains(item.getGclDtt()))
-                .map(calcAmt)
-                .reduce(java.math.BigDecimal.ZERO, java.math.BigDecimal::add);
-
-        // 일반관리비 합계 계산
-        java.math.BigDecimal costBg = validItems.stream()
-                .filter(item -> costTypes.contains(item.getGclDtt()))
-                .map(calcAmt)
-                .reduce(java.math.BigDecimal.ZERO, java.math.BigDecimal::add);
-
-        response.setBudgetAmounts(assetBg, devBg, machBg, intanBg, costBg);
+    private void setBudgetAmounts(ProjectDto.Response response, Map<String, BigDecimal> amountByGclDtt,
+            IoeClassifier.Table ioeTable) {
+        IoeClassifier.Totals totals = ioeTable.sum(amountByGclDtt);
+        response.setBudgetAmounts(totals.asset(), totals.get(IoeClassifier.Category.DEV),
+                totals.get(IoeClassifier.Category.MACH), totals.get(IoeClassifier.Category.INTAN),
+                totals.cost());
     }
 
     /**
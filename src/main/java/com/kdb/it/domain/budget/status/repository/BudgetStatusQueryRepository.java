@@ -1,5 +1,6 @@
 package com.kdb.it.domain.budget.status.repository;
 
+import com.kdb.it.common.code.service.IoeClassifier;
 import com.kdb.it.domain.budget.status.dto.BudgetStatusDto;
 
 import java.util.List;
@@ -21,28 +22,31 @@ public interface BudgetStatusQueryRepository {
      *
      * <p>BPROJM(ORN_YN!='Y', LST_YN='Y') LEFT JOIN BITEMM(품목구분별 피벗) LEFT JOIN BBUGTM(비목별 피벗)</p>
      *
-     * @param bgYy 예산년도
+     * @param bgYy     예산년도
+     * @param ioeTable 비목코드 분류표 (요청 단위로 1회 조회)
      * @return 정보화사업별 편성요청/조정 금액 목록
      */
-    List<BudgetStatusDto.ProjectResponse> findProjectStatus(String bgYy);
+    List<BudgetStatusDto.ProjectResponse> findProjectStatus(String bgYy, IoeClassifier.Table ioeTable);
 
     /**
      * 전산업무비 예산 현황 조회
      *
      * <p>BCOSTM(LST_YN='Y') LEFT JOIN BBUGTM(비목별 매핑)</p>
      *
-     * @param bgYy 예산년도
+     * @param bgYy     예산년도
+     * @param ioeTable 비목코드 분류표 (요청 단위로 1회 조회)
      * @return 전산업무비별 편성요청/조정 금액 목록
      */
-    List<BudgetStatusDto.CostResponse> findCostStatus(String bgYy);
+    List<BudgetStatusDto.CostResponse> findCostStatus(String bgYy, IoeClassifier.Table ioeTable);
 
     /**
      * 경상사업 예산 현황 조회
      *
      * <p>BPROJM(ORN_YN='Y', LST_YN='Y') LEFT JOIN BITEMM(기계장치/기타무형자산 분리)</p>
      *
-     * @param bgYy 예산년도
+     * @param bgYy     예산년도
+     * @param ioeTable 비목코드 분류표 (요청 단위로 1회 조회)
      * @return 경상사업별 기계장치/기타무형자산 상세 목록
      */
-    List<BudgetStatusDto.OrdinaryResponse> findOrdinaryStatus(String bgYy);
+    List<BudgetStatusDto.OrdinaryResponse> findOrdinaryStatus(String bgYy, IoeClassifier.Table ioeTable);
 }
@@ -1,5 +1,7 @@
 package com.kdb.it.domain.budget.status.repository;
 
+import com.kdb.it.common.code.service.IoeClassifier;
+import com.kdb.it.common.code.service.IoeClassifier.Category;
 import com.kdb.it.common.iam.entity.QCorgnI;
 import com.kdb.it.domain.budget.cost.entity.QBcostm;
 import com.kdb.it.domain.budget.project.entity.QBitemm;
@@ -7,6 +9,7 @@ import com.kdb.it.domain.budget.project.entity.QBprojm;
 import com.kdb.it.domain.budget.status.dto.BudgetStatusDto;
 import com.kdb.it.domain.budget.work.entity.QBbugtm;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.StringExpression;
@@ -27,6 +30,11 @@ import java.util.List;
  * 단일 쿼리로 정제된 데이터를 반환합니다.
  * </p>
  *
+ * <p>
+ * 비목 분류는 다른 예산 모듈과 같은 {@link IoeClassifier} 분류표를 따르며,
+ * 분류별 비목코드 목록({@link IoeClassifier.Table#cdIds})을 IN 조건으로 넣어 DB에서 피벗합니다.
+ * </p>
+ *
  * // Design Ref: §3.5 — QueryDSL 쿼리 전략
  */
 @Repository
@@ -35,15 +43,6 @@ public class BudgetStatusQueryRepositoryImpl implements BudgetStatusQueryReposit
 
     private final JPAQueryFactory queryFactory;
 
-    /** 편성비목 접두어 상수 */
-    private static final String IOE_DEV = "IOE-237";       // 개발비
-    private static final String IOE_MACH = "IOE-238";      // 기계장치
-    private static final String IOE_INTAN = "IOE-239";     // 기타무형자산
-    private static final String IOE_RENT = "IOE-231";      // 전산임차료
-    private static final String IOE_TRAVEL = "IOE-232";    // 전산여비
-    private static final String IOE_SERVICE = "IOE-233";   // 전산용역비
-    private static final String IOE_MISC = "IOE-234";      // 전산제비
-
     /**
      * 정보화사업 예산 현황 조회
      *
@@ -52,11 +51,12 @@ public class BudgetStatusQueryRepositoryImpl implements BudgetStatusQueryReposit
      * GROUP BY 프로젝트 기본정보로 피벗 집계 후 소계/합계를 후계산합니다.
      * </p>
      *
-     * @param bgYy 예산년도
+     * @param bgYy     예산년도
+     * @param ioeTable 비목코드 분류표
      * @return 정보화사업별 편성요청/조정 금액 목록
      */
     @Override
-    public List<BudgetStatusDto.ProjectResponse> findProjectStatus(String bgYy) {
+    public List<BudgetStatusDto.ProjectResponse> findProjectStatus(String bgYy, IoeClassifier.Table ioeTable) {
         QBprojm p = QBprojm.bprojm;
         QBitemm i = QBitemm.bitemm;
         QBbugtm b = new QBbugtm("b");
@@ -74,22 +74,22 @@ public class BudgetStatusQueryRepositoryImpl implements BudgetStatusQueryReposit
                 "(SELECT u.usrNm FROM CuserI u WHERE u.eno = {0})", p.itDpmCgpr);
 
         // 편성요청 금액: BITEMM의 GCL_AMT * COALESCE(XCR, 1)를 품목구분별로 피벗
-        NumberExpression<BigDecimal> reqDev = sumItemAmtByPrefix(i, IOE_DEV);
-        NumberExpression<BigDecimal> reqMach = sumItemAmtByPrefix(i, IOE_MACH);
-        NumberExpression<BigDecimal> reqIntan = sumItemAmtByPrefix(i, IOE_INTAN);
-        NumberExpression<BigDecimal> reqRent = sumItemAmtByPrefix(i, IOE_RENT);
-        NumberExpression<BigDecimal> reqTravel = sumItemAmtByPrefix(i, IOE_TRAVEL);
-        NumberExpression<BigDecimal> reqService = sumItemAmtByPrefix(i, IOE_SERVICE);
-        NumberExpression<BigDecimal> reqMisc = sumItemAmtByPrefix(i, IOE_MISC);
+        NumberExpression<BigDecimal> reqDev = sumItemAmt(i, ioeTable, Category.DEV);
+        NumberExpression<BigDecimal> reqMach = sumItemAmt(i, ioeTable, Category.MACH);
+        NumberExpression<BigDecimal> reqIntan = sumItemAmt(i, ioeTable, Category.INTAN);
+        NumberExpression<BigDecimal> reqRent = sumItemAmt(i, ioeTable, Category.RENT);
+        NumberExpression<BigDecimal> reqTravel = sumItemAmt(i, ioeTable, Category.TRAVEL);
+        NumberExpression<BigDecimal> reqService = sumItemAmt(i, ioeTable, Category.SERVICE);
+        NumberExpression<BigDecimal> reqMisc = sumItemAmt(i, ioeTable, Category.MISC);
 
         // 조정(편성) 금액: BBUGTM의 DUP_BG를 비목코드별로 피벗
-        NumberExpression<BigDecimal> adjDev = sumDupBgByPrefix(b, IOE_DEV);
-        NumberExpression<BigDecimal> adjMach = sumDupBgByPrefix(b, IOE_MACH);
-        NumberExpression<BigDecimal> adjIntan = sumDupBgByPrefix(b, IOE_INTAN);
-        NumberExpression<BigDecimal> adjRent = sumDupBgByPrefix(b, IOE_RENT);
-        NumberExpression<BigDecimal> adjTravel = sumDupBgByPrefix(b, IOE_TRAVEL);
-        NumberExpression<BigDecimal> adjService = sumDupBgByPrefix(b, IOE_SERVICE);
-        NumberExpression<BigDecimal> adjMisc = sumDupBgByPrefix(b, IOE_MISC);
+        NumberExpression<BigDecimal> adjDev = sumDupBg(b, ioeTable, Category.DEV);
+        NumberExpression<BigDecimal> adjMach = sumDupBg(b, ioeTable, Category.MACH);
+        NumberExpression<BigDecimal> adjIntan = sumDupBg(b, ioeTable, Category.INTAN);
+        NumberExpression<BigDecimal> adjRent = sumDupBg(b, ioeTable, Category.RENT);
+        NumberExpression<BigDecimal> adjTravel = sumDupBg(b, ioeTable, Category.TRAVEL);
+        NumberExpression<BigDecimal> adjService = sumDupBg(b, ioeTable, Category.SERVICE);
+        NumberExpression<BigDecimal> adjMisc = sumDupBg(b, ioeTable, Category.MISC);
 
         List<Tuple> tuples = queryFactory
                 .select(
@@ -179,30 +179,31 @@ public class BudgetStatusQueryRepositoryImpl implements BudgetStatusQueryReposit
      *
      * <p>
      * BCOSTM LEFT JOIN BBUGTM 매핑. 전산업무비는 레코드 1건이 1개 비목에 대응하므로
-     * 피벗 불필요. 비목코드 접두어로 해당 컬럼에 금액을 배치합니다.
+     * 피벗 불필요. 비목코드 분류로 해당 컬럼에 금액을 배치합니다.
      * </p>
      *
-     * @param bgYy 예산년도
+     * @param bgYy     예산년도
+     * @param ioeTable 비목코드 분류표
      * @return 전산업무비별 편성요청/조정 금액 목록
      */
     @Override
-    public List<BudgetStatusDto.CostResponse> findCostStatus(String bgYy) {
+    public List<BudgetStatusDto.CostResponse> findCostStatus(String bgYy, IoeClassifier.Table ioeTable) {
         QBcostm c = QBcostm.bcostm;
         QBbugtm b = new QBbugtm("b");
 
-        // 편성요청: IOE_C 접두어별 IT_MNGC_BG * COALESCE(XCR, 1) 분배
-        NumberExpression<BigDecimal> reqRent = caseAmtByPrefix(c.ioeC, IOE_RENT, c.itMngcBg, c.xcr);
-        NumberExpression<BigDecimal> reqTravel = caseAmtByPrefix(c.ioeC, IOE_TRAVEL, c.itMngcBg, c.xcr);
-        NumberExpression<BigDecimal> reqService = caseAmtByPrefix(c.ioeC, IOE_SERVICE, c.itMngcBg, c.xcr);
-        NumberExpression<BigDecimal> reqMisc = caseAmtByPrefix(c.ioeC, IOE_MISC, c.itMngcBg, c.xcr);
+        // 편성요청: IOE_C 분류별 IT_MNGC_BG * COALESCE(XCR, 1) 분배
+        NumberExpression<BigDecimal> reqRent = caseAmt(c, ioeTable, Category.RENT);
+        NumberExpression<BigDecimal> reqTravel = caseAmt(c, ioeTable, Category.TRAVEL);
+        NumberExpression<BigDecimal> reqService = caseAmt(c, ioeTable, Category.SERVICE);
+        NumberExpression<BigDecimal> reqMisc = caseAmt(c, ioeTable, Category.MISC);
         NumberExpression<BigDecimal> reqTotal = Expressions.numberTemplate(BigDecimal.class,
                 "{0} * COALESCE({1}, 1)", c.itMngcBg, c.xcr);
 
-        // 조정: BBUGTM의 DUP_BG를 IOE_C 접두어별 분배
-        NumberExpression<BigDecimal> adjRent = caseDupBgByPrefix(c.ioeC, b.dupBg, IOE_RENT);
-        NumberExpression<BigDecimal> adjTravel = caseDupBgByPrefix(c.ioeC, b.dupBg, IOE_TRAVEL);
-        NumberExpression<BigDecimal> adjService = caseDupBgByPrefix(c.ioeC, b.dupBg, IOE_SERVICE);
-        NumberExpression<BigDecimal> adjMisc = caseDupBgByPrefix(c.ioeC, b.dupBg, IOE_MISC);
+        // 조정: BBUGTM의 DUP_BG를 IOE_C 분류별 분배
+        NumberExpression<BigDecimal> adjRent = caseDupBg(c, b, ioeTable, Category.RENT);
+        NumberExpression<BigDecimal> adjTravel = caseDupBg(c, b, ioeTable, Category.TRAVEL);
+        NumberExpression<BigDecimal> adjService = caseDupBg(c, b, ioeTable, Category.SERVICE);
+        NumberExpression<BigDecimal> adjMisc = caseDupBg(c, b, ioeTable, Category.MISC);
         NumberExpression<BigDecimal> adjTotal = Expressions.numberTemplate(BigDecimal.class,
                 "COALESCE({0}, 0)", b.dupBg);
 
@@ -243,34 +244,33 @@ public class BudgetStatusQueryRepositoryImpl implements BudgetStatusQueryReposit
      * 경상사업 예산 현황 조회
      *
      * <p>
-     * BPROJM(ORN_YN='Y') LEFT JOIN BITEMM으로 기계장치(IOE-238)과
-     * 기타무형자산(IOE-239)을 분리하여 조회합니다.
+     * BPROJM(ORN_YN='Y') LEFT JOIN BITEMM으로 기계장치와
+     * 기타무형자산을 분리하여 조회합니다.
      * 단가(unitPrice = amt / qtt)는 후계산합니다.
      * </p>
      *
-     * @param bgYy 예산년도
+     * @param bgYy     예산년도
+     * @param ioeTable 비목코드 분류표
      * @return 경상사업별 기계장치/기타무형자산 상세 목록
      */
     @Override
-    public List<BudgetStatusDto.OrdinaryResponse> findOrdinaryStatus(String bgYy) {
+    public List<BudgetStatusDto.OrdinaryResponse> findOrdinaryStatus(String bgYy, IoeClassifier.Table ioeTable) {
         QBprojm p = QBprojm.bprojm;
         QBitemm i = QBitemm.bitemm;
 
-        // 기계장치 (IOE-238)
+        // 기계장치
         StringExpression machCur = Expressions.stringTemplate(
-                "MAX(CASE WHEN {0} LIKE {1} THEN {2} END)",
-                i.gclDtt, Expressions.constant(IOE_MACH + "%"), i.cur);
-        NumberExpression<BigDecimal> machQtt = sumFieldByPrefix(i, IOE_MACH, i.gclQtt);
-        NumberExpression<BigDecimal> machAmt = sumFieldByPrefix(i, IOE_MACH, i.gclAmt);
-        NumberExpression<BigDecimal> machAmtKrw = sumItemAmtByPrefix(i, IOE_MACH);
+                "MAX(CASE WHEN {0} THEN {1} END)", ioeIn(i.gclDtt, ioeTable, Category.MACH), i.cur);
+        NumberExpression<BigDecimal> machQtt = sumField(i, ioeTable, Category.MACH, i.gclQtt);
+        NumberExpression<BigDecimal> machAmt = sumField(i, ioeTable, Category.MACH, i.gclAmt);
+        NumberExpression<BigDecimal> machAmtKrw = sumItemAmt(i, ioeTable, Category.MACH);
 
-        // 기타무형자산 (IOE-239)
+        // 기타무형자산
         StringExpression intanCur = Expressions.stringTemplate(
-                "MAX(CASE WHEN {0} LIKE {1} THEN {2} END)",
-                i.gclDtt, Expressions.constant(IOE_INTAN + "%"), i.cur);
-        NumberExpression<BigDecimal> intanQtt = sumFieldByPrefix(i, IOE_INTAN, i.gclQtt);
-        NumberExpression<BigDecimal> intanAmt = sumFieldByPrefix(i, IOE_INTAN, i.gclAmt);
-        NumberExpression<BigDecimal> intanAmtKrw = sumItemAmtByPrefix(i, IOE_INTAN);
+                "MAX(CASE WHEN {0} THEN {1} END)", ioeIn(i.gclDtt, ioeTable, Category.INTAN), i.cur);
+        NumberExpression<BigDecimal> intanQtt = sumField(i, ioeTable, Category.INTAN, i.gclQtt);
+        NumberExpression<BigDecimal> intanAmt = sumField(i, ioeTable, Category.INTAN, i.gclAmt);
+        NumberExpression<BigDecimal> intanAmtKrw = sumItemAmt(i, ioeTable, Category.INTAN);
 
         List<Tuple> tuples = queryFactory
                 .select(
@@ -317,64 +317,71 @@ public class BudgetStatusQueryRepositoryImpl implements BudgetStatusQueryReposit
 
     // ===== 헬퍼 메서드 =====
 
+    /**
+     * 비목코드가 분류에 속하는지 판별하는 조건
+     *
+     * <p>ioeC IN (분류표의 해당 분류 코드ID 목록). 해당 코드가 없으면 항상 거짓.</p>
+     */
+    private BooleanExpression ioeIn(StringExpression ioeC, IoeClassifier.Table ioeTable, Category category) {
+        List<String> cdIds = ioeTable.cdIds(category);
+        return cdIds.isEmpty() ? Expressions.booleanTemplate("1 = 0") : ioeC.in(cdIds);
+    }
+
     /**
      * BITEMM 품목구분별 원화환산 금액 피벗
      *
-     * <p>SUM(CASE WHEN gclDtt LIKE 'prefix%' THEN gclAmt * COALESCE(xcr, 1) ELSE 0 END)</p>
+     * <p>SUM(CASE WHEN gclDtt IN (분류 코드) THEN gclAmt * COALESCE(xcr, 1) ELSE 0 END)</p>
      */
-    private NumberExpression<BigDecimal> sumItemAmtByPrefix(QBitemm i, String prefix) {
+    private NumberExpression<BigDecimal> sumItemAmt(QBitemm i, IoeClassifier.Table ioeTable, Category category) {
         return Expressions.numberTemplate(BigDecimal.class,
-                "COALESCE(SUM(CASE WHEN {0} LIKE {1} THEN {2} * COALESCE({3}, 1) ELSE 0 END), 0)",
-                i.gclDtt, Expressions.constant(prefix + "%"), i.gclAmt, i.xcr);
+                "COALESCE(SUM(CASE WHEN {0} THEN {1} * COALESCE({2}, 1) ELSE 0 END), 0)",
+                ioeIn(i.gclDtt, ioeTable, category), i.gclAmt, i.xcr);
     }
 
     /**
      * BBUGTM 비목코드별 편성예산 피벗
      *
-     * <p>SUM(CASE WHEN ioeC LIKE 'prefix%' THEN dupBg ELSE 0 END)</p>
+     * <p>SUM(CASE WHEN ioeC IN (분류 코드) THEN dupBg ELSE 0 END)</p>
      */
-    private NumberExpression<BigDecimal> sumDupBgByPrefix(QBbugtm b, String prefix) {
+    private NumberExpression<BigDecimal> sumDupBg(QBbugtm b, IoeClassifier.Table ioeTable, Category category) {
         return Expressions.numberTemplate(BigDecimal.class,
-                "COALESCE(SUM(CASE WHEN {0} LIKE {1} THEN {2} ELSE 0 END), 0)",
-                b.ioeC, Expressions.constant(prefix + "%"), b.dupBg);
+                "COALESCE(SUM(CASE WHEN {0} THEN {1} ELSE 0 END), 0)",
+                ioeIn(b.ioeC, ioeTable, category), b.dupBg);
     }
 
     /**
-     * 비목코드 접두어별 금액 분배 (비집계, 전산업무비용)
+     * 비목코드 분류별 금액 분배 (비집계, 전산업무비용)
      *
-     * <p>CASE WHEN ioeC LIKE 'prefix%' THEN amt * COALESCE(xcr, 1) ELSE 0 END</p>
+     * <p>CASE WHEN ioeC IN (분류 코드) THEN itMngcBg * COALESCE(xcr, 1) ELSE 0 END</p>
      */
-    private NumberExpression<BigDecimal> caseAmtByPrefix(StringExpression ioeC, String prefix,
-                                                         NumberExpression<BigDecimal> amt,
-                                                         NumberExpression<BigDecimal> xcr) {
+    private NumberExpression<BigDecimal> caseAmt(QBcostm c, IoeClassifier.Table ioeTable, Category category) {
         return Expressions.numberTemplate(BigDecimal.class,
-                "CASE WHEN {0} LIKE {1} THEN {2} * COALESCE({3}, 1) ELSE 0 END",
-                ioeC, Expressions.constant(prefix + "%"), amt, xcr);
+                "CASE WHEN {0} THEN {1} * COALESCE({2}, 1) ELSE 0 END",
+                ioeIn(c.ioeC, ioeTable, category), c.itMngcBg, c.xcr);
     }
 
     /**
-     * 비목코드 접두어별 편성예산 분배 (비집계, 전산업무비용)
+     * 비목코드 분류별 편성예산 분배 (비집계, 전산업무비용)
      *
-     * <p>CASE WHEN ioeC LIKE 'prefix%' THEN COALESCE(dupBg, 0) ELSE 0 END</p>
+     * <p>CASE WHEN ioeC IN (분류 코드) THEN COALESCE(dupBg, 0) ELSE 0 END</p>
      */
-    private NumberExpression<BigDecimal> caseDupBgByPrefix(StringExpression ioeC,
-                                                           NumberExpression<BigDecimal> dupBg,
-                                                           String prefix) {
+    private NumberExpression<BigDecimal> caseDupBg(QBcostm c, QBbugtm b, IoeClassifier.Table ioeTable,
+                                                   Category category) {
         return Expressions.numberTemplate(BigDecimal.class,
-                "CASE WHEN {0} LIKE {1} THEN COALESCE({2}, 0) ELSE 0 END",
-                ioeC, Expressions.constant(prefix + "%"), dupBg);
+                "CASE WHEN {0} THEN COALESCE({1}, 0) ELSE 0 END",
+                ioeIn(c.ioeC, ioeTable, category), b.dupBg);
     }
 
     /**
      * BITEMM 품목구분별 단일 필드 합계
      *
-     * <p>SUM(CASE WHEN gclDtt LIKE 'prefix%' THEN field ELSE 0 END)</p>
+     * <p>SUM(CASE WHEN gclDtt IN (분류 코드) THEN field ELSE 0 END)</p>
      */
-    private NumberExpression<BigDecimal> sumFieldByPrefix(QBitemm i, String prefix,
-                                                          NumberExpression<BigDecimal> field) {
+    private NumberExpression<BigDecimal> sumField(QBitemm i, IoeClassifier.Table ioeTable, Category category,
+                                                  NumberExpression<BigDecimal> field) {
         return Expressions.numberTemplate(BigDecimal.class,
-                "COALESCE(SUM(CASE WHEN {0} LIKE {1} THEN {2} ELSE 0 END), 0)",
-                i.gclDtt, Expressions.constant(prefix + "%"), field);
+                "COALESCE(SUM(CASE WHEN {0} THEN {1} ELSE 0 END), 0)",
+                ioeIn(i.gclDtt, ioeTable, category), field);
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.kdb.it.domain.budget.status.service;
 
+import com.kdb.it.common.code.service.IoeClassifier;
 import com.kdb.it.domain.budget.status.dto.BudgetStatusDto;
 import com.kdb.it.domain.budget.status.repository.BudgetStatusQueryRepository;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +15,7 @@ import java.util.List;
  * <p>
  * 3개 탭(정보화사업/전산업무비/경상사업)의 예산 현황 데이터를 제공합니다.
  * 피벗 집계 및 소계/합계/단가 계산은 QueryDSL 구현체에서 처리되며,
- * 서비스는 트랜잭션 관리와 리포지토리 호출을 담당합니다.
+ * 서비스는 트랜잭션 관리와 리포지토리 호출을 담당하며, 비목 분류표({@link IoeClassifier})를 조회하여 함께 전달합니다.
  * </p>
  *
  * // Design Ref: §3.7 — BudgetStatusService 설계
@@ -25,6 +26,7 @@ import java.util.List;
 public class BudgetStatusService {
 
     private final BudgetStatusQueryRepository budgetStatusQueryRepository;
+    private final IoeClassifier ioeClassifier;
 
     /**
      * 정보화사업 예산 현황 조회
@@ -33,7 +35,7 @@ public class BudgetStatusService {
      * @return 정보화사업별 편성요청/조정 금액 목록
      */
     public List<BudgetStatusDto.ProjectResponse> getProjectStatus(String bgYy) {
-        return budgetStatusQueryRepository.findProjectStatus(bgYy);
+        return budgetStatusQueryRepository.findProjectStatus(bgYy, ioeClassifier.table());
     }
 
     /**
@@ -43,7 +45,7 @@ public class BudgetStatusService {
      * @return 전산업무비별 편성요청/조정 금액 목록
      */
     public List<BudgetStatusDto.CostResponse> getCostStatus(String bgYy) {
-        return budgetStatusQueryRepository.findCostStatus(bgYy);
+        return budgetStatusQueryRepository.findCostStatus(bgYy, ioeClassifier.table());
     }
 
     /**
@@ -53,6 +55,6 @@ public class BudgetStatusService {
      * @return 경상사업별 기계장치/기타무형자산 상세 목록
      */
     public List<BudgetStatusDto.OrdinaryResponse> getOrdinaryStatus(String bgYy) {
-        return budgetStatusQueryRepository.findOrdinaryStatus(bgYy);
+        return budgetStatusQueryRepository.findOrdinaryStatus(bgYy, ioeClassifier.table());
     }
 }
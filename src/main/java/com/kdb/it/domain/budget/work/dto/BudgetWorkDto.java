@@ -25,6 +25,7 @@ import java.util.Map;
  * <li>{@link SummaryItem}: 비목별 요약 항목</li>
  * <li>{@link SummaryTotals}: 합계</li>
  * <li>{@link ApplyResponse}: 편성률 적용 결과 응답</li>
+ * <li>{@link ApplyTimings}: 편성률 적용 단계별 소요시간</li>
  * </ul>
  *
  * // Design Ref: §4.3 — BudgetWorkDto (record 기반 DTO)
@@ -157,14 +158,47 @@ public class BudgetWorkDto {
      * @param message      처리 결과 메시지
      * @param totalRecords 처리된 총 레코드 수
      * @param summary      편성 결과 요약
+     * @param timings      단계별 소요시간
      */
     @Schema(name = "BudgetWorkApplyResponse", description = "편성률 적용 결과 응답")
     public record ApplyResponse(
             @Schema(description = "처리 결과 메시지") String message,
             @Schema(description = "처리된 총 레코드 수") int totalRecords,
-            @Schema(description = "편성 결과 요약") SummaryResponse summary
+            @Schema(description = "편성 결과 요약") SummaryResponse summary,
+            @Schema(description = "단계별 소요시간") ApplyTimings timings
     ) {}
 
+    /**
+     * 편성률 적용 단계별 소요시간 DTO (밀리초)
+     *
+     * @param loadMs    기존 편성 데이터·코드 조회
+     * @param computeMs 원본 조회 및 편성금액 계산
+     * @param writeMs   INSERT/UPDATE 배치 반영 (flush)
+     * @param summaryMs 편성 결과 요약 조회
+     * @param totalMs   전체
+     */
+    @Schema(name = "BudgetWorkApplyTimings", description = "편성률 적용 단계별 소요시간 (ms)")
+    public record ApplyTimings(
+            @Schema(description = "기존 편성 데이터·코드 조회 (ms)") long loadMs,
+            @Schema(description = "원본 조회 및 편성금액 계산 (ms)") long computeMs,
+            @Schema(description = "INSERT/UPDATE 배치 반영 (ms)") long writeMs,
+            @Schema(description = "편성 결과 요약 조회 (ms)") long summaryMs,
+            @Schema(description = "전체 (ms)") long totalMs
+    ) {
+        /**
+         * 단계 경계 시각({@link System#nanoTime()})으로부터 생성
+         */
+        public static ApplyTimings of(long startedAt, long loadedAt, long computedAt, long writtenAt, long finishedAt) {
+            return new ApplyTimings(
+                    millis(startedAt, loadedAt), millis(loadedAt, computedAt), millis(computedAt, writtenAt),
+                    millis(writtenAt, finishedAt), millis(startedAt, finishedAt));
+        }
+
+        private static long millis(long from, long to) {
+            return java.util.concurrent.TimeUnit.NANOSECONDS.toMillis(to - from);
+        }
+    }
+
     /**
      * 사업별 편성 결과 요약 응답 DTO
      *
@@ -226,4 +260,19 @@ public class BudgetWorkDto {
             @Schema(description = "요청금액") BigDecimal requestAmount,
             @Schema(description = "편성금액") BigDecimal dupAmount
     ) {}
+
+    /**
+     * 비목코드별 결재완료 요청금액 합계 (리포지토리 집계 프로젝션)
+     *
+     * <p>
+     * 편성 결과 조회(API-03)에서 원본 엔티티 대신 GROUP BY 결과만 받아오기 위한 내부용 레코드입니다.
+     * </p>
+     *
+     * @param ioeC   비목코드 (BCOSTM.IOE_C / BITEMM.GCL_DTT)
+     * @param amount 원화 환산 요청금액 합계
+     */
+    public record IoeAmount(
+            String ioeC,
+            BigDecimal amount
+    ) {}
 }
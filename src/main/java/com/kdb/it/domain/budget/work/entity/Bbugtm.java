@@ -14,6 +14,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
+import org.springframework.data.domain.Persistable;
+
 import java.math.BigDecimal;
 
 /**
@@ -43,7 +45,7 @@ import java.math.BigDecimal;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @SuperBuilder
-public class Bbugtm extends BaseEntity {
+public class Bbugtm extends BaseEntity implements Persistable<BbugtmId> {
 
     /** 예산관리번호: 기본키 (예: BG-2026-0001) */
     @Id
@@ -98,4 +100,12 @@ public class Bbugtm extends BaseEntity {
         this.dupBg = dupBg;
         this.dupRt = dupRt;
     }
+
+    /**
+     * 식별자 반환 ({@link Persistable} 구현: 신규 여부는 {@link BaseEntity#isNew()})
+     */
+    @Override
+    public BbugtmId getId() {
+        return new BbugtmId(bgMngNo, bgSno);
+    }
 }
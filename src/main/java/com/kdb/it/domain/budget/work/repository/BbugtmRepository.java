@@ -8,7 +8,6 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 
 /**
  * 예산(BBUGTM) 데이터 접근 리포지토리
@@ -46,29 +45,6 @@ public interface BbugtmRepository extends JpaRepository<Bbugtm, BbugtmId>, Bbugt
      */
     List<Bbugtm> findByBgYyAndDelYn(String bgYy, String delYn);
 
-    /**
-     * Upsert용: 원본 기준으로 기존 편성 데이터 조회
-     *
-     * <p>
-     * (BG_YY, ORC_TB, ORC_PK_VL, ORC_SNO_VL, IOE_C) 조합으로
-     * 동일한 편성 레코드가 이미 존재하는지 확인합니다.
-     * 존재하면 UPDATE, 없으면 INSERT (Upsert 패턴).
-     * </p>
-     *
-     * // Plan SC: SC-05 — Upsert 동작 (중복 INSERT 방지)
-     *
-     * @param bgYy     예산년도
-     * @param orcTb    원본테이블 (BPROJM/BCOSTM)
-     * @param orcPkVl  원본PK값
-     * @param orcSnoVl 원본일련번호값
-     * @param ioeC     비목코드
-     * @param delYn    삭제여부 ('N')
-     * @return 기존 편성 데이터 (없으면 Optional.empty)
-     */
-    Optional<Bbugtm> findByBgYyAndOrcTbAndOrcPkVlAndOrcSnoVlAndIoeCAndDelYn(
-        String bgYy, String orcTb, String orcPkVl, Integer orcSnoVl,
-        String ioeC, String delYn);
-
     /**
      * 특정 예산관리번호 내 최대 일련번호 조회 (BG_SNO 채번용)
      *
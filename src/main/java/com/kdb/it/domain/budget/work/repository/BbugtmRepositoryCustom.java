@@ -2,6 +2,7 @@ package com.kdb.it.domain.budget.work.repository;
 
 import com.kdb.it.domain.budget.cost.entity.Bcostm;
 import com.kdb.it.domain.budget.project.entity.Bitemm;
+import com.kdb.it.domain.budget.work.dto.BudgetWorkDto;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -11,8 +12,8 @@ import java.util.List;
  *
  * <p>
  * 결재완료 필터링 + 비목 접두어 매칭 등 복잡한 동적 쿼리를 정의합니다.
- * 기존 {@code ProjectRepositoryImpl}, {@code CostRepositoryImpl}의
- * CAPPLA+CAPPLM 서브쿼리 패턴을 재사용합니다.
+ * 결재완료 판정은 기존 {@code ProjectRepositoryImpl}, {@code CostRepositoryImpl}과 같이
+ * 최신 신청서 상태(CAPPLC) 조건을 재사용합니다.
  * </p>
  *
  * // Design Ref: §4.6 — BbugtmRepositoryCustom (QueryDSL)
@@ -20,37 +21,39 @@ import java.util.List;
 public interface BbugtmRepositoryCustom {
 
     /**
-     * 결재완료 전산업무비(BCOSTM) 중 비목코드가 접두어와 매칭되는 목록 조회
+     * 예산연도의 결재완료 전산업무비(BCOSTM) 목록 조회
      *
      * <p>
      * [조건]
-     * 1. BCOSTM.DEL_YN = 'N' AND LST_YN = 'Y'
-     * 2. BCOSTM.IOE_C LIKE '접두어%'
-     * 3. CAPPLA-CAPPLM JOIN으로 최신 신청서의 APF_STS = '결재완료'
+     * 1. BCOSTM.DEL_YN = 'N' AND LST_YN = 'Y' AND BG_YY = :bgYy
+     * 2. BCOSTM.IOE_C IS NOT NULL
+     * 3. 최신 신청서 상태(CAPPLC)의 APF_STS = '결재완료'
      * </p>
      *
-     * @param prefix 편성비목 접두어 (예: "237")
+     * <p>
+     * 편성비목 접두어 조건 없이 1회 조회하며, 접두어 분류는 호출 측에서 메모리로 수행합니다.
+     * </p>
+     *
+     * @param bgYy 예산연도 (예: 2026)
      * @return 결재완료된 전산업무비 목록
      */
-    List<Bcostm> findApprovedCostsByPrefix(String prefix, String bgYy);
+    List<Bcostm> findApprovedCosts(String bgYy);
 
     /**
-     * 결재완료 품목(BITEMM) 중 품목구분이 접두어와 매칭되는 목록 조회
+     * 예산연도의 결재완료 품목(BITEMM) 목록 조회
      *
      * <p>
      * [조건]
-     * 1. BITEMM.DEL_YN = 'N' AND LST_YN = 'Y'
-     * 2. BITEMM.GCL_DTT LIKE '접두어%'
-     * 3. BITEMM의 상위 BPROJM이 결재완료 상태
-     *    (CAPPLA.ORC_TB_CD = 'BPROJM' → 최신 CAPPLM.APF_STS = '결재완료')
-     * 4. BPROJM.BG_YY = :bgYy
+     * 1. BITEMM.DEL_YN = 'N' AND LST_YN = 'Y' AND GCL_DTT IS NOT NULL
+     * 2. BITEMM의 상위 BPROJM이 결재완료 상태
+     *    (CAPPLC.ORC_TB_CD = 'BPROJM' → 최신 APF_STS = '결재완료')
+     * 3. BPROJM.BG_YY = :bgYy
      * </p>
      *
-     * @param prefix 편성비목 접두어 (예: "237")
-     * @param bgYy   예산연도 (예: 2026)
+     * @param bgYy 예산연도 (예: 2026)
      * @return 결재완료된 품목 목록
      */
-    List<Bitemm> findApprovedItemsByPrefix(String prefix, String bgYy);
+    List<Bitemm> findApprovedItems(String bgYy);
 
     /**
      * 비목 접두어별 결재완료 요청금액 합계 조회
@@ -65,4 +68,29 @@ public interface BbugtmRepositoryCustom {
      * @return 해당 접두어의 결재완료 요청금액 합계
      */
     BigDecimal sumApprovedAmountByPrefix(String prefix, String bgYy);
+
+    /**
+     * 예산연도의 결재완료 전산업무비(BCOSTM) 요청금액을 비목코드별로 합산
+     *
+     * <p>
+     * 접두어마다 금액을 조회하던 편성 결과 조회를 대체합니다.
+     * 접두어 조건 없이 1회 GROUP BY하고, 접두어 분류는 호출 측에서 메모리로 수행합니다.
+     * </p>
+     *
+     * @param bgYy 예산연도 (예: 2026)
+     * @return 비목코드별 IT_MNGC_BG 합계 (비목코드 오름차순)
+     */
+    List<BudgetWorkDto.IoeAmount> sumApprovedCostAmountByIoeC(String bgYy);
+
+    /**
+     * 예산연도의 결재완료 품목(BITEMM) 요청금액을 품목구분(비목코드)별로 합산
+     *
+     * <p>
+     * SUM(GCL_AMT * COALESCE(XCR, 1)) — 외화 품목은 환율을 곱하여 원화로 변환합니다.
+     * </p>
+     *
+     * @param bgYy 예산연도 (예: 2026)
+     * @return 비목코드별 원화 환산 GCL_AMT 합계 (비목코드 오름차순)
+     */
+    List<BudgetWorkDto.IoeAmount> sumApprovedItemAmountByIoeC(String bgYy);
 }
@@ -3,15 +3,20 @@ package com.kdb.it.domain.budget.work.repository;
 import java.math.BigDecimal;
 import java.util.List;
 
-import com.kdb.it.common.approval.entity.QCappla;
-import com.kdb.it.common.approval.entity.QCapplm;
+import com.kdb.it.common.approval.repository.ApplicationStatusExpressions;
 import com.kdb.it.domain.budget.cost.entity.Bcostm;
 import com.kdb.it.domain.budget.cost.entity.QBcostm;
 import com.kdb.it.domain.budget.project.entity.Bitemm;
 import com.kdb.it.domain.budget.project.entity.QBitemm;
 import com.kdb.it.domain.budget.project.entity.QBprojm;
+import com.kdb.it.domain.budget.work.dto.BudgetWorkDto;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -22,8 +27,8 @@ import lombok.RequiredArgsConstructor;
  *
  * <p>
  * 결재완료 필터 + 비목 접두어 매칭 쿼리를 타입 안전하게 처리합니다.
- * 기존 {@code CostRepositoryImpl}, {@code ProjectRepositoryImpl}의
- * CAPPLA+CAPPLM 서브쿼리 패턴을 재사용합니다.
+ * 결재완료 판정은 {@code CostRepositoryImpl}, {@code ProjectRepositoryImpl}과 같이
+ * 최신 신청서 상태 테이블(CAPPLC) 조건({@link ApplicationStatusExpressions})을 사용합니다.
  * </p>
  *
  * // Design Ref: §4.6 — QueryDSL 구현 (결재완료 필터 + 비목 매칭)
@@ -35,161 +40,72 @@ public class BbugtmRepositoryImpl implements BbugtmRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
     /**
-     * 결재완료 전산업무비(BCOSTM) 중 비목코드가 접두어와 매칭되는 목록 조회
+     * 예산연도의 결재완료 전산업무비(BCOSTM) 목록 조회
      *
      * <p>
      * [생성 SQL 예시]
      * </p>
      * <pre>{@code
      * SELECT * FROM TAAABB_BCOSTM c
-     * WHERE c.DEL_YN = 'N' AND c.LST_YN = 'Y'
-     *   AND c.IOE_C LIKE '237%'
+     * WHERE c.DEL_YN = 'N' AND c.LST_YN = 'Y' AND c.BG_YY = :bgYy
+     *   AND c.IOE_C IS NOT NULL
      *   AND EXISTS (
-     *     SELECT 1 FROM TAAABB_CAPPLA ca
-     *     JOIN TAAABB_CAPPLM cm ON ca.APF_MNG_NO = cm.APF_MNG_NO
-     *     WHERE ca.ORC_TB_CD = 'BCOSTM'
-     *       AND ca.ORC_PK_VL = c.IT_MNGC_NO
-     *       AND ca.ORC_SNO_VL = c.IT_MNGC_SNO
-     *       AND cm.APF_STS = '결재완료'
-     *       AND ca.APF_REL_SNO = (
-     *         SELECT MAX(ca2.APF_REL_SNO) FROM TAAABB_CAPPLA ca2
-     *         WHERE ca2.ORC_TB_CD = 'BCOSTM'
-     *           AND ca2.ORC_PK_VL = c.IT_MNGC_NO
-     *           AND ca2.ORC_SNO_VL = c.IT_MNGC_SNO
-     *       )
+     *     SELECT 1 FROM TAAABB_CAPPLC s
+     *     WHERE s.ORC_TB_CD = 'BCOSTM'
+     *       AND s.ORC_PK_VL = c.IT_MNGC_NO
+     *       AND s.ORC_SNO_VL = c.IT_MNGC_SNO
+     *       AND s.APF_STS = '결재완료'
      *   )
      * }</pre>
      */
     @Override
-    public List<Bcostm> findApprovedCostsByPrefix(String prefix, String bgYy) {
+    public List<Bcostm> findApprovedCosts(String bgYy) {
         QBcostm bcostm = QBcostm.bcostm;
-        QCappla cappla = new QCappla("cappla");
-        QCappla cappla2 = new QCappla("cappla2");
-        QCapplm capplm = QCapplm.capplm;
-
-        BooleanBuilder builder = new BooleanBuilder();
-
-        // 기본 조건: 삭제되지 않은 최종 레코드만
-        builder.and(bcostm.delYn.eq("N"));
-        builder.and(bcostm.lstYn.eq("Y"));
-
-        // 비목코드 접두어 매칭
-        builder.and(bcostm.ioeC.startsWith(prefix));
-
-        // 예산연도 필터
-        builder.and(bcostm.bgYy.eq(bgYy));
-
-        // 결재완료 서브쿼리 (CostRepositoryImpl 패턴 동일)
-        builder.and(
-                JPAExpressions.selectOne()
-                        .from(cappla, capplm)
-                        .where(
-                                cappla.apfMngNo.eq(capplm.apfMngNo),
-                                cappla.orcTbCd.eq("BCOSTM"),
-                                cappla.orcPkVl.eq(bcostm.itMngcNo),
-                                cappla.orcSnoVl.eq(bcostm.itMngcSno),
-                                capplm.apfSts.eq("결재완료"),
-                                cappla.apfRelSno.eq(
-                                        JPAExpressions.select(cappla2.apfRelSno.max())
-                                                .from(cappla2)
-                                                .where(
-                                                        cappla2.orcTbCd.eq("BCOSTM"),
-                                                        cappla2.orcPkVl.eq(bcostm.itMngcNo),
-                                                        cappla2.orcSnoVl.eq(bcostm.itMngcSno))))
-                        .exists());
 
         return queryFactory
                 .selectFrom(bcostm)
-                .where(builder)
+                .where(
+                        bcostm.delYn.eq("N"),
+                        bcostm.lstYn.eq("Y"),
+                        bcostm.bgYy.eq(bgYy),
+                        bcostm.ioeC.isNotNull(),
+                        latestApproved("BCOSTM", bcostm.itMngcNo, bcostm.itMngcSno))
                 .fetch();
     }
 
     /**
-     * 결재완료 품목(BITEMM) 중 품목구분이 접두어와 매칭되는 목록 조회
+     * 예산연도의 결재완료 품목(BITEMM) 목록 조회
      *
      * <p>
-     * BITEMM은 BPROJM의 하위 테이블이므로, BPROJM 기준으로 결재완료를 확인한 뒤
-     * 해당 BPROJM에 속하는 BITEMM 중 GCL_DTT가 접두어와 매칭되는 것을 반환합니다.
+     * 상위 BPROJM은 서브쿼리 대신 조인하여 결재완료 판정을 사업 단위로 1회만 수행합니다.
      * </p>
      *
-     * <p>
-     * [생성 SQL 예시]
-     * </p>
      * <pre>{@code
      * SELECT i.* FROM TAAABB_BITEMM i
-     * WHERE i.DEL_YN = 'N' AND i.LST_YN = 'Y'
-     *   AND i.GCL_DTT LIKE '237%'
-     *   AND EXISTS (
-     *     SELECT 1 FROM TAAABB_BPROJM p
-     *     WHERE p.PRJ_MNG_NO = i.PRJ_MNG_NO AND p.PRJ_SNO = i.PRJ_SNO
-     *       AND p.DEL_YN = 'N' AND p.LST_YN = 'Y'
-     *       AND EXISTS (
-     *         SELECT 1 FROM TAAABB_CAPPLA ca
-     *         JOIN TAAABB_CAPPLM cm ON ca.APF_MNG_NO = cm.APF_MNG_NO
-     *         WHERE ca.ORC_TB_CD = 'BPROJM'
-     *           AND ca.ORC_PK_VL = p.PRJ_MNG_NO
-     *           AND ca.ORC_SNO_VL = p.PRJ_SNO
-     *           AND cm.APF_STS = '결재완료'
-     *           AND ca.APF_REL_SNO = (
-     *             SELECT MAX(ca2.APF_REL_SNO) FROM TAAABB_CAPPLA ca2
-     *             WHERE ca2.ORC_TB_CD = 'BPROJM'
-     *               AND ca2.ORC_PK_VL = p.PRJ_MNG_NO
-     *               AND ca2.ORC_SNO_VL = p.PRJ_SNO
-     *           )
-     *       )
-     *   )
+     * JOIN TAAABB_BPROJM p ON p.PRJ_MNG_NO = i.PRJ_MNG_NO AND p.PRJ_SNO = i.PRJ_SNO
+     * WHERE i.DEL_YN = 'N' AND i.LST_YN = 'Y' AND i.GCL_DTT IS NOT NULL
+     *   AND p.DEL_YN = 'N' AND p.LST_YN = 'Y' AND p.BG_YY = :bgYy
+     *   AND EXISTS (SELECT 1 FROM TAAABB_CAPPLC s WHERE ... AND s.APF_STS = '결재완료')
      * }</pre>
      */
     @Override
-    public List<Bitemm> findApprovedItemsByPrefix(String prefix, String bgYy) {
+    public List<Bitemm> findApprovedItems(String bgYy) {
         QBitemm bitemm = QBitemm.bitemm;
         QBprojm bprojm = QBprojm.bprojm;
-        QCappla cappla = new QCappla("cappla");
-        QCappla cappla2 = new QCappla("cappla2");
-        QCapplm capplm = QCapplm.capplm;
-
-        // BPROJM 결재완료 서브쿼리
-        BooleanBuilder projApprovalBuilder = new BooleanBuilder();
-        projApprovalBuilder.and(
-                JPAExpressions.selectOne()
-                        .from(cappla, capplm)
-                        .where(
-                                cappla.apfMngNo.eq(capplm.apfMngNo),
-                                cappla.orcTbCd.eq("BPROJM"),
-                                cappla.orcPkVl.eq(bprojm.prjMngNo),
-                                cappla.orcSnoVl.eq(bprojm.prjSno),
-                                capplm.apfSts.eq("결재완료"),
-                                cappla.apfRelSno.eq(
-                                        JPAExpressions.select(cappla2.apfRelSno.max())
-                                                .from(cappla2)
-                                                .where(
-                                                        cappla2.orcTbCd.eq("BPROJM"),
-                                                        cappla2.orcPkVl.eq(bprojm.prjMngNo),
-                                                        cappla2.orcSnoVl.eq(bprojm.prjSno))))
-                        .exists());
-
-        // BITEMM 조건: 삭제되지 않은 최종 레코드 + 품목구분 접두어 매칭
-        BooleanBuilder builder = new BooleanBuilder();
-        builder.and(bitemm.delYn.eq("N"));
-        builder.and(bitemm.lstYn.eq("Y"));
-        builder.and(bitemm.gclDtt.startsWith(prefix));
-
-        // BITEMM의 상위 BPROJM이 결재완료 상태 + 예산연도 일치 확인
-        builder.and(
-                JPAExpressions.selectOne()
-                        .from(bprojm)
-                        .where(
-                                bprojm.prjMngNo.eq(bitemm.prjMngNo),
-                                bprojm.prjSno.eq(bitemm.prjSno),
-                                bprojm.delYn.eq("N"),
-                                bprojm.lstYn.eq("Y"),
-                                bprojm.bgYy.eq(bgYy),
-                                projApprovalBuilder)
-                        .exists());
 
         return queryFactory
                 .selectFrom(bitemm)
-                .where(builder)
+                .join(bprojm).on(
+                        bprojm.prjMngNo.eq(bitemm.prjMngNo),
+                        bprojm.prjSno.eq(bitemm.prjSno))
+                .where(
+                        bitemm.delYn.eq("N"),
+                        bitemm.lstYn.eq("Y"),
+                        bitemm.gclDtt.isNotNull(),
+                        bprojm.delYn.eq("N"),
+                        bprojm.lstYn.eq("Y"),
+                        bprojm.bgYy.eq(bgYy),
+                        latestApproved("BPROJM", bprojm.prjMngNo, bprojm.prjSno))
                 .fetch();
     }
 
@@ -222,9 +138,6 @@ public class BbugtmRepositoryImpl implements BbugtmRepositoryCustom {
      */
     private BigDecimal sumApprovedCostAmountByPrefix(String prefix, String bgYy) {
         QBcostm bcostm = QBcostm.bcostm;
-        QCappla cappla = new QCappla("cappla");
-        QCappla cappla2 = new QCappla("cappla2");
-        QCapplm capplm = QCapplm.capplm;
 
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(bcostm.delYn.eq("N"));
@@ -232,24 +145,8 @@ public class BbugtmRepositoryImpl implements BbugtmRepositoryCustom {
         builder.and(bcostm.ioeC.startsWith(prefix));
         builder.and(bcostm.bgYy.eq(bgYy));
 
-        // 결재완료 서브쿼리
-        builder.and(
-                JPAExpressions.selectOne()
-                        .from(cappla, capplm)
-                        .where(
-                                cappla.apfMngNo.eq(capplm.apfMngNo),
-                                cappla.orcTbCd.eq("BCOSTM"),
-                                cappla.orcPkVl.eq(bcostm.itMngcNo),
-                                cappla.orcSnoVl.eq(bcostm.itMngcSno),
-                                capplm.apfSts.eq("결재완료"),
-                                cappla.apfRelSno.eq(
-                                        JPAExpressions.select(cappla2.apfRelSno.max())
-                                                .from(cappla2)
-                                                .where(
-                                                        cappla2.orcTbCd.eq("BCOSTM"),
-                                                        cappla2.orcPkVl.eq(bcostm.itMngcNo),
-                                                        cappla2.orcSnoVl.eq(bcostm.itMngcSno))))
-                        .exists());
+        // 결재완료 조건: 최신 신청서 상태(CAPPLC) PK 조회
+        builder.and(latestApproved("BCOSTM", bcostm.itMngcNo, bcostm.itMngcSno));
 
         return queryFactory
                 .select(bcostm.itMngcBg.sum())
@@ -268,9 +165,6 @@ public class BbugtmRepositoryImpl implements BbugtmRepositoryCustom {
     private BigDecimal sumApprovedItemAmountByPrefix(String prefix, String bgYy) {
         QBitemm bitemm = QBitemm.bitemm;
         QBprojm bprojm = QBprojm.bprojm;
-        QCappla cappla = new QCappla("cappla");
-        QCappla cappla2 = new QCappla("cappla2");
-        QCapplm capplm = QCapplm.capplm;
 
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(bitemm.delYn.eq("N"));
@@ -287,22 +181,7 @@ public class BbugtmRepositoryImpl implements BbugtmRepositoryCustom {
                                 bprojm.delYn.eq("N"),
                                 bprojm.lstYn.eq("Y"),
                                 bprojm.bgYy.eq(bgYy),
-                                JPAExpressions.selectOne()
-                                        .from(cappla, capplm)
-                                        .where(
-                                                cappla.apfMngNo.eq(capplm.apfMngNo),
-                                                cappla.orcTbCd.eq("BPROJM"),
-                                                cappla.orcPkVl.eq(bprojm.prjMngNo),
-                                                cappla.orcSnoVl.eq(bprojm.prjSno),
-                                                capplm.apfSts.eq("결재완료"),
-                                                cappla.apfRelSno.eq(
-                                                        JPAExpressions.select(cappla2.apfRelSno.max())
-                                                                .from(cappla2)
-                                                                .where(
-                                                                        cappla2.orcTbCd.eq("BPROJM"),
-                                                                        cappla2.orcPkVl.eq(bprojm.prjMngNo),
-                                                                        cappla2.orcSnoVl.eq(bprojm.prjSno))))
-                                        .exists())
+                                latestApproved("BPROJM", bprojm.prjMngNo, bprojm.prjSno))
                         .exists());
 
         // SUM(GCL_AMT * COALESCE(XCR, 1)) — 환율 적용된 원화 금액 합산
@@ -313,4 +192,108 @@ public class BbugtmRepositoryImpl implements BbugtmRepositoryCustom {
                 .where(builder)
                 .fetchOne();
     }
+
+    /**
+     * 예산연도의 결재완료 BCOSTM 금액을 비목코드별로 합산
+     *
+     * <p>
+     * [생성 SQL 예시]
+     * </p>
+     * <pre>{@code
+     * SELECT c.IOE_C, SUM(c.IT_MNGC_BG) FROM TAAABB_BCOSTM c
+     * WHERE c.DEL_YN = 'N' AND c.LST_YN = 'Y' AND c.BG_YY = :bgYy
+     *   AND c.IOE_C IS NOT NULL
+     *   AND EXISTS (SELECT 1 FROM TAAABB_CAPPLC s WHERE ... AND s.APF_STS = '결재완료')
+     * GROUP BY c.IOE_C
+     * ORDER BY c.IOE_C
+     * }</pre>
+     */
+    @Override
+    public List<BudgetWorkDto.IoeAmount> sumApprovedCostAmountByIoeC(String bgYy) {
+        QBcostm bcostm = QBcostm.bcostm;
+        NumberExpression<BigDecimal> amount = bcostm.itMngcBg.sum();
+
+        List<Tuple> tuples = queryFactory
+                .select(bcostm.ioeC, amount)
+                .from(bcostm)
+                .where(
+                        bcostm.delYn.eq("N"),
+                        bcostm.lstYn.eq("Y"),
+                        bcostm.bgYy.eq(bgYy),
+                        bcostm.ioeC.isNotNull(),
+                        bcostm.itMngcBg.isNotNull(),
+                        latestApproved("BCOSTM", bcostm.itMngcNo, bcostm.itMngcSno))
+                .groupBy(bcostm.ioeC)
+                .orderBy(bcostm.ioeC.asc())
+                .fetch();
+
+        return tuples.stream()
+                .map(t -> new BudgetWorkDto.IoeAmount(t.get(bcostm.ioeC), t.get(amount)))
+                .toList();
+    }
+
+    /**
+     * 예산연도의 결재완료 BITEMM 금액을 품목구분별로 합산 (환율 적용)
+     *
+     * <p>
+     * 상위 BPROJM은 서브쿼리 대신 조인하여 결재완료 판정을 사업 단위로 1회만 수행합니다.
+     * </p>
+     *
+     * <pre>{@code
+     * SELECT i.GCL_DTT, SUM(i.GCL_AMT * COALESCE(i.XCR, 1))
+     * FROM TAAABB_BITEMM i
+     * JOIN TAAABB_BPROJM p ON p.PRJ_MNG_NO = i.PRJ_MNG_NO AND p.PRJ_SNO = i.PRJ_SNO
+     * WHERE i.DEL_YN = 'N' AND i.LST_YN = 'Y' AND i.GCL_DTT IS NOT NULL
+     *   AND p.DEL_YN = 'N' AND p.LST_YN = 'Y' AND p.BG_YY = :bgYy
+     *   AND EXISTS (SELECT 1 FROM TAAABB_CAPPLC s WHERE ... AND s.APF_STS = '결재완료')
+     * GROUP BY i.GCL_DTT
+     * ORDER BY i.GCL_DTT
+     * }</pre>
+     */
+    @Override
+    public List<BudgetWorkDto.IoeAmount> sumApprovedItemAmountByIoeC(String bgYy) {
+        QBitemm bitemm = QBitemm.bitemm;
+        QBprojm bprojm = QBprojm.bprojm;
+        NumberExpression<BigDecimal> amount = Expressions.numberTemplate(BigDecimal.class,
+                "SUM({0} * COALESCE({1}, 1))", bitemm.gclAmt, bitemm.xcr);
+
+        List<Tuple> tuples = queryFactory
+                .select(bitemm.gclDtt, amount)
+                .from(bitemm)
+                .join(bprojm).on(
+                        bprojm.prjMngNo.eq(bitemm.prjMngNo),
+                        bprojm.prjSno.eq(bitemm.prjSno))
+                .where(
+                        bitemm.delYn.eq("N"),
+                        bitemm.lstYn.eq("Y"),
+                        bitemm.gclDtt.isNotNull(),
+                        bitemm.gclAmt.isNotNull(),
+                        bprojm.delYn.eq("N"),
+                        bprojm.lstYn.eq("Y"),
+                        bprojm.bgYy.eq(bgYy),
+                        latestApproved("BPROJM", bprojm.prjMngNo, bprojm.prjSno))
+                .groupBy(bitemm.gclDtt)
+                .orderBy(bitemm.gclDtt.asc())
+                .fetch();
+
+        return tuples.stream()
+                .map(t -> new BudgetWorkDto.IoeAmount(t.get(bitemm.gclDtt), t.get(amount)))
+                .toList();
+    }
+
+    /**
+     * 원본 레코드의 최신 신청서가 결재완료인지 확인하는 EXISTS 조건
+     *
+     * <p>
+     * 최신 신청서 상태 테이블(TAAABB_CAPPLC)을 PK로 조회하므로
+     * 원본 행마다 CAPPLA MAX(APF_REL_SNO) 상관 서브쿼리를 실행하지 않습니다.
+     * </p>
+     *
+     * @param orcTbCd 원본테이블코드 (BCOSTM / BPROJM)
+     * @param orcPkVl 원본PK 경로
+     * @param orcSnoVl 원본일련번호 경로
+     */
+    private BooleanExpression latestApproved(String orcTbCd, StringPath orcPkVl, NumberPath<Integer> orcSnoVl) {
+        return ApplicationStatusExpressions.latestStatusEq(orcTbCd, orcPkVl, orcSnoVl, "결재완료");
+    }
 }
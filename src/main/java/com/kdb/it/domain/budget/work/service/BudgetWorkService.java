@@ -1,7 +1,9 @@
 package com.kdb.it.domain.budget.work.service;
 
 import com.kdb.it.common.code.entity.Ccodem;
-import com.kdb.it.common.code.repository.CodeRepository;
+import com.kdb.it.common.code.service.CodeDictionary;
+import com.kdb.it.common.code.service.IoeClassifier;
+import com.kdb.it.common.util.PrefixTrie;
 import com.kdb.it.domain.budget.cost.entity.Bcostm;
 import com.kdb.it.domain.budget.cost.repository.CostRepository;
 import com.kdb.it.domain.budget.project.entity.Bitemm;
@@ -19,10 +21,12 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 
 /**
  * 예산 작업 서비스
@@ -50,8 +54,11 @@ public class BudgetWorkService {
     /** 예산 데이터 접근 리포지토리 (TAAABB_BBUGTM) */
     private final BbugtmRepository bbugtmRepository;
 
-    /** 공통코드 리포지토리 (TAAABB_CCODEM): 편성비목(DUP_IOE) 조회용 */
-    private final CodeRepository codeRepository;
+    /** 공통코드 메모리 사전 (TAAABB_CCODEM): 편성비목(DUP_IOE)·비목 분류 조회용 */
+    private final CodeDictionary codeDictionary;
+
+    /** 비목코드 예산 분류기: 자본예산/일반관리비 구분용 */
+    private final IoeClassifier ioeClassifier;
 
     /** 정보화사업 리포지토리 (TAAABB_BPROJM): 사업명 조회용 */
     private final ProjectRepository projectRepository;
@@ -81,7 +88,7 @@ public class BudgetWorkService {
      */
     public List<BudgetWorkDto.IoeCategoryResponse> getIoeCategories(String bgYy) {
         // 1. 편성비목 코드 조회 (CTT_TP = 'DUP_IOE')
-        List<Ccodem> ioeCodes = codeRepository.findByCttTpWithValidDate("DUP_IOE", null);
+        List<Ccodem> ioeCodes = codeDictionary.findByCttTp("DUP_IOE", null);
 
         // 기존 BBUGTM 데이터 조회 (편성률 확인용)
         List<Bbugtm> existingBudgets = bbugtmRepository.findByBgYyAndDelYn(bgYy, "N");
@@ -113,48 +120,74 @@ public class BudgetWorkService {
      *
      * <p>
      * 각 비목별 편성률을 결재완료 원본 데이터에 적용하여 BBUGTM에 저장합니다.
-     * Upsert 패턴: (BG_YY, ORC_TB, ORC_PK_VL, ORC_SNO_VL, IOE_C)로 기존 레코드 확인 후
+     * Upsert 패턴: (ORC_TB, ORC_PK_VL, ORC_SNO_VL, IOE_C)로 기존 레코드 확인 후
      * 존재하면 UPDATE, 없으면 INSERT.
      * </p>
      *
      * [처리 순서]
-     * 1. rates 배열 순회
-     * 2. cdId에서 접두어 추출 (DUP-IOE-237 → "237")
-     * 3. 결재완료 BCOSTM 조회 (IOE_C LIKE '접두어%')
-     * 4. 결재완료 BITEMM 조회 (GCL_DTT LIKE '접두어%')
-     * 5. 각 레코드: 편성금액 = 요청금액 × (dupRt / 100), ROUND HALF UP
-     * 6. Upsert BBUGTM
+     * 1. 해당 예산년도 BBUGTM(DEL_YN='N')을 한 번에 조회하여 Upsert 키 → 엔티티 Map 구성
+     * 2. 해당 예산년도 결재완료 BCOSTM·BITEMM을 1회씩 조회하여 접두어 트라이로 비목 접두어별 분류
+     * 3. rates 배열 순회: cdId에서 접두어 추출 (DUP-IOE-237 → "IOE-237") 후 해당 접두어의 원본 처리
+     * 4. 각 레코드: 편성금액 = 요청금액 × (dupRt / 100), ROUND HALF UP
+     * 5. Map에 있으면 UPDATE(Dirty Checking), 없으면 INSERT 목록에 추가 후 Map에도 등록
+     * 6. INSERT 목록 saveAll + flush (JDBC 배치)
+     *
+     * <p>
+     * 레코드마다 기존 BBUGTM을 단건 조회하지 않고 비목마다 원본을 다시 조회하지도 않으므로
+     * SQL 수는 원본 건수·비목 수와 무관하게 {@code 4 + 배치 수} 수준입니다.
+     * 단계별 소요시간은 응답의 {@code timings}로 반환합니다.
+     * </p>
      *
      * // Plan SC: SC-03 — 편성금액 = Math.round(요청금액 × 편성률 / 100)
      * // Plan SC: SC-05 — Upsert 동작 (중복 INSERT 방지)
      *
      * @param request 편성률 적용 요청 (예산년도 + 비목별 편성률 목록)
-     * @return 적용 결과 (처리 메시지, 레코드 수, 요약)
+     * @return 적용 결과 (처리 메시지, 레코드 수, 요약, 단계별 소요시간)
      */
     @Transactional
     public BudgetWorkDto.ApplyResponse applyRates(BudgetWorkDto.ApplyRequest request) {
+        long startedAt = System.nanoTime();
         String bgYy = request.bgYy();
         String bgMngNo = bbugtmRepository.generateBgMngNo(bgYy);
         int snoCounter = 0;
         int totalRecords = 0;
 
-        for (BudgetWorkDto.RateItem rate : request.rates()) {
-            String prefix = extractPrefix(rate.cdId());
-            Integer dupRt = rate.dupRt();
+        // 1. 기존 편성 레코드 일괄 조회 (레코드별 단건 조회 제거)
+        Map<BudgetKey, Bbugtm> budgetsByKey = new HashMap<>();
+        for (Bbugtm existing : bbugtmRepository.findByBgYyAndDelYn(bgYy, "N")) {
+            budgetsByKey.putIfAbsent(BudgetKey.of(existing), existing);
+        }
+
+        // 2. 결재완료 원본을 연도 단위로 1회씩 조회 후 비목 접두어별 분류
+        List<String> prefixes = request.rates().stream().map(rate -> extractPrefix(rate.cdId())).toList();
+        PrefixTrie prefixTrie = new PrefixTrie(prefixes);
+        Map<String, List<Bcostm>> costsByPrefix = new HashMap<>();
+        for (Bcostm cost : bbugtmRepository.findApprovedCosts(bgYy)) {
+            prefixTrie.forEachMatch(cost.getIoeC(),
+                    prefix -> costsByPrefix.computeIfAbsent(prefix, k -> new ArrayList<>()).add(cost));
+        }
+        Map<String, List<Bitemm>> itemsByPrefix = new HashMap<>();
+        for (Bitemm item : bbugtmRepository.findApprovedItems(bgYy)) {
+            prefixTrie.forEachMatch(item.getGclDtt(),
+                    prefix -> itemsByPrefix.computeIfAbsent(prefix, k -> new ArrayList<>()).add(item));
+        }
+        long loadedAt = System.nanoTime();
+
+        List<Bbugtm> inserts = new ArrayList<>();
+        for (int i = 0; i < request.rates().size(); i++) {
+            String prefix = prefixes.get(i);
+            Integer dupRt = request.rates().get(i).dupRt();
 
             // 결재완료 BCOSTM 처리
-            List<Bcostm> costs = bbugtmRepository.findApprovedCostsByPrefix(prefix, bgYy);
+            List<Bcostm> costs = costsByPrefix.getOrDefault(prefix, List.of());
             for (Bcostm cost : costs) {
                 BigDecimal dupBg = calculateDupBg(cost.getItMngcBg(), dupRt);
+                BudgetKey key = new BudgetKey("BCOSTM", cost.getItMngcNo(), cost.getItMngcSno(), cost.getIoeC());
 
-                Optional<Bbugtm> existing = bbugtmRepository
-                        .findByBgYyAndOrcTbAndOrcPkVlAndOrcSnoVlAndIoeCAndDelYn(
-                                bgYy, "BCOSTM", cost.getItMngcNo(),
-                                cost.getItMngcSno(), cost.getIoeC(), "N");
-
-                if (existing.isPresent()) {
+                Bbugtm existing = budgetsByKey.get(key);
+                if (existing != null) {
                     // Upsert: UPDATE (JPA Dirty Checking)
-                    existing.get().update(dupBg, dupRt);
+                    existing.update(dupBg, dupRt);
                 } else {
                     // Upsert: INSERT
                     snoCounter++;
@@ -169,7 +202,9 @@ public class BudgetWorkService {
                             .dupBg(dupBg)
                             .dupRt(dupRt)
                             .build();
-                    bbugtmRepository.save(bbugtm);
+                    inserts.add(bbugtm);
+                    // 다른 접두어에도 매칭되는 원본이면 같은 요청 안에서 UPDATE로 처리되도록 등록
+                    budgetsByKey.put(key, bbugtm);
                 }
                 totalRecords++;
             }
@@ -178,20 +213,17 @@ public class BudgetWorkService {
             // ORC_TB = "BITEMM": BITEMM은 자체 PK(GCL_MNG_NO + GCL_SNO)를 보유하므로
             // 개별 품목 단위로 추적 가능. Plan 설계 문서의 "BPROJM"은 결재 조회 대상을
             // 지칭한 것이며, BBUGTM에 저장 시 실제 원본은 BITEMM임.
-            List<Bitemm> items = bbugtmRepository.findApprovedItemsByPrefix(prefix, bgYy);
+            List<Bitemm> items = itemsByPrefix.getOrDefault(prefix, List.of());
             for (Bitemm item : items) {
                 // 환율 적용: gclAmt × coalesce(xcr, 1) → 원화 금액
                 BigDecimal xcrVal = item.getXcr() != null ? item.getXcr() : BigDecimal.ONE;
                 BigDecimal amountKrw = item.getGclAmt() != null ? item.getGclAmt().multiply(xcrVal) : BigDecimal.ZERO;
                 BigDecimal dupBg = calculateDupBg(amountKrw, dupRt);
+                BudgetKey key = new BudgetKey("BITEMM", item.getGclMngNo(), item.getGclSno(), item.getGclDtt());
 
-                Optional<Bbugtm> existing = bbugtmRepository
-                        .findByBgYyAndOrcTbAndOrcPkVlAndOrcSnoVlAndIoeCAndDelYn(
-                                bgYy, "BITEMM", item.getGclMngNo(),
-                                item.getGclSno(), item.getGclDtt(), "N");
-
-                if (existing.isPresent()) {
-                    existing.get().update(dupBg, dupRt);
+                Bbugtm existing = budgetsByKey.get(key);
+                if (existing != null) {
+                    existing.update(dupBg, dupRt);
                 } else {
                     snoCounter++;
                     Bbugtm bbugtm = Bbugtm.builder()
@@ -205,14 +237,22 @@ public class BudgetWorkService {
                             .dupBg(dupBg)
                             .dupRt(dupRt)
                             .build();
-                    bbugtmRepository.save(bbugtm);
+                    inserts.add(bbugtm);
+                    budgetsByKey.put(key, bbugtm);
                 }
                 totalRecords++;
             }
         }
+        long computedAt = System.nanoTime();
+
+        // INSERT 일괄 저장 + UPDATE 포함 flush (JDBC 배치)
+        bbugtmRepository.saveAll(inserts);
+        bbugtmRepository.flush();
+        long writtenAt = System.nanoTime();
 
         BudgetWorkDto.SummaryResponse summary = getSummary(bgYy);
-        return new BudgetWorkDto.ApplyResponse("편성률 적용 완료", totalRecords, summary);
+        return new BudgetWorkDto.ApplyResponse("편성률 적용 완료", totalRecords, summary,
+                BudgetWorkDto.ApplyTimings.of(startedAt, loadedAt, computedAt, writtenAt, System.nanoTime()));
     }
 
     /**
@@ -224,10 +264,11 @@ public class BudgetWorkService {
      * </p>
      *
      * @param request 사업별 편성률 적용 요청 (예산년도 + 사업별 편성률 목록)
-     * @return 적용 결과 (처리 메시지, 레코드 수, 요약)
+     * @return 적용 결과 (처리 메시지, 레코드 수, 요약, 단계별 소요시간)
      */
     @Transactional
     public BudgetWorkDto.ApplyResponse applyItemRates(BudgetWorkDto.ItemApplyRequest request) {
+        long startedAt = System.nanoTime();
         String bgYy = request.bgYy();
         String bgMngNo = bbugtmRepository.generateBgMngNo(bgYy);
         int snoCounter = 0;
@@ -243,18 +284,11 @@ public class BudgetWorkService {
         List<Bbugtm> priorBudgets = bbugtmRepository.findByBgYyAndDelYn(bgYy, "N");
         for (Bbugtm prior : priorBudgets) prior.delete();
 
-        /* 자본예산 비목코드(IOE_CPIT) 목록 조회 — 자본/경상 구분용 */
-        List<Ccodem> capitalCodes = codeRepository.findByCttTpWithValidDate("IOE_CPIT", null);
-        java.util.Set<String> capitalPrefixes = new java.util.HashSet<>();
-        for (Ccodem code : capitalCodes) {
-            /* IOE-351-0100 → IOE-351 추출 (3세그먼트에서 2세그먼트로 축약) */
-            String cdId = code.getCdId();
-            int lastDash = cdId.lastIndexOf('-');
-            if (lastDash > 0) {
-                capitalPrefixes.add(cdId.substring(0, lastDash));
-            }
-            capitalPrefixes.add(cdId); // 전체 코드도 추가
-        }
+        /* 비목코드 분류표 — 자본/경상 구분용 (IOE_CPIT 코드 및 상위 접두어 IOE-351-0100 → IOE-351) */
+        IoeClassifier.Table ioeTable = ioeClassifier.table();
+        long loadedAt = System.nanoTime();
+
+        List<Bbugtm> inserts = new ArrayList<>();
 
         for (BudgetWorkDto.ItemRate item : request.items()) {
             Integer assetDupRt = item.assetDupRt() != null ? item.assetDupRt() : 100;
@@ -266,7 +300,7 @@ public class BudgetWorkService {
                         item.orcPkVl(), "N", "Y");
 
                 for (Bitemm bitemm : items) {
-                    boolean isCapital = isCapitalIoeCode(bitemm.getGclDtt(), capitalPrefixes);
+                    boolean isCapital = ioeTable.isCapital(bitemm.getGclDtt());
                     int dupRt = isCapital ? assetDupRt : costDupRt;
 
                     BigDecimal xcrVal = bitemm.getXcr() != null ? bitemm.getXcr() : BigDecimal.ONE;
@@ -286,7 +320,7 @@ public class BudgetWorkService {
                             .dupBg(dupBg)
                             .dupRt(dupRt)
                             .build();
-                    bbugtmRepository.save(bbugtm);
+                    inserts.add(bbugtm);
                     totalRecords++;
                 }
             } else if ("BCOSTM".equals(item.orcTb())) {
@@ -295,7 +329,7 @@ public class BudgetWorkService {
                         item.orcPkVl(), "N", "Y");
 
                 for (Bcostm cost : costList) {
-                    boolean isCapital = isCapitalIoeCode(cost.getIoeC(), capitalPrefixes);
+                    boolean isCapital = ioeTable.isCapital(cost.getIoeC());
                     int dupRt = isCapital ? assetDupRt : costDupRt;
                     BigDecimal dupBg = calculateDupBg(cost.getItMngcBg(), dupRt);
 
@@ -312,31 +346,22 @@ public class BudgetWorkService {
                             .dupBg(dupBg)
                             .dupRt(dupRt)
                             .build();
-                    bbugtmRepository.save(bbugtm);
+                    inserts.add(bbugtm);
                     totalRecords++;
                 }
             }
         }
 
-        BudgetWorkDto.SummaryResponse summary = getSummary(bgYy);
-        return new BudgetWorkDto.ApplyResponse("사업별 편성률 적용 완료", totalRecords, summary);
-    }
+        long computedAt = System.nanoTime();
 
-    /**
-     * IOE 코드가 자본예산 비목인지 판별
-     *
-     * @param ioeC            비목코드 (예: IOE-351-0100)
-     * @param capitalPrefixes 자본예산 비목 접두어 Set (IOE-351, IOE-351-0100 등)
-     * @return true이면 자본예산
-     */
-    private boolean isCapitalIoeCode(String ioeC, java.util.Set<String> capitalPrefixes) {
-        if (ioeC == null) return false;
-        if (capitalPrefixes.contains(ioeC)) return true;
-        /* 접두어 매칭: IOE-351-0100이 IOE-351로 시작하는지 확인 */
-        for (String prefix : capitalPrefixes) {
-            if (ioeC.startsWith(prefix)) return true;
-        }
-        return false;
+        // 재삽입 레코드 일괄 저장 + Soft Delete UPDATE 포함 flush (JDBC 배치)
+        bbugtmRepository.saveAll(inserts);
+        bbugtmRepository.flush();
+        long writtenAt = System.nanoTime();
+
+        BudgetWorkDto.SummaryResponse summary = getSummary(bgYy);
+        return new BudgetWorkDto.ApplyResponse("사업별 편성률 적용 완료", totalRecords, summary,
+                BudgetWorkDto.ApplyTimings.of(startedAt, loadedAt, computedAt, writtenAt, System.nanoTime()));
     }
 
     /**
@@ -350,7 +375,8 @@ public class BudgetWorkService {
      * [처리 순서]
      * 1. BBUGTM에서 BG_YY = :bgYy AND DEL_YN = 'N' 조회
      * 2. CCODEM에서 DUP_IOE 코드 조회 (비목명 매핑용)
-     * 3. 접두어 기준 GROUP BY → SUM(요청금액), SUM(편성금액) 집계
+     * 3. 결재완료 BCOSTM/BITEMM 요청금액을 비목코드별 GROUP BY로 1회씩 조회 (접두어 무관)
+     * 4. 접두어 트라이로 비목코드를 접두어 버킷에 분류 → SUM(요청금액), SUM(편성금액) 집계
      *
      * @param bgYy 예산년도
      * @return 비목별 요약 목록 + 합계
@@ -359,20 +385,19 @@ public class BudgetWorkService {
         List<Bbugtm> budgets = bbugtmRepository.findByBgYyAndDelYn(bgYy, "N");
 
         // 편성비목 그룹 코드 조회 (DUP_IOE: 접두어 → 그룹명 매핑)
-        List<Ccodem> dupIoeCodes = codeRepository.findByCttTpWithValidDate("DUP_IOE", null);
+        List<Ccodem> dupIoeCodes = codeDictionary.findByCttTp("DUP_IOE", null);
 
         // 세부 비목 코드 조회 (IOE_CPIT, IOE_IDR, IOE_SEVS, IOE_XPN, IOE_LEAFE)
         // cdId → cdDes 매핑 (코드설명 기준으로 비목명 표시)
-        List<String> detailCttTps = List.of("IOE_CPIT", "IOE_IDR", "IOE_SEVS", "IOE_XPN", "IOE_LEAFE");
+        List<String> detailCttTps = new ArrayList<>(IoeClassifier.COST_CTT_TPS);
+        detailCttTps.addFirst(IoeClassifier.CAPITAL_CTT_TP);
         Map<String, String> detailCodeNameMap = new LinkedHashMap<>();
-        Map<String, Boolean> detailCodeCapitalMap = new LinkedHashMap<>();
         for (String cttTp : detailCttTps) {
-            boolean isCapital = "IOE_CPIT".equals(cttTp);
-            for (Ccodem code : codeRepository.findByCttTpWithValidDate(cttTp, null)) {
+            for (Ccodem code : codeDictionary.findByCttTp(cttTp, null)) {
                 detailCodeNameMap.put(code.getCdId(), code.getCdDes() != null ? code.getCdDes() : code.getCdNm());
-                detailCodeCapitalMap.put(code.getCdId(), isCapital);
             }
         }
+        IoeClassifier.Table ioeTable = ioeClassifier.table();
 
         // 접두어 → 그룹명 매핑 (DUP_IOE 기반, cdDes 우선 사용)
         Map<String, String> prefixToGroupName = new LinkedHashMap<>();
@@ -383,36 +408,42 @@ public class BudgetWorkService {
             prefixOrder.add(prefix);
         }
 
-        // BBUGTM 데이터를 실제 ioeC 단위로 그룹핑
-        Map<String, List<Bbugtm>> budgetsByIoeC = new LinkedHashMap<>();
+        // BBUGTM 데이터를 실제 ioeC 단위로 1회 집계 (편성금액 합계 + 첫 레코드 편성률)
+        Map<String, BigDecimal> dupAmountByIoeC = new LinkedHashMap<>();
+        Map<String, Integer> dupRtByIoeC = new HashMap<>();
         for (Bbugtm b : budgets) {
             if (b.getIoeC() != null) {
-                budgetsByIoeC.computeIfAbsent(b.getIoeC(), k -> new ArrayList<>()).add(b);
+                dupAmountByIoeC.merge(b.getIoeC(), b.getDupBg() != null ? b.getDupBg() : BigDecimal.ZERO,
+                        BigDecimal::add);
+                if (!dupRtByIoeC.containsKey(b.getIoeC())) {
+                    dupRtByIoeC.put(b.getIoeC(), b.getDupRt());
+                }
             }
         }
 
         // 결재완료 원본 데이터에서 요청금액을 직접 계산 (BBUGTM 유무와 무관)
-        // BCOSTM: ioeC별 itMngcBg 합계
-        Map<String, BigDecimal> approvedCostAmountByIoeC = new LinkedHashMap<>();
-        // BITEMM: gclDtt별 gclAmt * coalesce(xcr, 1) 합계
-        Map<String, BigDecimal> approvedItemAmountByIoeC = new LinkedHashMap<>();
+        // 접두어별 반복 조회 대신 연도 전체를 비목코드별 GROUP BY 1회씩 조회
+        // BCOSTM: ioeC별 itMngcBg 합계 / BITEMM: gclDtt별 gclAmt * coalesce(xcr, 1) 합계
+        Map<String, BigDecimal> approvedCostAmountByIoeC = toAmountMap(
+                bbugtmRepository.sumApprovedCostAmountByIoeC(bgYy));
+        Map<String, BigDecimal> approvedItemAmountByIoeC = toAmountMap(
+                bbugtmRepository.sumApprovedItemAmountByIoeC(bgYy));
 
+        /*
+         * 비목코드 → 접두어 버킷 분류 (접두어 트라이로 코드당 O(코드 길이)):
+         * 기존 순서 규칙(CCODEM 세부 코드 → BBUGTM → BCOSTM → BITEMM, 각 소스 내 순서 유지)을 그대로 따르며,
+         * LinkedHashSet으로 중복을 제거하여 List.contains 선형 탐색을 없앱니다.
+         * 하나의 코드가 여러 접두어(예: IOE-237, IOE-2370)에 매칭되면 모든 버킷에 포함됩니다.
+         */
+        PrefixTrie prefixTrie = new PrefixTrie(prefixOrder);
+        Map<String, LinkedHashSet<String>> codesByPrefix = new HashMap<>();
         for (String prefix : prefixOrder) {
-            // 결재완료 전산업무비 요청금액 집계
-            List<Bcostm> approvedCosts = bbugtmRepository.findApprovedCostsByPrefix(prefix, bgYy);
-            for (Bcostm cost : approvedCosts) {
-                if (cost.getIoeC() != null && cost.getItMngcBg() != null) {
-                    approvedCostAmountByIoeC.merge(cost.getIoeC(), cost.getItMngcBg(), BigDecimal::add);
-                }
-            }
-            // 결재완료 품목 요청금액 집계 (환율 적용)
-            List<Bitemm> approvedItems = bbugtmRepository.findApprovedItemsByPrefix(prefix, bgYy);
-            for (Bitemm item : approvedItems) {
-                if (item.getGclDtt() != null && item.getGclAmt() != null) {
-                    BigDecimal xcrVal = item.getXcr() != null ? item.getXcr() : BigDecimal.ONE;
-                    BigDecimal amountKrw = item.getGclAmt().multiply(xcrVal);
-                    approvedItemAmountByIoeC.merge(item.getGclDtt(), amountKrw, BigDecimal::add);
-                }
+            codesByPrefix.put(prefix, new LinkedHashSet<>());
+        }
+        for (Iterable<String> source : List.of(detailCodeNameMap.keySet(), dupAmountByIoeC.keySet(),
+                approvedCostAmountByIoeC.keySet(), approvedItemAmountByIoeC.keySet())) {
+            for (String ioeC : source) {
+                prefixTrie.forEachMatch(ioeC, prefix -> codesByPrefix.get(prefix).add(ioeC));
             }
         }
 
@@ -423,33 +454,7 @@ public class BudgetWorkService {
         // 편성비목 접두어 순서대로 처리 (DUP_IOE 코드 순서 유지)
         for (String prefix : prefixOrder) {
             String groupName = prefixToGroupName.get(prefix);
-
-            // CCODEM 세부 코드 중 이 접두어에 해당하는 코드 수집 (BBUGTM 데이터 유무와 무관)
-            List<String> detailCodesForPrefix = new ArrayList<>();
-            for (String cdId : detailCodeNameMap.keySet()) {
-                if (cdId.startsWith(prefix)) {
-                    detailCodesForPrefix.add(cdId);
-                }
-            }
-
-            // BBUGTM에만 있고 CCODEM에는 없는 ioeC도 포함
-            for (String ioeC : budgetsByIoeC.keySet()) {
-                if (ioeC.startsWith(prefix) && !detailCodesForPrefix.contains(ioeC)) {
-                    detailCodesForPrefix.add(ioeC);
-                }
-            }
-
-            // 원본 데이터에만 있고 CCODEM/BBUGTM에 없는 ioeC도 포함
-            for (String ioeC : approvedCostAmountByIoeC.keySet()) {
-                if (ioeC.startsWith(prefix) && !detailCodesForPrefix.contains(ioeC)) {
-                    detailCodesForPrefix.add(ioeC);
-                }
-            }
-            for (String ioeC : approvedItemAmountByIoeC.keySet()) {
-                if (ioeC.startsWith(prefix) && !detailCodesForPrefix.contains(ioeC)) {
-                    detailCodesForPrefix.add(ioeC);
-                }
-            }
+            Set<String> detailCodesForPrefix = codesByPrefix.get(prefix);
 
             // 세부 코드가 하나도 없으면 그룹명으로 0건 행 표시
             if (detailCodesForPrefix.isEmpty()) {
@@ -472,38 +477,28 @@ public class BudgetWorkService {
                 String detailName = nameEntry.getKey();
                 List<String> ioeCodes = nameEntry.getValue();
 
-                // 병합 대상 BBUGTM 레코드 수집
-                List<Bbugtm> allRecords = new ArrayList<>();
-                for (String ioeC : ioeCodes) {
-                    allRecords.addAll(budgetsByIoeC.getOrDefault(ioeC, List.of()));
-                }
-
                 // 대표 ioeC (첫 번째 코드)
                 String representativeIoeC = ioeCodes.get(0);
 
-                // 편성금액 합계 (BBUGTM 기반)
-                BigDecimal dupAmount = allRecords.stream()
-                        .map(Bbugtm::getDupBg)
-                        .filter(v -> v != null)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-                // 요청금액: 결재완료 원본 데이터(BCOSTM/BITEMM)에서 직접 계산
+                // 편성금액(BBUGTM 기반) / 요청금액(결재완료 원본 BCOSTM·BITEMM 기반) 합계
+                BigDecimal dupAmount = BigDecimal.ZERO;
                 BigDecimal requestAmount = BigDecimal.ZERO;
+                // 편성률 (BBUGTM 레코드가 있으면 병합 순서상 첫 레코드 값, 없으면 null)
+                Integer dupRt = null;
+                boolean rateFound = false;
                 for (String ioeC : ioeCodes) {
-                    requestAmount = requestAmount.add(
-                            approvedCostAmountByIoeC.getOrDefault(ioeC, BigDecimal.ZERO));
-                    requestAmount = requestAmount.add(
-                            approvedItemAmountByIoeC.getOrDefault(ioeC, BigDecimal.ZERO));
+                    dupAmount = dupAmount.add(dupAmountByIoeC.getOrDefault(ioeC, BigDecimal.ZERO));
+                    requestAmount = requestAmount
+                            .add(approvedCostAmountByIoeC.getOrDefault(ioeC, BigDecimal.ZERO))
+                            .add(approvedItemAmountByIoeC.getOrDefault(ioeC, BigDecimal.ZERO));
+                    if (!rateFound && dupRtByIoeC.containsKey(ioeC)) {
+                        dupRt = dupRtByIoeC.get(ioeC);
+                        rateFound = true;
+                    }
                 }
 
-                // 편성률 (BBUGTM 레코드가 있으면 해당 값, 없으면 null)
-                Integer dupRt = allRecords.stream()
-                        .map(Bbugtm::getDupRt)
-                        .findFirst()
-                        .orElse(null);
-
                 // 자본예산 여부: 대표 코드의 cttTp가 IOE_CPIT이면 자본예산
-                boolean capital = Boolean.TRUE.equals(detailCodeCapitalMap.get(representativeIoeC));
+                boolean capital = ioeTable.classify(representativeIoeC).capital();
 
                 items.add(new BudgetWorkDto.SummaryItem(
                         detailName, representativeIoeC, prefix, groupName, capital,
@@ -555,7 +550,7 @@ public class BudgetWorkService {
      */
     public BudgetWorkDto.ProjectSummaryResponse getProjectSummary(String bgYy) {
         // 1. 편성비목 코드 조회 (컬럼 헤더용)
-        List<Ccodem> ioeCodes = codeRepository.findByCttTpWithValidDate("DUP_IOE", null);
+        List<Ccodem> ioeCodes = codeDictionary.findByCttTp("DUP_IOE", null);
         List<Bbugtm> budgets = bbugtmRepository.findByBgYyAndDelYn(bgYy, "N");
 
         // 비목별 편성률 맵 (prefix → dupRt)
@@ -713,6 +708,22 @@ public class BudgetWorkService {
                 .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
     }
 
+    /**
+     * 비목코드별 금액 프로젝션 목록을 Map으로 변환 (조회 순서 유지)
+     *
+     * @param amounts 리포지토리 GROUP BY 결과
+     * @return ioeC → 금액 합계
+     */
+    private Map<String, BigDecimal> toAmountMap(List<BudgetWorkDto.IoeAmount> amounts) {
+        Map<String, BigDecimal> map = new LinkedHashMap<>();
+        for (BudgetWorkDto.IoeAmount a : amounts) {
+            if (a.ioeC() != null && a.amount() != null) {
+                map.merge(a.ioeC(), a.amount(), BigDecimal::add);
+            }
+        }
+        return map;
+    }
+
     /**
      * 편성비목 코드ID에서 접두어 추출
      *
@@ -726,4 +737,19 @@ public class BudgetWorkService {
     private String extractPrefix(String cdId) {
         return cdId.replace("DUP-", "");
     }
+
+    /**
+     * BBUGTM Upsert 키 (예산년도 내 원본 레코드 + 비목 단위)
+     *
+     * @param orcTb    원본테이블 (BCOSTM / BITEMM)
+     * @param orcPkVl  원본PK값
+     * @param orcSnoVl 원본일련번호값
+     * @param ioeC     비목코드
+     */
+    private record BudgetKey(String orcTb, String orcPkVl, Integer orcSnoVl, String ioeC) {
+
+        static BudgetKey of(Bbugtm b) {
+            return new BudgetKey(b.getOrcTb(), b.getOrcPkVl(), b.getOrcSnoVl(), b.getIoeC());
+        }
+    }
 }
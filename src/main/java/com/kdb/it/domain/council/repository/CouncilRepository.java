@@ -148,19 +148,11 @@ public interface CouncilRepository extends JpaRepository<Basctm, String> {
                   (a.ASCT_ID IS NULL AND p.PRJ_STS IN (:stsPending1, :stsPending2)
                   AND EXISTS (
                       SELECT 1
-                      FROM TAAABB_CAPPLA ca
-                      JOIN TAAABB_CAPPLM cm ON ca.APF_MNG_NO = cm.APF_MNG_NO
-                      WHERE ca.ORC_TB_CD  = 'BPROJM'
-                        AND ca.ORC_PK_VL  = p.PRJ_MNG_NO
-                        AND ca.ORC_SNO_VL = p.PRJ_SNO
-                        AND cm.APF_STS    = :apfSts
-                        AND ca.APF_REL_SNO = (
-                            SELECT MAX(ca2.APF_REL_SNO)
-                            FROM TAAABB_CAPPLA ca2
-                            WHERE ca2.ORC_TB_CD  = 'BPROJM'
-                              AND ca2.ORC_PK_VL  = p.PRJ_MNG_NO
-                              AND ca2.ORC_SNO_VL = p.PRJ_SNO
-                        )
+                      FROM TAAABB_CAPPLC s
+                      WHERE s.ORC_TB_CD  = 'BPROJM'
+                        AND s.ORC_PK_VL  = p.PRJ_MNG_NO
+                        AND s.ORC_SNO_VL = p.PRJ_SNO
+                        AND s.APF_STS    = :apfSts
                   ))
               )
             ORDER BY p.FST_ENR_DTM DESC
@@ -215,19 +207,11 @@ public interface CouncilRepository extends JpaRepository<Basctm, String> {
                   (a.ASCT_ID IS NULL AND p.PRJ_STS IN (:stsPending1, :stsPending2)
                   AND EXISTS (
                       SELECT 1
-                      FROM TAAABB_CAPPLA ca
-                      JOIN TAAABB_CAPPLM cm ON ca.APF_MNG_NO = cm.APF_MNG_NO
-                      WHERE ca.ORC_TB_CD  = 'BPROJM'
-                        AND ca.ORC_PK_VL  = p.PRJ_MNG_NO
-                        AND ca.ORC_SNO_VL = p.PRJ_SNO
-                        AND cm.APF_STS    = :apfSts
-                        AND ca.APF_REL_SNO = (
-                            SELECT MAX(ca2.APF_REL_SNO)
-                            FROM TAAABB_CAPPLA ca2
-                            WHERE ca2.ORC_TB_CD  = 'BPROJM'
-                              AND ca2.ORC_PK_VL  = p.PRJ_MNG_NO
-                              AND ca2.ORC_SNO_VL = p.PRJ_SNO
-                        )
+                      FROM TAAABB_CAPPLC s
+                      WHERE s.ORC_TB_CD  = 'BPROJM'
+                        AND s.ORC_PK_VL  = p.PRJ_MNG_NO
+                        AND s.ORC_SNO_VL = p.PRJ_SNO
+                        AND s.APF_STS    = :apfSts
                   ))
               )
             ORDER BY p.FST_ENR_DTM DESC
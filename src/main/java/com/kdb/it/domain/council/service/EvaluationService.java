@@ -1,7 +1,7 @@
 package com.kdb.it.domain.council.service;
 
-import com.kdb.it.common.iam.entity.CuserI;
-import com.kdb.it.common.iam.repository.UserRepository;
+import com.kdb.it.common.iam.service.DirectoryCacheService;
+import com.kdb.it.common.iam.service.DirectoryCacheService.UserSummary;
 import com.kdb.it.common.system.security.CustomUserDetails;
 import com.kdb.it.domain.council.dto.CouncilDto;
 import com.kdb.it.domain.council.entity.Bevalm;
@@ -12,7 +12,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -38,8 +37,8 @@ public class EvaluationService {
     /** 평가의견 리포지토리 (TAAABB_BEVALM) */
     private final EvaluationRepository evaluationRepository;
 
-    /** 사용자 리포지토리 — 위원 이름 조회용 */
-    private final UserRepository userRepository;
+    /** 사용자·조직 이름 캐시 — 위원 이름 조회용 */
+    private final DirectoryCacheService directoryCacheService;
 
     /** 협의회 기본 서비스 — 상태 전이용 */
     private final CouncilService councilService;
@@ -78,15 +77,15 @@ public class EvaluationService {
         List<Bevalm> allEvaluations = evaluationRepository.findByAsctIdAndDelYn(asctId, "N");
 
         // 위원별 사용자 정보 Map (N+1 방지)
-        Map<String, CuserI> userMap = buildUserMapFromEvaluations(allEvaluations);
+        Map<String, UserSummary> userMap = buildUserMapFromEvaluations(allEvaluations);
 
         // 평가의견 → 응답 DTO 변환
         List<CouncilDto.EvaluationItemResponse> evaluationResponses = allEvaluations.stream()
                 .map(e -> {
-                    CuserI user = userMap.get(e.getEno());
+                    UserSummary user = userMap.get(e.getEno());
                     return new CouncilDto.EvaluationItemResponse(
                             e.getEno(),
-                            user != null ? user.getUsrNm() : null,
+                            user != null ? user.usrNm() : null,
                             e.getCkgItmC(),
                             CHECK_ITEM_NAMES.getOrDefault(e.getCkgItmC(), e.getCkgItmC()),
                             e.getCkgRcrd(),
@@ -196,16 +195,10 @@ public class EvaluationService {
     // =========================================================================
 
     /**
-     * 평가의견 목록에서 사번 중복 없이 사용자 정보 Map 생성 (N+1 방지)
+     * 평가의견 목록에서 사번 중복 없이 사용자 정보 Map 생성 (이름 캐시 일괄 조회, N+1 방지)
      */
-    private Map<String, CuserI> buildUserMapFromEvaluations(List<Bevalm> evaluations) {
-        return evaluations.stream()
-                .map(Bevalm::getEno)
-                .distinct()
-                .map(eno -> userRepository.findByEno(eno))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toMap(CuserI::getEno, u -> u, (a, b) -> a));
+    private Map<String, UserSummary> buildUserMapFromEvaluations(List<Bevalm> evaluations) {
+        return directoryCacheService.getUsers(evaluations.stream().map(Bevalm::getEno).toList());
     }
 
     /**
@@ -1,7 +1,7 @@
 package com.kdb.it.domain.council.service;
 
-import com.kdb.it.common.iam.entity.CuserI;
-import com.kdb.it.common.iam.repository.UserRepository;
+import com.kdb.it.common.iam.service.DirectoryCacheService;
+import com.kdb.it.common.iam.service.DirectoryCacheService.UserSummary;
 import com.kdb.it.common.system.security.CustomUserDetails;
 import com.kdb.it.domain.council.dto.CouncilDto;
 import com.kdb.it.domain.council.entity.Basctm;
@@ -15,7 +15,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -49,8 +48,8 @@ public class ScheduleService {
     /** 평가위원 리포지토리 — 위원 목록 조회용 */
     private final CommitteeRepository committeeRepository;
 
-    /** 사용자 리포지토리 — 위원 이름 조회용 */
-    private final UserRepository userRepository;
+    /** 사용자·조직 이름 캐시 — 위원 이름 조회용 */
+    private final DirectoryCacheService directoryCacheService;
 
     /** 협의회 기본 서비스 — 상태 전이용 */
     private final CouncilService councilService;
@@ -86,7 +85,7 @@ public class ScheduleService {
                 .collect(Collectors.toSet());
 
         // 위원별 사용자 정보 Map
-        Map<String, CuserI> userMap = buildUserMap(members);
+        Map<String, UserSummary> userMap = buildUserMap(members);
 
         // 위원별 일정 응답 목록 Map (eno → slots)
         Map<String, List<Bschdm>> scheduleByEno = allSchedules.stream()
@@ -96,7 +95,7 @@ public class ScheduleService {
         List<CouncilDto.MemberScheduleStatus> memberStatuses = members.stream()
                 .map(m -> {
                     boolean responded = respondedEnos.contains(m.getEno());
-                    CuserI user = userMap.get(m.getEno());
+                    UserSummary user = userMap.get(m.getEno());
 
                     List<CouncilDto.ScheduleSlotResponse> slots =
                             scheduleByEno.getOrDefault(m.getEno(), List.of()).stream()
@@ -106,9 +105,9 @@ public class ScheduleService {
 
                     return new CouncilDto.MemberScheduleStatus(
                             m.getEno(),
-                            user != null ? user.getUsrNm() : null,
-                            user != null ? user.getBbrNm() : null,
-                            user != null ? user.getPtCNm() : null,
+                            user != null ? user.usrNm() : null,
+                            user != null ? user.bbrNm() : null,
+                            user != null ? user.ptCNm() : null,
                             m.getVlrTp(),
                             responded,
                             slots
@@ -167,7 +166,7 @@ public class ScheduleService {
     private boolean calcAllRequiredResponded(
             String dbrTp,
             List<Bcmmtm> members,
-            Map<String, CuserI> userMap,
+            Map<String, UserSummary> userMap,
             Set<String> respondedEnos) {
 
         if (!"INFO_SYS".equals(dbrTp)) {
@@ -180,8 +179,8 @@ public class ScheduleService {
             // 해당 팀코드(TEM_C)에 속한 위원 중 한 명이라도 응답했는지 확인
             boolean hasResponse = members.stream()
                     .filter(m -> {
-                        CuserI user = userMap.get(m.getEno());
-                        return user != null && requiredTemC.equals(user.getTemC());
+                        UserSummary user = userMap.get(m.getEno());
+                        return user != null && requiredTemC.equals(user.temC());
                     })
                     .anyMatch(m -> respondedEnos.contains(m.getEno()));
 
@@ -275,13 +274,9 @@ public class ScheduleService {
     // =========================================================================
 
     /**
-     * 위원 목록의 사번으로 사용자 정보 Map 생성 (N+1 방지)
+     * 위원 목록의 사번으로 사용자 정보 Map 생성 (이름 캐시 일괄 조회, N+1 방지)
      */
-    private Map<String, CuserI> buildUserMap(List<Bcmmtm> members) {
-        return members.stream()
-                .map(m -> userRepository.findByEno(m.getEno()))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toMap(CuserI::getEno, u -> u, (a, b) -> a));
+    private Map<String, UserSummary> buildUserMap(List<Bcmmtm> members) {
+        return directoryCacheService.getUsers(members.stream().map(Bcmmtm::getEno).toList());
     }
 }
@@ -3,7 +3,9 @@ package com.kdb.it.domain.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -46,6 +48,14 @@ import java.util.UUID;
  * 물리적 삭제 대신 논리 삭제를 수행합니다.
  * </p>
  *
+ * <p>
+ * 신규 여부 판별: 업무 엔티티는 PK를 직접 채번(할당 ID)하므로 Spring Data의 기본 판별(ID null 여부)로는
+ * 항상 기존 엔티티로 간주되어 {@code save()}가 {@code merge}(행마다 SELECT 후 INSERT)로 동작하고
+ * JDBC 배치도 적용되지 않습니다. 대량 INSERT 경로의 엔티티는
+ * {@link org.springframework.data.domain.Persistable}을 구현하고 {@code getId()}만 제공하면
+ * {@link #isNew()}로 {@code persist}가 선택됩니다.
+ * </p>
+ *
  * @see JpaAuditConfig JPA Auditing 설정
  */
 @MappedSuperclass // 이 클래스의 필드를 자식 엔티티 테이블에 매핑 (별도 테이블 없음)
@@ -101,6 +111,13 @@ public abstract class BaseEntity {
     @Column(name = "LST_CHG_USID", length = 14, comment = "최종변경자사번")
     private String lstChgUsid;
 
+    /**
+     * 영속화 여부 (DB 비매핑): 최초 저장 직전({@code @PrePersist}) 또는 조회 직후({@code @PostLoad}) true.
+     * 빌더로 생성한 엔티티는 false이므로 {@link #isNew()}가 true가 됩니다.
+     */
+    @Transient
+    private boolean persisted;
+
     /**
      * JPA 엔티티 최초 저장(INSERT) 전 자동 실행 콜백 메서드
      *
@@ -115,10 +132,12 @@ public abstract class BaseEntity {
      * <li>{@code delYn}: null인 경우 'N'으로 설정 (미삭제 상태)</li>
      * <li>{@code guid}: null인 경우 UUID v4 랜덤 값으로 자동 생성</li>
      * <li>{@code guidPrgSno}: null인 경우 1로 설정</li>
+     * <li>{@code persisted}: true로 설정 (같은 트랜잭션에서 다시 {@code save()}해도 merge로 처리)</li>
      * </ul>
      */
     @PrePersist
     public void prePersist() {
+        this.persisted = true;
         // 삭제여부 기본값 설정: null이면 'N'(미삭제)으로 초기화
         if (this.delYn == null) {
             this.delYn = "N";
@@ -133,6 +152,23 @@ public abstract class BaseEntity {
         }
     }
 
+    /**
+     * DB에서 조회된 엔티티를 영속화 상태로 표시 ({@code save()} 시 merge 대상)
+     */
+    @PostLoad
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    /**
+     * 신규 엔티티 여부 ({@link org.springframework.data.domain.Persistable#isNew()} 구현용)
+     *
+     * @return 아직 저장·조회되지 않은 엔티티이면 true
+     */
+    public boolean isNew() {
+        return !persisted;
+    }
+
     /**
      * 논리 삭제(Soft Delete) 처리 메서드
      *
@@ -0,0 +1,147 @@
+package com.kdb.it.domain.log.id;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 로그 시퀀스 블록 할당기 (pooled hi-lo).
+ *
+ * <p>시퀀스를 {@code INCREMENT BY N}으로 생성하면 {@code NEXTVAL} 1회가 {@code [v, v+N)} 구간 N개를
+ * 예약한 것과 같다. 이 클래스는 시퀀스별로 현재 구간을 메모리에 보관하고, 구간을 다 쓴 경우에만
+ * DB에서 {@code NEXTVAL}을 다시 조회한다. 여러 서버 인스턴스가 같은 시퀀스를 써도 구간이 겹치지 않는다.</p>
+ *
+ * <p>블록 크기는 설정값이 아니라 DB 딕셔너리({@code USER_SEQUENCES.INCREMENT_BY})에서 시퀀스별로 1회 읽는다.
+ * 따라서 DDL의 {@code INCREMENT BY}가 곧 블록 크기 설정이며, 두 값이 어긋날 수 없다.
+ * {@code resources/sql/audit_log_sequences_block_alter.sql}이 아직 적용되지 않아 {@code INCREMENT BY 1}이거나
+ * 딕셔너리를 조회할 수 없으면 블록 크기 1, 즉 기존과 같은 단건 조회로 동작한다.</p>
+ *
+ * <p>[동시성] 시퀀스별 {@link SequenceRange}가 현재 구간을 {@link AtomicReference}로 들고,
+ * 구간 안의 값은 {@link AtomicLong#getAndIncrement()}로 잠금 없이 배분한다. 구간 소진 시 각 스레드가
+ * 새 구간을 조회해 CAS로 교체하며, 경합에서 진 스레드는 자기가 받은 구간의 첫 값만 쓰고 나머지는 버린다
+ * (시퀀스 공백은 허용되며 중복은 발생하지 않는다).</p>
+ *
+ * <p>[주의] 운영 중 {@code INCREMENT BY}를 <b>줄이는</b> 변경은 기동 시 읽은 블록 크기와 어긋나 중복 PK를
+ * 만들 수 있으므로 전 인스턴스 재기동과 함께 수행한다. 늘리는 변경은 공백만 생긴다.</p>
+ */
+public final class AuditLogIdAllocator {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogIdAllocator.class);
+
+    /** JVM 공용 인스턴스: Hibernate 생성기({@link AuditLogIdGenerator})와 JDBC 배치 writer가 공유 */
+    private static final AuditLogIdAllocator SHARED = new AuditLogIdAllocator();
+
+    /** 시퀀스명 → 구간 보관소 */
+    private final ConcurrentMap<String, SequenceRange> ranges = new ConcurrentHashMap<>();
+
+    public static AuditLogIdAllocator shared() {
+        return SHARED;
+    }
+
+    /**
+     * 다음 시퀀스 값 할당.
+     *
+     * @param sequenceName 시퀀스명 (예: {@code S_BPROJL})
+     * @param source       구간 소진 시 사용할 DB 조회 수단
+     * @return 시퀀스 값
+     */
+    public long next(String sequenceName, SequenceSource source) {
+        return range(sequenceName, source).next(source);
+    }
+
+    /**
+     * 시퀀스의 블록 크기 조회 (최초 호출 시 딕셔너리 조회 후 캐시).
+     *
+     * @return 블록 크기 (1이면 단건 조회 모드)
+     */
+    public long blockSize(String sequenceName, SequenceSource source) {
+        return range(sequenceName, source).blockSize;
+    }
+
+    private SequenceRange range(String sequenceName, SequenceSource source) {
+        SequenceRange range = ranges.get(sequenceName);
+        if (range != null) {
+            return range;
+        }
+        return ranges.computeIfAbsent(sequenceName, name -> new SequenceRange(name, resolveBlockSize(name, source)));
+    }
+
+    private static long resolveBlockSize(String sequenceName, SequenceSource source) {
+        long blockSize;
+        try {
+            blockSize = Math.max(1, source.incrementBy(sequenceName));
+        } catch (RuntimeException e) {
+            log.warn("[감사로그 시퀀스] {} INCREMENT_BY 조회 실패 → 단건 조회 모드, reason={}",
+                    sequenceName, e.getMessage());
+            return 1;
+        }
+        if (blockSize == 1) {
+            log.info("[감사로그 시퀀스] {} INCREMENT BY 1 → 단건 조회 모드 (블록 DDL 미적용)", sequenceName);
+        } else {
+            log.info("[감사로그 시퀀스] {} 블록 할당 모드, 블록 크기={}", sequenceName, blockSize);
+        }
+        return blockSize;
+    }
+
+    /**
+     * 시퀀스 DB 조회 수단.
+     *
+     * <p>호출 측의 커넥션 획득 방식(Hibernate 세션 / JdbcTemplate)에 맞춰 구현한다.</p>
+     */
+    public interface SequenceSource {
+
+        /** {@code SELECT {seq}.NEXTVAL FROM DUAL} */
+        long nextVal(String sequenceName);
+
+        /**
+         * 시퀀스 증가폭 조회 ({@code USER_SEQUENCES.INCREMENT_BY}).
+         *
+         * @return 증가폭, 조회되지 않으면 1
+         */
+        long incrementBy(String sequenceName);
+    }
+
+    /** 시퀀스 1개의 현재 구간 보관소 */
+    private static final class SequenceRange {
+
+        private final String sequenceName;
+        private final long blockSize;
+        private final AtomicReference<Block> current = new AtomicReference<>(new Block(0, 0));
+
+        private SequenceRange(String sequenceName, long blockSize) {
+            this.sequenceName = sequenceName;
+            this.blockSize = blockSize;
+        }
+
+        long next(SequenceSource source) {
+            if (blockSize == 1) {
+                return source.nextVal(sequenceName);
+            }
+            Block block = current.get();
+            long value = block.next.getAndIncrement();
+            if (value < block.hi) {
+                return value;
+            }
+            long lo = source.nextVal(sequenceName);
+            // 경합에서 지면 이미 다른 스레드가 새 구간을 설치한 것 → 받은 구간의 첫 값만 사용
+            current.compareAndSet(block, new Block(lo + 1, lo + blockSize));
+            return lo;
+        }
+    }
+
+    /** 배분 중인 구간 {@code [next, hi)} */
+    private static final class Block {
+
+        final AtomicLong next;
+        final long hi;
+
+        Block(long next, long hi) {
+            this.next = new AtomicLong(next);
+            this.hi = hi;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.IdentifierGenerator;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 
@@ -18,22 +19,34 @@ import java.sql.Statement;
  * <p>예: {@code TAAABB_BPROJL} → {@code BPROJL_0000000000000000000001}</p>
  *
  * <p>시퀀스는 CYCLE 설정 (최대 22자리, 순환 후 1부터 재시작).</p>
+ *
+ * <p>시퀀스 값은 {@link AuditLogIdAllocator}가 시퀀스 {@code INCREMENT BY} 단위 블록으로 메모리에서 배분하므로,
+ * 블록 DDL이 적용된 시퀀스는 블록당 1회만 DB를 조회한다. 미적용({@code INCREMENT BY 1})이면 행마다 조회한다.</p>
  */
 public class AuditLogIdGenerator implements IdentifierGenerator {
 
-    private static final int SEQ_PAD_LENGTH = 22;
+    /** 시퀀스 값 0패딩 자릿수 */
+    public static final int SEQ_PAD_LENGTH = 22;
 
     @Override
     public Object generate(SharedSessionContractImplementor session, Object object) {
-        String postfix = resolvePostfix(object);
-        long nextVal = fetchNextVal(session, "S_" + postfix);
+        String postfix = resolvePostfix(object.getClass());
+        long nextVal = AuditLogIdAllocator.shared().next("S_" + postfix, new SessionSequenceSource(session));
         return postfix + "_" + String.format("%0" + SEQ_PAD_LENGTH + "d", nextVal);
     }
 
-    private String resolvePostfix(Object object) {
-        Table ann = object.getClass().getAnnotation(Table.class);
+    /**
+     * 로그 엔티티 클래스의 {@code @Table(name)}에서 Postfix 추출.
+     *
+     * <p>JDBC 배치 writer도 동일한 규칙으로 시퀀스명과 PK 접두어를 만들기 위해 공개한다.</p>
+     *
+     * @param logClass 로그 엔티티 클래스
+     * @return Postfix (예: {@code BPROJL})
+     */
+    public static String resolvePostfix(Class<?> logClass) {
+        Table ann = logClass.getAnnotation(Table.class);
         if (ann == null) {
-            throw new IllegalStateException("@Table 누락: " + object.getClass().getName());
+            throw new IllegalStateException("@Table 누락: " + logClass.getName());
         }
         // "TAAABB_BPROJL" → "BPROJL"
         String tbl = ann.name().toUpperCase();
@@ -41,21 +54,48 @@ public class AuditLogIdGenerator implements IdentifierGenerator {
         return idx >= 0 ? tbl.substring(idx + 1) : tbl;
     }
 
-    private long fetchNextVal(SharedSessionContractImplementor session, String seqName) {
-        // seqName은 @Table 어노테이션에서 파생된 값으로 사용자 입력이 아님
-        try {
-            Connection conn = session.getJdbcConnectionAccess().obtainConnection();
-            try (Statement st = conn.createStatement();
-                 ResultSet rs = st.executeQuery("SELECT " + seqName + ".NEXTVAL FROM DUAL")) {
-                if (rs.next()) {
-                    return rs.getLong(1);
+    /**
+     * Hibernate 세션의 JDBC 커넥션으로 시퀀스를 조회하는 {@link AuditLogIdAllocator.SequenceSource}.
+     *
+     * <p>시퀀스명은 {@code @Table} 어노테이션에서 파생된 값으로 사용자 입력이 아니다.</p>
+     */
+    private record SessionSequenceSource(SharedSessionContractImplementor session)
+            implements AuditLogIdAllocator.SequenceSource {
+
+        @Override
+        public long nextVal(String sequenceName) {
+            try {
+                Connection conn = session.getJdbcConnectionAccess().obtainConnection();
+                try (Statement st = conn.createStatement();
+                     ResultSet rs = st.executeQuery("SELECT " + sequenceName + ".NEXTVAL FROM DUAL")) {
+                    if (rs.next()) {
+                        return rs.getLong(1);
+                    }
+                    throw new IllegalStateException("NEXTVAL 조회 결과 없음: " + sequenceName);
+                } finally {
+                    session.getJdbcConnectionAccess().releaseConnection(conn);
+                }
+            } catch (Exception e) {
+                throw new RuntimeException("시퀀스 조회 오류: " + sequenceName, e);
+            }
+        }
+
+        @Override
+        public long incrementBy(String sequenceName) {
+            try {
+                Connection conn = session.getJdbcConnectionAccess().obtainConnection();
+                try (PreparedStatement ps = conn.prepareStatement(
+                        "SELECT INCREMENT_BY FROM USER_SEQUENCES WHERE SEQUENCE_NAME = ?")) {
+                    ps.setString(1, sequenceName);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        return rs.next() ? rs.getLong(1) : 1;
+                    }
+                } finally {
+                    session.getJdbcConnectionAccess().releaseConnection(conn);
                 }
-                throw new IllegalStateException("NEXTVAL 조회 결과 없음: " + seqName);
-            } finally {
-                session.getJdbcConnectionAccess().releaseConnection(conn);
+            } catch (Exception e) {
+                throw new RuntimeException("시퀀스 증가폭 조회 오류: " + sequenceName, e);
             }
-        } catch (Exception e) {
-            throw new RuntimeException("시퀀스 조회 오류: " + seqName, e);
         }
     }
 }
@@ -0,0 +1,161 @@
+package com.kdb.it.domain.log.listener;
+
+import com.kdb.it.domain.log.annotation.LogTarget;
+import com.kdb.it.domain.log.entity.BaseLogEntity;
+import jakarta.persistence.Column;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * (원본 엔티티 클래스, 로그 엔티티 클래스) 쌍별로 미리 컴파일된 컬럼 복사 계획.
+ *
+ * <p>원본 엔티티의 {@code @Column} 필드 중 로그 엔티티에 같은 컬럼명이 있는 것만 골라
+ * 로그 컬럼명 배열과 getter {@link MethodHandle} 배열로 평탄화해 둔다.
+ * 복사 시에는 클래스 계층 탐색·컬럼명 비교·{@code setAccessible} 없이 배열을 한 번 순회한다.</p>
+ *
+ * <p>계획은 원본 클래스를 키로 {@link ClassValue}에 캐시된다. 로그 클래스는 원본 클래스의
+ * {@link LogTarget#entity()}로 결정되므로 원본 클래스만으로 쌍이 유일하게 식별된다.
+ * 기동 시 {@link AuditLogPersister}가 JPA 메타모델의 {@code @LogTarget} 엔티티 전체를 미리 컴파일한다.</p>
+ */
+public final class AuditLogCopyPlan {
+
+    private static final ClassValue<AuditLogCopyPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected AuditLogCopyPlan computeValue(Class<?> sourceClass) {
+            LogTarget ann = sourceClass.getAnnotation(LogTarget.class);
+            if (ann == null) {
+                throw new IllegalArgumentException("@LogTarget 누락: " + sourceClass.getName());
+            }
+            return compile(sourceClass, ann.entity());
+        }
+    };
+
+    /** getter 호출 형태: (Object source) → Object value */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Class<? extends BaseLogEntity> logClass;
+
+    /** 로그 테이블 컬럼명 (대문자) */
+    private final String[] columns;
+
+    /** 원본 필드 getter ({@link #GETTER_TYPE}) */
+    private final MethodHandle[] getters;
+
+    /** byte[] 컬럼 여부 (가변 배열이므로 복사 필요) */
+    private final boolean[] arrayColumns;
+
+    private AuditLogCopyPlan(Class<? extends BaseLogEntity> logClass, String[] columns,
+                             MethodHandle[] getters, boolean[] arrayColumns) {
+        this.logClass = logClass;
+        this.columns = columns;
+        this.getters = getters;
+        this.arrayColumns = arrayColumns;
+    }
+
+    /**
+     * 원본 엔티티 클래스의 복사 계획 조회 (최초 1회 컴파일 후 캐시).
+     *
+     * @param sourceClass {@code @LogTarget}이 붙은 원본 엔티티 클래스
+     * @return 복사 계획
+     * @throws IllegalArgumentException {@code @LogTarget}이 없는 경우
+     */
+    public static AuditLogCopyPlan of(Class<?> sourceClass) {
+        return PLANS.get(sourceClass);
+    }
+
+    public Class<? extends BaseLogEntity> logClass() {
+        return logClass;
+    }
+
+    /** 복사 대상 컬럼 수 */
+    public int size() {
+        return columns.length;
+    }
+
+    /**
+     * 원본 엔티티의 컬럼 값을 로그 컬럼명 기준 불변 Map으로 복사.
+     *
+     * @param source 원본 엔티티 인스턴스
+     * @return 로그 컬럼명(대문자) → 값 (수정 불가, null 값 허용)
+     */
+    public Map<String, Object> copy(Object source) {
+        Map<String, Object> values = LinkedHashMap.newLinkedHashMap(columns.length);
+        for (int i = 0; i < getters.length; i++) {
+            Object value;
+            try {
+                value = (Object) getters[i].invokeExact(source);
+            } catch (Throwable t) {
+                throw new IllegalStateException("컬럼 값 읽기 실패: " + columns[i], t);
+            }
+            if (arrayColumns[i] && value != null) {
+                value = ((byte[]) value).clone();
+            }
+            values.put(columns[i], value);
+        }
+        return Collections.unmodifiableMap(values);
+    }
+
+    private static AuditLogCopyPlan compile(Class<?> sourceClass, Class<? extends BaseLogEntity> logClass) {
+        // 로그 컬럼명(대문자) → 로그 컬럼명: 원본 컬럼명과 대소문자 무시 매칭용
+        Map<String, String> logColumns = new LinkedHashMap<>();
+        for (Field f : collectColumnFields(logClass)) {
+            String name = columnName(f).toUpperCase();
+            logColumns.putIfAbsent(name, name);
+        }
+
+        Map<String, Field> matched = new LinkedHashMap<>();
+        for (Field f : collectColumnFields(sourceClass)) {
+            String column = logColumns.get(columnName(f).toUpperCase());
+            if (column != null) {
+                matched.putIfAbsent(column, f);
+            }
+        }
+
+        String[] columns = new String[matched.size()];
+        MethodHandle[] getters = new MethodHandle[matched.size()];
+        boolean[] arrayColumns = new boolean[matched.size()];
+        int i = 0;
+        for (Map.Entry<String, Field> e : matched.entrySet()) {
+            Field f = e.getValue();
+            columns[i] = e.getKey();
+            getters[i] = unreflectGetter(f);
+            arrayColumns[i] = f.getType() == byte[].class;
+            i++;
+        }
+        return new AuditLogCopyPlan(logClass, columns, getters, arrayColumns);
+    }
+
+    private static MethodHandle unreflectGetter(Field f) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(f.getDeclaringClass(), MethodHandles.lookup());
+            return lookup.unreflectGetter(f).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("필드 접근 불가: " + f, e);
+        }
+    }
+
+    private static String columnName(Field f) {
+        String name = f.getAnnotation(Column.class).name();
+        return name.isEmpty() ? f.getName() : name;
+    }
+
+    private static List<Field> collectColumnFields(Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field f : c.getDeclaredFields()) {
+                if (f.isAnnotationPresent(Column.class)) {
+                    fields.add(f);
+                }
+            }
+        }
+        return fields;
+    }
+}
@@ -1,38 +1,67 @@
 package com.kdb.it.domain.log.listener;
 
+import com.kdb.it.domain.log.annotation.LogTarget;
 import com.kdb.it.domain.log.entity.BaseLogEntity;
-import jakarta.persistence.Column;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import com.kdb.it.domain.log.writer.AuditLogSnapshot;
+import com.kdb.it.domain.log.writer.AuditLogWriteQueue;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.lang.reflect.Field;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
- * 변경 로그 영속화 컴포넌트.
+ * 변경 로그 스냅샷 캡처 컴포넌트.
  *
- * <p>원본 엔티티의 {@code @Column} 필드를 리플렉션으로 복사하여
- * 대응하는 로그 엔티티를 현재 트랜잭션 내에 INSERT한다.</p>
+ * <p>원본 엔티티의 컬럼 값을 {@link AuditLogCopyPlan}으로 읽어 대응하는 로그 엔티티 컬럼명 기준의
+ * 불변 {@link AuditLogSnapshot}을 만들고, {@link AuditLogWriteQueue}에 제출한다.
+ * 실제 INSERT는 업무 트랜잭션 커밋 후 writer 스레드가 JDBC 배치로 수행한다.</p>
  *
  * <p>{@link ChangeLogEntityListener}의 {@code @PrePersist}/{@code @PreUpdate} 콜백에서
- * 직접 호출된다. Pre 콜백은 Hibernate ActionQueue 이터레이션 이전에 실행되므로
- * {@code entityManager.persist()}를 안전하게 호출할 수 있다.</p>
+ * 직접 호출된다. 값은 콜백 시점에 복사되므로 이후 엔티티가 변경되어도 로그 내용은 고정된다.</p>
  */
 @Component
-@Transactional
+@RequiredArgsConstructor
 public class AuditLogPersister {
 
-    @PersistenceContext
-    private EntityManager entityManager;
+    private static final Logger log = LoggerFactory.getLogger(AuditLogPersister.class);
+
+    private final AuditLogWriteQueue writeQueue;
+
+    private final EntityManagerFactory entityManagerFactory;
 
     /**
-     * 변경 로그 INSERT.
+     * 기동 시 JPA 메타모델의 {@code @LogTarget} 엔티티 전체에 대해 복사 계획을 미리 컴파일.
+     *
+     * <p>첫 업무 요청에서 컴파일 비용이 발생하지 않도록 하며, 매핑 오류가 있으면 기동 로그에 남긴다.
+     * 컴파일 실패는 기동을 막지 않는다(해당 엔티티 로그만 기록 실패 → {@link ChangeLogEntityListener}가 경고).</p>
+     */
+    @PostConstruct
+    void precompilePlans() {
+        int compiled = 0;
+        for (EntityType<?> type : entityManagerFactory.getMetamodel().getEntities()) {
+            Class<?> javaType = type.getJavaType();
+            if (javaType == null || !javaType.isAnnotationPresent(LogTarget.class)) {
+                continue;
+            }
+            try {
+                AuditLogCopyPlan.of(javaType);
+                compiled++;
+            } catch (RuntimeException e) {
+                log.warn("[감사로그 복사 계획 컴파일 실패] entity={}, reason={}", javaType.getSimpleName(), e.getMessage());
+            }
+        }
+        log.info("[감사로그] 복사 계획 {}건 컴파일 완료", compiled);
+    }
+
+    /**
+     * 변경 로그 스냅샷 캡처 및 쓰기 큐 제출.
      *
      * @param sourceEntity 원본 엔티티 (CUD 이벤트 발생 엔티티)
      * @param logClass     대응하는 로그 엔티티 클래스
@@ -40,71 +69,12 @@ public class AuditLogPersister {
      */
     public void persist(Object sourceEntity, Class<? extends BaseLogEntity> logClass, String chgTp) {
         try {
-            var ctor = logClass.getDeclaredConstructor();
-            ctor.setAccessible(true);
-            BaseLogEntity logEntity = (BaseLogEntity) ctor.newInstance();
-
-            setField(logEntity, "chgTp", chgTp);
-            setField(logEntity, "chgDtm", LocalDateTime.now());
-            setField(logEntity, "chgUsid", resolveCurrentUserId());
-
-            copyColumnFields(sourceEntity, logEntity);
-
-            entityManager.persist(logEntity);
+            AuditLogCopyPlan plan = AuditLogCopyPlan.of(sourceEntity.getClass());
+            writeQueue.submit(new AuditLogSnapshot(
+                    logClass, chgTp, LocalDateTime.now(), resolveCurrentUserId(), plan.copy(sourceEntity)));
         } catch (Exception e) {
-            throw new RuntimeException("변경 로그 INSERT 실패: " + logClass.getSimpleName(), e);
-        }
-    }
-
-    private void copyColumnFields(Object source, BaseLogEntity target) throws IllegalAccessException {
-        List<Field> sourceFields = collectColumnFields(source.getClass());
-        List<Field> targetFields = collectColumnFields(target.getClass());
-
-        for (Field sf : sourceFields) {
-            String colName = columnName(sf);
-            for (Field tf : targetFields) {
-                if (colName.equalsIgnoreCase(columnName(tf))) {
-                    sf.setAccessible(true);
-                    tf.setAccessible(true);
-                    tf.set(target, sf.get(source));
-                    break;
-                }
-            }
-        }
-    }
-
-    private String columnName(Field f) {
-        String name = f.getAnnotation(Column.class).name();
-        return name.isEmpty() ? f.getName() : name;
-    }
-
-    private List<Field> collectColumnFields(Class<?> clazz) {
-        List<Field> fields = new ArrayList<>();
-        Class<?> c = clazz;
-        while (c != null && c != Object.class) {
-            for (Field f : c.getDeclaredFields()) {
-                if (f.isAnnotationPresent(Column.class)) {
-                    fields.add(f);
-                }
-            }
-            c = c.getSuperclass();
-        }
-        return fields;
-    }
-
-    private void setField(Object target, String fieldName, Object value) throws Exception {
-        Class<?> c = target.getClass();
-        while (c != null) {
-            try {
-                Field f = c.getDeclaredField(fieldName);
-                f.setAccessible(true);
-                f.set(target, value);
-                return;
-            } catch (NoSuchFieldException e) {
-                c = c.getSuperclass();
-            }
+            throw new RuntimeException("변경 로그 스냅샷 캡처 실패: " + logClass.getSimpleName(), e);
         }
-        throw new NoSuchFieldException("필드를 찾을 수 없음: " + fieldName);
     }
 
     private String resolveCurrentUserId() {
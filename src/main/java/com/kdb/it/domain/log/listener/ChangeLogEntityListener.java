@@ -16,15 +16,16 @@ import org.slf4j.LoggerFactory;
  * JPA 엔티티 변경 이벤트 리스너.
  *
  * <p>{@link LogTarget}이 붙은 엔티티의 {@code @PrePersist} / {@code @PreUpdate} 이벤트를
- * 감지하여 {@link AuditLogPersister}로 로그 INSERT를 위임한다.</p>
+ * 감지하여 {@link AuditLogPersister}로 로그 스냅샷 캡처를 위임한다.
+ * 실제 INSERT는 업무 트랜잭션 커밋 후 {@link com.kdb.it.domain.log.writer.AuditLogWriteQueue}가
+ * JDBC 배치로 비동기 처리한다.</p>
  *
  * <p>JPA가 직접 인스턴스화하므로 Spring 빈이 아니며,
  * {@link ApplicationContextHolder}를 통해 {@link AuditLogPersister}를 조회한다.</p>
  *
  * <p>{@code @PostPersist}/{@code @PostUpdate} 대신 {@code @PrePersist}/{@code @PreUpdate}를
- * 사용하는 이유: Post 콜백은 Hibernate ActionQueue 이터레이션 도중 호출되므로
- * {@code entityManager.persist()}를 호출하면 {@link java.util.ConcurrentModificationException}이
- * 발생한다. Pre 콜백은 이터레이션 이전에 호출되므로 안전하다.</p>
+ * 사용하는 이유: 스냅샷이 flush 직전의 엔티티 값을 담아야 하며, Post 콜백은 Hibernate ActionQueue
+ * 이터레이션 도중 호출되어 영속성 컨텍스트 조작이 불안전하다.</p>
  *
  * <p>동일 트랜잭션 내 AUTO flush → commit flush 이중 실행 방지:
  * {@code AuditingEntityListener}가 {@code @PreUpdate}에서 {@code lstChgDtm}을 변경하면
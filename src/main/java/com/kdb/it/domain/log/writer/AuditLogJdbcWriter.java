@@ -0,0 +1,183 @@
+package com.kdb.it.domain.log.writer;
+
+import com.kdb.it.domain.log.entity.BaseLogEntity;
+import com.kdb.it.domain.log.id.AuditLogIdAllocator;
+import com.kdb.it.domain.log.id.AuditLogIdGenerator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Field;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 변경 로그 JDBC 배치 INSERT 컴포넌트.
+ *
+ * <p>{@link AuditLogSnapshot} 목록을 로그 테이블별로 묶어 {@link JdbcTemplate#batchUpdate}로
+ * 한 번에 INSERT한다. 엔티티 매니저를 거치지 않으므로 영속성 컨텍스트·dirty checking 비용이 없다.</p>
+ *
+ * <p>PK({@code LOG_SNO})는 {@link AuditLogIdGenerator}와 동일한 형식({@code {Postfix}_{22자리_0패딩}})이다.
+ * 시퀀스가 블록 DDL({@code INCREMENT BY N})로 생성되어 있으면 {@link AuditLogIdAllocator}가 메모리에서 배분한
+ * 값을 바인딩하고(블록당 NEXTVAL 1회), 미적용 시퀀스는 INSERT 문 안의 {@code S_{Postfix}.NEXTVAL}로
+ * 생성하여 어느 경우에도 행마다 시퀀스 조회 왕복이 발생하지 않도록 한다.</p>
+ *
+ * <p>한 번의 {@link #write(List)} 호출은 하나의 트랜잭션으로 처리되어, 실패 시 전체가 롤백되고
+ * 호출자({@link AuditLogWriteQueue})가 spill 파일로 보존한다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditLogJdbcWriter {
+
+    /** 로그 테이블 공통 헤더 컬럼 (스냅샷 columns에서 제외하고 별도 바인딩) */
+    private static final List<String> HEADER_COLUMNS = List.of("LOG_SNO", "CHG_TP", "CHG_DTM", "CHG_USID");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 블록 소진 시 시퀀스 조회 수단 */
+    private final AuditLogIdAllocator.SequenceSource sequenceSource = new JdbcSequenceSource();
+
+    /** 로그 엔티티 클래스별 INSERT 명세 캐시 */
+    private final Map<Class<? extends BaseLogEntity>, InsertSpec> specs = new ConcurrentHashMap<>();
+
+    /**
+     * 스냅샷 목록 배치 INSERT.
+     *
+     * @param snapshots INSERT할 스냅샷 목록 (여러 로그 테이블 혼재 가능)
+     * @return INSERT된 행 수
+     */
+    @Transactional
+    public int write(List<AuditLogSnapshot> snapshots) {
+        Map<Class<? extends BaseLogEntity>, List<AuditLogSnapshot>> byLogClass = new LinkedHashMap<>();
+        for (AuditLogSnapshot s : snapshots) {
+            byLogClass.computeIfAbsent(s.logClass(), k -> new ArrayList<>()).add(s);
+        }
+
+        int written = 0;
+        for (Map.Entry<Class<? extends BaseLogEntity>, List<AuditLogSnapshot>> entry : byLogClass.entrySet()) {
+            InsertSpec spec = specs.computeIfAbsent(entry.getKey(), this::createSpec);
+            List<Object[]> args = new ArrayList<>(entry.getValue().size());
+            for (AuditLogSnapshot s : entry.getValue()) {
+                args.add(spec.bind(s, spec.boundId() ? nextLogSno(spec.postfix()) : null));
+            }
+            jdbcTemplate.batchUpdate(spec.sql(), args);
+            written += args.size();
+        }
+        return written;
+    }
+
+    private InsertSpec createSpec(Class<? extends BaseLogEntity> logClass) {
+        String sequence = "S_" + AuditLogIdGenerator.resolvePostfix(logClass);
+        return InsertSpec.of(logClass, AuditLogIdAllocator.shared().blockSize(sequence, sequenceSource) > 1);
+    }
+
+    private String nextLogSno(String postfix) {
+        long value = AuditLogIdAllocator.shared().next("S_" + postfix, sequenceSource);
+        return postfix + "_" + String.format("%0" + AuditLogIdGenerator.SEQ_PAD_LENGTH + "d", value);
+    }
+
+    /**
+     * 로그 테이블 1개에 대한 INSERT SQL 및 바인딩 컬럼 명세.
+     *
+     * @param sql        {@code INSERT INTO ... VALUES (...)} 문
+     * @param postfix    로그 테이블 Postfix (시퀀스명·PK 접두어)
+     * @param boundId    {@code true}면 LOG_SNO를 바인딩, {@code false}면 INSERT 문 안에서 NEXTVAL로 생성
+     * @param columns    헤더 컬럼을 제외한 데이터 컬럼명 (바인딩 순서)
+     * @param lobTypes   데이터 컬럼별 LOB 타입 ({@link Types#CLOB}/{@link Types#BLOB}, LOB이 아니면 0)
+     */
+    record InsertSpec(String sql, String postfix, boolean boundId, String[] columns, int[] lobTypes) {
+
+        static InsertSpec of(Class<? extends BaseLogEntity> logClass, boolean boundId) {
+            String postfix = AuditLogIdGenerator.resolvePostfix(logClass);
+            String table = logClass.getAnnotation(Table.class).name();
+
+            List<String> columns = new ArrayList<>();
+            List<Integer> lobTypes = new ArrayList<>();
+            for (Class<?> c = logClass; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field f : c.getDeclaredFields()) {
+                    Column col = f.getAnnotation(Column.class);
+                    if (col == null) {
+                        continue;
+                    }
+                    String name = (col.name().isEmpty() ? f.getName() : col.name()).toUpperCase();
+                    if (HEADER_COLUMNS.contains(name)) {
+                        continue;
+                    }
+                    columns.add(name);
+                    lobTypes.add(f.isAnnotationPresent(Lob.class)
+                            ? (f.getType() == byte[].class ? Types.BLOB : Types.CLOB)
+                            : 0);
+                }
+            }
+
+            StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                    .append(" (").append(String.join(", ", HEADER_COLUMNS));
+            for (String col : columns) {
+                sql.append(", ").append(col);
+            }
+            sql.append(") VALUES (");
+            if (boundId) {
+                sql.append('?');
+            } else {
+                // 블록 DDL 미적용: AuditLogIdGenerator와 동일 형식을 DB 측에서 생성 (행별 NEXTVAL 조회 왕복 제거)
+                sql.append('\'').append(postfix).append("_' || LPAD(S_").append(postfix)
+                        .append(".NEXTVAL, ").append(AuditLogIdGenerator.SEQ_PAD_LENGTH).append(", '0')");
+            }
+            sql.append(", ?, ?, ?").append(", ?".repeat(columns.size())).append(')');
+
+            return new InsertSpec(sql.toString(), postfix, boundId, columns.toArray(String[]::new),
+                    lobTypes.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        /**
+         * INSERT 바인딩 값 생성.
+         *
+         * @param logSno {@link #boundId()}일 때 바인딩할 PK (아니면 무시)
+         */
+        Object[] bind(AuditLogSnapshot s, String logSno) {
+            int offset = boundId ? 1 : 0;
+            Object[] args = new Object[offset + 3 + columns.length];
+            if (boundId) {
+                args[0] = logSno;
+            }
+            args[offset] = s.chgTp();
+            args[offset + 1] = s.chgDtm() != null ? Timestamp.valueOf(s.chgDtm()) : null;
+            args[offset + 2] = s.chgUsid();
+            for (int i = 0; i < columns.length; i++) {
+                Object value = s.columns().get(columns[i]);
+                args[offset + 3 + i] = lobTypes[i] != 0 ? new SqlParameterValue(lobTypes[i], value) : value;
+            }
+            return args;
+        }
+    }
+
+    /** JdbcTemplate 기반 시퀀스 조회 (시퀀스명은 {@code @Table}에서 파생된 값으로 사용자 입력이 아님) */
+    private class JdbcSequenceSource implements AuditLogIdAllocator.SequenceSource {
+
+        @Override
+        public long nextVal(String sequenceName) {
+            Long value = jdbcTemplate.queryForObject("SELECT " + sequenceName + ".NEXTVAL FROM DUAL", Long.class);
+            if (value == null) {
+                throw new IllegalStateException("NEXTVAL 조회 결과 없음: " + sequenceName);
+            }
+            return value;
+        }
+
+        @Override
+        public long incrementBy(String sequenceName) {
+            List<Long> rows = jdbcTemplate.queryForList(
+                    "SELECT INCREMENT_BY FROM USER_SEQUENCES WHERE SEQUENCE_NAME = ?", Long.class, sequenceName);
+            return rows.isEmpty() || rows.get(0) == null ? 1 : rows.get(0);
+        }
+    }
+}
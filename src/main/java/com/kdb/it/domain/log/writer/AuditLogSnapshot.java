@@ -0,0 +1,35 @@
+package com.kdb.it.domain.log.writer;
+
+import com.kdb.it.domain.log.entity.BaseLogEntity;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 변경 로그 1건의 불변 스냅샷.
+ *
+ * <p>{@code @PrePersist}/{@code @PreUpdate} 시점의 원본 엔티티 컬럼 값을 로그 테이블 컬럼명 기준으로
+ * 복사해 둔 값 객체다. 이후 원본 엔티티가 변경되어도 스냅샷은 영향을 받지 않으므로
+ * 트랜잭션 커밋 이후 별도 스레드에서 안전하게 INSERT할 수 있다.</p>
+ *
+ * <p>장애 대비 spill 파일에 직렬화되어 저장되므로 {@link Serializable}을 구현한다.
+ * 컬럼 값은 String/Integer/BigDecimal/LocalDate/LocalDateTime/byte[] 등 직렬화 가능한 타입만 담긴다.</p>
+ *
+ * @param logClass 대응하는 로그 엔티티 클래스
+ * @param chgTp    변경유형 ('C'=생성, 'U'=수정, 'D'=논리삭제)
+ * @param chgDtm   변경일시 (스냅샷 캡처 시각)
+ * @param chgUsid  변경자사번 (비인증 시 null)
+ * @param columns  로그 테이블 컬럼명(대문자) → 값 (수정 불가 Map, null 값 허용)
+ */
+public record AuditLogSnapshot(
+        Class<? extends BaseLogEntity> logClass,
+        String chgTp,
+        LocalDateTime chgDtm,
+        String chgUsid,
+        Map<String, Object> columns) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+}
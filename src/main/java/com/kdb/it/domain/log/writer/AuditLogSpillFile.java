@@ -0,0 +1,51 @@
+package com.kdb.it.domain.log.writer;
+
+import com.kdb.it.common.writer.SpillFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Path;
+
+/**
+ * 변경 로그 spill 파일 (장애 대비 내구성 버퍼).
+ *
+ * <p>파일 관리·재처리 방식은 {@link SpillFile}을 따르며, 레코드 본문은 Java 직렬화된 {@link AuditLogSnapshot}이다.
+ * 역직렬화는 스냅샷과 컬럼 값 타입만 허용한다.</p>
+ */
+public class AuditLogSpillFile extends SpillFile<AuditLogSnapshot> {
+
+    /** 역직렬화 허용 클래스 (스냅샷과 컬럼 값 타입 외에는 거부) */
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+            "com.kdb.it.domain.log.**;java.lang.*;java.math.*;java.time.*;java.util.*;!*");
+
+    /** 레코드 1건 최대 크기 (LOB 컬럼 포함 스냅샷 상한, 손상된 길이 헤더 방어용) */
+    private static final int MAX_RECORD_BYTES = 64 * 1024 * 1024;
+
+    public AuditLogSpillFile(Path dir) {
+        super(dir, "audit-log", MAX_RECORD_BYTES);
+    }
+
+    @Override
+    protected byte[] encode(AuditLogSnapshot s) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(512);
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(s);
+        }
+        return bos.toByteArray();
+    }
+
+    @Override
+    protected AuditLogSnapshot decode(byte[] bytes) throws IOException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            ois.setObjectInputFilter(FILTER);
+            return (AuditLogSnapshot) ois.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new InvalidClassException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.kdb.it.domain.log.writer;
+
+import com.kdb.it.common.writer.BatchWriteQueue;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Paths;
+
+/**
+ * 변경 로그 비동기 배치 쓰기 큐.
+ *
+ * <p>{@link com.kdb.it.domain.log.listener.AuditLogPersister}가 캡처한 {@link AuditLogSnapshot}을 받아
+ * 업무 트랜잭션이 <b>커밋된 후에만</b> 메모리 큐에 적재하고, 전용 스레드가 큐를 비우며
+ * {@link AuditLogJdbcWriter}로 JDBC 배치 INSERT한다. 업무 flush에는 로그 INSERT가 포함되지 않으므로
+ * 대량 저장(예: 편성률 일괄 적용 300건)에서 트랜잭션 내 행 수가 두 배가 되지 않는다.</p>
+ *
+ * <p>큐·재시도·spill 처리는 {@link BatchWriteQueue}를 따른다. 감사로그는 유실되면 안 되므로
+ * 큐가 가득 차면 커밋 스레드가 최대 {@code offer-timeout-ms} 동안 대기하고, 초과분은 {@link AuditLogSpillFile}에 보존한다.</p>
+ *
+ * <p>[메트릭] {@code audit.log.queue.depth}(큐 적재 건수), {@code audit.log.write.lag}(커밋→INSERT 지연),
+ * {@code audit.log.written}, {@code audit.log.retries}, {@code audit.log.spilled}, {@code audit.log.dropped},
+ * {@code audit.log.write.failures}</p>
+ */
+@Component
+public class AuditLogWriteQueue extends BatchWriteQueue<AuditLogSnapshot> {
+
+    /**
+     * @param writer         JDBC 배치 INSERT 컴포넌트
+     * @param meterRegistry  메트릭 등록 대상
+     * @param queueCapacity  메모리 큐 최대 적재 건수
+     * @param batchSize      1회 INSERT 배치 최대 건수
+     * @param pollIntervalMs 큐가 비어 있을 때 writer 스레드 대기 시간 (ms)
+     * @param offerTimeoutMs 큐 포화 시 커밋 스레드 최대 대기 시간 (ms) — 초과분은 spill 파일로 보존
+     * @param maxAttempts    배치 1건 최대 INSERT 시도 횟수 — 초과 시 spill 파일로 보존
+     * @param retryBackoffMs 재시도 기본 대기 시간 (ms)
+     * @param spillDir       spill 파일 저장 디렉토리 (서버 인스턴스별 로컬 경로 권장)
+     */
+    public AuditLogWriteQueue(AuditLogJdbcWriter writer, MeterRegistry meterRegistry,
+            @Value("${app.audit-log.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.audit-log.batch-size:500}") int batchSize,
+            @Value("${app.audit-log.poll-interval-ms:200}") long pollIntervalMs,
+            @Value("${app.audit-log.offer-timeout-ms:50}") long offerTimeoutMs,
+            @Value("${app.audit-log.max-attempts:3}") int maxAttempts,
+            @Value("${app.audit-log.retry-backoff-ms:200}") long retryBackoffMs,
+            @Value("${app.audit-log.spill-dir:/data/audit-log}") String spillDir) {
+        super(Settings.builder()
+                        .label("감사로그")
+                        .metricPrefix("audit.log")
+                        .threadName("audit-log-writer")
+                        .queueCapacity(queueCapacity)
+                        .batchSize(batchSize)
+                        .pollIntervalMs(pollIntervalMs)
+                        .lingerMs(0)
+                        .offerTimeoutMs(offerTimeoutMs)
+                        .dropOnOverflow(false)
+                        .maxAttempts(maxAttempts)
+                        .retryBackoffMs(retryBackoffMs)
+                        .build(),
+                writer::write, new AuditLogSpillFile(Paths.get(spillDir)), meterRegistry);
+    }
+}
@@ -1,14 +1,16 @@
 package com.kdb.it.infra.file.controller;
 
+import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 
 import com.kdb.it.infra.file.dto.FileDto;
+import com.kdb.it.infra.file.service.FileRenditionService;
 import com.kdb.it.infra.file.service.FileService;
 
 import org.springframework.http.ContentDisposition;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -25,6 +28,8 @@ import org.springframework.web.multipart.MultipartFile;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -40,8 +45,8 @@ import lombok.RequiredArgsConstructor;
  * </p>
  *
  * <p>
- * 서버 파일명 채번 규칙: {@code {서버ID}_{yyyyMMddHHmmss}_{UUID}.{확장자}}
- * → 1번·2번 서버 동시 운영 시 파일명 충돌 완전 방지
+ * 물리 파일은 내용 해시(SHA-256)를 파일명으로 저장하여 같은 내용의 파일은 한 번만 저장합니다
+ * → 1번·2번 서버 동시 운영 시에도 파일명 충돌 없음
  * </p>
  *
  * <p>
@@ -57,6 +62,9 @@ public class FileController {
         /** 공통 첨부파일 비즈니스 로직 서비스 */
         private final FileService fileService;
 
+        /** 이미지 미리보기 축소본 서비스 */
+        private final FileRenditionService fileRenditionService;
+
         // ─────────────────────────────────────────
         // 조회
         // ─────────────────────────────────────────
@@ -116,7 +124,7 @@ public class FileController {
          * </p>
          *
          * <p>
-         * 서버 파일명은 {@code {서버ID}_{yyyyMMddHHmmss}_{UUID}.{확장자}} 형식으로 자동 채번됩니다.
+         * 서버 파일명은 파일 내용의 SHA-256 해시이며, 같은 내용의 파일이 이미 있으면 새로 저장하지 않고 공유합니다.
          * </p>
          *
          * @param file    업로드 파일 (multipart)
@@ -127,7 +135,7 @@ public class FileController {
          */
         @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
         @Operation(summary = "파일 단건 업로드", description = "multipart/form-data 형식으로 파일 1개를 업로드합니다. " +
-                        "서버 파일명은 {서버ID}_{타임스탬프}_{UUID}.{확장자} 형식으로 자동 채번됩니다. " +
+                        "서버 파일명은 파일 내용의 SHA-256 해시이며, 같은 내용의 파일은 한 번만 저장됩니다. " +
                         "파일관리번호는 Oracle 시퀀스(S_FL) 기반으로 FL_{8자리} 형식으로 생성됩니다. " +
                         "응답에 previewUrl, downloadUrl이 포함되어 Tiptap 에디터에서 바로 사용 가능합니다.")
         public ResponseEntity<FileDto.Response> uploadFile(
@@ -265,15 +273,27 @@ public class FileController {
          * 파일명은 UTF-8 인코딩됩니다 (한글 파일명 지원).
          * </p>
          *
-         * @param flMngNo 다운로드할 파일관리번호
-         * @return HTTP 200 + 파일 바이너리 (다운로드)
+         * <p>
+         * {@code Range} 요청 시 해당 구간만 206으로 전송하여 중단된 다운로드를 이어받을 수 있고,
+         * {@code If-None-Match}가 현재 ETag와 같으면 304로 응답합니다.
+         * 파일 본문은 힙에 올리지 않고 sendfile 또는 {@code FileChannel.transferTo}로 전송합니다
+         * ({@link FileDownloadResponder}).
+         * </p>
+         *
+         * @param flMngNo  다운로드할 파일관리번호
+         * @param request  HTTP 요청 (Range·조건부 헤더)
+         * @param response HTTP 응답
+         * @throws IOException 파일 전송 실패 시
          */
         @GetMapping("/{flMngNo}/download")
         @Operation(summary = "파일 다운로드", description = "파일관리번호로 파일을 다운로드합니다. " +
                         "응답 헤더에 Content-Disposition: attachment가 설정되어 브라우저에서 자동 다운로드됩니다. " +
-                        "원본파일명이 그대로 사용되며 한글 파일명도 UTF-8로 지원합니다.")
-        public ResponseEntity<org.springframework.core.io.Resource> downloadFile(
-                        @PathVariable("flMngNo") String flMngNo) {
+                        "원본파일명이 그대로 사용되며 한글 파일명도 UTF-8로 지원합니다. " +
+                        "Range 요청(206 Partial Content)과 ETag 조건부 요청(304 Not Modified)을 지원합니다.")
+        public void downloadFile(
+                        @PathVariable("flMngNo") String flMngNo,
+                        HttpServletRequest request,
+                        HttpServletResponse response) throws IOException {
 
                 FileService.FileDownloadResult result = fileService.downloadFile(flMngNo);
 
@@ -282,13 +302,8 @@ public class FileController {
                                 .filename(result.originalFilename(), StandardCharsets.UTF_8)
                                 .build();
 
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentDisposition(contentDisposition);
-
-                return ResponseEntity.ok()
-                                .headers(headers)
-                                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                                .body(result.resource());
+                FileDownloadResponder.send(request, response, result, contentDisposition,
+                                MediaType.APPLICATION_OCTET_STREAM);
         }
 
         /**
@@ -303,6 +318,7 @@ public class FileController {
          * Tiptap 에디터의 {@code <img src="/api/files/{flMngNo}/preview">} 형태로 사용합니다.
          * JWT Access Token이 httpOnly 쿠키에 저장되므로 브라우저가 자동으로 쿠키를 전송하여
          * 별도 인증 처리 없이 이미지가 정상 표시됩니다.
+         * 에디터 재조회 시에는 ETag 재검증으로 304가 반환되어 파일을 다시 읽지 않습니다.
          * </p>
          *
          * <p>
@@ -310,16 +326,31 @@ public class FileController {
          * (image/jpeg, image/png 등 → 브라우저 이미지 렌더링 정상 동작).
          * </p>
          *
-         * @param flMngNo 미리보기할 파일관리번호
-         * @return HTTP 200 + 이미지 바이너리 (인라인 표시, 정확한 MIME 타입)
+         * <p>
+         * {@code w}(너비, px)를 지정하면 해당 너비 이상의 축소본(JPEG 또는 PNG)을 반환하며,
+         * 내용이 바뀌지 않으므로 {@code Cache-Control: immutable}로 장기 캐시합니다
+         * (예: {@code <img src="/api/files/FL_00000001/preview?w=640">}).
+         * 이미지가 아니거나 원본이 더 작거나 서버가 바쁘면 원본을 반환합니다.
+         * </p>
+         *
+         * @param flMngNo  미리보기할 파일관리번호
+         * @param width    축소본 너비 (px, 선택)
+         * @param request  HTTP 요청 (Range·조건부 헤더)
+         * @param response HTTP 응답
+         * @throws IOException 파일 전송 실패 시
          */
         @GetMapping("/{flMngNo}/preview")
         @Operation(summary = "이미지 미리보기", description = "이미지 파일을 브라우저에서 인라인으로 표시합니다. " +
                         "파일구분이 '이미지'인 파일에 사용하세요. " +
                         "Content-Type이 파일 확장자 기반으로 자동 감지되어 브라우저에서 이미지가 올바르게 렌더링됩니다. " +
-                        "Tiptap 에디터의 img src로 사용 시 httpOnly 쿠키 인증이 자동 적용됩니다.")
-        public ResponseEntity<org.springframework.core.io.Resource> previewFile(
-                        @PathVariable("flMngNo") String flMngNo) {
+                        "Tiptap 에디터의 img src로 사용 시 httpOnly 쿠키 인증이 자동 적용됩니다. " +
+                        "Range 요청과 ETag 조건부 요청(304 Not Modified)을 지원합니다. " +
+                        "w(너비, px)를 지정하면 축소본을 장기 캐시 헤더와 함께 반환합니다.")
+        public void previewFile(
+                        @PathVariable("flMngNo") String flMngNo,
+                        @Parameter(description = "축소본 너비 (px, 160/320/640/1280/1920 단계로 맞춤)") @RequestParam(value = "w", required = false) Integer width,
+                        HttpServletRequest request,
+                        HttpServletResponse response) throws IOException {
 
                 FileService.FileDownloadResult result = fileService.downloadFile(flMngNo);
 
@@ -328,16 +359,21 @@ public class FileController {
                                 .filename(result.originalFilename(), StandardCharsets.UTF_8)
                                 .build();
 
-                HttpHeaders headers = new HttpHeaders();
-                headers.setContentDisposition(contentDisposition);
-
                 // 파일 확장자 기반 MIME 타입 사용 (image/jpeg, image/png 등)
                 // → APPLICATION_OCTET_STREAM 반환 시 브라우저가 이미지를 렌더링하지 않음
                 MediaType mediaType = MediaType.parseMediaType(result.contentType());
 
-                return ResponseEntity.ok()
-                                .headers(headers)
-                                .contentType(mediaType)
-                                .body(result.resource());
+                // 축소본 요청: 생성되면 축소본을 장기 캐시, 아니면 원본을 일반 정책으로 반환
+                if (width != null) {
+                        Optional<FileService.FileDownloadResult> rendition = fileRenditionService.getRendition(result, width);
+                        if (rendition.isPresent()) {
+                                FileService.FileDownloadResult thumb = rendition.get();
+                                FileDownloadResponder.send(request, response, thumb, contentDisposition,
+                                                MediaType.parseMediaType(thumb.contentType()), FileDownloadResponder.IMMUTABLE);
+                                return;
+                        }
+                }
+
+                FileDownloadResponder.send(request, response, result, contentDisposition, mediaType);
         }
 }
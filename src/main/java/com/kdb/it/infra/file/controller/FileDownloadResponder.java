@@ -0,0 +1,247 @@
+package com.kdb.it.infra.file.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+import com.kdb.it.infra.file.service.FileService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.DisconnectedClientHelper;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 파일 다운로드/미리보기 응답 작성기
+ *
+ * <p>
+ * {@link FileController}의 {@code /download}, {@code /preview} 응답을 조건부 요청과 Range 요청에 맞춰 작성합니다.
+ * 파일 내용은 힙에 올리지 않고 필요한 구간만 전송합니다.
+ * </p>
+ *
+ * <ul>
+ * <li>조건부 요청: {@code ETag}(파일관리번호·크기·수정일시)와 {@code Last-Modified}로
+ * {@code If-None-Match}/{@code If-Modified-Since}를 판단하여 일치하면 본문 없이 304</li>
+ * <li>Range: 단일 구간({@code bytes=s-e}, {@code bytes=s-}, {@code bytes=-n})은 206,
+ * 파일 범위를 벗어나면 416, 다중 구간·형식 오류는 무시하고 전체 200 (RFC 9110 허용)</li>
+ * <li>If-Range: 강한 ETag 또는 수정일시(초 단위)가 같을 때만 Range 적용, 다르면 전체 200</li>
+ * <li>전송: Tomcat sendfile 지원 시 커널 zero-copy({@code sendfile}), 그 외에는
+ * {@link FileChannel#transferTo}로 요청 구간만 스트리밍</li>
+ * </ul>
+ *
+ * <p>
+ * 캐시 정책은 기본 {@link #REVALIDATE}({@code private, no-cache})입니다. 브라우저는 매번 재검증하지만
+ * 파일이 그대로면 304로 끝나므로 에디터 이미지({@code <img src=".../preview">}) 재조회 시 NAS를 읽지 않습니다.
+ * 미리보기 축소본은 {@link #IMMUTABLE}로 재검증 요청도 생략합니다.
+ * </p>
+ */
+final class FileDownloadResponder {
+
+    private static final Logger log = LoggerFactory.getLogger(FileDownloadResponder.class);
+
+    /** Tomcat sendfile 요청 속성 (NIO/NIO2 커넥터 {@code useSendfile=true}일 때 지원) */
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /** sendfile 최소 전송 크기 (Tomcat DefaultServlet 기본 sendfileSize와 동일, 작은 응답은 직접 쓰기가 더 저렴) */
+    static final long SENDFILE_MIN_BYTES = 48 * 1024;
+
+    /** 기본 캐시 정책: 매번 ETag로 재검증 */
+    static final String REVALIDATE = "private, no-cache";
+
+    /** 불변 응답 캐시 정책 (미리보기 축소본: 파일관리번호 내용은 바뀌지 않음) */
+    static final String IMMUTABLE = "private, max-age=31536000, immutable";
+
+    private static final String BYTES_PREFIX = "bytes=";
+
+    private FileDownloadResponder() {
+    }
+
+    /**
+     * 파일 응답 작성
+     *
+     * @param request     HTTP 요청 (조건부·Range 헤더)
+     * @param response    HTTP 응답
+     * @param file        다운로드 대상 파일
+     * @param disposition Content-Disposition (attachment 또는 inline)
+     * @param mediaType   응답 Content-Type
+     * @throws IOException 파일 읽기 실패 시 (클라이언트 연결 종료는 예외 없이 종료)
+     */
+    static void send(HttpServletRequest request, HttpServletResponse response,
+            FileService.FileDownloadResult file, ContentDisposition disposition, MediaType mediaType)
+            throws IOException {
+        send(request, response, file, disposition, mediaType, REVALIDATE);
+    }
+
+    /**
+     * 파일 응답 작성 (캐시 정책 지정)
+     *
+     * @param request      HTTP 요청 (조건부·Range 헤더)
+     * @param response     HTTP 응답
+     * @param file         다운로드 대상 파일
+     * @param disposition  Content-Disposition (attachment 또는 inline)
+     * @param mediaType    응답 Content-Type
+     * @param cacheControl Cache-Control 값 ({@link #REVALIDATE} 또는 {@link #IMMUTABLE})
+     * @throws IOException 파일 읽기 실패 시 (클라이언트 연결 종료는 예외 없이 종료)
+     */
+    static void send(HttpServletRequest request, HttpServletResponse response,
+            FileService.FileDownloadResult file, ContentDisposition disposition, MediaType mediaType,
+            String cacheControl) throws IOException {
+        long length = file.contentLength();
+        String eTag = file.eTag();
+
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, file.lastModified());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // If-None-Match / If-Modified-Since → 304 (Range보다 먼저 판단)
+        if (new ServletWebRequest(request, response).checkNotModified(eTag, file.lastModified())) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition.toString());
+        response.setContentType(mediaType.toString());
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && ifRangeMatches(request, eTag, file.lastModified())) {
+            long[] range = parseRange(rangeHeader, length);
+            if (range == UNSATISFIABLE) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setContentLengthLong(0);
+                return;
+            }
+            if (range != null) {
+                start = range[0];
+                end = range[1];
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count <= 0) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT)) && count >= SENDFILE_MIN_BYTES) {
+            // 서블릿 반환 후 Tomcat이 커널 sendfile로 [start, end+1) 구간을 전송
+            request.setAttribute(SENDFILE_FILENAME, file.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        transfer(file, start, count, response);
+    }
+
+    /**
+     * 파일 구간을 응답 스트림으로 전송 ({@link FileChannel#transferTo}, 고정 크기 버퍼만 사용)
+     */
+    private static void transfer(FileService.FileDownloadResult file, long start, long count,
+            HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    // 전송 도중 파일이 줄어든 경우: 약속한 Content-Length를 채울 수 없음
+                    throw new IOException("파일이 전송 중 변경되었습니다. 파일관리번호: " + file.flMngNo());
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        } catch (IOException e) {
+            if (DisconnectedClientHelper.isClientDisconnectedException(e)) {
+                // 다운로드 취소·이어받기 중단 등 정상적인 클라이언트 연결 종료
+                log.debug("[파일 전송 중단] 클라이언트 연결 종료: flMngNo={}", file.flMngNo());
+                return;
+            }
+            throw e;
+        }
+    }
+
+    /** 파일 범위를 벗어난 Range 표시값 */
+    static final long[] UNSATISFIABLE = new long[0];
+
+    /**
+     * 단일 바이트 구간 Range 헤더 해석
+     *
+     * @param header Range 헤더 값
+     * @param length 파일 크기
+     * @return {@code [start, end]} (end 포함), 파일 범위를 벗어나면 {@link #UNSATISFIABLE},
+     *         형식 오류·다중 구간이면 null (Range 무시)
+     */
+    static long[] parseRange(String header, long length) {
+        if (!header.regionMatches(true, 0, BYTES_PREFIX, 0, BYTES_PREFIX.length())) {
+            return null;
+        }
+        String spec = header.substring(BYTES_PREFIX.length()).trim();
+        int dash = spec.indexOf('-');
+        if (spec.indexOf(',') >= 0 || dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // 접미 구간: 마지막 n바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new long[] { Math.max(0, length - suffix), length - 1 };
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Long.parseLong(last);
+            if (start < 0 || end < start) {
+                return null;
+            }
+            if (start >= length) {
+                return UNSATISFIABLE;
+            }
+            return new long[] { start, Math.min(end, length - 1) };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * If-Range 조건 판단 (헤더가 없으면 true)
+     *
+     * <p>ETag 형식이면 강한 비교(약한 ETag는 불일치), 날짜 형식이면 수정일시를 초 단위로 비교합니다.</p>
+     */
+    private static boolean ifRangeMatches(HttpServletRequest request, String eTag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        String value = ifRange.trim();
+        if (value.startsWith("\"") || value.toUpperCase(Locale.ROOT).startsWith("W/")) {
+            return value.equals(eTag);
+        }
+        try {
+            long since = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return since >= 0 && since / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
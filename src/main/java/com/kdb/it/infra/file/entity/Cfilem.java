@@ -10,6 +10,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.springframework.data.domain.Persistable;
 
 /**
  * 공통 첨부파일 관리 엔티티
@@ -29,9 +30,10 @@ import lombok.experimental.SuperBuilder;
  * </p>
  *
  * <p>
- * 서버 파일명 채번 규칙: {@code {서버ID}_{yyyyMMddHHmmss}_{UUID}.{확장자}}
- * (예: {@code SVR1_20260315143022_550e8400e29b41d4a716446655440000.pdf})
- * → UUID 기반으로 1번·2번 서버 동시 운영 시에도 파일명 충돌 완전 방지
+ * 물리 파일은 내용 해시(SHA-256)로 저장되어 같은 내용의 파일은 하나의 blob을 공유합니다
+ * ({@link com.kdb.it.infra.file.service.FileBlobStore}). 서버파일명은 해시 64자이며,
+ * 같은 {@code FL_HASH}를 가진 미삭제 행 수가 blob 참조 수입니다.
+ * 해시 도입 이전 행은 {@code {서버ID}_{yyyyMMddHHmmss}_{UUID}.{확장자}} 파일명을 유지하고 {@code FL_HASH}가 비어 있습니다.
  * </p>
  */
 @Entity
@@ -40,7 +42,7 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @SuperBuilder
-public class Cfilem extends BaseEntity {
+public class Cfilem extends BaseEntity implements Persistable<String> {
 
     /** 파일관리번호: 기본키 (형식: FL_{8자리 시퀀스}, 예: FL_00000001) */
     @Id
@@ -52,14 +54,13 @@ public class Cfilem extends BaseEntity {
     private String orcFlNm;
 
     /**
-     * 서버파일명: 서버에 저장되는 고유 파일명
-     * 형식: {서버ID}_{yyyyMMddHHmmss}_{UUID}.{확장자}
-     * (예: SVR1_20260315143022_550e8400e29b41d4a716446655440000.pdf)
+     * 서버파일명: 서버에 저장된 파일명
+     * 형식: SHA-256 16진수 64자 (해시 도입 이전 행: {서버ID}_{yyyyMMddHHmmss}_{UUID}.{확장자})
      */
     @Column(name = "SVR_FL_NM", nullable = false, length = 100, comment = "서버파일명")
     private String svrFlNm;
 
-    /** 파일저장경로: 서버 내 실제 저장 디렉토리 경로 (예: /data/files/요구사항정의서/2026/03) */
+    /** 파일저장경로: 서버 내 실제 저장 디렉토리 경로 (예: /data/files/blobs/9f/86, 이전 행: /data/files/요구사항정의서/2026/03) */
     @Column(name = "FL_KPN_PTH", nullable = false, length = 255, comment = "파일저장경로")
     private String flKpnPth;
 
@@ -75,6 +76,14 @@ public class Cfilem extends BaseEntity {
     @Column(name = "ORC_DTT", nullable = false, length = 100, comment = "원본구분")
     private String orcDtt;
 
+    /** 파일해시: 파일 내용 SHA-256 16진수 (blob 식별자, 해시 도입 이전 행은 null) */
+    @Column(name = "FL_HASH", length = 64, comment = "파일해시")
+    private String flHash;
+
+    /** 파일크기: 바이트 단위 파일 크기 (해시 도입 이전 행은 null) */
+    @Column(name = "FL_SZ", comment = "파일크기")
+    private Long flSz;
+
     /**
      * 파일 메타데이터 수정 메서드
      *
@@ -90,4 +99,12 @@ public class Cfilem extends BaseEntity {
         if (orcPkVl != null) this.orcPkVl = orcPkVl;
         if (orcDtt != null) this.orcDtt = orcDtt;
     }
+
+    /**
+     * 식별자 반환 ({@link Persistable} 구현: 신규 여부는 {@link BaseEntity#isNew()})
+     */
+    @Override
+    public String getId() {
+        return flMngNo;
+    }
 }
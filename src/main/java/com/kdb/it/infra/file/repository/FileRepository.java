@@ -3,8 +3,11 @@ package com.kdb.it.infra.file.repository;
 import com.kdb.it.infra.file.entity.Cfilem;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -88,4 +91,39 @@ public interface FileRepository extends JpaRepository<Cfilem, String> {
      */
     @Query(value = "SELECT S_FL.NEXTVAL FROM DUAL", nativeQuery = true)
     Long getNextSequenceValue();
+
+    /**
+     * Oracle 시퀀스(S_FL) 다음 값 일괄 조회
+     *
+     * <p>
+     * 다건 업로드 시 파일 수만큼의 파일관리번호를 DB 왕복 1회로 채번합니다.
+     * </p>
+     *
+     * @param count 채번할 개수
+     * @return 시퀀스 값 목록 (Oracle NUMBER → {@link Number})
+     */
+    @Query(value = "SELECT S_FL.NEXTVAL FROM DUAL CONNECT BY LEVEL <= :count", nativeQuery = true)
+    List<Number> getNextSequenceValues(@Param("count") int count);
+
+    /**
+     * 물리 파일을 보존해야 하는 서버파일명 조회 (저장소 정리 배치용)
+     *
+     * <p>
+     * 주어진 서버파일명 중 미삭제 행이 있거나, 삭제된 지 유예 기간이 지나지 않은 행이 있는 것만 반환합니다.
+     * 반환되지 않은 이름은 참조 행이 없거나(롤백된 업로드) 모든 참조가 유예 기간 전에 삭제된 파일입니다.
+     * Oracle IN 목록 제한(1000개) 이하로 나누어 호출해야 합니다.
+     * </p>
+     *
+     * @param svrFlNms      서버파일명 목록 (최대 1000개)
+     * @param deletedBefore 이 시각 이전에 삭제된 행은 보존 사유에서 제외
+     * @return 보존 대상 서버파일명 목록
+     */
+    @Query("""
+            SELECT DISTINCT f.svrFlNm FROM Cfilem f
+            WHERE f.svrFlNm IN :svrFlNms
+              AND (f.delYn IS NULL OR f.delYn <> 'Y'
+                   OR COALESCE(f.lstChgDtm, f.fstEnrDtm) >= :deletedBefore)
+            """)
+    List<String> findRetainedSvrFlNms(@Param("svrFlNms") Collection<String> svrFlNms,
+            @Param("deletedBefore") LocalDateTime deletedBefore);
 }
@@ -0,0 +1,317 @@
+package com.kdb.it.infra.file.service;
+
+import com.kdb.it.exception.CustomGeneralException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 내용 주소 기반(content-addressed) 첨부파일 저장소
+ *
+ * <p>
+ * 업로드 스트림을 스테이징 파일에 쓰면서 동시에 SHA-256을 계산하고(스트림 1회 통과),
+ * 해시를 파일명으로 하는 blob 경로로 원자적으로 게시합니다. 같은 내용의 blob이 이미 있으면
+ * 스테이징 파일만 지우고 기존 blob을 공유하므로, 같은 양식을 여러 사업에 첨부해도 NAS에는 한 번만 저장됩니다.
+ * </p>
+ *
+ * <pre>
+ * {basePath}/blobs/{해시 앞 2자리}/{해시 3~4자리}/{SHA-256 16진수 64자}
+ * {basePath}/blobs/{해시 앞 2자리}/{해시 3~4자리}/.lease/{SHA-256 16진수 64자}   ← 중복 업로드 사용 표식
+ * 예) /data/files/blobs/9f/86/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08
+ * </pre>
+ *
+ * <p>
+ * [NAS 쓰기]<br>
+ * 스테이징 디렉토리({@code app.file.staging-dir}, 기본 로컬 임시 디렉토리)에서 해시를 확정한 뒤 저장 여부를 판단하므로
+ * 중복 업로드는 blob을 다시 쓰지 않고 사용 표식({@code .lease/{해시}}, 빈 파일)의 수정일시만 갱신하여
+ * {@link FileStorageGcService}의 유예 기간을 다시 시작합니다. blob 자체의 수정일시는 다운로드 ETag·Last-Modified와
+ * 미리보기 축소본 최신 여부의 기준이므로 바꾸지 않습니다.
+ * 신규 blob은 스테이징과 저장소가 같은 파일시스템이면 하드링크 1회, 다르면 blob 디렉토리의 {@code .part} 파일로 복사 후 하드링크하여, 다른 서버가 쓰다 만 blob을 읽는 일이 없습니다.
+ * 링크는 기존 파일을 덮어쓰지 않으므로 같은 내용을 동시에 게시해도 한 요청만 신규로 기록되고 나머지는 중복이 됩니다.
+ * </p>
+ *
+ * <p>
+ * [참조 수] blob 참조 수는 별도 카운터 없이 {@code TAAABB_CFILEM.FL_HASH}가 같은 미삭제 행 수로 판단합니다
+ * (참조가 모두 삭제된 blob은 {@link FileStorageGcService}가 정리).
+ * </p>
+ *
+ * <p>[메트릭] {@code file.blob.store}(result=hit|miss), {@code file.blob.dedup.bytes}(중복으로 쓰지 않은 바이트)</p>
+ */
+@Component
+public class FileBlobStore {
+
+    private static final Logger log = LoggerFactory.getLogger(FileBlobStore.class);
+
+    /** blob 하위 디렉토리명 */
+    static final String BLOB_DIR = "blobs";
+
+    /** 사용 표식 하위 디렉토리명 (blob 디렉토리 안, 저장소 정리 탐색 제외) */
+    static final String LEASE_DIR = ".lease";
+
+    /** 스트리밍 버퍼 크기 (업로드 크기와 무관하게 고정) */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final MeterRegistry meterRegistry;
+
+    /** 서버 인스턴스 ID (스테이징·.part 파일 접두어 — 공유 NAS에서 어느 서버가 쓰는 중인지 추적) */
+    private final String instanceId;
+
+    /** 파일 저장 기본 경로 */
+    private final Path basePath;
+
+    /** 업로드 스테이징 디렉토리 (해시 확정 전 임시 저장) */
+    private final Path stagingDir;
+
+    public FileBlobStore(MeterRegistry meterRegistry,
+            @Value("${app.server.instance-id:SVR1}") String instanceId,
+            @Value("${app.file.base-path:/data/files}") String basePath,
+            @Value("${app.file.staging-dir:${java.io.tmpdir}}") String stagingDir) {
+        this.meterRegistry = meterRegistry;
+        this.instanceId = instanceId;
+        this.basePath = Paths.get(basePath);
+        this.stagingDir = Paths.get(stagingDir);
+    }
+
+    /**
+     * 업로드 파일 저장 (중복이면 기존 blob 공유)
+     *
+     * @param file 업로드 파일
+     * @return 저장된 blob 정보
+     * @throws CustomGeneralException 스테이징·저장 실패 시
+     */
+    public StoredBlob store(MultipartFile file) {
+        Path staged;
+        try {
+            Files.createDirectories(stagingDir);
+            staged = Files.createTempFile(stagingDir, instanceId + "_", ".upload");
+        } catch (IOException e) {
+            throw new CustomGeneralException("파일 저장 디렉토리 생성에 실패했습니다. 경로: " + stagingDir, e);
+        }
+        try {
+            Digested digested = writeDigesting(file, staged);
+            Path target = blobPath(digested.hash());
+            boolean deduplicated;
+            if (Files.notExists(target)) {
+                deduplicated = publish(staged, target, digested.size());
+            } else if (sameBlobExists(target, digested.size())) {
+                deduplicated = true;
+            } else {
+                repair(staged, target);
+                deduplicated = false;
+            }
+            if (deduplicated) {
+                lease(target);
+                if (Files.notExists(target)) {
+                    // 표식 갱신 직전에 저장소 정리(GC)가 격리함 → 이번 업로드로 다시 게시
+                    deduplicated = publish(staged, target, digested.size());
+                }
+            }
+            if (deduplicated) {
+                meterRegistry.counter("file.blob.store", "result", "hit").increment();
+                meterRegistry.counter("file.blob.dedup.bytes").increment(digested.size());
+            } else {
+                meterRegistry.counter("file.blob.store", "result", "miss").increment();
+            }
+            return new StoredBlob(digested.hash(), digested.size(), target, deduplicated);
+        } catch (IOException e) {
+            throw new CustomGeneralException("파일 저장에 실패했습니다. 파일명: " + file.getOriginalFilename(), e);
+        } finally {
+            deleteQuietly(staged);
+        }
+    }
+
+    /**
+     * 해시에 해당하는 blob 경로
+     *
+     * @param hash SHA-256 16진수 (소문자 64자)
+     * @return blob 절대 경로
+     */
+    Path blobPath(String hash) {
+        return basePath.resolve(BLOB_DIR).resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    /**
+     * blob의 사용 표식 경로
+     *
+     * @param blob blob 경로
+     * @return {@code {blob 디렉토리}/.lease/{blob 파일명}}
+     */
+    static Path leasePath(Path blob) {
+        return blob.resolveSibling(LEASE_DIR).resolve(blob.getFileName());
+    }
+
+    /**
+     * 업로드 스트림을 스테이징 파일에 쓰면서 SHA-256 계산 (고정 버퍼 1개로 스트림 1회 통과)
+     */
+    private Digested writeDigesting(MultipartFile file, Path staged) throws IOException {
+        MessageDigest digest = sha256();
+        long size = 0;
+        try (ReadableByteChannel in = Channels.newChannel(file.getInputStream());
+             FileChannel out = FileChannel.open(staged, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buf = ByteBuffer.allocate(BUFFER_SIZE);
+            while (in.read(buf) >= 0) {
+                buf.flip();
+                digest.update(buf.array(), 0, buf.limit());
+                size += buf.limit();
+                while (buf.hasRemaining()) {
+                    out.write(buf);
+                }
+                buf.clear();
+            }
+        }
+        return new Digested(HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    /** 같은 해시·크기의 blob 존재 여부 (크기가 다르면 손상으로 보고 교체) */
+    private boolean sameBlobExists(Path target, long size) throws IOException {
+        try {
+            return Files.size(target) == size;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 공유하는 기존 blob의 사용 표식 수정일시를 현재로 갱신 (없으면 생성)
+     *
+     * <p>
+     * {@link FileStorageGcService}는 표식이 유예 기간 안에 갱신된 blob을 정리하지 않으므로, 메타데이터 커밋 전의
+     * 중복 업로드가 참조하려는 blob을 유예 기간 동안 정리 대상에서 제외합니다.
+     * 표식 갱신에 실패해도 업로드는 계속합니다(커밋 후에는 DB 참조 행이 blob을 보호).
+     * </p>
+     */
+    private void lease(Path target) {
+        Path lease = leasePath(target);
+        try {
+            Files.setLastModifiedTime(lease, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (NoSuchFileException e) {
+            try {
+                Files.createDirectories(lease.getParent());
+                Files.createFile(lease);
+            } catch (FileAlreadyExistsException raced) {
+                // 같은 blob을 공유하는 다른 업로드가 방금 생성
+            } catch (IOException ex) {
+                log.warn("[blob 사용 표식 생성 실패] path={}, reason={}", lease, ex.getMessage());
+            }
+        } catch (IOException e) {
+            log.warn("[blob 사용 표식 갱신 실패] path={}, reason={}", lease, e.getMessage());
+        }
+    }
+
+    /**
+     * 스테이징 파일을 blob 경로로 게시
+     *
+     * <p>
+     * 기존 파일을 덮어쓰지 않도록 rename 대신 하드링크로 게시합니다. POSIX의 rename은 대상이 있으면
+     * 말없이 교체하므로, 같은 내용을 동시에 올린 두 요청이 서로의 blob을 바꿔치기할 수 있습니다.
+     * 링크 생성은 대상이 이미 있으면 실패하므로 먼저 게시한 요청만 성공하고 나머지는 중복으로 처리합니다.
+     * </p>
+     *
+     * @return 다른 요청이 먼저 같은 blob을 게시한 경우 true (중복)
+     */
+    private boolean publish(Path staged, Path target, long size) throws IOException {
+        Files.createDirectories(target.getParent());
+        try {
+            Files.createLink(target, staged);
+            return false;
+        } catch (FileAlreadyExistsException e) {
+            return existingBlob(target, size);
+        } catch (FileSystemException e) {
+            // 스테이징이 다른 파일시스템(로컬 디스크)인 경우: 아래에서 blob 디렉토리로 복사 후 링크
+            log.debug("[blob 게시] 스테이징 파일 직접 링크 불가, 복사 후 게시: target={}, reason={}", target, e.getMessage());
+        }
+        // blob 디렉토리 안에서 복사를 끝낸 뒤 링크로 게시 → 다른 서버가 쓰다 만 blob을 읽는 일이 없음
+        Path part = Files.createTempFile(target.getParent(), instanceId + "_", ".part");
+        try {
+            Files.copy(staged, part, StandardCopyOption.REPLACE_EXISTING);
+            Files.createLink(target, part);
+            return false;
+        } catch (FileAlreadyExistsException e) {
+            return existingBlob(target, size);
+        } finally {
+            deleteQuietly(part);
+        }
+    }
+
+    /**
+     * 게시 경합에서 진 경우 먼저 게시된 blob 확인
+     *
+     * @return 같은 크기의 blob이면 true (중복)
+     * @throws IOException 크기가 다르거나 그 사이 사라진 경우
+     */
+    private boolean existingBlob(Path target, long size) throws IOException {
+        if (sameBlobExists(target, size)) {
+            return true;
+        }
+        throw new IOException("같은 해시의 기존 blob 크기가 다릅니다. path=" + target);
+    }
+
+    /**
+     * 크기가 다른(손상된) 기존 blob을 같은 내용의 완성된 사본으로 교체
+     *
+     * <p>
+     * 내용 주소 기반이므로 동시에 교체하는 요청이 있어도 결과 내용은 같습니다.
+     * </p>
+     */
+    private void repair(Path staged, Path target) throws IOException {
+        log.warn("[blob 손상] 크기가 다른 기존 blob을 교체합니다: path={}", target);
+        Path part = Files.createTempFile(target.getParent(), instanceId + "_", ".part");
+        try {
+            Files.copy(staged, part, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            deleteQuietly(part);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[첨부파일 삭제 실패] path={}, reason={}", path, e.getMessage());
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record Digested(String hash, long size) {
+    }
+
+    /**
+     * 저장된 blob 정보
+     *
+     * @param hash         SHA-256 16진수 (소문자 64자)
+     * @param size         파일 크기 (byte)
+     * @param path         blob 절대 경로
+     * @param deduplicated 기존 blob을 공유했으면 true (NAS 쓰기 없음)
+     */
+    public record StoredBlob(String hash, long size, Path path, boolean deduplicated) {
+    }
+}
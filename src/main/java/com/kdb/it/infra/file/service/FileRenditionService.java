@@ -0,0 +1,293 @@
+package com.kdb.it.infra.file.service;
+
+import com.kdb.it.exception.CustomGeneralException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 첨부파일 미리보기 축소본(rendition) 서비스
+ *
+ * <p>
+ * 에디터 본문에 삽입된 수 MB 크기 스크린샷을 원본 그대로 내려보내지 않도록,
+ * 요청 너비에 맞춘 축소본을 JDK ImageIO만으로 생성하고 원본 옆 {@code .renditions} 디렉토리에 보관합니다.
+ * </p>
+ *
+ * <pre>
+ * {원본 디렉토리}/.renditions/{서버파일명}_w{너비}.{jpg|png}
+ * 예) /data/files/blobs/9f/86/.renditions/9f86d081..._w640.jpg
+ * </pre>
+ *
+ * <ul>
+ * <li>너비는 {@link #WIDTHS} 단계 중 요청값 이상인 가장 작은 값으로 맞춰 파일 종류를 제한합니다.</li>
+ * <li>불투명 이미지는 JPEG, 투명도가 있는 이미지는 PNG로 저장합니다 (JDK에 WebP 인코더 없음).</li>
+ * <li>원본이 요청 너비 이하이거나, 이미지가 아니거나, 픽셀 수가 {@code max-pixels}를 넘으면 축소본 없이 원본을 사용합니다.</li>
+ * <li>동시 생성 수는 세마포어로 제한하며, {@code acquire-timeout-ms} 안에 차례가 오지 않으면 원본을 사용합니다
+ * (갤러리 페이지가 CPU를 독점하지 않도록).</li>
+ * <li>디코딩은 소스 서브샘플링으로 목표 너비의 2배 안팎까지만 읽어 큰 원본도 메모리를 적게 씁니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 파일관리번호의 내용은 바뀌지 않고(교체 시 삭제 후 재업로드), blob은 내용 해시로 저장되므로
+ * 축소본은 원본보다 새것이면 그대로 재사용합니다.
+ * </p>
+ *
+ * <p>
+ * [메트릭] {@code file.rendition}(result=hit|rendered|skipped|busy|failed), {@code file.rendition.render}(생성 시간)
+ * </p>
+ */
+@Service
+public class FileRenditionService {
+
+    private static final Logger log = LoggerFactory.getLogger(FileRenditionService.class);
+
+    /** 축소본 너비 단계 (px) */
+    static final int[] WIDTHS = { 160, 320, 640, 1280, 1920 };
+
+    /** 축소본 보관 하위 디렉토리명 */
+    static final String RENDITION_DIR = ".renditions";
+
+    /** ImageIO로 디코딩하는 원본 MIME 타입 */
+    private static final Set<String> SUPPORTED_TYPES = Set.of("image/jpeg", "image/png", "image/gif", "image/bmp");
+
+    private final MeterRegistry meterRegistry;
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final long maxPixels;
+    private final float jpegQuality;
+    private final Timer renderTimer;
+
+    public FileRenditionService(
+            MeterRegistry meterRegistry,
+            @Value("${app.file.rendition.max-concurrent:0}") int maxConcurrent,
+            @Value("${app.file.rendition.acquire-timeout-ms:500}") long acquireTimeoutMs,
+            @Value("${app.file.rendition.max-pixels:40000000}") long maxPixels,
+            @Value("${app.file.rendition.jpeg-quality:0.8}") float jpegQuality) {
+        this.meterRegistry = meterRegistry;
+        int concurrency = maxConcurrent > 0 ? maxConcurrent
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.permits = new Semaphore(concurrency);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.maxPixels = maxPixels;
+        this.jpegQuality = jpegQuality;
+        this.renderTimer = Timer.builder("file.rendition.render")
+                .description("이미지 축소본 생성 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 너비의 축소본 조회 (없으면 생성)
+     *
+     * @param original       원본 파일 ({@link FileService#downloadFile(String)} 결과)
+     * @param requestedWidth 요청 너비 (px, 1 이상)
+     * @return 축소본 파일. 원본을 그대로 써야 하면(이미지 아님·원본이 더 작음·생성 한도 초과 등) empty
+     * @throws CustomGeneralException 요청 너비가 1 미만인 경우
+     */
+    public Optional<FileService.FileDownloadResult> getRendition(FileService.FileDownloadResult original,
+            int requestedWidth) {
+        if (requestedWidth < 1) {
+            throw new CustomGeneralException("미리보기 너비(w)는 1 이상이어야 합니다.");
+        }
+        if (!SUPPORTED_TYPES.contains(original.contentType())) {
+            return skipped("skipped");
+        }
+        int width = snapWidth(requestedWidth);
+        boolean alphaHint = !"image/jpeg".equals(original.contentType());
+        Path source = original.path();
+        Path dir = source.getParent().resolve(RENDITION_DIR);
+        String baseName = source.getFileName() + "_w" + width;
+
+        // 이미 생성된 축소본 재사용 (JPEG·PNG 중 생성된 쪽)
+        Optional<FileService.FileDownloadResult> cached = findCached(original, dir, baseName, alphaHint);
+        if (cached.isPresent()) {
+            meterRegistry.counter("file.rendition", "result", "hit").increment();
+            return cached;
+        }
+
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return skipped("busy");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return skipped("busy");
+        }
+        try {
+            // 대기 중 다른 요청이 같은 축소본을 만들었을 수 있음
+            cached = findCached(original, dir, baseName, alphaHint);
+            if (cached.isPresent()) {
+                meterRegistry.counter("file.rendition", "result", "hit").increment();
+                return cached;
+            }
+            Path rendered = renderTimer.recordCallable(() -> render(source, dir, baseName, width));
+            if (rendered == null) {
+                return skipped("skipped");
+            }
+            meterRegistry.counter("file.rendition", "result", "rendered").increment();
+            return Optional.of(toResult(original, rendered));
+        } catch (Exception e) {
+            log.warn("[미리보기 축소본 생성 실패] flMngNo={}, width={}, reason={}",
+                    original.flMngNo(), width, e.toString());
+            return skipped("failed");
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 요청 너비를 너비 단계로 맞춤 (요청값 이상인 가장 작은 단계, 최대 단계 초과 시 최대 단계)
+     */
+    static int snapWidth(int requestedWidth) {
+        for (int w : WIDTHS) {
+            if (w >= requestedWidth) {
+                return w;
+            }
+        }
+        return WIDTHS[WIDTHS.length - 1];
+    }
+
+    private Optional<FileService.FileDownloadResult> skipped(String result) {
+        meterRegistry.counter("file.rendition", "result", result).increment();
+        return Optional.empty();
+    }
+
+    private Optional<FileService.FileDownloadResult> findCached(FileService.FileDownloadResult original, Path dir,
+            String baseName, boolean alphaHint) {
+        // 투명도 가능 형식(PNG·GIF)은 PNG 축소본이 먼저일 가능성이 높음
+        String[] exts = alphaHint ? new String[] { "png", "jpg" } : new String[] { "jpg", "png" };
+        for (String ext : exts) {
+            Path candidate = dir.resolve(baseName + "." + ext);
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(candidate, BasicFileAttributes.class);
+                if (attrs.lastModifiedTime().toMillis() >= original.lastModified()) {
+                    return Optional.of(new FileService.FileDownloadResult(original.flMngNo(), candidate,
+                            original.originalFilename(), contentTypeOf(candidate), attrs.size(),
+                            attrs.lastModifiedTime().toMillis()));
+                }
+            } catch (IOException e) {
+                // 없음 → 다음 형식 확인
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 축소본 생성
+     *
+     * @return 생성된 파일 경로, 원본을 그대로 써야 하면 null
+     */
+    private Path render(Path source, Path dir, String baseName, int width) throws IOException {
+        BufferedImage scaled;
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int srcWidth = reader.getWidth(0);
+                int srcHeight = reader.getHeight(0);
+                if (srcWidth <= width || (long) srcWidth * srcHeight > maxPixels) {
+                    return null;
+                }
+                // 목표 너비의 2배 안팎까지만 디코딩 (나머지는 보간 축소)
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, srcWidth / (width * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+                int height = Math.max(1, (int) Math.round((double) srcHeight * width / srcWidth));
+                scaled = scale(decoded, width, height);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        boolean alpha = scaled.getColorModel().hasAlpha();
+        Path target = dir.resolve(baseName + (alpha ? ".png" : ".jpg"));
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, baseName, ".tmp");
+        try {
+            write(scaled, tmp, alpha);
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return target;
+    }
+
+    private static BufferedImage scale(BufferedImage src, int width, int height) {
+        boolean alpha = src.getColorModel().hasAlpha();
+        BufferedImage dst = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = dst.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (!alpha) {
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, width, height);
+            }
+            g.drawImage(src, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return dst;
+    }
+
+    private void write(BufferedImage image, Path target, boolean alpha) throws IOException {
+        if (alpha) {
+            if (!ImageIO.write(image, "png", target.toFile())) {
+                throw new IOException("PNG 인코더를 찾을 수 없습니다.");
+            }
+            return;
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static FileService.FileDownloadResult toResult(FileService.FileDownloadResult original, Path rendered)
+            throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(rendered, BasicFileAttributes.class);
+        return new FileService.FileDownloadResult(original.flMngNo(), rendered, original.originalFilename(),
+                contentTypeOf(rendered), attrs.size(), attrs.lastModifiedTime().toMillis());
+    }
+
+    private static String contentTypeOf(Path rendition) {
+        return rendition.getFileName().toString().endsWith(".png") ? "image/png" : "image/jpeg";
+    }
+}
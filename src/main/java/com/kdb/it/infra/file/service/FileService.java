@@ -8,25 +8,23 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 /**
@@ -37,29 +35,21 @@ import java.util.stream.Collectors;
  * </p>
  *
  * <p>
- * 서버 파일명 채번 규칙:
+ * 물리 파일 저장 방식 (내용 주소 기반, {@link FileBlobStore}):
  * </p>
  *
  * <pre>
- * {서버ID}_{yyyyMMddHHmmss}_{UUID without hyphens}.{확장자}
- * 예) SVR1_20260315143022_550e8400e29b41d4a716446655440000.pdf
+ * {basePath}/blobs/{해시 앞 2자리}/{해시 3~4자리}/{SHA-256}
+ * 예) /data/files/blobs/9f/86/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08
  * </pre>
  *
  * <p>
- * UUID를 포함하므로 1번·2번 서버가 동시에 동일한 파일명을 생성할 확률이 사실상 0입니다.
- * 서버ID(SVR1/SVR2)를 접두어로 추가하여 어느 서버에서 업로드된 파일인지 추적 가능합니다.
+ * 업로드 스트림은 쓰는 동안 SHA-256을 계산하며, 같은 내용이 이미 저장되어 있으면 새로 쓰지 않고
+ * 기존 blob을 참조하는 메타데이터 행만 추가합니다. 해시 도입 이전 파일은 기존 경로
+ * ({@code {basePath}/{원본구분}/{년도}/{월}/{서버ID}_{yyyyMMddHHmmss}_{UUID}.{확장자}})를 그대로 사용합니다.
  * </p>
  *
  * <p>
- * 파일 저장 경로 구조:
- * </p>
- *
- * <pre>
- * {basePath}/{원본구분}/{년도}/{월}/
- * 예) /data/files/요구사항정의서/2026/03/
- * </pre>
- *
- * <p>
  * Soft Delete 패턴: {@code DEL_YN='Y'}로 논리 삭제합니다 (물리 파일은 유지).
  * </p>
  */
@@ -71,6 +61,9 @@ public class FileService {
     /** 공통 첨부파일 데이터 접근 리포지토리 */
     private final FileRepository fileRepository;
 
+    /** 내용 주소 기반 물리 파일 저장소 (SHA-256 중복 제거) */
+    private final FileBlobStore fileBlobStore;
+
     /**
      * JPA EntityManager — 수동 부여 ID 엔티티의 INSERT를 {@code persist()}로 확정적으로 수행하기 위해 사용.
      *
@@ -80,17 +73,15 @@ public class FileService {
      * 즉시 INSERT가 되지 않거나 dirty flag가 누락되어, 커밋 후에도 DB에 행이 없는 현상이 발생할 수 있습니다.
      * 본 클래스에서는 업로드 경로만 {@code persist()}를 명시적으로 호출하여 이러한 불확정성을 제거합니다.
      * </p>
+     *
+     * <p>
+     * 다건 업로드는 {@link Cfilem}이 {@code Persistable}을 구현하여 {@code saveAll()}도 {@code persist}로 처리되므로,
+     * 이 EntityManager로 한 번만 flush하여 JDBC 배치 INSERT합니다.
+     * </p>
      */
     @PersistenceContext
     private EntityManager entityManager;
 
-    /**
-     * 서버 인스턴스 ID
-     * 1번 서버: SVR1, 2번 서버: SVR2 등으로 각 서버 설정 파일에서 다르게 지정
-     */
-    @Value("${app.server.instance-id:SVR1}")
-    private String instanceId;
-
     /**
      * 파일 저장 기본 경로
      * 운영 환경에서는 공유 스토리지 또는 NAS 경로를 지정하는 것을 권장합니다.
@@ -98,6 +89,10 @@ public class FileService {
     @Value("${app.file.base-path:/data/files}")
     private String basePath;
 
+    /** 다건 업로드 시 파일 본문 동시 저장 수 (NAS 동시 쓰기 상한) */
+    @Value("${app.file.bulk-upload-concurrency:4}")
+    private int bulkUploadConcurrency;
+
     // ─────────────────────────────────────────
     // 채번 & 경로 유틸리티
     // ─────────────────────────────────────────
@@ -116,54 +111,6 @@ public class FileService {
         return String.format("FL_%08d", seq);
     }
 
-    /**
-     * 서버 저장 파일명 생성
-     *
-     * <p>
-     * 형식: {@code {서버ID}_{yyyyMMddHHmmss}_{UUID}.{확장자}}
-     * </p>
-     *
-     * <p>
-     * UUID를 포함하여 멀티 서버 환경(SVR1/SVR2)에서 파일명 충돌이 발생하지 않습니다.
-     * </p>
-     *
-     * @param originalFilename 원본 파일명 (확장자 추출용)
-     * @return 서버 저장용 고유 파일명
-     */
-    private String generateSvrFlNm(String originalFilename) {
-        // 확장자 추출 (.pdf, .jpg 등 - 없으면 빈 문자열)
-        String ext = "";
-        if (StringUtils.hasText(originalFilename)) {
-            int dotIdx = originalFilename.lastIndexOf('.');
-            if (dotIdx >= 0 && dotIdx < originalFilename.length() - 1) {
-                ext = "." + originalFilename.substring(dotIdx + 1).toLowerCase();
-            }
-        }
-        // {서버ID}_{타임스탬프}_{UUID(하이픈 제거)}.{확장자}
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        String uuid = UUID.randomUUID().toString().replace("-", "");
-        return instanceId + "_" + timestamp + "_" + uuid + ext;
-    }
-
-    /**
-     * 파일 저장 디렉토리 경로 생성
-     *
-     * <p>
-     * 형식: {@code {basePath}/{원본구분}/{년도}/{월}}
-     * </p>
-     *
-     * @param orcDtt 원본구분 (디렉토리 명으로 사용)
-     * @return 저장 디렉토리 Path 객체
-     */
-    private Path buildStorageDir(String orcDtt) {
-        LocalDate today = LocalDate.now();
-        return Paths.get(
-                basePath,
-                orcDtt,
-                String.valueOf(today.getYear()),
-                String.format("%02d", today.getMonthValue()));
-    }
-
     /**
      * 엔티티 → 응답 DTO 변환
      *
@@ -255,11 +202,9 @@ public class FileService {
      * 처리 순서:
      * </p>
      * <ol>
-     * <li>저장 디렉토리 생성 (없으면 자동 생성)</li>
-     * <li>서버 파일명 채번 ({서버ID}_{타임스탬프}_{UUID}.{확장자})</li>
+     * <li>파일을 스트리밍 저장하며 SHA-256 계산 (같은 내용이 있으면 기존 blob 공유)</li>
      * <li>파일 관리번호 채번 (Oracle 시퀀스)</li>
-     * <li>파일을 서버 디스크에 저장</li>
-     * <li>파일 메타데이터를 DB에 저장</li>
+     * <li>파일 메타데이터(해시·크기 포함)를 DB에 저장</li>
      * </ol>
      *
      * @param file    업로드할 파일 (MultipartFile)
@@ -299,42 +244,23 @@ public class FileService {
             throw new CustomGeneralException("업로드할 파일이 비어있습니다.");
         }
 
-        // 저장 디렉토리 경로 생성
-        Path storageDir = buildStorageDir(request.getOrcDtt());
-
-        // 서버 파일명 채번
-        String svrFlNm = generateSvrFlNm(file.getOriginalFilename());
+        // 물리 파일 저장 (SHA-256 중복 제거 → 같은 내용이면 NAS 쓰기 없이 기존 blob 참조)
+        FileBlobStore.StoredBlob blob = fileBlobStore.store(file);
 
         // 파일관리번호 채번
         String flMngNo = generateFlMngNo();
 
-        // 저장 경로 문자열 (DB 저장용)
-        String flKpnPth = storageDir.toString();
-
-        // 디렉토리 생성 (이미 있으면 무시)
-        try {
-            Files.createDirectories(storageDir);
-        } catch (IOException e) {
-            throw new CustomGeneralException("파일 저장 디렉토리 생성에 실패했습니다. 경로: " + flKpnPth);
-        }
-
-        // 파일 디스크 저장
-        Path targetPath = storageDir.resolve(svrFlNm);
-        try {
-            Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
-        } catch (IOException e) {
-            throw new CustomGeneralException("파일 저장에 실패했습니다. 파일명: " + file.getOriginalFilename());
-        }
-
         // DB 메타데이터 저장
         Cfilem cfilem = Cfilem.builder()
                 .flMngNo(flMngNo)
                 .orcFlNm(file.getOriginalFilename())
-                .svrFlNm(svrFlNm)
-                .flKpnPth(flKpnPth)
+                .svrFlNm(blob.path().getFileName().toString())
+                .flKpnPth(blob.path().getParent().toString())
                 .flDtt(request.getFlDtt())
                 .orcPkVl(request.getOrcPkVl())
                 .orcDtt(request.getOrcDtt())
+                .flHash(blob.hash())
+                .flSz(blob.size())
                 .build();
 
         // 수동 부여 ID 엔티티는 persist()로 명시적 INSERT → save() 위임 시 merge() 세만틱으로
@@ -375,8 +301,22 @@ public class FileService {
      * 파일 다건 일괄 업로드
      *
      * <p>
-     * 개별 파일 업로드를 반복합니다. 특정 파일이 실패해도 나머지는 계속 업로드됩니다.
-     * 결과에 성공·실패 목록을 모두 포함합니다.
+     * 특정 파일이 실패해도 나머지는 계속 업로드됩니다. 결과에 성공·실패 목록을 모두 포함합니다.
+     * </p>
+     *
+     * <p>
+     * 처리 순서:
+     * </p>
+     * <ol>
+     * <li>파일 본문을 가상 스레드로 병렬 저장 (동시 저장 수는 {@code app.file.bulk-upload-concurrency}로 제한)</li>
+     * <li>성공한 파일 수만큼 파일관리번호를 DB 왕복 1회로 채번</li>
+     * <li>메타데이터를 {@code saveAll} + flush 1회로 JDBC 배치 INSERT</li>
+     * </ol>
+     *
+     * <p>
+     * 메타데이터 INSERT가 롤백되어도 blob은 즉시 지우지 않습니다. 같은 내용을 동시에 올린 다른 요청의
+     * 아직 커밋되지 않은 행이 그 blob을 참조할 수 있으므로, 참조 없이 남은 blob은
+     * {@link FileStorageGcService}가 유예 기간이 지난 뒤 정리합니다.
      * </p>
      *
      * @param files   업로드할 파일 목록
@@ -385,26 +325,97 @@ public class FileService {
      */
     @Transactional
     public FileDto.BulkUploadResponse uploadFiles(List<MultipartFile> files, FileDto.UploadRequest request) {
-        List<FileDto.Response> successList = new ArrayList<>();
         List<String> failList = new ArrayList<>();
-
-        for (MultipartFile file : files) {
-            try {
-                // 업로드 직후 동일 트랜잭션 내 재조회는 merge() flush 지연으로 실패할 수 있음 →
-                // 영속화된 엔티티를 그대로 DTO로 변환
-                Cfilem saved = uploadFileInternal(file, request);
-                successList.add(toResponse(saved));
-            } catch (Exception e) {
-                failList.add(file.getOriginalFilename() + " (" + e.getMessage() + ")");
+        List<StoreOutcome> stored = new ArrayList<>(files.size());
+
+        // 1. 파일 본문 병렬 저장 (입력 순서 유지)
+        for (StoreOutcome outcome : storeConcurrently(files)) {
+            if (outcome.blob() == null) {
+                failList.add(outcome.file().getOriginalFilename() + " (" + outcome.error() + ")");
+            } else {
+                stored.add(outcome);
             }
         }
+        if (stored.isEmpty()) {
+            return FileDto.BulkUploadResponse.builder()
+                    .successList(List.of())
+                    .failList(failList)
+                    .build();
+        }
+        // 2. 파일관리번호 일괄 채번
+        List<Number> seqs = fileRepository.getNextSequenceValues(stored.size());
+
+        // 3. 메타데이터 JDBC 배치 INSERT (Persistable 신규 판별 → persist, flush 1회)
+        List<Cfilem> entities = new ArrayList<>(stored.size());
+        for (int i = 0; i < stored.size(); i++) {
+            StoreOutcome outcome = stored.get(i);
+            FileBlobStore.StoredBlob blob = outcome.blob();
+            entities.add(Cfilem.builder()
+                    .flMngNo(String.format("FL_%08d", seqs.get(i).longValue()))
+                    .orcFlNm(outcome.file().getOriginalFilename())
+                    .svrFlNm(blob.path().getFileName().toString())
+                    .flKpnPth(blob.path().getParent().toString())
+                    .flDtt(request.getFlDtt())
+                    .orcPkVl(request.getOrcPkVl())
+                    .orcDtt(request.getOrcDtt())
+                    .flHash(blob.hash())
+                    .flSz(blob.size())
+                    .build());
+        }
+        fileRepository.saveAll(entities);
+        entityManager.flush();
 
         return FileDto.BulkUploadResponse.builder()
-                .successList(successList)
+                .successList(entities.stream().map(this::toResponse).collect(Collectors.toList()))
                 .failList(failList)
                 .build();
     }
 
+    /**
+     * 파일 본문 병렬 저장
+     *
+     * <p>
+     * 파일마다 가상 스레드를 하나씩 쓰되 세마포어로 동시 저장 수를 제한하여 NAS에 요청이 몰리지 않게 합니다.
+     * 개별 실패는 예외 대신 실패 결과로 반환합니다.
+     * </p>
+     *
+     * @param files 업로드할 파일 목록
+     * @return 입력 순서와 같은 저장 결과 목록
+     */
+    private List<StoreOutcome> storeConcurrently(List<MultipartFile> files) {
+        Semaphore permits = new Semaphore(Math.max(1, bulkUploadConcurrency));
+        List<Future<StoreOutcome>> futures = new ArrayList<>(files.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (MultipartFile file : files) {
+                futures.add(executor.submit(() -> storeOne(file, permits)));
+            }
+        } // close(): 모든 저장 완료까지 대기
+        return futures.stream().map(Future::resultNow).collect(Collectors.toList());
+    }
+
+    private StoreOutcome storeOne(MultipartFile file, Semaphore permits) {
+        if (file.isEmpty()) {
+            return new StoreOutcome(file, null, "업로드할 파일이 비어있습니다.");
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new StoreOutcome(file, null, "업로드가 중단되었습니다.");
+        }
+        try {
+            return new StoreOutcome(file, fileBlobStore.store(file), null);
+        } catch (RuntimeException e) {
+            return new StoreOutcome(file, null, e.getMessage());
+        } finally {
+            permits.release();
+        }
+    }
+
+    /** 파일 본문 저장 결과 (실패 시 blob은 null, error에 사유) */
+    private record StoreOutcome(MultipartFile file, FileBlobStore.StoredBlob blob, String error) {
+    }
+
     // ─────────────────────────────────────────
     // 수정
     // ─────────────────────────────────────────
@@ -442,7 +453,7 @@ public class FileService {
      *
      * <p>
      * DB의 DEL_YN을 'Y'로 변경합니다. 물리 파일은 삭제하지 않습니다.
-     * (물리 파일은 별도 배치 프로세스로 정리 권장)
+     * (다른 참조가 없으면 유예 기간 후 {@link FileStorageGcService}가 정리)
      * </p>
      *
      * @param flMngNo 삭제할 파일관리번호
@@ -482,10 +493,12 @@ public class FileService {
     // ─────────────────────────────────────────
 
     /**
-     * 파일 다운로드용 Resource 반환
+     * 파일 다운로드 대상 조회
      *
      * <p>
-     * 파일 메타데이터 조회 → 디스크에서 실제 파일 로드 → Resource 반환
+     * 파일 메타데이터 조회 → 디스크 파일 속성(크기·수정일시) 1회 조회 → 경로와 속성 반환.
+     * 파일 내용은 읽지 않으며, 컨트롤러가 Range·조건부 요청을 판단한 뒤 필요한 구간만
+     * {@code FileChannel}로 전송합니다.
      * </p>
      *
      * <p>
@@ -494,7 +507,7 @@ public class FileService {
      * </p>
      *
      * @param flMngNo 다운로드할 파일관리번호
-     * @return 파일 Resource (스트림으로 클라이언트에 전송)
+     * @return 파일 경로·원본파일명·MIME 타입·크기·수정일시
      * @throws CustomGeneralException 파일이 존재하지 않거나 디스크에서 찾을 수 없는 경우
      */
     public FileDownloadResult downloadFile(String flMngNo) {
@@ -512,22 +525,24 @@ public class FileService {
             throw new CustomGeneralException("허용되지 않는 파일 경로입니다. 파일관리번호: " + flMngNo);
         }
 
-        // 파일 Resource 로드
-        Resource resource;
+        // 파일 속성 조회 (NAS 왕복 1회로 존재 여부·크기·수정일시 확인)
+        BasicFileAttributes attrs;
         try {
-            resource = new UrlResource(filePath.toUri());
-        } catch (MalformedURLException e) {
-            throw new CustomGeneralException("파일 경로가 잘못되었습니다. 파일관리번호: " + flMngNo);
+            attrs = Files.readAttributes(filePath, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            throw new CustomGeneralException("파일을 찾을 수 없습니다. 파일관리번호: " + flMngNo);
+        } catch (IOException e) {
+            throw new CustomGeneralException("파일을 읽을 수 없습니다. 파일관리번호: " + flMngNo, e);
         }
-
-        if (!resource.exists() || !resource.isReadable()) {
+        if (!attrs.isRegularFile() || !Files.isReadable(filePath)) {
             throw new CustomGeneralException("파일을 찾을 수 없습니다. 파일관리번호: " + flMngNo);
         }
 
         // 원본 파일명 기준으로 MIME 타입 감지
         String contentType = detectContentType(cfilem.getOrcFlNm(), filePath);
 
-        return new FileDownloadResult(resource, cfilem.getOrcFlNm(), contentType);
+        return new FileDownloadResult(flMngNo, filePath, cfilem.getOrcFlNm(), contentType,
+                attrs.size(), attrs.lastModifiedTime().toMillis());
     }
 
     /**
@@ -590,9 +605,29 @@ public class FileService {
      * 파일 다운로드 결과 래퍼 클래스
      *
      * <p>
-     * 컨트롤러에서 Resource, 원본파일명, MIME 타입을 함께 사용하기 위한 내부 클래스입니다.
+     * 컨트롤러에서 파일 경로, 원본파일명, MIME 타입, 크기·수정일시(조건부 요청·Range 처리용)를 함께 사용하기 위한 내부 클래스입니다.
      * </p>
+     *
+     * @param flMngNo          파일관리번호
+     * @param path             디스크 파일 절대 경로
+     * @param originalFilename 원본파일명
+     * @param contentType      MIME 타입
+     * @param contentLength    파일 크기 (byte)
+     * @param lastModified     파일 수정일시 (epoch ms)
      */
-    public record FileDownloadResult(Resource resource, String originalFilename, String contentType) {
+    public record FileDownloadResult(String flMngNo, Path path, String originalFilename, String contentType,
+            long contentLength, long lastModified) {
+
+        /**
+         * 강한 ETag ({@code "파일관리번호-크기-수정일시"}, 16진수)
+         *
+         * <p>파일 교체(삭제 후 재업로드)는 파일관리번호가, 디스크 파일 변경은 크기·수정일시가 달라지므로
+         * 내용을 읽어 해시하지 않고도 같은 값이면 같은 바이트임을 보장합니다.</p>
+         *
+         * @return 따옴표를 포함한 ETag 값
+         */
+        public String eTag() {
+            return "\"" + flMngNo + "-" + Long.toHexString(contentLength) + "-" + Long.toHexString(lastModified) + "\"";
+        }
     }
 }
@@ -0,0 +1,528 @@
+package com.kdb.it.infra.file.service;
+
+import com.kdb.it.infra.file.repository.FileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 첨부파일 저장소 정리(GC) 서비스
+ *
+ * <p>
+ * {@code app.file.base-path} 아래 물리 파일 중 참조 행이 없는 파일(메타데이터 INSERT가 롤백된 업로드,
+ * 게시 중 중단된 {@code .part}·{@code .upload} 파일)과 모든 참조 행이 논리 삭제(DEL_YN='Y')된 파일을
+ * {@code app.file.gc.cron} 주기로 찾아 격리 영역으로 옮기고, 보관 기간이 지난 격리 파일을 삭제합니다.
+ * </p>
+ *
+ * <pre>
+ * {basePath}/.quarantine/{yyyyMMdd}/{basePath 기준 상대 경로}   ← 격리 파일 (보관 기간 후 삭제)
+ * {basePath}/.gc/checkpoint-{서버ID}                         ← 이어하기 지점
+ * </pre>
+ *
+ * <p>
+ * [탐색] {@link Files#walkFileTree}로 디렉토리를 차례로 방문하며, 수정일시가 유예 기간
+ * ({@code app.file.gc.grace-days})보다 오래된 파일만 {@code app.file.gc.batch-size}건씩 모아
+ * {@link FileRepository#findRetainedSvrFlNms} 1회로 대조합니다. 메모리에는 배치 1개만 두므로
+ * 파일 수와 무관하게 사용량이 일정합니다. 점(.)으로 시작하는 디렉토리(축소본·사용 표식·격리·상태)는 건너뜁니다.
+ * </p>
+ *
+ * <p>
+ * [이어하기] 1회 실행은 {@code app.file.gc.max-duration-minutes}를 넘기지 않으며, 중단 시 마지막으로
+ * 끝까지 처리한 디렉토리를 체크포인트에 남깁니다. 다음 실행은 같은 방문 순서에서 그 디렉토리 다음부터 이어가고,
+ * 전체를 한 바퀴 돌면 체크포인트를 지웁니다. 디렉토리 목록이 바뀌어 지점을 찾지 못하면 남은 부분은 다음 바퀴에 처리됩니다.
+ * </p>
+ *
+ * <p>
+ * [안전장치] 중복 업로드는 blob 옆 사용 표식({@code .lease/{해시}})을 갱신하므로({@link FileBlobStore}),
+ * 표식이 유예 기간 안에 갱신된 파일은 격리하지 않습니다(blob 자체의 수정일시는 다운로드 ETag·축소본 기준이라 건드리지 않음).
+ * 격리 직후에는 같은 이름을 다시 대조하고 표식도 다시 확인하여, 그 사이 같은 blob을 공유하는 업로드가
+ * 커밋되었거나 표식을 갱신했으면 원위치로 되돌립니다. 업로드가 표식을 갱신한 뒤 blob이 이미 격리되었으면
+ * 업로드 쪽에서 blob을 다시 게시합니다. 대조를 마친 파일의 표식은 지웁니다(참조 행 또는 격리로 역할이 끝남). 삭제는 격리 보관 기간({@code app.file.gc.quarantine-retention-days})이
+ * 지난 뒤에만 일어나므로 잘못 옮겨진 파일도 그 전까지는 격리 영역에서 복구할 수 있습니다.
+ * 서버 간 조정은 하지 않습니다. 여러 서버가 동시에 실행하면 같은 파일을 중복으로 대조·격리 시도할 수 있고
+ * (각 서버는 자신이 옮긴 파일만 되돌림 판단), DB 대조도 서버 수만큼 반복되므로 한 서버에서만 실행하는 것을 권장합니다.
+ * </p>
+ *
+ * <p>
+ * [메트릭] {@code file.gc.scanned}(방문 파일 수), {@code file.gc.quarantined}(격리 파일 수),
+ * {@code file.gc.quarantined.bytes}, {@code file.gc.reclaimed.bytes}(실제 삭제로 회수한 바이트),
+ * {@code file.gc.failures}
+ * </p>
+ */
+@Service
+public class FileStorageGcService {
+
+    private static final Logger log = LoggerFactory.getLogger(FileStorageGcService.class);
+
+    /** 격리 하위 디렉토리명 */
+    static final String QUARANTINE_DIR = ".quarantine";
+
+    /** 상태(체크포인트) 하위 디렉토리명 */
+    static final String STATE_DIR = ".gc";
+
+    /** 격리 일자 디렉토리명 형식 */
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /** Oracle IN 목록 최대 개수 */
+    private static final int MAX_IN_LIST = 1000;
+
+    private final FileRepository fileRepository;
+
+    /** 파일 저장 기본 경로 */
+    private final Path basePath;
+
+    /** 이어하기 지점 파일 (서버별) */
+    private final Path checkpointFile;
+
+    /** 정리 대상이 되기까지의 유예 기간 (파일 수정일시·행 삭제일시 기준) */
+    private final Duration grace;
+
+    /** 격리 파일 보관 기간 (일) */
+    private final int quarantineRetentionDays;
+
+    /** 1회 대조 파일 수 */
+    private final int batchSize;
+
+    /** 1회 실행 최대 시간 */
+    private final Duration maxDuration;
+
+    /** 스케줄 실행 여부 */
+    private final boolean enabled;
+
+    private final Counter scannedCounter;
+    private final Counter quarantinedCounter;
+    private final Counter quarantinedBytesCounter;
+    private final Counter reclaimedBytesCounter;
+    private final Counter failureCounter;
+
+    public FileStorageGcService(FileRepository fileRepository, MeterRegistry meterRegistry,
+            @Value("${app.server.instance-id:SVR1}") String instanceId,
+            @Value("${app.file.base-path:/data/files}") String basePath,
+            @Value("${app.file.gc.grace-days:7}") int graceDays,
+            @Value("${app.file.gc.quarantine-retention-days:30}") int quarantineRetentionDays,
+            @Value("${app.file.gc.batch-size:500}") int batchSize,
+            @Value("${app.file.gc.max-duration-minutes:60}") long maxDurationMinutes,
+            @Value("${app.file.gc.enabled:true}") boolean enabled) {
+        this.fileRepository = fileRepository;
+        this.basePath = Paths.get(basePath).toAbsolutePath().normalize();
+        this.checkpointFile = this.basePath.resolve(STATE_DIR).resolve("checkpoint-" + instanceId);
+        this.grace = Duration.ofDays(graceDays);
+        this.quarantineRetentionDays = quarantineRetentionDays;
+        this.batchSize = Math.clamp(batchSize, 1, MAX_IN_LIST);
+        this.maxDuration = Duration.ofMinutes(maxDurationMinutes);
+        this.enabled = enabled;
+        this.scannedCounter = meterRegistry.counter("file.gc.scanned");
+        this.quarantinedCounter = meterRegistry.counter("file.gc.quarantined");
+        this.quarantinedBytesCounter = meterRegistry.counter("file.gc.quarantined.bytes");
+        this.reclaimedBytesCounter = meterRegistry.counter("file.gc.reclaimed.bytes");
+        this.failureCounter = meterRegistry.counter("file.gc.failures");
+    }
+
+    /**
+     * 주기 실행 진입점 ({@code app.file.gc.enabled=false}인 서버는 실행하지 않음)
+     */
+    @Scheduled(cron = "${app.file.gc.cron:0 30 3 * * *}")
+    public void scheduledCollect() {
+        if (enabled) {
+            collect();
+        }
+    }
+
+    /**
+     * 저장소 정리 1회 실행
+     *
+     * <p>
+     * 보관 기간이 지난 격리 파일을 삭제한 뒤, 체크포인트부터 저장소를 탐색하여 정리 대상을 격리합니다.
+     * 예외는 밖으로 던지지 않으며, DB·파일 오류 시 처리한 지점까지 체크포인트를 남기고 다음 주기에 이어갑니다.
+     * </p>
+     *
+     * @return 실행 결과
+     */
+    public GcResult collect() {
+        LocalDateTime now = LocalDateTime.now();
+        long purgedBytes = purgeQuarantine(now.toLocalDate());
+        if (!Files.isDirectory(basePath)) {
+            return new GcResult(0, 0, 0, purgedBytes, true);
+        }
+
+        GcVisitor visitor = new GcVisitor(now, readCheckpoint());
+        try {
+            Files.walkFileTree(basePath, visitor);
+            visitor.flush();
+        } catch (IOException | DataAccessException e) {
+            failureCounter.increment();
+            log.warn("[첨부파일 정리 실패] 격리 {}건 후 중단: {}", visitor.quarantined, e.getMessage());
+            writeCheckpoint(visitor.flushedDir);
+            return visitor.result(purgedBytes, false);
+        }
+
+        if (visitor.stopped) {
+            writeCheckpoint(visitor.flushedDir);
+        } else {
+            deleteCheckpoint();
+        }
+        if (visitor.quarantined > 0 || purgedBytes > 0) {
+            log.info("첨부파일 정리: 방문 {}건, 격리 {}건({} bytes), 격리 삭제 {} bytes{}", visitor.scanned,
+                    visitor.quarantined, visitor.quarantinedBytes, purgedBytes,
+                    visitor.stopped ? " (시간 초과, 다음 주기에 이어서 처리)" : "");
+        }
+        return visitor.result(purgedBytes, !visitor.stopped);
+    }
+
+    /**
+     * 보관 기간이 지난 격리 일자 디렉토리 삭제
+     *
+     * @return 회수한 바이트
+     */
+    private long purgeQuarantine(LocalDate today) {
+        Path quarantineRoot = basePath.resolve(QUARANTINE_DIR);
+        if (!Files.isDirectory(quarantineRoot)) {
+            return 0;
+        }
+        LocalDate cutoff = today.minusDays(quarantineRetentionDays);
+        long reclaimed = 0;
+        try (DirectoryStream<Path> days = Files.newDirectoryStream(quarantineRoot)) {
+            for (Path day : days) {
+                if (Files.isDirectory(day) && isBefore(day.getFileName().toString(), cutoff)) {
+                    reclaimed += deleteTree(day);
+                }
+            }
+        } catch (IOException e) {
+            failureCounter.increment();
+            log.warn("[첨부파일 격리 삭제 실패] {}: {}", quarantineRoot, e.getMessage());
+        }
+        reclaimedBytesCounter.increment(reclaimed);
+        return reclaimed;
+    }
+
+    private static boolean isBefore(String dayName, LocalDate cutoff) {
+        try {
+            return LocalDate.parse(dayName, DAY_FORMAT).isBefore(cutoff);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /** 디렉토리 트리 삭제 (삭제한 파일 바이트 합계 반환) */
+    private long deleteTree(Path root) throws IOException {
+        long[] bytes = { 0 };
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.deleteIfExists(file);
+                bytes[0] += attrs.size();
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                Files.deleteIfExists(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return bytes[0];
+    }
+
+    private Path readCheckpoint() {
+        try {
+            String value = Files.readString(checkpointFile, StandardCharsets.UTF_8).strip();
+            return value.isEmpty() ? null : Paths.get(value);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("[첨부파일 정리 체크포인트 읽기 실패] 처음부터 탐색: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCheckpoint(Path completedDir) {
+        if (completedDir == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(checkpointFile.getParent());
+            Path tmp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+            Files.writeString(tmp, completedDir.toString(), StandardCharsets.UTF_8);
+            Files.move(tmp, checkpointFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("[첨부파일 정리 체크포인트 저장 실패] {}", e.getMessage());
+        }
+    }
+
+    private void deleteCheckpoint() {
+        try {
+            Files.deleteIfExists(checkpointFile);
+        } catch (IOException e) {
+            log.warn("[첨부파일 정리 체크포인트 삭제 실패] {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장소 탐색 방문자
+     *
+     * <p>
+     * 체크포인트가 있으면 그 디렉토리를 만날 때까지는 조상 디렉토리만 내려가고 나머지는 건너뜁니다
+     * (같은 방문 순서에서 체크포인트보다 먼저 나오는 디렉토리는 이미 처리된 것).
+     * </p>
+     */
+    private final class GcVisitor extends SimpleFileVisitor<Path> {
+
+        private final Path resumeDir;
+        private final long modifiedBefore;
+        private final LocalDateTime deletedBefore;
+        private final Path quarantineDay;
+        private final long deadline;
+        private final List<Candidate> batch = new ArrayList<>();
+
+        private boolean resumed;
+        private boolean stopped;
+        private Path lastCompletedDir;
+        /** 대조·격리까지 끝난 마지막 디렉토리 (체크포인트로 저장할 값) */
+        private Path flushedDir;
+        private long scanned;
+        private long quarantined;
+        private long quarantinedBytes;
+
+        GcVisitor(LocalDateTime now, Path resumeDir) {
+            this.resumeDir = resumeDir;
+            this.resumed = resumeDir == null;
+            this.lastCompletedDir = resumeDir;
+            this.flushedDir = resumeDir;
+            this.modifiedBefore = System.currentTimeMillis() - grace.toMillis();
+            this.deletedBefore = now.minus(grace);
+            this.quarantineDay = basePath.resolve(QUARANTINE_DIR).resolve(now.format(DAY_FORMAT));
+            this.deadline = System.nanoTime() + maxDuration.toNanos();
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+            if (dir.equals(basePath)) {
+                return FileVisitResult.CONTINUE;
+            }
+            if (dir.getFileName().toString().startsWith(".")) {
+                return FileVisitResult.SKIP_SUBTREE;
+            }
+            if (System.nanoTime() > deadline) {
+                stopped = true;
+                return FileVisitResult.TERMINATE;
+            }
+            if (!resumed) {
+                Path rel = basePath.relativize(dir);
+                if (rel.equals(resumeDir)) {
+                    resumed = true;
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return resumeDir.startsWith(rel) ? FileVisitResult.CONTINUE : FileVisitResult.SKIP_SUBTREE;
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            if (!resumed || !attrs.isRegularFile()) {
+                return FileVisitResult.CONTINUE;
+            }
+            scanned++;
+            scannedCounter.increment();
+            if (attrs.lastModifiedTime().toMillis() < modifiedBefore) {
+                batch.add(new Candidate(file, attrs.size()));
+                if (batch.size() >= batchSize) {
+                    flush();
+                    writeCheckpoint(flushedDir);
+                }
+            }
+            if (System.nanoTime() > deadline) {
+                stopped = true;
+                return FileVisitResult.TERMINATE;
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException exc) {
+            log.debug("[첨부파일 정리] 접근 실패 건너뜀: {} ({})", file, exc.getMessage());
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+            if (resumed && !dir.equals(basePath)) {
+                lastCompletedDir = basePath.relativize(dir);
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        /**
+         * 모인 후보를 DB와 대조하여 보존 대상이 아닌 파일을 격리
+         */
+        void flush() {
+            if (batch.isEmpty()) {
+                flushedDir = lastCompletedDir;
+                return;
+            }
+            Path completedDir = lastCompletedDir;
+            Set<String> retained = new HashSet<>(fileRepository.findRetainedSvrFlNms(names(batch), deletedBefore));
+            List<Candidate> moved = new ArrayList<>();
+            for (Candidate candidate : batch) {
+                if (retained.contains(candidate.name())) {
+                    deleteLease(candidate);
+                } else if (!leased(candidate) && quarantine(candidate)) {
+                    // 사용 표식이 갱신된 파일은 메타데이터 커밋 전의 중복 업로드가 참조하려는 blob이므로 건너뜀
+                    moved.add(candidate);
+                }
+            }
+            batch.clear();
+            if (moved.isEmpty()) {
+                flushedDir = completedDir;
+                return;
+            }
+
+            // 대조와 이동 사이에 같은 blob을 공유하는 업로드가 커밋되었거나 사용 표식을 갱신했으면 되돌림
+            Set<String> revived = new HashSet<>(fileRepository.findRetainedSvrFlNms(names(moved), deletedBefore));
+            for (Candidate candidate : moved) {
+                boolean reused = revived.contains(candidate.name()) || leased(candidate);
+                if (reused && restore(candidate)) {
+                    continue;
+                }
+                // 이후 표식을 갱신하는 업로드는 blob이 없음을 보고 다시 게시하므로 표식은 더 필요 없음
+                deleteLease(candidate);
+                quarantined++;
+                quarantinedBytes += candidate.size();
+                quarantinedCounter.increment();
+                quarantinedBytesCounter.increment(candidate.size());
+            }
+            flushedDir = completedDir;
+        }
+
+        /** 유예 기간 안에 중복 업로드가 사용 표식을 갱신했는지 (표식이 없거나 읽을 수 없으면 false) */
+        private boolean leased(Candidate candidate) {
+            Path lease = FileBlobStore.leasePath(candidate.path());
+            try {
+                return Files.getLastModifiedTime(lease).toMillis() >= modifiedBefore;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        private void deleteLease(Candidate candidate) {
+            Path lease = FileBlobStore.leasePath(candidate.path());
+            try {
+                Files.deleteIfExists(lease);
+            } catch (IOException e) {
+                log.warn("[첨부파일 삭제 실패] path={}, reason={}", lease, e.getMessage());
+            }
+        }
+
+        private boolean quarantine(Candidate candidate) {
+            Path target = quarantinePath(candidate);
+            try {
+                Files.createDirectories(target.getParent());
+                Files.move(candidate.path(), target, StandardCopyOption.REPLACE_EXISTING);
+            } catch (NoSuchFileException e) {
+                // 다른 서버가 먼저 옮김
+                return false;
+            } catch (IOException e) {
+                failureCounter.increment();
+                log.warn("[첨부파일 격리 실패] path={}, reason={}", candidate.path(), e.getMessage());
+                return false;
+            }
+            deleteRenditions(candidate);
+            return true;
+        }
+
+        private boolean restore(Candidate candidate) {
+            try {
+                Files.move(quarantinePath(candidate), candidate.path());
+                log.info("[첨부파일 정리] 격리 중 참조가 생겨 되돌림: {}", candidate.path());
+                return true;
+            } catch (FileAlreadyExistsException e) {
+                // 그 사이 같은 내용이 다시 업로드되어 blob이 새로 게시됨
+                return true;
+            } catch (IOException e) {
+                failureCounter.increment();
+                log.error("[첨부파일 복구 실패] 격리 영역에서 수동 복구 필요: {} → {} ({})",
+                        quarantinePath(candidate), candidate.path(), e.getMessage());
+                return false;
+            }
+        }
+
+        /** 원본과 함께 쓸모없어진 미리보기 축소본 삭제 (원본에서 다시 만들 수 있으므로 격리하지 않음) */
+        private void deleteRenditions(Candidate candidate) {
+            Path renditionDir = candidate.path().resolveSibling(FileRenditionService.RENDITION_DIR);
+            if (!Files.isDirectory(renditionDir)) {
+                return;
+            }
+            String prefix = candidate.name() + "_w";
+            try (DirectoryStream<Path> renditions = Files.newDirectoryStream(renditionDir,
+                    p -> p.getFileName().toString().startsWith(prefix))) {
+                for (Path rendition : renditions) {
+                    long size = Files.size(rendition);
+                    if (Files.deleteIfExists(rendition)) {
+                        reclaimedBytesCounter.increment(size);
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("[첨부파일 삭제 실패] path={}, reason={}", renditionDir, e.getMessage());
+            }
+        }
+
+        private Path quarantinePath(Candidate candidate) {
+            return quarantineDay.resolve(basePath.relativize(candidate.path()));
+        }
+
+        private static List<String> names(List<Candidate> candidates) {
+            return candidates.stream().map(Candidate::name).distinct().toList();
+        }
+
+        GcResult result(long purgedBytes, boolean completed) {
+            return new GcResult(scanned, quarantined, quarantinedBytes, purgedBytes, completed);
+        }
+    }
+
+    private record Candidate(Path path, long size) {
+
+        String name() {
+            return path.getFileName().toString();
+        }
+    }
+
+    /**
+     * 정리 실행 결과
+     *
+     * @param scanned          방문한 파일 수
+     * @param quarantined      격리한 파일 수
+     * @param quarantinedBytes 격리한 바이트
+     * @param purgedBytes      보관 기간이 지나 삭제한 격리 바이트
+     * @param completed        저장소 전체를 끝까지 탐색했으면 true (시간 초과·오류로 중단 시 false)
+     */
+    public record GcResult(long scanned, long quarantined, long quarantinedBytes, long purgedBytes,
+            boolean completed) {
+    }
+}
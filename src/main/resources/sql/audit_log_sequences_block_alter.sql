@@ -0,0 +1,72 @@
+-- 감사로그 시퀀스 블록 할당 전환 DDL (INCREMENT BY 1 → 1000)
+-- audit_log_sequences_ddl.sql(INCREMENT BY 1) 기준으로 이미 생성된 시퀀스를 AuditLogIdAllocator 블록 할당 모드로 전환
+--
+-- 실행 대상 DB: Oracle XEPDB1 (ITPAPP 사용자)
+-- 실행 방법: sqlplus ITPAPP@XEPDB1 @audit_log_sequences_block_alter.sql
+--
+-- 주의
+--  - 전환 후 다음 NEXTVAL은 (현재값 + 1000)이 되며, 그 사이 값은 사용되지 않는다 (기존 PK와 중복 없음).
+--  - 블록 크기는 애플리케이션 기동 후 시퀀스별 최초 사용 시 1회 읽는다. 실행 중인 인스턴스는 재기동 전까지 단건 조회 모드를 유지한다(중복 없음).
+--  - 증가폭을 다시 줄이는 변경은 실행 중인 인스턴스의 블록과 겹칠 수 있으므로 반드시 전 인스턴스 중지 후 수행.
+
+-- 정보화실무협의회 기본정보 변경 로그 (TAAABB_BASCTL)
+ALTER SEQUENCE S_BASCTL INCREMENT BY 1000;
+
+-- 예산 변경 로그 (TAAABB_BBUGTL)
+ALTER SEQUENCE S_BBUGTL INCREMENT BY 1000;
+
+-- 타당성 자체점검 변경 로그 (TAAABB_BCHKLL)
+ALTER SEQUENCE S_BCHKLL INCREMENT BY 1000;
+
+-- 협의회 평가위원 변경 로그 (TAAABB_BCMMTL)
+ALTER SEQUENCE S_BCMMTL INCREMENT BY 1000;
+
+-- 전산관리비 변경 로그 (TAAABB_BCOSTL)
+ALTER SEQUENCE S_BCOSTL INCREMENT BY 1000;
+
+-- 평가위원 평가의견 변경 로그 (TAAABB_BEVALL)
+ALTER SEQUENCE S_BEVALL INCREMENT BY 1000;
+
+-- 가이드 문서 변경 로그 (TAAABB_BGDOCL)
+ALTER SEQUENCE S_BGDOCL INCREMENT BY 1000;
+
+-- 정보화사업 품목 변경 로그 (TAAABB_BITEML)
+ALTER SEQUENCE S_BITEML INCREMENT BY 1000;
+
+-- 성과관리 자체계획 변경 로그 (TAAABB_BPERFL)
+ALTER SEQUENCE S_BPERFL INCREMENT BY 1000;
+
+-- 정보기술부문계획 변경 로그 (TAAABB_BPLANL)
+ALTER SEQUENCE S_BPLANL INCREMENT BY 1000;
+
+-- 협의회 사업개요 변경 로그 (TAAABB_BPOVWL)
+ALTER SEQUENCE S_BPOVWL INCREMENT BY 1000;
+
+-- 사전질의응답 변경 로그 (TAAABB_BPQNAL)
+ALTER SEQUENCE S_BPQNAL INCREMENT BY 1000;
+
+-- 정보화사업 변경 로그 (TAAABB_BPROJL)
+ALTER SEQUENCE S_BPROJL INCREMENT BY 1000;
+
+-- 요구사항 정의서 변경 로그 (TAAABB_BRDOCL)
+ALTER SEQUENCE S_BRDOCL INCREMENT BY 1000;
+
+-- 문서 검토의견 변경 로그 (TAAABB_BRIVGL)
+ALTER SEQUENCE S_BRIVGL INCREMENT BY 1000;
+
+-- 협의회 결과서 변경 로그 (TAAABB_BRSLTL)
+ALTER SEQUENCE S_BRSLTL INCREMENT BY 1000;
+
+-- 협의회 일정 변경 로그 (TAAABB_BSCHDL)
+ALTER SEQUENCE S_BSCHDL INCREMENT BY 1000;
+
+-- 단말기관리마스터 변경 로그 (TAAABB_BTERML)
+ALTER SEQUENCE S_BTERML INCREMENT BY 1000;
+
+-- 신청서 마스터 변경 로그 (TAAABB_CAPPLL)
+ALTER SEQUENCE S_CAPPLL INCREMENT BY 1000;
+
+-- 코드 마스터 변경 로그 (TAAABB_CCODEL)
+ALTER SEQUENCE S_CCODEL INCREMENT BY 1000;
+
+-- 확인: SELECT SEQUENCE_NAME, INCREMENT_BY FROM USER_SEQUENCES WHERE SEQUENCE_NAME LIKE 'S\_%L' ESCAPE '\';
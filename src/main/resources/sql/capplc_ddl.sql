@@ -0,0 +1,58 @@
+-- ============================================================
+-- TAAABB_CAPPLC (원본 데이터별 최신 신청서 상태) DDL
+-- ============================================================
+-- 원본 레코드(ORC_TB_CD, ORC_PK_VL, ORC_SNO_VL)마다 최신 신청서(CAPPLA.APF_REL_SNO 최대)와
+-- 그 결재상태를 1행으로 보관합니다. 목록 조회의 "최신 신청서 결재상태" 조건이
+-- CAPPLA MAX(APF_REL_SNO) 상관 서브쿼리 대신 이 테이블을 PK로 조회합니다.
+-- 상신(ApplicationService.submit) / 결재 종결(ApprovalCompletedEvent) 시 애플리케이션이 갱신합니다.
+CREATE TABLE TAAABB_CAPPLC (
+    ORC_TB_CD       VARCHAR2(10)    NOT NULL,   -- 원본테이블코드 (BPROJM, BCOSTM, BASCTM 등)
+    ORC_PK_VL       VARCHAR2(32)    NOT NULL,   -- 원본PK값
+    ORC_SNO_VL      NUMBER(10,0)    NOT NULL,   -- 원본일련번호값 (일련번호가 없는 원본은 0)
+    APF_REL_SNO     VARCHAR2(36)    NOT NULL,   -- 최신 신청서관계일련번호 (CAPPLA PK)
+    APF_MNG_NO      VARCHAR2(32)    NOT NULL,   -- 최신 신청서관리번호 (CAPPLM PK)
+    APF_STS         VARCHAR2(32),               -- 최신 신청서상태 (결재중/결재완료/반려)
+    DEL_YN          VARCHAR2(1)     DEFAULT 'N',-- 삭제여부
+    GUID            VARCHAR2(38),               -- 전역고유식별자
+    GUID_PRG_SNO    NUMBER(4,0),                -- 진행일련번호
+    FST_ENR_DTM     TIMESTAMP(6),               -- 최초등록일시
+    FST_ENR_USID    VARCHAR2(14),               -- 최초등록자사번
+    LST_CHG_DTM     TIMESTAMP(6),               -- 최종변경일시
+    LST_CHG_USID    VARCHAR2(14),               -- 최종변경자사번
+    CONSTRAINT PK_TAAABB_CAPPLC PRIMARY KEY (ORC_TB_CD, ORC_PK_VL, ORC_SNO_VL)
+);
+
+-- 코멘트
+COMMENT ON TABLE  TAAABB_CAPPLC             IS '원본 데이터별 최신 신청서 상태';
+COMMENT ON COLUMN TAAABB_CAPPLC.ORC_TB_CD   IS '원본테이블코드';
+COMMENT ON COLUMN TAAABB_CAPPLC.ORC_PK_VL   IS '원본PK값';
+COMMENT ON COLUMN TAAABB_CAPPLC.ORC_SNO_VL  IS '원본일련번호값';
+COMMENT ON COLUMN TAAABB_CAPPLC.APF_REL_SNO IS '최신신청서관계일련번호';
+COMMENT ON COLUMN TAAABB_CAPPLC.APF_MNG_NO  IS '최신신청서관리번호';
+COMMENT ON COLUMN TAAABB_CAPPLC.APF_STS     IS '최신신청서상태';
+
+-- 결재 종결 시 신청서관리번호로 갱신 대상 조회
+CREATE INDEX IDX_CAPPLC_APF ON TAAABB_CAPPLC (APF_MNG_NO);
+
+-- ============================================================
+-- 기존 데이터 적재 (최초 1회)
+-- 애플리케이션 기동 시 테이블이 비어 있으면 같은 쿼리로 자동 적재합니다.
+-- ============================================================
+INSERT INTO TAAABB_CAPPLC
+    (ORC_TB_CD, ORC_PK_VL, ORC_SNO_VL, APF_REL_SNO, APF_MNG_NO, APF_STS,
+     DEL_YN, GUID, GUID_PRG_SNO, FST_ENR_DTM, LST_CHG_DTM)
+SELECT x.ORC_TB_CD, x.ORC_PK_VL, x.ORC_SNO_VL, x.APF_REL_SNO, x.APF_MNG_NO, m.APF_STS,
+       'N', LOWER(RAWTOHEX(SYS_GUID())), 1, SYSTIMESTAMP, SYSTIMESTAMP
+FROM (
+    SELECT a.ORC_TB_CD, a.ORC_PK_VL, NVL(a.ORC_SNO_VL, 0) AS ORC_SNO_VL,
+           a.APF_REL_SNO, a.APF_MNG_NO,
+           ROW_NUMBER() OVER (
+               PARTITION BY a.ORC_TB_CD, a.ORC_PK_VL, NVL(a.ORC_SNO_VL, 0)
+               ORDER BY a.APF_REL_SNO DESC) AS RN
+    FROM TAAABB_CAPPLA a
+    WHERE a.ORC_TB_CD IS NOT NULL AND a.ORC_PK_VL IS NOT NULL
+) x
+JOIN TAAABB_CAPPLM m ON m.APF_MNG_NO = x.APF_MNG_NO
+WHERE x.RN = 1;
+
+COMMIT;
@@ -0,0 +1,26 @@
+-- ============================================================
+-- TAAABB_CCACHV (캐시변경버전) DDL
+-- ============================================================
+-- 캐시 이름마다 변경버전 번호를 1행으로 보관합니다.
+-- 공통코드 등록·수정·삭제 트랜잭션이 해당 캐시의 VRS_NO를 1 올리고(CacheVersionService.publish),
+-- 각 서버(SVR1/SVR2)는 app.cache-sync.poll-interval-ms 주기로 이 테이블을 읽어
+-- 버전이 바뀐 캐시를 로컬에서 비웁니다. (외부 메시지 브로커 불필요)
+CREATE TABLE TAAABB_CCACHV (
+    CACHE_NM        VARCHAR2(50)    NOT NULL,   -- 캐시명 (codeDictionary 등)
+    VRS_NO          NUMBER(19,0)    DEFAULT 0 NOT NULL, -- 변경버전번호
+    LST_CHG_DTM     TIMESTAMP(6),               -- 최종변경일시
+    CONSTRAINT PK_TAAABB_CCACHV PRIMARY KEY (CACHE_NM)
+);
+
+-- 코멘트
+COMMENT ON TABLE  TAAABB_CCACHV             IS '캐시변경버전';
+COMMENT ON COLUMN TAAABB_CCACHV.CACHE_NM    IS '캐시명';
+COMMENT ON COLUMN TAAABB_CCACHV.VRS_NO      IS '변경버전번호';
+COMMENT ON COLUMN TAAABB_CCACHV.LST_CHG_DTM IS '최종변경일시';
+
+-- ============================================================
+-- 초기 데이터 (행이 없으면 최초 변경 시 애플리케이션이 INSERT 합니다)
+-- ============================================================
+INSERT INTO TAAABB_CCACHV (CACHE_NM, VRS_NO, LST_CHG_DTM) VALUES ('codeDictionary', 0, SYSTIMESTAMP);
+
+COMMIT;
@@ -5,11 +5,13 @@
 CREATE TABLE TAAABB_CFILEM (
     FL_MNG_NO       VARCHAR2(32)    NOT NULL,   -- 파일관리번호 (PK, 형식: FL_{8자리 시퀀스})
     ORC_FL_NM       VARCHAR2(255)   NOT NULL,   -- 원본파일명
-    SVR_FL_NM       VARCHAR2(100)   NOT NULL,   -- 서버파일명 ({서버ID}_{yyyyMMddHHmmss}_{UUID}.{ext})
+    SVR_FL_NM       VARCHAR2(100)   NOT NULL,   -- 서버파일명 (SHA-256 64자, 이전: {서버ID}_{yyyyMMddHHmmss}_{UUID}.{ext})
     FL_KPN_PTH      VARCHAR2(255)   NOT NULL,   -- 파일저장경로
     FL_DTT          VARCHAR2(100)   NOT NULL,   -- 파일구분 ('이미지' 또는 '첨부파일')
     ORC_PK_VL       VARCHAR2(32),               -- 원본PK값 (연결된 도메인 레코드 기본키)
     ORC_DTT         VARCHAR2(100)   NOT NULL,   -- 원본구분 (예: 요구사항정의서, 정보화사업)
+    FL_HASH         VARCHAR2(64),               -- 파일해시 (SHA-256 16진수, blob 식별자)
+    FL_SZ           NUMBER(19),                 -- 파일크기 (byte)
     DEL_YN          VARCHAR2(1)     DEFAULT 'N',-- 삭제여부 ('N'=미삭제, 'Y'=삭제)
     FST_ENR_DTM     DATE,                       -- 최초생성시간 (JPA Auditing 자동 기록)
     FST_ENR_USID    VARCHAR2(14),               -- 최초생성자 사번
@@ -29,6 +31,8 @@ COMMENT ON COLUMN TAAABB_CFILEM.FL_KPN_PTH   IS '파일저장경로';
 COMMENT ON COLUMN TAAABB_CFILEM.FL_DTT       IS '파일구분';
 COMMENT ON COLUMN TAAABB_CFILEM.ORC_PK_VL    IS '원본PK값';
 COMMENT ON COLUMN TAAABB_CFILEM.ORC_DTT      IS '원본구분';
+COMMENT ON COLUMN TAAABB_CFILEM.FL_HASH      IS '파일해시';
+COMMENT ON COLUMN TAAABB_CFILEM.FL_SZ        IS '파일크기';
 COMMENT ON COLUMN TAAABB_CFILEM.DEL_YN       IS '삭제여부';
 COMMENT ON COLUMN TAAABB_CFILEM.FST_ENR_DTM  IS '최초생성시간';
 COMMENT ON COLUMN TAAABB_CFILEM.FST_ENR_USID IS '최초생성자';
@@ -50,3 +54,7 @@ CREATE SEQUENCE S_FL
 -- 조회 성능 인덱스
 -- 원본구분 + 원본PK값 기준 조회 빈도가 높아 복합 인덱스 생성
 CREATE INDEX IDX_CFILEM_ORC ON TAAABB_CFILEM (ORC_DTT, ORC_PK_VL, DEL_YN);
+-- blob 참조 수 집계 (FL_HASH별 미삭제 행 수)
+CREATE INDEX IDX_CFILEM_FL_HASH ON TAAABB_CFILEM (FL_HASH, DEL_YN);
+-- 저장소 정리(GC) 서버파일명 대조 인덱스
+CREATE INDEX IDX_CFILEM_SVR_FL_NM ON TAAABB_CFILEM (SVR_FL_NM, DEL_YN);
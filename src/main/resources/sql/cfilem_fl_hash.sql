@@ -0,0 +1,33 @@
+-- ============================================================
+-- TAAABB_CFILEM (공통 첨부파일 관리) 내용 해시 중복 제거 DDL
+-- ============================================================
+-- 신규 업로드는 {basePath}/blobs/{해시 앞 2자리}/{해시 3~4자리}/{SHA-256} 로 저장되며,
+-- 같은 내용의 파일은 하나의 물리 파일(blob)을 여러 행이 공유합니다.
+-- blob 참조 수 = 같은 FL_HASH를 가진 DEL_YN='N' 행 수 (별도 카운터 컬럼 없음)
+--
+-- 실행 대상 DB: Oracle XEPDB1 (ITPAPP 사용자)
+-- 실행 방법: sqlplus ITPAPP@XEPDB1 @cfilem_fl_hash.sql
+--
+-- 주의
+--  - 기존 행은 FL_HASH가 NULL로 남으며 기존 경로의 파일을 그대로 사용합니다.
+
+ALTER TABLE TAAABB_CFILEM ADD (
+    FL_HASH         VARCHAR2(64),               -- 파일해시 (SHA-256 16진수)
+    FL_SZ           NUMBER(19)                  -- 파일크기 (byte)
+);
+
+-- blob 참조 수 집계 인덱스
+CREATE INDEX IDX_CFILEM_FL_HASH ON TAAABB_CFILEM (FL_HASH, DEL_YN);
+
+-- 코멘트
+COMMENT ON COLUMN TAAABB_CFILEM.FL_HASH IS '파일해시';
+COMMENT ON COLUMN TAAABB_CFILEM.FL_SZ   IS '파일크기';
+
+COMMIT;
+
+-- ------------------------------------------------------------
+-- 저장소 정리(GC) 서버파일명 대조 인덱스
+-- FileStorageGcService가 물리 파일명을 SVR_FL_NM IN (...) 으로 묶어 참조 여부를 확인합니다.
+-- (참조가 모두 삭제된 blob·참조 없는 파일은 유예 기간 후 {basePath}/.quarantine/ 으로 격리)
+-- ------------------------------------------------------------
+CREATE INDEX IDX_CFILEM_SVR_FL_NM ON TAAABB_CFILEM (SVR_FL_NM, DEL_YN);
@@ -0,0 +1,68 @@
+-- ============================================================
+-- TAAABB_CLOGND (로그인일별통계) / TAAABB_CLOGNU (로그인일별사용자) DDL
+-- ============================================================
+-- 관리자 대시보드가 로그인 이력(TAAABB_CLOGNH) 원본을 매번 GROUP BY 하지 않도록
+-- 일자·로그인유형별 건수와 사용자수를 미리 집계해 둡니다.
+-- 로그인 이력 배치 INSERT와 같은 트랜잭션에서 LoginStatsRollupWriter가 증분 MERGE 합니다.
+-- CLOGNU는 일자·유형·사번마다 1행을 두어 사용자수를 COUNT(DISTINCT) 없이 유지합니다.
+CREATE TABLE TAAABB_CLOGND (
+    LGN_DT          DATE            NOT NULL,   -- 로그인일자
+    LGN_TP          VARCHAR2(80)    NOT NULL,   -- 로그인유형 (LOGIN_SUCCESS, LOGIN_FAILURE, LOGOUT)
+    LGN_CNT         NUMBER(19,0)    DEFAULT 0 NOT NULL, -- 로그인건수
+    USR_CNT         NUMBER(19,0)    DEFAULT 0 NOT NULL, -- 사용자수
+    LST_CHG_DTM     TIMESTAMP(6),               -- 최종변경일시
+    CONSTRAINT PK_TAAABB_CLOGND PRIMARY KEY (LGN_DT, LGN_TP)
+);
+
+CREATE TABLE TAAABB_CLOGNU (
+    LGN_DT          DATE            NOT NULL,   -- 로그인일자
+    LGN_TP          VARCHAR2(80)    NOT NULL,   -- 로그인유형
+    ENO             VARCHAR2(32)    NOT NULL,   -- 사원번호
+    CONSTRAINT PK_TAAABB_CLOGNU PRIMARY KEY (LGN_DT, LGN_TP, ENO)
+);
+
+-- 코멘트
+COMMENT ON TABLE  TAAABB_CLOGND             IS '로그인일별통계';
+COMMENT ON COLUMN TAAABB_CLOGND.LGN_DT      IS '로그인일자';
+COMMENT ON COLUMN TAAABB_CLOGND.LGN_TP      IS '로그인유형';
+COMMENT ON COLUMN TAAABB_CLOGND.LGN_CNT     IS '로그인건수';
+COMMENT ON COLUMN TAAABB_CLOGND.USR_CNT     IS '사용자수';
+COMMENT ON COLUMN TAAABB_CLOGND.LST_CHG_DTM IS '최종변경일시';
+
+COMMENT ON TABLE  TAAABB_CLOGNU             IS '로그인일별사용자';
+COMMENT ON COLUMN TAAABB_CLOGNU.LGN_DT      IS '로그인일자';
+COMMENT ON COLUMN TAAABB_CLOGNU.LGN_TP      IS '로그인유형';
+COMMENT ON COLUMN TAAABB_CLOGNU.ENO         IS '사원번호';
+
+-- ============================================================
+-- 기존 이력 백필 (멱등 — 애플리케이션 중지 상태에서 실행 권장)
+-- ============================================================
+-- 애플리케이션은 기동 시 오늘 이전 통계가 비어 있으면 오늘 이전 이력만 자동 백필합니다.
+-- 아래 문장은 오늘 이력까지 포함해 전체를 다시 집계합니다.
+MERGE INTO TAAABB_CLOGNU u
+USING (
+    SELECT DISTINCT TRUNC(LGN_DTM) AS LGN_DT, LGN_TP, ENO
+    FROM TAAABB_CLOGNH
+    WHERE LGN_TP IS NOT NULL AND ENO IS NOT NULL
+) s
+ON (u.LGN_DT = s.LGN_DT AND u.LGN_TP = s.LGN_TP AND u.ENO = s.ENO)
+WHEN NOT MATCHED THEN INSERT (LGN_DT, LGN_TP, ENO) VALUES (s.LGN_DT, s.LGN_TP, s.ENO);
+
+MERGE INTO TAAABB_CLOGND d
+USING (
+    SELECT h.LGN_DT, h.LGN_TP, h.CNT,
+           (SELECT COUNT(*) FROM TAAABB_CLOGNU u
+            WHERE u.LGN_DT = h.LGN_DT AND u.LGN_TP = h.LGN_TP) AS USR_CNT
+    FROM (
+        SELECT TRUNC(LGN_DTM) AS LGN_DT, LGN_TP, COUNT(*) AS CNT
+        FROM TAAABB_CLOGNH
+        WHERE LGN_TP IS NOT NULL
+        GROUP BY TRUNC(LGN_DTM), LGN_TP
+    ) h
+) s
+ON (d.LGN_DT = s.LGN_DT AND d.LGN_TP = s.LGN_TP)
+WHEN MATCHED THEN UPDATE SET d.LGN_CNT = s.CNT, d.USR_CNT = s.USR_CNT, d.LST_CHG_DTM = SYSTIMESTAMP
+WHEN NOT MATCHED THEN INSERT (LGN_DT, LGN_TP, LGN_CNT, USR_CNT, LST_CHG_DTM)
+    VALUES (s.LGN_DT, s.LGN_TP, s.CNT, s.USR_CNT, SYSTIMESTAMP);
+
+COMMIT;
@@ -0,0 +1,35 @@
+-- ============================================================
+-- TAAABB_CRTOKM (갱신토큰) 토큰해시 전환 DDL
+-- ============================================================
+-- Refresh Token 원문(TOK, VARCHAR2(2000)) 대신 SHA-256 해시(TOK_HSH, 64자)를 UNIQUE 인덱스로 저장합니다.
+-- 갱신 시마다 토큰을 교체하고(RPL_YN='Y'), 교체된 토큰의 재사용을 탈취로 감지합니다.
+--
+-- 실행 대상 DB: Oracle XEPDB1 (ITPAPP 사용자)
+-- 실행 방법: sqlplus ITPAPP@XEPDB1 @crtokm_tok_hash.sql
+--
+-- 주의
+--  - 기존 행은 해시가 없으므로 삭제합니다. 적용 후 모든 사용자는 한 번 다시 로그인해야 합니다.
+--  - ddl-auto=update는 TOK 컬럼(NOT NULL)을 제거하지 않으므로 신규 버전 기동 전에 실행해야 합니다.
+
+DELETE FROM TAAABB_CRTOKM;
+
+ALTER TABLE TAAABB_CRTOKM DROP COLUMN TOK;
+
+ALTER TABLE TAAABB_CRTOKM ADD (
+    TOK_HSH         VARCHAR2(64)    NOT NULL,   -- 토큰해시 (SHA-256 16진수)
+    RPL_YN          VARCHAR2(1)     DEFAULT 'N' NOT NULL  -- 교체여부
+);
+
+ALTER TABLE TAAABB_CRTOKM ADD CONSTRAINT UK_CRTOKM_TOK_HSH UNIQUE (TOK_HSH);
+
+-- 사용자별 삭제(로그인·로그아웃·재사용 감지), 만료 행 정리용 인덱스
+CREATE INDEX IDX_CRTOKM_ENO     ON TAAABB_CRTOKM (ENO);
+CREATE INDEX IDX_CRTOKM_END_DTM ON TAAABB_CRTOKM (END_DTM);
+-- 재사용 감지 구간이 지난 교체 행 정리용 인덱스 (교체 시각은 LST_CHG_DTM에 기록)
+CREATE INDEX IDX_CRTOKM_RPL     ON TAAABB_CRTOKM (RPL_YN, LST_CHG_DTM);
+
+-- 코멘트
+COMMENT ON COLUMN TAAABB_CRTOKM.TOK_HSH IS '토큰해시';
+COMMENT ON COLUMN TAAABB_CRTOKM.RPL_YN  IS '교체여부';
+
+COMMIT;
@@ -0,0 +1,13 @@
+-- ============================================================
+-- TAAABB_CUSERI.USR_ECY_PWD 길이 확장 (비밀번호 해시 알고리즘 전환)
+-- ============================================================
+-- 새 비밀번호는 {id} 접두어가 붙은 느린 해시로 저장합니다.
+--   {bcrypt}$2a$10$... 68자 / {pbkdf2}<salt+hash hex> 104자 (app.password.encoder)
+-- 접두어 없는 기존 SHA-256(Base64 44자) 값은 그대로 두며, 로그인 성공 시 애플리케이션이 재해시합니다.
+-- (ddl-auto=update는 기존 컬럼 길이를 늘리지 않으므로 배포 전에 실행)
+ALTER TABLE TAAABB_CUSERI MODIFY (USR_ECY_PWD VARCHAR2(128));
+
+-- ============================================================
+-- 재해시 진행 현황 확인 (접두어 없는 행 = 아직 로그인하지 않은 기존 SHA-256 사용자)
+-- ============================================================
+-- SELECT COUNT(*) FROM TAAABB_CUSERI WHERE USR_ECY_PWD NOT LIKE '{%';
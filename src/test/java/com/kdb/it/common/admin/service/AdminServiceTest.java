@@ -3,13 +3,17 @@ package com.kdb.it.common.admin.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.time.LocalDate;
 
 import org.junit.jupiter.api.DisplayName;
@@ -18,11 +22,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.kdb.it.common.admin.dto.AdminDto;
 import com.kdb.it.common.code.entity.Ccodem;
 import com.kdb.it.common.code.repository.CodeRepository;
+import com.kdb.it.common.code.service.CacheVersionService;
+import com.kdb.it.common.code.service.CodeDictionary;
 import com.kdb.it.common.iam.entity.CauthI;
 import com.kdb.it.common.iam.entity.CorgnI;
 import com.kdb.it.common.iam.entity.CroleI;
@@ -32,9 +37,12 @@ import com.kdb.it.common.iam.repository.AuthRepository;
 import com.kdb.it.common.iam.repository.OrganizationRepository;
 import com.kdb.it.common.iam.repository.RoleRepository;
 import com.kdb.it.common.iam.repository.UserRepository;
+import com.kdb.it.common.iam.service.DirectoryCacheService;
 import com.kdb.it.common.system.entity.Clognh;
 import com.kdb.it.common.system.repository.LoginHistoryRepository;
+import com.kdb.it.common.system.repository.LoginStatsRepository;
 import com.kdb.it.common.system.repository.RefreshTokenRepository;
+import com.kdb.it.common.system.security.PasswordHasher;
 import com.kdb.it.infra.file.repository.FileRepository;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -65,13 +73,21 @@ class AdminServiceTest {
     @Mock
     private OrganizationRepository orgRepository;
     @Mock
+    private DirectoryCacheService directoryCacheService;
+    @Mock
+    private CodeDictionary codeDictionary;
+    @Mock
+    private CacheVersionService cacheVersionService;
+    @Mock
     private LoginHistoryRepository loginHistoryRepository;
     @Mock
+    private LoginStatsRepository loginStatsRepository;
+    @Mock
     private RefreshTokenRepository refreshTokenRepository;
     @Mock
     private FileRepository fileRepository;
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @InjectMocks
     private AdminService adminService;
@@ -107,8 +123,10 @@ class AdminServiceTest {
         // when
         adminService.createCode(req);
 
-        // then
+        // then: 저장 + 커밋 후 사전 재적재 + 다른 서버 무효화용 변경버전 증가
         verify(codeRepository, times(1)).save(any(Ccodem.class));
+        verify(codeDictionary).reloadAfterCommit();
+        verify(cacheVersionService).publish(CodeDictionary.REGION);
     }
 
     @Test
@@ -265,13 +283,13 @@ class AdminServiceTest {
         AdminDto.UserRequest req = new AdminDto.UserRequest(
                 "10002", "김테스트", null, null, null, null, null, null, null);
         given(userRepository.existsByEno("10002")).willReturn(false);
-        given(passwordEncoder.encode("changeme")).willReturn("encodedDefault");
+        given(passwordHasher.encode("changeme")).willReturn("encodedDefault");
 
         // when
         adminService.createUser(req);
 
         // then
-        verify(passwordEncoder, times(1)).encode("changeme");
+        verify(passwordHasher, times(1)).encode("changeme");
         verify(userRepository, times(1)).save(any(CuserI.class));
     }
 
@@ -295,13 +313,14 @@ class AdminServiceTest {
         AdminDto.UserRequest req = new AdminDto.UserRequest(
                 "10001", "홍길동", null, null, null, null, null, null, "newPassword");
         given(userRepository.findByEno("10001")).willReturn(Optional.of(user));
-        given(passwordEncoder.encode("newPassword")).willReturn("encodedNew");
+        given(passwordHasher.encode("newPassword")).willReturn("encodedNew");
 
         // when
         adminService.updateUser("10001", req);
 
-        // then: 비밀번호 인코딩 호출 확인
-        verify(passwordEncoder, times(1)).encode("newPassword");
+        // then: 비밀번호 인코딩 호출 및 이름 캐시 무효화 확인
+        verify(passwordHasher, times(1)).encode("newPassword");
+        verify(directoryCacheService).invalidateUser("10001");
     }
 
     // =========================================================================
@@ -334,6 +353,7 @@ class AdminServiceTest {
 
         // then
         assertThat(org.getDelYn()).isEqualTo("Y");
+        verify(directoryCacheService).invalidateOrg("BBR001");
     }
 
     @Test
@@ -342,7 +362,7 @@ class AdminServiceTest {
         // given
         Ccodem code = Ccodem.builder().cdId("CODE001").cdNm("코드1").build();
         given(codeRepository.findAllActive()).willReturn(List.of(code));
-        given(userRepository.findByEnoIn(any())).willReturn(Collections.emptyList());
+        given(directoryCacheService.getUserNames(any())).willReturn(Collections.emptyMap());
 
         // when
         List<AdminDto.CodeResponse> result = adminService.getCodes();
@@ -364,7 +384,7 @@ class AdminServiceTest {
         CauthI deleted = CauthI.builder().athId("ITPZZ999").qlfGrNm("삭제등급").delYn("Y").build();
         given(authRepository.findAll()).willReturn(List.of(active, deleted));
         // resolveUserName 호출 시 사용자명 조회 mock
-        given(userRepository.findByEno(any())).willReturn(java.util.Optional.empty());
+        given(directoryCacheService.getUserName(any())).willReturn(null);
 
         // when
         List<AdminDto.AuthGradeResponse> result = adminService.getAuthGrades();
@@ -443,7 +463,7 @@ class AdminServiceTest {
         CroleI active = CroleI.builder().id(activeId).useYn("Y").delYn("N").build();
         CroleI deleted = CroleI.builder().id(deletedId).useYn("N").delYn("Y").build();
         given(roleRepository.findAll()).willReturn(List.of(active, deleted));
-        given(userRepository.findByEno(any())).willReturn(java.util.Optional.empty());
+        given(directoryCacheService.getUserName(any())).willReturn(null);
 
         // when
         List<AdminDto.RoleResponse> result = adminService.getRoles();
@@ -529,7 +549,7 @@ class AdminServiceTest {
         CorgnI active = CorgnI.builder().prlmOgzCCone("BBR001").bbrNm("IT부문").delYn("N").build();
         CorgnI deleted = CorgnI.builder().prlmOgzCCone("BBR999").bbrNm("폐지부서").delYn("Y").build();
         given(orgRepository.findAll()).willReturn(List.of(active, deleted));
-        given(userRepository.findByEno(any())).willReturn(java.util.Optional.empty());
+        given(directoryCacheService.getUserName(any())).willReturn(null);
 
         // when
         List<AdminDto.OrgResponse> result = adminService.getOrganizations();
@@ -551,9 +571,10 @@ class AdminServiceTest {
         // when
         adminService.updateOrganization("BBR001", req);
 
-        // then: Dirty Checking — update() 호출 후 필드 변경 확인
+        // then: Dirty Checking — update() 호출 후 필드 변경 및 이름 캐시 무효화 확인
         assertThat(org.getBbrNm()).isEqualTo("수정된부문명");
         assertThat(org.getBbrWrenNm()).isEqualTo("Updated Division");
+        verify(directoryCacheService).invalidateOrg("BBR001");
     }
 
     @Test
@@ -586,18 +607,43 @@ class AdminServiceTest {
         org.springframework.data.domain.Pageable pageable = PageRequest.of(0, 10);
         Page<Clognh> page = new PageImpl<>(List.of(log), pageable, 1);
         given(loginHistoryRepository.findAllByOrderByLgnDtmDesc(pageable)).willReturn(page);
-        // resolveUserName 조회 mock
-        given(userRepository.findByEno("10001")).willReturn(java.util.Optional.empty());
+        // 페이지 단위 사용자명 일괄 조회 mock
+        given(directoryCacheService.getUserNames(Set.of("10001"))).willReturn(Map.of("10001", "홍길동"));
 
         // when
         Page<AdminDto.LoginHistoryResponse> result = adminService.getLoginHistory(pageable);
 
-        // then: 1건 반환, ENO와 로그인 타입 검증
+        // then: 1건 반환, ENO·사용자명·로그인 타입 검증
         assertThat(result.getTotalElements()).isEqualTo(1);
         assertThat(result.getContent().get(0).eno()).isEqualTo("10001");
+        assertThat(result.getContent().get(0).usrNm()).isEqualTo("홍길동");
         assertThat(result.getContent().get(0).lgnTp()).isEqualTo("LOGIN_SUCCESS");
     }
 
+    @Test
+    @DisplayName("getLoginHistory: 사용자명은 페이지당 한 번 일괄 조회하고, 없는 사번은 ENO를 그대로 표시한다")
+    void getLoginHistory_사용자명일괄조회() {
+        // given: 같은 사번 2건 + 조직도에 없는 사번 1건
+        java.time.LocalDateTime at = java.time.LocalDateTime.of(2026, 4, 1, 9, 0);
+        List<Clognh> logs = List.of(
+                Clognh.builder().eno("10001").lgnTp("LOGIN_SUCCESS").lgnDtm(at).build(),
+                Clognh.builder().eno("10001").lgnTp("LOGOUT").lgnDtm(at.plusHours(8)).build(),
+                Clognh.builder().eno("99999").lgnTp("LOGIN_FAILURE").lgnDtm(at).build());
+        org.springframework.data.domain.Pageable pageable = PageRequest.of(0, 10);
+        given(loginHistoryRepository.findAllByOrderByLgnDtmDesc(pageable))
+                .willReturn(new PageImpl<>(logs, pageable, 3));
+        given(directoryCacheService.getUserNames(Set.of("10001", "99999"))).willReturn(Map.of("10001", "홍길동"));
+
+        // when
+        Page<AdminDto.LoginHistoryResponse> result = adminService.getLoginHistory(pageable);
+
+        // then
+        assertThat(result.getContent()).extracting(AdminDto.LoginHistoryResponse::usrNm)
+                .containsExactly("홍길동", "홍길동", "99999");
+        verify(directoryCacheService, times(1)).getUserNames(any());
+        verify(directoryCacheService, never()).getUserName(anyString());
+    }
+
     @Test
     @DisplayName("getLoginHistory: 이력이 없으면 빈 페이지를 반환한다")
     void getLoginHistory_이력없음_빈페이지반환() {
@@ -613,4 +659,27 @@ class AdminServiceTest {
         assertThat(result.getTotalElements()).isZero();
         assertThat(result.getContent()).isEmpty();
     }
+
+    // =========================================================================
+    // 대시보드 통계 (Clognd)
+    // =========================================================================
+
+    @Test
+    @DisplayName("getLoginStats: 일별 통계 롤업의 성공/실패 건수와 사용자수를 반환한다")
+    void getLoginStats_롤업조회() {
+        // given: [날짜, 성공건수, 실패건수, 성공사용자수] (Oracle NUMBER → BigDecimal)
+        given(loginStatsRepository.findRecentDailyStats()).willReturn(List.<Object[]>of(
+                new Object[] { "2026-04-01", new java.math.BigDecimal(120), new java.math.BigDecimal(3),
+                        new java.math.BigDecimal(95) },
+                new Object[] { "2026-04-02", new java.math.BigDecimal(0), new java.math.BigDecimal(2),
+                        new java.math.BigDecimal(0) }));
+
+        // when
+        List<AdminDto.LoginStatResponse> result = adminService.getLoginStats();
+
+        // then
+        assertThat(result).containsExactly(
+                new AdminDto.LoginStatResponse(LocalDate.of(2026, 4, 1), 120L, 3L, 95L),
+                new AdminDto.LoginStatResponse(LocalDate.of(2026, 4, 2), 0L, 2L, 0L));
+    }
 }
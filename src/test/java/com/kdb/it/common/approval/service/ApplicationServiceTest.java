@@ -3,6 +3,7 @@ package com.kdb.it.common.approval.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -14,6 +15,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -23,6 +25,7 @@ import org.springframework.context.ApplicationEventPublisher;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kdb.it.common.approval.dto.ApplicationDto;
+import com.kdb.it.common.approval.entity.Cappla;
 import com.kdb.it.common.approval.entity.Capplm;
 import com.kdb.it.common.approval.entity.Cdecim;
 import com.kdb.it.common.approval.event.ApprovalCompletedEvent;
@@ -57,6 +60,7 @@ class ApplicationServiceTest {
     @Mock private ProjectRepository projectRepository;
     @Mock private CostRepository costRepository;
     @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private ApplicationStatusService applicationStatusService;
 
     @InjectMocks
     private ApplicationService applicationService;
@@ -93,6 +97,36 @@ class ApplicationServiceTest {
     // approve — 예외 케이스
     // ───────────────────────────────────────────────────────
 
+    @Test
+    @DisplayName("submit - 연결 원본들을 최신 신청서 상태(결재중)로 기록한다")
+    void submit_원본연결_최신상태기록() {
+        // given
+        ApplicationDto.OrcItem orcItem = new ApplicationDto.OrcItem();
+        orcItem.setOrcTbCd("BPROJM");
+        orcItem.setOrcPkVl("PRJ-2026-0001");
+        orcItem.setOrcSnoVl("1");
+        ApplicationDto.CreateRequest request = new ApplicationDto.CreateRequest();
+        request.setApfNm("전산예산 작성");
+        request.setRqsEno("E10001");
+        request.setOrcItems(List.of(orcItem));
+        request.setApproverEnos(List.of("E20001"));
+        given(applicationRepository.getNextVal()).willReturn(1L);
+        given(applicationMapRepository.getNextVal()).willReturn(7L);
+
+        // when
+        String apfMngNo = applicationService.submit(request);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Cappla>> captor = ArgumentCaptor.forClass(List.class);
+        verify(applicationStatusService).recordSubmitted(captor.capture(), eq("결재중"));
+        assertThat(captor.getValue()).singleElement().satisfies(link -> {
+            assertThat(link.getApfMngNo()).isEqualTo(apfMngNo);
+            assertThat(link.getOrcPkVl()).isEqualTo("PRJ-2026-0001");
+            assertThat(link.getOrcSnoVl()).isEqualTo(1);
+        });
+    }
+
     @Test
     @DisplayName("approve: 신청서가 없으면 IllegalArgumentException을 던진다")
     void approve_신청서없음_IllegalArgumentException발생() {
@@ -0,0 +1,145 @@
+package com.kdb.it.common.approval.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.kdb.it.common.approval.entity.Cappla;
+import com.kdb.it.common.approval.entity.Capplc;
+import com.kdb.it.common.approval.entity.CapplcId;
+import com.kdb.it.common.approval.event.ApprovalCompletedEvent;
+import com.kdb.it.common.approval.repository.ApplicationMapRepository;
+import com.kdb.it.common.approval.repository.ApplicationStatusRepository;
+
+/**
+ * ApplicationStatusService 단위 테스트
+ *
+ * <p>
+ * 상신 시 원본별 최신 신청서 교체(신규 INSERT / 기존 UPDATE), 결재 종결 이벤트에 따른 상태 갱신,
+ * 기동 시 백필 조건을 검증합니다. Oracle DB 없이 실행됩니다.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+class ApplicationStatusServiceTest {
+
+    @Mock
+    private ApplicationStatusRepository applicationStatusRepository;
+
+    @Mock
+    private ApplicationMapRepository applicationMapRepository;
+
+    @InjectMocks
+    private ApplicationStatusService applicationStatusService;
+
+    private static Cappla link(String apfRelSno, String apfMngNo, String orcTbCd, String orcPkVl, Integer orcSnoVl) {
+        return Cappla.builder()
+                .apfRelSno(apfRelSno).apfMngNo(apfMngNo)
+                .orcTbCd(orcTbCd).orcPkVl(orcPkVl).orcSnoVl(orcSnoVl)
+                .build();
+    }
+
+    @Test
+    @DisplayName("recordSubmitted: 최신 상태 행이 없는 원본은 결재중 상태로 일괄 INSERT한다 (일련번호 없으면 0)")
+    void recordSubmitted_신규원본_일괄INSERT() {
+        // given
+        Cappla project = link("APPL_0000000000000000000000000010", "APF_202600000010", "BPROJM", "PRJ-2026-0001", 1);
+        Cappla council = link("APPL_0000000000000000000000000011", "APF_202600000010", "BASCTM", "ASCT-0001", null);
+        given(applicationStatusRepository.findAllById(any())).willReturn(List.of());
+
+        // when
+        applicationStatusService.recordSubmitted(List.of(project, council), "결재중");
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Capplc>> captor = ArgumentCaptor.forClass(List.class);
+        verify(applicationStatusRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(Capplc::getOrcTbCd, Capplc::getOrcSnoVl, Capplc::getApfMngNo, Capplc::getApfSts)
+                .containsExactly(
+                        tuple("BPROJM", 1, "APF_202600000010", "결재중"),
+                        tuple("BASCTM", 0, "APF_202600000010", "결재중"));
+    }
+
+    @Test
+    @DisplayName("recordSubmitted: 기존 행은 새 신청서로 교체하고 INSERT하지 않는다")
+    void recordSubmitted_기존원본_교체() {
+        // given: 이전 신청서가 반려된 원본에 재상신
+        Capplc existing = Capplc.of(
+                link("APPL_0000000000000000000000000001", "APF_202600000001", "BPROJM", "PRJ-2026-0001", 1), "반려");
+        Cappla resubmit = link("APPL_0000000000000000000000000002", "APF_202600000002", "BPROJM", "PRJ-2026-0001", 1);
+        given(applicationStatusRepository.findAllById(any())).willReturn(List.of(existing));
+
+        // when
+        applicationStatusService.recordSubmitted(List.of(resubmit), "결재중");
+
+        // then
+        assertThat(existing.getApfMngNo()).isEqualTo("APF_202600000002");
+        assertThat(existing.getApfRelSno()).isEqualTo("APPL_0000000000000000000000000002");
+        assertThat(existing.getApfSts()).isEqualTo("결재중");
+        verify(applicationStatusRepository).saveAll(List.of());
+    }
+
+    @Test
+    @DisplayName("relink: 이미 더 최근 신청서를 가리키면 이전 신청서로 되돌리지 않는다")
+    void relink_이전신청서_무시() {
+        Capplc current = Capplc.of(
+                link("APPL_0000000000000000000000000005", "APF_202600000005", "BCOSTM", "COST_2026_0001", 1), "결재중");
+
+        current.relink(link("APPL_0000000000000000000000000004", "APF_202600000004", "BCOSTM", "COST_2026_0001", 1),
+                "결재완료");
+
+        assertThat(current.getApfMngNo()).isEqualTo("APF_202600000005");
+        assertThat(current.getApfSts()).isEqualTo("결재중");
+        assertThat(current.getId()).isEqualTo(new CapplcId("BCOSTM", "COST_2026_0001", 1));
+    }
+
+    @Test
+    @DisplayName("handleApprovalCompleted: 해당 신청서를 최신으로 가리키는 원본 행의 상태를 변경한다")
+    void handleApprovalCompleted_최신행_상태변경() {
+        // given
+        Capplc row = Capplc.of(
+                link("APPL_0000000000000000000000000003", "APF_202600000003", "BPROJM", "PRJ-2026-0002", 1), "결재중");
+        given(applicationStatusRepository.findByApfMngNo("APF_202600000003")).willReturn(List.of(row));
+
+        // when
+        applicationStatusService.handleApprovalCompleted(new ApprovalCompletedEvent("APF_202600000003", "결재완료"));
+
+        // then
+        assertThat(row.getApfSts()).isEqualTo("결재완료");
+    }
+
+    @Test
+    @DisplayName("backfillIfEmpty: 최신 상태 테이블이 이미 채워져 있으면 백필하지 않는다")
+    void backfillIfEmpty_데이터있음_백필생략() {
+        given(applicationStatusRepository.count()).willReturn(10L);
+
+        applicationStatusService.backfillIfEmpty();
+
+        verify(applicationStatusRepository, never()).backfillFromApplications();
+    }
+
+    @Test
+    @DisplayName("backfillIfEmpty: 테이블이 비어 있고 신청서 이력이 있으면 1회 백필한다")
+    void backfillIfEmpty_비어있음_백필() {
+        given(applicationStatusRepository.count()).willReturn(0L);
+        given(applicationMapRepository.count()).willReturn(3L);
+        given(applicationStatusRepository.backfillFromApplications()).willReturn(3);
+
+        applicationStatusService.backfillIfEmpty();
+
+        verify(applicationStatusRepository).backfillFromApplications();
+    }
+}
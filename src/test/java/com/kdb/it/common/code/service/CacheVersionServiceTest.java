@@ -0,0 +1,181 @@
+package com.kdb.it.common.code.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.kdb.it.common.code.dto.CodeDto;
+import com.kdb.it.common.code.entity.Ccodem;
+import com.kdb.it.common.code.repository.CodeRepository;
+import com.kdb.it.config.CacheConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * CacheVersionService 다중 서버 무효화 테스트
+ *
+ * <p>
+ * 하나의 H2(Oracle 모드) DB를 공유하는 애플리케이션 컨텍스트 두 개(SVR1/SVR2 역할)를 띄워,
+ * 한 서버의 공통코드 변경이 다른 서버의 캐시에 폴링 후 반영되는지 검증합니다.
+ * CodeRepository는 두 컨텍스트가 같은 Mock을 공유하여 "같은 CCODEM 테이블"을 흉내 내고,
+ * 사전 적재 시에는 행의 복사본을 돌려주어 서버마다 메모리 사전이 분리되도록 합니다.
+ * 스케줄러는 띄우지 않고 {@link CacheVersionService#poll()}을 직접 호출합니다.
+ * </p>
+ */
+class CacheVersionServiceTest {
+
+    private static final LocalDate STT_DT = LocalDate.of(2026, 1, 1);
+
+    private DataSource dataSource;
+    private CodeRepository codeRepository;
+
+    private AnnotationConfigApplicationContext svr1;
+    private AnnotationConfigApplicationContext svr2;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:cache-sync;MODE=Oracle;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS TAAABB_CCACHV");
+        jdbcTemplate.execute("CREATE TABLE TAAABB_CCACHV (CACHE_NM VARCHAR2(50) PRIMARY KEY, "
+                + "VRS_NO NUMBER(19,0) DEFAULT 0 NOT NULL, LST_CHG_DTM TIMESTAMP(6))");
+
+        // 공유 "CCODEM 행": 수정은 이 객체에, 사전 적재는 복사본으로 (서버별 메모리 분리)
+        Ccodem startRow = Ccodem.builder().cdId("BG-RQS-STA").sttDt(STT_DT).cdva("2020-01-01").cttTp("BG_RQS").build();
+        Ccodem endRow = Ccodem.builder().cdId("BG-RQS-END").sttDt(STT_DT).cdva("2020-12-31").cttTp("BG_RQS").build();
+        codeRepository = mock(CodeRepository.class);
+        given(codeRepository.findAllActive()).willAnswer(inv -> List.of(copy(startRow), copy(endRow)));
+        given(codeRepository.findByCdIdAndSttDtAndDelYn("BG-RQS-END", STT_DT, "N")).willReturn(Optional.of(endRow));
+
+        svr1 = startNode();
+        svr2 = startNode();
+    }
+
+    @AfterEach
+    void tearDown() {
+        svr1.close();
+        svr2.close();
+    }
+
+    private AnnotationConfigApplicationContext startNode() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(JdbcTemplate.class, () -> new JdbcTemplate(dataSource));
+        context.registerBean(PlatformTransactionManager.class, () -> new DataSourceTransactionManager(dataSource));
+        context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        context.registerBean(CodeRepository.class, () -> codeRepository);
+        context.register(CacheConfig.class, CodeService.class, CodeDictionary.class, CacheVersionService.class);
+        context.refresh();
+        return context;
+    }
+
+    private static Ccodem copy(Ccodem row) {
+        return Ccodem.builder().cdId(row.getCdId()).sttDt(row.getSttDt()).endDt(row.getEndDt())
+                .cdva(row.getCdva()).cttTp(row.getCttTp()).build();
+    }
+
+    private CodeDto.UpdateRequest endDateRequest(String cdva) {
+        CodeDto.UpdateRequest request = new CodeDto.UpdateRequest();
+        request.setCdNm("예산신청종료일자");
+        request.setCdva(cdva);
+        request.setCttTp("BG_RQS");
+        return request;
+    }
+
+    @Test
+    @DisplayName("SVR1의 공통코드 수정이 SVR2의 캐시된 예산 신청 기간에 폴링 후 반영된다")
+    void updateCcodem_다른서버캐시_폴링후반영() {
+        // given: 두 서버 모두 기존 기간을 캐시, 폴링 기준 버전 확보
+        CodeService svr1CodeService = svr1.getBean(CodeService.class);
+        CodeService svr2CodeService = svr2.getBean(CodeService.class);
+        CacheVersionService svr2Sync = svr2.getBean(CacheVersionService.class);
+        svr1.getBean(CacheVersionService.class).poll();
+        svr2Sync.poll();
+        svr1CodeService.getBudgetPeriod();
+        svr2CodeService.getBudgetPeriod();
+
+        // when: SVR1에서 종료일자 연장
+        svr1CodeService.updateCcodem("BG-RQS-END", STT_DT, endDateRequest("2099-12-31"));
+
+        // then: SVR1은 즉시, SVR2는 폴링 전까지 이전 값(사전·캐시 모두) → 폴링 후 새 값
+        assertThat(svr1CodeService.getBudgetPeriod().getEndDate()).isEqualTo("2099-12-31");
+        assertThat(svr2CodeService.getBudgetPeriod().getEndDate()).isEqualTo("2020-12-31");
+        assertThat(svr2CodeService.getCcodemById("BG-RQS-END", null).getCdva()).isEqualTo("2020-12-31");
+        svr2Sync.poll();
+        assertThat(svr2CodeService.getBudgetPeriod().getEndDate()).isEqualTo("2099-12-31");
+        assertThat(svr2CodeService.getCcodemById("BG-RQS-END", null).getCdva()).isEqualTo("2099-12-31");
+        assertThat(svr2.getBean(MeterRegistry.class).get("cache.sync.invalidations")
+                .tag("cache", CodeDictionary.REGION).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌지 않았으면 폴링해도 사전을 다시 적재하지 않는다")
+    void poll_변경없음_재적재없음() {
+        // given: SVR1 변경(SVR1 재적재 1회) → SVR2 폴링(SVR2 재적재 1회)
+        CacheVersionService svr2Sync = svr2.getBean(CacheVersionService.class);
+        svr1.getBean(CodeService.class).updateCcodem("BG-RQS-END", STT_DT, endDateRequest("2020-12-31"));
+        svr2Sync.poll();
+        svr2.getBean(CodeService.class).getBudgetPeriod();
+
+        // when
+        svr2Sync.poll();
+        svr2Sync.poll();
+
+        // then
+        verify(codeRepository, times(2)).findAllActive();
+        assertThat(svr2.getBean(MeterRegistry.class).get("cache.sync.invalidations")
+                .tag("cache", CodeDictionary.REGION).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("publish - 버전 행이 없으면 1로 생성하고, 있으면 1씩 증가한다")
+    void publish_행생성후증가() {
+        // given
+        CacheVersionService sync = svr1.getBean(CacheVersionService.class);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // when
+        sync.publish(CodeDictionary.REGION);
+        sync.publish(CodeDictionary.REGION, CacheConfig.CODES_BY_TYPE);
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT VRS_NO FROM TAAABB_CCACHV WHERE CACHE_NM = ?",
+                Long.class, CodeDictionary.REGION)).isEqualTo(2L);
+        assertThat(jdbcTemplate.queryForObject("SELECT VRS_NO FROM TAAABB_CCACHV WHERE CACHE_NM = ?",
+                Long.class, CacheConfig.CODES_BY_TYPE)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("poll - 버전 테이블 조회 실패 시 예외 없이 실패 메트릭만 올린다")
+    void poll_조회실패_예외없음() {
+        // given
+        new JdbcTemplate(dataSource).execute("DROP TABLE TAAABB_CCACHV");
+        CacheVersionService sync = svr1.getBean(CacheVersionService.class);
+
+        // when
+        sync.poll();
+
+        // then
+        assertThat(svr1.getBean(MeterRegistry.class).get("cache.sync.poll.failures").counter().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,156 @@
+package com.kdb.it.common.code.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kdb.it.common.code.entity.Ccodem;
+import com.kdb.it.common.code.repository.CodeRepository;
+import com.kdb.it.config.CacheConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * CodeDictionary 단위 테스트
+ *
+ * <p>
+ * CodeRepository·CacheManager를 Mock 처리하여 Oracle DB 없이
+ * 기준일자 구간 조회, 코드값구분 정렬 유지, 재적재 시 사전 교체·파생 캐시 무효화, 커밋 후 재적재를 검증합니다.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CodeDictionaryTest {
+
+    @Mock
+    private CodeRepository codeRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private CacheVersionService cacheVersionService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Cache derivedCache;
+
+    private CodeDictionary codeDictionary;
+
+    @BeforeEach
+    void setUp() {
+        given(cacheManager.getCache(any())).willReturn(derivedCache);
+        codeDictionary = new CodeDictionary(codeRepository, cacheManager, cacheVersionService, transactionManager,
+                new SimpleMeterRegistry());
+        codeDictionary.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Ccodem code(String cdId, String cttTp, String cdva, LocalDate sttDt, LocalDate endDt) {
+        return Ccodem.builder().cdId(cdId).cttTp(cttTp).cdva(cdva).sttDt(sttDt).endDt(endDt).build();
+    }
+
+    @Test
+    @DisplayName("find - 기준일자가 속한 이력을 반환하고, 구간 밖이면 비어 있다")
+    void find_기준일자구간조회() {
+        // given: 같은 코드ID의 2025년·2026년 이력
+        Ccodem old = code("IOE-001", "IOE_CPIT", "구", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+        Ccodem cur = code("IOE-001", "IOE_CPIT", "신", LocalDate.of(2026, 1, 1), null);
+        given(codeRepository.findAllActive()).willReturn(List.of(old, cur));
+
+        // when & then
+        assertThat(codeDictionary.find("IOE-001", LocalDate.of(2025, 6, 1))).containsSame(old);
+        assertThat(codeDictionary.find("IOE-001", LocalDate.of(2026, 6, 1))).containsSame(cur);
+        assertThat(codeDictionary.find("IOE-001", LocalDate.of(2024, 12, 31))).isEmpty();
+        assertThat(codeDictionary.find("NONE", null)).isEmpty();
+        verify(codeRepository, times(1)).findAllActive();
+    }
+
+    @Test
+    @DisplayName("findByCttTp - 기준일자에 유효한 코드만 적재 순서(코드순서)대로 반환한다")
+    void findByCttTp_유효코드_순서유지() {
+        // given: findAllActive 정렬 순서 = 코드순서
+        Ccodem first = code("IOE-002", "IOE_CPIT", "a", null, null);
+        Ccodem expired = code("IOE-003", "IOE_CPIT", "b", null, LocalDate.of(2020, 12, 31));
+        Ccodem second = code("IOE-001", "IOE_CPIT", "c", LocalDate.of(2020, 1, 1), null);
+        Ccodem other = code("BG-RQS-STA", "BG_RQS", "d", null, null);
+        given(codeRepository.findAllActive()).willReturn(List.of(first, expired, second, other));
+
+        // when
+        List<Ccodem> result = codeDictionary.findByCttTp("IOE_CPIT", LocalDate.of(2026, 1, 1));
+
+        // then
+        assertThat(result).containsExactly(first, second);
+    }
+
+    @Test
+    @DisplayName("reload - 새 사전으로 교체하고 파생 캐시를 비운다")
+    void reload_사전교체_파생캐시무효화() {
+        // given
+        given(codeRepository.findAllActive())
+                .willReturn(List.of(code("BG-RQS-END", "BG_RQS", "2020-12-31", null, null)))
+                .willReturn(List.of(code("BG-RQS-END", "BG_RQS", "2099-12-31", null, null)));
+        assertThat(codeDictionary.find("BG-RQS-END", null).orElseThrow().getCdva()).isEqualTo("2020-12-31");
+
+        // when
+        codeDictionary.reload();
+
+        // then
+        assertThat(codeDictionary.find("BG-RQS-END", null).orElseThrow().getCdva()).isEqualTo("2099-12-31");
+        verify(cacheManager, times(2)).getCache(eq(CacheConfig.CODES_BY_TYPE));
+        verify(derivedCache, times(4)).invalidate(); // 적재 2회 × 파생 캐시 2개
+    }
+
+    @Test
+    @DisplayName("reloadAfterCommit - 트랜잭션 안에서는 커밋 후에 재적재한다")
+    void reloadAfterCommit_커밋후재적재() {
+        // given
+        given(codeRepository.findAllActive()).willReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        codeDictionary.reloadAfterCommit();
+
+        // then: 커밋 전에는 조회하지 않음
+        verify(codeRepository, times(0)).findAllActive();
+        for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+            sync.afterCommit();
+        }
+        verify(codeRepository, times(1)).findAllActive();
+    }
+
+    @Test
+    @DisplayName("init - 다른 서버 변경 시 재적재하도록 변경버전 캐시명을 등록한다")
+    void init_변경버전등록() {
+        verify(cacheVersionService).register(eq(CodeDictionary.REGION), any());
+    }
+}
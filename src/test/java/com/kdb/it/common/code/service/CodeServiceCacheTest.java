@@ -0,0 +1,141 @@
+package com.kdb.it.common.code.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.kdb.it.common.code.dto.CodeDto;
+import com.kdb.it.common.code.entity.Ccodem;
+import com.kdb.it.common.code.repository.CodeRepository;
+import com.kdb.it.config.CacheConfig;
+import com.kdb.it.exception.CustomGeneralException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * CodeService 캐시 동작 테스트
+ *
+ * <p>
+ * {@link CacheConfig}의 캐시 매니저, {@link CodeDictionary}, CodeService 프록시만 띄워
+ * (DB 없이 CodeRepository는 Mock) 조회 캐시 적중과 공통코드 변경 시 사전 교체·캐시 무효화를 검증합니다.
+ * </p>
+ */
+@SpringJUnitConfig(classes = { CacheConfig.class, CodeDictionary.class, CodeService.class,
+        CodeServiceCacheTest.MetricsConfig.class })
+class CodeServiceCacheTest {
+
+    @Configuration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    private static final LocalDate STT_DT = LocalDate.of(2026, 1, 1);
+
+    @Autowired
+    private CodeService codeService;
+
+    @Autowired
+    private CodeDictionary codeDictionary;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private CodeRepository codeRepository;
+
+    @MockitoBean
+    private CacheVersionService cacheVersionService;
+
+    @MockitoBean
+    private PlatformTransactionManager transactionManager;
+
+    private Ccodem startCode;
+    private Ccodem endCode;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        // 신청 기간이 이미 끝난 상태 (2020-01-01 ~ 2020-12-31)
+        startCode = Ccodem.builder().cdId("BG-RQS-STA").sttDt(STT_DT).cdva("2020-01-01").cttTp("BG_RQS").build();
+        endCode = Ccodem.builder().cdId("BG-RQS-END").sttDt(STT_DT).cdva("2020-12-31").cttTp("BG_RQS").build();
+        given(codeRepository.findAllActive()).willReturn(List.of(startCode, endCode));
+        given(codeRepository.findByCdIdAndSttDtAndDelYn("BG-RQS-END", STT_DT, "N")).willReturn(Optional.of(endCode));
+        codeDictionary.reload();
+    }
+
+    private CodeDto.UpdateRequest endDateRequest(String cdva) {
+        CodeDto.UpdateRequest request = new CodeDto.UpdateRequest();
+        request.setCdNm("예산신청종료일자");
+        request.setCdva(cdva);
+        request.setCttTp("BG_RQS");
+        return request;
+    }
+
+    @Test
+    @DisplayName("getBudgetPeriod: 두 번째 조회부터는 캐시에서 반환한다")
+    void getBudgetPeriod_캐시적중() {
+        // when
+        CodeDto.BudgetPeriodResponse first = codeService.getBudgetPeriod();
+        CodeDto.BudgetPeriodResponse second = codeService.getBudgetPeriod();
+
+        // then: 같은 인스턴스 반환, 사전은 setUp 적재 1회만 조회
+        assertThat(second).isSameAs(first);
+        verify(codeRepository, times(1)).findAllActive();
+    }
+
+    @Test
+    @DisplayName("updateCcodem: 신청 기간 코드 수정이 캐시된 기간 조회와 validateBudgetPeriod에 즉시 반영된다")
+    void updateCcodem_신청기간수정_즉시반영() {
+        // given: 기간 외 상태를 캐시에 적재
+        assertThat(codeService.getBudgetPeriod().getEndDate()).isEqualTo("2020-12-31");
+        assertThatThrownBy(() -> codeService.validateBudgetPeriod())
+                .isInstanceOf(CustomGeneralException.class);
+
+        // when: 종료일자를 미래로 연장
+        codeService.updateCcodem("BG-RQS-END", STT_DT, endDateRequest("2099-12-31"));
+
+        // then
+        assertThat(codeService.getBudgetPeriod().getEndDate()).isEqualTo("2099-12-31");
+        assertThatNoException().isThrownBy(() -> codeService.validateBudgetPeriod());
+    }
+
+    @Test
+    @DisplayName("deleteCcodem: 사전을 다시 적재하고 코드값구분별 목록 캐시를 비운다")
+    void deleteCcodem_사전재적재_코드값구분캐시무효화() {
+        // given
+        assertThat(codeService.findCodeEntitiesByCttTp("BG_RQS")).hasSize(2);
+        assertThat(cacheManager.getCache(CacheConfig.CODES_BY_TYPE).get("BG_RQS")).isNotNull();
+
+        // when: 삭제 후 DB에는 시작일자 코드만 남음
+        given(codeRepository.findAllActive()).willReturn(List.of(startCode));
+        codeService.deleteCcodem("BG-RQS-END", STT_DT);
+
+        // then
+        assertThat(cacheManager.getCache(CacheConfig.CODES_BY_TYPE).get("BG_RQS")).isNull();
+        assertThat(codeService.findCodeEntitiesByCttTp("BG_RQS")).containsExactly(startCode);
+        verify(codeRepository, times(2)).findAllActive();
+    }
+}
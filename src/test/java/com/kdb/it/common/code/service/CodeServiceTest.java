@@ -42,6 +42,12 @@ class CodeServiceTest {
     @Mock
     private CodeRepository codeRepository;
 
+    @Mock
+    private CodeDictionary codeDictionary;
+
+    @Mock
+    private CacheVersionService cacheVersionService;
+
     @InjectMocks
     private CodeService codeService;
 
@@ -63,7 +69,7 @@ class CodeServiceTest {
     void getCcodemById_유효한코드ID_Response반환() {
         // given
         Ccodem ccodem = mockCcodem("CD001", "PRJ_TP");
-        given(codeRepository.findByCdIdWithValidDate(eq("CD001"), any())).willReturn(Optional.of(ccodem));
+        given(codeDictionary.find(eq("CD001"), any())).willReturn(Optional.of(ccodem));
 
         // when
         CodeDto.Response result = codeService.getCcodemById("CD001", null);
@@ -77,7 +83,7 @@ class CodeServiceTest {
     @DisplayName("getCcodemById: 존재하지 않는 코드ID이면 IllegalArgumentException을 던진다")
     void getCcodemById_존재하지않는코드ID_IllegalArgumentException발생() {
         // given
-        given(codeRepository.findByCdIdWithValidDate(eq("INVALID"), any())).willReturn(Optional.empty());
+        given(codeDictionary.find(eq("INVALID"), any())).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> codeService.getCcodemById("INVALID", null))
@@ -95,7 +101,7 @@ class CodeServiceTest {
         // given
         Ccodem c1 = mockCcodem("CD001", "PRJ_TP");
         Ccodem c2 = mockCcodem("CD002", "PRJ_TP");
-        given(codeRepository.findByCttTpWithValidDate(eq("PRJ_TP"), any())).willReturn(List.of(c1, c2));
+        given(codeDictionary.findByCttTp(eq("PRJ_TP"), any())).willReturn(List.of(c1, c2));
 
         // when
         List<CodeDto.Response> result = codeService.getCcodemByCttTp("PRJ_TP", null);
@@ -139,9 +145,11 @@ class CodeServiceTest {
         // when
         String result = codeService.createCcodem(request);
 
-        // then
+        // then: 저장 후 커밋 시 사전 재적재, 다른 서버에 변경버전 전파
         assertThat(result).isEqualTo("CD001");
         verify(codeRepository).save(any(Ccodem.class));
+        verify(codeDictionary).reloadAfterCommit();
+        verify(cacheVersionService).publish(CodeDictionary.REGION);
     }
 
     // ───────────────────────────────────────────────────────
@@ -205,8 +213,8 @@ class CodeServiceTest {
         given(startCode.getCdva()).willReturn("2020-01-01");
         Ccodem endCode = mockCcodem("BG-RQS-END", "BUDGET");
         given(endCode.getCdva()).willReturn("2099-12-31");
-        given(codeRepository.findByCdIdWithValidDate(eq("BG-RQS-STA"), any())).willReturn(Optional.of(startCode));
-        given(codeRepository.findByCdIdWithValidDate(eq("BG-RQS-END"), any())).willReturn(Optional.of(endCode));
+        given(codeDictionary.find(eq("BG-RQS-STA"), any())).willReturn(Optional.of(startCode));
+        given(codeDictionary.find(eq("BG-RQS-END"), any())).willReturn(Optional.of(endCode));
 
         // when & then — 예외 없이 정상 완료
         codeService.validateBudgetPeriod();
@@ -220,8 +228,8 @@ class CodeServiceTest {
         given(startCode.getCdva()).willReturn("2099-01-01");
         Ccodem endCode = mockCcodem("BG-RQS-END", "BUDGET");
         given(endCode.getCdva()).willReturn("2099-12-31");
-        given(codeRepository.findByCdIdWithValidDate(eq("BG-RQS-STA"), any())).willReturn(Optional.of(startCode));
-        given(codeRepository.findByCdIdWithValidDate(eq("BG-RQS-END"), any())).willReturn(Optional.of(endCode));
+        given(codeDictionary.find(eq("BG-RQS-STA"), any())).willReturn(Optional.of(startCode));
+        given(codeDictionary.find(eq("BG-RQS-END"), any())).willReturn(Optional.of(endCode));
 
         // when & then
         assertThatThrownBy(() -> codeService.validateBudgetPeriod())
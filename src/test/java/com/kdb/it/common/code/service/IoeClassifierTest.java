@@ -0,0 +1,155 @@
+package com.kdb.it.common.code.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.kdb.it.common.code.entity.Ccodem;
+
+/**
+ * IoeClassifier 단위 테스트
+ *
+ * <p>
+ * CodeDictionary를 Mock 처리하여 비목코드 분류(자본예산 세부·일반관리비 세부), 자본예산 접두어 판별,
+ * 분류별 합산, 분류별 코드 목록, 사전 교체 시 분류표 재생성을 검증합니다.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class IoeClassifierTest {
+
+    @Mock
+    private CodeDictionary codeDictionary;
+
+    private IoeClassifier ioeClassifier;
+
+    @BeforeEach
+    void setUp() {
+        given(codeDictionary.findByCttTp(anyString(), any())).willReturn(List.of());
+        given(codeDictionary.findByCttTp(eq("IOE_CPIT"), any())).willReturn(List.of(
+                code("IOE-237-0100", "개발비"),
+                code("IOE-238-0100", "기계장치"),
+                code("IOE-239-0100", "기타무형자산"),
+                code("IOE-351-0100", null)));
+        given(codeDictionary.findByCttTp(eq("IOE_XPN"), any())).willReturn(List.of(
+                code("IOE-212-0100", null),
+                code("IOE-231-0100", "전산임차료 - 국내전산임차료"),
+                code("IOE-231-0200", "전산임차료 - 국외전산임차료"),
+                code("IOE-233-0100", "전산용역비 - 외주용역 - 외주운영/관제 등")));
+        ioeClassifier = new IoeClassifier(codeDictionary);
+        ioeClassifier.init();
+    }
+
+    private Ccodem code(String cdId, String cdDes) {
+        return Ccodem.builder().cdId(cdId).cdDes(cdDes).build();
+    }
+
+    @Test
+    @DisplayName("classify - 자본예산은 코드설명, 일반관리비는 코드설명의 그룹명으로 세부 분류하고 미등록 코드를 구분한다")
+    void classify_분류() {
+        // when
+        IoeClassifier.Table table = ioeClassifier.table();
+
+        // then
+        assertThat(table.classify("IOE-237-0100")).isEqualTo(IoeClassifier.Category.DEV);
+        assertThat(table.classify("IOE-238-0100")).isEqualTo(IoeClassifier.Category.MACH);
+        assertThat(table.classify("IOE-239-0100")).isEqualTo(IoeClassifier.Category.INTAN);
+        assertThat(table.classify("IOE-351-0100")).isEqualTo(IoeClassifier.Category.ASSET_OTHER);
+        assertThat(table.classify("IOE-212-0100")).isEqualTo(IoeClassifier.Category.COST_OTHER);
+        assertThat(table.classify("IOE-231-0100")).isEqualTo(IoeClassifier.Category.RENT);
+        assertThat(table.classify("IOE-233-0100")).isEqualTo(IoeClassifier.Category.SERVICE);
+        assertThat(table.classify("IOE-999-0100")).isEqualTo(IoeClassifier.Category.NONE);
+        assertThat(table.classify(null)).isEqualTo(IoeClassifier.Category.NONE);
+    }
+
+    @Test
+    @DisplayName("isCapital - 자본예산 코드의 상위 접두어로 시작하는 하위 비목도 자본예산으로 본다")
+    void isCapital_접두어매칭() {
+        // when
+        IoeClassifier.Table table = ioeClassifier.table();
+
+        // then
+        assertThat(table.isCapital("IOE-351-0100")).isTrue();
+        assertThat(table.isCapital("IOE-351-0200")).isTrue(); // 상위 접두어 IOE-351
+        assertThat(table.isCapital("IOE-212-0100")).isFalse();
+        assertThat(table.isCapital("IOE-35")).isFalse();
+        assertThat(table.isCapital(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("sum - 비목코드별 금액을 한 번의 순회로 분류별 합계와 자본예산·일반관리비 합계로 누적한다")
+    void sum_분류별합계() {
+        // given
+        Map<String, BigDecimal> amounts = new LinkedHashMap<>();
+        amounts.put("IOE-237-0100", new BigDecimal("100"));
+        amounts.put("IOE-238-0100", new BigDecimal("20"));
+        amounts.put("IOE-351-0100", new BigDecimal("5"));
+        amounts.put("IOE-212-0100", new BigDecimal("30"));
+        amounts.put("IOE-231-0100", new BigDecimal("3"));
+        amounts.put("IOE-999-0100", new BigDecimal("7"));
+
+        // when
+        IoeClassifier.Totals totals = ioeClassifier.table().sum(amounts);
+
+        // then
+        assertThat(totals.asset()).isEqualByComparingTo("125");
+        assertThat(totals.get(IoeClassifier.Category.DEV)).isEqualByComparingTo("100");
+        assertThat(totals.get(IoeClassifier.Category.MACH)).isEqualByComparingTo("20");
+        assertThat(totals.get(IoeClassifier.Category.INTAN)).isEqualByComparingTo("0");
+        assertThat(totals.get(IoeClassifier.Category.COST_OTHER)).isEqualByComparingTo("30");
+        assertThat(totals.get(IoeClassifier.Category.RENT)).isEqualByComparingTo("3");
+        assertThat(totals.cost()).isEqualByComparingTo("33");
+    }
+
+    @Test
+    @DisplayName("cdIds - 분류별 비목코드 목록을 코드ID 순으로 반환하고, 해당 코드가 없으면 빈 목록을 반환한다")
+    void cdIds_분류별코드목록() {
+        // when
+        IoeClassifier.Table table = ioeClassifier.table();
+
+        // then
+        assertThat(table.cdIds(IoeClassifier.Category.RENT)).containsExactly("IOE-231-0100", "IOE-231-0200");
+        assertThat(table.cdIds(IoeClassifier.Category.DEV)).containsExactly("IOE-237-0100");
+        assertThat(table.cdIds(IoeClassifier.Category.TRAVEL)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("table - 같은 날에는 분류표를 재사용하고, 사전 교체 알림 후에는 다시 만든다")
+    void table_재사용_사전교체시재생성() {
+        // given: init에서 등록한 사전 교체 알림
+        ArgumentCaptor<Runnable> listener = ArgumentCaptor.forClass(Runnable.class);
+        verify(codeDictionary).addReloadListener(listener.capture());
+
+        // when
+        IoeClassifier.Table first = ioeClassifier.table();
+        IoeClassifier.Table cached = ioeClassifier.table();
+        listener.getValue().run();
+        IoeClassifier.Table rebuilt = ioeClassifier.table();
+
+        // then
+        assertThat(cached).isSameAs(first);
+        assertThat(rebuilt).isNotSameAs(first);
+        assertThat(rebuilt.date()).isEqualTo(LocalDate.now());
+        verify(codeDictionary, times(2)).findByCttTp(eq("IOE_CPIT"), any());
+    }
+}
@@ -0,0 +1,225 @@
+package com.kdb.it.common.iam.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kdb.it.common.iam.entity.CorgnI;
+import com.kdb.it.common.iam.entity.CuserI;
+import com.kdb.it.common.iam.repository.OrganizationRepository;
+import com.kdb.it.common.iam.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * DirectoryCacheService 단위 테스트
+ *
+ * <p>
+ * UserRepository·OrganizationRepository를 Mock 처리하여 Oracle DB 없이
+ * 미적중분 일괄 조회, 적중 시 재조회 생략, 크기 제한, TTL 만료, 커밋 후 무효화, Caffeine 적중/미적중 메트릭을 검증합니다.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DirectoryCacheServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private OrganizationRepository organizationRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DirectoryCacheService directoryCacheService;
+
+    @BeforeEach
+    void setUp() {
+        directoryCacheService = newService(100, 600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private DirectoryCacheService newService(int maxSize, long ttlSeconds) {
+        // 캐시 메트릭은 레지스트리에 처음 등록한 캐시를 참조하므로 서비스마다 새 레지스트리 사용
+        meterRegistry = new SimpleMeterRegistry();
+        DirectoryCacheService service = new DirectoryCacheService(userRepository, organizationRepository, meterRegistry);
+        ReflectionTestUtils.setField(service, "maxSize", maxSize);
+        ReflectionTestUtils.setField(service, "ttlSeconds", ttlSeconds);
+        service.init();
+        return service;
+    }
+
+    private CuserI user(String eno, String usrNm) {
+        return CuserI.builder().eno(eno).usrNm(usrNm).temC("12004").ptCNm("팀장").build();
+    }
+
+    private double count(String cache, String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "directory." + cache).tag("result", result)
+                .functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("getUserNames - 미적중 사번만 IN 조회 1회로 적재하고, 재조회 시 DB를 조회하지 않는다")
+    void getUserNames_미적중분일괄조회_재조회시캐시적중() {
+        // given
+        given(userRepository.findWithOrganizationByEnoIn(anyList()))
+                .willReturn(List.of(user("10001", "홍길동"), user("10002", "김철수")));
+
+        // when: null·중복 사번 포함
+        Map<String, String> first = directoryCacheService.getUserNames(Arrays.asList("10001", "10002", null, "10001"));
+        Map<String, String> second = directoryCacheService.getUserNames(List.of("10001", "10002"));
+
+        // then
+        assertThat(first).containsExactlyInAnyOrderEntriesOf(Map.of("10001", "홍길동", "10002", "김철수"));
+        assertThat(second).isEqualTo(first);
+        verify(userRepository, times(1)).findWithOrganizationByEnoIn(List.of("10001", "10002"));
+        assertThat(count("user", "miss")).isEqualTo(2);
+        assertThat(count("user", "hit")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getUserName - DB에 없는 사번도 캐시하여 반복 조회하지 않는다")
+    void getUserName_미존재사번_부재캐시() {
+        // given
+        given(userRepository.findWithOrganizationByEnoIn(anyList())).willReturn(List.of());
+
+        // when
+        String first = directoryCacheService.getUserName("99999");
+        String second = directoryCacheService.getUserName("99999");
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        verify(userRepository, times(1)).findWithOrganizationByEnoIn(anyList());
+    }
+
+    @Test
+    @DisplayName("getOrgNames - 조직코드를 부점명으로 변환한다")
+    void getOrgNames_부점명변환() {
+        // given
+        CorgnI org = CorgnI.builder().prlmOgzCCone("BBR001").bbrNm("IT부문").build();
+        given(organizationRepository.findAllById(anyList())).willReturn(List.of(org));
+
+        // when
+        Map<String, String> result = directoryCacheService.getOrgNames(List.of("BBR001", "NONE"));
+        String cached = directoryCacheService.getOrgName("BBR001");
+
+        // then
+        assertThat(result).containsExactlyEntriesOf(Map.of("BBR001", "IT부문"));
+        assertThat(cached).isEqualTo("IT부문");
+        verify(organizationRepository, times(1)).findAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("빈 목록·null만 전달하면 DB를 조회하지 않는다")
+    void getUserNames_빈목록_조회없음() {
+        // when
+        Map<String, String> result = directoryCacheService.getUserNames(Arrays.asList(null, ""));
+
+        // then
+        assertThat(result).isEmpty();
+        verify(userRepository, never()).findWithOrganizationByEnoIn(anyList());
+    }
+
+    @Test
+    @DisplayName("최대 적재 건수를 넘으면 항목을 제거하여 크기를 제한한다")
+    void getUserNames_크기제한_초과분제거() {
+        // given: 최대 2건
+        directoryCacheService = newService(2, 600);
+        given(userRepository.findWithOrganizationByEnoIn(anyList())).willReturn(
+                List.of(user("10001", "A"), user("10002", "B"), user("10003", "C")));
+
+        // when: 3건 적재
+        Map<String, String> names = directoryCacheService.getUserNames(List.of("10001", "10002", "10003"));
+
+        // then: 조회 결과는 모두 반환하고, 캐시에는 최대 건수만 남음
+        assertThat(names).hasSize(3);
+        assertThat(meterRegistry.get("cache.size").tag("cache", "directory.user").gauge().value())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "directory.user").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 다시 조회한다")
+    void getUserName_TTL만료_재조회() {
+        // given: 유효 시간 0초 → 적재 즉시 만료
+        directoryCacheService = newService(100, 0);
+        given(userRepository.findWithOrganizationByEnoIn(anyList())).willReturn(List.of(user("10001", "홍길동")));
+
+        // when
+        directoryCacheService.getUserName("10001");
+        directoryCacheService.getUserName("10001");
+
+        // then
+        verify(userRepository, times(2)).findWithOrganizationByEnoIn(anyList());
+    }
+
+    @Test
+    @DisplayName("invalidateUser - 트랜잭션 안에서는 커밋 후에 항목을 제거한다")
+    void invalidateUser_커밋후무효화() {
+        // given
+        given(userRepository.findWithOrganizationByEnoIn(anyList()))
+                .willReturn(List.of(user("10001", "홍길동")))
+                .willReturn(List.of(user("10001", "홍길순")));
+        directoryCacheService.getUserName("10001");
+
+        // when: 트랜잭션 안에서 무효화 요청 → 커밋 전에는 기존 값 유지
+        TransactionSynchronizationManager.initSynchronization();
+        directoryCacheService.invalidateUser("10001");
+        String beforeCommit = directoryCacheService.getUserName("10001");
+        for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+            sync.afterCommit();
+        }
+        String afterCommit = directoryCacheService.getUserName("10001");
+
+        // then
+        assertThat(beforeCommit).isEqualTo("홍길동");
+        assertThat(afterCommit).isEqualTo("홍길순");
+    }
+
+    @Test
+    @DisplayName("invalidateOrg - 부점명을 담은 사용자 요약도 함께 제거한다")
+    void invalidateOrg_사용자캐시도제거() {
+        // given
+        given(userRepository.findWithOrganizationByEnoIn(anyList())).willReturn(List.of(user("10001", "홍길동")));
+        given(organizationRepository.findAllById(anyList()))
+                .willReturn(List.of(CorgnI.builder().prlmOgzCCone("BBR001").bbrNm("IT부문").build()));
+        directoryCacheService.getUser("10001");
+        directoryCacheService.getOrgName("BBR001");
+
+        // when: 트랜잭션 밖 → 즉시 무효화
+        directoryCacheService.invalidateOrg("BBR001");
+        directoryCacheService.getUser("10001");
+        directoryCacheService.getOrgName("BBR001");
+
+        // then
+        verify(userRepository, times(2)).findWithOrganizationByEnoIn(anyList());
+        verify(organizationRepository, times(2)).findAllById(anyList());
+    }
+}
@@ -144,13 +144,16 @@ class AuthControllerTest {
         void refresh_유효한쿠키_200반환() throws Exception {
                 // given
                 AuthDto.RefreshResponse refreshResponse = AuthDto.RefreshResponse.builder()
-                                .accessToken("new-access-token").build();
+                                .accessToken("new-access-token").refreshToken("new-refresh-token").build();
 
                 ResponseCookie newAccessCookie = ResponseCookie.from(CookieUtil.ACCESS_TOKEN_COOKIE, "new-access-token")
                                 .httpOnly(true).path("/").build();
+                ResponseCookie newRefreshCookie = ResponseCookie.from(CookieUtil.REFRESH_TOKEN_COOKIE, "new-refresh-token")
+                                .httpOnly(true).path("/").build();
 
                 given(authService.refreshAccessToken("valid-refresh-token")).willReturn(refreshResponse);
                 given(cookieUtil.createAccessTokenCookie("new-access-token")).willReturn(newAccessCookie);
+                given(cookieUtil.createRefreshTokenCookie("new-refresh-token")).willReturn(newRefreshCookie);
 
                 // when & then
                 mockMvc.perform(post("/api/auth/refresh")
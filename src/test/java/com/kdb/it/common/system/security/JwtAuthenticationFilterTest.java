@@ -7,7 +7,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.Cookie;
@@ -71,8 +73,8 @@ class JwtAuthenticationFilterTest {
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
-        // then: validateToken은 호출되지 않아야 함
-        verify(jwtUtil, never()).validateToken(anyString());
+        // then: 토큰 검증은 호출되지 않아야 함
+        verify(jwtUtil, never()).parseAccessToken(anyString());
         // 필터 체인은 반드시 통과해야 함
         verify(filterChain).doFilter(request, response);
     }
@@ -93,17 +95,17 @@ class JwtAuthenticationFilterTest {
         Cookie accessCookie = new Cookie(CookieUtil.ACCESS_TOKEN_COOKIE, validToken);
         given(request.getCookies()).willReturn(new Cookie[]{accessCookie});
 
-        given(jwtUtil.validateToken(validToken)).willReturn(true);
-        given(jwtUtil.getEnoFromToken(validToken)).willReturn("E10001");
-        given(jwtUtil.getAthIdsFromToken(validToken)).willReturn(List.of("ITPZZ001"));
-        given(jwtUtil.getBbrCFromToken(validToken)).willReturn("BBR001");
+        given(jwtUtil.parseAccessToken(validToken)).willReturn(Optional.of(
+                new JwtUtil.AccessClaims("E10001", List.of("ITPZZ001"), "BBR001", Instant.now().plusSeconds(900))));
         given(request.getRequestURI()).willReturn("/api/test");
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
-        // then: SecurityContext에 인증이 설정되어야 함
+        // then: SecurityContext에 인증이 설정되어야 하며, 토큰은 1회만 파싱
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        verify(jwtUtil).parseAccessToken(validToken);
+        verify(jwtUtil, never()).getEnoFromToken(anyString());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -123,10 +125,8 @@ class JwtAuthenticationFilterTest {
         given(request.getCookies()).willReturn(null);
         given(request.getHeader("Authorization")).willReturn("Bearer " + validToken);
 
-        given(jwtUtil.validateToken(validToken)).willReturn(true);
-        given(jwtUtil.getEnoFromToken(validToken)).willReturn("E10001");
-        given(jwtUtil.getAthIdsFromToken(validToken)).willReturn(List.of("ITPAD001"));
-        given(jwtUtil.getBbrCFromToken(validToken)).willReturn("BBR001");
+        given(jwtUtil.parseAccessToken(validToken)).willReturn(Optional.of(
+                new JwtUtil.AccessClaims("E10001", List.of("ITPAD001"), "BBR001", Instant.now().plusSeconds(900))));
         given(request.getRequestURI()).willReturn("/api/admin/test");
 
         // when
@@ -155,7 +155,7 @@ class JwtAuthenticationFilterTest {
         given(request.getRequestURI()).willReturn("/api/test");
 
         // 토큰 검증 실패 응답
-        given(jwtUtil.validateToken(invalidToken)).willReturn(false);
+        given(jwtUtil.parseAccessToken(invalidToken)).willReturn(Optional.empty());
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -183,7 +183,7 @@ class JwtAuthenticationFilterTest {
         given(request.getRequestURI()).willReturn("/api/test");
 
         // JwtUtil 내부 예외 발생 시뮬레이션
-        given(jwtUtil.validateToken(token)).willThrow(new RuntimeException("JWT 파싱 오류"));
+        given(jwtUtil.parseAccessToken(token)).willThrow(new RuntimeException("JWT 파싱 오류"));
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -212,8 +212,8 @@ class JwtAuthenticationFilterTest {
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
-        // then: 토큰이 추출되지 않으므로 validateToken 미호출
-        verify(jwtUtil, never()).validateToken(anyString());
+        // then: 토큰이 추출되지 않으므로 토큰 검증 미호출
+        verify(jwtUtil, never()).parseAccessToken(anyString());
         verify(filterChain).doFilter(request, response);
     }
 }
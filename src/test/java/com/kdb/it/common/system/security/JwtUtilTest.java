@@ -2,6 +2,7 @@ package com.kdb.it.common.system.security;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Instant;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -82,6 +83,22 @@ class JwtUtilTest {
         assertThat(jwtUtil.getEnoFromToken(token)).isEqualTo(eno);
     }
 
+    @Test
+    @DisplayName("Refresh Token 생성 - 지정한 만료 시각이 지나면 유효하지 않음 (갱신 시 계열 종료일시 유지)")
+    void generateRefreshToken_만료시각지정_지난시각이면무효() {
+        // given
+        Instant past = Instant.now().minusSeconds(60);
+        Instant future = Instant.now().plusSeconds(60);
+
+        // when
+        String expired = jwtUtil.generateRefreshToken("10001", past);
+        String valid = jwtUtil.generateRefreshToken("10001", future);
+
+        // then
+        assertThat(jwtUtil.validateToken(expired)).isFalse();
+        assertThat(jwtUtil.validateToken(valid)).isTrue();
+    }
+
     @Test
     @DisplayName("토큰 유효성 검증 - 유효한 토큰은 true 반환")
     void validateToken_유효한토큰_true반환() {
@@ -119,6 +136,55 @@ class JwtUtilTest {
         assertThat(jwtUtil.validateToken("")).isFalse();
     }
 
+    @Test
+    @DisplayName("parseAccessToken - 1회 파싱으로 사번·자격등급·부서코드·만료 시각을 반환")
+    void parseAccessToken_클레임일괄추출() {
+        // given
+        String token = jwtUtil.generateAccessToken("10001", List.of("ITPZZ001", "ITPZZ002"), TEST_BBR_C);
+
+        // when
+        JwtUtil.AccessClaims claims = jwtUtil.parseAccessToken(token).orElseThrow();
+
+        // then
+        assertThat(claims.eno()).isEqualTo("10001");
+        assertThat(claims.athIds()).containsExactly("ITPZZ001", "ITPZZ002");
+        assertThat(claims.bbrC()).isEqualTo(TEST_BBR_C);
+        assertThat(claims.expiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("parseAccessToken - 만료·위변조·빈 토큰은 빈 값 반환")
+    void parseAccessToken_무효토큰_빈값() throws InterruptedException {
+        // given
+        String expiredToken = expiredJwtUtil.generateAccessToken("10001", TEST_ATH_IDS, TEST_BBR_C);
+        Thread.sleep(10);
+
+        // when & then
+        assertThat(jwtUtil.parseAccessToken(expiredToken)).isEmpty();
+        assertThat(jwtUtil.parseAccessToken("eyJhbGciOiJIUzI1NiJ9.tampered.invalid_signature")).isEmpty();
+        assertThat(jwtUtil.parseAccessToken("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("parseAccessToken - 검증 캐시 사용 시 같은 토큰은 재검증 없이 캐시된 클레임을 반환하고, 서명이 다르면 적중하지 않는다")
+    void parseAccessToken_검증캐시() {
+        // given: 검증 캐시를 켠 유틸리티
+        JwtUtil cachingJwtUtil = new JwtUtil(TEST_SECRET, ACCESS_VALIDITY_MS, REFRESH_VALIDITY_MS, 100);
+        String token = cachingJwtUtil.generateAccessToken("10001", TEST_ATH_IDS, TEST_BBR_C);
+        int sigStart = token.lastIndexOf('.') + 1; // 서명 첫 글자 변경
+        String tampered = token.substring(0, sigStart) + (token.charAt(sigStart) == 'A' ? 'B' : 'A')
+                + token.substring(sigStart + 1);
+
+        // when
+        JwtUtil.AccessClaims first = cachingJwtUtil.parseAccessToken(token).orElseThrow();
+        JwtUtil.AccessClaims second = cachingJwtUtil.parseAccessToken(token).orElseThrow();
+
+        // then: 캐시 적중 시 동일 인스턴스, 캐시 미사용 시 매번 새로 파싱
+        assertThat(second).isSameAs(first);
+        assertThat(jwtUtil.parseAccessToken(token).orElseThrow()).isNotSameAs(jwtUtil.parseAccessToken(token).orElseThrow());
+        assertThat(cachingJwtUtil.parseAccessToken(tampered)).isEmpty();
+    }
+
     @Test
     @DisplayName("Access Token과 Refresh Token은 서로 다른 값 (유효시간 차이)")
     void accessToken과RefreshToken_서로다른값() {
@@ -0,0 +1,116 @@
+package com.kdb.it.common.system.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.kdb.it.common.util.PasswordEncoderFactory;
+import com.kdb.it.exception.CustomGeneralException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PasswordHasher 단위 테스트
+ *
+ * <p>
+ * 해시 계산이 전용 스레드에서 수행되는지, 대기열 포화 시 즉시 거절·대기 시간 초과 시 취소되는지,
+ * 인코더 예외가 그대로 전파되는지 검증합니다.
+ * </p>
+ */
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (hasher != null) {
+            hasher.shutdown();
+        }
+    }
+
+    /** release 래치가 열릴 때까지 matches가 끝나지 않는 인코더 */
+    private PasswordEncoder blockingEncoder() {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        given(encoder.matches(any(), anyString())).willAnswer(inv -> release.await(5, TimeUnit.SECONDS));
+        return encoder;
+    }
+
+    @Test
+    @DisplayName("matches/encode - 전용 스레드에서 위임 인코더로 계산한다")
+    void matches_전용스레드계산() {
+        // given
+        PasswordEncoder encoder = PasswordEncoderFactory.create("bcrypt", 4, 1_000);
+        hasher = new PasswordHasher(encoder, meterRegistry, 2, 4, 5_000L);
+
+        // when
+        String encoded = hasher.encode("password123");
+
+        // then
+        assertThat(hasher.matches("password123", encoded)).isTrue();
+        assertThat(hasher.matches("wrong", encoded)).isFalse();
+        assertThat(hasher.upgradeEncoding(encoded)).isFalse();
+        assertThat(hasher.upgradeEncoding(null)).isFalse();
+        assertThat(meterRegistry.get("password.hash").tag("op", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 요청 스레드를 기다리게 하지 않고 즉시 거절한다")
+    void matches_대기열포화_즉시거절() throws Exception {
+        // given: 스레드 1 + 대기열 1 → 두 건이 자리를 차지
+        hasher = new PasswordHasher(blockingEncoder(), meterRegistry, 1, 1, 5_000L);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> hasher.matches("a", "h"));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> hasher.matches("b", "h"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (meterRegistry.get("password.hash.queue.depth").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> hasher.matches("c", "h"))
+                .isInstanceOf(CustomGeneralException.class);
+        assertThat(meterRegistry.counter("password.hash.rejected").count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기·계산이 hash-timeout-ms를 넘으면 취소하고 예외를 던진다")
+    void matches_시간초과_취소() {
+        // given
+        hasher = new PasswordHasher(blockingEncoder(), meterRegistry, 1, 1, 100L);
+
+        // when & then
+        assertThatThrownBy(() -> hasher.matches("a", "h"))
+                .isInstanceOf(CustomGeneralException.class);
+        assertThat(meterRegistry.counter("password.hash.timeouts").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("인코더 예외(예: bcrypt 72바이트 초과)는 원래 타입으로 전파한다")
+    void encode_인코더예외_전파() {
+        // given
+        PasswordEncoder encoder = PasswordEncoderFactory.create("bcrypt", 4, 1_000);
+        hasher = new PasswordHasher(encoder, meterRegistry, 1, 1, 5_000L);
+
+        // when & then
+        assertThatThrownBy(() -> hasher.encode("x".repeat(100)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
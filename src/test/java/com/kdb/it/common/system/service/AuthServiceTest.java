@@ -5,37 +5,46 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Collections;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.kdb.it.common.iam.entity.CuserI;
 import com.kdb.it.common.iam.repository.RoleRepository;
 import com.kdb.it.common.iam.repository.UserRepository;
 import com.kdb.it.common.system.dto.AuthDto;
-import com.kdb.it.common.system.entity.Clognh;
 import com.kdb.it.common.system.entity.Crtokm;
-import com.kdb.it.common.system.repository.LoginHistoryRepository;
 import com.kdb.it.common.system.repository.RefreshTokenRepository;
 import com.kdb.it.common.system.security.JwtUtil;
+import com.kdb.it.common.system.security.PasswordHasher;
+import com.kdb.it.common.system.writer.LoginEvent;
+import com.kdb.it.common.system.writer.LoginHistoryWriteQueue;
+import com.kdb.it.exception.CustomGeneralException;
 
 /**
  * AuthService 단위 테스트
  *
  * <p>
- * Mockito로 Repository, PasswordEncoder, JwtUtil을 Mock 처리하여
+ * Mockito로 Repository, PasswordHasher, JwtUtil, PlatformTransactionManager를 Mock 처리하여
  * Oracle DB 연결 없이 비즈니스 로직만 검증합니다.
  * </p>
  */
@@ -49,11 +58,13 @@ class AuthServiceTest {
         @Mock
         private RefreshTokenRepository refreshTokenRepository;
         @Mock
-        private LoginHistoryRepository loginHistoryRepository;
+        private LoginHistoryWriteQueue loginHistoryWriteQueue;
         @Mock
-        private PasswordEncoder passwordEncoder;
+        private PasswordHasher passwordHasher;
         @Mock
         private JwtUtil jwtUtil;
+        @Mock
+        private PlatformTransactionManager transactionManager;
 
         @InjectMocks
         private AuthService authService;
@@ -68,9 +79,9 @@ class AuthServiceTest {
                                 .eno("10001").usrNm("홍길동").usrEcyPwd("encodedPwd").delYn("N").build();
 
                 given(userRepository.findByEno("10001")).willReturn(Optional.of(user));
-                given(passwordEncoder.matches("password", "encodedPwd")).willReturn(true);
+                given(passwordHasher.matches("password", "encodedPwd")).willReturn(true);
                 given(jwtUtil.generateAccessToken(anyString(), anyList(), any())).willReturn("access-token");
-                given(jwtUtil.generateRefreshToken("10001")).willReturn("refresh-token");
+                given(jwtUtil.generateRefreshToken(eq("10001"), any(Instant.class))).willReturn("refresh-token");
 
                 // when
                 AuthDto.LoginResponse response = authService.login("10001", "password", "127.0.0.1", "TestAgent");
@@ -102,7 +113,7 @@ class AuthServiceTest {
                                 .eno("10001").usrNm("홍길동").usrEcyPwd("encodedPwd").delYn("N").build();
 
                 given(userRepository.findByEno("10001")).willReturn(Optional.of(user));
-                given(passwordEncoder.matches("wrongPwd", "encodedPwd")).willReturn(false);
+                given(passwordHasher.matches("wrongPwd", "encodedPwd")).willReturn(false);
 
                 // when & then
                 assertThatThrownBy(() -> authService.login("10001", "wrongPwd", "127.0.0.1", "Agent"))
@@ -118,7 +129,7 @@ class AuthServiceTest {
                                 .eno("10001").usrNm("홍길동").usrEcyPwd("encodedPwd").delYn("N").build();
 
                 given(userRepository.findByEno("10001")).willReturn(Optional.of(user));
-                given(passwordEncoder.matches(anyString(), anyString())).willReturn(false);
+                given(passwordHasher.matches(anyString(), anyString())).willReturn(false);
 
                 // when: 예외 무시
                 try {
@@ -126,8 +137,11 @@ class AuthServiceTest {
                 } catch (Exception ignored) {
                 }
 
-                // then: 실패 이력 1회 저장
-                verify(loginHistoryRepository, times(1)).save(any(Clognh.class));
+                // then: 실패 이력 1회 즉시 제출 (로그인 트랜잭션 롤백과 무관하게 쓰기 큐로 전달)
+                ArgumentCaptor<LoginEvent> event = ArgumentCaptor.forClass(LoginEvent.class);
+                verify(loginHistoryWriteQueue, times(1)).submitNow(event.capture());
+                assertThat(event.getValue().lgnTp()).isEqualTo("LOGIN_FAILURE");
+                assertThat(event.getValue().flurRsn()).isEqualTo("비밀번호 불일치");
         }
 
         @Test
@@ -138,16 +152,60 @@ class AuthServiceTest {
                                 .eno("10001").usrNm("홍길동").usrEcyPwd("encodedPwd").delYn("N").build();
 
                 given(userRepository.findByEno("10001")).willReturn(Optional.of(user));
-                given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+                given(passwordHasher.matches(anyString(), anyString())).willReturn(true);
                 given(jwtUtil.generateAccessToken(anyString(), anyList(), any())).willReturn("access-token");
-                given(jwtUtil.generateRefreshToken(anyString())).willReturn("refresh-token");
+                given(jwtUtil.generateRefreshToken(anyString(), any(Instant.class))).willReturn("refresh-token");
 
                 // when
                 authService.login("10001", "password", "127.0.0.1", "Agent");
 
                 // then
                 verify(refreshTokenRepository, times(1)).deleteByEno("10001");
-                verify(refreshTokenRepository, times(1)).save(any(Crtokm.class));
+                ArgumentCaptor<Crtokm> saved = ArgumentCaptor.forClass(Crtokm.class);
+                verify(refreshTokenRepository, times(1)).save(saved.capture());
+                assertThat(saved.getValue().getTokHsh()).isEqualTo(JwtUtil.digest("refresh-token"));
+        }
+
+        @Test
+        @DisplayName("login - 비밀번호 검증은 트랜잭션 밖에서 끝내고, 토큰 저장만 짧은 트랜잭션으로 처리")
+        void login_비밀번호검증후_쓰기트랜잭션시작() {
+                // given
+                CuserI user = CuserI.builder()
+                                .eno("10001").usrNm("홍길동").usrEcyPwd("encodedPwd").delYn("N").build();
+
+                given(userRepository.findByEno("10001")).willReturn(Optional.of(user));
+                given(passwordHasher.matches(anyString(), anyString())).willReturn(true);
+                given(jwtUtil.generateAccessToken(anyString(), anyList(), any())).willReturn("access");
+                given(jwtUtil.generateRefreshToken(anyString(), any(Instant.class))).willReturn("refresh");
+
+                // when
+                authService.login("10001", "password", "127.0.0.1", "Agent");
+
+                // then: 검증 → 트랜잭션 시작 → 토큰 교체 → 커밋 순
+                InOrder order = inOrder(passwordHasher, transactionManager, refreshTokenRepository);
+                order.verify(passwordHasher).matches("password", "encodedPwd");
+                order.verify(transactionManager).getTransaction(any());
+                order.verify(refreshTokenRepository).deleteByEno("10001");
+                order.verify(transactionManager).commit(any());
+        }
+
+        @Test
+        @DisplayName("login - 비밀번호 불일치 시 쓰기 트랜잭션을 시작하지 않음")
+        void login_비밀번호불일치_트랜잭션미시작() {
+                // given
+                CuserI user = CuserI.builder()
+                                .eno("10001").usrNm("홍길동").usrEcyPwd("encodedPwd").delYn("N").build();
+
+                given(userRepository.findByEno("10001")).willReturn(Optional.of(user));
+                given(passwordHasher.matches(anyString(), anyString())).willReturn(false);
+
+                // when
+                assertThatThrownBy(() -> authService.login("10001", "wrong", "127.0.0.1", "Agent"))
+                                .isInstanceOf(RuntimeException.class);
+
+                // then
+                verify(transactionManager, never()).getTransaction(any());
+                verify(refreshTokenRepository, never()).deleteByEno(anyString());
         }
 
         @Test
@@ -158,15 +216,135 @@ class AuthServiceTest {
                                 .eno("10001").usrNm("홍길동").usrEcyPwd("encodedPwd").delYn("N").build();
 
                 given(userRepository.findByEno("10001")).willReturn(Optional.of(user));
-                given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+                given(passwordHasher.matches(anyString(), anyString())).willReturn(true);
                 given(jwtUtil.generateAccessToken(anyString(), anyList(), any())).willReturn("access");
-                given(jwtUtil.generateRefreshToken(anyString())).willReturn("refresh");
+                given(jwtUtil.generateRefreshToken(anyString(), any(Instant.class))).willReturn("refresh");
 
                 // when
                 authService.login("10001", "password", "127.0.0.1", "Agent");
 
+                // then: 커밋 후 적재(submit)로만 제출 — 롤백된 로그인은 성공 이력이 남지 않음
+                verify(loginHistoryWriteQueue, times(1)).submit(any(LoginEvent.class));
+                verify(loginHistoryWriteQueue, never()).submitNow(any(LoginEvent.class));
+        }
+
+        @Test
+        @DisplayName("login - 기존 SHA-256 해시로 로그인 성공 시 입력 평문으로 재해시하여 저장")
+        void login_기존해시_재해시() {
+                // given
+                CuserI user = CuserI.builder()
+                                .eno("10001").usrNm("홍길동").usrEcyPwd("legacySha256=").delYn("N").build();
+
+                given(userRepository.findByEno("10001")).willReturn(Optional.of(user));
+                given(passwordHasher.matches("password", "legacySha256=")).willReturn(true);
+                given(passwordHasher.upgradeEncoding("legacySha256=")).willReturn(true);
+                given(passwordHasher.encode("password")).willReturn("{bcrypt}$2a$10$rehashed");
+                given(userRepository.updatePasswordIfUnchanged(eq("10001"), eq("legacySha256="),
+                                eq("{bcrypt}$2a$10$rehashed"), any(LocalDateTime.class))).willReturn(1);
+                given(jwtUtil.generateAccessToken(anyString(), anyList(), any())).willReturn("access");
+                given(jwtUtil.generateRefreshToken(anyString(), any(Instant.class))).willReturn("refresh");
+
+                // when
+                authService.login("10001", "password", "127.0.0.1", "Agent");
+
+                // then: 검증에 사용한 해시가 그대로일 때만 바꾸는 조건부 UPDATE로 저장
+                verify(userRepository).updatePasswordIfUnchanged(eq("10001"), eq("legacySha256="),
+                                eq("{bcrypt}$2a$10$rehashed"), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("login - 검증 후 관리자가 비밀번호를 초기화했으면 재해시를 건너뛰고 로그인은 성공")
+        void login_검증후비밀번호변경_재해시생략() {
+                // given: 조건부 UPDATE가 0건 (저장 해시가 이미 초기화된 값으로 바뀜)
+                CuserI user = CuserI.builder()
+                                .eno("10001").usrNm("홍길동").usrEcyPwd("legacySha256=").delYn("N").build();
+
+                given(userRepository.findByEno("10001")).willReturn(Optional.of(user));
+                given(passwordHasher.matches("password", "legacySha256=")).willReturn(true);
+                given(passwordHasher.upgradeEncoding("legacySha256=")).willReturn(true);
+                given(passwordHasher.encode("password")).willReturn("{bcrypt}$2a$10$rehashed");
+                given(userRepository.updatePasswordIfUnchanged(eq("10001"), eq("legacySha256="),
+                                eq("{bcrypt}$2a$10$rehashed"), any(LocalDateTime.class))).willReturn(0);
+                given(jwtUtil.generateAccessToken(anyString(), anyList(), any())).willReturn("access");
+                given(jwtUtil.generateRefreshToken(anyString(), any(Instant.class))).willReturn("refresh");
+
+                // when
+                AuthDto.LoginResponse response = authService.login("10001", "password", "127.0.0.1", "Agent");
+
+                // then: 로그인은 계속 진행되어 새 Refresh Token 발급
+                assertThat(response.getAccessToken()).isEqualTo("access");
+                assertThat(response.getRefreshToken()).isEqualTo("refresh");
+                verify(refreshTokenRepository).save(any(Crtokm.class));
+        }
+
+        @Test
+        @DisplayName("login - 현재 형식 해시면 재해시하지 않음")
+        void login_현재해시_재해시생략() {
+                // given
+                CuserI user = CuserI.builder()
+                                .eno("10001").usrNm("홍길동").usrEcyPwd("{bcrypt}$2a$10$current").delYn("N").build();
+
+                given(userRepository.findByEno("10001")).willReturn(Optional.of(user));
+                given(passwordHasher.matches(anyString(), anyString())).willReturn(true);
+                given(passwordHasher.upgradeEncoding("{bcrypt}$2a$10$current")).willReturn(false);
+                given(jwtUtil.generateAccessToken(anyString(), anyList(), any())).willReturn("access");
+                given(jwtUtil.generateRefreshToken(anyString(), any(Instant.class))).willReturn("refresh");
+
+                // when
+                authService.login("10001", "password", "127.0.0.1", "Agent");
+
+                // then
+                verify(passwordHasher, never()).encode(anyString());
+                verify(userRepository, never()).updatePasswordIfUnchanged(anyString(), anyString(), anyString(),
+                                any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("login - 재해시가 실행기 포화로 실패해도 로그인은 성공하고 기존 해시를 유지")
+        void login_재해시실패_로그인계속() {
+                // given
+                CuserI user = CuserI.builder()
+                                .eno("10001").usrNm("홍길동").usrEcyPwd("legacySha256=").delYn("N").build();
+
+                given(userRepository.findByEno("10001")).willReturn(Optional.of(user));
+                given(passwordHasher.matches(anyString(), anyString())).willReturn(true);
+                given(passwordHasher.upgradeEncoding("legacySha256=")).willReturn(true);
+                given(passwordHasher.encode("password")).willThrow(new CustomGeneralException("busy"));
+                given(jwtUtil.generateAccessToken(anyString(), anyList(), any())).willReturn("access");
+                given(jwtUtil.generateRefreshToken(anyString(), any(Instant.class))).willReturn("refresh");
+
+                // when
+                AuthDto.LoginResponse response = authService.login("10001", "password", "127.0.0.1", "Agent");
+
+                // then
+                assertThat(response.getAccessToken()).isEqualTo("access");
+                verify(userRepository, never()).updatePasswordIfUnchanged(anyString(), anyString(), anyString(),
+                                any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("login - 기존 해시 사용자의 비밀번호가 BCrypt 72바이트를 넘으면 재해시를 건너뛰고 로그인은 성공")
+        void login_재해시72바이트초과_로그인계속() {
+                // given: 한글 25자(UTF-8 75바이트) 비밀번호
+                String longPassword = "가".repeat(25);
+                CuserI user = CuserI.builder()
+                                .eno("10001").usrNm("홍길동").usrEcyPwd("legacySha256=").delYn("N").build();
+
+                given(userRepository.findByEno("10001")).willReturn(Optional.of(user));
+                given(passwordHasher.matches(longPassword, "legacySha256=")).willReturn(true);
+                given(passwordHasher.upgradeEncoding("legacySha256=")).willReturn(true);
+                given(passwordHasher.encode(longPassword))
+                                .willThrow(new IllegalArgumentException("password cannot be more than 72 bytes"));
+                given(jwtUtil.generateAccessToken(anyString(), anyList(), any())).willReturn("access");
+                given(jwtUtil.generateRefreshToken(anyString(), any(Instant.class))).willReturn("refresh");
+
+                // when
+                AuthDto.LoginResponse response = authService.login("10001", longPassword, "127.0.0.1", "Agent");
+
                 // then
-                verify(loginHistoryRepository, times(1)).save(any(Clognh.class));
+                assertThat(response.getAccessToken()).isEqualTo("access");
+                verify(userRepository, never()).updatePasswordIfUnchanged(anyString(), anyString(), anyString(),
+                                any(LocalDateTime.class));
         }
 
         // ── 회원가입 테스트 ──────────────────────────────────────────────────
@@ -181,7 +359,7 @@ class AuthServiceTest {
                 request.setPassword("password");
 
                 given(userRepository.existsByEno("10002")).willReturn(false);
-                given(passwordEncoder.encode("password")).willReturn("encodedPwd");
+                given(passwordHasher.encode("password")).willReturn("encodedPwd");
 
                 // when
                 authService.signup(request);
@@ -208,28 +386,41 @@ class AuthServiceTest {
         // ── Refresh Token 갱신 테스트 ──────────────────────────────────────
 
         @Test
-        @DisplayName("refreshAccessToken - 유효한 Refresh Token → 새 Access Token 반환")
+        @DisplayName("refreshAccessToken - 유효한 Refresh Token → 새 Access Token과 교체된 Refresh Token 반환")
         void refreshAccessToken_유효한토큰_새AccessToken반환() {
                 // given
                 String refreshTokenValue = "valid-refresh-token";
                 Crtokm refreshToken = Crtokm.builder()
-                                .tok(refreshTokenValue).eno("10001")
+                                .tokSno(1L).tokHsh(JwtUtil.digest(refreshTokenValue)).eno("10001")
                                 .endDtm(LocalDateTime.now().plusDays(7))
                                 .build();
 
                 given(jwtUtil.validateToken(refreshTokenValue)).willReturn(true);
-                given(refreshTokenRepository.findByTok(refreshTokenValue)).willReturn(Optional.of(refreshToken));
+                given(refreshTokenRepository.findByTokHsh(JwtUtil.digest(refreshTokenValue)))
+                                .willReturn(Optional.of(refreshToken));
+                given(refreshTokenRepository.markReplaced(eq(1L), any())).willReturn(1);
                 given(userRepository.findByEno("10001")).willReturn(Optional.of(
                                 CuserI.builder().eno("10001").usrNm("홍길동").bbrC("BBR001").delYn("N").build()));
                 given(roleRepository.findAllByIdEnoAndUseYnAndDelYn("10001", "Y", "N"))
                                 .willReturn(Collections.emptyList());
                 given(jwtUtil.generateAccessToken(anyString(), anyList(), any())).willReturn("new-access-token");
+                given(jwtUtil.generateRefreshToken(eq("10001"), any(Instant.class))).willReturn("new-refresh-token");
 
                 // when
                 AuthDto.RefreshResponse response = authService.refreshAccessToken(refreshTokenValue);
 
-                // then
+                // then: 새 토큰은 원문이 아닌 해시로 저장
                 assertThat(response.getAccessToken()).isEqualTo("new-access-token");
+                assertThat(response.getRefreshToken()).isEqualTo("new-refresh-token");
+                ArgumentCaptor<Crtokm> saved = ArgumentCaptor.forClass(Crtokm.class);
+                verify(refreshTokenRepository).save(saved.capture());
+                assertThat(saved.getValue().getTokHsh()).isEqualTo(JwtUtil.digest("new-refresh-token")).hasSize(64);
+                assertThat(saved.getValue().getRplYn()).isEqualTo("N");
+                // 교체 토큰은 계열 종료일시를 그대로 이어받음 (갱신으로 세션이 연장되지 않음)
+                assertThat(saved.getValue().getEndDtm()).isEqualTo(refreshToken.getEndDtm());
+                verify(jwtUtil).generateRefreshToken("10001",
+                                refreshToken.getEndDtm().atZone(ZoneId.systemDefault()).toInstant());
+                verify(refreshTokenRepository, never()).deleteByEno(anyString());
         }
 
         @Test
@@ -250,12 +441,13 @@ class AuthServiceTest {
                 // given
                 String tokenValue = "expired-refresh-token";
                 Crtokm expiredToken = Crtokm.builder()
-                                .tok(tokenValue).eno("10001")
+                                .tokSno(2L).tokHsh(JwtUtil.digest(tokenValue)).eno("10001")
                                 .endDtm(LocalDateTime.now().minusDays(1)) // 이미 만료
                                 .build();
 
                 given(jwtUtil.validateToken(tokenValue)).willReturn(true);
-                given(refreshTokenRepository.findByTok(tokenValue)).willReturn(Optional.of(expiredToken));
+                given(refreshTokenRepository.findByTokHsh(JwtUtil.digest(tokenValue)))
+                                .willReturn(Optional.of(expiredToken));
 
                 // when & then
                 assertThatThrownBy(() -> authService.refreshAccessToken(tokenValue))
@@ -264,6 +456,53 @@ class AuthServiceTest {
 
                 // 만료 토큰 즉시 삭제 검증
                 verify(refreshTokenRepository, times(1)).delete(expiredToken);
+                verify(refreshTokenRepository, never()).markReplaced(any(), any());
+        }
+
+        @Test
+        @DisplayName("refreshAccessToken - 이미 교체된 토큰 재사용 → 사용자 토큰 전체 삭제 후 예외")
+        void refreshAccessToken_교체된토큰재사용_전체폐기() {
+                // given
+                String tokenValue = "replaced-refresh-token";
+                Crtokm replacedToken = Crtokm.builder()
+                                .tokSno(3L).tokHsh(JwtUtil.digest(tokenValue)).eno("10001").rplYn("Y")
+                                .endDtm(LocalDateTime.now().plusDays(7))
+                                .build();
+
+                given(jwtUtil.validateToken(tokenValue)).willReturn(true);
+                given(refreshTokenRepository.findByTokHsh(JwtUtil.digest(tokenValue)))
+                                .willReturn(Optional.of(replacedToken));
+
+                // when & then
+                assertThatThrownBy(() -> authService.refreshAccessToken(tokenValue))
+                                .isInstanceOf(CustomGeneralException.class)
+                                .hasMessageContaining("이미 사용된 Refresh Token");
+
+                verify(refreshTokenRepository, times(1)).deleteByEno("10001");
+                verify(refreshTokenRepository, never()).save(any(Crtokm.class));
+        }
+
+        @Test
+        @DisplayName("refreshAccessToken - 동시 갱신으로 교체 표시에 실패 → 재사용으로 보고 전체 삭제")
+        void refreshAccessToken_동시갱신_교체표시실패_전체폐기() {
+                // given: 조회 시점에는 미교체였으나 다른 요청이 먼저 교체 표시
+                String tokenValue = "raced-refresh-token";
+                Crtokm token = Crtokm.builder()
+                                .tokSno(4L).tokHsh(JwtUtil.digest(tokenValue)).eno("10001")
+                                .endDtm(LocalDateTime.now().plusDays(7))
+                                .build();
+
+                given(jwtUtil.validateToken(tokenValue)).willReturn(true);
+                given(refreshTokenRepository.findByTokHsh(JwtUtil.digest(tokenValue))).willReturn(Optional.of(token));
+                given(refreshTokenRepository.markReplaced(eq(4L), any())).willReturn(0);
+
+                // when & then
+                assertThatThrownBy(() -> authService.refreshAccessToken(tokenValue))
+                                .isInstanceOf(CustomGeneralException.class)
+                                .hasMessageContaining("이미 사용된 Refresh Token");
+
+                verify(refreshTokenRepository, times(1)).deleteByEno("10001");
+                verify(jwtUtil, never()).generateRefreshToken(anyString(), any(Instant.class));
         }
 
         // ── 로그아웃 테스트 ──────────────────────────────────────────────────
@@ -276,6 +515,6 @@ class AuthServiceTest {
 
                 // then
                 verify(refreshTokenRepository, times(1)).deleteByEno("10001");
-                verify(loginHistoryRepository, times(1)).save(any(Clognh.class));
+                verify(loginHistoryWriteQueue, times(1)).submit(any(LoginEvent.class));
         }
 }
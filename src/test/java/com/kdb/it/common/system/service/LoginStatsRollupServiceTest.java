@@ -0,0 +1,74 @@
+package com.kdb.it.common.system.service;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.kdb.it.common.system.repository.LoginStatsRepository;
+
+/**
+ * LoginStatsRollupService 단위 테스트
+ *
+ * <p>
+ * 기동 시 로그인 일별 통계 백필 조건과 적재 순서(일별 사용자 → 일별 통계),
+ * 적재 실패 시 기동을 막지 않는지 검증합니다. Oracle DB 없이 실행됩니다.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+class LoginStatsRollupServiceTest {
+
+    @Mock
+    private LoginStatsRepository loginStatsRepository;
+
+    @InjectMocks
+    private LoginStatsRollupService loginStatsRollupService;
+
+    @Test
+    @DisplayName("backfillIfEmpty: 오늘 이전 통계가 이미 있으면 백필하지 않는다")
+    void backfillIfEmpty_통계있음_백필생략() {
+        given(loginStatsRepository.countRollupBeforeToday()).willReturn(1);
+
+        loginStatsRollupService.backfillIfEmpty();
+
+        verify(loginStatsRepository, never()).backfillUsers();
+        verify(loginStatsRepository, never()).backfillDaily();
+    }
+
+    @Test
+    @DisplayName("backfillIfEmpty: 오늘 이전 통계가 없고 이력이 있으면 사용자 → 통계 순으로 백필한다")
+    void backfillIfEmpty_비어있음_백필() {
+        given(loginStatsRepository.countRollupBeforeToday()).willReturn(0);
+        given(loginStatsRepository.countHistoryBeforeToday()).willReturn(1);
+        given(loginStatsRepository.backfillUsers()).willReturn(40);
+        given(loginStatsRepository.backfillDaily()).willReturn(12);
+
+        loginStatsRollupService.backfillIfEmpty();
+
+        InOrder order = inOrder(loginStatsRepository);
+        order.verify(loginStatsRepository).backfillUsers();
+        order.verify(loginStatsRepository).backfillDaily();
+    }
+
+    @Test
+    @DisplayName("backfillIfEmpty: 적재 실패는 경고 로그만 남기고 예외를 전파하지 않는다")
+    void backfillIfEmpty_실패_예외미전파() {
+        given(loginStatsRepository.countRollupBeforeToday()).willReturn(0);
+        given(loginStatsRepository.countHistoryBeforeToday()).willReturn(1);
+        given(loginStatsRepository.backfillUsers())
+                .willThrow(new DataAccessResourceFailureException("ORA-00942"));
+
+        loginStatsRollupService.backfillIfEmpty();
+
+        verify(loginStatsRepository, never()).backfillDaily();
+    }
+}
@@ -0,0 +1,110 @@
+package com.kdb.it.common.system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.kdb.it.common.system.repository.RefreshTokenRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * RefreshTokenPurgeService 단위 테스트
+ *
+ * <p>
+ * RefreshTokenRepository·PlatformTransactionManager를 Mock 처리하여
+ * 만료·교체 갱신토큰의 배치 반복 삭제, 재사용 감지 구간 기준, 삭제 건수 메트릭, DB 오류 시 예외 억제를 검증합니다.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RefreshTokenPurgeServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RefreshTokenPurgeService purgeService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        purgeService = new RefreshTokenPurgeService(refreshTokenRepository, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(purgeService, "batchSize", 2);
+        ReflectionTestUtils.setField(purgeService, "reuseWindowMinutes", 60L);
+        purgeService.init();
+    }
+
+    @Test
+    @DisplayName("purgeExpired - 배치 크기만큼 삭제되면 반복하고, 덜 삭제되면 멈춘다")
+    void purgeExpired_배치반복() {
+        // given: 2건, 2건, 1건
+        given(refreshTokenRepository.deleteExpiredBatch(any(), eq(2))).willReturn(2, 2, 1);
+
+        // when
+        int total = purgeService.purgeExpired();
+
+        // then
+        assertThat(total).isEqualTo(5);
+        verify(refreshTokenRepository, times(3)).deleteExpiredBatch(any(), eq(2));
+        verify(transactionManager, times(4)).commit(any()); // 교체 행 1회 + 만료 행 3회
+        assertThat(meterRegistry.counter("refresh.token.purged").count()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("purgeExpired - 재사용 감지 구간이 지난 교체 행도 계열 종료일시와 무관하게 삭제한다")
+    void purgeExpired_교체행_재사용감지구간경과삭제() {
+        // given
+        ArgumentCaptor<LocalDateTime> replacedBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        given(refreshTokenRepository.deleteReplacedBatch(replacedBefore.capture(), eq(2))).willReturn(2, 1);
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        int total = purgeService.purgeExpired();
+
+        // then: 기준 시각은 실행 시각 - 60분
+        assertThat(total).isEqualTo(3);
+        verify(refreshTokenRepository, times(2)).deleteReplacedBatch(any(), eq(2));
+        assertThat(replacedBefore.getValue())
+                .isBetween(before.minusMinutes(60), LocalDateTime.now().minusMinutes(60));
+        assertThat(meterRegistry.counter("refresh.token.purged").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("purgeExpired - DB 오류는 던지지 않고 실패 메트릭만 남긴다")
+    void purgeExpired_DB오류_예외억제() {
+        // given
+        given(refreshTokenRepository.deleteExpiredBatch(any(), eq(2)))
+                .willReturn(2)
+                .willThrow(new DataAccessResourceFailureException("DB 장애"));
+
+        // when
+        int total = purgeService.purgeExpired();
+
+        // then
+        assertThat(total).isEqualTo(2);
+        assertThat(meterRegistry.counter("refresh.token.purge.failures").count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,116 @@
+package com.kdb.it.common.system.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * LoginHistoryWriteQueue 단위 테스트
+ *
+ * <p>
+ * 큐 공통 동작은 {@code BatchWriteQueueTest}에서 검증하고, 여기서는 로그인 이력 설정
+ * (주기 기준 부분 배치, 큐 포화 시 대기 없이 유실 집계)과 이벤트 spill 인코딩·재처리를 검증합니다.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LoginHistoryWriteQueueTest {
+
+    @Mock
+    private LoginHistoryJdbcWriter writer;
+
+    @TempDir
+    Path spillDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginHistoryWriteQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null && queue.isRunning()) {
+            queue.stop();
+        }
+    }
+
+    private LoginHistoryWriteQueue newQueue(LoginHistoryJdbcWriter w, int queueCapacity) {
+        meterRegistry = new SimpleMeterRegistry();
+        return new LoginHistoryWriteQueue(w, meterRegistry, queueCapacity, 3, 100L, 1, 0L, spillDir.toString());
+    }
+
+    private LoginEvent event(String eno) {
+        return new LoginEvent(eno, "LOGIN_FAILURE", "127.0.0.1", "Agent",
+                LocalDateTime.of(2026, 10, 1, 9, 0), "비밀번호 불일치", null);
+    }
+
+    @Test
+    @DisplayName("batch-size에 못 미쳐도 flush-interval-ms가 지나면 모인 만큼 기록한다")
+    void submit_주기경과_부분배치기록() {
+        // given
+        queue = newQueue(writer, 100);
+        queue.start();
+
+        // when
+        queue.submitNow(event("10001"));
+
+        // then
+        verify(writer, timeout(2000)).write(List.of(event("10001")));
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드를 막지 않고 유실 건수만 집계한다")
+    void submit_큐포화_유실집계() {
+        // given
+        queue = newQueue(writer, 1);
+
+        // when
+        queue.submitNow(event("10001"));
+        queue.submitNow(event("10002"));
+
+        // then
+        assertThat(meterRegistry.counter("login.history.dropped").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("login.history.queue.depth").gauge().value()).isEqualTo(1.0);
+        verify(writer, never()).write(anyList());
+    }
+
+    @Test
+    @DisplayName("종료 시 기록 실패분은 spill 파일에 남겨 재기동 시 같은 이벤트로 재처리한다")
+    void stop_잔여분기록실패_spill보존후재처리() {
+        // given: writer 스레드가 기동되기 전에 적재 → stop()이 남은 큐를 기록
+        given(writer.write(anyList())).willThrow(new IllegalStateException("ORA-12541"));
+        queue = newQueue(writer, 100);
+        queue.submitNow(event("10001"));
+
+        // when
+        queue.stop();
+
+        // then
+        assertThat(meterRegistry.counter("login.history.spilled").count()).isEqualTo(1.0);
+        assertThat(new LoginHistorySpillFile(spillDir).hasPending()).isTrue();
+
+        // 재기동: 새 인스턴스가 spill 파일을 읽어 다시 기록
+        LoginHistoryJdbcWriter recovered = mock(LoginHistoryJdbcWriter.class);
+        queue = newQueue(recovered, 100);
+        queue.start();
+        verify(recovered, timeout(2000)).write(List.of(event("10001")));
+    }
+}
@@ -0,0 +1,98 @@
+package com.kdb.it.common.system.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * LoginStatsRollupWriter 단위 테스트
+ *
+ * <p>
+ * JdbcTemplate을 Mock 처리하여 Oracle DB 없이
+ * 이력 배치가 일자·유형별 건수, (일자·유형·사번) 사용자 행, 사용자수 재계산 키로 묶이는지 검증합니다.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+class LoginStatsRollupWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private LoginStatsRollupWriter rollupWriter;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> dailyArgs;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> userArgs;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> keyArgs;
+
+    private static LoginEvent event(String eno, String lgnTp, LocalDateTime at) {
+        return new LoginEvent(eno, lgnTp, "127.0.0.1", "Agent", at, null, null);
+    }
+
+    @Test
+    @DisplayName("apply: 배치를 일자·유형별로 묶어 건수를 더하고, 사번은 일자·유형별로 한 번만 반영한다")
+    void apply_일자유형별집계() {
+        // given: 10/1 성공 3건(사용자 2명), 10/1 실패 1건, 10/2 성공 1건
+        LocalDateTime d1 = LocalDateTime.of(2026, 10, 1, 9, 0);
+        LocalDateTime d2 = LocalDateTime.of(2026, 10, 2, 8, 30);
+        List<LoginEvent> events = List.of(
+                event("10002", "LOGIN_SUCCESS", d1),
+                event("10001", "LOGIN_SUCCESS", d1.plusMinutes(1)),
+                event("10001", "LOGIN_SUCCESS", d1.plusHours(3)),
+                event("99999", "LOGIN_FAILURE", d1),
+                event("10001", "LOGIN_SUCCESS", d2));
+
+        // when
+        rollupWriter.apply(events);
+
+        // then: 키는 (일자, 유형) 오름차순 — 잠금 순서 고정
+        verify(jdbcTemplate).batchUpdate(eq(LoginStatsRollupWriter.MERGE_DAILY_SQL), dailyArgs.capture());
+        assertThat(dailyArgs.getValue()).containsExactly(
+                new Object[] { Date.valueOf(LocalDate.of(2026, 10, 1)), "LOGIN_FAILURE", 1L },
+                new Object[] { Date.valueOf(LocalDate.of(2026, 10, 1)), "LOGIN_SUCCESS", 3L },
+                new Object[] { Date.valueOf(LocalDate.of(2026, 10, 2)), "LOGIN_SUCCESS", 1L });
+
+        verify(jdbcTemplate).batchUpdate(eq(LoginStatsRollupWriter.MERGE_USER_SQL), userArgs.capture());
+        assertThat(userArgs.getValue()).containsExactly(
+                new Object[] { Date.valueOf(LocalDate.of(2026, 10, 1)), "LOGIN_FAILURE", "99999" },
+                new Object[] { Date.valueOf(LocalDate.of(2026, 10, 1)), "LOGIN_SUCCESS", "10001" },
+                new Object[] { Date.valueOf(LocalDate.of(2026, 10, 1)), "LOGIN_SUCCESS", "10002" },
+                new Object[] { Date.valueOf(LocalDate.of(2026, 10, 2)), "LOGIN_SUCCESS", "10001" });
+
+        verify(jdbcTemplate).batchUpdate(eq(LoginStatsRollupWriter.REFRESH_USER_COUNT_SQL), keyArgs.capture());
+        assertThat(keyArgs.getValue()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("apply: 빈 배치는 SQL을 실행하지 않는다")
+    void apply_빈배치_미실행() {
+        // when
+        rollupWriter.apply(List.of());
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+}
@@ -0,0 +1,80 @@
+package com.kdb.it.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * PasswordEncoderFactory 단위 테스트
+ *
+ * <p>
+ * 위임 인코더의 저장 형식({@code {id}} 접두어), 접두어 없는 기존 SHA-256 값 검증,
+ * 재해시 대상 판정(기존 형식·낮은 작업계수·다른 알고리즘)을 검증합니다.
+ * 테스트 시간을 줄이기 위해 최소 작업계수를 사용합니다.
+ * </p>
+ */
+class PasswordEncoderFactoryTest {
+
+    private static final int STRENGTH = 4;
+    private static final int ITERATIONS = 1_000;
+
+    @Test
+    @DisplayName("encode - 설정된 알고리즘 접두어를 붙여 저장하고 같은 평문과 일치한다")
+    void encode_접두어저장_검증() {
+        // given
+        PasswordEncoder encoder = PasswordEncoderFactory.create("bcrypt", STRENGTH, ITERATIONS);
+
+        // when
+        String encoded = encoder.encode("password123");
+
+        // then
+        assertThat(encoded).startsWith("{bcrypt}$2a$04$");
+        assertThat(encoded.length()).isLessThanOrEqualTo(128);
+        assertThat(encoder.matches("password123", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+        assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("matches - 접두어 없는 기존 SHA-256 값도 검증하고 재해시 대상으로 판정한다")
+    void matches_기존SHA256_검증및재해시대상() {
+        // given
+        PasswordEncoder encoder = PasswordEncoderFactory.create("bcrypt", STRENGTH, ITERATIONS);
+        String legacy = new CustomPasswordEncoder().encode("password123");
+
+        // when & then
+        assertThat(encoder.matches("password123", legacy)).isTrue();
+        assertThat(encoder.matches("wrong", legacy)).isFalse();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+    }
+
+    @Test
+    @DisplayName("upgradeEncoding - 작업계수를 올리거나 알고리즘을 바꾸면 기존 해시를 재해시 대상으로 판정한다")
+    void upgradeEncoding_작업계수상향_알고리즘변경() {
+        // given
+        String weak = PasswordEncoderFactory.create("bcrypt", STRENGTH, ITERATIONS).encode("password123");
+
+        // when
+        PasswordEncoder stronger = PasswordEncoderFactory.create("bcrypt", STRENGTH + 1, ITERATIONS);
+        PasswordEncoder pbkdf2 = PasswordEncoderFactory.create("pbkdf2", STRENGTH, ITERATIONS);
+
+        // then: 기존 해시 검증은 계속 가능
+        assertThat(stronger.matches("password123", weak)).isTrue();
+        assertThat(stronger.upgradeEncoding(weak)).isTrue();
+        assertThat(pbkdf2.matches("password123", weak)).isTrue();
+        assertThat(pbkdf2.upgradeEncoding(weak)).isTrue();
+        assertThat(pbkdf2.encode("password123")).startsWith("{pbkdf2}").hasSizeLessThanOrEqualTo(128);
+    }
+
+    @Test
+    @DisplayName("create - 기존 SHA-256이나 지원하지 않는 알고리즘을 저장 알고리즘으로 지정하면 예외")
+    void create_지원하지않는알고리즘_예외() {
+        assertThatThrownBy(() -> PasswordEncoderFactory.create("sha256", STRENGTH, ITERATIONS))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PasswordEncoderFactory.create("md5", STRENGTH, ITERATIONS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,235 @@
+package com.kdb.it.common.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * BatchWriteQueue 단위 테스트
+ *
+ * <p>
+ * 문자열 레코드용 테스트 큐로 감사로그·로그인 이력 큐가 공유하는 동작을 검증합니다:
+ * 커밋 후 적재·롤백 시 폐기, 즉시 제출, 건수·주기 기준 배치, 큐 포화 시 spill/유실,
+ * 쓰기 실패 시 제한 횟수 재시도 후 spill 보존, 재기동 시 spill 재처리.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BatchWriteQueueTest {
+
+    @Mock
+    private Consumer<List<String>> writer;
+
+    @TempDir
+    Path spillDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TestQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queue = new TestQueue(writer, meterRegistry, settings(100, 0L, false));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (queue.isRunning()) {
+            queue.stop();
+        }
+    }
+
+    /** 배치 3건, 재시도 3회(대기 1ms) 기준 설정 */
+    private static BatchWriteQueue.Settings settings(int capacity, long lingerMs, boolean dropOnOverflow) {
+        return BatchWriteQueue.Settings.builder()
+                .label("테스트")
+                .metricPrefix("test")
+                .threadName("test-writer")
+                .queueCapacity(capacity)
+                .batchSize(3)
+                .pollIntervalMs(20)
+                .lingerMs(lingerMs)
+                .offerTimeoutMs(10)
+                .dropOnOverflow(dropOnOverflow)
+                .maxAttempts(3)
+                .retryBackoffMs(1)
+                .build();
+    }
+
+    @Test
+    @DisplayName("submit: 트랜잭션 안에서는 커밋 전까지 적재되지 않고, afterCommit 시 한 버퍼에서 모두 적재된다")
+    void submit_트랜잭션커밋_커밋후적재() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        queue.submit("A");
+        queue.submit("B");
+
+        // then: 동일 트랜잭션 내 제출은 하나의 버퍼로 모인다
+        List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(syncs).hasSize(1);
+        assertThat(meterRegistry.get("test.queue.depth").gauge().value()).isZero();
+        syncs.get(0).afterCommit();
+        assertThat(meterRegistry.get("test.queue.depth").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("submit: 롤백된 트랜잭션의 레코드는 기록되지 않고, submitNow는 트랜잭션과 무관하게 적재된다")
+    void submit_트랜잭션롤백_폐기_submitNow_즉시적재() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        queue.submit("롤백");
+        queue.submitNow("즉시");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        queue.start();
+
+        // then
+        verify(writer, timeout(2000)).accept(List.of("즉시"));
+        verify(writer, after(200).times(1)).accept(anyList());
+    }
+
+    @Test
+    @DisplayName("lingerMs 동안 batchSize건이 모이면 주기를 기다리지 않고 한 번에 기록한다")
+    void drain_배치건수도달_즉시기록() {
+        // given: 주기를 길게 두어 건수 조건으로만 기록되도록 함
+        queue = new TestQueue(writer, meterRegistry, settings(100, 5_000L, false));
+        queue.start();
+
+        // when
+        queue.submit("A");
+        queue.submit("B");
+        queue.submit("C");
+
+        // then
+        verify(writer, timeout(2000)).accept(List.of("A", "B", "C"));
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 dropOnOverflow 설정에 따라 초과분을 spill 파일에 보존하거나 버린다")
+    void submit_큐포화_spill또는유실() throws Exception {
+        // given
+        queue = new TestQueue(writer, meterRegistry, settings(1, 0L, false));
+        SimpleMeterRegistry dropRegistry = new SimpleMeterRegistry();
+        TestQueue dropping = new TestQueue(writer, dropRegistry, settings(1, 0L, true));
+
+        // when
+        queue.submit("A");
+        queue.submit("B");
+        dropping.submit("A");
+        dropping.submit("B");
+
+        // then
+        verify(writer, never()).accept(anyList());
+        assertThat(new TestSpillFile(spillDir).takeAll()).containsExactly("B");
+        assertThat(meterRegistry.counter("test.spilled").count()).isEqualTo(1.0);
+        assertThat(dropRegistry.counter("test.dropped").count()).isEqualTo(1.0);
+        assertThat(dropRegistry.counter("test.spilled").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("일시적 쓰기 실패는 재시도로 기록하고 spill하지 않는다")
+    void flush_일시실패_재시도성공() {
+        // given: 첫 시도만 실패
+        willThrow(new IllegalStateException("ORA-12541")).willDoNothing().given(writer).accept(anyList());
+        queue.start();
+
+        // when
+        queue.submit("A");
+
+        // then
+        verify(writer, timeout(2000).times(2)).accept(List.of("A"));
+        assertThat(meterRegistry.counter("test.retries").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("test.written").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("test.spilled").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("항상 실패하는 배치는 maxAttempts회만 시도한 뒤 spill 파일에 보존하고, 재기동 시 재처리한다")
+    @SuppressWarnings("unchecked")
+    void flush_계속실패_재시도제한후spill_재기동재처리() throws Exception {
+        // given: writer 스레드가 기동되기 전에 적재 → stop()이 남은 큐를 기록
+        willThrow(new IllegalStateException("ORA-12541")).given(writer).accept(anyList());
+        queue.submit("A");
+
+        // when
+        queue.stop();
+
+        // then
+        verify(writer, times(3)).accept(List.of("A"));
+        assertThat(meterRegistry.counter("test.write.failures").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("test.spilled").count()).isEqualTo(1.0);
+        assertThat(new TestSpillFile(spillDir).hasPending()).isTrue();
+
+        // 재기동: 새 인스턴스가 spill 파일을 읽어 다시 기록
+        Consumer<List<String>> recovered = mock(Consumer.class);
+        TestQueue restarted = new TestQueue(recovered, new SimpleMeterRegistry(), settings(100, 0L, false));
+        restarted.start();
+        try {
+            verify(recovered, timeout(2000)).accept(List.of("A"));
+            verify(recovered, after(200).times(1)).accept(anyList());
+        } finally {
+            restarted.stop();
+        }
+        assertThat(new TestSpillFile(spillDir).hasPending()).isFalse();
+    }
+
+    /** 문자열 레코드 테스트 큐 */
+    private class TestQueue extends BatchWriteQueue<String> {
+
+        TestQueue(Consumer<List<String>> writer, SimpleMeterRegistry registry, Settings settings) {
+            super(settings, writer, new TestSpillFile(spillDir), registry);
+        }
+    }
+
+    /** UTF-8 문자열 spill 파일 */
+    private static class TestSpillFile extends SpillFile<String> {
+
+        TestSpillFile(Path dir) {
+            super(dir, "test", 1024);
+        }
+
+        @Override
+        protected byte[] encode(String record) {
+            return record.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        protected String decode(byte[] bytes) throws IOException {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
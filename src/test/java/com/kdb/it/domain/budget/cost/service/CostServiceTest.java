@@ -7,11 +7,14 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,13 +27,16 @@ import org.mockito.quality.Strictness;
 import com.kdb.it.common.approval.repository.ApplicationMapRepository;
 import com.kdb.it.common.approval.repository.ApplicationRepository;
 import com.kdb.it.common.approval.repository.ApproverRepository;
-import com.kdb.it.common.code.repository.CodeRepository;
+import com.kdb.it.common.code.entity.Ccodem;
 import com.kdb.it.common.code.service.CodeService;
+import com.kdb.it.common.code.service.IoeClassifier;
 import com.kdb.it.common.iam.repository.OrganizationRepository;
 import com.kdb.it.common.iam.repository.UserRepository;
+import com.kdb.it.common.system.dto.PageDto;
 import com.kdb.it.common.system.security.CustomUserDetails;
 import com.kdb.it.domain.budget.cost.dto.CostDto;
 import com.kdb.it.domain.budget.cost.entity.Bcostm;
+import com.kdb.it.domain.budget.cost.entity.Btermm;
 import com.kdb.it.domain.budget.cost.repository.BtermmRepository;
 import com.kdb.it.domain.budget.cost.repository.CostRepository;
 
@@ -56,12 +62,18 @@ class CostServiceTest {
     @Mock private OrganizationRepository corgnIRepository;
     @Mock private UserRepository cuserIRepository;
     @Mock private ApproverRepository cdecimRepository;
-    @Mock private CodeRepository ccodemRepository;
     @Mock private CodeService codeService;
+    @Mock private IoeClassifier ioeClassifier;
 
     @InjectMocks
     private CostService costService;
 
+    @BeforeEach
+    void setUp() {
+        // 예산 구분용 비목 분류표 (기본: 분류 대상 없음)
+        given(ioeClassifier.table()).willReturn(IoeClassifier.Table.of(List.of(), List.of(), LocalDate.now()));
+    }
+
     /** 테스트 공통 관리번호 */
     private static final String IT_MNGC_NO = "COST_2026_0001";
 
@@ -114,7 +126,7 @@ class CostServiceTest {
     @Test
     @DisplayName("getCostsByIds: 존재하지 않는 관리번호는 결과에서 제외하고 빈 목록을 반환한다")
     void getCostsByIds_존재하지않는항목_필터링빈목록반환() {
-        given(costRepository.findByItMngcNoAndDelYn(any(), eq("N"))).willReturn(List.of());
+        given(costRepository.findByItMngcNoInAndDelYn(any(), eq("N"))).willReturn(List.of());
 
         CostDto.BulkGetRequest request = new CostDto.BulkGetRequest(
                 List.of("COST_NOTEXIST1", "COST_NOTEXIST2"));
@@ -151,6 +163,40 @@ class CostServiceTest {
         assertThat(result).hasSize(2);
     }
 
+    @Test
+    @DisplayName("getCostList: 비목 분류표로 자본예산 세부 항목과 일반관리비를 나누어 설정한다")
+    void getCostList_비목분류_예산구분설정() {
+        // given: 개발비 비목 1건, 일반관리비 비목 1건
+        Bcostm dev = mock(Bcostm.class);
+        Bcostm cost = mock(Bcostm.class);
+        given(dev.getItMngcNo()).willReturn("COST_2026_0001");
+        given(dev.getItMngcSno()).willReturn(1);
+        given(dev.getIoeC()).willReturn("IOE-237-0100");
+        given(dev.getItMngcBg()).willReturn(new BigDecimal("100"));
+        given(cost.getItMngcNo()).willReturn("COST_2026_0002");
+        given(cost.getItMngcSno()).willReturn(1);
+        given(cost.getIoeC()).willReturn("IOE-233-0100");
+        given(cost.getItMngcBg()).willReturn(new BigDecimal("30"));
+
+        given(costRepository.findAllByDelYn("N")).willReturn(List.of(dev, cost));
+        given(capplaRepository.findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc(eq("BCOSTM"), any()))
+                .willReturn(List.of());
+        given(ioeClassifier.table()).willReturn(IoeClassifier.Table.of(
+                List.of(Ccodem.builder().cdId("IOE-237-0100").cdDes("개발비").build()),
+                List.of(Ccodem.builder().cdId("IOE-233-0100").build()), LocalDate.now()));
+
+        // when
+        List<CostDto.Response> result = costService.getCostList();
+
+        // then: 분류표는 요청당 1회 조회
+        assertThat(result.get(0).getAssetBg()).isEqualByComparingTo("100");
+        assertThat(result.get(0).getDevBg()).isEqualByComparingTo("100");
+        assertThat(result.get(0).getCostBg()).isEqualByComparingTo("0");
+        assertThat(result.get(1).getAssetBg()).isEqualByComparingTo("0");
+        assertThat(result.get(1).getCostBg()).isEqualByComparingTo("30");
+        verify(ioeClassifier, times(1)).table();
+    }
+
     @Test
     @DisplayName("getCostList: 삭제된 항목만 있으면 빈 목록을 반환한다")
     void getCostList_빈목록_빈목록반환() {
@@ -163,6 +209,40 @@ class CostServiceTest {
         assertThat(result).isEmpty();
     }
 
+    // ───────────────────────────────────────────────────────
+    // searchCostPage — 서버 측 페이지 조회
+    // ───────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("searchCostPage: offset 방식은 size+1건 조회로 다음 페이지 여부를 판단하고 전체 건수를 함께 반환한다")
+    void searchCostPage_offset_다음페이지여부및건수() {
+        // given: size=1 요청에 리포지토리가 2건 반환
+        Bcostm cost1 = mock(Bcostm.class);
+        Bcostm cost2 = mock(Bcostm.class);
+        given(cost1.getItMngcNo()).willReturn("COST_2026_0001");
+        given(cost1.getItMngcSno()).willReturn(1);
+        given(cost2.getItMngcNo()).willReturn("COST_2026_0002");
+        given(cost2.getItMngcSno()).willReturn(1);
+
+        CostDto.SearchCondition condition = new CostDto.SearchCondition();
+        PageDto.Request pageRequest = new PageDto.Request();
+        pageRequest.setSize(1);
+        given(costRepository.searchPageByCondition(condition, pageRequest)).willReturn(List.of(cost1, cost2));
+        given(costRepository.countByCondition(condition)).willReturn(2L);
+        given(capplaRepository.findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc(eq("BCOSTM"), any()))
+                .willReturn(List.of());
+
+        // when
+        PageDto.Response<CostDto.Response> page = costService.searchCostPage(condition, pageRequest);
+
+        // then: 첫 행만 반환, offset 방식이므로 커서 없음
+        assertThat(page.content()).extracting(CostDto.Response::getItMngcNo).containsExactly("COST_2026_0001");
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.totalElements()).isEqualTo(2L);
+        assertThat(page.nextCursor()).isNull();
+        verify(capplaRepository).findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc("BCOSTM", List.of("COST_2026_0001"));
+    }
+
     // ───────────────────────────────────────────────────────
     // createCost (신규)
     // ───────────────────────────────────────────────────────
@@ -308,16 +388,13 @@ class CostServiceTest {
         given(cost2.getItMngcNo()).willReturn("COST_2026_0002");
         given(cost2.getItMngcSno()).willReturn(1);
 
-        given(costRepository.findByItMngcNoAndDelYn("COST_2026_0001", "N"))
-                .willReturn(List.of(cost1));
-        given(costRepository.findByItMngcNoAndDelYn("COST_2026_0002", "N"))
-                .willReturn(List.of(cost2));
+        given(costRepository.findByItMngcNoInAndDelYn(List.of("COST_2026_0001", "COST_2026_0002"), "N"))
+                .willReturn(List.of(cost1, cost2));
 
-        // 단건 조회 경로에서 호출되는 cappla/termm mock
-        given(capplaRepository.findByOrcTbCdAndOrcPkVlAndOrcSnoVlOrderByApfRelSnoDesc(
-                eq("BCOSTM"), any(), any())).willReturn(List.of());
-        given(btermmRepository.findByItMngcNoAndItMngcSnoAndDelYn(any(), any(), eq("N")))
+        // 배치 조회 경로에서 호출되는 cappla/termm mock
+        given(capplaRepository.findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc(eq("BCOSTM"), any()))
                 .willReturn(List.of());
+        given(btermmRepository.findByItMngcNoInAndDelYn(any(), eq("N"))).willReturn(List.of());
 
         CostDto.BulkGetRequest request = new CostDto.BulkGetRequest(
                 List.of("COST_2026_0001", "COST_2026_0002"));
@@ -325,7 +402,51 @@ class CostServiceTest {
         // when
         List<CostDto.Response> result = costService.getCostsByIds(request);
 
-        // then: 2건 모두 반환
+        // then: 2건 모두 반환, 단건 조회 경로 미사용
         assertThat(result).hasSize(2);
+        verify(costRepository, never()).findByItMngcNoAndDelYn(any(), any());
+    }
+
+    @Test
+    @DisplayName("getCostsByIds: 단말기는 관리번호 IN 조회 1회로 가져와 항목별로 나누어 설정한다")
+    void getCostsByIds_단말기배치조회() {
+        // given: 2건 + 단말기 3대 (COST_2026_0001에 2대, COST_2026_0002에 1대)
+        Bcostm cost1 = mock(Bcostm.class);
+        given(cost1.getItMngcNo()).willReturn("COST_2026_0001");
+        given(cost1.getItMngcSno()).willReturn(1);
+        Bcostm cost2 = mock(Bcostm.class);
+        given(cost2.getItMngcNo()).willReturn("COST_2026_0002");
+        given(cost2.getItMngcSno()).willReturn(1);
+        given(costRepository.findByItMngcNoInAndDelYn(any(), eq("N"))).willReturn(List.of(cost1, cost2));
+        given(capplaRepository.findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc(eq("BCOSTM"), any()))
+                .willReturn(List.of());
+
+        Btermm t1 = terminal("TER_2026_0001", "COST_2026_0001");
+        Btermm t2 = terminal("TER_2026_0002", "COST_2026_0001");
+        Btermm t3 = terminal("TER_2026_0003", "COST_2026_0002");
+        given(btermmRepository.findByItMngcNoInAndDelYn(any(), eq("N"))).willReturn(List.of(t1, t2, t3));
+
+        CostDto.BulkGetRequest request = new CostDto.BulkGetRequest(
+                List.of("COST_2026_0002", "COST_2026_0001"));
+
+        // when
+        List<CostDto.Response> result = costService.getCostsByIds(request);
+
+        // then: 요청 순서 유지, 단말기 분배, 단건 단말기 조회 미사용
+        assertThat(result).extracting(CostDto.Response::getItMngcNo)
+                .containsExactly("COST_2026_0002", "COST_2026_0001");
+        assertThat(result.get(0).getTerminals()).hasSize(1);
+        assertThat(result.get(1).getTerminals()).hasSize(2);
+        verify(btermmRepository, times(1)).findByItMngcNoInAndDelYn(any(), eq("N"));
+        verify(btermmRepository, never()).findByItMngcNoAndItMngcSnoAndDelYn(any(), any(), any());
+    }
+
+    /** 전산관리비에 연결된 단말기 mock 생성 */
+    private Btermm terminal(String tmnMngNo, String itMngcNo) {
+        Btermm terminal = mock(Btermm.class);
+        given(terminal.getTmnMngNo()).willReturn(tmnMngNo);
+        given(terminal.getItMngcNo()).willReturn(itMngcNo);
+        given(terminal.getItMngcSno()).willReturn(1);
+        return terminal;
     }
 }
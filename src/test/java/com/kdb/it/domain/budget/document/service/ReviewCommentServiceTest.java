@@ -1,7 +1,6 @@
 package com.kdb.it.domain.budget.document.service;
 
-import com.kdb.it.common.iam.entity.CuserI;
-import com.kdb.it.common.iam.repository.UserRepository;
+import com.kdb.it.common.iam.service.DirectoryCacheService;
 import com.kdb.it.domain.budget.document.dto.ReviewCommentDto;
 import com.kdb.it.domain.budget.document.entity.Brivgm;
 import com.kdb.it.domain.budget.document.repository.BrivgmRepository;
@@ -13,6 +12,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.web.server.ResponseStatusException;
@@ -28,7 +28,7 @@ import static org.mockito.BDDMockito.*;
 class ReviewCommentServiceTest {
 
     @Mock BrivgmRepository brivgmRepository;
-    @Mock UserRepository userRepository;
+    @Mock DirectoryCacheService directoryCacheService;
     @InjectMocks ReviewCommentService reviewCommentService;
 
     @Test
@@ -80,8 +80,7 @@ class ReviewCommentServiceTest {
                 "DOC-2026-0010", new BigDecimal("1.01"), "N"))
                 .willReturn(List.of(comment));
 
-        var user = CuserI.builder().eno("E12345").usrNm("홍길동").build();
-        given(userRepository.findById("E12345")).willReturn(Optional.of(user));
+        given(directoryCacheService.getUserNames(List.of("E12345"))).willReturn(Map.of("E12345", "홍길동"));
 
         // 실행
         List<ReviewCommentDto.Response> result =
@@ -108,7 +107,7 @@ class ReviewCommentServiceTest {
         given(brivgmRepository.findByDocMngNoAndDocVrsAndDelYnOrderByFstEnrDtmAsc(
                 "DOC-2026-0010", new BigDecimal("1.01"), "N"))
                 .willReturn(List.of(comment));
-        given(userRepository.findById("UNKNOWN_ENO")).willReturn(Optional.empty());
+        given(directoryCacheService.getUserNames(List.of("UNKNOWN_ENO"))).willReturn(Map.of());
 
         // 실행
         List<ReviewCommentDto.Response> result =
@@ -1,6 +1,6 @@
 package com.kdb.it.domain.budget.document.service;
 
-import com.kdb.it.common.iam.repository.UserRepository;
+import com.kdb.it.common.iam.service.DirectoryCacheService;
 import com.kdb.it.domain.budget.document.dto.ServiceRequestDocDto;
 import com.kdb.it.domain.budget.document.entity.Brdocm;
 import com.kdb.it.domain.budget.document.repository.ServiceRequestDocRepository;
@@ -47,9 +47,9 @@ class ServiceRequestDocServiceTest {
     @Mock
     private ServiceRequestDocRepository repository;
 
-    /** 사용자 정보 리포지토리 (mock): 서비스 의존성 충족용 */
+    /** 사용자 이름 캐시 (mock): 서비스 의존성 충족용 */
     @Mock
-    private UserRepository cuserIRepository;
+    private DirectoryCacheService directoryCacheService;
 
     /** 테스트 대상 서비스 */
     @InjectMocks
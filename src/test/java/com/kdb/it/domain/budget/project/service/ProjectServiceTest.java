@@ -7,9 +7,16 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.AfterEach;
@@ -27,7 +34,9 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import com.kdb.it.common.code.entity.Ccodem;
+import com.kdb.it.common.system.dto.PageDto;
 import com.kdb.it.domain.budget.project.dto.ProjectDto;
+import com.kdb.it.domain.budget.project.entity.Bitemm;
 import com.kdb.it.domain.budget.project.entity.Bprojm;
 import com.kdb.it.domain.budget.project.repository.ProjectItemRepository;
 import com.kdb.it.domain.budget.project.repository.ProjectRepository;
@@ -36,8 +45,8 @@ import com.kdb.it.common.approval.repository.ApplicationRepository;
 import com.kdb.it.common.approval.repository.ApproverRepository;
 import com.kdb.it.common.code.repository.CodeRepository;
 import com.kdb.it.common.code.service.CodeService;
-import com.kdb.it.common.iam.repository.OrganizationRepository;
-import com.kdb.it.common.iam.repository.UserRepository;
+import com.kdb.it.common.code.service.IoeClassifier;
+import com.kdb.it.common.iam.service.DirectoryCacheService;
 import com.kdb.it.common.system.security.CustomUserDetails;
 
 /**
@@ -65,9 +74,9 @@ class ProjectServiceTest {
         @Mock
         private CodeService codeService;
         @Mock
-        private OrganizationRepository corgnIRepository;
+        private IoeClassifier ioeClassifier;
         @Mock
-        private UserRepository cuserIRepository;
+        private DirectoryCacheService directoryCacheService;
         @Mock
         private ApproverRepository cdecimRepository;
         @Mock
@@ -80,6 +89,8 @@ class ProjectServiceTest {
 
         @BeforeEach
         void setUpSecurity() {
+                // 예산 합계 계산용 비목 분류표 (기본: 분류 대상 없음)
+                given(ioeClassifier.table()).willReturn(IoeClassifier.Table.of(List.of(), List.of(), LocalDate.now()));
                 CustomUserDetails adminUser = new CustomUserDetails(
                                 "10001", List.of(CustomUserDetails.ATH_ADMIN), "BBR001");
                 given(securityContext.getAuthentication()).willReturn(authentication);
@@ -225,11 +236,8 @@ class ProjectServiceTest {
                 // 배치 조회: 신청서·부서·사용자 없음
                 given(capplaRepository.findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc(
                                 anyString(), anyList())).willReturn(List.of());
-                given(corgnIRepository.findAllById(anyList())).willReturn(List.of());
-                given(cuserIRepository.findAllById(anyList())).willReturn(List.of());
-                // 예산 합계 계산용 코드 조회
-                given(codeService.findCodeEntitiesByCttTp(anyString()))
-                                .willReturn(List.of());
+                given(directoryCacheService.getOrgNames(any())).willReturn(Map.of());
+                given(directoryCacheService.getUserNames(any())).willReturn(Map.of());
                 given(bitemmRepository.findByPrjMngNoAndPrjSnoAndDelYn(anyString(), any(), anyString()))
                                 .willReturn(List.of());
 
@@ -242,6 +250,48 @@ class ProjectServiceTest {
                 assertThat(result.get(1).getPrjMngNo()).isEqualTo("PRJ-2026-0002");
         }
 
+        @Test
+        @DisplayName("getProjectList: 500건 목록도 품목 집계 1회·비목 분류표 1회로 예산 합계를 계산한다")
+        void getProjectList_500건_쿼리수일정() {
+                // given: 500건 프로젝트 + (프로젝트, 품목구분)별 집계 결과
+                List<Bprojm> projects = new ArrayList<>();
+                List<ProjectDto.ItemAmount> amounts = new ArrayList<>();
+                for (int i = 1; i <= 500; i++) {
+                        String prjMngNo = String.format("PRJ-2026-%04d", i);
+                        projects.add(Bprojm.builder().prjMngNo(prjMngNo).prjSno(1).delYn("N").build());
+                        amounts.add(new ProjectDto.ItemAmount(prjMngNo, 1, "IOE-351-0100", new BigDecimal("100")));
+                        amounts.add(new ProjectDto.ItemAmount(prjMngNo, 1, "IOE-212-0100", new BigDecimal("30")));
+                }
+                // 이전 순번(prjSno=2)의 품목은 합계에서 제외되어야 한다
+                amounts.add(new ProjectDto.ItemAmount("PRJ-2026-0001", 2, "IOE-351-0100", new BigDecimal("999")));
+
+                given(projectRepository.findAllByDelYn("N")).willReturn(projects);
+                given(capplaRepository.findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc(
+                                anyString(), anyList())).willReturn(List.of());
+                given(directoryCacheService.getOrgNames(any())).willReturn(Map.of());
+                given(directoryCacheService.getUserNames(any())).willReturn(Map.of());
+                given(bitemmRepository.sumItemAmountByProjectAndGclDtt(any())).willReturn(amounts);
+                given(ioeClassifier.table()).willReturn(IoeClassifier.Table.of(
+                                List.of(Ccodem.builder().cdId("IOE-351-0100").cdDes("기계장치").build()),
+                                List.of(Ccodem.builder().cdId("IOE-212-0100").build()), LocalDate.now()));
+
+                // when
+                List<ProjectDto.Response> result = projectService.getProjectList();
+
+                // then: 목록 건수와 무관하게 집계 1회, 분류표 1회
+                assertThat(result).hasSize(500);
+                verify(bitemmRepository, times(1)).sumItemAmountByProjectAndGclDtt(any());
+                verify(bitemmRepository, never()).findByPrjMngNoAndPrjSnoAndDelYn(anyString(), any(), anyString());
+                verify(ioeClassifier, times(1)).table();
+                verify(capplaRepository, times(1)).findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc(anyString(), anyList());
+
+                ProjectDto.Response first = result.get(0);
+                assertThat(first.getAssetBg()).isEqualByComparingTo("100");
+                assertThat(first.getMachBg()).isEqualByComparingTo("100");
+                assertThat(first.getDevBg()).isEqualByComparingTo("0");
+                assertThat(first.getCostBg()).isEqualByComparingTo("30");
+        }
+
         // ───────────────────────────────────────────────────────
         // searchProjectList (신규) — 검색 조건 전달 확인
         // ───────────────────────────────────────────────────────
@@ -258,9 +308,8 @@ class ProjectServiceTest {
                                 .willReturn(List.of(project));
                 given(capplaRepository.findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc(
                                 anyString(), anyList())).willReturn(List.of());
-                given(corgnIRepository.findAllById(anyList())).willReturn(List.of());
-                given(cuserIRepository.findAllById(anyList())).willReturn(List.of());
-                given(codeService.findCodeEntitiesByCttTp(anyString())).willReturn(List.of());
+                given(directoryCacheService.getOrgNames(any())).willReturn(Map.of());
+                given(directoryCacheService.getUserNames(any())).willReturn(Map.of());
                 given(bitemmRepository.findByPrjMngNoAndPrjSnoAndDelYn(anyString(), any(), anyString()))
                                 .willReturn(List.of());
 
@@ -272,6 +321,76 @@ class ProjectServiceTest {
                 assertThat(result).hasSize(1);
         }
 
+        // ───────────────────────────────────────────────────────
+        // searchProjectPage — 서버 측 페이지 조회
+        // ───────────────────────────────────────────────────────
+
+        @Test
+        @DisplayName("searchProjectPage: keyset 방식은 size+1건 중 size건만 반환하고 마지막 행으로 다음 커서를 만든다")
+        void searchProjectPage_keyset_다음커서생성() {
+                // given: size=2 요청에 리포지토리가 3건(다음 페이지 존재) 반환, 건수 조회 생략
+                ProjectDto.SearchCondition condition = new ProjectDto.SearchCondition();
+                PageDto.Request pageRequest = new PageDto.Request();
+                pageRequest.setMode("keyset");
+                pageRequest.setSize(2);
+                pageRequest.setWithCount(false);
+
+                LocalDateTime dtm = LocalDateTime.of(2026, 3, 1, 9, 0);
+                List<Bprojm> rows = List.of(
+                                Bprojm.builder().prjMngNo("PRJ-2026-0003").prjSno(1).delYn("N").fstEnrDtm(dtm).build(),
+                                Bprojm.builder().prjMngNo("PRJ-2026-0002").prjSno(1).delYn("N").fstEnrDtm(dtm).build(),
+                                Bprojm.builder().prjMngNo("PRJ-2026-0001").prjSno(1).delYn("N").fstEnrDtm(dtm).build());
+                given(projectRepository.searchPageByCondition(condition, pageRequest)).willReturn(rows);
+                given(capplaRepository.findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc(
+                                anyString(), anyList())).willReturn(List.of());
+                given(directoryCacheService.getOrgNames(any())).willReturn(Map.of());
+                given(directoryCacheService.getUserNames(any())).willReturn(Map.of());
+                given(bitemmRepository.sumItemAmountByProjectAndGclDtt(any())).willReturn(List.of());
+
+                // when
+                PageDto.Response<ProjectDto.Response> page = projectService.searchProjectPage(condition, pageRequest);
+
+                // then: 페이지 행만 반환·주입하고, 커서는 마지막 반환 행을 가리킨다
+                assertThat(page.content()).extracting(ProjectDto.Response::getPrjMngNo)
+                                .containsExactly("PRJ-2026-0003", "PRJ-2026-0002");
+                assertThat(page.hasNext()).isTrue();
+                assertThat(page.totalElements()).isNull();
+                assertThat(PageDto.Cursor.decode(page.nextCursor()))
+                                .isEqualTo(new PageDto.Cursor(dtm, "PRJ-2026-0002", 1));
+                verify(projectRepository, never()).countByCondition(any());
+                verify(capplaRepository).findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc(
+                                "BPROJM", List.of("PRJ-2026-0003", "PRJ-2026-0002"));
+        }
+
+        @Test
+        @DisplayName("searchProjectPage: offset 방식 마지막 페이지는 전체 건수를 포함하고 커서가 없다")
+        void searchProjectPage_offset_전체건수포함() {
+                // given
+                ProjectDto.SearchCondition condition = new ProjectDto.SearchCondition();
+                PageDto.Request pageRequest = new PageDto.Request();
+                pageRequest.setPage(1);
+                pageRequest.setSize(20);
+
+                given(projectRepository.searchPageByCondition(condition, pageRequest)).willReturn(List.of(
+                                Bprojm.builder().prjMngNo("PRJ-2026-0021").prjSno(1).delYn("N").build()));
+                given(projectRepository.countByCondition(condition)).willReturn(21L);
+                given(capplaRepository.findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc(
+                                anyString(), anyList())).willReturn(List.of());
+                given(directoryCacheService.getOrgNames(any())).willReturn(Map.of());
+                given(directoryCacheService.getUserNames(any())).willReturn(Map.of());
+                given(bitemmRepository.sumItemAmountByProjectAndGclDtt(any())).willReturn(List.of());
+
+                // when
+                PageDto.Response<ProjectDto.Response> page = projectService.searchProjectPage(condition, pageRequest);
+
+                // then
+                assertThat(page.content()).hasSize(1);
+                assertThat(page.totalElements()).isEqualTo(21L);
+                assertThat(page.page()).isEqualTo(1);
+                assertThat(page.hasNext()).isFalse();
+                assertThat(page.nextCursor()).isNull();
+        }
+
         // ───────────────────────────────────────────────────────
         // createProject (신규) — 관리번호 자동 채번
         // ───────────────────────────────────────────────────────
@@ -343,17 +462,12 @@ class ProjectServiceTest {
                 Bprojm project = Bprojm.builder()
                                 .prjMngNo(existingNo).prjSno(1).delYn("N").build();
 
-                given(projectRepository.findByPrjMngNoAndDelYn(existingNo, "N"))
-                                .willReturn(Optional.of(project));
-                given(projectRepository.findByPrjMngNoAndDelYn(missingNo, "N"))
-                                .willReturn(Optional.empty());
-
-                // 단건 조회 경로 내부 mock
-                given(capplaRepository.findByOrcTbCdAndOrcPkVlAndOrcSnoVlOrderByApfRelSnoDesc(
-                                anyString(), eq(existingNo), eq(1))).willReturn(List.of());
-                given(bitemmRepository.findByPrjMngNoAndPrjSnoAndDelYn(existingNo, 1, "N"))
-                                .willReturn(List.of());
-                given(codeService.findCodeEntitiesByCttTp(anyString())).willReturn(List.of());
+                // 일괄 조회: 존재하는 프로젝트만 반환됨
+                given(projectRepository.findByPrjMngNoInAndDelYn(List.of(existingNo, missingNo), "N"))
+                                .willReturn(List.of(project));
+                given(bitemmRepository.findByPrjMngNoInAndDelYn(any(), eq("N"))).willReturn(List.of());
+                given(capplaRepository.findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc(
+                                anyString(), anyList())).willReturn(List.of());
 
                 ProjectDto.BulkGetRequest request = new ProjectDto.BulkGetRequest();
                 request.setPrjMngNos(List.of(existingNo, missingNo));
@@ -365,4 +479,44 @@ class ProjectServiceTest {
                 assertThat(result).hasSize(1);
                 assertThat(result.get(0).getPrjMngNo()).isEqualTo(existingNo);
         }
+
+        @Test
+        @DisplayName("getProjectsByIds: 200건 일괄 조회도 프로젝트·품목·신청서를 IN 조회 1회씩으로 처리한다")
+        void getProjectsByIds_200건_쿼리수일정() {
+                // given: 200건 프로젝트, 프로젝트마다 품목 1건
+                List<String> prjMngNos = new ArrayList<>();
+                List<Bprojm> projects = new ArrayList<>();
+                List<Bitemm> items = new ArrayList<>();
+                for (int i = 1; i <= 200; i++) {
+                        String prjMngNo = String.format("PRJ-2026-%04d", i);
+                        prjMngNos.add(prjMngNo);
+                        projects.add(Bprojm.builder().prjMngNo(prjMngNo).prjSno(1).delYn("N").build());
+                        items.add(Bitemm.builder().gclMngNo("GCL-" + i).gclSno(1).prjMngNo(prjMngNo).prjSno(1)
+                                        .gclDtt("IOE-212-0100").gclAmt(new BigDecimal("50")).delYn("N").build());
+                }
+                given(projectRepository.findByPrjMngNoInAndDelYn(any(), eq("N"))).willReturn(projects);
+                given(bitemmRepository.findByPrjMngNoInAndDelYn(any(), eq("N"))).willReturn(items);
+                given(capplaRepository.findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc(
+                                anyString(), anyList())).willReturn(List.of());
+                given(ioeClassifier.table()).willReturn(IoeClassifier.Table.of(
+                                List.of(), List.of(Ccodem.builder().cdId("IOE-212-0100").build()), LocalDate.now()));
+
+                ProjectDto.BulkGetRequest request = new ProjectDto.BulkGetRequest();
+                request.setPrjMngNos(prjMngNos);
+
+                // when
+                List<ProjectDto.Response> result = projectService.getProjectsByIds(request);
+
+                // then: 요청 순서 유지, 품목·예산 합계 포함, 단건 조회 경로 미사용
+                assertThat(result).hasSize(200);
+                assertThat(result.get(199).getPrjMngNo()).isEqualTo("PRJ-2026-0200");
+                assertThat(result.get(0).getItems()).hasSize(1);
+                assertThat(result.get(0).getCostBg()).isEqualByComparingTo("50");
+                verify(projectRepository, times(1)).findByPrjMngNoInAndDelYn(any(), eq("N"));
+                verify(bitemmRepository, times(1)).findByPrjMngNoInAndDelYn(any(), eq("N"));
+                verify(capplaRepository, times(1)).findByOrcTbCdAndOrcPkVlInOrderByApfRelSnoDesc(anyString(), anyList());
+                verify(projectRepository, never()).findByPrjMngNoAndDelYn(anyString(), anyString());
+                verify(bitemmRepository, never()).findByPrjMngNoAndPrjSnoAndDelYn(anyString(), any(), anyString());
+                verify(bitemmRepository, never()).sumItemAmountByProjectAndGclDtt(any());
+        }
 }
@@ -4,8 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,6 +15,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.kdb.it.common.code.service.IoeClassifier;
 import com.kdb.it.domain.budget.status.dto.BudgetStatusDto;
 import com.kdb.it.domain.budget.status.repository.BudgetStatusQueryRepository;
 
@@ -20,7 +23,7 @@ import com.kdb.it.domain.budget.status.repository.BudgetStatusQueryRepository;
  * BudgetStatusService 단위 테스트
  *
  * <p>
- * 예산 현황 서비스의 3개 조회 메서드가 BudgetStatusQueryRepository에 정확히
+ * 예산 현황 서비스의 3개 조회 메서드가 비목 분류표와 함께 BudgetStatusQueryRepository에 정확히
  * 위임되는지 검증합니다. Oracle DB 없이 Mock 리포지토리로 실행됩니다.
  * </p>
  */
@@ -30,23 +33,34 @@ class BudgetStatusServiceTest {
     @Mock
     private BudgetStatusQueryRepository budgetStatusQueryRepository;
 
+    @Mock
+    private IoeClassifier ioeClassifier;
+
     @InjectMocks
     private BudgetStatusService budgetStatusService;
 
+    private IoeClassifier.Table ioeTable;
+
+    @BeforeEach
+    void setUp() {
+        ioeTable = IoeClassifier.Table.of(List.of(), List.of(), LocalDate.now());
+        given(ioeClassifier.table()).willReturn(ioeTable);
+    }
+
     @Test
     @DisplayName("getProjectStatus: 예산년도를 전달하여 정보화사업 현황 목록을 반환한다")
     void getProjectStatus_bgYy전달_리포지토리위임후반환() {
         // given
         String bgYy = "2026";
         List<BudgetStatusDto.ProjectResponse> mockResult = List.of();
-        given(budgetStatusQueryRepository.findProjectStatus(bgYy)).willReturn(mockResult);
+        given(budgetStatusQueryRepository.findProjectStatus(bgYy, ioeTable)).willReturn(mockResult);
 
         // when
         List<BudgetStatusDto.ProjectResponse> result = budgetStatusService.getProjectStatus(bgYy);
 
         // then
         assertThat(result).isSameAs(mockResult);
-        verify(budgetStatusQueryRepository).findProjectStatus(bgYy);
+        verify(budgetStatusQueryRepository).findProjectStatus(bgYy, ioeTable);
     }
 
     @Test
@@ -55,14 +69,14 @@ class BudgetStatusServiceTest {
         // given
         String bgYy = "2026";
         List<BudgetStatusDto.CostResponse> mockResult = List.of();
-        given(budgetStatusQueryRepository.findCostStatus(bgYy)).willReturn(mockResult);
+        given(budgetStatusQueryRepository.findCostStatus(bgYy, ioeTable)).willReturn(mockResult);
 
         // when
         List<BudgetStatusDto.CostResponse> result = budgetStatusService.getCostStatus(bgYy);
 
         // then
         assertThat(result).isSameAs(mockResult);
-        verify(budgetStatusQueryRepository).findCostStatus(bgYy);
+        verify(budgetStatusQueryRepository).findCostStatus(bgYy, ioeTable);
     }
 
     @Test
@@ -71,14 +85,14 @@ class BudgetStatusServiceTest {
         // given
         String bgYy = "2026";
         List<BudgetStatusDto.OrdinaryResponse> mockResult = List.of();
-        given(budgetStatusQueryRepository.findOrdinaryStatus(bgYy)).willReturn(mockResult);
+        given(budgetStatusQueryRepository.findOrdinaryStatus(bgYy, ioeTable)).willReturn(mockResult);
 
         // when
         List<BudgetStatusDto.OrdinaryResponse> result = budgetStatusService.getOrdinaryStatus(bgYy);
 
         // then
         assertThat(result).isSameAs(mockResult);
-        verify(budgetStatusQueryRepository).findOrdinaryStatus(bgYy);
+        verify(budgetStatusQueryRepository).findOrdinaryStatus(bgYy, ioeTable);
     }
 
     @Test
@@ -86,12 +100,12 @@ class BudgetStatusServiceTest {
     void getProjectStatus_다른연도전달_해당연도로조회() {
         // given
         String bgYy = "2025";
-        given(budgetStatusQueryRepository.findProjectStatus(bgYy)).willReturn(List.of());
+        given(budgetStatusQueryRepository.findProjectStatus(bgYy, ioeTable)).willReturn(List.of());
 
         // when
         budgetStatusService.getProjectStatus(bgYy);
 
         // then
-        verify(budgetStatusQueryRepository).findProjectStatus("2025");
+        verify(budgetStatusQueryRepository).findProjectStatus("2025", ioeTable);
     }
 }
@@ -1,18 +1,22 @@
 package com.kdb.it.domain.budget.work.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -20,7 +24,8 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import com.kdb.it.common.code.entity.Ccodem;
-import com.kdb.it.common.code.repository.CodeRepository;
+import com.kdb.it.common.code.service.CodeDictionary;
+import com.kdb.it.common.code.service.IoeClassifier;
 import com.kdb.it.domain.budget.cost.entity.Bcostm;
 import com.kdb.it.domain.budget.cost.repository.CostRepository;
 import com.kdb.it.domain.budget.project.repository.ProjectItemRepository;
@@ -33,7 +38,7 @@ import com.kdb.it.domain.budget.work.repository.BbugtmRepository;
  * BudgetWorkService 단위 테스트
  *
  * <p>
- * BbugtmRepository, CodeRepository를 Mock 처리하여 Oracle DB 없이
+ * BbugtmRepository, CodeDictionary를 Mock 처리하여 Oracle DB 없이
  * 편성비목 조회, 편성률 적용, 편성 결과 조회 로직을 검증합니다.
  * </p>
  *
@@ -52,7 +57,8 @@ import com.kdb.it.domain.budget.work.repository.BbugtmRepository;
 class BudgetWorkServiceTest {
 
     @Mock private BbugtmRepository bbugtmRepository;
-    @Mock private CodeRepository codeRepository;
+    @Mock private CodeDictionary codeDictionary;
+    @Mock private IoeClassifier ioeClassifier;
     @Mock private ProjectRepository projectRepository;
     @Mock private ProjectItemRepository projectItemRepository;
     @Mock private CostRepository costRepository;
@@ -60,6 +66,12 @@ class BudgetWorkServiceTest {
     @InjectMocks
     private BudgetWorkService budgetWorkService;
 
+    @BeforeEach
+    void setUp() {
+        // 자본/경상 구분용 비목 분류표 (기본: 분류 대상 없음)
+        given(ioeClassifier.table()).willReturn(IoeClassifier.Table.of(List.of(), List.of(), LocalDate.now()));
+    }
+
     // =========================================================================
     // getIoeCategories — 편성비목 목록 조회
     // =========================================================================
@@ -68,7 +80,7 @@ class BudgetWorkServiceTest {
     @DisplayName("getIoeCategories - DUP_IOE 코드가 없으면 빈 목록 반환")
     void getIoeCategories_코드없음_빈목록반환() {
         // given
-        given(codeRepository.findByCttTpWithValidDate("DUP_IOE", null)).willReturn(List.of());
+        given(codeDictionary.findByCttTp("DUP_IOE", null)).willReturn(List.of());
         given(bbugtmRepository.findByBgYyAndDelYn("2026", "N")).willReturn(List.of());
 
         // when
@@ -83,7 +95,7 @@ class BudgetWorkServiceTest {
     void getIoeCategories_기존데이터없음_편성률null() {
         // given: DUP-IOE-237 코드 1개
         Ccodem code = Ccodem.builder().cdId("DUP-IOE-237").cdNm("자산비").cdva("IOE-237").build();
-        given(codeRepository.findByCttTpWithValidDate("DUP_IOE", null)).willReturn(List.of(code));
+        given(codeDictionary.findByCttTp("DUP_IOE", null)).willReturn(List.of(code));
         given(bbugtmRepository.findByBgYyAndDelYn("2026", "N")).willReturn(List.of());
         given(bbugtmRepository.sumApprovedAmountByPrefix("IOE-237", "2026")).willReturn(null);
 
@@ -108,7 +120,7 @@ class BudgetWorkServiceTest {
                 .dupRt(80)
                 .build();
 
-        given(codeRepository.findByCttTpWithValidDate("DUP_IOE", null)).willReturn(List.of(code));
+        given(codeDictionary.findByCttTp("DUP_IOE", null)).willReturn(List.of(code));
         given(bbugtmRepository.findByBgYyAndDelYn("2026", "N")).willReturn(List.of(existing));
         given(bbugtmRepository.sumApprovedAmountByPrefix("IOE-237", "2026"))
                 .willReturn(BigDecimal.valueOf(1000000));
@@ -132,7 +144,7 @@ class BudgetWorkServiceTest {
     /** 세부 코드 조회 mock 헬퍼: 모든 세부 cttTp에 대해 빈 목록 반환 */
     private void mockEmptyDetailCodes() {
         for (String cttTp : DETAIL_CTT_TPS) {
-            given(codeRepository.findByCttTpWithValidDate(cttTp, null)).willReturn(List.of());
+            given(codeDictionary.findByCttTp(cttTp, null)).willReturn(List.of());
         }
     }
 
@@ -141,7 +153,7 @@ class BudgetWorkServiceTest {
     void getSummary_비목없음_빈결과반환() {
         // given
         given(bbugtmRepository.findByBgYyAndDelYn("2026", "N")).willReturn(List.of());
-        given(codeRepository.findByCttTpWithValidDate("DUP_IOE", null)).willReturn(List.of());
+        given(codeDictionary.findByCttTp("DUP_IOE", null)).willReturn(List.of());
         mockEmptyDetailCodes();
 
         // when
@@ -166,19 +178,19 @@ class BudgetWorkServiceTest {
                 .build();
 
         given(bbugtmRepository.findByBgYyAndDelYn("2026", "N")).willReturn(List.of(bbugtm));
-        given(codeRepository.findByCttTpWithValidDate("DUP_IOE", null)).willReturn(List.of(dupCode));
+        given(codeDictionary.findByCttTp("DUP_IOE", null)).willReturn(List.of(dupCode));
         // 세부 코드: IOE_IDR에 detailCode 반환, 나머지는 빈 목록
         for (String cttTp : DETAIL_CTT_TPS) {
             if ("IOE_IDR".equals(cttTp)) {
-                given(codeRepository.findByCttTpWithValidDate(cttTp, null)).willReturn(List.of(detailCode));
+                given(codeDictionary.findByCttTp(cttTp, null)).willReturn(List.of(detailCode));
             } else {
-                given(codeRepository.findByCttTpWithValidDate(cttTp, null)).willReturn(List.of());
+                given(codeDictionary.findByCttTp(cttTp, null)).willReturn(List.of());
             }
         }
-        // 결재완료 원본 데이터: 요청금액 1,000,000
-        Bcostm approvedCost = Bcostm.builder().ioeC("IOE-237-0700").itMngcBg(BigDecimal.valueOf(1000000)).build();
-        given(bbugtmRepository.findApprovedCostsByPrefix("IOE-237", "2026")).willReturn(List.of(approvedCost));
-        given(bbugtmRepository.findApprovedItemsByPrefix("IOE-237", "2026")).willReturn(List.of());
+        // 결재완료 원본 데이터(비목코드별 GROUP BY 결과): 요청금액 1,000,000
+        given(bbugtmRepository.sumApprovedCostAmountByIoeC("2026")).willReturn(List.of(
+                new BudgetWorkDto.IoeAmount("IOE-237-0700", BigDecimal.valueOf(1000000))));
+        given(bbugtmRepository.sumApprovedItemAmountByIoeC("2026")).willReturn(List.of());
 
         // when
         BudgetWorkDto.SummaryResponse result = budgetWorkService.getSummary("2026");
@@ -196,6 +208,43 @@ class BudgetWorkServiceTest {
         assertThat(result.totals().dupAmount()).isEqualByComparingTo(BigDecimal.valueOf(800000));
     }
 
+    @Test
+    @DisplayName("getSummary - 접두어별 반복 조회 없이 집계 1회로 겹치는 접두어 버킷까지 분류한다")
+    void getSummary_겹치는접두어_버킷분류() {
+        // given: IOE-237 / IOE-2370 두 그룹 (IOE-2370-0100은 두 접두어 모두에 매칭)
+        Ccodem group237 = Ccodem.builder().cdId("DUP-IOE-237").cdNm("전산임차료").build();
+        Ccodem group2370 = Ccodem.builder().cdId("DUP-IOE-2370").cdNm("특수임차료").build();
+        Bbugtm b1 = Bbugtm.builder().ioeC("IOE-237-0700").dupBg(BigDecimal.valueOf(300)).dupRt(30).build();
+        Bbugtm b2 = Bbugtm.builder().ioeC("IOE-237-0700").dupBg(BigDecimal.valueOf(200)).dupRt(40).build();
+
+        given(bbugtmRepository.findByBgYyAndDelYn("2026", "N")).willReturn(List.of(b1, b2));
+        given(codeDictionary.findByCttTp("DUP_IOE", null)).willReturn(List.of(group237, group2370));
+        mockEmptyDetailCodes();
+        given(bbugtmRepository.sumApprovedCostAmountByIoeC("2026")).willReturn(List.of(
+                new BudgetWorkDto.IoeAmount("IOE-237-0700", BigDecimal.valueOf(1000)),
+                new BudgetWorkDto.IoeAmount("IOE-999-0100", BigDecimal.valueOf(7777))));
+        given(bbugtmRepository.sumApprovedItemAmountByIoeC("2026")).willReturn(List.of(
+                new BudgetWorkDto.IoeAmount("IOE-2370-0100", BigDecimal.valueOf(50))));
+
+        // when
+        BudgetWorkDto.SummaryResponse result = budgetWorkService.getSummary("2026");
+
+        // then: IOE-237 버킷 2행, IOE-2370 버킷 1행 / 접두어 미매칭 코드(IOE-999)는 제외
+        assertThat(result.data()).extracting(BudgetWorkDto.SummaryItem::ioeC, BudgetWorkDto.SummaryItem::ioePrefix)
+                .containsExactly(
+                        tuple("IOE-237-0700", "IOE-237"),
+                        tuple("IOE-2370-0100", "IOE-237"),
+                        tuple("IOE-2370-0100", "IOE-2370"));
+        BudgetWorkDto.SummaryItem first = result.data().get(0);
+        assertThat(first.dupAmount()).isEqualByComparingTo(BigDecimal.valueOf(500));
+        assertThat(first.requestAmount()).isEqualByComparingTo(BigDecimal.valueOf(1000));
+        assertThat(first.dupRt()).isEqualTo(30);
+        assertThat(result.data().get(1).dupRt()).isNull();
+        assertThat(result.totals().requestAmount()).isEqualByComparingTo(BigDecimal.valueOf(1100));
+        verify(bbugtmRepository, never()).findApprovedCosts(any());
+        verify(bbugtmRepository, never()).findApprovedItems(any());
+    }
+
     // =========================================================================
     // applyRates — 편성률 일괄 적용 (경계값/계산 검증)
     // =========================================================================
@@ -207,7 +256,7 @@ class BudgetWorkServiceTest {
         BudgetWorkDto.ApplyRequest request = new BudgetWorkDto.ApplyRequest("2026", List.of());
         given(bbugtmRepository.generateBgMngNo("2026")).willReturn("BG-2026-0001");
         given(bbugtmRepository.findByBgYyAndDelYn("2026", "N")).willReturn(List.of());
-        given(codeRepository.findByCttTpWithValidDate("DUP_IOE", null)).willReturn(List.of());
+        given(codeDictionary.findByCttTp("DUP_IOE", null)).willReturn(List.of());
         mockEmptyDetailCodes();
 
         // when
@@ -237,27 +286,28 @@ class BudgetWorkServiceTest {
         given(cost.getItMngcBg()).willReturn(BigDecimal.valueOf(1_000_000));
 
         given(bbugtmRepository.generateBgMngNo("2026")).willReturn("BG-2026-0001");
-        given(bbugtmRepository.findApprovedCostsByPrefix("IOE-237", "2026"))
-                .willReturn(List.of(cost));
-        given(bbugtmRepository.findApprovedItemsByPrefix("IOE-237", "2026"))
-                .willReturn(List.of());
-        // 기존 BBUGTM 레코드 없음 → INSERT 경로
-        given(bbugtmRepository.findByBgYyAndOrcTbAndOrcPkVlAndOrcSnoVlAndIoeCAndDelYn(
-                any(), any(), any(), any(), any(), any()))
-                .willReturn(Optional.empty());
-
-        // getSummary 내부 호출용 mock
+        given(bbugtmRepository.findApprovedCosts("2026")).willReturn(List.of(cost));
+        given(bbugtmRepository.findApprovedItems("2026")).willReturn(List.of());
+        // 기존 BBUGTM 레코드 없음 → INSERT 경로 (getSummary 내부 호출에도 사용)
         given(bbugtmRepository.findByBgYyAndDelYn("2026", "N")).willReturn(List.of());
-        given(codeRepository.findByCttTpWithValidDate("DUP_IOE", null)).willReturn(List.of());
+        given(codeDictionary.findByCttTp("DUP_IOE", null)).willReturn(List.of());
         mockEmptyDetailCodes();
 
         // when
         BudgetWorkDto.ApplyResponse result = budgetWorkService.applyRates(request);
 
-        // then: 1건 처리, bbugtmRepository.save() 호출 확인
+        // then: 1건 처리, 신규 레코드는 saveAll로 일괄 저장 후 flush
         assertThat(result.totalRecords()).isEqualTo(1);
         assertThat(result.message()).contains("편성률 적용 완료");
-        verify(bbugtmRepository).save(any(Bbugtm.class));
+        assertThat(result.timings()).isNotNull();
+        ArgumentCaptor<List<Bbugtm>> captor = ArgumentCaptor.captor();
+        verify(bbugtmRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(b -> {
+            assertThat(b.getOrcPkVl()).isEqualTo("COST_2026_0001");
+            assertThat(b.getDupBg()).isEqualByComparingTo(BigDecimal.valueOf(800_000));
+        });
+        verify(bbugtmRepository).flush();
+        verify(bbugtmRepository, never()).save(any(Bbugtm.class));
     }
 
     @Test
@@ -273,21 +323,20 @@ class BudgetWorkServiceTest {
         given(cost.getIoeC()).willReturn("IOE-237-0700");
         given(cost.getItMngcBg()).willReturn(BigDecimal.valueOf(1_000_000));
 
-        // 기존 BBUGTM 레코드 존재 → UPDATE 경로
+        // 기존 BBUGTM 레코드 존재 → UPDATE 경로 (연도 일괄 조회 결과에 같은 Upsert 키로 포함)
         Bbugtm existing = mock(Bbugtm.class);
+        given(existing.getOrcTb()).willReturn("BCOSTM");
+        given(existing.getOrcPkVl()).willReturn("COST_2026_0001");
+        given(existing.getOrcSnoVl()).willReturn(1);
+        given(existing.getIoeC()).willReturn("IOE-237-0700");
 
         given(bbugtmRepository.generateBgMngNo("2026")).willReturn("BG-2026-0001");
-        given(bbugtmRepository.findApprovedCostsByPrefix("IOE-237", "2026"))
-                .willReturn(List.of(cost));
-        given(bbugtmRepository.findApprovedItemsByPrefix("IOE-237", "2026"))
-                .willReturn(List.of());
-        given(bbugtmRepository.findByBgYyAndOrcTbAndOrcPkVlAndOrcSnoVlAndIoeCAndDelYn(
-                any(), any(), any(), any(), any(), any()))
-                .willReturn(Optional.of(existing));
+        given(bbugtmRepository.findApprovedCosts("2026")).willReturn(List.of(cost));
+        given(bbugtmRepository.findApprovedItems("2026")).willReturn(List.of());
+        given(bbugtmRepository.findByBgYyAndDelYn("2026", "N")).willReturn(List.of(existing));
 
         // getSummary 내부 호출용 mock
-        given(bbugtmRepository.findByBgYyAndDelYn("2026", "N")).willReturn(List.of());
-        given(codeRepository.findByCttTpWithValidDate("DUP_IOE", null)).willReturn(List.of());
+        given(codeDictionary.findByCttTp("DUP_IOE", null)).willReturn(List.of());
         mockEmptyDetailCodes();
 
         // when
@@ -295,7 +344,42 @@ class BudgetWorkServiceTest {
 
         // then: 1건 처리, existing.update() 호출 확인 (JPA Dirty Checking)
         assertThat(result.totalRecords()).isEqualTo(1);
-        verify(existing).update(any(BigDecimal.class), any(Integer.class));
+        verify(existing).update(BigDecimal.valueOf(800_000).setScale(2), 80);
+        verify(bbugtmRepository).saveAll(List.of());
+    }
+
+    @Test
+    @DisplayName("applyRates: 한 원본이 여러 비목 접두어에 매칭되면 첫 INSERT 이후에는 UPDATE로 처리한다")
+    void applyRates_동일원본중복매칭_1건INSERT() {
+        // given: 접두어 IOE-237, IOE-2370 모두 같은 BCOSTM 1건에 매칭
+        BudgetWorkDto.ApplyRequest request = new BudgetWorkDto.ApplyRequest("2026", List.of(
+                new BudgetWorkDto.RateItem("DUP-IOE-237", 80),
+                new BudgetWorkDto.RateItem("DUP-IOE-2370", 50)));
+
+        Bcostm cost = mock(Bcostm.class);
+        given(cost.getItMngcNo()).willReturn("COST_2026_0001");
+        given(cost.getItMngcSno()).willReturn(1);
+        given(cost.getIoeC()).willReturn("IOE-2370-0100");
+        given(cost.getItMngcBg()).willReturn(BigDecimal.valueOf(1_000_000));
+
+        given(bbugtmRepository.generateBgMngNo("2026")).willReturn("BG-2026-0001");
+        given(bbugtmRepository.findApprovedCosts("2026")).willReturn(List.of(cost));
+        given(bbugtmRepository.findApprovedItems("2026")).willReturn(List.of());
+        given(bbugtmRepository.findByBgYyAndDelYn("2026", "N")).willReturn(List.of());
+        given(codeDictionary.findByCttTp("DUP_IOE", null)).willReturn(List.of());
+        mockEmptyDetailCodes();
+
+        // when
+        BudgetWorkDto.ApplyResponse result = budgetWorkService.applyRates(request);
+
+        // then: 처리 2건, INSERT는 1건이며 나중 편성률(50)이 반영됨
+        assertThat(result.totalRecords()).isEqualTo(2);
+        ArgumentCaptor<List<Bbugtm>> captor = ArgumentCaptor.captor();
+        verify(bbugtmRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(b -> {
+            assertThat(b.getDupRt()).isEqualTo(50);
+            assertThat(b.getDupBg()).isEqualByComparingTo(BigDecimal.valueOf(500_000));
+        });
     }
 
     // =========================================================================
@@ -307,7 +391,7 @@ class BudgetWorkServiceTest {
     void getProjectSummary_데이터없음_빈목록반환() {
         // given: 빈 데이터
         given(bbugtmRepository.findByBgYyAndDelYn("2026", "N")).willReturn(List.of());
-        given(codeRepository.findByCttTpWithValidDate("DUP_IOE", null)).willReturn(List.of());
+        given(codeDictionary.findByCttTp("DUP_IOE", null)).willReturn(List.of());
 
         // when
         BudgetWorkDto.ProjectSummaryResponse result = budgetWorkService.getProjectSummary("2026");
@@ -342,21 +426,24 @@ class BudgetWorkServiceTest {
         // 기존 BBUGTM Soft Delete 대상 없음
         given(bbugtmRepository.findByBgYyAndDelYn("2026", "N")).willReturn(List.of());
         // 자본예산 비목코드 없음 → 경상 처리
-        given(codeRepository.findByCttTpWithValidDate("IOE_CPIT", null)).willReturn(List.of());
+        given(ioeClassifier.table()).willReturn(IoeClassifier.Table.of(List.of(), List.of(), LocalDate.now()));
         // BCOSTM LST_YN='Y' 최신 1건 반환
         given(costRepository.findByItMngcNoAndDelYnAndLstYn("COST_2026_0001", "N", "Y"))
                 .willReturn(List.of(cost));
 
         // getSummary 내부 호출용 mock
-        given(codeRepository.findByCttTpWithValidDate("DUP_IOE", null)).willReturn(List.of());
+        given(codeDictionary.findByCttTp("DUP_IOE", null)).willReturn(List.of());
         mockEmptyDetailCodes();
 
         // when
         BudgetWorkDto.ApplyResponse result = budgetWorkService.applyItemRates(request);
 
-        // then: 1건 처리, save() 호출 확인
+        // then: 1건 처리, saveAll() 일괄 저장 확인
         assertThat(result.totalRecords()).isEqualTo(1);
         assertThat(result.message()).contains("사업별 편성률 적용 완료");
-        verify(bbugtmRepository).save(any(Bbugtm.class));
+        ArgumentCaptor<List<Bbugtm>> captor = ArgumentCaptor.captor();
+        verify(bbugtmRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement()
+                .satisfies(b -> assertThat(b.getDupBg()).isEqualByComparingTo(BigDecimal.valueOf(400_000)));
     }
 }
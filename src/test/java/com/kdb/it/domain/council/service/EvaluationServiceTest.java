@@ -20,7 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
-import com.kdb.it.common.iam.repository.UserRepository;
+import com.kdb.it.common.iam.service.DirectoryCacheService;
 import com.kdb.it.common.system.security.CustomUserDetails;
 import com.kdb.it.domain.council.dto.CouncilDto;
 import com.kdb.it.domain.council.entity.Basctm;
@@ -33,7 +33,7 @@ import com.kdb.it.domain.council.repository.EvaluationRepository;
  * <p>
  * 평가의견 서비스의 저장(upsert)·조회·상태 전이 메서드를 검증합니다.
  * Bevalm·Basctm 엔티티는 protected 생성자를 우회하기 위해 Mockito.mock()으로 생성합니다.
- * CouncilService·EvaluationRepository·UserRepository는 @Mock으로 교체합니다.
+ * CouncilService·EvaluationRepository·DirectoryCacheService는 @Mock으로 교체합니다.
  * Oracle DB 없이 실행됩니다.
  * </p>
  */
@@ -45,7 +45,7 @@ class EvaluationServiceTest {
     private EvaluationRepository evaluationRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private DirectoryCacheService directoryCacheService;
 
     @Mock
     private CouncilService councilService;
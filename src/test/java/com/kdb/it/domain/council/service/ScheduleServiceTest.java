@@ -20,7 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
-import com.kdb.it.common.iam.repository.UserRepository;
+import com.kdb.it.common.iam.service.DirectoryCacheService;
 import com.kdb.it.common.system.security.CustomUserDetails;
 import com.kdb.it.domain.council.dto.CouncilDto;
 import com.kdb.it.domain.council.entity.Basctm;
@@ -34,7 +34,7 @@ import com.kdb.it.domain.council.repository.ScheduleRepository;
  * <p>
  * 협의회 일정 서비스의 일정 입력·확정·조회 메서드를 검증합니다.
  * Basctm·Bschdm 엔티티는 protected 생성자를 우회하기 위해 Mockito.mock()으로 생성합니다.
- * CouncilService·ScheduleRepository·CommitteeRepository·UserRepository는 @Mock으로 교체합니다.
+ * CouncilService·ScheduleRepository·CommitteeRepository·DirectoryCacheService는 @Mock으로 교체합니다.
  * Oracle DB 없이 실행됩니다.
  * </p>
  */
@@ -49,7 +49,7 @@ class ScheduleServiceTest {
     private CommitteeRepository committeeRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private DirectoryCacheService directoryCacheService;
 
     @Mock
     private CouncilService councilService;
@@ -0,0 +1,203 @@
+package com.kdb.it.domain.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.jpa.HibernatePersistenceProvider;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import com.kdb.it.domain.budget.project.entity.Bitemm;
+import com.kdb.it.domain.budget.project.entity.BitemmId;
+import com.kdb.it.domain.budget.project.entity.Bprojm;
+import com.kdb.it.domain.budget.project.entity.BprojmId;
+import com.kdb.it.domain.budget.work.entity.Bbugtm;
+import com.kdb.it.domain.budget.work.entity.BbugtmId;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * JPA 대량 쓰기(JDBC 배치) 회귀 테스트
+ *
+ * <p>
+ * application.properties의 {@code spring.jpa.properties.*} 설정을 그대로 적용한 Hibernate를
+ * H2(Oracle 모드) 위에 띄우고, {@link StatementInspector}로 준비된 SQL 문 수를 셉니다.
+ * 배치가 없으면 행마다 문이 준비되어 문 수 = 행 수이고, 배치가 적용되면 같은 INSERT/UPDATE 문을
+ * 배치 간에 재사용하므로 문 수가 {@code ceil(행 수 / batch_size)} 이하가 되는지 검증합니다.
+ * </p>
+ *
+ * <p>
+ * 할당 ID 엔티티의 {@code save()}가 merge(행마다 SELECT)로 빠지지 않는지도 함께 검증합니다.
+ * </p>
+ */
+class HibernateBatchWriteTest {
+
+    /** 준비된 SQL 문 기록 (소문자) */
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    private static LocalContainerEntityManagerFactoryBean factoryBean;
+    private static EntityManagerFactory emf;
+    private static int batchSize;
+
+    /** Hibernate가 SQL 문을 준비할 때마다 호출되는 검사기 */
+    public static class CountingInspector implements StatementInspector {
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase(Locale.ROOT));
+            return sql;
+        }
+    }
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        Properties app = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application.properties"));
+        Map<String, Object> jpa = new HashMap<>();
+        String prefix = "spring.jpa.properties.";
+        for (String key : app.stringPropertyNames()) {
+            if (key.startsWith(prefix)) {
+                jpa.put(key.substring(prefix.length()), app.getProperty(key));
+            }
+        }
+        batchSize = Integer.parseInt(app.getProperty(prefix + "hibernate.jdbc.batch_size", "1"));
+        jpa.put("hibernate.hbm2ddl.auto", "create-drop");
+        jpa.put("hibernate.session_factory.statement_inspector", new CountingInspector());
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(new DriverManagerDataSource(
+                "jdbc:h2:mem:batch-write;MODE=Oracle;DB_CLOSE_DELAY=-1", "sa", ""));
+        factoryBean.setPackagesToScan(
+                "com.kdb.it.domain.budget.work.entity", "com.kdb.it.domain.budget.project.entity");
+        factoryBean.setPersistenceProviderClass(HibernatePersistenceProvider.class);
+        factoryBean.setJpaPropertyMap(jpa);
+        factoryBean.afterPropertiesSet();
+        emf = factoryBean.getObject();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (factoryBean != null) {
+            factoryBean.destroy();
+        }
+    }
+
+    @BeforeEach
+    void clearTables() {
+        inTransaction(em -> {
+            em.createQuery("delete from Bbugtm").executeUpdate();
+            em.createQuery("delete from Bitemm").executeUpdate();
+            em.createQuery("delete from Bprojm").executeUpdate();
+        });
+        STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("save: 할당 ID 신규 엔티티는 SELECT 없이 batch_size 단위 INSERT로 묶인다")
+    void save_할당ID신규엔티티_배치INSERT() {
+        int rows = 250;
+
+        inTransaction(em -> {
+            SimpleJpaRepository<Bbugtm, BbugtmId> repository = new SimpleJpaRepository<>(Bbugtm.class, em);
+            for (int i = 1; i <= rows; i++) {
+                repository.save(budget("BG-2026-0001", i, new BigDecimal("1000")));
+            }
+        });
+
+        assertThat(count("insert into taaabb_bbugtm")).isBetween(1L, batches(rows));
+        assertThat(count("select")).isZero();
+    }
+
+    @Test
+    @DisplayName("save: 사업·품목을 번갈아 저장해도 order_inserts로 테이블별 배치가 유지된다")
+    void save_테이블교차저장_테이블별배치() {
+        int projects = 60;
+
+        inTransaction(em -> {
+            SimpleJpaRepository<Bprojm, BprojmId> projectRepository = new SimpleJpaRepository<>(Bprojm.class, em);
+            SimpleJpaRepository<Bitemm, BitemmId> itemRepository = new SimpleJpaRepository<>(Bitemm.class, em);
+            for (int p = 1; p <= projects; p++) {
+                String prjMngNo = String.format("PRJ-2026-%04d", p);
+                projectRepository.save(Bprojm.builder().prjMngNo(prjMngNo).prjSno(1).prjNm("사업" + p).build());
+                for (int g = 1; g <= 2; g++) {
+                    itemRepository.save(Bitemm.builder()
+                            .gclMngNo(String.format("GCL-2026-%04d", p * 10 + g)).gclSno(1)
+                            .prjMngNo(prjMngNo).prjSno(1).gclNm("품목" + g).build());
+                }
+            }
+        });
+
+        assertThat(count("insert into taaabb_bprojm")).isBetween(1L, batches(projects));
+        assertThat(count("insert into taaabb_bitemm")).isBetween(1L, batches(projects * 2));
+    }
+
+    @Test
+    @DisplayName("dirty checking: 조회한 엔티티 수정은 batch_size 단위 UPDATE로 묶이고, 재저장 시 INSERT하지 않는다")
+    void update_조회엔티티수정_배치UPDATE() {
+        int rows = 150;
+        inTransaction(em -> {
+            for (int i = 1; i <= rows; i++) {
+                em.persist(budget("BG-2026-0002", i, new BigDecimal("1000")));
+            }
+        });
+        STATEMENTS.clear();
+
+        inTransaction(em -> {
+            SimpleJpaRepository<Bbugtm, BbugtmId> repository = new SimpleJpaRepository<>(Bbugtm.class, em);
+            List<Bbugtm> loaded = em.createQuery("select b from Bbugtm b", Bbugtm.class).getResultList();
+            for (Bbugtm b : loaded) {
+                assertThat(b.isNew()).isFalse();
+                b.update(new BigDecimal("500"), 50);
+                repository.save(b);
+            }
+        });
+
+        assertThat(count("update taaabb_bbugtm")).isBetween(1L, batches(rows));
+        assertThat(count("insert")).isZero();
+    }
+
+    private static Bbugtm budget(String bgMngNo, int bgSno, BigDecimal dupBg) {
+        return Bbugtm.builder()
+                .bgMngNo(bgMngNo).bgSno(bgSno).bgYy("2026")
+                .orcTb("BITEMM").orcPkVl("GCL-2026-0001").orcSnoVl(bgSno).ioeC("IOE-351-0100")
+                .dupBg(dupBg).dupRt(100)
+                .build();
+    }
+
+    private static long batches(int rows) {
+        return (rows + batchSize - 1) / batchSize;
+    }
+
+    private static long count(String sqlPrefix) {
+        return STATEMENTS.stream().filter(sql -> sql.startsWith(sqlPrefix)).count();
+    }
+
+    private static void inTransaction(java.util.function.Consumer<EntityManager> work) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            work.accept(em);
+            em.getTransaction().commit();
+        } finally {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.kdb.it.domain.log.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.kdb.it.domain.budget.document.entity.Bgdocm;
+import com.kdb.it.domain.budget.project.entity.Bprojm;
+import com.kdb.it.domain.log.entity.BgdocmL;
+import com.kdb.it.domain.log.entity.BprojmL;
+
+/**
+ * AuditLogCopyPlan 단위 테스트
+ *
+ * <p>
+ * 원본 엔티티 → 로그 컬럼 복사 계획이 같은 컬럼명만 매칭하고,
+ * 클래스별로 한 번만 컴파일되어 재사용되는지 검증합니다.
+ * </p>
+ */
+class AuditLogCopyPlanTest {
+
+    @Test
+    @DisplayName("copy: 원본 @Column 값을 로그 컬럼명(대문자) 기준으로 복사한다 (BaseEntity 상속 컬럼 포함)")
+    void copy_정보화사업_로그컬럼복사() {
+        Bprojm project = Bprojm.builder()
+                .prjMngNo("PRJ-2026-0001").prjSno(1).prjNm("차세대 시스템")
+                .prjBg(new BigDecimal("1500000000")).delYn("N")
+                .build();
+
+        AuditLogCopyPlan plan = AuditLogCopyPlan.of(Bprojm.class);
+        Map<String, Object> columns = plan.copy(project);
+
+        assertThat(plan.logClass()).isEqualTo(BprojmL.class);
+        assertThat(columns)
+                .containsEntry("PRJ_MNG_NO", "PRJ-2026-0001")
+                .containsEntry("PRJ_SNO", 1)
+                .containsEntry("PRJ_NM", "차세대 시스템")
+                .containsEntry("PRJ_BG", new BigDecimal("1500000000"))
+                .containsEntry("DEL_YN", "N")
+                .containsEntry("SVN_DPM", null)
+                .doesNotContainKeys("LOG_SNO", "CHG_TP");
+        assertThat(columns).hasSize(plan.size());
+    }
+
+    @Test
+    @DisplayName("copy: byte[] LOB 컬럼은 복사본을 담아 원본 변경이 스냅샷에 반영되지 않는다")
+    void copy_LOB배열_복사본보관() {
+        byte[] content = {1, 2, 3};
+        Bgdocm doc = Bgdocm.builder().docMngNo("GDOC-2026-0001").docNm("가이드").docCone(content).build();
+
+        Map<String, Object> columns = AuditLogCopyPlan.of(Bgdocm.class).copy(doc);
+        content[0] = 9;
+
+        assertThat(AuditLogCopyPlan.of(Bgdocm.class).logClass()).isEqualTo(BgdocmL.class);
+        assertThat((byte[]) columns.get("DOC_CONE")).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("of: 같은 원본 클래스는 캐시된 동일 계획을 반환한다")
+    void of_동일클래스_캐시재사용() {
+        assertThat(AuditLogCopyPlan.of(Bprojm.class)).isSameAs(AuditLogCopyPlan.of(Bprojm.class));
+    }
+
+    @Test
+    @DisplayName("of: @LogTarget이 없는 클래스는 IllegalArgumentException")
+    void of_LogTarget없음_예외() {
+        assertThatThrownBy(() -> AuditLogCopyPlan.of(String.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
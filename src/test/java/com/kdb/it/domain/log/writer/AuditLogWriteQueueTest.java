@@ -0,0 +1,103 @@
+package com.kdb.it.domain.log.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.kdb.it.domain.log.entity.BprojmL;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * AuditLogWriteQueue 단위 테스트
+ *
+ * <p>
+ * 큐 공통 동작은 {@code BatchWriteQueueTest}에서 검증하고, 여기서는 감사로그 설정
+ * (큐 포화 시 유실 없이 spill 보존)과 스냅샷 spill 직렬화·재처리를 검증합니다.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AuditLogWriteQueueTest {
+
+    @Mock
+    private AuditLogJdbcWriter writer;
+
+    @TempDir
+    Path spillDir;
+
+    private AuditLogWriteQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null && queue.isRunning()) {
+            queue.stop();
+        }
+    }
+
+    private AuditLogWriteQueue newQueue(AuditLogJdbcWriter w, int queueCapacity) {
+        return new AuditLogWriteQueue(w, new SimpleMeterRegistry(), queueCapacity, 10, 20L, 10L, 1, 0L,
+                spillDir.toString());
+    }
+
+    private AuditLogSnapshot snapshot(String prjMngNo) {
+        return new AuditLogSnapshot(BprojmL.class, "C", LocalDateTime.of(2026, 10, 1, 9, 0), "E10001",
+                Map.of("PRJ_MNG_NO", prjMngNo));
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 대기 후 초과분을 spill 파일로 보존한다")
+    void submit_큐포화_spill보존() throws Exception {
+        // given
+        queue = newQueue(writer, 1);
+
+        // when
+        queue.submit(snapshot("PRJ-2026-0001"));
+        queue.submit(snapshot("PRJ-2026-0002"));
+
+        // then
+        verify(writer, never()).write(anyList());
+        List<AuditLogSnapshot> spilled = new AuditLogSpillFile(spillDir).takeAll();
+        assertThat(spilled).containsExactly(snapshot("PRJ-2026-0002"));
+    }
+
+    @Test
+    @DisplayName("writer 실패 시 스냅샷을 spill 파일에 보존하고, 재기동 시 같은 스냅샷으로 재처리한다")
+    void stop_쓰기실패_spill보존후재처리() {
+        // given
+        given(writer.write(anyList())).willThrow(new IllegalStateException("ORA-12541"));
+        queue = newQueue(writer, 100);
+        queue.submit(snapshot("PRJ-2026-0001"));
+
+        // when
+        queue.stop();
+
+        // then
+        assertThat(new AuditLogSpillFile(spillDir).hasPending()).isTrue();
+
+        // 재기동: 새 인스턴스가 spill 파일을 읽어 다시 기록
+        AuditLogJdbcWriter recovered = mock(AuditLogJdbcWriter.class);
+        queue = newQueue(recovered, 100);
+        queue.start();
+        verify(recovered, timeout(2000)).write(List.of(snapshot("PRJ-2026-0001")));
+    }
+}
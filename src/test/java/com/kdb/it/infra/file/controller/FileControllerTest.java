@@ -0,0 +1,212 @@
+package com.kdb.it.infra.file.controller;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.kdb.it.common.system.security.JwtUtil;
+import com.kdb.it.common.system.service.CustomUserDetailsService;
+import com.kdb.it.config.JacksonConfig;
+import com.kdb.it.config.TestSecurityConfig;
+import com.kdb.it.infra.file.service.FileRenditionService;
+import com.kdb.it.infra.file.service.FileService;
+
+/**
+ * FileController @WebMvcTest
+ *
+ * <p>
+ * 다운로드·미리보기 엔드포인트의 Range(206/416), 조건부 요청(304), If-Range 처리와
+ * 미리보기 축소본(w) 응답의 캐시 정책을 검증합니다.
+ * FileService는 Mock 처리하고, 응답 본문은 임시 디렉토리의 실제 파일에서 전송합니다.
+ * </p>
+ */
+@WebMvcTest(FileController.class)
+@Import({ TestSecurityConfig.class, JacksonConfig.class })
+class FileControllerTest {
+
+    private static final String FL_MNG_NO = "FL_00000001";
+    private static final String BODY = "0123456789";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private FileService fileService;
+    @MockitoBean
+    private FileRenditionService fileRenditionService;
+    @MockitoBean
+    private JwtUtil jwtUtil;
+    @MockitoBean
+    private CustomUserDetailsService customUserDetailsService;
+
+    @TempDir
+    Path tempDir;
+
+    private FileService.FileDownloadResult result;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("SVR1_20261016090000_test.png"), BODY, StandardCharsets.UTF_8);
+        result = new FileService.FileDownloadResult(FL_MNG_NO, file, "설계서.png", "image/png",
+                Files.size(file), Files.getLastModifiedTime(file).toMillis());
+        given(fileService.downloadFile(FL_MNG_NO)).willReturn(result);
+    }
+
+    @Test
+    @DisplayName("GET /download - Range 없음 → 200 + 전체 본문 + ETag·Accept-Ranges")
+    @WithMockUser(username = "10001")
+    void downloadFile_전체_200반환() throws Exception {
+        mockMvc.perform(get("/api/files/{flMngNo}/download", FL_MNG_NO))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, result.eTag()))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+                .andExpect(content().contentType("application/octet-stream"))
+                .andExpect(content().string(BODY));
+    }
+
+    @Test
+    @DisplayName("GET /download - Range bytes=2-5 → 206 + Content-Range + 해당 구간만 전송")
+    @WithMockUser(username = "10001")
+    void downloadFile_구간요청_206반환() throws Exception {
+        mockMvc.perform(get("/api/files/{flMngNo}/download", FL_MNG_NO)
+                .header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+                .andExpect(content().string("2345"));
+    }
+
+    @Test
+    @DisplayName("GET /download - 이어받기(bytes=7-)·접미 구간(bytes=-3) → 206 + 파일 끝까지 전송")
+    @WithMockUser(username = "10001")
+    void downloadFile_열린구간_206반환() throws Exception {
+        mockMvc.perform(get("/api/files/{flMngNo}/download", FL_MNG_NO)
+                .header(HttpHeaders.RANGE, "bytes=7-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 7-9/10"))
+                .andExpect(content().string("789"));
+
+        mockMvc.perform(get("/api/files/{flMngNo}/download", FL_MNG_NO)
+                .header(HttpHeaders.RANGE, "bytes=-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 7-9/10"))
+                .andExpect(content().string("789"));
+    }
+
+    @Test
+    @DisplayName("GET /download - 파일 크기를 벗어난 Range → 416 + Content-Range: bytes */크기")
+    @WithMockUser(username = "10001")
+    void downloadFile_범위초과_416반환() throws Exception {
+        mockMvc.perform(get("/api/files/{flMngNo}/download", FL_MNG_NO)
+                .header(HttpHeaders.RANGE, "bytes=10-20"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    @DisplayName("GET /download - 다중 구간 Range → 무시하고 200 + 전체 본문")
+    @WithMockUser(username = "10001")
+    void downloadFile_다중구간_전체200반환() throws Exception {
+        mockMvc.perform(get("/api/files/{flMngNo}/download", FL_MNG_NO)
+                .header(HttpHeaders.RANGE, "bytes=0-1,4-5"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(BODY));
+    }
+
+    @Test
+    @DisplayName("GET /download - If-Range가 현재 ETag와 다르면 Range 무시 → 200 + 전체 본문")
+    @WithMockUser(username = "10001")
+    void downloadFile_IfRange불일치_전체200반환() throws Exception {
+        mockMvc.perform(get("/api/files/{flMngNo}/download", FL_MNG_NO)
+                .header(HttpHeaders.RANGE, "bytes=2-5")
+                .header(HttpHeaders.IF_RANGE, "\"FL_00000001-0-0\""))
+                .andExpect(status().isOk())
+                .andExpect(content().string(BODY));
+
+        mockMvc.perform(get("/api/files/{flMngNo}/download", FL_MNG_NO)
+                .header(HttpHeaders.RANGE, "bytes=2-5")
+                .header(HttpHeaders.IF_RANGE, result.eTag()))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("2345"));
+    }
+
+    @Test
+    @DisplayName("GET /preview - If-None-Match가 현재 ETag와 같으면 304 + 본문 없음")
+    @WithMockUser(username = "10001")
+    void previewFile_ETag일치_304반환() throws Exception {
+        mockMvc.perform(get("/api/files/{flMngNo}/preview", FL_MNG_NO)
+                .header(HttpHeaders.IF_NONE_MATCH, result.eTag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, result.eTag()))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /preview - 조건 없음 → 200 + 파일 MIME 타입 + inline")
+    @WithMockUser(username = "10001")
+    void previewFile_인라인_200반환() throws Exception {
+        mockMvc.perform(get("/api/files/{flMngNo}/preview", FL_MNG_NO))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, startsWith("inline")))
+                .andExpect(content().string(BODY));
+    }
+
+    @Test
+    @DisplayName("GET /preview?w=320 - 축소본이 있으면 축소본 본문 + Cache-Control immutable")
+    @WithMockUser(username = "10001")
+    void previewFile_축소본_장기캐시() throws Exception {
+        // given
+        Path thumbFile = Files.writeString(tempDir.resolve("thumb_w320.jpg"), "THUMB", StandardCharsets.UTF_8);
+        FileService.FileDownloadResult thumb = new FileService.FileDownloadResult(FL_MNG_NO, thumbFile,
+                "설계서.png", "image/jpeg", Files.size(thumbFile), Files.getLastModifiedTime(thumbFile).toMillis());
+        given(fileRenditionService.getRendition(result, 320)).willReturn(Optional.of(thumb));
+
+        // when & then
+        mockMvc.perform(get("/api/files/{flMngNo}/preview", FL_MNG_NO).param("w", "320"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, startsWith("private, max-age=31536000")))
+                .andExpect(header().string(HttpHeaders.ETAG, thumb.eTag()))
+                .andExpect(content().string("THUMB"));
+    }
+
+    @Test
+    @DisplayName("GET /preview?w=320 - 축소본을 만들 수 없으면 원본 + 재검증 캐시 정책")
+    @WithMockUser(username = "10001")
+    void previewFile_축소본없음_원본반환() throws Exception {
+        // given
+        given(fileRenditionService.getRendition(eq(result), anyInt()))
+                .willReturn(Optional.empty());
+
+        // when & then
+        mockMvc.perform(get("/api/files/{flMngNo}/preview", FL_MNG_NO).param("w", "320"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"))
+                .andExpect(content().string(BODY));
+    }
+}
@@ -0,0 +1,180 @@
+package com.kdb.it.infra.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * FileBlobStore 단위 테스트
+ *
+ * <p>
+ * 임시 디렉토리를 저장소·스테이징 경로로 사용하여 SHA-256 계산, 해시 경로 저장,
+ * 같은 내용 재업로드 시 기존 blob 공유·사용 표식 갱신(blob 수정일시 유지), 동시 게시 시 덮어쓰기 없음, 스테이징 파일 정리를 검증합니다.
+ * </p>
+ */
+class FileBlobStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path baseDir;
+    private Path stagingDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FileBlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        baseDir = tempDir.resolve("files");
+        stagingDir = tempDir.resolve("staging");
+        meterRegistry = new SimpleMeterRegistry();
+        blobStore = new FileBlobStore(meterRegistry, "SVR1", baseDir.toString(), stagingDir.toString());
+    }
+
+    private MockMultipartFile upload(String filename, String content) {
+        return new MockMultipartFile("file", filename, "application/octet-stream",
+                content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(String content) throws Exception {
+        return HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /** blob 파일 여부 (사용 표식 디렉토리의 파일 제외) */
+    private static boolean isBlob(Path path) {
+        return Files.isRegularFile(path) && !path.getParent().endsWith(FileBlobStore.LEASE_DIR);
+    }
+
+    @Test
+    @DisplayName("store: 내용의 SHA-256을 파일명으로 blobs/{2}/{2}/ 경로에 저장한다")
+    void store_신규파일_해시경로저장() throws Exception {
+        // given
+        String hash = sha256("예산 양식 v1");
+
+        // when
+        FileBlobStore.StoredBlob blob = blobStore.store(upload("예산양식.xlsx", "예산 양식 v1"));
+
+        // then
+        assertThat(blob.hash()).isEqualTo(hash);
+        assertThat(blob.deduplicated()).isFalse();
+        assertThat(blob.path()).isEqualTo(baseDir.resolve("blobs").resolve(hash.substring(0, 2))
+                .resolve(hash.substring(2, 4)).resolve(hash));
+        assertThat(Files.readString(blob.path(), StandardCharsets.UTF_8)).isEqualTo("예산 양식 v1");
+        assertThat(blob.size()).isEqualTo(Files.size(blob.path()));
+    }
+
+    @Test
+    @DisplayName("store: 같은 내용을 다른 파일명으로 다시 올리면 기존 blob을 공유하고 사용 표식만 갱신한다")
+    void store_같은내용재업로드_기존blob공유() throws Exception {
+        // given: 저장소 정리 유예 기간이 거의 지난 기존 blob
+        FileBlobStore.StoredBlob first = blobStore.store(upload("사업A_양식.xlsx", "예산 양식 v1"));
+        Instant old = Instant.now().minus(6, ChronoUnit.DAYS);
+        Files.setLastModifiedTime(first.path(), FileTime.from(old));
+        Path lease = FileBlobStore.leasePath(first.path());
+
+        // when
+        FileBlobStore.StoredBlob second = blobStore.store(upload("사업B_양식.xlsx", "예산 양식 v1"));
+
+        // then
+        assertThat(second.deduplicated()).isTrue();
+        assertThat(second.path()).isEqualTo(first.path());
+        // blob 수정일시는 다운로드 ETag·축소본 최신 여부 기준이므로 그대로 두고, 저장소 정리 유예는 표식으로 갱신
+        assertThat(Files.getLastModifiedTime(second.path()).toMillis()).isEqualTo(old.toEpochMilli());
+        assertThat(Files.getLastModifiedTime(lease).toInstant()).isAfter(old.plus(1, ChronoUnit.DAYS));
+        try (Stream<Path> blobs = Files.walk(baseDir.resolve("blobs"))) {
+            assertThat(blobs.filter(FileBlobStoreTest::isBlob).count()).isEqualTo(1);
+        }
+        assertThat(meterRegistry.counter("file.blob.store", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("file.blob.dedup.bytes").count()).isEqualTo(second.size());
+    }
+
+    @Test
+    @DisplayName("store: 같은 내용을 동시에 게시하면 한 요청만 신규로 기록하고 나머지는 기존 blob을 공유한다")
+    void store_같은내용동시게시_덮어쓰기없음() throws Exception {
+        // given
+        int rounds = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            for (int i = 0; i < rounds; i++) {
+                String content = "동시 업로드 " + i;
+                CyclicBarrier barrier = new CyclicBarrier(2);
+
+                // when: 두 요청이 같은 시점에 저장 시작
+                List<Future<FileBlobStore.StoredBlob>> futures = executor.invokeAll(List.of(
+                        () -> {
+                            barrier.await();
+                            return blobStore.store(upload("a.txt", content));
+                        },
+                        () -> {
+                            barrier.await();
+                            return blobStore.store(upload("b.txt", content));
+                        }));
+                FileBlobStore.StoredBlob a = futures.get(0).get(5, TimeUnit.SECONDS);
+                FileBlobStore.StoredBlob b = futures.get(1).get(5, TimeUnit.SECONDS);
+
+                // then: 같은 blob을 가리키고, 신규 게시는 정확히 한 번
+                assertThat(b.path()).isEqualTo(a.path());
+                assertThat(a.deduplicated()).isNotEqualTo(b.deduplicated());
+                assertThat(Files.readString(a.path(), StandardCharsets.UTF_8)).isEqualTo(content);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(meterRegistry.counter("file.blob.store", "result", "miss").count()).isEqualTo(rounds);
+        assertThat(meterRegistry.counter("file.blob.store", "result", "hit").count()).isEqualTo(rounds);
+        try (Stream<Path> blobs = Files.walk(baseDir.resolve("blobs"))) {
+            assertThat(blobs.filter(FileBlobStoreTest::isBlob).count()).isEqualTo(rounds);
+        }
+    }
+
+    @Test
+    @DisplayName("store: 내용이 다르면 서로 다른 blob으로 저장한다")
+    void store_다른내용_별도blob저장() {
+        // when
+        FileBlobStore.StoredBlob a = blobStore.store(upload("a.txt", "A"));
+        FileBlobStore.StoredBlob b = blobStore.store(upload("b.txt", "B"));
+
+        // then
+        assertThat(a.hash()).isNotEqualTo(b.hash());
+        assertThat(b.deduplicated()).isFalse();
+        assertThat(meterRegistry.counter("file.blob.store", "result", "miss").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("store: 저장 후 스테이징 디렉토리에 임시 파일을 남기지 않는다")
+    void store_저장완료_스테이징정리() throws Exception {
+        // when
+        blobStore.store(upload("a.txt", "A"));
+        blobStore.store(upload("a.txt", "A"));
+
+        // then
+        try (Stream<Path> staged = Files.list(stagingDir)) {
+            assertThat(staged).isEmpty();
+        }
+    }
+}
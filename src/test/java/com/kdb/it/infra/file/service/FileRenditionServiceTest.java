@@ -0,0 +1,143 @@
+package com.kdb.it.infra.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.kdb.it.exception.CustomGeneralException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * FileRenditionService 단위 테스트
+ *
+ * <p>
+ * 임시 디렉토리에 실제 이미지를 만들어 축소본 생성(너비 단계·형식), 디스크 캐시 재사용,
+ * 원본 사용 조건(원본이 더 작음·이미지 아님)을 검증합니다.
+ * </p>
+ */
+class FileRenditionServiceTest {
+
+    private static final String FL_MNG_NO = "FL_00000001";
+
+    @TempDir
+    Path tempDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FileRenditionService renditionService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        renditionService = new FileRenditionService(meterRegistry, 2, 500L, 40_000_000L, 0.8f);
+    }
+
+    private FileService.FileDownloadResult image(String name, int width, int height, boolean alpha,
+            String contentType) throws Exception {
+        BufferedImage img = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = img.createGraphics();
+        g.setColor(alpha ? new Color(255, 0, 0, 128) : Color.BLUE);
+        g.fillRect(0, 0, width / 2, height / 2);
+        g.dispose();
+        Path file = tempDir.resolve(name);
+        ImageIO.write(img, "png", file.toFile());
+        return new FileService.FileDownloadResult(FL_MNG_NO, file, "화면.png", contentType,
+                Files.size(file), Files.getLastModifiedTime(file).toMillis());
+    }
+
+    @Test
+    @DisplayName("getRendition: 요청 너비를 단계(320)로 맞춰 JPEG 축소본을 .renditions에 생성한다")
+    void getRendition_불투명이미지_JPEG축소본생성() throws Exception {
+        // given
+        FileService.FileDownloadResult original = image("shot", 1600, 1000, false, "image/png");
+
+        // when
+        Optional<FileService.FileDownloadResult> result = renditionService.getRendition(original, 300);
+
+        // then
+        assertThat(result).isPresent();
+        FileService.FileDownloadResult thumb = result.get();
+        assertThat(thumb.path()).isEqualTo(tempDir.resolve(".renditions").resolve("shot_w320.jpg"));
+        assertThat(thumb.contentType()).isEqualTo("image/jpeg");
+        BufferedImage read = ImageIO.read(thumb.path().toFile());
+        assertThat(read.getWidth()).isEqualTo(320);
+        assertThat(read.getHeight()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("getRendition: 투명도가 있는 이미지는 PNG 축소본으로 생성한다")
+    void getRendition_투명이미지_PNG축소본생성() throws Exception {
+        // given
+        FileService.FileDownloadResult original = image("logo", 800, 800, true, "image/png");
+
+        // when
+        Optional<FileService.FileDownloadResult> result = renditionService.getRendition(original, 160);
+
+        // then
+        assertThat(result).get().extracting(FileService.FileDownloadResult::contentType).isEqualTo("image/png");
+        assertThat(ImageIO.read(result.get().path().toFile()).getColorModel().hasAlpha()).isTrue();
+    }
+
+    @Test
+    @DisplayName("getRendition: 이미 생성된 축소본은 다시 만들지 않고 재사용한다")
+    void getRendition_두번째요청_캐시재사용() throws Exception {
+        // given
+        FileService.FileDownloadResult original = image("shot", 1600, 1000, false, "image/jpeg");
+        FileService.FileDownloadResult first = renditionService.getRendition(original, 640).orElseThrow();
+
+        // when
+        FileService.FileDownloadResult second = renditionService.getRendition(original, 600).orElseThrow();
+
+        // then
+        assertThat(second.path()).isEqualTo(first.path());
+        assertThat(second.eTag()).isEqualTo(first.eTag());
+        assertThat(meterRegistry.counter("file.rendition", "result", "rendered").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("file.rendition", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("getRendition: 원본이 요청 너비 이하이거나 이미지가 아니면 empty (원본 사용)")
+    void getRendition_작은원본또는비이미지_empty() throws Exception {
+        // given
+        FileService.FileDownloadResult small = image("small", 200, 100, false, "image/png");
+        FileService.FileDownloadResult pdf = new FileService.FileDownloadResult(FL_MNG_NO, small.path(),
+                "문서.pdf", "application/pdf", small.contentLength(), small.lastModified());
+
+        // when & then
+        assertThat(renditionService.getRendition(small, 320)).isEmpty();
+        assertThat(renditionService.getRendition(pdf, 160)).isEmpty();
+        assertThat(Files.exists(tempDir.resolve(".renditions").resolve("small_w320.jpg"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("getRendition: 너비가 1 미만이면 CustomGeneralException을 던진다")
+    void getRendition_잘못된너비_CustomGeneralException발생() throws Exception {
+        FileService.FileDownloadResult original = image("shot", 400, 300, false, "image/png");
+
+        assertThatThrownBy(() -> renditionService.getRendition(original, 0))
+                .isInstanceOf(CustomGeneralException.class);
+    }
+
+    @Test
+    @DisplayName("snapWidth: 요청값 이상인 가장 작은 단계, 최대 단계 초과 시 최대 단계")
+    void snapWidth_단계맞춤() {
+        assertThat(FileRenditionService.snapWidth(1)).isEqualTo(160);
+        assertThat(FileRenditionService.snapWidth(320)).isEqualTo(320);
+        assertThat(FileRenditionService.snapWidth(321)).isEqualTo(640);
+        assertThat(FileRenditionService.snapWidth(5000)).isEqualTo(1920);
+    }
+}
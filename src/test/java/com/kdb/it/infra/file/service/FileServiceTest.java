@@ -2,13 +2,20 @@ package com.kdb.it.infra.file.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,19 +24,24 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.kdb.it.exception.CustomGeneralException;
 import com.kdb.it.infra.file.dto.FileDto;
 import com.kdb.it.infra.file.entity.Cfilem;
 import com.kdb.it.infra.file.repository.FileRepository;
 
+import jakarta.persistence.EntityManager;
+
 /**
  * FileService 단위 테스트
  *
  * <p>
- * 공통 첨부파일 서비스의 단건 조회·목록 조회·논리 삭제 메서드를 검증합니다.
+ * 공통 첨부파일 서비스의 단건 조회·목록 조회·논리 삭제·다건 업로드 메서드를 검증합니다.
  * Cfilem 엔티티는 protected 생성자를 우회하기 위해 Mockito.mock()으로 생성합니다.
- * 파일 업로드(uploadFile)는 디스크 I/O·EntityManager를 사용하므로 단위 테스트 범위에서 제외합니다.
+ * 다건 업로드(uploadFiles)는 FileBlobStore·EntityManager를 Mock 처리하여 채번·배치 저장·실패 목록만 검증하고,
+ * 파일 저장 자체는 FileBlobStoreTest에서 검증합니다.
  * Oracle DB 없이 실행됩니다.
  * </p>
  */
@@ -40,9 +52,21 @@ class FileServiceTest {
     @Mock
     private FileRepository fileRepository;
 
+    @Mock
+    private FileBlobStore fileBlobStore;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private FileService fileService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(fileService, "entityManager", entityManager);
+        ReflectionTestUtils.setField(fileService, "bulkUploadConcurrency", 2);
+    }
+
     private static final String FL_MNG_NO = "FL_00000001";
 
     private Cfilem mockCfilem(String flMngNo) {
@@ -185,4 +209,71 @@ class FileServiceTest {
 
         assertThat(count).isEqualTo(0);
     }
+
+    // ───────────────────────────────────────────────────────
+    // uploadFiles
+    // ───────────────────────────────────────────────────────
+
+    private MockMultipartFile upload(String filename, String content) {
+        return new MockMultipartFile("files", filename, "application/octet-stream",
+                content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private FileBlobStore.StoredBlob blob(String hash, boolean deduplicated) {
+        return new FileBlobStore.StoredBlob(hash, 10L,
+                Path.of("/data/files/blobs", hash.substring(0, 2), hash.substring(2, 4), hash), deduplicated);
+    }
+
+    private FileDto.UploadRequest uploadRequest() {
+        return FileDto.UploadRequest.builder()
+                .flDtt("첨부파일")
+                .orcPkVl("PRJ-2026-0001")
+                .orcDtt("정보화사업")
+                .build();
+    }
+
+    @Test
+    @DisplayName("uploadFiles: 성공 파일 수만큼 한 번에 채번하고 saveAll + flush 1회로 저장하며, 빈 파일은 실패 목록에 담는다")
+    void uploadFiles_일부빈파일_일괄채번배치저장() {
+        // given
+        MockMultipartFile a = upload("a.xlsx", "A");
+        MockMultipartFile empty = upload("empty.txt", "");
+        MockMultipartFile b = upload("b.pdf", "B");
+        given(fileBlobStore.store(a)).willReturn(blob("aa11" + "0".repeat(60), false));
+        given(fileBlobStore.store(b)).willReturn(blob("bb22" + "0".repeat(60), true));
+        given(fileRepository.getNextSequenceValues(2)).willReturn(List.of(101L, 102L));
+
+        // when
+        FileDto.BulkUploadResponse result = fileService.uploadFiles(List.of(a, empty, b), uploadRequest());
+
+        // then
+        assertThat(result.getSuccessList()).extracting(FileDto.Response::getFlMngNo)
+                .containsExactly("FL_00000101", "FL_00000102");
+        assertThat(result.getSuccessList()).extracting(FileDto.Response::getOrcFlNm)
+                .containsExactly("a.xlsx", "b.pdf");
+        assertThat(result.getSuccessList().get(0).getSvrFlNm()).isEqualTo("aa11" + "0".repeat(60));
+        assertThat(result.getFailList()).singleElement().asString().startsWith("empty.txt");
+        verify(fileRepository, times(1)).getNextSequenceValues(2);
+        verify(fileRepository, never()).getNextSequenceValue();
+        verify(fileRepository, times(1)).saveAll(anyList());
+        verify(entityManager, times(1)).flush();
+        verify(fileBlobStore, never()).store(empty);
+    }
+
+    @Test
+    @DisplayName("uploadFiles: 모든 파일이 실패하면 채번·INSERT 없이 실패 목록만 반환한다")
+    void uploadFiles_전체실패_DB미호출() {
+        // given
+        MockMultipartFile a = upload("a.xlsx", "A");
+        given(fileBlobStore.store(a)).willThrow(new CustomGeneralException("파일 저장에 실패했습니다. 파일명: a.xlsx"));
+
+        // when
+        FileDto.BulkUploadResponse result = fileService.uploadFiles(List.of(a), uploadRequest());
+
+        // then
+        assertThat(result.getSuccessList()).isEmpty();
+        assertThat(result.getFailList()).containsExactly("a.xlsx (파일 저장에 실패했습니다. 파일명: a.xlsx)");
+        verify(fileRepository, never()).getNextSequenceValues(anyInt());
+        verify(fileRepository, never()).saveAll(anyList());
+    }
 }
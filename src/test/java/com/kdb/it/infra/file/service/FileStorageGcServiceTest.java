@@ -0,0 +1,231 @@
+package com.kdb.it.infra.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.kdb.it.infra.file.repository.FileRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * FileStorageGcService 단위 테스트
+ *
+ * <p>
+ * 임시 디렉토리를 저장소로 사용하고 FileRepository를 Mock 처리하여
+ * 참조 없는 파일의 격리, 보존 대상·유예 기간 내·사용 표식 갱신 파일 유지, 사용 표식·축소본 정리,
+ * 격리 보관 기간 경과 후 삭제, 체크포인트 이어하기, DB 오류 시 예외 억제를 검증합니다.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FileStorageGcServiceTest {
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @TempDir
+    Path baseDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FileStorageGcService gcService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        gcService = new FileStorageGcService(fileRepository, meterRegistry, "SVR1", baseDir.toString(),
+                7, 30, 2, 60, true);
+        given(fileRepository.findRetainedSvrFlNms(anyCollection(), any())).willReturn(List.of());
+    }
+
+    private Path file(String relative, String content, int ageDays) throws Exception {
+        Path path = baseDir.resolve(relative);
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content, StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(ageDays, ChronoUnit.DAYS)));
+        return path;
+    }
+
+    private Path quarantined(String relative) {
+        String today = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        return baseDir.resolve(".quarantine").resolve(today).resolve(relative);
+    }
+
+    @Test
+    @DisplayName("collect: 참조 행이 없는 오래된 파일은 격리하고, 보존 대상·유예 기간 내 파일은 그대로 둔다")
+    void collect_참조없는파일_격리() throws Exception {
+        // given
+        Path orphan = file("blobs/aa/bb/aabb01", "고아", 10);
+        Path live = file("blobs/aa/bb/aabb02", "사용중", 10);
+        Path fresh = file("blobs/aa/cc/aacc01", "업로드 직후", 0);
+        Path legacy = file("요구사항정의서/2026/03/SVR1_20260301_x.pdf", "이전 경로", 30);
+        given(fileRepository.findRetainedSvrFlNms(anyCollection(), any())).willReturn(List.of("aabb02"));
+
+        // when
+        FileStorageGcService.GcResult result = gcService.collect();
+
+        // then
+        assertThat(result.completed()).isTrue();
+        assertThat(result.scanned()).isEqualTo(4);
+        assertThat(result.quarantined()).isEqualTo(2);
+        assertThat(orphan).doesNotExist();
+        assertThat(legacy).doesNotExist();
+        assertThat(quarantined("blobs/aa/bb/aabb01")).hasContent("고아");
+        assertThat(quarantined("요구사항정의서/2026/03/SVR1_20260301_x.pdf")).exists();
+        assertThat(live).exists();
+        assertThat(fresh).exists();
+        assertThat(meterRegistry.counter("file.gc.quarantined").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("file.gc.quarantined.bytes").count()).isEqualTo(result.quarantinedBytes());
+    }
+
+    @Test
+    @DisplayName("collect: 격리한 파일의 축소본은 삭제하고, 점(.) 디렉토리 안은 탐색하지 않는다")
+    void collect_축소본삭제_점디렉토리제외() throws Exception {
+        // given
+        file("blobs/aa/bb/aabb01", "고아", 10);
+        Path rendition = file("blobs/aa/bb/.renditions/aabb01_w320.jpg", "THUMB", 10);
+        Path state = file(".gc/other-file", "상태", 10);
+
+        // when
+        FileStorageGcService.GcResult result = gcService.collect();
+
+        // then
+        assertThat(result.scanned()).isEqualTo(1);
+        assertThat(rendition).doesNotExist();
+        assertThat(state).exists();
+        assertThat(meterRegistry.counter("file.gc.reclaimed.bytes").count()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("collect: 격리 직후 재대조에서 참조가 생긴 파일은 원위치로 되돌린다")
+    void collect_격리중참조발생_복구() throws Exception {
+        // given: 첫 대조에서는 참조 없음, 격리 후 재대조에서 참조 있음
+        Path blob = file("blobs/aa/bb/aabb01", "공유", 10);
+        given(fileRepository.findRetainedSvrFlNms(anyCollection(), any()))
+                .willReturn(List.of(), List.of("aabb01"));
+
+        // when
+        FileStorageGcService.GcResult result = gcService.collect();
+
+        // then
+        assertThat(blob).hasContent("공유");
+        assertThat(result.quarantined()).isZero();
+    }
+
+    @Test
+    @DisplayName("collect: 탐색 후 격리 전에 중복 업로드가 사용 표식을 갱신한 파일은 격리하지 않는다")
+    void collect_대조중사용표식갱신_격리안함() throws Exception {
+        // given: DB 대조 시점에 같은 blob을 공유하는 업로드가 사용 표식을 갱신(메타데이터는 아직 미커밋)
+        Path blob = file("blobs/aa/bb/aabb01", "공유", 10);
+        given(fileRepository.findRetainedSvrFlNms(anyCollection(), any())).willAnswer(invocation -> {
+            file("blobs/aa/bb/.lease/aabb01", "", 0);
+            return List.of();
+        });
+
+        // when
+        FileStorageGcService.GcResult result = gcService.collect();
+
+        // then: blob 수정일시는 그대로여도 표식으로 보호
+        assertThat(blob).hasContent("공유");
+        assertThat(quarantined("blobs/aa/bb/aabb01")).doesNotExist();
+        assertThat(result.quarantined()).isZero();
+    }
+
+    @Test
+    @DisplayName("collect: 대조를 마친 파일의 오래된 사용 표식은 보존·격리 여부와 관계없이 지운다")
+    void collect_오래된사용표식_삭제() throws Exception {
+        // given
+        Path orphan = file("blobs/aa/bb/aabb01", "고아", 10);
+        Path orphanLease = file("blobs/aa/bb/.lease/aabb01", "", 10);
+        Path kept = file("blobs/cc/dd/ccdd01", "보존", 10);
+        Path keptLease = file("blobs/cc/dd/.lease/ccdd01", "", 10);
+        given(fileRepository.findRetainedSvrFlNms(anyCollection(), any())).willReturn(List.of("ccdd01"));
+
+        // when
+        FileStorageGcService.GcResult result = gcService.collect();
+
+        // then
+        assertThat(orphan).doesNotExist();
+        assertThat(quarantined("blobs/aa/bb/aabb01")).hasContent("고아");
+        assertThat(kept).hasContent("보존");
+        assertThat(orphanLease).doesNotExist();
+        assertThat(keptLease).doesNotExist();
+        assertThat(result.quarantined()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("collect: 보관 기간이 지난 격리 일자 디렉토리는 삭제하고 회수 바이트를 기록한다")
+    void collect_보관기간경과_격리삭제() throws Exception {
+        // given
+        Path old = file(".quarantine/20200101/blobs/aa/bb/aabb01", "0123456789", 0);
+        Path recent = file(".quarantine/" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "/x", "x", 0);
+
+        // when
+        FileStorageGcService.GcResult result = gcService.collect();
+
+        // then
+        assertThat(result.purgedBytes()).isEqualTo(10);
+        assertThat(baseDir.resolve(".quarantine/20200101")).doesNotExist();
+        assertThat(old).doesNotExist();
+        assertThat(recent).exists();
+        assertThat(meterRegistry.counter("file.gc.reclaimed.bytes").count()).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("collect: 체크포인트 디렉토리는 이미 처리된 것으로 건너뛰고, 끝까지 돌면 체크포인트를 지운다")
+    void collect_체크포인트_이어하기() throws Exception {
+        // given
+        Path done = file("blobs/aa/bb/aabb01", "처리됨", 10);
+        Path checkpoint = baseDir.resolve(".gc/checkpoint-SVR1");
+        Files.createDirectories(checkpoint.getParent());
+        Files.writeString(checkpoint, Path.of("blobs", "aa", "bb").toString(), StandardCharsets.UTF_8);
+
+        // when
+        FileStorageGcService.GcResult result = gcService.collect();
+
+        // then
+        assertThat(result.completed()).isTrue();
+        assertThat(done).exists();
+        assertThat(checkpoint).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("collect: DB 오류 시 예외를 던지지 않고 실패 메트릭을 올린 뒤 미완료로 반환한다")
+    void collect_DB오류_예외억제() throws Exception {
+        // given
+        Path blob = file("blobs/aa/bb/aabb01", "A", 10);
+        file("blobs/aa/bb/aabb02", "B", 10);
+        given(fileRepository.findRetainedSvrFlNms(anyCollection(), any()))
+                .willThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+
+        // when
+        FileStorageGcService.GcResult result = gcService.collect();
+
+        // then
+        assertThat(result.completed()).isFalse();
+        assertThat(blob).exists();
+        assertThat(meterRegistry.counter("file.gc.failures").count()).isEqualTo(1.0);
+    }
+}